@@ -29,26 +29,49 @@
 
 package net.imagej.animation;
 
+import java.util.Arrays;
+
+import net.imagej.Dataset;
 import net.imagej.axis.Axes;
 import net.imagej.axis.AxisType;
+import net.imagej.display.DatasetView;
 import net.imagej.display.ImageDisplay;
+import net.imagej.display.ImageDisplayService;
 
 import org.scijava.log.LogService;
 import org.scijava.plugin.Parameter;
+import org.scijava.thread.ThreadService;
 
 /**
  * The Animation class takes care of running an animation along an axis.
  * Multiple animations can be running concurrently. Each animation runs in its
  * own thread.
+ * <p>
+ * Frames are presented on a fixed-rate schedule: when a frame is late by one
+ * or more periods, the frames it overran are dropped rather than delaying all
+ * the following ones. In {@link #setRenderAhead render-ahead} mode, upcoming
+ * planes are additionally rendered on background threads into a ring of screen
+ * images, bounded by {@link #setRenderAheadMemory memory}, so that presenting
+ * a frame only copies its pixels.
+ * </p>
  * 
  * @author Barry DeZonia
  * @author Curtis Rueden
  */
 public class Animation implements Runnable {
 
+	/** Upper bound on the number of frames rendered ahead. */
+	private static final int MAX_FRAMES_AHEAD = 64;
+
 	@Parameter
 	private LogService log;
 
+	@Parameter
+	private ImageDisplayService imageDisplayService;
+
+	@Parameter
+	private ThreadService threadService;
+
 	private final ImageDisplay display;
 
 	private boolean active;
@@ -60,9 +83,16 @@ public class Animation implements Runnable {
 	private double fps = 8;
 	private boolean backAndForth;
 
+	private boolean renderAhead;
+	private long renderAheadMemory = Runtime.getRuntime().maxMemory() / 16;
+
 	private long increment = 1;
-	private long delta = 1;
-	private boolean isRelative = true;
+
+	private volatile double achievedFPS;
+	private volatile long droppedFrames;
+
+	/** Data position of the last frame presented in render-ahead mode. */
+	private long[] presented;
 
 	/** Creates an animation for the given {@link ImageDisplay}. */
 	public Animation(final ImageDisplay display) {
@@ -168,69 +198,200 @@ public void setBackAndForth(final boolean backAndForth) {
 		this.backAndForth = backAndForth;
 	}
 
+	public boolean isRenderAhead() {
+		return renderAhead;
+	}
+
+	/**
+	 * Sets whether upcoming frames are rendered ahead on background threads.
+	 * Takes effect the next time the animation starts.
+	 */
+	public void setRenderAhead(final boolean renderAhead) {
+		this.renderAhead = renderAhead;
+	}
+
+	public long getRenderAheadMemory() {
+		return renderAheadMemory;
+	}
+
+	/** Sets the number of bytes the frames rendered ahead may occupy. */
+	public void setRenderAheadMemory(final long renderAheadMemory) {
+		this.renderAheadMemory = renderAheadMemory;
+	}
+
+	/** Gets the frame rate achieved by the current or last run. */
+	public double getAchievedFPS() {
+		return achievedFPS;
+	}
+
+	/** Gets the number of frames dropped by the current or last run. */
+	public long getDroppedFrames() {
+		return droppedFrames;
+	}
+
 	// -- Runnable methods --
 
 	@Override
 	public void run() {
-		while (active) {
-			updatePosition();
-			try {
-				Thread.sleep((long) (1000 / fps));
-			}
-			catch (final InterruptedException e) {
-				// do nothing
+		achievedFPS = 0;
+		droppedFrames = 0;
+		final RenderAhead ahead = renderAhead ? createRenderAhead() : null;
+		long frames = 0;
+		long firstFrame = 0;
+		long deadline = System.nanoTime();
+		try {
+			while (active) {
+				final long period = (long) (1e9 / fps);
+				try {
+					final long wait = deadline - System.nanoTime();
+					if (wait > 0) {
+						Thread.sleep(wait / 1000000, (int) (wait % 1000000));
+					}
+					if (!active) break;
+
+					// drop frames overrun by a late one, instead of drifting
+					final long skip = overrunFrames(System.nanoTime(), deadline,
+						period);
+					if (ahead == null) updatePosition(skip + 1);
+					else present(ahead, skip);
+					droppedFrames += skip;
+					deadline += (skip + 1) * period;
+				}
+				catch (final InterruptedException e) {
+					// do nothing
+					continue;
+				}
+
+				final long now = System.nanoTime();
+				if (frames++ == 0) firstFrame = now;
+				else achievedFPS = (frames - 1) * 1e9 / (now - firstFrame);
 			}
 		}
+		finally {
+			if (ahead != null) ahead.dispose();
+		}
+		log.debug("Animation of " + display.getName() + ": " + achievedFPS +
+			" fps, " + droppedFrames + " frames dropped");
 	}
 
 	// -- Helper methods --
 
-	private synchronized void updatePosition() {
-		long currPos = display.getLongPosition(axis);
+	/** Moves the display the given number of frames along. */
+	private synchronized void updatePosition(final long steps) {
+		final long[] pos = { display.getLongPosition(axis) };
+		for (long i = 0; i < steps; i++) {
+			increment = step(pos, 0, increment);
+		}
+		display.setPosition(pos[0], axis);
+	}
+
+	/**
+	 * Moves the given position one frame along the animated dimension.
+	 * 
+	 * @return the direction of playback after the step
+	 */
+	private long step(final long[] position, final int dim, final long inc) {
+		return step(position, dim, inc, first, last, backAndForth);
+	}
 
-		// reached right end
-		if (increment > 0 && currPos == last) {
+	/**
+	 * Moves the given position one frame along dimension {@code dim}, within
+	 * {@code [first, last]}: wrapping around at the ends, or reversing direction
+	 * if {@code backAndForth} is set.
+	 * 
+	 * @return the direction of playback after the step
+	 */
+	static long step(final long[] position, final int dim, final long inc,
+		final long first, final long last, final boolean backAndForth)
+	{
+		final long pos = position[dim];
+		if (inc > 0 && pos >= last) { // reached right end
 			if (!backAndForth) {
-				isRelative = false;
-				delta = first;
-				currPos = first;
-			}
-			else {
-				increment = -increment;
-				isRelative = true;
-				delta = -1;
-				currPos--;
+				position[dim] = first;
+				return inc;
 			}
+			position[dim] = Math.max(first, pos - 1);
+			return -inc;
 		}
-		// reached left end
-		else if (increment < 0 && currPos == first) {
+		if (inc < 0 && pos <= first) { // reached left end
 			if (!backAndForth) {
-				isRelative = false;
-				delta = last;
-				currPos = last;
-			}
-			else {
-				increment = -increment;
-				isRelative = true;
-				delta = +1;
-				currPos++;
+				position[dim] = last;
+				return inc;
 			}
+			position[dim] = Math.min(last, pos + 1);
+			return -inc;
 		}
-		else { // somewhere in the middle
-			isRelative = true;
-			if (increment > 0) {
-				delta = +1;
-				currPos++;
-			}
-			else { // increment < 0
-				delta = -1;
-				currPos--;
+		position[dim] = pos + (inc > 0 ? 1 : -1);
+		return inc;
+	}
+
+	/**
+	 * Gets the number of frames to drop when presenting at time {@code now} a
+	 * frame due at {@code deadline}: one per full period it is late.
+	 */
+	static long overrunFrames(final long now, final long deadline,
+		final long period)
+	{
+		return Math.max(0, (now - deadline) / period);
+	}
+
+	/**
+	 * Prepares rendering ahead for the active view of the display, or returns
+	 * null if there is none to render.
+	 */
+	private RenderAhead createRenderAhead() {
+		final DatasetView view = imageDisplayService.getActiveDatasetView(display);
+		if (view == null || view.getScreenImage() == null) return null;
+		final int dim = view.getData().dimensionIndex(axis);
+		if (dim < 0) return null;
+
+		final long cycle = backAndForth ? 2 * (last - first) : last - first + 1;
+		final int maxFrames = (int) Math.max(1, Math.min(MAX_FRAMES_AHEAD, cycle));
+		final RenderAhead ahead = new RenderAhead(view, dim, this::step,
+			renderAheadMemory, maxFrames, threadService);
+		presented = dataPosition(view.getData());
+		ahead.restart(presented, increment);
+		return ahead;
+	}
+
+	/** Presents the next frame rendered ahead, after dropping some. */
+	private void present(final RenderAhead ahead, final long skip)
+		throws InterruptedException
+	{
+		final DatasetView view = imageDisplayService.getActiveDatasetView(display);
+		final long[] current = view == null ? null : dataPosition(view.getData());
+		if (current == null || !Arrays.equals(current, presented) || !ahead.fits(
+			ahead.peek()))
+		{
+			// moved or resized by someone else; play on from there
+			updatePosition(skip + 1);
+			if (current != null) {
+				presented = dataPosition(view.getData());
+				ahead.restart(presented, increment);
 			}
+			return;
 		}
 
-		final long pos =
-			isRelative ? display.getLongPosition(axis) + delta : delta;
-		display.setPosition(pos, axis);
+		for (long i = 0; i < skip; i++) {
+			ahead.recycle(ahead.next());
+		}
+		final RenderAhead.Frame frame = ahead.next();
+		view.offerFrame(frame.position, frame.image);
+		synchronized (this) {
+			increment = frame.increment;
+			display.setPosition(frame.position[ahead.dim()], axis);
+		}
+		presented = frame.position;
+		ahead.recycle(frame);
+	}
+
+	/** Gets the display's position in the dimensions of the given data. */
+	private long[] dataPosition(final Dataset data) {
+		final long[] position = new long[data.numDimensions()];
+		for (int d = 2; d < position.length; d++) {
+			position[d] = display.getLongPosition(data.axis(d).type());
+		}
+		return position;
 	}
 
 	/** Ensures the position of the relevant axis is within the legal range. */
@@ -61,7 +61,7 @@ public class DefaultAnimationService extends AbstractService implements
 	private static final String STARTED_STATUS =
 		"Animation started. Press '\\' or ESC to stop.";
 	private static final String STOPPED_STATUS =
-		"Animation stopped. Press '\\' to resume.";
+		"Animation stopped (%.1f fps, %d frames dropped). Press '\\' to resume.";
 	private static final String ALL_STOPPED_STATUS = "All animations stopped.";
 
 	@Parameter
@@ -96,7 +96,8 @@ public void stop(final ImageDisplay display) {
 		final Animation animation = animations.get(display);
 		if (animation != null) {
 			animation.stop();
-			statusService.showStatus(STOPPED_STATUS);
+			statusService.showStatus(String.format(STOPPED_STATUS, animation
+				.getAchievedFPS(), animation.getDroppedFrames()));
 		}
 	}
 
@@ -0,0 +1,218 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2020 ImageJ developers.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.animation;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+import net.imagej.display.DatasetView;
+import net.imglib2.display.screenimage.awt.ARGBScreenImage;
+
+/**
+ * A bounded ring of frames which are rendered ahead of an {@link Animation},
+ * on background threads, by {@link DatasetView#render}.
+ * <p>
+ * Frames are queued in playback order. Presenting the head of the ring offers
+ * its pixels to the view and recycles its screen image for the next position
+ * in line, so at most {@link #capacity()} frames are held at any time.
+ * </p>
+ */
+class RenderAhead {
+
+	/** A position along the animation and its rendered plane. */
+	static class Frame {
+
+		final ARGBScreenImage image;
+		long[] position;
+
+		/** Direction of playback after this frame. */
+		long increment;
+
+		Future<?> rendered;
+
+		Frame(final ARGBScreenImage image) {
+			this.image = image;
+		}
+
+		/** Waits until the frame is rendered. */
+		void await() throws InterruptedException {
+			try {
+				rendered.get();
+			}
+			catch (final ExecutionException exc) {
+				throw new IllegalStateException(exc.getCause());
+			}
+		}
+	}
+
+	/** Computes the position following a given one. */
+	interface Stepper {
+
+		/**
+		 * @param position the current position; updated to the next one
+		 * @param increment the current direction of playback
+		 * @return the direction of playback after the step
+		 */
+		long step(long[] position, int dim, long increment);
+	}
+
+	private final DatasetView view;
+
+	private final int dim;
+
+	private final Stepper stepper;
+
+	private final ExecutorService executor;
+
+	private final ArrayDeque<Frame> ring = new ArrayDeque<>();
+
+	private final int capacity;
+
+	/** Position and direction of the last frame queued. */
+	private long[] position;
+	private long increment;
+
+	/**
+	 * @param view the view to render
+	 * @param dim the dimension of the view's data to animate over
+	 * @param stepper computes successive positions along {@code dim}
+	 * @param memory number of bytes the ring's screen images may use
+	 * @param maxFrames upper bound on the number of frames held
+	 * @param threadFactory creates the rendering threads
+	 */
+	RenderAhead(final DatasetView view, final int dim, final Stepper stepper,
+		final long memory, final int maxFrames, final ThreadFactory threadFactory)
+	{
+		this.view = view;
+		this.dim = dim;
+		this.stepper = stepper;
+		final ARGBScreenImage screen = view.getScreenImage();
+		final long frameBytes = 4 * screen.dimension(0) * screen.dimension(1);
+		capacity = (int) Math.max(1, Math.min(maxFrames, memory / frameBytes));
+		executor = Executors.newFixedThreadPool(Math.min(capacity, Runtime
+			.getRuntime().availableProcessors()), threadFactory);
+	}
+
+	/** Gets the maximum number of frames held. */
+	int capacity() {
+		return capacity;
+	}
+
+	/**
+	 * Discards all queued frames and refills the ring with the positions
+	 * following the given one.
+	 */
+	void restart(final long[] start, final long startIncrement) {
+		clear();
+		position = start.clone();
+		increment = startIncrement;
+		final ARGBScreenImage screen = view.getScreenImage();
+		final int width = (int) screen.dimension(0);
+		final int height = (int) screen.dimension(1);
+		for (int i = 0; i < capacity; i++) {
+			queue(new Frame(new ARGBScreenImage(width, height)));
+		}
+	}
+
+	/**
+	 * Removes the next frame from the ring, waiting for it to be rendered. The
+	 * caller must hand it back through {@link #recycle} once presented.
+	 */
+	Frame next() throws InterruptedException {
+		final Frame frame = ring.poll();
+		frame.await();
+		return frame;
+	}
+
+	/** Gets the next frame without removing it. */
+	Frame peek() {
+		return ring.peek();
+	}
+
+	/** Gets the dimension of the view's data being animated over. */
+	int dim() {
+		return dim;
+	}
+
+	/** Reuses the given frame's image for the next position in line. */
+	void recycle(final Frame frame) {
+		queue(frame);
+	}
+
+	/**
+	 * Tests whether the given frame was rendered for a screen image of the
+	 * view's current size.
+	 */
+	boolean fits(final Frame frame) {
+		if (frame == null) return false;
+		final ARGBScreenImage screen = view.getScreenImage();
+		return frame.image.dimension(0) == screen.dimension(0) && frame.image
+			.dimension(1) == screen.dimension(1);
+	}
+
+	/** Waits for pending renders and stops the rendering threads. */
+	void dispose() {
+		clear();
+		executor.shutdown();
+	}
+
+	// -- Helper methods --
+
+	private void queue(final Frame frame) {
+		increment = stepper.step(position, dim, increment);
+		final long[] framePosition = position.clone();
+		frame.position = framePosition;
+		frame.increment = increment;
+		frame.rendered = executor.submit(() -> view.render(framePosition,
+			frame.image));
+		ring.add(frame);
+	}
+
+	private void clear() {
+		while (!ring.isEmpty()) {
+			try {
+				// NB: a frame must not be rendering while its image is reused
+				ring.poll().await();
+			}
+			catch (final InterruptedException exc) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+			catch (final IllegalStateException exc) {
+				// the frame is discarded anyway
+			}
+		}
+	}
+
+}
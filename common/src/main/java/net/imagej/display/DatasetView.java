@@ -33,6 +33,7 @@
 
 import net.imagej.ChannelCollection;
 import net.imagej.Dataset;
+import net.imglib2.Interval;
 import net.imglib2.RandomAccessibleInterval;
 import net.imglib2.display.ColorTable;
 import net.imglib2.display.projector.composite.CompositeXYProjector;
@@ -135,6 +136,53 @@ public interface DatasetView extends DataView {
 
 	void setColorMode(ColorMode colorMode);
 
+	/**
+	 * Restricts rendering to a viewport of the XY plane. The screen image then
+	 * covers only the given region of the data, sampling every n-th pixel when
+	 * zoomed out, and is projected in tiles on several threads. A render still
+	 * in progress is abandoned as soon as a newer one starts.
+	 * 
+	 * @param x data X coordinate of the viewport's top left corner
+	 * @param y data Y coordinate of the viewport's top left corner
+	 * @param width viewport width in data pixels
+	 * @param height viewport height in data pixels
+	 * @param scale zoom factor of the viewport; below 1, only every
+	 *          {@code floor(1 / scale)}-th pixel is rendered
+	 * @see #getViewport()
+	 * @see #getViewportStep()
+	 */
+	void setViewport(long x, long y, long width, long height, double scale);
+
+	/** Renders the whole XY plane again, which is the default. */
+	void clearViewport();
+
+	/**
+	 * Gets the region of the XY plane, in data coordinates, which the screen
+	 * image currently shows.
+	 */
+	Interval getViewport();
+
+	/**
+	 * Gets the distance in data pixels between adjacent pixels of the screen
+	 * image; 1 unless a zoomed out viewport is set.
+	 */
+	int getViewportStep();
+
+	/**
+	 * Renders the XY plane at the given position into the given image, with the
+	 * view's current display ranges, color tables and viewport, but without
+	 * moving the view. The image must have the dimensions of the
+	 * {@link #getScreenImage() screen image}. May be called from any thread.
+	 */
+	void render(long[] position, ARGBScreenImage target);
+
+	/**
+	 * Offers a frame previously {@link #render rendered} at the given position.
+	 * If the view next moves to exactly that position, it shows a copy of the
+	 * frame instead of projecting the plane again.
+	 */
+	void offerFrame(long[] position, ARGBScreenImage frame);
+
 	@Override
 	Dataset getData();
 	
@@ -47,6 +47,8 @@
 import net.imagej.event.DatasetRGBChangedEvent;
 import net.imagej.event.DatasetTypeChangedEvent;
 import net.imagej.event.DatasetUpdatedEvent;
+import net.imglib2.FinalInterval;
+import net.imglib2.Interval;
 import net.imglib2.RandomAccessibleInterval;
 import net.imglib2.converter.RealLUTConverter;
 import net.imglib2.display.ColorTable;
@@ -99,9 +101,31 @@ public class DefaultDatasetView extends AbstractDataView implements DatasetView
 
 	private CompositeXYProjector<? extends RealType<?>> projector;
 
+	/**
+	 * Converters of the channels. Guarded by the view's monitor, since
+	 * {@link #render} reads them from render threads.
+	 */
 	private final ArrayList<RealLUTConverter<? extends RealType<?>>> converters =
 		new ArrayList<>();
 
+	/**
+	 * Requested viewport as x, y, width and height in data coordinates, or null
+	 * to render the whole XY plane.
+	 */
+	private long[] viewport;
+
+	/** Distance in data pixels between adjacent pixels of the screen image. */
+	private int viewportStep = 1;
+
+	/** Guards {@link #offeredPosition} and {@link #offeredFrame}. */
+	private final Object frameLock = new Object();
+
+	/** Position of the frame offered by {@link #offerFrame}, or null. */
+	private long[] offeredPosition;
+
+	/** Copy of the pixels of the offered frame. */
+	private int[] offeredFrame;
+
 	// -- DatasetView methods --
 
 	@Override
@@ -126,21 +150,23 @@ public CompositeXYProjector<? extends RealType<?>> getProjector() {
 	}
 
 	@Override
-	public double getChannelMin(final int c) {
+	public synchronized double getChannelMin(final int c) {
 		if (!isInitialized()) return Double.NaN;
 
 		return converters.get(c).getMin();
 	}
 
 	@Override
-	public double getChannelMax(final int c) {
+	public synchronized double getChannelMax(final int c) {
 		if (!isInitialized()) return Double.NaN;
 
 		return converters.get(c).getMax();
 	}
 
 	@Override
-	public void setChannelRange(final int c, final double min, final double max) {
+	public synchronized void setChannelRange(final int c, final double min,
+		final double max)
+	{
 		if (!isInitialized()) return;
 
 		converters.get(c).setMin(min);
@@ -318,6 +344,83 @@ public synchronized ColorRGB getColor(final ChannelCollection channels) {
 		return new ColorRGB(r, g, b);
 	}
 
+	@Override
+	public synchronized void setViewport(final long x, final long y,
+		final long width, final long height, final double scale)
+	{
+		if (width <= 0 || height <= 0) {
+			throw new IllegalArgumentException("Invalid viewport size: " + width +
+				" x " + height);
+		}
+		if (!(scale > 0)) {
+			throw new IllegalArgumentException("Invalid scale: " + scale);
+		}
+		viewport = new long[] { x, y, width, height };
+		viewportStep = scale >= 1 ? 1 : (int) Math.min(Integer.MAX_VALUE, Math
+			.floor(1 / scale));
+		if (isInitialized()) updateScreenImage();
+	}
+
+	@Override
+	public synchronized void clearViewport() {
+		if (viewport == null) return;
+		viewport = null;
+		viewportStep = 1;
+		if (isInitialized()) updateScreenImage();
+	}
+
+	@Override
+	public Interval getViewport() {
+		final long[] region = viewportRegion();
+		return FinalInterval.createMinSize(region);
+	}
+
+	@Override
+	public int getViewportStep() {
+		return viewportStep;
+	}
+
+	@Override
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	public void render(final long[] position, final ARGBScreenImage target) {
+		final CompositeXYProjector p;
+		synchronized (this) {
+			final CompositeXYProjector<? extends RealType<?>> current = projector;
+			if (current == null) return;
+
+			// snapshot the converter settings into private converters, with the
+			// color tables of the given position
+			final ArrayList<RealLUTConverter<? extends RealType<?>>> convs =
+				new ArrayList<>();
+			for (int c = 0; c < converters.size(); c++) {
+				final RealLUTConverter<? extends RealType<?>> converter =
+					converters.get(c);
+				convs.add(new RealLUTConverter(converter.getMin(), converter
+					.getMax(), getLUT(c, position)));
+			}
+			p = createProjector(target, convs);
+			if (channelDimIndex >= 0) {
+				for (int c = 0; c < convs.size(); c++) {
+					p.setComposite(c, current.isComposite(c));
+				}
+			}
+		}
+		p.setPosition(position);
+		p.map();
+	}
+
+	@Override
+	public void offerFrame(final long[] position, final ARGBScreenImage frame) {
+		final int[] data = frame.getData();
+		synchronized (frameLock) {
+			if (offeredFrame == null || offeredFrame.length != data.length) {
+				offeredFrame = new int[data.length];
+			}
+			System.arraycopy(data, 0, offeredFrame, 0, data.length);
+			offeredPosition = position.clone();
+		}
+	}
+
 	@Override
 	public RandomAccessibleInterval<? extends RealType<?>> xyPlane() {
 		return xyPlane(getData().getImgPlus());
@@ -360,11 +463,13 @@ public Dataset getData() {
 
 	@Override
 	public int getPreferredWidth() {
+		if (viewport != null) return (int) getData().getImgPlus().dimension(0);
 		return getScreenImage().image().getWidth(null);
 	}
 
 	@Override
 	public int getPreferredHeight() {
+		if (viewport != null) return (int) getData().getImgPlus().dimension(1);
 		return getScreenImage().image().getHeight(null);
 	}
 
@@ -383,16 +488,12 @@ public synchronized void rebuild() {
 
 		channelDimIndex = getChannelDimIndex();
 
-		final ImgPlus<? extends RealType<?>> img = getData().getImgPlus();
-
 		if (defaultLUTs == null || defaultLUTs.size() != getChannelCount()) {
 			defaultLUTs = new ArrayList<>();
 			resetColorTables(false);
 		}
 
-		final int width = (int) img.dimension(0);
-		final int height = (int) img.dimension(1);
-		screenImage = new ARGBScreenImage(width, height);
+		screenImage = createScreenImage();
 
 		initializeView(isComposite());
 		updateLUTs();
@@ -432,7 +533,7 @@ public void setPosition(final long position, final AxisType axis) {
 			updateLUTs();
 		}
 
-		projector.map();
+		if (!showOfferedFrame()) projector.map();
 
 		super.setPosition(position, axis);
 	}
@@ -519,29 +620,119 @@ private void initializeView(final boolean composite) {
 			}
 		}
 
+		projector = createProjector(screenImage, converters);
+		projector.setComposite(composite);
+	}
+
+	/** Creates a projector of the data into the given screen image. */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private CompositeXYProjector createProjector(final ARGBScreenImage target,
+		final ArrayList convs)
+	{
 		final ImgPlus<?> img = getData().getImgPlus();
 
+		if (viewport != null) {
+			final long[] region = viewportRegion();
+			final TiledXYProjector tiled =
+				new TiledXYProjector(getData().getImgPlus(), target, convs,
+					channelDimIndex, threadService);
+			tiled.setViewport(target, region[0], region[1], viewportStep);
+			return tiled;
+		}
+		if (PrimitiveCompositeXYProjector.supports(img)) {
+			return new PrimitiveCompositeXYProjector(getData().getImgPlus(), target,
+				convs, channelDimIndex);
+		}
 		if (AbstractCellImg.class.isAssignableFrom(img.getImg().getClass())) {
-			projector =
-				new SourceOptimizedCompositeXYProjector(getData().getImgPlus(),
-					screenImage, converters, channelDimIndex);
+			return new SourceOptimizedCompositeXYProjector(getData().getImgPlus(),
+				target, convs, channelDimIndex);
 		}
-		else {
-			projector =
-				new CompositeXYProjector(getData().getImgPlus(), screenImage,
-					converters, channelDimIndex);
+		return new CompositeXYProjector(getData().getImgPlus(), target, convs,
+			channelDimIndex);
+	}
+
+	/**
+	 * Copies the offered frame into the screen image if it was rendered at the
+	 * projector's current position. The offer is consumed either way, so a
+	 * frame rejected as stale cannot be shown by a later move.
+	 * 
+	 * @return true if the frame was shown
+	 */
+	private boolean showOfferedFrame() {
+		synchronized (frameLock) {
+			if (offeredPosition == null) return false;
+			final long[] position = offeredPosition;
+			offeredPosition = null;
+			if (position.length != projector.numDimensions()) return false;
+			for (int d = 2; d < position.length; d++) {
+				if (position[d] != projector.getLongPosition(d)) return false;
+			}
+			final int[] data = screenImage.getData();
+			if (offeredFrame.length != data.length) return false;
+			System.arraycopy(offeredFrame, 0, data, 0, data.length);
+			return true;
 		}
+	}
 
-		projector.setComposite(composite);
+	/**
+	 * Gets the rendered region of the XY plane as x, y, width and height: the
+	 * requested viewport clipped to the data, or the whole plane.
+	 */
+	private long[] viewportRegion() {
+		final ImgPlus<?> img = getData().getImgPlus();
+		final long planeWidth = img.dimension(0);
+		final long planeHeight = img.dimension(1);
+		if (viewport == null) return new long[] { 0, 0, planeWidth, planeHeight };
+
+		final long x = Math.max(0, Math.min(viewport[0], planeWidth - 1));
+		final long y = Math.max(0, Math.min(viewport[1], planeHeight - 1));
+		final long width = Math.min(viewport[0] + viewport[2], planeWidth) - x;
+		final long height = Math.min(viewport[1] + viewport[3], planeHeight) - y;
+		return new long[] { x, y, Math.max(1, width), Math.max(1, height) };
+	}
+
+	private ARGBScreenImage createScreenImage() {
+		final long[] region = viewportRegion();
+		final int width = (int) ((region[2] + viewportStep - 1) / viewportStep);
+		final int height = (int) ((region[3] + viewportStep - 1) / viewportStep);
+		return new ARGBScreenImage(width, height);
+	}
+
+	/**
+	 * Points the projector at a screen image matching the current viewport, and
+	 * renders it.
+	 */
+	@SuppressWarnings("rawtypes")
+	private void updateScreenImage() {
+		final ARGBScreenImage image = createScreenImage();
+		if (image.dimension(0) != screenImage.dimension(0) || image.dimension(
+			1) != screenImage.dimension(1))
+		{
+			screenImage = image;
+		}
+		if (viewport != null && projector instanceof TiledXYProjector) {
+			final long[] region = viewportRegion();
+			((TiledXYProjector) projector).setViewport(screenImage, region[0],
+				region[1], viewportStep);
+		}
+		else {
+			// switching rendering mode; keep the position of the old projector
+			final CompositeXYProjector<? extends RealType<?>> old = projector;
+			initializeView(old.isComposite());
+			projector.setPosition(old);
+		}
+		projector.map();
 	}
 
 	private void updateLUTs() {
 		if (!isInitialized()) return;
 
 		final int channelCount = getChannelCount();
-		for (int c = 0; c < channelCount; c++) {
-			final ColorTable lut = getCurrentLUT(c);
-			converters.get(c).setLUT(lut);
+		synchronized (this) {
+			for (int c = 0; c < channelCount; c++) {
+				final ColorTable lut = getCurrentLUT(c);
+				converters.get(c).setLUT(lut);
+			}
 		}
 
 		final Context context = getContext();
@@ -551,7 +742,19 @@ private void updateLUTs() {
 	}
 
 	private ColorTable getCurrentLUT(final int cPos) {
+		return getLUT(cPos, getPlanePosition());
+	}
+
+	/** Gets the color table of the given channel at the given data position. */
+	private ColorTable getLUT(final int cPos, final long[] position) {
 		final Position pos = getPlanePosition();
+		for (int d = 2; d < position.length; d++) {
+			pos.setPosition(position[d], d - 2);
+		}
+		return getLUT(cPos, pos);
+	}
+
+	private ColorTable getLUT(final int cPos, final Position pos) {
 		if (channelDimIndex >= 0) {
 			pos.setPosition(cPos, channelDimIndex - 2);
 		}
@@ -53,7 +53,9 @@
  * also maintains an abstract mouse cursor.
  * <p>
  * The canvas sends a {@link PanZoomEvent} whenever it is panned or zoomed. It
- * sends a {@link MouseCursorEvent} whenever the mouse cursor changes.
+ * sends a {@link MouseCursorEvent} whenever the mouse cursor changes. Panning,
+ * zooming or resizing the canvas also restricts the display's
+ * {@link DatasetView}s to the visible part of the plane.
  * </p>
  * 
  * @author Lee Kamentsky
@@ -180,6 +182,7 @@ public int getViewportHeight() {
 	public void setViewportSize(final int width, final int height) {
 		viewportSize.x = width;
 		viewportSize.y = height;
+		if (panCenter != null) updateViewports();
 		if (eventService != null) {
 			eventService.publish(new ViewportResizeEvent(this));
 		}
@@ -247,6 +250,7 @@ public void setPanCenter(final RealCoords center) {
 			panCenter.x = center.x;
 			panCenter.y = center.y;
 		}
+		updateViewports();
 		publishPanZoomEvent();
 	}
 
@@ -415,6 +419,24 @@ private void publishPanZoomEvent() {
 		if (eventService != null) eventService.publish(new PanZoomEvent(this));
 	}
 
+	/**
+	 * Restricts the rendering of each {@link DatasetView} of the display to the
+	 * part of the plane that is currently visible, at the current zoom.
+	 */
+	private void updateViewports() {
+		final long left = (long) Math.floor(getLeftImageX());
+		final long top = (long) Math.floor(getTopImageY());
+		final long width = (long) Math.ceil(getViewportWidth() / scale) + 1;
+		final long height = (long) Math.ceil(getViewportHeight() / scale) + 1;
+		if (width <= 0 || height <= 0) return;
+		for (final DataView view : display) {
+			if (!(view instanceof DatasetView)) continue;
+			final DatasetView datasetView = (DatasetView) view;
+			datasetView.setViewport(left, top, width, height, scale);
+			datasetView.update();
+		}
+	}
+
 	// -- Helper methods --
 
 	/**
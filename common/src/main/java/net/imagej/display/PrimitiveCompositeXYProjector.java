@@ -0,0 +1,268 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2020 ImageJ developers.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.display;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import net.imagej.ImgPlus;
+import net.imglib2.RandomAccessibleInterval;
+import net.imglib2.converter.Converter;
+import net.imglib2.converter.RealLUTConverter;
+import net.imglib2.display.ColorTable;
+import net.imglib2.display.projector.composite.CompositeXYProjector;
+import net.imglib2.display.screenimage.awt.ARGBScreenImage;
+import net.imglib2.img.Img;
+import net.imglib2.img.array.ArrayImg;
+import net.imglib2.img.basictypeaccess.array.ArrayDataAccess;
+import net.imglib2.img.planar.PlanarImg;
+import net.imglib2.type.numeric.ARGBType;
+import net.imglib2.type.numeric.integer.UnsignedByteType;
+import net.imglib2.type.numeric.integer.UnsignedShortType;
+
+/**
+ * As {@link CompositeXYProjector}, but specialized for {@link ArrayImg} and
+ * {@link PlanarImg} sources of {@link UnsignedByteType} or
+ * {@link UnsignedShortType}, converted by {@link RealLUTConverter}s into an
+ * {@link ARGBScreenImage} of the same size as the XY plane.
+ * <p>
+ * Instead of converting each sample through a {@link ARGBType}, each
+ * {@link #map()} tabulates every channel's {@link ColorTable} over all 256 or
+ * 65536 possible values, then reads the backing primitive array of each
+ * channel's plane straight through its table, accumulating one row at a time
+ * into the screen image's {@code int[]}. The result is identical to that of
+ * {@link CompositeXYProjector}.
+ * </p>
+ * <p>
+ * If a converter other than a {@link RealLUTConverter} is in use, this
+ * projector falls back to the general implementation.
+ * </p>
+ */
+public class PrimitiveCompositeXYProjector<A> extends CompositeXYProjector<A> {
+
+	private final Img<?> img;
+
+	private final ARGBScreenImage target;
+
+	private final ArrayList<Converter<A, ARGBType>> converters;
+
+	private final int dimIndex;
+
+	/** Whether samples are 16-bit rather than 8-bit. */
+	private final boolean shorts;
+
+	/** Tabulated color tables, reused across calls to {@link #map()}. */
+	private int[][] luts = new int[0][];
+
+	/** Color tables with components spread out for compositing. */
+	private long[][] spread = new long[0][];
+
+	public PrimitiveCompositeXYProjector(final RandomAccessibleInterval<A> source,
+		final ARGBScreenImage target,
+		final ArrayList<Converter<A, ARGBType>> converters, final int dimIndex)
+	{
+		super(source, target, converters, dimIndex);
+		if (!supports(source)) {
+			throw new IllegalArgumentException("Unsupported source: " + source);
+		}
+		this.img = unwrap(source);
+		this.target = target;
+		this.converters = converters;
+		this.dimIndex = dimIndex;
+		shorts = img.firstElement() instanceof UnsignedShortType;
+	}
+
+	/**
+	 * Tests whether the given source is backed by an {@link ArrayImg} or
+	 * {@link PlanarImg} of unsigned 8- or 16-bit samples.
+	 */
+	public static boolean supports(final RandomAccessibleInterval<?> source) {
+		final Img<?> img = unwrap(source);
+		if (!(img instanceof ArrayImg) && !(img instanceof PlanarImg)) {
+			return false;
+		}
+		if (img.numDimensions() < 2) return false;
+		final Object type = img.firstElement();
+		if (type.getClass() != UnsignedByteType.class && type
+			.getClass() != UnsignedShortType.class)
+		{
+			return false;
+		}
+		return img.dimension(0) * img.dimension(1) <= Integer.MAX_VALUE;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void map() {
+		final int size = dimIndex < 0 ? 1 : updateCurrentArrays();
+		final long[] channels = new long[size];
+		final Converter<A, ARGBType>[] convs = new Converter[size];
+		if (dimIndex < 0) convs[0] = converters.get(0);
+		else {
+			System.arraycopy(currentPositions, 0, channels, 0, size);
+			System.arraycopy(currentConverters, 0, convs, 0, size);
+		}
+		for (final Converter<A, ARGBType> conv : convs) {
+			if (!(conv instanceof RealLUTConverter)) {
+				super.map();
+				return;
+			}
+		}
+
+		// tabulate the color tables and find the plane of each channel
+		if (luts.length < size) luts = new int[size][];
+		final Object[] planes = new Object[size];
+		final int[] offsets = new int[size];
+		final long[] pos = position.clone();
+		for (int i = 0; i < size; i++) {
+			luts[i] = tabulate((RealLUTConverter<?>) convs[i], luts[i]);
+			if (dimIndex >= 0) pos[dimIndex] = channels[i];
+			planes[i] = plane(pos, offsets, i);
+		}
+
+		final int width = (int) img.dimension(0);
+		final int height = (int) img.dimension(1);
+		final int[] data = target.getData();
+		if (size == 1) {
+			final int[] lut = luts[0];
+			final int offset = offsets[0];
+			final int n = width * height;
+			if (shorts) {
+				final short[] plane = (short[]) planes[0];
+				for (int j = 0; j < n; j++) {
+					data[j] = lut[plane[offset + j] & 0xffff];
+				}
+			}
+			else {
+				final byte[] plane = (byte[]) planes[0];
+				for (int j = 0; j < n; j++) {
+					data[j] = lut[plane[offset + j] & 0xff];
+				}
+			}
+			return;
+		}
+
+		// accumulate all four components at once, in 16-bit lanes of a long
+		if (spread.length < size) spread = new long[size][];
+		for (int i = 0; i < size; i++) {
+			spread[i] = spread(luts[i], spread[i]);
+		}
+		final long[] sums = new long[width];
+		for (int y = 0; y < height; y++) {
+			final int row = y * width;
+			Arrays.fill(sums, 0);
+			for (int i = 0; i < size; i++) {
+				final long[] lut = spread[i];
+				final int offset = offsets[i] + row;
+				if (shorts) {
+					final short[] plane = (short[]) planes[i];
+					for (int x = 0; x < width; x++) {
+						sums[x] += lut[plane[offset + x] & 0xffff];
+					}
+				}
+				else {
+					final byte[] plane = (byte[]) planes[i];
+					for (int x = 0; x < width; x++) {
+						sums[x] += lut[plane[offset + x] & 0xff];
+					}
+				}
+			}
+			for (int x = 0; x < width; x++) {
+				final long sum = sums[x];
+				data[row + x] = (clamp(sum >>> 48) << 24) | (clamp(sum >>> 32) << 16) |
+					(clamp(sum >>> 16) << 8) | clamp(sum);
+			}
+		}
+	}
+
+	// -- Helper methods --
+
+	private static Img<?> unwrap(final RandomAccessibleInterval<?> source) {
+		RandomAccessibleInterval<?> img = source;
+		while (img instanceof ImgPlus) {
+			img = ((ImgPlus<?>) img).getImg();
+		}
+		return img instanceof Img ? (Img<?>) img : null;
+	}
+
+	/**
+	 * Evaluates the converter's color table for every possible sample value,
+	 * exactly as {@link RealLUTConverter#convert} does.
+	 */
+	private int[] tabulate(final RealLUTConverter<?> converter, final int[] lut) {
+		final int length = shorts ? 65536 : 256;
+		final int[] values = lut == null ? new int[length] : lut;
+		final ColorTable table = converter.getLUT();
+		final double min = converter.getMin();
+		final double max = converter.getMax();
+		for (int v = 0; v < length; v++) {
+			values[v] = table.lookupARGB(min, max, v);
+		}
+		return values;
+	}
+
+	/**
+	 * Gets the primitive array holding the XY plane at the given position, and
+	 * stores the index of the plane's first sample in {@code offsets[i]}.
+	 */
+	private Object plane(final long[] pos, final int[] offsets, final int i) {
+		// planes are numbered in the order of the remaining dimensions
+		long no = 0;
+		for (int d = img.numDimensions() - 1; d >= 2; d--) {
+			no = no * img.dimension(d) + pos[d] - img.min(d);
+		}
+		if (img instanceof PlanarImg) {
+			offsets[i] = 0;
+			return ((ArrayDataAccess<?>) ((PlanarImg<?, ?>) img).getPlane((int) no))
+				.getCurrentStorageArray();
+		}
+		offsets[i] = (int) (no * img.dimension(0) * img.dimension(1));
+		return ((ArrayDataAccess<?>) ((ArrayImg<?, ?>) img).update(null))
+			.getCurrentStorageArray();
+	}
+
+	/** Moves the components of each ARGB value into 16-bit lanes. */
+	private static long[] spread(final int[] lut, final long[] spread) {
+		final long[] values = spread == null || spread.length != lut.length
+			? new long[lut.length] : spread;
+		for (int v = 0; v < lut.length; v++) {
+			final int argb = lut[v];
+			values[v] = ((long) (argb >>> 24) << 48) | ((long) ((argb >> 16) &
+				0xff) << 32) | ((argb >> 8) & 0xff) << 16 | (argb & 0xff);
+		}
+		return values;
+	}
+
+	/** Clamps the 16-bit lane in the low bits of the given sum to 255. */
+	private static int clamp(final long sum) {
+		return Math.min((int) (sum & 0xffff), 255);
+	}
+
+}
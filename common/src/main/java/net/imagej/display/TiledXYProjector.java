@@ -0,0 +1,233 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2020 ImageJ developers.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.display;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import net.imglib2.RandomAccess;
+import net.imglib2.RandomAccessibleInterval;
+import net.imglib2.converter.Converter;
+import net.imglib2.display.projector.composite.CompositeXYProjector;
+import net.imglib2.display.screenimage.awt.ARGBScreenImage;
+import net.imglib2.type.numeric.ARGBType;
+
+import org.scijava.thread.ThreadService;
+
+/**
+ * As {@link CompositeXYProjector}, but renders only a viewport of the XY plane
+ * into its target, optionally sampling every n-th source pixel, and does so in
+ * tiles which are projected in parallel.
+ * <p>
+ * The viewport is given in source coordinates by {@link #setViewport}: target
+ * pixel {@code (i, j)} shows source pixel
+ * {@code (x + i * step, y + j * step)}. Each call to {@link #map()} starts a
+ * new render; tiles of a render which is still in progress at that time stop
+ * at their next row, so that concurrent callers (for instance an animation and
+ * a slider) never wait for a stale plane.
+ * </p>
+ */
+public class TiledXYProjector<A> extends CompositeXYProjector<A> {
+
+	/** Edge length of the square tiles the target is split into. */
+	public static final int TILE_SIZE = 256;
+
+	private final RandomAccessibleInterval<A> source;
+
+	private final ArrayList<Converter<A, ARGBType>> converters;
+
+	private final int dimIndex;
+
+	private final ThreadService threadService;
+
+	/** Incremented each time a render starts; renders check it per row. */
+	private final AtomicLong generation = new AtomicLong();
+
+	/** Tiles of the latest render, which a newer render waits for. */
+	private List<Future<?>> inFlight = new ArrayList<>();
+
+	private ARGBScreenImage target;
+
+	private long originX, originY;
+
+	private int step = 1;
+
+	public TiledXYProjector(final RandomAccessibleInterval<A> source,
+		final ARGBScreenImage target,
+		final ArrayList<Converter<A, ARGBType>> converters, final int dimIndex,
+		final ThreadService threadService)
+	{
+		super(source, target, converters, dimIndex);
+		this.source = source;
+		this.target = target;
+		this.converters = converters;
+		this.dimIndex = dimIndex;
+		this.threadService = threadService;
+	}
+
+	/**
+	 * Sets the region of the XY plane rendered by {@link #map()}.
+	 * 
+	 * @param screenImage the image to render into
+	 * @param x source X coordinate of the target's first pixel
+	 * @param y source Y coordinate of the target's first pixel
+	 * @param step distance in source pixels between adjacent target pixels
+	 */
+	public synchronized void setViewport(final ARGBScreenImage screenImage,
+		final long x, final long y, final int step)
+	{
+		if (step < 1) throw new IllegalArgumentException("Invalid step: " + step);
+		target = screenImage;
+		originX = x;
+		originY = y;
+		this.step = step;
+	}
+
+	public ARGBScreenImage getTarget() {
+		return target;
+	}
+
+	public long getOriginX() {
+		return originX;
+	}
+
+	public long getOriginY() {
+		return originY;
+	}
+
+	public int getStep() {
+		return step;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void map() {
+		final long gen;
+		final List<Future<?>> tiles = new ArrayList<>();
+		synchronized (this) {
+			gen = generation.incrementAndGet();
+			// stale tiles stop at their next row; wait for them so that they cannot
+			// overwrite pixels of this render
+			await(inFlight);
+
+			final int size = dimIndex < 0 ? 1 : updateCurrentArrays();
+			final long[] channels = new long[size];
+			final Converter<A, ARGBType>[] convs = new Converter[size];
+			if (dimIndex < 0) convs[0] = converters.get(0);
+			else {
+				System.arraycopy(currentPositions, 0, channels, 0, size);
+				System.arraycopy(currentConverters, 0, convs, 0, size);
+			}
+			final long[] pos = position.clone();
+			final ARGBScreenImage image = target;
+			final long x0 = originX, y0 = originY;
+			final int s = step;
+
+			final int width = (int) image.dimension(0);
+			final int height = (int) image.dimension(1);
+			for (int ty = 0; ty < height; ty += TILE_SIZE) {
+				for (int tx = 0; tx < width; tx += TILE_SIZE) {
+					final int minX = tx, minY = ty;
+					final int maxX = Math.min(tx + TILE_SIZE, width);
+					final int maxY = Math.min(ty + TILE_SIZE, height);
+					tiles.add(threadService.run(() -> renderTile(gen, image, pos,
+						channels, convs, x0, y0, s, minX, minY, maxX, maxY)));
+				}
+			}
+			inFlight = tiles;
+		}
+		await(tiles);
+	}
+
+	// -- Helper methods --
+
+	private void renderTile(final long gen, final ARGBScreenImage image,
+		final long[] pos, final long[] channels,
+		final Converter<A, ARGBType>[] convs, final long x0, final long y0,
+		final int s, final int minX, final int minY, final int maxX,
+		final int maxY)
+	{
+		final RandomAccess<A> access = source.randomAccess();
+		access.setPosition(pos);
+		final int[] data = image.getData();
+		final int width = (int) image.dimension(0);
+		final int size = convs.length;
+		final ARGBType bi = new ARGBType();
+
+		for (int y = minY; y < maxY; y++) {
+			if (generation.get() != gen) return; // superseded by a newer render
+			access.setPosition(y0 + (long) y * s, 1);
+			int index = y * width + minX;
+			for (int x = minX; x < maxX; x++) {
+				access.setPosition(x0 + (long) x * s, 0);
+				if (size == 1) {
+					if (dimIndex >= 0) access.setPosition(channels[0], dimIndex);
+					convs[0].convert(access.get(), bi);
+					data[index++] = bi.get();
+					continue;
+				}
+				int aSum = 0, rSum = 0, gSum = 0, bSum = 0;
+				for (int i = 0; i < size; i++) {
+					access.setPosition(channels[i], dimIndex);
+					convs[i].convert(access.get(), bi);
+					final int value = bi.get();
+					aSum += ARGBType.alpha(value);
+					rSum += ARGBType.red(value);
+					gSum += ARGBType.green(value);
+					bSum += ARGBType.blue(value);
+				}
+				if (aSum > 255) aSum = 255;
+				if (rSum > 255) rSum = 255;
+				if (gSum > 255) gSum = 255;
+				if (bSum > 255) bSum = 255;
+				data[index++] = ARGBType.rgba(rSum, gSum, bSum, aSum);
+			}
+		}
+	}
+
+	private static void await(final List<Future<?>> futures) {
+		for (final Future<?> future : futures) {
+			try {
+				future.get();
+			}
+			catch (final InterruptedException exc) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+			catch (final ExecutionException exc) {
+				throw new IllegalStateException(exc.getCause());
+			}
+		}
+	}
+
+}
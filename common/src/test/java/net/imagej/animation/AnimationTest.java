@@ -0,0 +1,100 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2020 ImageJ developers.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.animation;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+/**
+ * Tests the stepping and frame dropping logic of {@link Animation}.
+ */
+public class AnimationTest {
+
+	@Test
+	public void testStepLoop() {
+		assertSteps(1, 0, 3, false, 0, 1, 2, 3, 0, 1);
+		assertSteps(-1, 0, 3, false, 1, 0, 3, 2, 1);
+		assertSteps(1, 2, 4, false, 3, 4, 2, 3);
+	}
+
+	@Test
+	public void testStepBackAndForth() {
+		assertSteps(1, 0, 3, true, 1, 2, 3, 2, 1, 0, 1, 2);
+		assertSteps(-1, 0, 3, true, 2, 1, 0, 1, 2, 3, 2);
+		// a single frame stays put
+		assertSteps(1, 5, 5, true, 5, 5, 5);
+	}
+
+	@Test
+	public void testStepDirection() {
+		final long[] position = { 0, 0, 3 };
+		assertEquals(-1, Animation.step(position, 2, 1, 0, 3, true));
+		assertArrayEquals(new long[] { 0, 0, 2 }, position);
+		assertEquals(-1, Animation.step(position, 2, -1, 0, 3, true));
+		assertArrayEquals(new long[] { 0, 0, 1 }, position);
+
+		position[2] = 3;
+		assertEquals(1, Animation.step(position, 2, 1, 0, 3, false));
+		assertArrayEquals(new long[] { 0, 0, 0 }, position);
+	}
+
+	@Test
+	public void testOverrunFrames() {
+		final long period = 1000;
+		// on time or early: nothing is dropped
+		assertEquals(0, Animation.overrunFrames(5000, 5000, period));
+		assertEquals(0, Animation.overrunFrames(4000, 5000, period));
+		// late by less than a period: the frame is merely late
+		assertEquals(0, Animation.overrunFrames(5999, 5000, period));
+		// one frame dropped per full period of delay
+		assertEquals(1, Animation.overrunFrames(6000, 5000, period));
+		assertEquals(2, Animation.overrunFrames(7500, 5000, period));
+	}
+
+	// -- Helper methods --
+
+	/**
+	 * Steps from the first of the given positions and checks that the following
+	 * ones are visited in order.
+	 */
+	private void assertSteps(final long increment, final long first,
+		final long last, final boolean backAndForth, final long... expected)
+	{
+		final long[] position = { expected[0] };
+		long inc = increment;
+		for (int i = 1; i < expected.length; i++) {
+			inc = Animation.step(position, 0, inc, first, last, backAndForth);
+			assertEquals("step " + i, expected[i], position[0]);
+		}
+	}
+
+}
@@ -0,0 +1,190 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2020 ImageJ developers.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.animation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.concurrent.Executors;
+
+import net.imagej.display.DatasetView;
+import net.imglib2.display.screenimage.awt.ARGBScreenImage;
+
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Tests {@link RenderAhead}.
+ */
+public class RenderAheadTest {
+
+	private static final int WIDTH = 4, HEIGHT = 3;
+
+	private static final long FRAME_BYTES = 4 * WIDTH * HEIGHT;
+
+	private ARGBScreenImage screen = new ARGBScreenImage(WIDTH, HEIGHT);
+
+	private RenderAhead ahead;
+
+	@After
+	public void tearDown() {
+		if (ahead != null) ahead.dispose();
+	}
+
+	@Test
+	public void testCapacity() {
+		ahead = createRenderAhead(false, 3 * FRAME_BYTES, 64);
+		assertEquals(3, ahead.capacity());
+		ahead.dispose();
+
+		ahead = createRenderAhead(false, 100 * FRAME_BYTES, 5);
+		assertEquals(5, ahead.capacity());
+		ahead.dispose();
+
+		// at least one frame, whatever the budget
+		ahead = createRenderAhead(false, 0, 5);
+		assertEquals(1, ahead.capacity());
+	}
+
+	@Test
+	public void testOrder() throws InterruptedException {
+		ahead = createRenderAhead(true, 3 * FRAME_BYTES, 64);
+		ahead.restart(position(1), 1);
+
+		// frames follow the playback order, across direction changes
+		final long[] expected = { 2, 3, 2, 1, 0, 1, 2, 3, 2 };
+		final long[] increments = { 1, 1, -1, -1, -1, 1, 1, 1, -1 };
+		for (int i = 0; i < expected.length; i++) {
+			final RenderAhead.Frame frame = ahead.next();
+			assertEquals(expected[i], frame.position[2]);
+			assertEquals(increments[i], frame.increment);
+			assertRendered(frame);
+			ahead.recycle(frame);
+		}
+	}
+
+	@Test
+	public void testDrop() throws InterruptedException {
+		ahead = createRenderAhead(false, 4 * FRAME_BYTES, 64);
+		ahead.restart(position(0), 1);
+
+		// drop two frames, the way Animation does when running late
+		final long skip = 2;
+		for (long i = 0; i < skip; i++) {
+			ahead.recycle(ahead.next());
+		}
+		final RenderAhead.Frame frame = ahead.next();
+		assertEquals(skip + 1, frame.position[2]);
+		assertRendered(frame);
+		ahead.recycle(frame);
+
+		// dropped frames are requeued, so the ring stays full and in order
+		final long[] expected = { 0, 1, 2, 3, 0 };
+		for (final long z : expected) {
+			final RenderAhead.Frame f = ahead.next();
+			assertEquals(z, f.position[2]);
+			ahead.recycle(f);
+		}
+	}
+
+	@Test
+	public void testRestart() throws InterruptedException {
+		ahead = createRenderAhead(false, 2 * FRAME_BYTES, 64);
+		ahead.restart(position(0), 1);
+		ahead.recycle(ahead.next());
+
+		// moved elsewhere: queued frames are discarded
+		ahead.restart(position(2), 1);
+		assertEquals(3, ahead.peek().position[2]);
+		assertEquals(3, ahead.next().position[2]);
+	}
+
+	@Test
+	public void testFits() {
+		ahead = createRenderAhead(false, 2 * FRAME_BYTES, 64);
+		ahead.restart(position(0), 1);
+		assertTrue(ahead.fits(ahead.peek()));
+		assertFalse(ahead.fits(null));
+
+		// frames rendered before the view was resized are stale
+		screen = new ARGBScreenImage(WIDTH + 1, HEIGHT);
+		assertFalse(ahead.fits(ahead.peek()));
+	}
+
+	// -- Helper methods --
+
+	private RenderAhead createRenderAhead(final boolean backAndForth,
+		final long memory, final int maxFrames)
+	{
+		final RenderAhead.Stepper stepper = (position, dim, increment) -> Animation
+			.step(position, dim, increment, 0, 3, backAndForth);
+		return new RenderAhead(view(), 2, stepper, memory, maxFrames, Executors
+			.defaultThreadFactory());
+	}
+
+	/**
+	 * Creates a view whose screen image is {@link #screen}, and which renders
+	 * each plane as pixels set to its Z position.
+	 */
+	private DatasetView view() {
+		return (DatasetView) Proxy.newProxyInstance(getClass().getClassLoader(),
+			new Class<?>[] { DatasetView.class }, (proxy, method, args) -> {
+				switch (method.getName()) {
+					case "getScreenImage":
+						return screen;
+					case "render":
+						final long[] position = (long[]) args[0];
+						final ARGBScreenImage target = (ARGBScreenImage) args[1];
+						Arrays.fill(target.getData(), (int) position[2]);
+						return null;
+					case "hashCode":
+						return System.identityHashCode(proxy);
+					case "equals":
+						return proxy == args[0];
+					default:
+						throw new UnsupportedOperationException(method.getName());
+				}
+			});
+	}
+
+	private static long[] position(final long z) {
+		return new long[] { 0, 0, z };
+	}
+
+	private static void assertRendered(final RenderAhead.Frame frame) {
+		for (final int pixel : frame.image.getData()) {
+			assertEquals(frame.position[2], pixel);
+		}
+	}
+
+}
@@ -0,0 +1,192 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2020 ImageJ developers.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.display;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.Arrays;
+
+import net.imagej.Dataset;
+import net.imagej.DatasetService;
+import net.imagej.axis.Axes;
+import net.imagej.axis.AxisType;
+import net.imglib2.Cursor;
+import net.imglib2.Interval;
+import net.imglib2.display.screenimage.awt.ARGBScreenImage;
+import net.imglib2.type.numeric.RealType;
+import net.imglib2.util.Intervals;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.scijava.Context;
+import org.scijava.display.DisplayService;
+import org.scijava.util.RealCoords;
+
+/**
+ * Tests the rendering of {@link DefaultDatasetView} ahead of time, and the
+ * frames offered to it.
+ */
+public class DefaultDatasetViewTest {
+
+	private static final int MARKER = 0xff123456;
+
+	private Context context;
+
+	private ImageDisplay display;
+
+	private DatasetView view;
+
+	@Before
+	public void setUp() {
+		context = new Context();
+		final DatasetService datasetService = context.service(
+			DatasetService.class);
+		final DisplayService displayService = context.service(
+			DisplayService.class);
+		final ImageDisplayService imageDisplayService = context.service(
+			ImageDisplayService.class);
+
+		// each Z plane holds its own value
+		final long[] dims = { 5, 4, 3 };
+		final AxisType[] axisTypes = { Axes.X, Axes.Y, Axes.Z };
+		final Dataset dataset = datasetService.create(dims, "planes", axisTypes,
+			8, false, false);
+		final Cursor<? extends RealType<?>> cursor = dataset.getImgPlus()
+			.localizingCursor();
+		while (cursor.hasNext()) {
+			cursor.fwd();
+			cursor.get().setReal(100 * cursor.getLongPosition(2));
+		}
+
+		display = (ImageDisplay) displayService.createDisplay(
+			dataset);
+		view = imageDisplayService.getActiveDatasetView(display);
+		view.setChannelRanges(0, 255);
+	}
+
+	@After
+	public void tearDown() {
+		context.dispose();
+	}
+
+	@Test
+	public void testRender() {
+		final ARGBScreenImage frame = createFrame();
+		view.render(new long[] { 0, 0, 2 }, frame);
+		assertFalse(Arrays.equals(frame.getData(), screen()));
+
+		view.setPosition(2, Axes.Z);
+		assertArrayEquals(frame.getData(), screen());
+	}
+
+	@Test
+	public void testOfferedFrame() {
+		view.offerFrame(new long[] { 0, 0, 1 }, marker(createFrame()));
+		view.setPosition(1, Axes.Z);
+		assertArrayEquals(marker(createFrame()).getData(), screen());
+	}
+
+	@Test
+	public void testStaleFrame() {
+		final ARGBScreenImage expected = createFrame();
+		view.render(new long[] { 0, 0, 2 }, expected);
+
+		// offered for another position than the view moves to
+		view.offerFrame(new long[] { 0, 0, 1 }, marker(createFrame()));
+		view.setPosition(2, Axes.Z);
+		assertArrayEquals(expected.getData(), screen());
+
+		// the rejected offer is discarded
+		view.render(new long[] { 0, 0, 1 }, expected);
+		view.setPosition(1, Axes.Z);
+		assertArrayEquals(expected.getData(), screen());
+	}
+
+	@Test
+	public void testResizedFrame() {
+		final ARGBScreenImage expected = createFrame();
+		view.render(new long[] { 0, 0, 1 }, expected);
+
+		// rendered for a screen image of another size
+		final ARGBScreenImage frame = new ARGBScreenImage(6, 4);
+		view.offerFrame(new long[] { 0, 0, 1 }, marker(frame));
+		view.setPosition(1, Axes.Z);
+		assertArrayEquals(expected.getData(), screen());
+	}
+
+	@Test
+	public void testCanvasViewport() {
+		final ImageCanvas canvas = display.getCanvas();
+		canvas.setViewportSize(2, 2);
+		canvas.setPanCenter(new RealCoords(2, 2));
+		assertArrayEquals(new long[] { 1, 1 }, min(view.getViewport()));
+		assertArrayEquals(new long[] { 3, 3 }, dims(view.getViewport()));
+		assertEquals(1, view.getViewportStep());
+		assertEquals(3, view.getScreenImage().dimension(0));
+
+		// zoomed out, the viewport is clipped to the plane and subsampled
+		canvas.setZoomAndCenter(0.5, new RealCoords(2, 2));
+		assertArrayEquals(new long[] { 0, 0 }, min(view.getViewport()));
+		assertArrayEquals(new long[] { 5, 4 }, dims(view.getViewport()));
+		assertEquals(2, view.getViewportStep());
+		assertEquals(3, view.getScreenImage().dimension(0));
+		assertEquals(2, view.getScreenImage().dimension(1));
+	}
+
+	// -- Helper methods --
+
+	private static long[] min(final Interval interval) {
+		return Intervals.minAsLongArray(interval);
+	}
+
+	private static long[] dims(final Interval interval) {
+		return Intervals.dimensionsAsLongArray(interval);
+	}
+
+
+	private ARGBScreenImage createFrame() {
+		final ARGBScreenImage screen = view.getScreenImage();
+		return new ARGBScreenImage((int) screen.dimension(0), (int) screen
+			.dimension(1));
+	}
+
+	private static ARGBScreenImage marker(final ARGBScreenImage frame) {
+		Arrays.fill(frame.getData(), MARKER);
+		return frame;
+	}
+
+	private int[] screen() {
+		return view.getScreenImage().getData();
+	}
+
+}
@@ -0,0 +1,140 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2020 ImageJ developers.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.display;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import net.imglib2.converter.Converter;
+import net.imglib2.converter.RealLUTConverter;
+import net.imglib2.display.projector.composite.CompositeXYProjector;
+import net.imglib2.display.screenimage.awt.ARGBScreenImage;
+import net.imglib2.img.Img;
+import net.imglib2.img.array.ArrayImgs;
+import net.imglib2.img.cell.CellImgFactory;
+import net.imglib2.img.planar.PlanarImgs;
+import net.imglib2.type.numeric.ARGBType;
+import net.imglib2.type.numeric.RealType;
+import net.imglib2.type.numeric.integer.UnsignedByteType;
+import net.imglib2.type.numeric.integer.UnsignedShortType;
+
+import org.junit.Test;
+
+/**
+ * Tests {@link PrimitiveCompositeXYProjector}.
+ */
+public class PrimitiveCompositeXYProjectorTest {
+
+	@Test
+	public void testSupports() {
+		assertTrue(PrimitiveCompositeXYProjector.supports(ArrayImgs.unsignedBytes(
+			4, 3)));
+		assertTrue(PrimitiveCompositeXYProjector.supports(PlanarImgs
+			.unsignedShorts(4, 3, 2)));
+		assertFalse(PrimitiveCompositeXYProjector.supports(ArrayImgs.bytes(4, 3)));
+		assertFalse(PrimitiveCompositeXYProjector.supports(ArrayImgs.floats(4,
+			3)));
+		assertFalse(PrimitiveCompositeXYProjector.supports(
+			new CellImgFactory<>(new UnsignedByteType()).create(4, 3)));
+	}
+
+	@Test
+	public void testArrayImg() {
+		assertSameAsComposite(fill(ArrayImgs.unsignedBytes(70, 45, 6, 3)), true);
+		assertSameAsComposite(fill(ArrayImgs.unsignedBytes(70, 45, 6, 3)), false);
+		assertSameAsComposite(fill(ArrayImgs.unsignedShorts(33, 20, 3)), true);
+		assertSameAsComposite(fill(ArrayImgs.unsignedShorts(33, 20, 3)), false);
+	}
+
+	@Test
+	public void testPlanarImg() {
+		assertSameAsComposite(fill(PlanarImgs.unsignedBytes(70, 45, 2, 4)), true);
+		assertSameAsComposite(fill(PlanarImgs.unsignedShorts(25, 50, 4, 2)),
+			true);
+		assertSameAsComposite(fill(PlanarImgs.unsignedShorts(25, 50, 4, 2)),
+			false);
+	}
+
+	// -- Helper methods --
+
+	private <T extends RealType<T>> Img<T> fill(final Img<T> img) {
+		final Random random = new Random(img.size());
+		final double max = img.firstElement().getMaxValue();
+		for (final T t : img) {
+			t.setReal(random.nextInt((int) max + 1));
+		}
+		return img;
+	}
+
+	private <T extends RealType<T>> void assertSameAsComposite(final Img<T> img,
+		final boolean composite)
+	{
+		final int width = (int) img.dimension(0);
+		final int height = (int) img.dimension(1);
+		final int channels = (int) img.dimension(2);
+		final double max = img.firstElement().getMaxValue();
+		final ArrayList<Converter<T, ARGBType>> converters = new ArrayList<>();
+		for (int c = 0; c < channels; c++) {
+			// narrow and shifted ranges exercise clamping in the color tables
+			converters.add(new RealLUTConverter<T>(c * max / 10, max * (c + 1) /
+				channels, ColorTables.getDefaultColorTable(c)));
+		}
+
+		final ARGBScreenImage expected = new ARGBScreenImage(width, height);
+		final CompositeXYProjector<T> reference = new CompositeXYProjector<>(img,
+			expected, converters, 2);
+		final ARGBScreenImage actual = new ARGBScreenImage(width, height);
+		final PrimitiveCompositeXYProjector<T> projector =
+			new PrimitiveCompositeXYProjector<>(img, actual, converters, 2);
+		reference.setComposite(composite);
+		projector.setComposite(composite);
+
+		for (int c = 0; c < channels; c++) {
+			reference.setPosition(c, 2);
+			projector.setPosition(c, 2);
+			for (int p = 0; p < (img.numDimensions() > 3 ? img.dimension(3)
+				: 1); p++)
+			{
+				if (img.numDimensions() > 3) {
+					reference.setPosition(p, 3);
+					projector.setPosition(p, 3);
+				}
+				reference.map();
+				projector.map();
+				assertArrayEquals(expected.getData(), actual.getData());
+			}
+		}
+	}
+
+}
@@ -0,0 +1,178 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2020 ImageJ developers.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.display;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import net.imglib2.converter.Converter;
+import net.imglib2.converter.RealLUTConverter;
+import net.imglib2.display.projector.composite.CompositeXYProjector;
+import net.imglib2.display.screenimage.awt.ARGBScreenImage;
+import net.imglib2.img.Img;
+import net.imglib2.img.array.ArrayImgs;
+import net.imglib2.type.numeric.ARGBType;
+import net.imglib2.type.numeric.real.FloatType;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.scijava.Context;
+import org.scijava.thread.ThreadService;
+
+/**
+ * Tests {@link TiledXYProjector}.
+ */
+public class TiledXYProjectorTest {
+
+	private Context context;
+
+	private ThreadService threadService;
+
+	@Before
+	public void setUp() {
+		context = new Context(ThreadService.class);
+		threadService = context.service(ThreadService.class);
+	}
+
+	@After
+	public void tearDown() {
+		context.dispose();
+	}
+
+	@Test
+	public void testWholePlane() {
+		assertSameAsComposite(600, 530, 3, true, 0, 0, 1);
+		assertSameAsComposite(600, 530, 3, false, 0, 0, 1);
+		assertSameAsComposite(37, 1, 1, false, 0, 0, 1);
+	}
+
+	@Test
+	public void testViewport() {
+		assertSameAsComposite(700, 300, 2, true, 123, 45, 1);
+		assertSameAsComposite(700, 300, 2, false, 699, 299, 1);
+		assertSameAsComposite(700, 300, 3, true, 10, 20, 3);
+		assertSameAsComposite(513, 257, 1, false, 1, 2, 4);
+	}
+
+	@Test
+	public void testConcurrentRenders() throws InterruptedException {
+		final Img<FloatType> img = ArrayImgs.floats(1000, 800, 1, 3);
+		final Random random = new Random(42);
+		for (final FloatType t : img) {
+			t.set(random.nextFloat() * 100);
+		}
+		final ArrayList<Converter<FloatType, ARGBType>> converters =
+			new ArrayList<>();
+		converters.add(new RealLUTConverter<FloatType>(0, 100, ColorTables.GRAYS));
+		final ARGBScreenImage expected = new ARGBScreenImage(1000, 800);
+		final CompositeXYProjector<FloatType> reference =
+			new CompositeXYProjector<>(img, expected, converters, 2);
+		reference.setPosition(2, 3);
+		reference.map();
+
+		final ARGBScreenImage actual = new ARGBScreenImage(1000, 800);
+		final TiledXYProjector<FloatType> projector = new TiledXYProjector<>(img,
+			actual, converters, 2, threadService);
+		final Thread[] threads = new Thread[4];
+		for (int i = 0; i < threads.length; i++) {
+			final long z = i % 3;
+			threads[i] = new Thread(() -> {
+				for (int n = 0; n < 5; n++) {
+					synchronized (projector) {
+						projector.setPosition(z, 3);
+					}
+					projector.map();
+				}
+			});
+			threads[i].start();
+		}
+		for (final Thread thread : threads) {
+			thread.join();
+		}
+		// whichever render was cut short, the last one leaves a complete plane
+		projector.setPosition(2, 3);
+		projector.map();
+		for (int i = 0; i < expected.getData().length; i++) {
+			assertEquals(expected.getData()[i], actual.getData()[i]);
+		}
+	}
+
+	// -- Helper methods --
+
+	private void assertSameAsComposite(final int width, final int height,
+		final int channels, final boolean composite, final long x, final long y,
+		final int step)
+	{
+		final Img<FloatType> img = ArrayImgs.floats(width, height, channels, 2);
+		final Random random = new Random(width * 31 + height);
+		for (final FloatType t : img) {
+			t.set(random.nextFloat() * 100);
+		}
+		final ArrayList<Converter<FloatType, ARGBType>> converters =
+			new ArrayList<>();
+		for (int c = 0; c < channels; c++) {
+			converters.add(new RealLUTConverter<FloatType>(0, 100, ColorTables
+				.getDefaultColorTable(c)));
+		}
+		final long channel = channels - 1;
+
+		final ARGBScreenImage expected = new ARGBScreenImage(width, height);
+		final CompositeXYProjector<FloatType> reference =
+			new CompositeXYProjector<>(img, expected, converters, 2);
+		reference.setComposite(composite);
+		reference.setPosition(channel, 2);
+		reference.setPosition(1, 3);
+		reference.map();
+
+		final int targetWidth = (int) ((width - x + step - 1) / step);
+		final int targetHeight = (int) ((height - y + step - 1) / step);
+		final ARGBScreenImage actual = new ARGBScreenImage(targetWidth,
+			targetHeight);
+		final TiledXYProjector<FloatType> projector = new TiledXYProjector<>(img,
+			actual, converters, 2, threadService);
+		projector.setComposite(composite);
+		projector.setPosition(channel, 2);
+		projector.setPosition(1, 3);
+		projector.setViewport(actual, x, y, step);
+		projector.map();
+
+		for (int j = 0; j < targetHeight; j++) {
+			for (int i = 0; i < targetWidth; i++) {
+				final long index = (y + j * step) * width + x + i * step;
+				assertEquals(expected.getData()[(int) index], actual
+					.getData()[j * targetWidth + i]);
+			}
+		}
+	}
+
+}
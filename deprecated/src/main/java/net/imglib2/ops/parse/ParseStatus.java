@@ -59,5 +59,15 @@ public class ParseStatus {
 	BinaryRelation<DoubleType,DoubleType> relop;
 	long minDim;
 	long maxDim;
+
+	/** Gets the error message, or null if the step succeeded. */
+	public String getErrorMessage() {
+		return errMsg;
+	}
+
+	/** Gets the tokens produced by a {@link Lexer}. */
+	public List<Token> getTokens() {
+		return tokens;
+	}
 }
 
@@ -12,8 +12,6 @@ dependencies {
     implementation(project(":mesh"))
     implementation("net.imglib2:imglib2:5.6.3")
     implementation("com.google.guava:guava:21.0")
-    implementation("net.sf.trove4j:trove4j:3.0.3")
-    implementation("org.smurn:jply:0.2.0")
     testImplementation("junit:junit:4.12")
 }
 
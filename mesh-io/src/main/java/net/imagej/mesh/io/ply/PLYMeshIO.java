@@ -33,36 +33,33 @@
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
-import java.io.OutputStreamWriter;
 import java.io.Writer;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
 
 import net.imagej.mesh.Mesh;
 import net.imagej.mesh.Triangle;
 import net.imagej.mesh.Vertex;
 import net.imagej.mesh.io.MeshIOPlugin;
-import net.imagej.mesh.naive.NaiveFloatMesh;
+import net.imagej.mesh.nio.BufferMesh;
 
 import org.scijava.io.AbstractIOPlugin;
 import org.scijava.plugin.Plugin;
 import org.scijava.util.FileUtils;
-import org.smurn.jply.Element;
-import org.smurn.jply.ElementReader;
-import org.smurn.jply.PlyReader;
-import org.smurn.jply.PlyReaderFile;
-import org.smurn.jply.util.NormalMode;
-import org.smurn.jply.util.NormalizingPlyReader;
-import org.smurn.jply.util.TesselationMode;
-import org.smurn.jply.util.TextureMode;
-
-import gnu.trove.map.hash.TIntLongHashMap;
-import gnu.trove.map.hash.TLongIntHashMap;
 
 /**
  * A plugin for reading and writing <a href=
  * "http://www.cs.virginia.edu/~gfx/Courses/2001/Advanced.spring.01/plylib/Ply.txt">PLY
  * files</a>.
+ * <p>
+ * Files are read and written through a {@link FileChannel} in bounded chunks,
+ * so apart from the mesh itself memory use is constant in the file size.
+ * </p>
  * 
  * @author Kyle Harrington (University of Idaho, Moscow)
  * @author Curtis Rueden
@@ -70,133 +67,99 @@
 @Plugin(type = MeshIOPlugin.class)
 public class PLYMeshIO extends AbstractIOPlugin<Mesh> implements MeshIOPlugin {
 
+	/** Size of the buffer through which binary data is streamed. */
+	private static final int CHUNK_BYTES = 64 * 1024;
+
+	private static final int VERTEX_BYTES = 3 * 4 + 3 * 4 + 2 * 4;
+	private static final int TRIANGLE_BYTES = 3 * 4 + 1;
+
 	// -- PLYMeshIO methods --
 
+	/**
+	 * Appends the vertices and triangles of a PLY file to the given mesh.
+	 * <p>
+	 * Binary (either endianness) and ASCII files are supported. Polygons are
+	 * fanned into triangles; if the file has no vertex normals, they are
+	 * computed from the counterclockwise face normals.
+	 * </p>
+	 */
 	public void read(final File plyFile, final Mesh mesh) throws IOException {
-		PlyReader plyReader = new PlyReaderFile(plyFile);
-		plyReader = new NormalizingPlyReader(plyReader, TesselationMode.TRIANGLES,
-			NormalMode.ADD_NORMALS_CCW, TextureMode.PASS_THROUGH);
-
-		ElementReader reader = plyReader.nextElementReader();
-
-		final TIntLongHashMap rowToVertIndex = new TIntLongHashMap();
-		int vertCount = 0;
-
-		// First read vertices so we have all indices, maybe this could be more
-		// efficient
-		while (reader != null) {
-			if (reader.getElementType().getName().equals("vertex")) {
-				Element vertex = reader.readElement();
-				while (vertex != null) {
-					float x = (float) vertex.getDouble("x");
-					float z = (float) vertex.getDouble("z");
-					float y = (float) vertex.getDouble("y");
-					float nx = (float) vertex.getDouble("nx");
-					float ny = (float) vertex.getDouble("ny");
-					float nz = (float) vertex.getDouble("nz");
-					float u = 0, v = 0; // TODO: texture coordinate
-					final long vIndex = mesh.vertices().addf(x, y, z, nx, ny, nz, u, v);
-					rowToVertIndex.put(vertCount++, vIndex);
-					vertex = reader.readElement();
-				}
-			}
-			reader.close();
-			reader = plyReader.nextElementReader();
-		}
-		plyReader.close();
-
-		// Now read faces
-		plyReader = new PlyReaderFile(plyFile);
-		plyReader = new NormalizingPlyReader(plyReader, TesselationMode.TRIANGLES,
-			NormalMode.ADD_NORMALS_CCW, TextureMode.PASS_THROUGH);
-
-		reader = plyReader.nextElementReader();
-
-		// First read vertices so we have all indices.
-		// Maybe this could be more efficient.
-		while (reader != null) {
-			if (reader.getElementType().getName().equals("face")) {
-				Element triangle = reader.readElement();
-				while (triangle != null) {
-					final int[] indices = triangle.getIntList("vertex_index");
-					final long v1 = rowToVertIndex.get(indices[0]);
-					final long v2 = rowToVertIndex.get(indices[1]);
-					final long v3 = rowToVertIndex.get(indices[2]);
-					final float nx = 0, ny = 0, nz = 0;
-					mesh.triangles().add(v1, v2, v3, nx, ny, nz);
-					triangle = reader.readElement();
-				}
-			}
-			reader.close();
-			reader = plyReader.nextElementReader();
+		try (final PLYReader reader = new PLYReader(FileChannel.open(plyFile
+			.toPath(), StandardOpenOption.READ)))
+		{
+			reader.read(mesh);
 		}
-
-		plyReader.close();
 	}
 
 	public byte[] writeBinary(final Mesh mesh) {
-		final int vertexBytes = 3 * 4 + 3 * 4 + 3 * 4;
-		final int triangleBytes = 3 * 4 + 1;
-		final String header = "ply\n" + //
-			"format binary_little_endian 1.0\n" + //
-			"comment This binary PLY mesh was created with imagej-mesh.\n";
-		final String vertexHeader = "" + //
-			"element vertex " + mesh.vertices().size() + "\n" + //
-			"property float x\nproperty float y\nproperty float z\n" + //
-			"property float nx\nproperty float ny\nproperty float nz\n" + //
-			"property float u\nproperty float v\n";
-		final String triangleHeader = "element face " + mesh.triangles().size() +
-			"\nproperty list uchar int vertex_index\n";
-		final String endHeader = "end_header\n";
-		final long bytes = header.getBytes().length + //
-			vertexHeader.getBytes().length + triangleHeader.getBytes().length +
-			endHeader.getBytes().length + mesh.vertices().size() * vertexBytes + //
-			mesh.triangles().size() * triangleBytes;
+		final long bytes = binaryHeader(mesh).length + //
+			mesh.vertices().size() * VERTEX_BYTES + //
+			mesh.triangles().size() * TRIANGLE_BYTES;
 		if (bytes > Integer.MAX_VALUE) {
 			throw new IllegalArgumentException("Mesh data too large: " + bytes);
 		}
-		final ByteBuffer buffer = ByteBuffer.allocate((int) bytes).order(
+		final ByteArrayOutputStream os = new ByteArrayOutputStream((int) bytes);
+		try {
+			writeBinary(mesh, Channels.newChannel(os));
+		}
+		catch (final IOException exc) {
+			// NB: Impossible for an in-memory stream.
+			throw new IllegalStateException(exc);
+		}
+		return os.toByteArray();
+	}
+
+	/**
+	 * Writes the mesh as a binary little endian PLY to the given channel,
+	 * staging the data in a fixed-size buffer.
+	 */
+	public void writeBinary(final Mesh mesh, final WritableByteChannel channel)
+		throws IOException
+	{
+		final ByteBuffer buffer = ByteBuffer.allocateDirect(CHUNK_BYTES).order(
 			ByteOrder.LITTLE_ENDIAN);
 
-		buffer.put(header.getBytes());
-		buffer.put(vertexHeader.getBytes());
-		buffer.put(triangleHeader.getBytes());
-		buffer.put(endHeader.getBytes());
+		buffer.put(binaryHeader(mesh));
 
 		// Do not populate file if there are no vertices
-		if (mesh.vertices().size() == 0) {
-			return buffer.array();
-		}
-
-		// Write vertices
-		final TLongIntHashMap refToVertId = //
-			new TLongIntHashMap((int) mesh.vertices().size());
-		int vertId = 0;
-		for (final Vertex v : mesh.vertices()) {
-			buffer.putFloat(v.xf());
-			buffer.putFloat(v.yf());
-			buffer.putFloat(v.zf());
-			buffer.putFloat(v.nxf());
-			buffer.putFloat(v.nyf());
-			buffer.putFloat(v.nzf());
-			buffer.putFloat(v.uf());
-			buffer.putFloat(v.vf());
-			refToVertId.put(v.index(), vertId);
-			++vertId;
-		}
+		if (mesh.vertices().size() > 0) {
+			// Write vertices
+			for (final Vertex v : mesh.vertices()) {
+				reserve(buffer, channel, VERTEX_BYTES);
+				buffer.putFloat(v.xf());
+				buffer.putFloat(v.yf());
+				buffer.putFloat(v.zf());
+				buffer.putFloat(v.nxf());
+				buffer.putFloat(v.nyf());
+				buffer.putFloat(v.nzf());
+				buffer.putFloat(v.uf());
+				buffer.putFloat(v.vf());
+			}
 
-		// Write triangles
-		for (final Triangle t : mesh.triangles()) {
-			buffer.put((byte) 3);
-			buffer.putInt(refToVertId.get(t.vertex0()));
-			buffer.putInt(refToVertId.get(t.vertex1()));
-			buffer.putInt(refToVertId.get(t.vertex2()));
+			// Write triangles
+			for (final Triangle t : mesh.triangles()) {
+				reserve(buffer, channel, TRIANGLE_BYTES);
+				buffer.put((byte) 3);
+				buffer.putInt(vertexId(t.vertex0()));
+				buffer.putInt(vertexId(t.vertex1()));
+				buffer.putInt(vertexId(t.vertex2()));
+			}
 		}
 
-		return buffer.array();
+		buffer.flip();
+		drain(buffer, channel);
 	}
 
 	public byte[] writeAscii(final Mesh mesh) throws IOException {
+		final ByteArrayOutputStream os = new ByteArrayOutputStream();
+		writeAscii(mesh, Channels.newChannel(os));
+		return os.toByteArray();
+	}
+
+	/** Writes the mesh as an ASCII PLY to the given channel. */
+	public void writeAscii(final Mesh mesh, final WritableByteChannel channel)
+		throws IOException
+	{
 		final String header =
 			"ply\nformat ascii 1.0\ncomment This binary PLY mesh was created with imagej-mesh.\n";
 		final String vertexHeader = "element vertex " + mesh.vertices().size() +
@@ -205,8 +168,6 @@ public byte[] writeAscii(final Mesh mesh) throws IOException {
 			"\nproperty list uchar int vertex_index\n";
 		final String endHeader = "end_header\n";
 
-		// TODO: Fail fast more robustly if mesh is too large.
-		// But need to modify the API to not return a byte[].
 		if (mesh.vertices().size() > Integer.MAX_VALUE) {
 			throw new IllegalArgumentException("Too many vertices: " + //
 				mesh.vertices().size());
@@ -216,9 +177,9 @@ public byte[] writeAscii(final Mesh mesh) throws IOException {
 				mesh.triangles().size());
 		}
 
-		final ByteArrayOutputStream os = new ByteArrayOutputStream();
-
-		final Writer writer = new OutputStreamWriter(os, "UTF-8");
+		// NB: The channel writer encodes through a bounded internal buffer.
+		final Writer writer = Channels.newWriter(channel, StandardCharsets.UTF_8
+			.newEncoder(), CHUNK_BYTES);
 
 		writer.write(header);
 		writer.write(vertexHeader);
@@ -228,13 +189,10 @@ public byte[] writeAscii(final Mesh mesh) throws IOException {
 		// Do not populate file if there are no vertices
 		if (mesh.vertices().size() == 0) {
 			writer.flush();
-			return os.toByteArray();
+			return;
 		}
 
 		// Write vertices
-		final TLongIntHashMap refToVertId = new TLongIntHashMap(//
-			(int) mesh.vertices().size());
-		int vertId = 0;
 		for (final Vertex v : mesh.vertices()) {
 			writer.write(Float.toString(v.xf()));
 			writer.write(' ');
@@ -252,22 +210,19 @@ public byte[] writeAscii(final Mesh mesh) throws IOException {
 			writer.write(' ');
 			writer.write(Float.toString(v.vf()));
 			writer.write('\n');
-			refToVertId.put(v.index(), vertId);
-			++vertId;
 		}
 
 		// Write triangles
 		for (final Triangle t : mesh.triangles()) {
 			writer.write("3 ");
-			writer.write(Integer.toString(refToVertId.get(t.vertex0())));
+			writer.write(Integer.toString(vertexId(t.vertex0())));
 			writer.write(' ');
-			writer.write(Integer.toString(refToVertId.get(t.vertex1())));
+			writer.write(Integer.toString(vertexId(t.vertex1())));
 			writer.write(' ');
-			writer.write(Integer.toString(refToVertId.get(t.vertex2())));
+			writer.write(Integer.toString(vertexId(t.vertex2())));
 			writer.write('\n');
 		}
 		writer.flush();
-		return os.toByteArray();
 	}
 
 	// -- IOPlugin methods --
@@ -284,15 +239,78 @@ public boolean supportsSave(final String source) {
 
 	@Override
 	public Mesh open(final String source) throws IOException {
-		final Mesh mesh = new NaiveFloatMesh();
-		read(new File(source), mesh);
-		return mesh;
+		try (final PLYReader reader = new PLYReader(FileChannel.open(new File(
+			source).toPath(), StandardOpenOption.READ)))
+		{
+			final long vertexCount = reader.vertexCount();
+			final long faceCount = reader.faceCount();
+			if (12 * vertexCount > Integer.MAX_VALUE || //
+				12 * faceCount > Integer.MAX_VALUE)
+			{
+				throw new IllegalArgumentException("Mesh too large: " + vertexCount +
+					" vertices, " + faceCount + " faces");
+			}
+			// NB: Sized from the header, so the buffers are never copied for
+			// triangle meshes.
+			return reader.read(new BufferMesh((int) vertexCount, (int) faceCount));
+		}
 	}
 
 	@Override
 	public void save(final Mesh data, final String destination) throws IOException {
-		final byte[] bytes = writeBinary(data);
-		FileUtils.writeFile(new File(destination), bytes);
+		try (final FileChannel channel = FileChannel.open(new File(destination)
+			.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+			StandardOpenOption.TRUNCATE_EXISTING))
+		{
+			writeBinary(data, channel);
+		}
+	}
+
+	// -- Helper methods --
+
+	private static byte[] binaryHeader(final Mesh mesh) {
+		final String header = "ply\n" + //
+			"format binary_little_endian 1.0\n" + //
+			"comment This binary PLY mesh was created with imagej-mesh.\n";
+		final String vertexHeader = "" + //
+			"element vertex " + mesh.vertices().size() + "\n" + //
+			"property float x\nproperty float y\nproperty float z\n" + //
+			"property float nx\nproperty float ny\nproperty float nz\n" + //
+			"property float u\nproperty float v\n";
+		final String triangleHeader = "element face " + mesh.triangles().size() +
+			"\nproperty list uchar int vertex_index\n";
+		final String endHeader = "end_header\n";
+		return (header + vertexHeader + triangleHeader + endHeader).getBytes(
+			StandardCharsets.US_ASCII);
+	}
+
+	/**
+	 * Vertices are written in iteration order, which matches their index in
+	 * every {@link Mesh} implementation, so indices can be written as-is.
+	 */
+	private static int vertexId(final long vIndex) {
+		if (vIndex > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("Vertex index too large: " + vIndex);
+		}
+		return (int) vIndex;
+	}
+
+	/** Flushes the buffer to the channel if fewer than {@code bytes} are free. */
+	private static void reserve(final ByteBuffer buffer,
+		final WritableByteChannel channel, final int bytes) throws IOException
+	{
+		if (buffer.remaining() >= bytes) return;
+		buffer.flip();
+		drain(buffer, channel);
+		buffer.clear();
+	}
+
+	private static void drain(final ByteBuffer buffer,
+		final WritableByteChannel channel) throws IOException
+	{
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
 	}
 
 	String EXTENSION = "ply";
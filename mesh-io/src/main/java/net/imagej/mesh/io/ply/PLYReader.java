@@ -0,0 +1,524 @@
+/*-
+ * #%L
+ * I/O plugins for ImageJ meshes.
+ * %%
+ * Copyright (C) 2016 - 2018 University of Idaho, Royal Veterinary College, and
+ * Board of Regents of the University of Wisconsin-Madison.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.mesh.io.ply;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+import net.imagej.mesh.Mesh;
+import net.imagej.mesh.Vertices;
+import net.imagej.mesh.nio.BufferMesh;
+
+/**
+ * Streaming PLY decoder.
+ * <p>
+ * The header is parsed eagerly; the body is then decoded through a single
+ * bounded {@link ByteBuffer} that is refilled from the channel, so memory use
+ * does not depend on the file size. Vertex rows are appended to the target
+ * mesh as they are read and polygonal faces are fanned into triangles. When
+ * the file carries no vertex normals, they are computed from the
+ * counterclockwise face normals, weighted by the angle at each corner.
+ * </p>
+ */
+class PLYReader implements Closeable {
+
+	private static final int CHUNK_BYTES = 64 * 1024;
+
+	private enum Format {
+			ASCII, BINARY_LITTLE_ENDIAN, BINARY_BIG_ENDIAN
+	}
+
+	private enum Type {
+			CHAR(1), UCHAR(1), SHORT(2), USHORT(2), INT(4), UINT(4), FLOAT(4), DOUBLE(
+				8);
+
+		private final int bytes;
+
+		Type(final int bytes) {
+			this.bytes = bytes;
+		}
+
+		private static Type parse(final String name) throws IOException {
+			switch (name) {
+				case "char":
+				case "int8":
+					return CHAR;
+				case "uchar":
+				case "uint8":
+					return UCHAR;
+				case "short":
+				case "int16":
+					return SHORT;
+				case "ushort":
+				case "uint16":
+					return USHORT;
+				case "int":
+				case "int32":
+					return INT;
+				case "uint":
+				case "uint32":
+					return UINT;
+				case "float":
+				case "float32":
+					return FLOAT;
+				case "double":
+				case "float64":
+					return DOUBLE;
+				default:
+					throw new IOException("Unknown PLY property type: " + name);
+			}
+		}
+	}
+
+	private static class Property {
+
+		private final String name;
+		private final Type type;
+		/** Type of the element count for list properties, or null. */
+		private final Type countType;
+
+		private Property(final String name, final Type type,
+			final Type countType)
+		{
+			this.name = name;
+			this.type = type;
+			this.countType = countType;
+		}
+	}
+
+	private static class Element {
+
+		private final String name;
+		private final long count;
+		private final List<Property> properties = new ArrayList<>();
+
+		private Element(final String name, final long count) {
+			this.name = name;
+			this.count = count;
+		}
+
+		private int indexOf(final String... names) {
+			for (int i = 0; i < properties.size(); i++) {
+				final Property p = properties.get(i);
+				if (p.countType != null) continue;
+				for (final String n : names) {
+					if (n.equals(p.name)) return i;
+				}
+			}
+			return -1;
+		}
+	}
+
+	private final ReadableByteChannel channel;
+	private final ByteBuffer buffer;
+	private final Format format;
+	private final List<Element> elements = new ArrayList<>();
+	private final StringBuilder token = new StringBuilder();
+
+	/** Target mesh; may be replaced when a {@link BufferMesh} has to grow. */
+	private Mesh mesh;
+	private boolean accumulateNormals;
+	private int[] polygon = new int[16];
+
+	PLYReader(final ReadableByteChannel channel) throws IOException {
+		this.channel = channel;
+		buffer = ByteBuffer.allocateDirect(CHUNK_BYTES);
+		buffer.limit(0);
+		format = readHeader();
+		buffer.order(format == Format.BINARY_BIG_ENDIAN ? ByteOrder.BIG_ENDIAN
+			: ByteOrder.LITTLE_ENDIAN);
+	}
+
+	/** Number of vertex rows declared in the header. */
+	long vertexCount() {
+		final Element vertex = element("vertex");
+		return vertex == null ? 0 : vertex.count;
+	}
+
+	/**
+	 * Number of face rows declared in the header; a lower bound on the number of
+	 * triangles.
+	 */
+	long faceCount() {
+		final Element face = element("face");
+		return face == null ? 0 : face.count;
+	}
+
+	/**
+	 * Decodes the body into the given mesh.
+	 * 
+	 * @return the mesh holding the result; this is {@code target} unless it is a
+	 *         {@link BufferMesh} whose triangle buffers had to be enlarged to
+	 *         hold the triangulated polygons.
+	 */
+	Mesh read(final Mesh target) throws IOException {
+		mesh = target;
+		final long base = mesh.vertices().size();
+		boolean seenVertices = false;
+		for (final Element element : elements) {
+			if (element.name.equals("vertex")) {
+				readVertices(element);
+				seenVertices = true;
+			}
+			else if (element.name.equals("face")) {
+				if (!seenVertices) {
+					throw new IOException("PLY face element precedes vertex element");
+				}
+				readFaces(element, base);
+			}
+			else {
+				for (long i = 0; i < element.count; i++) {
+					skipRow(element);
+				}
+			}
+		}
+		if (accumulateNormals) normalizeVertexNormals(base);
+		return mesh;
+	}
+
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+
+	// -- Helper methods --
+
+	private Element element(final String name) {
+		for (final Element e : elements) {
+			if (e.name.equals(name)) return e;
+		}
+		return null;
+	}
+
+	private Format readHeader() throws IOException {
+		if (!"ply".equals(readLine())) {
+			throw new IOException("Not a PLY file");
+		}
+		Format f = null;
+		Element current = null;
+		while (true) {
+			final String line = readLine();
+			if (line == null) throw new EOFException("Truncated PLY header");
+			final String[] words = line.trim().split("\\s+");
+			switch (words[0]) {
+				case "format":
+					f = Format.valueOf(words[1].toUpperCase());
+					break;
+				case "element":
+					current = new Element(words[1], Long.parseLong(words[2]));
+					elements.add(current);
+					break;
+				case "property":
+					if (current == null) {
+						throw new IOException("PLY property outside element: " + line);
+					}
+					if (words[1].equals("list")) {
+						current.properties.add(new Property(words[4], Type.parse(
+							words[3]), Type.parse(words[2])));
+					}
+					else {
+						current.properties.add(new Property(words[2], Type.parse(
+							words[1]), null));
+					}
+					break;
+				case "end_header":
+					if (f == null) throw new IOException("PLY format not specified");
+					return f;
+				default:
+					// comment, obj_info and blank lines
+			}
+		}
+	}
+
+	private String readLine() throws IOException {
+		final StringBuilder line = new StringBuilder();
+		while (true) {
+			if (!buffer.hasRemaining() && !fill(1)) {
+				return line.length() == 0 ? null : line.toString();
+			}
+			final byte b = buffer.get();
+			if (b == '\n') break;
+			if (b != '\r') line.append((char) b);
+		}
+		return line.toString();
+	}
+
+	private void readVertices(final Element element) throws IOException {
+		final int x = element.indexOf("x");
+		final int y = element.indexOf("y");
+		final int z = element.indexOf("z");
+		final int nx = element.indexOf("nx");
+		final int ny = element.indexOf("ny");
+		final int nz = element.indexOf("nz");
+		final int u = element.indexOf("u", "s", "texture_u");
+		final int v = element.indexOf("v", "t", "texture_v");
+		if (x < 0 || y < 0 || z < 0) {
+			throw new IOException("PLY vertex element lacks x, y or z");
+		}
+		accumulateNormals = nx < 0 || ny < 0 || nz < 0;
+
+		final List<Property> properties = element.properties;
+		final double[] row = new double[properties.size()];
+		final Vertices vertices = mesh.vertices();
+		for (long i = 0; i < element.count; i++) {
+			for (int p = 0; p < row.length; p++) {
+				final Property property = properties.get(p);
+				if (property.countType == null) row[p] = value(property.type);
+				else skipList(property);
+			}
+			vertices.addf((float) row[x], (float) row[y], (float) row[z], //
+				accumulateNormals ? 0 : (float) row[nx], //
+				accumulateNormals ? 0 : (float) row[ny], //
+				accumulateNormals ? 0 : (float) row[nz], //
+				u < 0 ? 0 : (float) row[u], v < 0 ? 0 : (float) row[v]);
+		}
+	}
+
+	private void readFaces(final Element element, final long base)
+		throws IOException
+	{
+		int indices = -1;
+		final List<Property> properties = element.properties;
+		for (int p = 0; p < properties.size(); p++) {
+			final Property property = properties.get(p);
+			if (property.countType != null && (property.name.equals(
+				"vertex_indices") || property.name.equals("vertex_index")))
+			{
+				indices = p;
+			}
+		}
+		if (indices < 0) {
+			throw new IOException("PLY face element lacks vertex indices");
+		}
+
+		for (long i = 0; i < element.count; i++) {
+			for (int p = 0; p < properties.size(); p++) {
+				final Property property = properties.get(p);
+				if (p != indices) {
+					if (property.countType == null) value(property.type);
+					else skipList(property);
+					continue;
+				}
+				final int n = (int) value(property.countType);
+				if (n > polygon.length) polygon = new int[Math.max(n, 2 *
+					polygon.length)];
+				for (int k = 0; k < n; k++) {
+					polygon[k] = (int) value(property.type);
+				}
+				// NB: Fan triangulation, as for convex polygons.
+				for (int k = 1; k < n - 1; k++) {
+					addTriangle(base + polygon[0], base + polygon[k], base +
+						polygon[k + 1]);
+				}
+			}
+		}
+	}
+
+	private void addTriangle(final long v0, final long v1, final long v2) {
+		final Vertices vertices = mesh.vertices();
+		final float v0x = vertices.xf(v0);
+		final float v0y = vertices.yf(v0);
+		final float v0z = vertices.zf(v0);
+		final float v10x = vertices.xf(v1) - v0x;
+		final float v10y = vertices.yf(v1) - v0y;
+		final float v10z = vertices.zf(v1) - v0z;
+		final float v20x = vertices.xf(v2) - v0x;
+		final float v20y = vertices.yf(v2) - v0y;
+		final float v20z = vertices.zf(v2) - v0z;
+		final float nx = v10y * v20z - v10z * v20y;
+		final float ny = v10z * v20x - v10x * v20z;
+		final float nz = v10x * v20y - v10y * v20x;
+
+		final float length = (float) Math.sqrt(nx * nx + ny * ny + nz * nz);
+		final float scale = length == 0 ? 0 : 1 / length;
+		final float unx = nx * scale;
+		final float uny = ny * scale;
+		final float unz = nz * scale;
+
+		if (accumulateNormals && length > 0) {
+			accumulate(vertices, v0, v1, v2, unx, uny, unz);
+			accumulate(vertices, v1, v2, v0, unx, uny, unz);
+			accumulate(vertices, v2, v0, v1, unx, uny, unz);
+		}
+
+		ensureTriangleCapacity();
+		mesh.triangles().addf(v0, v1, v2, unx, uny, unz);
+	}
+
+	/**
+	 * Adds the face normal to the normal of vertex {@code v}, weighted by the
+	 * interior angle of the face at {@code v}.
+	 */
+	private static void accumulate(final Vertices vertices, final long v,
+		final long next, final long prev, final float nx, final float ny,
+		final float nz)
+	{
+		final float x = vertices.xf(v);
+		final float y = vertices.yf(v);
+		final float z = vertices.zf(v);
+		final float ax = vertices.xf(next) - x;
+		final float ay = vertices.yf(next) - y;
+		final float az = vertices.zf(next) - z;
+		final float bx = vertices.xf(prev) - x;
+		final float by = vertices.yf(prev) - y;
+		final float bz = vertices.zf(prev) - z;
+		final double cx = ay * bz - az * by;
+		final double cy = az * bx - ax * bz;
+		final double cz = ax * by - ay * bx;
+		final double angle = Math.atan2(Math.sqrt(cx * cx + cy * cy + cz * cz), //
+			ax * bx + ay * by + az * bz);
+		vertices.setNormalf(v, //
+			(float) (vertices.nxf(v) + angle * nx), //
+			(float) (vertices.nyf(v) + angle * ny), //
+			(float) (vertices.nzf(v) + angle * nz));
+	}
+
+	private void normalizeVertexNormals(final long base) {
+		final Vertices vertices = mesh.vertices();
+		final long size = vertices.size();
+		for (long v = base; v < size; v++) {
+			final float nx = vertices.nxf(v);
+			final float ny = vertices.nyf(v);
+			final float nz = vertices.nzf(v);
+			final float length = (float) Math.sqrt(nx * nx + ny * ny + nz * nz);
+			if (length > 0) {
+				vertices.setNormalf(v, nx / length, ny / length, nz / length);
+			}
+		}
+	}
+
+	/**
+	 * Faces with more than three corners produce more triangles than the header
+	 * announces. A {@link BufferMesh} cannot grow past its capacity, so its
+	 * triangle buffers are swapped for larger copies; vertex buffers are shared.
+	 */
+	private void ensureTriangleCapacity() {
+		if (!(mesh instanceof BufferMesh)) return;
+		final BufferMesh bufferMesh = (BufferMesh) mesh;
+		final BufferMesh.Triangles triangles = bufferMesh.triangles();
+		final IntBuffer indices = triangles.indices();
+		if (indices.limit() + 3 <= indices.capacity()) return;
+
+		final int capacity = Math.max(1, indices.capacity() / 3) * 2;
+		final IntBuffer newIndices = ByteBuffer.allocateDirect(capacity * 12)
+			.order(ByteOrder.nativeOrder()).asIntBuffer();
+		final FloatBuffer newNormals = ByteBuffer.allocateDirect(capacity * 12)
+			.order(ByteOrder.nativeOrder()).asFloatBuffer();
+		indices.rewind();
+		newIndices.put(indices).limit(newIndices.position());
+		final FloatBuffer normals = triangles.normals();
+		normals.rewind();
+		newNormals.put(normals).limit(newNormals.position());
+
+		final BufferMesh.Vertices vertices = bufferMesh.vertices();
+		mesh = new BufferMesh(vertices.verts(), vertices.normals(), vertices
+			.texCoords(), newIndices, newNormals);
+	}
+
+	private void skipRow(final Element element) throws IOException {
+		for (final Property property : element.properties) {
+			if (property.countType == null) value(property.type);
+			else skipList(property);
+		}
+	}
+
+	private void skipList(final Property property) throws IOException {
+		final long n = (long) value(property.countType);
+		for (long k = 0; k < n; k++) {
+			value(property.type);
+		}
+	}
+
+	private double value(final Type type) throws IOException {
+		if (format == Format.ASCII) return Double.parseDouble(nextToken());
+		if (buffer.remaining() < type.bytes && !fill(type.bytes)) {
+			throw new EOFException("Truncated PLY body");
+		}
+		switch (type) {
+			case CHAR:
+				return buffer.get();
+			case UCHAR:
+				return buffer.get() & 0xff;
+			case SHORT:
+				return buffer.getShort();
+			case USHORT:
+				return buffer.getShort() & 0xffff;
+			case INT:
+				return buffer.getInt();
+			case UINT:
+				return buffer.getInt() & 0xffffffffL;
+			case FLOAT:
+				return buffer.getFloat();
+			default:
+				return buffer.getDouble();
+		}
+	}
+
+	private String nextToken() throws IOException {
+		token.setLength(0);
+		while (true) {
+			if (!buffer.hasRemaining() && !fill(1)) break;
+			final byte b = buffer.get();
+			if (b == ' ' || b == '\t' || b == '\n' || b == '\r') {
+				if (token.length() > 0) break;
+			}
+			else token.append((char) b);
+		}
+		if (token.length() == 0) throw new EOFException("Truncated PLY body");
+		return token.toString();
+	}
+
+	/**
+	 * Refills the chunk buffer, keeping unread bytes.
+	 * 
+	 * @return true iff at least {@code bytes} bytes are now available.
+	 */
+	private boolean fill(final int bytes) throws IOException {
+		buffer.compact();
+		try {
+			while (buffer.position() < bytes) {
+				if (channel.read(buffer) < 0) break;
+			}
+		}
+		finally {
+			buffer.flip();
+		}
+		return buffer.remaining() >= bytes;
+	}
+}
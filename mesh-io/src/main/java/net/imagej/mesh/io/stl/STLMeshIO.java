@@ -32,19 +32,23 @@
 
 import com.google.common.base.Strings;
 
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
-import java.nio.file.Files;
-import java.nio.file.Paths;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
 
 import net.imagej.mesh.Mesh;
 import net.imagej.mesh.Triangle;
 import net.imagej.mesh.io.MeshIOPlugin;
-import net.imagej.mesh.naive.NaiveFloatMesh;
+import net.imagej.mesh.nio.BufferMesh;
 
 import org.scijava.io.AbstractIOPlugin;
 import org.scijava.plugin.Plugin;
@@ -66,6 +70,9 @@ public class STLMeshIO extends AbstractIOPlugin<Mesh> implements MeshIOPlugin {
 	public static final int FACET_START = HEADER_BYTES + COUNT_BYTES;
 	public static final int FACET_BYTES = 50;
 
+	/** Number of facets decoded per chunk when streaming from a file. */
+	private static final int CHUNK_FACETS = 4096;
+
 	// -- STLMeshIO methods --
 
 	public void read(final Mesh mesh, final byte[] data) {
@@ -93,27 +100,64 @@ public byte[] write(final Mesh mesh) {
 		if (longBytes > Integer.MAX_VALUE) {
 			throw new IllegalArgumentException("Too many triangles: " + facetCount);
 		}
-		final int bytes = (int) longBytes;
-		final ByteBuffer buffer = ByteBuffer.allocate(bytes).order(
-			ByteOrder.LITTLE_ENDIAN);
+		final ByteArrayOutputStream os = new ByteArrayOutputStream((int) longBytes);
+		try {
+			write(mesh, Channels.newChannel(os));
+		}
+		catch (final IOException exc) {
+			// NB: Impossible for an in-memory stream.
+			throw new IllegalStateException(exc);
+		}
+		return os.toByteArray();
+	}
+
+	/**
+	 * Streams the facets to the given channel through a fixed-size buffer, so
+	 * memory use does not depend on the number of triangles.
+	 */
+	public void write(final Mesh mesh, final WritableByteChannel channel)
+		throws IOException
+	{
+		final long facetCount = mesh == null ? 0 : mesh.triangles().size();
+		if (facetCount > 0xffffffffL) {
+			throw new IllegalArgumentException("Too many triangles: " + facetCount);
+		}
+		final ByteBuffer buffer = ByteBuffer.allocateDirect(CHUNK_FACETS *
+			FACET_BYTES).order(ByteOrder.LITTLE_ENDIAN);
 
 		buffer.put(HEADER.getBytes());
 		buffer.putInt((int) facetCount);
 
-		if (mesh == null) return buffer.array();
-
-		mesh.triangles().forEach(f -> writeFacet(buffer, f));
+		if (mesh != null) {
+			for (final Triangle f : mesh.triangles()) {
+				if (buffer.remaining() < FACET_BYTES) {
+					buffer.flip();
+					drain(buffer, channel);
+					buffer.clear();
+				}
+				writeFacet(buffer, f);
+			}
+		}
 
-		return buffer.array();
+		buffer.flip();
+		drain(buffer, channel);
 	}
 
+	/**
+	 * Reads the facets of a binary STL file into the given mesh, decoding them
+	 * in bounded chunks. Files whose size does not match the facet count in the
+	 * header are ignored.
+	 */
 	public void read(final Mesh mesh, final File stlFile) throws IOException {
 		if (stlFile == null) return;
-	
-		final byte[] data = Files.readAllBytes(//
-			Paths.get(stlFile.getAbsolutePath()));
-	
-		read(mesh, data);
+
+		try (final FileChannel channel = FileChannel.open(stlFile.toPath(),
+			StandardOpenOption.READ))
+		{
+			final long facetCount = facetCount(channel);
+			if (facetCount < 0) return;
+			readFacets(mesh, channel, facetCount);
+		}
 	}
 
 	public boolean supports(final File file) {
@@ -148,19 +192,93 @@ public boolean supportsSave(final String source) {
 
 	@Override
 	public Mesh open(final String source) throws IOException {
-		final Mesh mesh = new NaiveFloatMesh();
-		read(mesh, new File(source));
-		return mesh;
+		try (final FileChannel channel = FileChannel.open(new File(source)
+			.toPath(), StandardOpenOption.READ))
+		{
+			final long facetCount = facetCount(channel);
+			if (facetCount < 0) return new BufferMesh(0, 0);
+			// NB: STL facets do not share vertices.
+			if (3 * 12 * facetCount > Integer.MAX_VALUE) {
+				throw new IllegalArgumentException("Too many triangles: " +
+					facetCount);
+			}
+			final Mesh mesh = new BufferMesh(3 * (int) facetCount,
+				(int) facetCount);
+			readFacets(mesh, channel, facetCount);
+			return mesh;
+		}
 	}
 
 	@Override
 	public void save(final Mesh data, final String destination) throws IOException {
-		final byte[] bytes = write(data);
-		FileUtils.writeFile(new File(destination), bytes);
+		try (final FileChannel channel = FileChannel.open(new File(destination)
+			.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+			StandardOpenOption.TRUNCATE_EXISTING))
+		{
+			write(data, channel);
+		}
 	}
 
 	// -- Helper methods --
 
+	/**
+	 * Reads the facet count from the header.
+	 * 
+	 * @return the count, or -1 if the file is too short or its size does not
+	 *         match the count.
+	 */
+	private static long facetCount(final FileChannel channel)
+		throws IOException
+	{
+		final long size = channel.size();
+		if (size < FACET_START) return -1;
+		final ByteBuffer header = ByteBuffer.allocate(FACET_START).order(
+			ByteOrder.LITTLE_ENDIAN);
+		readFully(channel, header, 0);
+		final long facetCount = header.getInt(HEADER_BYTES) & 0xffffffffL;
+		if (FACET_START + facetCount * FACET_BYTES != size) return -1;
+		return facetCount;
+	}
+
+	private static void readFacets(final Mesh mesh, final FileChannel channel,
+		final long facetCount) throws IOException
+	{
+		final ByteBuffer buffer = ByteBuffer.allocateDirect(CHUNK_FACETS *
+			FACET_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+		long position = FACET_START;
+		for (long done = 0; done < facetCount;) {
+			final int chunk = (int) Math.min(CHUNK_FACETS, facetCount - done);
+			buffer.clear().limit(chunk * FACET_BYTES);
+			readFully(channel, buffer, position);
+			for (int i = 0; i < chunk; i++) {
+				readFacet(mesh, buffer);
+			}
+			position += chunk * FACET_BYTES;
+			done += chunk;
+		}
+	}
+
+	/** Fills the buffer up to its limit and flips it for reading. */
+	private static void readFully(final FileChannel channel,
+		final ByteBuffer buffer, final long position) throws IOException
+	{
+		long p = position;
+		while (buffer.hasRemaining()) {
+			final int n = channel.read(buffer, p);
+			if (n < 0) throw new EOFException("Truncated STL file");
+			p += n;
+		}
+		buffer.flip();
+	}
+
+	private static void drain(final ByteBuffer buffer,
+		final WritableByteChannel channel) throws IOException
+	{
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+	}
+
 	private static void writeFacet(final ByteBuffer buffer,
 		final Triangle facet)
 	{
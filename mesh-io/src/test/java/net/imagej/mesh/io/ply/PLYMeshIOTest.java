@@ -30,6 +30,7 @@
 
 package net.imagej.mesh.io.ply;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assume.assumeTrue;
 
@@ -37,8 +38,11 @@
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 
 import net.imagej.mesh.Mesh;
+import net.imagej.mesh.naive.NaiveFloatMesh;
 
 import org.junit.Test;
 
@@ -63,7 +67,7 @@ public void testBinaryWrite() throws Exception {
 		final PLYMeshIO meshIO = new PLYMeshIO();
 		final Mesh mesh = sampleMesh(meshIO);
 		final byte[] bytes = meshIO.writeBinary(mesh);
-		assertEquals(5287, bytes.length);
+		assertEquals(4963, bytes.length);
 	}
 
 	@Test
@@ -71,11 +75,86 @@ public void testAsciiWrite() throws Exception {
 		final PLYMeshIO meshIO = new PLYMeshIO();
 		final Mesh mesh = sampleMesh(meshIO);
 		final byte[] bytes = meshIO.writeAscii(mesh);
-		assertEquals(7420, bytes.length);
+		assertEquals(7419, bytes.length);
+	}
+
+	@Test
+	public void testSaveOpen() throws Exception {
+		final PLYMeshIO meshIO = new PLYMeshIO();
+		final Mesh mesh = sampleMesh(meshIO);
+		final File file = File.createTempFile("PLYMeshIOTest", ".ply");
+		file.deleteOnExit();
+		meshIO.save(mesh, file.getPath());
+
+		assertArrayEquals(meshIO.writeBinary(mesh), Files.readAllBytes(file
+			.toPath()));
+		assertSameMesh(mesh, meshIO.open(file.getPath()));
+	}
+
+	@Test
+	public void testAsciiRead() throws Exception {
+		final PLYMeshIO meshIO = new PLYMeshIO();
+		final Mesh mesh = sampleMesh(meshIO);
+		final File file = File.createTempFile("PLYMeshIOTest", ".ply");
+		file.deleteOnExit();
+		Files.write(file.toPath(), meshIO.writeAscii(mesh));
+
+		final Mesh read = new NaiveFloatMesh();
+		meshIO.read(file, read);
+		assertSameMesh(mesh, read);
+	}
+
+	@Test
+	public void testOpenPolygons() throws Exception {
+		final String ply = "ply\nformat ascii 1.0\n" + //
+			"element vertex 5\nproperty float x\nproperty float y\n" + //
+			"property float z\n" + //
+			"element face 1\nproperty list uchar int vertex_indices\n" + //
+			"end_header\n" + //
+			"0 0 0\n1 0 0\n2 1 0\n1 2 0\n0 1 0\n" + //
+			"5 0 1 2 3 4\n";
+		final File file = File.createTempFile("PLYMeshIOTest", ".ply");
+		file.deleteOnExit();
+		Files.write(file.toPath(), ply.getBytes(StandardCharsets.US_ASCII));
+
+		final Mesh mesh = new PLYMeshIO().open(file.getPath());
+		assertEquals(5, mesh.vertices().size());
+		assertEquals(3, mesh.triangles().size());
+		final long[][] expected = { { 0, 1, 2 }, { 0, 2, 3 }, { 0, 3, 4 } };
+		for (int t = 0; t < expected.length; t++) {
+			assertEquals(expected[t][0], mesh.triangles().vertex0(t));
+			assertEquals(expected[t][1], mesh.triangles().vertex1(t));
+			assertEquals(expected[t][2], mesh.triangles().vertex2(t));
+			assertEquals(1, mesh.triangles().nzf(t), 1e-6);
+		}
+		for (int v = 0; v < mesh.vertices().size(); v++) {
+			assertEquals(1, mesh.vertices().nzf(v), 1e-6);
+		}
 	}
 
 	// -- Helper methods --
 
+	private static void assertSameMesh(final Mesh expected, final Mesh actual) {
+		assertEquals(expected.vertices().size(), actual.vertices().size());
+		assertEquals(expected.triangles().size(), actual.triangles().size());
+		for (long v = 0; v < expected.vertices().size(); v++) {
+			assertEquals(expected.vertices().xf(v), actual.vertices().xf(v), 0);
+			assertEquals(expected.vertices().yf(v), actual.vertices().yf(v), 0);
+			assertEquals(expected.vertices().zf(v), actual.vertices().zf(v), 0);
+			assertEquals(expected.vertices().nxf(v), actual.vertices().nxf(v), 0);
+			assertEquals(expected.vertices().nyf(v), actual.vertices().nyf(v), 0);
+			assertEquals(expected.vertices().nzf(v), actual.vertices().nzf(v), 0);
+		}
+		for (long t = 0; t < expected.triangles().size(); t++) {
+			assertEquals(expected.triangles().vertex0(t), actual.triangles()
+				.vertex0(t));
+			assertEquals(expected.triangles().vertex1(t), actual.triangles()
+				.vertex1(t));
+			assertEquals(expected.triangles().vertex2(t), actual.triangles()
+				.vertex2(t));
+		}
+	}
+
 	private Mesh sampleMesh(final PLYMeshIO meshIO) throws URISyntaxException,
 		IOException
 	{
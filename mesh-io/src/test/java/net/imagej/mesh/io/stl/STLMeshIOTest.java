@@ -34,13 +34,17 @@
 import static net.imagej.mesh.io.stl.STLMeshIO.FACET_BYTES;
 import static net.imagej.mesh.io.stl.STLMeshIO.HEADER;
 import static net.imagej.mesh.io.stl.STLMeshIO.HEADER_BYTES;
+import static net.imagej.mesh.io.stl.STLMeshIO.FACET_START;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 
 import com.google.common.base.Strings;
 
+import java.io.File;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.file.Files;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
@@ -182,6 +186,39 @@ public void testReadFacets() throws Exception {
 		assertTriangle(facet1, triangles.next());
 	}
 
+	@Test
+	public void testSaveOpen() throws Exception {
+		// NB: More facets than fit in one streaming chunk.
+		final Mesh mesh = new NaiveFloatMesh();
+		for (int i = 0; i < 5000; i++) {
+			mesh.triangles().addf( //
+				i, 0, 0, //
+				i, 1, 0, //
+				i, 0, 1, //
+				1, 0, 0);
+		}
+
+		final STLMeshIO meshIO = new STLMeshIO();
+		final File file = File.createTempFile("STLMeshIOTest", ".stl");
+		file.deleteOnExit();
+		meshIO.save(mesh, file.getPath());
+
+		assertEquals(FACET_START + 5000 * FACET_BYTES, file.length());
+		assertArrayEquals(meshIO.write(mesh), Files.readAllBytes(file.toPath()));
+
+		final Mesh opened = meshIO.open(file.getPath());
+		assertEquals(5000, opened.triangles().size());
+		final Iterator<Triangle> expected = mesh.triangles().iterator();
+		for (final Triangle actual : opened.triangles()) {
+			final Triangle t = expected.next();
+			assertTriangle(Arrays.asList( //
+				new float[] { t.nxf(), t.nyf(), t.nzf() }, //
+				new float[] { t.v0xf(), t.v0yf(), t.v0zf() }, //
+				new float[] { t.v1xf(), t.v1yf(), t.v1zf() }, //
+				new float[] { t.v2xf(), t.v2yf(), t.v2zf() }), actual);
+		}
+	}
+
 	// -- Helper methods --
 
 	private static void assertTriangle(final List<float[]> expected,
@@ -30,6 +30,7 @@
 
 package net.imagej.mesh;
 
+import net.imagej.mesh.nio.BufferMesh;
 import net.imglib2.RandomAccessibleInterval;
 import net.imglib2.RealPoint;
 import net.imglib2.type.BooleanType;
@@ -236,6 +237,21 @@ public static Mesh removeDuplicateVertices(Mesh mesh, int precision) {
         return RemoveDuplicateVertices.calculate(mesh, precision);
     }
 
+    /**
+     * Merges the vertices of a mesh in place, treating vertices whose positions
+     * agree to the given number of decimal digits as one. Each group of such
+     * vertices is replaced by its first member, including its normal and uv
+     * coordinates; the remaining vertices keep their order and the triangles
+     * are remapped accordingly.
+     *
+     * @param mesh Mesh to weld
+     * @param precision decimal digits to take into account when comparing mesh vertices
+     * @return the number of vertices after welding
+     */
+    public static int weldVertices(BufferMesh mesh, int precision) {
+        return WeldVertices.calculate(mesh, precision);
+    }
+
     /**
      * Creates mesh e.g. from IterableRegion by using the marching cubes algorithm.
      *
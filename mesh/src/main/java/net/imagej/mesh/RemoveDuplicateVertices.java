@@ -31,11 +31,8 @@
 package net.imagej.mesh;
 
 import net.imagej.mesh.nio.BufferMesh;
-import net.imglib2.RealLocalizable;
-import net.imglib2.RealPoint;
 
-import java.util.LinkedHashMap;
-import java.util.Map;
+import java.util.Arrays;
 
 /**
  * @author Deborah Schmidt
@@ -43,64 +40,41 @@
 class RemoveDuplicateVertices {
 
 	static Mesh calculate(Mesh mesh, int precision) {
-		Map<String, IndexedVertex> vertices = new LinkedHashMap<>();
-		int[][] triangles = new int[(int) mesh.triangles().size()][3];
+		final int[] representatives = WeldVertices.representatives(mesh, precision);
 
-		int trianglesCount = 0;
-		for (net.imagej.mesh.Triangle triangle : mesh.triangles()) {
-			RealPoint p1 = new RealPoint(triangle.v0x(), triangle.v0y(), triangle.v0z());
-			RealPoint p2 = new RealPoint(triangle.v1x(), triangle.v1y(), triangle.v1z());
-			RealPoint p3 = new RealPoint(triangle.v2x(), triangle.v2y(), triangle.v2z());
-			triangles[trianglesCount][0] = getVertex(vertices, p1, precision);
-			triangles[trianglesCount][1] = getVertex(vertices, p2, precision);
-			triangles[trianglesCount][2] = getVertex(vertices, p3, precision);
-			trianglesCount++;
+		// number the vertices in the order the triangles first use them
+		final int[] newIndices = new int[representatives.length];
+		Arrays.fill(newIndices, -1);
+		final int[] sources = new int[representatives.length];
+		final int[] triangles = new int[3 * (int) mesh.triangles().size()];
+		int verticesCount = 0;
+		int i = 0;
+		for (long t = 0; t < mesh.triangles().size(); t++) {
+			for (int k = 0; k < 3; k++) {
+				final long v = k == 0 ? mesh.triangles().vertex0(t) : k == 1 ? mesh
+					.triangles().vertex1(t) : mesh.triangles().vertex2(t);
+				final int r = representatives[(int) v];
+				if (newIndices[r] < 0) {
+					sources[verticesCount] = (int) v;
+					newIndices[r] = verticesCount++;
+				}
+				triangles[i++] = newIndices[r];
+			}
 		}
-		Mesh res = new BufferMesh(vertices.size(), triangles.length);
-		vertices.values().forEach(vertex -> {
-			res.vertices().add(vertex.point.getFloatPosition(0), vertex.point.getFloatPosition(1), vertex.point.getFloatPosition(2));
-		});
 
-		for (int[] triangle : triangles) {
-			res.triangles().add(triangle[0], triangle[1], triangle[2]);
+		Mesh res = new BufferMesh(verticesCount, triangles.length / 3);
+		final double factor = Math.pow(10, precision);
+		for (int v = 0; v < verticesCount; v++) {
+			res.vertices().add( //
+				Math.round(mesh.vertices().x(sources[v]) * factor) / factor, //
+				Math.round(mesh.vertices().y(sources[v]) * factor) / factor, //
+				Math.round(mesh.vertices().z(sources[v]) * factor) / factor);
 		}
-		return res;
-	}
-
-	private static int getVertex(Map<String, IndexedVertex> vertices, RealPoint point, int precision) {
-		String hash = getHash(point, precision);
-		IndexedVertex vertex = vertices.get(hash);
-		if (vertex == null) return createVertex(vertices, hash, point, precision);
-		return vertex.index;
-	}
-
-	private static int createVertex(Map<String, IndexedVertex> vertices, String hash, RealPoint point, int precision) {
-		int index = vertices.size();
-		IndexedVertex vertex = new IndexedVertex(point, index, precision);
-		vertices.put(hash, vertex);
-		return index;
-	}
 
-	private static String getHash(RealPoint point, int precision) {
-		int factor = (int) Math.pow(10, precision);
-		return Math.round(point.getFloatPosition(0) * factor) + "-" + Math.round(point.getFloatPosition(1) * factor) + "-" + Math.round(point.getFloatPosition(2) * factor);
-	}
-
-	private static class IndexedVertex {
-
-		int index;
-		RealLocalizable point;
-
-		IndexedVertex(RealLocalizable pos, int index, int precision) {
-			double[] newpos = new double[pos.numDimensions()];
-			double factor = Math.pow(10, precision);
-			for (int i = 0; i < newpos.length; i++) {
-				newpos[i] = Math.round(pos.getDoublePosition(i) * factor) / factor;
-			}
-			this.point = new RealPoint(newpos);
-			this.index = index;
+		for (int t = 0; t < triangles.length; t += 3) {
+			res.triangles().add(triangles[t], triangles[t + 1], triangles[t + 2]);
 		}
-
+		return res;
 	}
 
 }
@@ -0,0 +1,174 @@
+/*-
+ * #%L
+ * 3D mesh structures for ImageJ.
+ * %%
+ * Copyright (C) 2016 - 2020 University of Idaho, Royal Veterinary College, and
+ * Board of Regents of the University of Wisconsin-Madison.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.mesh;
+
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.IntStream;
+
+import net.imagej.mesh.nio.BufferMesh;
+
+/**
+ * Merges vertices with the same position, rounded to a number of decimal
+ * digits.
+ * <p>
+ * The rounded coordinates are kept as ints and hashed into a primitive open
+ * addressing table shared by all threads; each group of equal vertices is
+ * represented by its lowest index, so the result does not depend on the
+ * order in which the threads insert.
+ * </p>
+ */
+class WeldVertices {
+
+	private static final int EMPTY = -1;
+
+	/**
+	 * Merges the vertices of a {@link BufferMesh} in place. Each group of equal
+	 * vertices is replaced by its first member, keeping its attributes; the
+	 * remaining vertices are moved to the front in their original order and the
+	 * triangle indices are remapped.
+	 *
+	 * @return the number of vertices after welding
+	 */
+	static int calculate(final BufferMesh mesh, final int precision) {
+		final int n = (int) mesh.vertices().size();
+		final int[] representatives = representatives(mesh, precision);
+
+		final int[] newIndices = new int[n];
+		int count = 0;
+		for (int v = 0; v < n; v++) {
+			newIndices[v] = representatives[v] == v ? count++
+				: newIndices[representatives[v]];
+		}
+
+		// new indices never exceed old ones, so moving forward is safe
+		final FloatBuffer verts = mesh.vertices().verts();
+		final FloatBuffer normals = mesh.vertices().normals();
+		final FloatBuffer texCoords = mesh.vertices().texCoords();
+		for (int v = 0; v < n; v++) {
+			final int to = newIndices[v];
+			if (representatives[v] != v || to == v) continue;
+			for (int d = 0; d < 3; d++) {
+				verts.put(3 * to + d, verts.get(3 * v + d));
+				normals.put(3 * to + d, normals.get(3 * v + d));
+			}
+			for (int d = 0; d < 2; d++) {
+				texCoords.put(2 * to + d, texCoords.get(2 * v + d));
+			}
+		}
+		verts.limit(3 * count);
+		normals.limit(3 * count);
+		texCoords.limit(2 * count);
+
+		final IntBuffer indices = mesh.triangles().indices();
+		IntStream.range(0, indices.limit()).parallel().forEach(i -> indices.put(i,
+			newIndices[indices.get(i)]));
+		return count;
+	}
+
+	/**
+	 * Finds for each vertex the lowest index of a vertex with the same rounded
+	 * position.
+	 */
+	static int[] representatives(final Mesh mesh, final int precision) {
+		final int n = (int) mesh.vertices().size();
+		final int[] keys = keys(mesh, precision);
+
+		int capacity = 2;
+		while (capacity < 2 * n) {
+			capacity <<= 1;
+		}
+		final int mask = capacity - 1;
+		final AtomicIntegerArray table = new AtomicIntegerArray(capacity);
+		for (int i = 0; i < capacity; i++) {
+			table.set(i, EMPTY);
+		}
+
+		IntStream.range(0, n).parallel().forEach(v -> {
+			int slot = hash(keys, v) & mask;
+			while (true) {
+				final int current = table.get(slot);
+				if (current == EMPTY) {
+					if (table.compareAndSet(slot, EMPTY, v)) return;
+					continue;
+				}
+				if (sameKey(keys, current, v)) {
+					// only equal vertices ever replace each other, keep the lowest
+					if (v > current || table.compareAndSet(slot, current, v)) return;
+					continue;
+				}
+				slot = (slot + 1) & mask;
+			}
+		});
+
+		final int[] representatives = new int[n];
+		IntStream.range(0, n).parallel().forEach(v -> {
+			int slot = hash(keys, v) & mask;
+			while (!sameKey(keys, table.get(slot), v)) {
+				slot = (slot + 1) & mask;
+			}
+			representatives[v] = table.get(slot);
+		});
+		return representatives;
+	}
+
+	/**
+	 * Rounds the vertex positions, the same way
+	 * {@link Meshes#removeDuplicateVertices} always has.
+	 */
+	private static int[] keys(final Mesh mesh, final int precision) {
+		final Vertices vertices = mesh.vertices();
+		final int n = (int) vertices.size();
+		final int factor = (int) Math.pow(10, precision);
+		final int[] keys = new int[3 * n];
+		IntStream.range(0, n).parallel().forEach(v -> {
+			keys[3 * v] = Math.round(vertices.xf(v) * factor);
+			keys[3 * v + 1] = Math.round(vertices.yf(v) * factor);
+			keys[3 * v + 2] = Math.round(vertices.zf(v) * factor);
+		});
+		return keys;
+	}
+
+	private static int hash(final int[] keys, final int v) {
+		int h = keys[3 * v];
+		h = 31 * h + keys[3 * v + 1];
+		h = 31 * h + keys[3 * v + 2];
+		// spread the bits, neighboring positions differ in the low bits only
+		h *= 0x9E3779B9;
+		return h ^ (h >>> 16);
+	}
+
+	private static boolean sameKey(final int[] keys, final int a, final int b) {
+		return keys[3 * a] == keys[3 * b] && keys[3 * a + 1] == keys[3 * b + 1] &&
+			keys[3 * a + 2] == keys[3 * b + 2];
+	}
+}
@@ -31,6 +31,7 @@
 
 import io.scif.img.IO;
 import net.imagej.mesh.naive.NaiveDoubleMesh;
+import net.imagej.mesh.nio.BufferMesh;
 import net.imglib2.Point;
 import net.imglib2.RandomAccess;
 import net.imglib2.RandomAccessibleInterval;
@@ -97,6 +98,31 @@ public void testRemoveDuplicateVertices() {
 		assertEquals(6, res.vertices().size());
 	}
 
+	@Test
+	public void testWeldVertices() {
+		BufferMesh mesh = new BufferMesh(6, 2);
+		Meshes.copy(createMeshWithNoise(), mesh);
+
+		assertEquals(4, Meshes.weldVertices(mesh, 2));
+		assertEquals(4, mesh.vertices().size());
+		assertEquals(2, mesh.triangles().size());
+
+		// the first vertex of each group is kept as is
+		assertEquals(p2.getDoublePosition(0) + 0.004, mesh.vertices().x(1), 1e-6);
+		assertEquals(p4.getDoublePosition(0) + 0.004, mesh.vertices().x(3), 1e-6);
+
+		assertEquals(0, mesh.triangles().vertex0(0));
+		assertEquals(1, mesh.triangles().vertex1(0));
+		assertEquals(2, mesh.triangles().vertex2(0));
+		assertEquals(1, mesh.triangles().vertex0(1));
+		assertEquals(3, mesh.triangles().vertex1(1));
+		assertEquals(2, mesh.triangles().vertex2(1));
+
+		mesh = new BufferMesh(6, 2);
+		Meshes.copy(createMeshWithNoise(), mesh);
+		assertEquals(6, Meshes.weldVertices(mesh, 3));
+	}
+
 	@Test
 	public void testMarchingCubesBooleanType() {
 		LabelRegion<String> ROI = createLabelRegion(getTestImage3D(), 1, 255);
@@ -0,0 +1,35 @@
+/*
+ * JMH benchmarks for the ImageJ Ops hot paths.
+ */
+
+plugins {
+    java
+}
+
+dependencies {
+    implementation(project(":ops"))
+    implementation("net.imglib2:imglib2:5.9.0")
+    implementation("net.imglib2:imglib2-algorithm:0.11.2")
+    implementation("org.scijava:scijava-common:2.83.1")
+    implementation("org.openjdk.jmh:jmh-core:1.23")
+    annotationProcessor("org.openjdk.jmh:jmh-generator-annprocess:1.23")
+}
+
+version = "0.45.8-SNAPSHOT"
+description = "ImageJ Ops Benchmarks"
+
+// Runs the benchmarks and writes the results as JSON, so that they can be
+// compared between releases. Pass -Pjmh.include=<regex> to select benchmarks
+// and -Pjmh.args="..." for any further JMH options.
+tasks.register<JavaExec>("jmh") {
+    group = "verification"
+    description = "Runs the JMH benchmarks and writes build/reports/jmh/results.json."
+    dependsOn(tasks.classes)
+    classpath = sourceSets.main.get().runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+    val results = layout.buildDirectory.file("reports/jmh/results.json").get().asFile
+    doFirst { results.parentFile.mkdirs() }
+    args("-rf", "json", "-rff", results.absolutePath)
+    project.findProperty("jmh.args")?.let { args(it.toString().split(" ").filter { a -> a.isNotEmpty() }) }
+    project.findProperty("jmh.include")?.let { args(it.toString()) }
+}
@@ -0,0 +1,72 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2020 ImageJ developers.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.benchmarks;
+
+import net.imglib2.img.Img;
+import net.imglib2.type.numeric.RealType;
+
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * Base class of the benchmarks which run over an input image of several sizes
+ * and pixel types. The sizes are given as {@code x}-separated dimensions and
+ * can be overridden from the command line, e.g. {@code -p dims=512x512}.
+ */
+public abstract class AbstractImageBenchmark extends AbstractOpsBenchmark {
+
+	@Param({ "256x256", "1024x1024", "128x128x64" })
+	public String dims;
+
+	@Param({ "UINT8", "FLOAT32" })
+	public PixelType type;
+
+	/** The input image, filled with {@link PixelType#createBlobs}. */
+	protected Img<? extends RealType<?>> in;
+
+	@Override
+	protected void setUpInputs() {
+		in = type.createBlobs(0xdeadbeefL, dimensions());
+		setUpOps();
+	}
+
+	/** Creates the outputs and matches the ops of the benchmark. */
+	protected abstract void setUpOps();
+
+	/** Parses the {@link #dims} parameter. */
+	protected long[] dimensions() {
+		final String[] tokens = dims.split("x");
+		final long[] result = new long[tokens.length];
+		for (int d = 0; d < tokens.length; d++) {
+			result[d] = Long.parseLong(tokens[d].trim());
+		}
+		return result;
+	}
+
+}
@@ -0,0 +1,68 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2020 ImageJ developers.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.benchmarks;
+
+import net.imagej.ops.filter.convolve.PadAndConvolveFFTF;
+import net.imagej.ops.special.function.BinaryFunctionOp;
+import net.imagej.ops.special.function.Functions;
+import net.imglib2.RandomAccessibleInterval;
+import net.imglib2.type.numeric.real.FloatType;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * Measures FFT convolution with a Gaussian kernel, including the padding of
+ * the input and the forward and inverse transforms.
+ */
+public class ConvolveBenchmark extends AbstractImageBenchmark {
+
+	@Param({ "2", "8" })
+	public double sigma;
+
+	private RandomAccessibleInterval<FloatType> kernel;
+
+	private BinaryFunctionOp<RandomAccessibleInterval<?>, RandomAccessibleInterval<FloatType>, RandomAccessibleInterval<?>> convolve;
+
+	@Override
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	protected void setUpOps() {
+		kernel = ops.create().kernelGauss(sigma, in.numDimensions(),
+			new FloatType());
+		convolve = (BinaryFunctionOp) Functions.binary(ops,
+			PadAndConvolveFFTF.class, RandomAccessibleInterval.class, in, kernel);
+	}
+
+	@Benchmark
+	public Object convolveFFT() {
+		return convolve.calculate(in, kernel);
+	}
+
+}
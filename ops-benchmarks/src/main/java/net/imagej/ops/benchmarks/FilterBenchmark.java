@@ -0,0 +1,88 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2020 ImageJ developers.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.benchmarks;
+
+import net.imagej.ops.Ops;
+import net.imagej.ops.special.computer.Computers;
+import net.imagej.ops.special.computer.UnaryComputerOp;
+import net.imglib2.algorithm.neighborhood.RectangleShape;
+import net.imglib2.img.Img;
+import net.imglib2.type.numeric.RealType;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * Measures the median, mean and Gaussian filters. The neighborhood filters use
+ * a {@link RectangleShape} of the given radius, the Gaussian filter uses the
+ * radius as its sigma.
+ */
+public class FilterBenchmark extends AbstractImageBenchmark {
+
+	@Param({ "1", "3" })
+	public int radius;
+
+	private Img<? extends RealType<?>> out;
+
+	private UnaryComputerOp<Img<?>, Img<?>> median;
+
+	private UnaryComputerOp<Img<?>, Img<?>> mean;
+
+	private UnaryComputerOp<Img<?>, Img<?>> gauss;
+
+	@Override
+	protected void setUpOps() {
+		out = in.factory().create(in);
+		final RectangleShape shape = new RectangleShape(radius, false);
+		median = Computers.unary(ops, Ops.Filter.Median.class, out, in, shape);
+		mean = Computers.unary(ops, Ops.Filter.Mean.class, out, in, shape);
+		gauss = Computers.unary(ops, Ops.Filter.Gauss.class, out, in,
+			(double) radius);
+	}
+
+	@Benchmark
+	public Object median() {
+		median.compute(in, out);
+		return out;
+	}
+
+	@Benchmark
+	public Object mean() {
+		mean.compute(in, out);
+		return out;
+	}
+
+	@Benchmark
+	public Object gauss() {
+		gauss.compute(in, out);
+		return out;
+	}
+
+}
@@ -0,0 +1,92 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2020 ImageJ developers.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.benchmarks;
+
+import net.imagej.ops.Ops;
+import net.imagej.ops.special.computer.Computers;
+import net.imagej.ops.special.computer.UnaryComputerOp;
+import net.imglib2.algorithm.labeling.ConnectedComponents.StructuringElement;
+import net.imglib2.img.Img;
+import net.imglib2.img.array.ArrayImgs;
+import net.imglib2.roi.labeling.ImgLabeling;
+import net.imglib2.type.logic.BitType;
+import net.imglib2.type.numeric.integer.IntType;
+import net.imglib2.type.numeric.real.FloatType;
+
+import org.openjdk.jmh.annotations.Benchmark;
+
+/**
+ * Measures the connected component analysis and the distance transform of the
+ * Otsu-thresholded input image.
+ */
+public class LabelingBenchmark extends AbstractImageBenchmark {
+
+	private Img<BitType> mask;
+
+	private Img<IntType> indices;
+
+	private Img<FloatType> distances;
+
+	private UnaryComputerOp<Img<BitType>, Img<IntType>> ccaIndex;
+
+	private UnaryComputerOp<Img<BitType>, Img<FloatType>> distanceTransform;
+
+	@Override
+	protected void setUpOps() {
+		final long[] dims = dimensions();
+		mask = ArrayImgs.bits(dims);
+		ops.run(Ops.Threshold.Otsu.class, mask, in);
+		indices = ArrayImgs.ints(dims);
+		distances = ArrayImgs.floats(dims);
+		final int neighbors = (int) Math.pow(3, dims.length) - 1;
+		ccaIndex = Computers.unary(ops, Ops.Labeling.CCA.class, indices, mask,
+			neighbors);
+		distanceTransform = Computers.unary(ops, Ops.Image.DistanceTransform.class,
+			distances, mask);
+	}
+
+	@Benchmark
+	public ImgLabeling<Integer, IntType> ccaLabeling() {
+		return ops.labeling().cca(mask, StructuringElement.EIGHT_CONNECTED);
+	}
+
+	@Benchmark
+	public Object ccaIndex() {
+		ccaIndex.compute(mask, indices);
+		return indices;
+	}
+
+	@Benchmark
+	public Object distanceTransform() {
+		distanceTransform.compute(mask, distances);
+		return distances;
+	}
+
+}
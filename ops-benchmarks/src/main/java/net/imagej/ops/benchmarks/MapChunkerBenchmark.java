@@ -0,0 +1,133 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2020 ImageJ developers.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.benchmarks;
+
+import net.imagej.ops.Ops;
+import net.imagej.ops.map.MapUnaryComputers;
+import net.imagej.ops.special.computer.Computers;
+import net.imagej.ops.special.computer.UnaryComputerOp;
+import net.imagej.ops.thread.chunker.ChunkerInterleaved;
+import net.imagej.ops.thread.chunker.CursorBasedChunk;
+import net.imagej.ops.thread.chunker.DefaultChunker;
+import net.imagej.ops.thread.chunker.WorkStealingChunker;
+import net.imglib2.Cursor;
+import net.imglib2.IterableInterval;
+import net.imglib2.img.Img;
+import net.imglib2.type.numeric.RealType;
+
+import org.openjdk.jmh.annotations.Benchmark;
+
+/**
+ * Measures the throughput of the map ops and of the chunkers which they and
+ * many other ops are built on.
+ */
+public class MapChunkerBenchmark extends AbstractImageBenchmark {
+
+	private Img<? extends RealType<?>> out;
+
+	private UnaryComputerOp<Img<?>, Img<?>> map;
+
+	private UnaryComputerOp<Img<?>, Img<?>> mapParallel;
+
+	@Override
+	protected void setUpOps() {
+		out = in.factory().create(in);
+		final Class<?> elementType = in.firstElement().getClass();
+		final UnaryComputerOp<?, ?> sqr = Computers.unary(ops, Ops.Math.Sqr.class,
+			elementType, elementType);
+		map = Computers.unary(ops, MapUnaryComputers.IIToII.class, out, in, sqr);
+		mapParallel = Computers.unary(ops, MapUnaryComputers.IIToIIParallel.class,
+			out, in, sqr);
+	}
+
+	@Benchmark
+	public Object map() {
+		map.compute(in, out);
+		return out;
+	}
+
+	@Benchmark
+	public Object mapParallel() {
+		mapParallel.compute(in, out);
+		return out;
+	}
+
+	@Benchmark
+	public Object defaultChunker() {
+		ops.run(DefaultChunker.class, new SquareChunk(in, out), in.size());
+		return out;
+	}
+
+	@Benchmark
+	public Object interleavedChunker() {
+		ops.run(ChunkerInterleaved.class, new SquareChunk(in, out), in.size());
+		return out;
+	}
+
+	@Benchmark
+	public Object workStealingChunker() {
+		ops.run(WorkStealingChunker.class, new SquareChunk(in, out), in.size());
+		return out;
+	}
+
+	// -- Helper classes --
+
+	/** Squares the elements of one chunk by iterating two cursors. */
+	private static class SquareChunk extends CursorBasedChunk {
+
+		private final IterableInterval<? extends RealType<?>> in;
+
+		private final IterableInterval<? extends RealType<?>> out;
+
+		public SquareChunk(final IterableInterval<? extends RealType<?>> in,
+			final IterableInterval<? extends RealType<?>> out)
+		{
+			this.in = in;
+			this.out = out;
+		}
+
+		@Override
+		public void execute(final long startIndex, final long stepSize,
+			final long numSteps)
+		{
+			final Cursor<? extends RealType<?>> inCursor = in.cursor();
+			final Cursor<? extends RealType<?>> outCursor = out.cursor();
+			setToStart(inCursor, startIndex);
+			setToStart(outCursor, startIndex);
+			for (long i = 0; i < numSteps; i++) {
+				final double value = inCursor.get().getRealDouble();
+				outCursor.get().setReal(value * value);
+				inCursor.jumpFwd(stepSize);
+				outCursor.jumpFwd(stepSize);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,97 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2020 ImageJ developers.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import net.imagej.ops.Op;
+import net.imagej.ops.Ops;
+import net.imglib2.algorithm.neighborhood.RectangleShape;
+import net.imglib2.img.Img;
+import net.imglib2.img.array.ArrayImgs;
+import net.imglib2.type.numeric.integer.UnsignedByteType;
+import net.imglib2.type.numeric.real.DoubleType;
+import net.imglib2.type.numeric.real.FloatType;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+/**
+ * Measures how long the op matcher takes to find the op for typical requests,
+ * i.e. the overhead paid by every call through a namespace or
+ * {@code ops.run}.
+ */
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OpMatchingBenchmark extends AbstractOpsBenchmark {
+
+	private Img<UnsignedByteType> bytes;
+
+	private Img<FloatType> floats;
+
+	private RectangleShape shape;
+
+	@Override
+	protected void setUpInputs() {
+		bytes = ArrayImgs.unsignedBytes(64, 64);
+		floats = ArrayImgs.floats(64, 64);
+		shape = new RectangleShape(1, false);
+	}
+
+	@Benchmark
+	public Op matchAddImages() {
+		return ops.op(Ops.Math.Add.class, bytes, bytes, bytes);
+	}
+
+	@Benchmark
+	public Op matchAddConstant() {
+		return ops.op(Ops.Math.Add.class, floats, floats, new FloatType(1));
+	}
+
+	@Benchmark
+	public Op matchMedianFilter() {
+		return ops.op(Ops.Filter.Median.class, floats, bytes, shape);
+	}
+
+	@Benchmark
+	public Op matchGauss() {
+		return ops.op(Ops.Filter.Gauss.class, floats, bytes, 2.0);
+	}
+
+	@Benchmark
+	public Op matchOtsu() {
+		return ops.op(Ops.Threshold.Otsu.class, bytes);
+	}
+
+	@Benchmark
+	public Op matchStatsMean() {
+		return ops.op(Ops.Stats.Mean.class, DoubleType.class, floats);
+	}
+
+}
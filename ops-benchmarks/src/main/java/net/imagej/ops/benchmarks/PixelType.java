@@ -0,0 +1,87 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2020 ImageJ developers.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.benchmarks;
+
+import java.util.Random;
+
+import net.imglib2.Cursor;
+import net.imglib2.img.Img;
+import net.imglib2.img.array.ArrayImgFactory;
+import net.imglib2.type.NativeType;
+import net.imglib2.type.numeric.RealType;
+import net.imglib2.type.numeric.integer.UnsignedByteType;
+import net.imglib2.type.numeric.integer.UnsignedShortType;
+import net.imglib2.type.numeric.real.DoubleType;
+import net.imglib2.type.numeric.real.FloatType;
+
+/**
+ * The pixel types the image benchmarks run over.
+ */
+public enum PixelType {
+
+		UINT8(new UnsignedByteType()), UINT16(new UnsignedShortType()), FLOAT32(
+			new FloatType()), FLOAT64(new DoubleType());
+
+	private final NativeType<?> type;
+
+	private PixelType(final NativeType<?> type) {
+		this.type = type;
+	}
+
+	/** Creates an empty image of this type. */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	public Img<? extends RealType<?>> create(final long... dims) {
+		return new ArrayImgFactory(type).create(dims);
+	}
+
+	/**
+	 * Creates an image of this type filled with smooth blobs plus noise in the
+	 * range [0, 255], so that thresholds and components are meaningful. The
+	 * content only depends on the dimensions and the seed.
+	 */
+	public Img<? extends RealType<?>> createBlobs(final long seed,
+		final long... dims)
+	{
+		final Img<? extends RealType<?>> img = create(dims);
+		final Random random = new Random(seed);
+		final Cursor<? extends RealType<?>> c = img.localizingCursor();
+		while (c.hasNext()) {
+			c.fwd();
+			double v = 1;
+			for (int d = 0; d < c.numDimensions(); d++) {
+				v *= Math.sin(c.getDoublePosition(d) / (11 + 6 * d));
+			}
+			final double value = 128 + 100 * v + 20 * random.nextGaussian();
+			c.get().setReal(Math.max(0, Math.min(255, value)));
+		}
+		return img;
+	}
+
+}
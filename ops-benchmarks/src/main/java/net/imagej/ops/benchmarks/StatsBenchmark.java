@@ -0,0 +1,91 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2020 ImageJ developers.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.benchmarks;
+
+import net.imagej.ops.Ops;
+import net.imagej.ops.special.computer.Computers;
+import net.imagej.ops.special.computer.UnaryComputerOp;
+import net.imagej.ops.special.function.Functions;
+import net.imagej.ops.special.function.UnaryFunctionOp;
+import net.imglib2.img.Img;
+import net.imglib2.type.numeric.real.DoubleType;
+import net.imglib2.util.Pair;
+
+import org.openjdk.jmh.annotations.Benchmark;
+
+/**
+ * Measures the common descriptive statistics of an image.
+ */
+public class StatsBenchmark extends AbstractImageBenchmark {
+
+	private final DoubleType out = new DoubleType();
+
+	private UnaryComputerOp<Img<?>, DoubleType> mean;
+
+	private UnaryComputerOp<Img<?>, DoubleType> median;
+
+	private UnaryComputerOp<Img<?>, DoubleType> stdDev;
+
+	private UnaryFunctionOp<Img<?>, Pair<?, ?>> minMax;
+
+	@Override
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	protected void setUpOps() {
+		mean = Computers.unary(ops, Ops.Stats.Mean.class, out, in);
+		median = Computers.unary(ops, Ops.Stats.Median.class, out, in);
+		stdDev = Computers.unary(ops, Ops.Stats.StdDev.class, out, in);
+		minMax = (UnaryFunctionOp) Functions.unary(ops, Ops.Stats.MinMax.class,
+			Pair.class, in);
+	}
+
+	@Benchmark
+	public double mean() {
+		mean.compute(in, out);
+		return out.get();
+	}
+
+	@Benchmark
+	public double median() {
+		median.compute(in, out);
+		return out.get();
+	}
+
+	@Benchmark
+	public double stdDev() {
+		stdDev.compute(in, out);
+		return out.get();
+	}
+
+	@Benchmark
+	public Object minMax() {
+		return minMax.calculate(in);
+	}
+
+}
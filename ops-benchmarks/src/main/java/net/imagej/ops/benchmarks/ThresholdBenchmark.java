@@ -0,0 +1,81 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2020 ImageJ developers.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.benchmarks;
+
+import net.imagej.ops.Ops;
+import net.imagej.ops.special.computer.Computers;
+import net.imagej.ops.special.computer.UnaryComputerOp;
+import net.imglib2.img.Img;
+import net.imglib2.img.array.ArrayImgs;
+import net.imglib2.type.logic.BitType;
+
+import org.openjdk.jmh.annotations.Benchmark;
+
+/**
+ * Measures global thresholding of an image, i.e. building the histogram,
+ * computing the threshold and applying it.
+ */
+public class ThresholdBenchmark extends AbstractImageBenchmark {
+
+	private Img<BitType> out;
+
+	private UnaryComputerOp<Img<?>, Img<BitType>> otsu;
+
+	private UnaryComputerOp<Img<?>, Img<BitType>> huang;
+
+	private UnaryComputerOp<Img<?>, Img<BitType>> mean;
+
+	@Override
+	protected void setUpOps() {
+		out = ArrayImgs.bits(dimensions());
+		otsu = Computers.unary(ops, Ops.Threshold.Otsu.class, out, in);
+		huang = Computers.unary(ops, Ops.Threshold.Huang.class, out, in);
+		mean = Computers.unary(ops, Ops.Threshold.Mean.class, out, in);
+	}
+
+	@Benchmark
+	public Object otsu() {
+		otsu.compute(in, out);
+		return out;
+	}
+
+	@Benchmark
+	public Object huang() {
+		huang.compute(in, out);
+		return out;
+	}
+
+	@Benchmark
+	public Object mean() {
+		mean.compute(in, out);
+		return out;
+	}
+
+}
@@ -35,6 +35,10 @@
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Predicate;
 
 import net.imagej.ops.OpCandidate.StatusCode;
@@ -42,13 +46,16 @@
 import org.scijava.Context;
 import org.scijava.InstantiableException;
 import org.scijava.convert.ConvertService;
+import org.scijava.event.EventHandler;
 import org.scijava.log.LogService;
 import org.scijava.module.Module;
 import org.scijava.module.ModuleInfo;
 import org.scijava.module.ModuleItem;
 import org.scijava.module.ModuleService;
+import org.scijava.module.event.ModulesListEvent;
 import org.scijava.plugin.Parameter;
 import org.scijava.plugin.Plugin;
+import org.scijava.plugin.event.PluginsListEvent;
 import org.scijava.service.AbstractService;
 import org.scijava.service.Service;
 import org.scijava.util.ConversionUtils;
@@ -56,6 +63,13 @@
 
 /**
  * Default service for finding {@link Op}s which match a request.
+ * <p>
+ * The candidates of a request only depend on the names and types of its
+ * {@link OpRef}s and on the ops of the {@link OpEnvironment}, so they are
+ * cached per environment. The cache is cleared whenever plugins or modules are
+ * added or removed. Narrowing the candidates down to a match depends on the
+ * actual arguments and is done for every request.
+ * </p>
  * 
  * @author Curtis Rueden
  */
@@ -76,6 +90,48 @@ public class DefaultOpMatchingService extends AbstractService implements
 	@Parameter
 	private LogService log;
 
+	/** Cached candidates of each environment, keyed by the requested refs. */
+	private final Map<OpEnvironment, Map<List<Object>, List<CachedCandidate>>> candidateCache =
+		new WeakHashMap<>();
+
+	private final AtomicLong cacheHits = new AtomicLong();
+	private final AtomicLong cacheMisses = new AtomicLong();
+	private final AtomicLong matchCount = new AtomicLong();
+	private final AtomicLong matchNanos = new AtomicLong();
+
+	private OpMatchingMetrics metrics;
+
+	// -- DefaultOpMatchingService methods --
+
+	/** Sets a receiver of matching measurements, or {@code null} for none. */
+	public void setMetrics(final OpMatchingMetrics metrics) {
+		this.metrics = metrics;
+	}
+
+	/** Gets the fraction of candidate lookups which were served by the cache. */
+	public double getCacheHitRatio() {
+		final long hits = cacheHits.get();
+		final long total = hits + cacheMisses.get();
+		return total == 0 ? 0 : (double) hits / total;
+	}
+
+	/** Gets the number of matches searched so far. */
+	public long getMatchCount() {
+		return matchCount.get();
+	}
+
+	/** Gets the total time spent searching matches, in nanoseconds. */
+	public long getMatchNanos() {
+		return matchNanos.get();
+	}
+
+	/** Clears the cached candidates of all environments. */
+	public void clearCache() {
+		synchronized (candidateCache) {
+			candidateCache.clear();
+		}
+	}
+
 	// -- OpMatchingService methods --
 
 	@Override
@@ -87,14 +143,26 @@ public OpCandidate findMatch(final OpEnvironment ops, final OpRef ref) {
 	public OpCandidate findMatch(final OpEnvironment ops,
 		final List<OpRef> refs)
 	{
-		// find candidates with matching name & type
-		final List<OpCandidate> candidates = findCandidates(ops, refs);
-		assertCandidates(candidates, refs.get(0));
+		final long start = System.nanoTime();
+		OpCandidate match = null;
+		try {
+			// find candidates with matching name & type
+			final List<OpCandidate> candidates = findCandidates(ops, refs);
+			assertCandidates(candidates, refs.get(0));
 
-		// narrow down candidates to the exact matches
-		final List<OpCandidate> matches = filterMatches(candidates);
+			// narrow down candidates to the exact matches
+			final List<OpCandidate> matches = filterMatches(candidates);
 
-		return singleMatch(candidates, matches);
+			match = singleMatch(candidates, matches);
+			return match;
+		}
+		finally {
+			final long nanos = System.nanoTime() - start;
+			matchCount.incrementAndGet();
+			matchNanos.addAndGet(nanos);
+			final OpMatchingMetrics m = metrics;
+			if (m != null) m.matchFound(refs, match, nanos);
+		}
 	}
 
 	@Override
@@ -108,13 +176,33 @@ public List<OpCandidate> findCandidates(final OpEnvironment ops,
 	public List<OpCandidate> findCandidates(final OpEnvironment ops,
 		final List<OpRef> refs)
 	{
-		final ArrayList<OpCandidate> candidates = new ArrayList<>();
-		for (final OpInfo info : ops.infos()) {
-			for (final OpRef ref : refs) {
-				if (isCandidate(info, ref)) {
-					candidates.add(new OpCandidate(ops, ref, info));
+		final Map<List<Object>, List<CachedCandidate>> cache;
+		synchronized (candidateCache) {
+			cache = candidateCache.computeIfAbsent(ops,
+				env -> new ConcurrentHashMap<>());
+		}
+		final List<Object> key = cacheKey(refs);
+		List<CachedCandidate> cached = cache.get(key);
+		final boolean hit = cached != null;
+		if (hit) cacheHits.incrementAndGet();
+		else {
+			cacheMisses.incrementAndGet();
+			cached = new ArrayList<>();
+			for (final OpInfo info : ops.infos()) {
+				for (int i = 0; i < refs.size(); i++) {
+					if (isCandidate(info, refs.get(i))) {
+						cached.add(new CachedCandidate(info, i));
+					}
 				}
 			}
+			cache.put(key, cached);
+		}
+		final OpMatchingMetrics m = metrics;
+		if (m != null) m.candidatesFound(refs, hit);
+
+		final ArrayList<OpCandidate> candidates = new ArrayList<>(cached.size());
+		for (final CachedCandidate c : cached) {
+			candidates.add(new OpCandidate(ops, refs.get(c.ref), c.info));
 		}
 		return candidates;
 	}
@@ -205,8 +293,33 @@ public Object[] padArgs(final OpCandidate candidate) {
 		return paddedArgs;
 	}
 
+	// -- Event handlers --
+
+	@EventHandler
+	protected void onEvent(final PluginsListEvent evt) {
+		clearCache();
+	}
+
+	@EventHandler
+	protected void onEvent(final ModulesListEvent evt) {
+		clearCache();
+	}
+
 	// -- Helper methods --
 
+	/**
+	 * Gets the key of the cached candidates of the given refs: their names and
+	 * types, which are all that {@link #isCandidate} depends on.
+	 */
+	private List<Object> cacheKey(final List<OpRef> refs) {
+		final List<Object> key = new ArrayList<>(2 * refs.size());
+		for (final OpRef ref : refs) {
+			key.add(ref.getName());
+			key.add(new ArrayList<>(ref.getTypes()));
+		}
+		return key;
+	}
+
 	/** Helper method of {@link #findCandidates}. */
 	private boolean isCandidate(final OpInfo info, final OpRef ref) {
 		if (!info.nameMatches(ref.getName())) return false;
@@ -629,4 +742,18 @@ private boolean isMatchingClass(final Object arg, final Type type) {
 			type);
 	}
 
+	// -- Helper classes --
+
+	/** An op which matched the ref at the given index of a request. */
+	private static final class CachedCandidate {
+
+		private final OpInfo info;
+		private final int ref;
+
+		public CachedCandidate(final OpInfo info, final int ref) {
+			this.info = info;
+			this.ref = ref;
+		}
+	}
+
 }
@@ -74,6 +74,7 @@
 import net.imglib2.RandomAccessibleInterval;
 import net.imglib2.algorithm.neighborhood.Shape;
 import net.imglib2.type.Type;
+import net.imglib2.type.numeric.RealType;
 
 import org.scijava.Contextual;
 import org.scijava.module.Module;
@@ -337,6 +338,19 @@ default Object eval(final String expression, final Map<String, Object> vars) {
 		return result;
 	}
 
+	/** Executes the "eval" operation on the given arguments. */
+	@OpMethod(op = net.imagej.ops.eval.CompiledEval.class)
+	default <O extends RealType<O>> RandomAccessibleInterval<O> eval(
+		final RandomAccessibleInterval<O> out, final String expression,
+		final Map<String, Object> vars)
+	{
+		@SuppressWarnings("unchecked")
+		final RandomAccessibleInterval<O> result =
+			(RandomAccessibleInterval<O>) run(net.imagej.ops.Ops.Eval.class, out,
+				expression, vars);
+		return result;
+	}
+
 	/** Executes the "help" operation on the given arguments. */
 	@OpMethod(op = net.imagej.ops.help.HelpForOp.class)
 	default String help(final Op op) {
@@ -1630,6 +1630,18 @@ public interface MinimumFeretsDiameter extends Op {
 			String NAME = "geom.minimumFeretsDiameter";
 		}
 
+		/**
+		 * Base interface for "ferets" operations.
+		 * <p>
+		 * Implementing classes should be annotated with:
+		 * </p>
+		 *
+		 * {@code @Plugin(type = Ops.Geometric.Ferets.class)}
+		 */
+		public interface Ferets extends Op {
+			String NAME = "geom.ferets";
+		}
+
 		/**
 		 * Base interface for "mainElongation" operations.
 		 * <p>
@@ -1914,6 +1926,18 @@ public interface Entropy extends Op {
 			String NAME = "haralick.entropy";
 		}
 
+		/**
+		 * Base interface for "features" operations.
+		 * <p>
+		 * Implementing classes should be annotated with:
+		 * </p>
+		 *
+		 * {@code @Plugin(type = Ops.Haralick.Features.class)}
+		 */
+		public interface Features extends Op {
+			String NAME = "haralick.features";
+		}
+
 		/**
 		 * Base interface for "icm1" operations.
 		 * <p>
@@ -5010,6 +5034,18 @@ public interface Magnitude extends Op {
 			String NAME = "zernike.magnitude";
 		}
 
+		/**
+		 * Base interface for "moments" operations.
+		 * <p>
+		 * Implementing classes should be annotated with:
+		 * </p>
+		 *
+		 * {@code @Plugin(type = Ops.Zernike.Moments.class)}
+		 */
+		public interface Moments extends Op {
+			String NAME = "zernike.moments";
+		}
+
 		/**
 		 * Base interface for "phase" operations.
 		 * <p>
@@ -0,0 +1,272 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2020 ImageJ developers.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.cached;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import net.imglib2.IterableInterval;
+import net.imglib2.type.numeric.RealType;
+
+/**
+ * {@link OpCache} which holds at most a given number of bytes of results.
+ * <p>
+ * Entries are weighed with a {@link Weigher}; by default images are weighed by
+ * their pixel data and all other values by a small constant. When the total
+ * weight exceeds the budget, the least recently used entries are evicted.
+ * Evicted entries are only softly referenced afterwards, so they can still be
+ * returned until the garbage collector needs their memory.
+ * </p>
+ * <p>
+ * The cache counts hits, misses and evictions to allow tuning the budget.
+ * </p>
+ */
+public class BoundedOpCache implements OpCache {
+
+	/** Weight of values which are not images. */
+	public static final long DEFAULT_WEIGHT = 64;
+
+	/** Computes the approximate memory footprint of a cached value. */
+	public interface Weigher {
+
+		/** @return the weight of the given value in bytes */
+		long weigh(Object value);
+	}
+
+	/**
+	 * Weighs {@link IterableInterval}s of {@link RealType}s by the bits of their
+	 * pixels, and everything else by {@link #DEFAULT_WEIGHT}.
+	 */
+	public static final Weigher DEFAULT_WEIGHER = new Weigher() {
+
+		@Override
+		public long weigh(final Object value) {
+			if (value instanceof IterableInterval) {
+				final IterableInterval<?> ii = (IterableInterval<?>) value;
+				final Object type = ii.size() == 0 ? null : ii.firstElement();
+				if (type instanceof RealType) {
+					final long bits = ii.size() * ((RealType<?>) type)
+						.getBitsPerPixel();
+					return DEFAULT_WEIGHT + (bits + 7) / 8;
+				}
+			}
+			return DEFAULT_WEIGHT;
+		}
+	};
+
+	private final long maxWeight;
+	private final Weigher weigher;
+	private final boolean spill;
+
+	/** Strongly referenced entries, least recently used first. */
+	private final LinkedHashMap<Object, Entry> entries = new LinkedHashMap<>(16,
+		0.75f, true);
+
+	/** Evicted entries which have not been garbage collected yet. */
+	private final Map<Object, SoftEntry> spilled = new HashMap<>();
+	private final ReferenceQueue<Object> collected = new ReferenceQueue<>();
+
+	private long weight;
+	private long hits;
+	private long spillHits;
+	private long misses;
+	private long evictions;
+
+	/**
+	 * Creates a cache of the given budget using the {@link #DEFAULT_WEIGHER},
+	 * which spills evicted entries to soft references.
+	 */
+	public BoundedOpCache(final long maxBytes) {
+		this(maxBytes, DEFAULT_WEIGHER, true);
+	}
+
+	/**
+	 * @param maxBytes maximum total weight of the strongly referenced entries
+	 * @param weigher computes the weight of the entries
+	 * @param spill whether evicted entries are kept as soft references
+	 */
+	public BoundedOpCache(final long maxBytes, final Weigher weigher,
+		final boolean spill)
+	{
+		if (maxBytes < 0) {
+			throw new IllegalArgumentException("Negative cache budget: " + maxBytes);
+		}
+		this.maxWeight = maxBytes;
+		this.weigher = weigher;
+		this.spill = spill;
+	}
+
+	// -- OpCache methods --
+
+	@Override
+	public synchronized Object get(final Object key) {
+		final Entry entry = entries.get(key);
+		if (entry != null) {
+			hits++;
+			return entry.value;
+		}
+		final SoftEntry soft = spilled.remove(key);
+		final Object value = soft == null ? null : soft.get();
+		if (value == null) {
+			misses++;
+			return null;
+		}
+		spillHits++;
+		insert(key, value, soft.weight);
+		return value;
+	}
+
+	@Override
+	public synchronized void put(final Object key, final Object value) {
+		if (value == null) return;
+		spilled.remove(key);
+		final Entry old = entries.remove(key);
+		if (old != null) weight -= old.weight;
+		insert(key, value, weigher.weigh(value));
+	}
+
+	@Override
+	public synchronized void clear() {
+		entries.clear();
+		spilled.clear();
+		weight = 0;
+	}
+
+	// -- BoundedOpCache methods --
+
+	/** Gets the maximum total weight of the strongly referenced entries. */
+	public long getMaxWeight() {
+		return maxWeight;
+	}
+
+	/** Gets the total weight of the strongly referenced entries. */
+	public synchronized long getWeight() {
+		return weight;
+	}
+
+	/** Gets the number of strongly referenced entries. */
+	public synchronized int size() {
+		return entries.size();
+	}
+
+	/** Gets the number of lookups which found a value. */
+	public synchronized long getHits() {
+		return hits + spillHits;
+	}
+
+	/**
+	 * Gets the number of lookups which found a value that had been evicted, but
+	 * not yet garbage collected.
+	 */
+	public synchronized long getSpillHits() {
+		return spillHits;
+	}
+
+	/** Gets the number of lookups which did not find a value. */
+	public synchronized long getMisses() {
+		return misses;
+	}
+
+	/** Gets the number of entries which were evicted to stay within budget. */
+	public synchronized long getEvictions() {
+		return evictions;
+	}
+
+	/** Resets the hit, miss and eviction counters. */
+	public synchronized void resetStatistics() {
+		hits = spillHits = misses = evictions = 0;
+	}
+
+	// -- Helper methods --
+
+	private void insert(final Object key, final Object value, final long w) {
+		expunge();
+		if (w > maxWeight) {
+			// NB: Never displace the whole cache for a single entry.
+			evict(key, value, w);
+			return;
+		}
+		entries.put(key, new Entry(value, w));
+		weight += w;
+		final Iterator<Map.Entry<Object, Entry>> iter = entries.entrySet()
+			.iterator();
+		while (weight > maxWeight && iter.hasNext()) {
+			final Map.Entry<Object, Entry> eldest = iter.next();
+			iter.remove();
+			weight -= eldest.getValue().weight;
+			evict(eldest.getKey(), eldest.getValue().value, eldest.getValue().weight);
+		}
+	}
+
+	private void evict(final Object key, final Object value, final long w) {
+		evictions++;
+		if (spill) spilled.put(key, new SoftEntry(key, value, w, collected));
+	}
+
+	/** Removes the spilled entries whose values were garbage collected. */
+	private void expunge() {
+		for (Object ref; (ref = collected.poll()) != null;) {
+			final SoftEntry soft = (SoftEntry) ref;
+			if (spilled.get(soft.key) == soft) spilled.remove(soft.key);
+		}
+	}
+
+	// -- Helper classes --
+
+	private static final class Entry {
+
+		private final Object value;
+		private final long weight;
+
+		public Entry(final Object value, final long weight) {
+			this.value = value;
+			this.weight = weight;
+		}
+	}
+
+	private static final class SoftEntry extends SoftReference<Object> {
+
+		private final Object key;
+		private final long weight;
+
+		public SoftEntry(final Object key, final Object value, final long weight,
+			final ReferenceQueue<Object> queue)
+		{
+			super(value, queue);
+			this.key = key;
+			this.weight = weight;
+		}
+	}
+
+}
@@ -29,11 +29,14 @@
 
 package net.imagej.ops.cached;
 
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Objects;
+import java.util.Collections;
+import java.util.Set;
+import java.util.WeakHashMap;
 
 import net.imagej.ops.AbstractOp;
 import net.imagej.ops.CustomOpEnvironment;
@@ -43,6 +46,13 @@
 import net.imagej.ops.OpRef;
 import net.imagej.ops.special.function.UnaryFunctionOp;
 import net.imagej.ops.special.hybrid.UnaryHybridCF;
+import net.imglib2.Cursor;
+import net.imglib2.Interval;
+import net.imglib2.IterableInterval;
+import net.imglib2.RandomAccessibleInterval;
+import net.imglib2.type.numeric.RealType;
+import net.imglib2.util.Intervals;
+import net.imglib2.view.Views;
 
 import org.scijava.Priority;
 import org.scijava.cache.CacheService;
@@ -54,6 +64,15 @@
 
 /**
  * Creates {@link CachedFunctionOp}s which know how to cache their outputs.
+ * <p>
+ * By default, outputs are stored in the {@link CacheService}. A different
+ * storage policy, e.g. a {@link BoundedOpCache} with a memory budget, can be
+ * set via {@link #setCache(OpCache)}. Outputs are keyed by the op class, its
+ * other arguments and the input, which is compared by
+ * {@link Object#equals(Object)} and is not retained by the key. Optionally,
+ * images are keyed by a fingerprint of their content instead, see
+ * {@link #setContentKeys(boolean)}.
+ * </p>
  * 
  * @author Christian Dietz (University of Konstanz)
  */
@@ -63,6 +82,9 @@ public class CachedOpEnvironment extends CustomOpEnvironment {
 	private CacheService cs;
 	private Collection<Class<?>> ignoredOps;
 
+	private OpCache cache;
+	private boolean contentKeys;
+
 	public CachedOpEnvironment(final OpEnvironment parent) {
 		this(parent, null, new ArrayList<>());
 	}
@@ -113,6 +135,38 @@ else if (op instanceof UnaryFunctionOp) {
 		return cachedOp;
 	}
 
+	// -- CachedOpEnvironment methods --
+
+	/**
+	 * Gets the storage of the cached outputs. Unless set otherwise, this is a
+	 * view of the {@link CacheService}.
+	 */
+	public OpCache getCache() {
+		if (cache == null) cache = new ServiceCache(cs);
+		return cache;
+	}
+
+	/** Sets the storage of the cached outputs. */
+	public void setCache(final OpCache cache) {
+		this.cache = cache;
+	}
+
+	/** Gets whether images are keyed by their content. */
+	public boolean isContentKeys() {
+		return contentKeys;
+	}
+
+	/**
+	 * Sets whether {@link IterableInterval}s of {@link RealType}s are keyed by a
+	 * 64-bit fingerprint of their dimensions, type and values, instead of by
+	 * {@link Object#equals(Object)}. Then, repeating a computation on an
+	 * identical copy of an image hits the cache, at the cost of one pass over
+	 * the image per lookup.
+	 */
+	public void setContentKeys(final boolean contentKeys) {
+		this.contentKeys = contentKeys;
+	}
+
 	// -- Helper methods --
 
 	private <I, O> CachedFunctionOp<I, O> wrapUnaryFunction(
@@ -156,9 +210,6 @@ private Object[] otherArgs(final Op op, final int offset) {
 		UnaryFunctionOp<I, O>
 	{
 
-		@Parameter
-		private CacheService cache;
-
 		private final UnaryFunctionOp<I, O> delegate;
 
 		private final Object[] args;
@@ -173,14 +224,15 @@ public CachedFunctionOp(final UnaryFunctionOp<I, O> delegate,
 		@Override
 		public O calculate(final I input) {
 
-			final Hash hash = new Hash(input, delegate, args);
+			final Key key = new Key(input, delegate, args);
+			final OpCache cache = getCache();
 
 			@SuppressWarnings("unchecked")
-			O output = (O) cache.get(hash);
+			O output = (O) cache.get(key);
 
 			if (output == null) {
 				output = delegate.calculate(input);
-				cache.put(hash, output);
+				cache.put(key, output);
 			}
 			return output;
 		}
@@ -230,9 +282,6 @@ public CachedFunctionOp<I, O> getIndependentInstance() {
 		UnaryHybridCF<I, O>
 	{
 
-		@Parameter
-		private CacheService cache;
-
 		private final UnaryHybridCF<I, O> delegate;
 
 		private final Object[] args;
@@ -247,15 +296,16 @@ public CachedHybridOp(final UnaryHybridCF<I, O> delegate,
 
 		@Override
 		public O calculate(final I input) {
-			final Hash hash = new Hash(input, delegate, args);
+			final Key key = new Key(input, delegate, args);
+			final OpCache cache = getCache();
 
 			@SuppressWarnings("unchecked")
-			O output = (O) cache.get(hash);
+			O output = (O) cache.get(key);
 
 			if (output == null) {
 				output = createOutput(input);
 				compute(input, output);
-				cache.put(hash, output);
+				cache.put(key, output);
 			}
 			return output;
 		}
@@ -282,15 +332,25 @@ public CachedHybridOp<I, O> getIndependentInstance() {
 	}
 
 	/**
-	 * Simple utility class to wrap two objects and an array of objects in a
-	 * single object which combines their hashes.
+	 * Key of a cached output, combining the input, the class of the op and its
+	 * other arguments. The input is either weakly referenced, or replaced by a
+	 * {@link Fingerprint} of its content.
 	 */
-	private class Hash {
+	private class Key {
 
+		private final Object input;
+		private final Class<?> opClass;
+		private final Object[] args;
 		private final int hash;
 
-		public Hash(final Object o1, final Object o2, final Object[] args) {
-			hash = Objects.hash(o1, o2.getClass(), Arrays.hashCode(args));
+		public Key(final Object input, final Object op, final Object[] args) {
+			final Object in = contentKeys ? Fingerprint.of(input) : null;
+			this.input = in != null ? in : input == null ? null
+				: new WeakReference<>(input);
+			this.opClass = op.getClass();
+			this.args = args;
+			hash = 31 * (31 * (in != null ? in.hashCode() : input == null ? 0 : input
+				.hashCode()) + opClass.hashCode()) + Arrays.hashCode(args);
 		}
 
 		@Override
@@ -301,8 +361,133 @@ public int hashCode() {
 		@Override
 		public boolean equals(final Object obj) {
 			if (obj == this) return true;
-			if (obj instanceof Hash) return hash == ((Hash) obj).hash;
-			return false;
+			if (!(obj instanceof Key)) return false;
+			final Key other = (Key) obj;
+			if (hash != other.hash || opClass != other.opClass || !Arrays.equals(args,
+				other.args)) return false;
+			final Object a = input(), b = other.input();
+			if (a == null || b == null) return input == null && other.input == null;
+			return a.equals(b);
+		}
+
+		private Object input() {
+			return input instanceof WeakReference ? ((WeakReference<?>) input).get()
+				: input;
+		}
+	}
+
+	/**
+	 * Content-based identity of an {@link IterableInterval} of {@link RealType}s:
+	 * its interval, type and a 64-bit hash of its values in flat iteration
+	 * order. Images with equal fingerprints are assumed to be identical.
+	 */
+	private static final class Fingerprint {
+
+		private final long[] interval;
+		private final Class<?> type;
+		private final long hash;
+
+		private Fingerprint(final long[] interval, final Class<?> type,
+			final long hash)
+		{
+			this.interval = interval;
+			this.type = type;
+			this.hash = hash;
+		}
+
+		/**
+		 * @return the fingerprint of the given image, or {@code null} if it is not
+		 *         an {@link IterableInterval} of {@link RealType}s
+		 */
+		public static Fingerprint of(final Object input) {
+			if (!(input instanceof IterableInterval)) return null;
+			final IterableInterval<?> ii = (IterableInterval<?>) input;
+			if (ii.size() == 0 || !(ii.firstElement() instanceof RealType)) {
+				return null;
+			}
+
+			@SuppressWarnings("unchecked")
+			final IterableInterval<? extends RealType<?>> image =
+				input instanceof RandomAccessibleInterval ? Views.flatIterable(
+					(RandomAccessibleInterval<? extends RealType<?>>) input)
+					: (IterableInterval<? extends RealType<?>>) input;
+			long hash = 0xcbf29ce484222325L;
+			final Cursor<? extends RealType<?>> cursor = image.cursor();
+			while (cursor.hasNext()) {
+				hash = mix(hash ^ Double.doubleToLongBits(cursor.next()
+					.getRealDouble()));
+			}
+
+			final long[] interval = new long[2 * ii.numDimensions()];
+			ii.min(interval);
+			final long[] max = Intervals.maxAsLongArray((Interval) ii);
+			System.arraycopy(max, 0, interval, ii.numDimensions(), max.length);
+			return new Fingerprint(interval, ii.firstElement().getClass(), hash);
+		}
+
+		@Override
+		public int hashCode() {
+			return (int) (hash ^ (hash >>> 32));
+		}
+
+		@Override
+		public boolean equals(final Object obj) {
+			if (!(obj instanceof Fingerprint)) return false;
+			final Fingerprint other = (Fingerprint) obj;
+			return hash == other.hash && type == other.type && Arrays.equals(
+				interval, other.interval);
+		}
+
+		/** Spreads the bits of the running hash, like the MurmurHash3 finalizer. */
+		private static long mix(long h) {
+			h *= 0x100000001b3L;
+			h ^= h >>> 33;
+			h *= 0xff51afd7ed558ccdL;
+			h ^= h >>> 33;
+			return h;
+		}
+	}
+
+	/**
+	 * {@link OpCache} view of the {@link CacheService}. The service cannot remove
+	 * entries, so {@link #clear()} invalidates the keys this view has inserted
+	 * by mapping them to {@code null}. Keys are tracked weakly, like the entries
+	 * of the service itself.
+	 */
+	private static final class ServiceCache implements OpCache {
+
+		private final CacheService service;
+
+		private final Set<Object> keys = Collections.newSetFromMap(
+			new WeakHashMap<Object, Boolean>());
+
+		public ServiceCache(final CacheService service) {
+			this.service = service;
+		}
+
+		@Override
+		public Object get(final Object key) {
+			return service.get(key);
+		}
+
+		@Override
+		public void put(final Object key, final Object value) {
+			synchronized (keys) {
+				keys.add(key);
+			}
+			service.put(key, value);
+		}
+
+		@Override
+		public void clear() {
+			final Object[] inserted;
+			synchronized (keys) {
+				inserted = keys.toArray();
+				keys.clear();
+			}
+			for (final Object key : inserted) {
+				if (key != null) service.put(key, null);
+			}
 		}
 	}
 }
@@ -358,6 +358,40 @@ RandomAccessibleInterval<O> richardsonLucy(
 		return result;
 	}
 
+	@OpMethod(op = net.imagej.ops.deconvolve.TiledRichardsonLucy.class)
+	public <I extends RealType<I>, O extends RealType<O>, K extends RealType<K>>
+		RandomAccessibleInterval<O> richardsonLucy(
+			final RandomAccessibleInterval<O> out,
+			final RandomAccessibleInterval<I> in,
+			final RandomAccessibleInterval<K> kernel, final int maxIterations,
+			final long[] blockSize)
+	{
+		@SuppressWarnings("unchecked")
+		final RandomAccessibleInterval<O> result =
+			(RandomAccessibleInterval<O>) ops().run(
+				net.imagej.ops.deconvolve.TiledRichardsonLucy.class, out, in, kernel,
+				maxIterations, blockSize);
+		return result;
+	}
+
+	@OpMethod(op = net.imagej.ops.deconvolve.TiledRichardsonLucy.class)
+	public <I extends RealType<I>, O extends RealType<O>, K extends RealType<K>>
+		RandomAccessibleInterval<O> richardsonLucy(
+			final RandomAccessibleInterval<O> out,
+			final RandomAccessibleInterval<I> in,
+			final RandomAccessibleInterval<K> kernel, final int maxIterations,
+			final long[] blockSize, final long[] overlap, final boolean nonCirculant,
+			final boolean accelerate, final long memoryBudget)
+	{
+		@SuppressWarnings("unchecked")
+		final RandomAccessibleInterval<O> result =
+			(RandomAccessibleInterval<O>) ops().run(
+				net.imagej.ops.deconvolve.TiledRichardsonLucy.class, out, in, kernel,
+				maxIterations, blockSize, overlap, nonCirculant, accelerate,
+				memoryBudget);
+		return result;
+	}
+
 //-- DeconvolveOps.RichardsonLucyTV
 
 	@OpMethod(op = net.imagej.ops.deconvolve.PadAndRichardsonLucyTV.class)
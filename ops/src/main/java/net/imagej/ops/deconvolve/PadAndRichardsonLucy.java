@@ -161,14 +161,14 @@ else if (nonCirculant) {
 						.getTypeFromInterval(output), in());
 
 			return Computers.binary(ops(), RichardsonLucyC.class, output,
-				paddedInput, paddedKernel, fftImg, fftKernel, true, true,
+				paddedInput, paddedKernel, fftImg, fftKernel, true, getPerformKernelFFT(),
 				maxIterations, accelerator, computeEstimateOp, fg.calculate(
 					paddedInput), list);
 		}
 
 		// return a richardson lucy computer
 		return Computers.binary(ops(), RichardsonLucyC.class, output,
-			paddedInput, paddedKernel, fftImg, fftKernel, true, true,
+			paddedInput, paddedKernel, fftImg, fftKernel, true, getPerformKernelFFT(),
 			maxIterations, accelerator, computeEstimateOp);
 	}
 
@@ -177,7 +177,9 @@ public void compute(RandomAccessibleInterval<I> in,
 		raiExtendedReblurred = createOp.calculate(in);
 
 		// perform fft of psf
-		fftKernelOp.compute(kernel, getFFTKernel());
+		if (getPerformKernelFFT()) {
+			fftKernelOp.compute(kernel, getFFTKernel());
+		}
 
 		// -- perform iterations --
 
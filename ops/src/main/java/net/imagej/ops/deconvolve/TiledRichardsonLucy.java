@@ -0,0 +1,469 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2020 ImageJ developers.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.deconvolve;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import net.imagej.ops.Contingent;
+import net.imagej.ops.Ops;
+import net.imagej.ops.special.computer.AbstractBinaryComputerOp;
+import net.imglib2.Cursor;
+import net.imglib2.FinalInterval;
+import net.imglib2.Interval;
+import net.imglib2.RandomAccessibleInterval;
+import net.imglib2.img.Img;
+import net.imglib2.type.numeric.RealType;
+import net.imglib2.type.numeric.real.FloatType;
+import net.imglib2.util.Intervals;
+import net.imglib2.view.Views;
+
+import org.scijava.Priority;
+import org.scijava.plugin.Parameter;
+import org.scijava.plugin.Plugin;
+import org.scijava.thread.ThreadService;
+
+/**
+ * Block-wise Richardson Lucy deconvolution for volumes too large to deconvolve
+ * in one piece.
+ * <p>
+ * The image is split into a grid of blocks of (at most) {@code blockSize}.
+ * Each block is grown by {@code overlap} pixels on every side, deconvolved on
+ * its own with {@link PadAndRichardsonLucy}, and added to the output with
+ * weights that ramp linearly across the block boundaries, so that the seams
+ * are blended. Only the blocks currently being deconvolved are held in
+ * memory; the number deconvolved in parallel is limited by the number of
+ * processors and by {@code memoryBudget}. The input and output may therefore
+ * be cell or disk-backed images much larger than the heap.
+ * </p>
+ * <p>
+ * Each dimension is divided into the core interiors, which only one block
+ * covers, and the bands around the boundaries between cores, over which
+ * neighbouring blocks are blended. Regions in no band are copied straight to
+ * the output. Regions in a band are summed in {@link FloatType} buffers that
+ * are written to the output and dropped as soon as all blocks covering them
+ * are done, so that only the bands of the blocks in flight are held in
+ * memory, and integer outputs are rounded once rather than at every addition.
+ * The bands count against {@code memoryBudget}.
+ * </p>
+ * 
+ * @param <I>
+ * @param <O>
+ * @param <K>
+ */
+@Plugin(type = Ops.Deconvolve.RichardsonLucy.class, priority = Priority.LOW)
+public class TiledRichardsonLucy<I extends RealType<I>, O extends RealType<O>, K extends RealType<K>>
+	extends
+	AbstractBinaryComputerOp<RandomAccessibleInterval<I>, RandomAccessibleInterval<K>, RandomAccessibleInterval<O>>
+	implements Ops.Deconvolve.RichardsonLucy, Contingent
+{
+
+	/**
+	 * Estimated bytes per pixel of a block being deconvolved: two complex
+	 * float FFT buffers, and the padded input, estimate, reblurred and output
+	 * images in float. Acceleration adds five more float images.
+	 */
+	private static final int BYTES_PER_PIXEL = 32;
+
+	private static final int ACCELERATOR_BYTES_PER_PIXEL = 20;
+
+	@Parameter
+	private ThreadService threadService;
+
+	/**
+	 * max number of iterations
+	 */
+	@Parameter
+	private int maxIterations;
+
+	/**
+	 * Size of the blocks the image is split into, before adding the overlap
+	 */
+	@Parameter
+	private long[] blockSize;
+
+	/**
+	 * Number of pixels by which each block is grown on each side. If null, the
+	 * kernel size is used.
+	 */
+	@Parameter(required = false)
+	private long[] overlap;
+
+	/**
+	 * indicates whether to use non-circulant edge handling
+	 */
+	@Parameter(required = false)
+	private boolean nonCirculant = false;
+
+	/**
+	 * indicates whether to use acceleration
+	 */
+	@Parameter(required = false)
+	private boolean accelerate = false;
+
+	/**
+	 * Bytes that the blocks being deconvolved at the same time may take up. If
+	 * not positive, a quarter of the maximum heap size is used.
+	 */
+	@Parameter(required = false)
+	private long memoryBudget;
+
+	/** Guards the bands and the writes of block results to the output. */
+	private final Object outputLock = new Object();
+
+	@Override
+	public boolean conforms() {
+		final int n = in().numDimensions();
+		return blockSize.length == n && in2().numDimensions() == n &&
+			(overlap == null || overlap.length == n);
+	}
+
+	@Override
+	public void compute(final RandomAccessibleInterval<I> input,
+		final RandomAccessibleInterval<K> kernel,
+		final RandomAccessibleInterval<O> output)
+	{
+		final int n = input.numDimensions();
+		final long[] grow = new long[n];
+		for (int d = 0; d < n; d++) {
+			grow[d] = overlap == null ? kernel.dimension(d) : overlap[d];
+		}
+
+		// split each dimension into balanced block cores, and blend over half
+		// the overlap on either side of each boundary (at most half a core)
+		final long[][] starts = new long[n][];
+		final long[] ramps = new long[n];
+		long numBlocks = 1;
+		for (int d = 0; d < n; d++) {
+			starts[d] = splitDimension(input.min(d), input.dimension(d),
+				blockSize[d]);
+			final int numCores = starts[d].length - 1;
+			long minCore = Long.MAX_VALUE;
+			for (int i = 0; i < numCores; i++) {
+				minCore = Math.min(minCore, starts[d][i + 1] - starts[d][i]);
+			}
+			ramps[d] = Math.min(grow[d] / 2, minCore / 2);
+			numBlocks *= numCores;
+		}
+		if (numBlocks > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("Too many blocks: " + numBlocks);
+		}
+		final int total = (int) numBlocks;
+
+		final int workers = numWorkers(input, starts, grow, ramps, total);
+		final Map<Long, Band> bands = new HashMap<>();
+		final AtomicInteger nextBlock = new AtomicInteger();
+		final List<Future<?>> futures = new ArrayList<>();
+		for (int w = 0; w < workers; w++) {
+			futures.add(threadService.run(() -> {
+				final long[] index = new long[n];
+				for (int b = nextBlock.getAndIncrement(); b < total; b = nextBlock
+					.getAndIncrement())
+				{
+					// position of the block in the grid, first dimension fastest
+					int rest = b;
+					for (int d = 0; d < n; d++) {
+						final int numCores = starts[d].length - 1;
+						index[d] = rest % numCores;
+						rest /= numCores;
+					}
+					deconvolveBlock(input, kernel, output, starts, index, grow, ramps,
+						bands);
+				}
+			}));
+		}
+		try {
+			for (final Future<?> future : futures) {
+				future.get();
+			}
+		}
+		catch (final InterruptedException e) {
+			throw new RuntimeException(e);
+		}
+		catch (final ExecutionException e) {
+			throw new RuntimeException(e.getCause());
+		}
+	}
+
+	// -- Helper methods --
+
+	/**
+	 * Splits a dimension into {@code ceil(size / blockSize)} cores of (nearly)
+	 * equal size, returning the start of each core and the end of the last.
+	 */
+	private static long[] splitDimension(final long min, final long size,
+		final long blockSize)
+	{
+		final int numCores = (int) Math.max(1, (size + blockSize - 1) /
+			blockSize);
+		final long[] starts = new long[numCores + 1];
+		for (int i = 0; i <= numCores; i++) {
+			starts[i] = min + i * size / numCores;
+		}
+		return starts;
+	}
+
+	/**
+	 * Determines how many blocks to deconvolve in parallel, from the number of
+	 * processors and the memory the largest block needs, once the bands that
+	 * may be pending have been set aside.
+	 */
+	private int numWorkers(final Interval input, final long[][] starts,
+		final long[] grow, final long[] ramps, final int numBlocks)
+	{
+		final int n = starts.length;
+		final long[] largestCore = new long[n];
+		long largest = 1;
+		for (int d = 0; d < n; d++) {
+			for (int i = 0; i < starts[d].length - 1; i++) {
+				largestCore[d] = Math.max(largestCore[d], starts[d][i + 1] -
+					starts[d][i]);
+			}
+			// the block is padded again by the kernel size before the FFT
+			largest *= largestCore[d] + 4 * grow[d];
+		}
+		final long perBlock = largest * (BYTES_PER_PIXEL + (accelerate
+			? ACCELERATOR_BYTES_PER_PIXEL : 0));
+
+		// blocks are started first dimension fastest, so a band across
+		// dimension d spans the whole image in the dimensions before it, and a
+		// row of blocks in the dimensions after it
+		long bandBytes = 0;
+		for (int d = 0; d < n; d++) {
+			if (starts[d].length < 3 || ramps[d] == 0) continue;
+			long size = 2 * ramps[d] * Float.BYTES;
+			for (int e = 0; e < n; e++) {
+				if (e < d) size *= input.dimension(e);
+				else if (e > d) size *= largestCore[e] + 2 * ramps[e];
+			}
+			bandBytes += size;
+		}
+
+		final long budget = memoryBudget > 0 ? memoryBudget : Runtime.getRuntime()
+			.maxMemory() / 4;
+		final long fit = Math.max(1, (budget - bandBytes) / perBlock);
+		return (int) Math.min(Math.min(fit, numBlocks), Runtime.getRuntime()
+			.availableProcessors());
+	}
+
+	/**
+	 * Deconvolves one block and passes its weighted result on to each region
+	 * of the output it covers.
+	 */
+	private void deconvolveBlock(final RandomAccessibleInterval<I> input,
+		final RandomAccessibleInterval<K> kernel,
+		final RandomAccessibleInterval<O> output, final long[][] starts,
+		final long[] index, final long[] grow, final long[] ramps,
+		final Map<Long, Band> bands)
+	{
+		final int n = input.numDimensions();
+		final long[] coreMin = new long[n];
+		final long[] coreMax = new long[n];
+		final long[] min = new long[n];
+		final long[] max = new long[n];
+		for (int d = 0; d < n; d++) {
+			final int i = (int) index[d];
+			coreMin[d] = starts[d][i];
+			coreMax[d] = starts[d][i + 1] - 1;
+			min[d] = Math.max(input.min(d), coreMin[d] - grow[d]);
+			max[d] = Math.min(input.max(d), coreMax[d] + grow[d]);
+		}
+		final Interval block = new FinalInterval(min, max);
+
+		final RandomAccessibleInterval<I> blockIn = Views.zeroMin(Views.interval(
+			input, block));
+		final Img<FloatType> blockOut = ops().create().img(blockIn,
+			new FloatType());
+		ops().run(PadAndRichardsonLucy.class, blockOut, blockIn, kernel, null,
+			null, null, null, null, maxIterations, nonCirculant, accelerate);
+
+		// precompute the weights along each dimension
+		final float[][] weights = new float[n][];
+		for (int d = 0; d < n; d++) {
+			final boolean first = index[d] == 0;
+			final boolean last = index[d] == starts[d].length - 2;
+			weights[d] = new float[(int) block.dimension(d)];
+			for (int x = 0; x < weights[d].length; x++) {
+				weights[d][x] = weight(min[d] + x, coreMin[d], coreMax[d], ramps[d],
+					first, last);
+			}
+		}
+
+		// the block covers the band below its core, the interior of its core
+		// and the band above it in each dimension; segment 2i is the interior
+		// of core i and segment 2i + 1 the band between cores i and i + 1
+		final long[] segment = new long[n];
+		final long[] first = new long[n];
+		final long[] last = new long[n];
+		for (int d = 0; d < n; d++) {
+			first[d] = Math.max(0, 2 * index[d] - 1);
+			last[d] = Math.min(2 * (starts[d].length - 2), 2 * index[d] + 1);
+			segment[d] = first[d];
+		}
+		final long[] regionMin = new long[n];
+		final long[] regionMax = new long[n];
+		while (true) {
+			long key = 0;
+			int contributors = 1;
+			boolean empty = false;
+			for (int d = n - 1; d >= 0; d--) {
+				final int i = (int) (segment[d] / 2);
+				if (segment[d] % 2 == 0) {
+					regionMin[d] = starts[d][i] + (i > 0 ? ramps[d] : 0);
+					regionMax[d] = starts[d][i + 1] - 1 - (i < starts[d].length - 2
+						? ramps[d] : 0);
+				}
+				else {
+					regionMin[d] = starts[d][i + 1] - ramps[d];
+					regionMax[d] = starts[d][i + 1] + ramps[d] - 1;
+					contributors *= 2;
+				}
+				empty |= regionMin[d] > regionMax[d];
+				key = key * (2 * starts[d].length - 3) + segment[d];
+			}
+			if (!empty) {
+				addRegion(input, output, blockOut, min, weights, new FinalInterval(
+					regionMin, regionMax), key, contributors, bands);
+			}
+
+			// next region, first dimension fastest
+			int d = 0;
+			while (d < n && segment[d] == last[d]) {
+				segment[d] = first[d];
+				d++;
+			}
+			if (d == n) break;
+			segment[d]++;
+		}
+	}
+
+	/**
+	 * Passes the weighted result of a block on to one region of the output. A
+	 * region covered by one block is copied to the output; a region covered by
+	 * several blocks is summed in a {@link Band}, which is copied to the output
+	 * once the last of them is done.
+	 */
+	private void addRegion(final RandomAccessibleInterval<I> input,
+		final RandomAccessibleInterval<O> output, final Img<FloatType> blockOut,
+		final long[] blockMin, final float[][] weights, final Interval region,
+		final long key, final int contributors, final Map<Long, Band> bands)
+	{
+		final int n = region.numDimensions();
+		final long[] inBlockMin = new long[n];
+		final long[] inBlockMax = new long[n];
+		final long[] inOutputMin = new long[n];
+		final long[] inOutputMax = new long[n];
+		for (int d = 0; d < n; d++) {
+			inBlockMin[d] = region.min(d) - blockMin[d];
+			inBlockMax[d] = region.max(d) - blockMin[d];
+			inOutputMin[d] = region.min(d) - input.min(d) + output.min(d);
+			inOutputMax[d] = region.max(d) - input.min(d) + output.min(d);
+		}
+		final Cursor<FloatType> cursor = Views.flatIterable(Views.interval(
+			blockOut, inBlockMin, inBlockMax)).localizingCursor();
+		final RandomAccessibleInterval<O> target = Views.interval(output,
+			inOutputMin, inOutputMax);
+
+		if (contributors == 1) {
+			synchronized (outputLock) {
+				final Cursor<O> outCursor = Views.flatIterable(target).cursor();
+				while (cursor.hasNext()) {
+					outCursor.next().setReal(cursor.next().get());
+				}
+			}
+			return;
+		}
+
+		synchronized (outputLock) {
+			Band band = bands.get(key);
+			if (band == null) {
+				band = new Band((int) Intervals.numElements(region), contributors);
+				bands.put(key, band);
+			}
+			final float[] sums = band.sums;
+			for (int i = 0; cursor.hasNext(); i++) {
+				final float value = cursor.next().get();
+				float w = 1;
+				for (int d = 0; d < n; d++) {
+					w *= weights[d][cursor.getIntPosition(d)];
+				}
+				sums[i] += w * value;
+			}
+			if (--band.pending > 0) return;
+
+			bands.remove(key);
+			final Cursor<O> outCursor = Views.flatIterable(target).cursor();
+			for (int i = 0; outCursor.hasNext(); i++) {
+				outCursor.next().setReal(sums[i]);
+			}
+		}
+	}
+
+	/**
+	 * Weight of a block at position {@code x} along one dimension: one in the
+	 * core, ramping down to zero over {@code ramp} pixels either side of each
+	 * boundary shared with a neighbouring block, so that the weights of
+	 * neighbouring blocks add up to one.
+	 */
+	private static float weight(final long x, final long coreMin,
+		final long coreMax, final long ramp, final boolean first,
+		final boolean last)
+	{
+		if (!first && x < coreMin + ramp) {
+			if (x < coreMin - ramp) return 0;
+			return (x - (coreMin - ramp) + 0.5f) / (2 * ramp);
+		}
+		if (!last && x > coreMax - ramp) {
+			if (x > coreMax + ramp) return 0;
+			return (coreMax + ramp - x + 0.5f) / (2 * ramp);
+		}
+		return x < coreMin || x > coreMax ? 0 : 1;
+	}
+
+	/** Sums of the blocks blended over one region of a band. */
+	private static final class Band {
+
+		private final float[] sums;
+
+		/** Number of blocks covering the region that are not done yet. */
+		private int pending;
+
+		private Band(final int size, final int pending) {
+			sums = new float[size];
+			this.pending = pending;
+		}
+	}
+
+}
@@ -0,0 +1,679 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2020 ImageJ developers.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.eval;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleUnaryOperator;
+
+import net.imagej.ops.OpEnvironment;
+import net.imagej.ops.thread.chunker.ChunkerOp;
+import net.imagej.ops.thread.chunker.CursorBasedChunk;
+import net.imglib2.Cursor;
+import net.imglib2.RandomAccessibleInterval;
+import net.imglib2.type.numeric.RealType;
+import net.imglib2.util.Intervals;
+import net.imglib2.view.Views;
+
+import org.scijava.parsington.ExpressionParser;
+import org.scijava.parsington.Function;
+import org.scijava.parsington.Group;
+import org.scijava.parsington.Operator;
+import org.scijava.parsington.SyntaxTree;
+import org.scijava.parsington.Variable;
+
+/**
+ * An expression compiled into a single per-pixel kernel over any number of
+ * input images.
+ * <p>
+ * Where {@link OpEvaluator} executes one op per operator, materializing an
+ * intermediate image at each step, a {@code CompiledExpression} evaluates the
+ * whole syntax tree in one pass. Pixels are processed in blocks of
+ * {@link #BLOCK_SIZE}: each input is read once into a column buffer, every
+ * node of the tree is applied to the block as a tight loop over primitive
+ * {@code double}s, and the result is written straight to the output. Only a
+ * few block-sized buffers per thread are allocated, regardless of the size of
+ * the images.
+ * </p>
+ * <p>
+ * Variables bound to a {@link RandomAccessibleInterval} of {@link RealType}
+ * become per-pixel inputs; variables bound to a {@link Number} or a
+ * {@link RealType} become constants. All arithmetic is carried out in double
+ * precision; relational and logical operators yield {@code 1} or {@code 0}.
+ * Expressions using anything which cannot be compiled cause an
+ * {@link IllegalArgumentException}, so that callers can fall back to
+ * {@link OpEvaluator}.
+ * </p>
+ */
+public final class CompiledExpression {
+
+	/** Number of pixels processed per block. */
+	public static final int BLOCK_SIZE = 1024;
+
+	private final List<RandomAccessibleInterval<? extends RealType<?>>> inputs;
+	private final List<Constant> constants;
+	private final Node root;
+	private final int registers;
+
+	private CompiledExpression(final Builder builder, final Node root) {
+		this.inputs = Collections.unmodifiableList(builder.inputs);
+		this.constants = builder.constants;
+		this.root = root;
+		this.registers = builder.registers;
+	}
+
+	// -- Static methods --
+
+	/**
+	 * Compiles the given expression.
+	 * 
+	 * @param expression the expression to compile, e.g.
+	 *          {@code (a - b) / (a + b) > 0.2}
+	 * @param vars values of the variables used by the expression
+	 * @throws IllegalArgumentException if the expression cannot be compiled
+	 */
+	public static CompiledExpression compile(final String expression,
+		final Map<String, ?> vars)
+	{
+		return compile(expression, vars, Collections.emptyMap());
+	}
+
+	/**
+	 * Compiles the given expression, resolving calls to the given functions in
+	 * addition to the built-in mathematical functions.
+	 * 
+	 * @param expression the expression to compile
+	 * @param vars values of the variables used by the expression
+	 * @param functions additional functions, by name
+	 * @throws IllegalArgumentException if the expression cannot be compiled
+	 */
+	public static CompiledExpression compile(final String expression,
+		final Map<String, ?> vars, final Map<String, ColumnFunction> functions)
+	{
+		final SyntaxTree tree;
+		try {
+			tree = new ExpressionParser().parseTree(expression);
+		}
+		catch (final RuntimeException exc) {
+			throw new IllegalArgumentException("Invalid expression: " + expression,
+				exc);
+		}
+		final Builder builder = new Builder(vars, functions);
+		return new CompiledExpression(builder, builder.build(tree));
+	}
+
+	// -- CompiledExpression methods --
+
+	/** Gets the images read by this expression, in order of first use. */
+	public List<RandomAccessibleInterval<? extends RealType<?>>> inputs() {
+		return inputs;
+	}
+
+	/**
+	 * Evaluates the expression for every pixel of the given output, in
+	 * parallel.
+	 * <p>
+	 * The output may be one of the inputs, in which case it is updated in
+	 * place.
+	 * </p>
+	 * 
+	 * @throws IllegalArgumentException if an input does not have the same
+	 *           dimensions as the output
+	 */
+	public <O extends RealType<O>> void evaluate(final OpEnvironment ops,
+		final RandomAccessibleInterval<O> out)
+	{
+		checkDimensions(out);
+		ops.run(ChunkerOp.class, new CursorBasedChunk() {
+
+			@Override
+			public void execute(final long startIndex, final long stepSize,
+				final long numSteps)
+			{
+				evaluate(out, startIndex, stepSize, numSteps);
+			}
+		}, Intervals.numElements(out));
+	}
+
+	/**
+	 * Evaluates the expression for a subset of the pixels of the given output,
+	 * in flat iteration order.
+	 * 
+	 * @throws IllegalArgumentException if an input does not have the same
+	 *           dimensions as the output
+	 */
+	public <O extends RealType<O>> void evaluate(
+		final RandomAccessibleInterval<O> out, final long startIndex,
+		final long stepSize, final long numSteps)
+	{
+		checkDimensions(out);
+		if (numSteps <= 0) return;
+
+		final int count = inputs.size();
+		final List<Cursor<? extends RealType<?>>> cursors = new ArrayList<>(
+			count);
+		for (final RandomAccessibleInterval<? extends RealType<?>> input : inputs) {
+			final Cursor<? extends RealType<?>> c = Views.flatIterable(input)
+				.cursor();
+			CursorBasedChunk.setToStart(c, startIndex);
+			cursors.add(c);
+		}
+		final Cursor<O> outCursor = Views.flatIterable(out).cursor();
+		CursorBasedChunk.setToStart(outCursor, startIndex);
+
+		final Frame frame = new Frame(count);
+		boolean first = true;
+		for (long done = 0; done < numSteps; done += BLOCK_SIZE) {
+			final int n = (int) Math.min(BLOCK_SIZE, numSteps - done);
+
+			// NB: Read the whole block before writing any of it, so that the
+			// output may safely alias an input.
+			for (int k = 0; k < count; k++) {
+				final Cursor<? extends RealType<?>> c = cursors.get(k);
+				final double[] column = frame.inputs[k];
+				for (int i = 0; i < n; i++) {
+					if (i > 0 || !first) c.jumpFwd(stepSize);
+					column[i] = c.get().getRealDouble();
+				}
+			}
+
+			final double[] result = root.eval(frame, n);
+			for (int i = 0; i < n; i++) {
+				if (i > 0 || !first) outCursor.jumpFwd(stepSize);
+				outCursor.get().setReal(result[i]);
+			}
+			first = false;
+		}
+	}
+
+	// -- Helper methods --
+
+	private void checkDimensions(final RandomAccessibleInterval<?> out) {
+		for (final RandomAccessibleInterval<?> input : inputs) {
+			if (!Intervals.equalDimensions(input, out)) {
+				throw new IllegalArgumentException(
+					"Input and output dimensions do not match");
+			}
+		}
+	}
+
+	// -- Helper classes --
+
+	/** Per-thread working storage for one block of pixels. */
+	private final class Frame {
+
+		private final double[][] inputs;
+		private final double[][] regs;
+
+		private Frame(final int inputCount) {
+			inputs = new double[inputCount][BLOCK_SIZE];
+			regs = new double[registers][];
+			for (int r = 0; r < registers; r++) {
+				regs[r] = new double[BLOCK_SIZE];
+			}
+			for (final Constant c : constants) {
+				Arrays.fill(regs[c.reg], c.value);
+			}
+		}
+	}
+
+	/** A node of the compiled syntax tree. */
+	private abstract static class Node {
+
+		/** Computes the first {@code n} values of this node's column. */
+		abstract double[] eval(Frame frame, int n);
+	}
+
+	private static final class Input extends Node {
+
+		private final int index;
+
+		private Input(final int index) {
+			this.index = index;
+		}
+
+		@Override
+		double[] eval(final Frame frame, final int n) {
+			return frame.inputs[index];
+		}
+	}
+
+	private static final class Constant extends Node {
+
+		private final int reg;
+		private final double value;
+
+		private Constant(final int reg, final double value) {
+			this.reg = reg;
+			this.value = value;
+		}
+
+		@Override
+		double[] eval(final Frame frame, final int n) {
+			return frame.regs[reg];
+		}
+	}
+
+	private static final class Unary extends Node {
+
+		private final UnaryKind kind;
+		private final Node arg;
+		private final int reg;
+
+		private Unary(final UnaryKind kind, final Node arg, final int reg) {
+			this.kind = kind;
+			this.arg = arg;
+			this.reg = reg;
+		}
+
+		@Override
+		double[] eval(final Frame frame, final int n) {
+			final double[] out = frame.regs[reg];
+			kind.apply(arg.eval(frame, n), out, n);
+			return out;
+		}
+	}
+
+	private static final class Binary extends Node {
+
+		private final BinaryKind kind;
+		private final Node left, right;
+		private final int reg;
+
+		private Binary(final BinaryKind kind, final Node left, final Node right,
+			final int reg)
+		{
+			this.kind = kind;
+			this.left = left;
+			this.right = right;
+			this.reg = reg;
+		}
+
+		@Override
+		double[] eval(final Frame frame, final int n) {
+			final double[] out = frame.regs[reg];
+			kind.apply(left.eval(frame, n), right.eval(frame, n), out, n);
+			return out;
+		}
+	}
+
+	private static final class Call extends Node {
+
+		private final ColumnFunction function;
+		private final Node[] args;
+		private final int reg;
+
+		private Call(final ColumnFunction function, final Node[] args,
+			final int reg)
+		{
+			this.function = function;
+			this.args = args;
+			this.reg = reg;
+		}
+
+		@Override
+		double[] eval(final Frame frame, final int n) {
+			final double[][] columns = new double[args.length][];
+			for (int a = 0; a < args.length; a++) {
+				columns[a] = args[a].eval(frame, n);
+			}
+			final double[] out = frame.regs[reg];
+			function.apply(columns, out, n);
+			return out;
+		}
+	}
+
+	/** Unary operators and single-argument functions. */
+	private enum UnaryKind {
+			POS(x -> x), //
+			NEG(x -> -x), //
+			NOT(x -> x == 0 ? 1 : 0), //
+			COMPLEMENT(x -> ~(long) x), //
+			ABS(Math::abs), //
+			SQRT(Math::sqrt), //
+			CBRT(Math::cbrt), //
+			EXP(Math::exp), //
+			LOG(Math::log), //
+			LOG10(Math::log10), //
+			SIN(Math::sin), //
+			COS(Math::cos), //
+			TAN(Math::tan), //
+			ASIN(Math::asin), //
+			ACOS(Math::acos), //
+			ATAN(Math::atan), //
+			SINH(Math::sinh), //
+			COSH(Math::cosh), //
+			TANH(Math::tanh), //
+			FLOOR(Math::floor), //
+			CEIL(Math::ceil), //
+			ROUND(x -> Math.round(x)), //
+			SIGNUM(Math::signum);
+
+		private final DoubleUnaryOperator f;
+
+		private UnaryKind(final DoubleUnaryOperator f) {
+			this.f = f;
+		}
+
+		private void apply(final double[] a, final double[] out, final int n) {
+			// NB: Spell out the most common cases, so that each is a plain loop.
+			switch (this) {
+				case NEG:
+					for (int i = 0; i < n; i++)
+						out[i] = -a[i];
+					break;
+				case ABS:
+					for (int i = 0; i < n; i++)
+						out[i] = Math.abs(a[i]);
+					break;
+				case SQRT:
+					for (int i = 0; i < n; i++)
+						out[i] = Math.sqrt(a[i]);
+					break;
+				default:
+					for (int i = 0; i < n; i++)
+						out[i] = f.applyAsDouble(a[i]);
+			}
+		}
+
+		private static UnaryKind function(final String name) {
+			for (final UnaryKind kind : values()) {
+				if (kind.ordinal() > COMPLEMENT.ordinal() && kind.name()
+					.equalsIgnoreCase(name)) return kind;
+			}
+			return null;
+		}
+	}
+
+	/** Binary operators and two-argument functions. */
+	private enum BinaryKind {
+			ADD((x, y) -> x + y), //
+			SUB((x, y) -> x - y), //
+			MUL((x, y) -> x * y), //
+			DIV((x, y) -> x / y), //
+			MOD((x, y) -> x % y), //
+			POW(Math::pow), //
+			LT((x, y) -> x < y ? 1 : 0), //
+			GT((x, y) -> x > y ? 1 : 0), //
+			LE((x, y) -> x <= y ? 1 : 0), //
+			GE((x, y) -> x >= y ? 1 : 0), //
+			EQ((x, y) -> x == y ? 1 : 0), //
+			NE((x, y) -> x != y ? 1 : 0), //
+			LOGICAL_AND((x, y) -> x != 0 && y != 0 ? 1 : 0), //
+			LOGICAL_OR((x, y) -> x != 0 || y != 0 ? 1 : 0), //
+			BITWISE_AND((x, y) -> (long) x & (long) y), //
+			BITWISE_OR((x, y) -> (long) x | (long) y), //
+			LEFT_SHIFT((x, y) -> (long) x << (long) y), //
+			RIGHT_SHIFT((x, y) -> (long) x >> (long) y), //
+			UNSIGNED_RIGHT_SHIFT((x, y) -> (long) x >>> (long) y), //
+			MIN(Math::min), //
+			MAX(Math::max), //
+			ATAN2(Math::atan2), //
+			HYPOT(Math::hypot);
+
+		private final DoubleBinaryOperator f;
+
+		private BinaryKind(final DoubleBinaryOperator f) {
+			this.f = f;
+		}
+
+		private void apply(final double[] a, final double[] b, final double[] out,
+			final int n)
+		{
+			// NB: Spell out the most common cases, so that each is a plain loop.
+			switch (this) {
+				case ADD:
+					for (int i = 0; i < n; i++)
+						out[i] = a[i] + b[i];
+					break;
+				case SUB:
+					for (int i = 0; i < n; i++)
+						out[i] = a[i] - b[i];
+					break;
+				case MUL:
+					for (int i = 0; i < n; i++)
+						out[i] = a[i] * b[i];
+					break;
+				case DIV:
+					for (int i = 0; i < n; i++)
+						out[i] = a[i] / b[i];
+					break;
+				case LT:
+					for (int i = 0; i < n; i++)
+						out[i] = a[i] < b[i] ? 1 : 0;
+					break;
+				case GT:
+					for (int i = 0; i < n; i++)
+						out[i] = a[i] > b[i] ? 1 : 0;
+					break;
+				default:
+					for (int i = 0; i < n; i++)
+						out[i] = f.applyAsDouble(a[i], b[i]);
+			}
+		}
+
+		private static BinaryKind operator(final String token) {
+			switch (token) {
+				case "+": return ADD;
+				case "-": return SUB;
+				case "*": return MUL;
+				case "/": return DIV;
+				case "%": return MOD;
+				case "^": return POW;
+				case "<": return LT;
+				case ">": return GT;
+				case "<=": return LE;
+				case ">=": return GE;
+				case "==": return EQ;
+				case "!=": return NE;
+				case "&&": return LOGICAL_AND;
+				case "||": return LOGICAL_OR;
+				case "&": return BITWISE_AND;
+				case "|": return BITWISE_OR;
+				case "<<": return LEFT_SHIFT;
+				case ">>": return RIGHT_SHIFT;
+				case ">>>": return UNSIGNED_RIGHT_SHIFT;
+				default: return null;
+			}
+		}
+
+		private static BinaryKind function(final String name) {
+			switch (name) {
+				case "min": return MIN;
+				case "max": return MAX;
+				case "atan2": return ATAN2;
+				case "hypot": return HYPOT;
+				case "pow": return POW;
+				default: return null;
+			}
+		}
+	}
+
+	/** Translates a Parsington syntax tree into {@link Node}s. */
+	private static final class Builder {
+
+		private final Map<String, ?> vars;
+		private final Map<String, ColumnFunction> functions;
+		private final List<RandomAccessibleInterval<? extends RealType<?>>> inputs =
+			new ArrayList<>();
+		private final List<Constant> constants = new ArrayList<>();
+		private int registers;
+
+		private Builder(final Map<String, ?> vars,
+			final Map<String, ColumnFunction> functions)
+		{
+			this.vars = vars == null ? Collections.emptyMap() : vars;
+			this.functions = functions == null ? Collections.emptyMap()
+				: functions;
+		}
+
+		private Node build(final SyntaxTree tree) {
+			final Object token = tree.token();
+			if (token instanceof Variable) {
+				return variable(((Variable) token).getToken());
+			}
+			if (token instanceof Number) {
+				return constant(((Number) token).doubleValue());
+			}
+			if (token instanceof Boolean) {
+				return constant((Boolean) token ? 1 : 0);
+			}
+			if (token instanceof Function) return function(tree);
+			if (token instanceof Group) {
+				if (tree.count() == 1 && "(".equals(((Group) token).getToken())) {
+					return build(tree.child(0));
+				}
+				throw unsupported(token);
+			}
+			if (token instanceof Operator) return operator(tree, (Operator) token);
+			throw unsupported(token);
+		}
+
+		private Node variable(final String name) {
+			final Object value = vars.get(name);
+			if (value instanceof RandomAccessibleInterval) {
+				final RandomAccessibleInterval<?> rai =
+					(RandomAccessibleInterval<?>) value;
+				if (!(Views.iterable(rai).firstElement() instanceof RealType)) {
+					throw new IllegalArgumentException("Not a real-valued image: " +
+						name);
+				}
+				@SuppressWarnings("unchecked")
+				final RandomAccessibleInterval<? extends RealType<?>> image =
+					(RandomAccessibleInterval<? extends RealType<?>>) rai;
+				for (int k = 0; k < inputs.size(); k++) {
+					if (inputs.get(k) == image) return new Input(k);
+				}
+				inputs.add(image);
+				return new Input(inputs.size() - 1);
+			}
+			if (value instanceof Number) {
+				return constant(((Number) value).doubleValue());
+			}
+			if (value instanceof RealType) {
+				return constant(((RealType<?>) value).getRealDouble());
+			}
+			if (value == null && !vars.containsKey(name)) {
+				if ("PI".equals(name) || "pi".equals(name)) return constant(Math.PI);
+				if ("E".equals(name)) return constant(Math.E);
+			}
+			throw new IllegalArgumentException("Unsupported variable: " + name);
+		}
+
+		private Node function(final SyntaxTree tree) {
+			final String name = functionName(tree.child(0));
+			final SyntaxTree argTree = tree.child(1);
+			final Node[] args = new Node[argTree.count()];
+			for (int a = 0; a < args.length; a++) {
+				args[a] = build(argTree.child(a));
+			}
+
+			final ColumnFunction function = functions.get(name);
+			if (function != null) return new Call(function, args, registers++);
+
+			final String mathName = name.startsWith("math.") ? name.substring(5)
+				: name;
+			final UnaryKind unary = UnaryKind.function(mathName);
+			if (unary != null && args.length == 1) return unary(unary, args[0]);
+			final BinaryKind binary = BinaryKind.function(mathName);
+			if (binary != null && args.length == 2) {
+				return binary(binary, args[0], args[1]);
+			}
+			throw new IllegalArgumentException("Unsupported function: " + name);
+		}
+
+		private String functionName(final SyntaxTree tree) {
+			final Object token = tree.token();
+			if (token instanceof Variable) return ((Variable) token).getToken();
+			if (token instanceof Operator && ".".equals(((Operator) token)
+				.getToken()) && tree.count() == 2)
+			{
+				return functionName(tree.child(0)) + "." + functionName(tree.child(
+					1));
+			}
+			throw unsupported(token);
+		}
+
+		private Node operator(final SyntaxTree tree, final Operator op) {
+			final String symbol = op.getToken();
+			if (op.getArity() == 1 && tree.count() == 1) {
+				final Node arg = build(tree.child(0));
+				switch (symbol) {
+					case "+": return unary(UnaryKind.POS, arg);
+					case "-": return unary(UnaryKind.NEG, arg);
+					case "!": return unary(UnaryKind.NOT, arg);
+					case "~": return unary(UnaryKind.COMPLEMENT, arg);
+					default: throw unsupported(op);
+				}
+			}
+			final BinaryKind kind = BinaryKind.operator(symbol);
+			if (op.getArity() == 2 && tree.count() == 2 && kind != null) {
+				return binary(kind, build(tree.child(0)), build(tree.child(1)));
+			}
+			throw unsupported(op);
+		}
+
+		private Node unary(final UnaryKind kind, final Node arg) {
+			if (kind == UnaryKind.POS) return arg;
+			if (arg instanceof Constant) {
+				constants.remove(arg);
+				return constant(kind.f.applyAsDouble(((Constant) arg).value));
+			}
+			return new Unary(kind, arg, registers++);
+		}
+
+		private Node binary(final BinaryKind kind, final Node left,
+			final Node right)
+		{
+			if (left instanceof Constant && right instanceof Constant) {
+				constants.remove(left);
+				constants.remove(right);
+				return constant(kind.f.applyAsDouble(((Constant) left).value,
+					((Constant) right).value));
+			}
+			return new Binary(kind, left, right, registers++);
+		}
+
+		private Constant constant(final double value) {
+			final Constant c = new Constant(registers++, value);
+			constants.add(c);
+			return c;
+		}
+
+		private IllegalArgumentException unsupported(final Object token) {
+			return new IllegalArgumentException("Unsupported token: " + token);
+		}
+	}
+
+}
@@ -0,0 +1,431 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2020 ImageJ developers.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.features.haralick;
+
+import java.util.Arrays;
+
+import net.imagej.ops.Contingent;
+import net.imagej.ops.Ops;
+import net.imagej.ops.Ops.Stats.MinMax;
+import net.imagej.ops.image.cooccurrenceMatrix.CooccurrenceMatrix2D;
+import net.imagej.ops.image.cooccurrenceMatrix.CooccurrenceMatrix3D;
+import net.imagej.ops.image.cooccurrenceMatrix.MatrixOrientation;
+import net.imagej.ops.special.function.AbstractUnaryFunctionOp;
+import net.imagej.ops.special.function.Functions;
+import net.imagej.ops.special.function.UnaryFunctionOp;
+import net.imglib2.Cursor;
+import net.imglib2.IterableInterval;
+import net.imglib2.type.numeric.RealType;
+import net.imglib2.util.Pair;
+
+import org.scijava.plugin.Parameter;
+import org.scijava.plugin.Plugin;
+
+/**
+ * Computes all Haralick features of a 2D or 3D region at once.
+ * <p>
+ * The co-occurrence matrix is counted once, in integers, the same way as
+ * {@link CooccurrenceMatrix2D} and {@link CooccurrenceMatrix3D} do. Up to
+ * {@value #DENSE_LIMIT} grey levels the counts are kept in a dense array,
+ * above that in a hash table holding only the pairs which occur. All marginals
+ * and features are then computed from the non-zero entries, in two passes.
+ * Entries are visited in the same order as the single feature ops visit the
+ * dense matrix, so the results are the same.
+ * </p>
+ * 
+ * @param <T>
+ */
+@Plugin(type = Ops.Haralick.Features.class)
+public class DefaultHaralickFeatures<T extends RealType<T>> extends
+	AbstractUnaryFunctionOp<IterableInterval<T>, HaralickFeatures> implements
+	Ops.Haralick.Features, Contingent
+{
+
+	/** Number of grey levels up to which the matrix is counted densely. */
+	static final int DENSE_LIMIT = 256;
+
+	private static final double EPSILON = Double.MIN_NORMAL;
+
+	@Parameter
+	private int numGreyLevels = 32;
+
+	@Parameter
+	private int distance = 1;
+
+	@Parameter
+	private MatrixOrientation orientation;
+
+	private UnaryFunctionOp<IterableInterval<T>, Pair<T, T>> minmax;
+
+	@Override
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public void initialize() {
+		minmax = (UnaryFunctionOp) Functions.unary(ops(), MinMax.class, Pair.class,
+			in());
+	}
+
+	@Override
+	public HaralickFeatures calculate(final IterableInterval<T> input) {
+		final int g = numGreyLevels;
+
+		// -- count the co-occurrences: sorted rows, columns and counts --
+
+		final long[] entries = cooccurrences(input);
+		final int nz = entries.length;
+		long nrPairs = 0;
+		for (final long e : entries) {
+			nrPairs += count(e);
+		}
+		final double divisor = nrPairs > 0 ? 1.0 / nrPairs : 1;
+		final int[] rows = new int[nz];
+		final int[] cols = new int[nz];
+		final double[] p = new double[nz];
+		for (int k = 0; k < nz; k++) {
+			final long key = key(entries[k]);
+			rows[k] = (int) (key / g);
+			cols[k] = (int) (key % g);
+			p[k] = count(entries[k]) * divisor;
+		}
+
+		// -- first pass: marginals and features of the matrix alone --
+
+		final double[] px = new double[g];
+		final double[] py = new double[g];
+		final double[] pxplusy = new double[2 * g + 1];
+		final double[] pxminusy = new double[g];
+		final HaralickFeatures f = new HaralickFeatures();
+		double sum = 0;
+		double sumij = 0;
+		double entropy = 0;
+		for (int k = 0; k < nz; k++) {
+			final int i = rows[k];
+			final int j = cols[k];
+			final double m = p[k];
+			px[j] += m;
+			py[i] += m;
+			pxplusy[i + j + 2] += m;
+			pxminusy[Math.abs(i - j)] += m;
+			sum += m;
+			sumij += i * j * m;
+			f.asm += m * m;
+			entropy += m * Math.log(m + EPSILON);
+			f.ifdm += m / (1 + ((i - j) * (i - j)));
+			f.textureHomogeneity += m / (1 + Math.abs(i - j));
+			if (m > f.maxProbability) f.maxProbability = m;
+		}
+		f.entropy = -entropy;
+
+		double meanx = 0;
+		double meany = 0;
+		for (int i = 0; i < g; i++) {
+			meanx += i * px[i];
+		}
+		for (int i = 0; i < g; i++) {
+			meany += i * py[i];
+		}
+		double varx = 0;
+		double vary = 0;
+		for (int i = 0; i < g; i++) {
+			varx += ((i - meanx) * (i - meanx)) * px[i];
+		}
+		for (int i = 0; i < g; i++) {
+			vary += ((i - meany) * (i - meany)) * py[i];
+		}
+		f.correlation = (sumij - (meanx * meany)) / (Math.sqrt(varx) * Math.sqrt(
+			vary));
+
+		// -- second pass: features depending on the means and marginals --
+
+		final double mean = sum / (g * g);
+		double shade = 0;
+		double promenence = 0;
+		double variance = 0;
+		double hxy1 = 0;
+		for (int k = 0; k < nz; k++) {
+			final int i = rows[k];
+			final int j = cols[k];
+			final double m = p[k];
+			shade += (Math.pow((j + i - meanx - meany), 3) * m);
+			promenence += Math.pow(i + j - meanx - meany, 4) * m;
+			variance += (i - mean) * (i - mean) * m;
+			hxy1 += m * Math.log(px[i] * py[j] + EPSILON);
+		}
+		f.clusterShade = shade;
+		f.clusterPromenence = promenence;
+		f.variance = variance;
+
+		// -- features of the marginals --
+
+		double hx = 0;
+		double hy = 0;
+		double hxy2 = 0;
+		for (int i = 0; i < g; i++) {
+			hx += px[i] * Math.log(px[i] + EPSILON);
+		}
+		for (int j = 0; j < g; j++) {
+			hy += py[j] * Math.log(py[j] + EPSILON);
+		}
+		hx = -hx;
+		hy = -hy;
+		final int[] nzy = nonZero(py);
+		for (final int i : nonZero(px)) {
+			for (final int j : nzy) {
+				hxy2 += px[i] * py[j] * Math.log(px[i] * py[j] + EPSILON);
+			}
+		}
+		hxy1 = -hxy1;
+		hxy2 = -hxy2;
+		f.icm1 = (f.entropy - hxy1) / (hx > hy ? hx : hy);
+		final double icm2 = Math.sqrt(1 - Math.exp(-2 * (hxy2 - f.entropy)));
+		f.icm2 = Double.isNaN(icm2) ? 0 : icm2;
+
+		double contrast = 0;
+		double differenceEntropy = 0;
+		double differenceMean = 0;
+		for (int k = 0; k < g; k++) {
+			contrast += k * k * pxminusy[k];
+			differenceEntropy += pxminusy[k] * Math.log(pxminusy[k] + EPSILON);
+			differenceMean += k * pxminusy[k];
+		}
+		double differenceVariance = 0;
+		for (int k = 0; k < g; k++) {
+			differenceVariance += Math.pow(k - differenceMean, 2) * pxminusy[k];
+		}
+		f.contrast = contrast;
+		f.differenceEntropy = -differenceEntropy;
+		f.differenceVariance = differenceVariance;
+
+		double sumAverage = 0;
+		double sumEntropy = 0;
+		for (int i = 2; i <= 2 * g; i++) {
+			sumAverage += i * pxplusy[i];
+			sumEntropy += pxplusy[i] * Math.log(pxplusy[i] + EPSILON);
+		}
+		f.sumAverage = sumAverage;
+		f.sumEntropy = -sumEntropy;
+		double sumVariance = 0;
+		for (int i = 2; i <= 2 * g; i++) {
+			sumVariance += (i - f.sumEntropy) * (i - f.sumEntropy) * pxplusy[i];
+		}
+		f.sumVariance = sumVariance;
+
+		return f;
+	}
+
+	@Override
+	public boolean conforms() {
+		final int n = in().numDimensions();
+		return (n == 2 || n == 3) && orientation.numDims() == n && orientation
+			.isCompatible(n);
+	}
+
+	// -- Helper methods --
+
+	/**
+	 * Counts the co-occurrences of grey levels, returning for each pair that
+	 * occurs its matrix index and count, packed as in {@link #entry}, sorted
+	 * row-major.
+	 */
+	private long[] cooccurrences(final IterableInterval<T> input) {
+		final int n = input.numDimensions();
+		final int g = numGreyLevels;
+
+		final Pair<T, T> minMax = minmax.calculate(input);
+		final double localMin = minMax.getA().getRealDouble();
+		final double diff = minMax.getB().getRealDouble() - localMin;
+
+		// quantize into a flat image; the 2D matrix leaves pixels outside the
+		// region out, while the 3D matrix treats them as grey level zero
+		final int[] dims = new int[n];
+		final int[] strides = new int[n];
+		int size = 1;
+		for (int d = 0; d < n; d++) {
+			dims[d] = (int) input.dimension(d);
+			strides[d] = size;
+			size *= dims[d];
+		}
+		final int[] pixels = new int[size];
+		final int levels = n == 2 ? g : g - 1;
+		Arrays.fill(pixels, n == 2 ? Integer.MAX_VALUE : 0);
+		final Cursor<T> cursor = input.localizingCursor();
+		while (cursor.hasNext()) {
+			cursor.fwd();
+			int index = 0;
+			for (int d = 0; d < n; d++) {
+				index += (cursor.getIntPosition(d) - (int) input.min(d)) * strides[d];
+			}
+			final int bin = (int) (((cursor.get().getRealDouble() - localMin) /
+				diff) * levels);
+			pixels[index] = n == 2 && bin >= g - 1 ? g - 1 : bin;
+		}
+
+		final int[] offset = new int[n];
+		int flatOffset = 0;
+		for (int d = 0; d < n; d++) {
+			offset[d] = orientation.getValueAtDim(d) * distance;
+			flatOffset += offset[d] * strides[d];
+		}
+
+		final boolean dense = g <= DENSE_LIMIT;
+		final int[] counts = dense ? new int[g * g] : null;
+		final SparseCounts sparse = dense ? null : new SparseCounts();
+		final int[] pos = new int[n];
+		for (int index = 0; index < size; index++) {
+			if (index > 0) {
+				// advance the position, first dimension fastest
+				for (int d = 0; d < n && ++pos[d] == dims[d]; d++) {
+					pos[d] = 0;
+				}
+			}
+			final int a = pixels[index];
+			if (a == Integer.MAX_VALUE) continue;
+			boolean inside = true;
+			for (int d = 0; d < n; d++) {
+				final int s = pos[d] + offset[d];
+				inside &= s >= 0 && s < dims[d];
+			}
+			if (!inside) continue;
+			final int b = pixels[index + flatOffset];
+			if (b == Integer.MAX_VALUE) continue;
+			if (dense) counts[a * g + b]++;
+			else sparse.increment((long) a * g + b);
+		}
+
+		if (!dense) return sparse.sortedEntries();
+		int nz = 0;
+		for (final int c : counts) {
+			if (c != 0) nz++;
+		}
+		final long[] entries = new long[nz];
+		for (int k = 0, e = 0; k < counts.length; k++) {
+			if (counts[k] != 0) entries[e++] = entry(k, counts[k]);
+		}
+		return entries;
+	}
+
+	/**
+	 * Packs a matrix index (row * numGreyLevels + column) and its count into
+	 * one long, ordered by index.
+	 */
+	private static long entry(final long key, final int count) {
+		return key << 32 | count;
+	}
+
+	private static long key(final long entry) {
+		return entry >>> 32;
+	}
+
+	private static int count(final long entry) {
+		return (int) entry;
+	}
+
+	private static int[] nonZero(final double[] values) {
+		int nz = 0;
+		for (final double v : values) {
+			if (v != 0) nz++;
+		}
+		final int[] indices = new int[nz];
+		for (int i = 0, k = 0; i < values.length; i++) {
+			if (values[i] != 0) indices[k++] = i;
+		}
+		return indices;
+	}
+
+	// -- Helper classes --
+
+	/** Open addressing hash table from matrix index to count. */
+	private static class SparseCounts {
+
+		private static final long EMPTY = -1;
+
+		private long[] keys = new long[1024];
+		private int[] counts = new int[1024];
+		private int size;
+
+		{
+			Arrays.fill(keys, EMPTY);
+		}
+
+		void increment(final long key) {
+			int slot = slot(key, keys.length);
+			while (keys[slot] != EMPTY && keys[slot] != key) {
+				slot = (slot + 1) & (keys.length - 1);
+			}
+			if (keys[slot] == EMPTY) {
+				keys[slot] = key;
+				if (++size > keys.length / 2) {
+					grow();
+					slot = find(key);
+				}
+			}
+			counts[slot]++;
+		}
+
+		long[] sortedEntries() {
+			final long[] entries = new long[size];
+			for (int slot = 0, e = 0; slot < keys.length; slot++) {
+				if (keys[slot] != EMPTY) entries[e++] = entry(keys[slot], counts[slot]);
+			}
+			Arrays.sort(entries);
+			return entries;
+		}
+
+		private int find(final long key) {
+			int slot = slot(key, keys.length);
+			while (keys[slot] != key) {
+				slot = (slot + 1) & (keys.length - 1);
+			}
+			return slot;
+		}
+
+		private void grow() {
+			final long[] oldKeys = keys;
+			final int[] oldCounts = counts;
+			keys = new long[oldKeys.length * 2];
+			counts = new int[oldCounts.length * 2];
+			Arrays.fill(keys, EMPTY);
+			for (int i = 0; i < oldKeys.length; i++) {
+				if (oldKeys[i] == EMPTY) continue;
+				int slot = slot(oldKeys[i], keys.length);
+				while (keys[slot] != EMPTY) {
+					slot = (slot + 1) & (keys.length - 1);
+				}
+				keys[slot] = oldKeys[i];
+				counts[slot] = oldCounts[i];
+			}
+		}
+
+		private static int slot(final long key, final int length) {
+			final long h = key * 0x9E3779B97F4A7C15L;
+			return (int) (h >>> 40) & (length - 1);
+		}
+	}
+
+}
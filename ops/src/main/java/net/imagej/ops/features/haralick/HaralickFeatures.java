@@ -0,0 +1,142 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2020 ImageJ developers.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.features.haralick;
+
+/**
+ * All Haralick features of a region for one co-occurrence matrix, as computed
+ * by {@link DefaultHaralickFeatures}. Each value equals the one computed by
+ * the corresponding single feature op.
+ */
+public class HaralickFeatures {
+
+	double asm;
+	double clusterPromenence;
+	double clusterShade;
+	double contrast;
+	double correlation;
+	double differenceEntropy;
+	double differenceVariance;
+	double entropy;
+	double icm1;
+	double icm2;
+	double ifdm;
+	double maxProbability;
+	double sumAverage;
+	double sumEntropy;
+	double sumVariance;
+	double textureHomogeneity;
+	double variance;
+
+	/** @see DefaultASM */
+	public double getASM() {
+		return asm;
+	}
+
+	/** @see DefaultClusterPromenence */
+	public double getClusterPromenence() {
+		return clusterPromenence;
+	}
+
+	/** @see DefaultClusterShade */
+	public double getClusterShade() {
+		return clusterShade;
+	}
+
+	/** @see DefaultContrast */
+	public double getContrast() {
+		return contrast;
+	}
+
+	/** @see DefaultCorrelation */
+	public double getCorrelation() {
+		return correlation;
+	}
+
+	/** @see DefaultDifferenceEntropy */
+	public double getDifferenceEntropy() {
+		return differenceEntropy;
+	}
+
+	/** @see DefaultDifferenceVariance */
+	public double getDifferenceVariance() {
+		return differenceVariance;
+	}
+
+	/** @see DefaultEntropy */
+	public double getEntropy() {
+		return entropy;
+	}
+
+	/** @see DefaultICM1 */
+	public double getICM1() {
+		return icm1;
+	}
+
+	/** @see DefaultICM2 */
+	public double getICM2() {
+		return icm2;
+	}
+
+	/** @see DefaultIFDM */
+	public double getIFDM() {
+		return ifdm;
+	}
+
+	/** @see DefaultMaxProbability */
+	public double getMaxProbability() {
+		return maxProbability;
+	}
+
+	/** @see DefaultSumAverage */
+	public double getSumAverage() {
+		return sumAverage;
+	}
+
+	/** @see DefaultSumEntropy */
+	public double getSumEntropy() {
+		return sumEntropy;
+	}
+
+	/** @see DefaultSumVariance */
+	public double getSumVariance() {
+		return sumVariance;
+	}
+
+	/** @see DefaultTextureHomogeneity */
+	public double getTextureHomogeneity() {
+		return textureHomogeneity;
+	}
+
+	/** @see DefaultVariance */
+	public double getVariance() {
+		return variance;
+	}
+
+}
@@ -234,6 +234,17 @@ public <T extends RealType<T>> DoubleType entropy(final DoubleType out,
 		return result;
 	}
 
+	@OpMethod(op = net.imagej.ops.features.haralick.DefaultHaralickFeatures.class)
+	public <T extends RealType<T>> HaralickFeatures features(
+		final IterableInterval<T> in, final int numGreyLevels, final int distance,
+		final MatrixOrientation orientation)
+	{
+		final HaralickFeatures result = (HaralickFeatures) ops().run(
+			net.imagej.ops.Ops.Haralick.Features.class, in, numGreyLevels,
+			distance, orientation);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.features.haralick.DefaultICM1.class)
 	public <T extends RealType<T>> DoubleType icm1(final IterableInterval<T> in,
 		final int numGreyLevels, final int distance,
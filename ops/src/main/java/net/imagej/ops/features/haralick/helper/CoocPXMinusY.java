@@ -47,13 +47,9 @@ public double[] calculate(final double[][] matrix) {
 		final int nrGrayLevels = matrix.length;
 
 		final double[] pxminusy = new double[nrGrayLevels];
-		for (int k = 0; k < nrGrayLevels; k++) {
-			for (int i = 0; i < nrGrayLevels; i++) {
-				for (int j = 0; j < nrGrayLevels; j++) {
-					if (Math.abs(i - j) == k) {
-						pxminusy[k] += matrix[i][j];
-					}
-				}
+		for (int i = 0; i < nrGrayLevels; i++) {
+			for (int j = 0; j < nrGrayLevels; j++) {
+				pxminusy[Math.abs(i - j)] += matrix[i][j];
 			}
 		}
 
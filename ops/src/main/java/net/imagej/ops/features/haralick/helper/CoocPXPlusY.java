@@ -48,13 +48,9 @@ public double[] calculate(double[][] matrix) {
 
 		final double[] pxplusy = new double[2 * nrGrayLevels + 1];
 
-		for (int k = 2; k <= 2 * nrGrayLevels; k++) {
-			for (int i = 0; i < nrGrayLevels; i++) {
-				for (int j = 0; j < nrGrayLevels; j++) {
-					if ((i + 1) + (j + 1) == k) {
-						pxplusy[k] += matrix[i][j];
-					}
-				}
+		for (int i = 0; i < nrGrayLevels; i++) {
+			for (int j = 0; j < nrGrayLevels; j++) {
+				pxplusy[(i + 1) + (j + 1)] += matrix[i][j];
 			}
 		}
 		return pxplusy;
@@ -0,0 +1,297 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2020 ImageJ developers.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.features.zernike;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import net.imagej.ops.Contingent;
+import net.imagej.ops.Ops;
+import net.imagej.ops.features.zernike.helper.Polynom;
+import net.imagej.ops.features.zernike.helper.ZernikeComputer;
+import net.imagej.ops.special.function.AbstractUnaryFunctionOp;
+import net.imglib2.Cursor;
+import net.imglib2.IterableInterval;
+import net.imglib2.type.numeric.RealType;
+
+import org.scijava.plugin.Parameter;
+import org.scijava.plugin.Plugin;
+
+/**
+ * Computes all Zernike moments of a 2D region up to a given order in a single
+ * pass over its pixels.
+ * <p>
+ * The radial polynomial coefficients of every (n, m) are built once when the
+ * op is initialized. For each ROI size, the complex basis value of every pixel
+ * inside the unit disk is tabulated and kept in a small LRU cache, so regions
+ * of a recurring size only sum table rows. Sums are compensated doubles, and
+ * the results agree with {@link ZernikeComputer} to within rounding.
+ * </p>
+ * 
+ * @param <T> input type
+ */
+@Plugin(type = Ops.Zernike.Moments.class)
+public class DefaultZernikeMoments<T extends RealType<T>> extends
+	AbstractUnaryFunctionOp<IterableInterval<T>, ZernikeMoments> implements
+	Ops.Zernike.Moments, Contingent
+{
+
+	/** Number of ROI sizes whose basis tables are cached. */
+	private static final int CACHED_SIZES = 16;
+
+	/** Largest basis table, in doubles, that is cached. */
+	private static final long MAX_TABLE_SIZE = 1 << 21;
+
+	@Parameter
+	private int order;
+
+	/** Order n of each moment. */
+	private int[] ns;
+
+	/** Repetition m of each moment. */
+	private int[] ms;
+
+	/** Powers of r with non-zero coefficient in each radial polynomial. */
+	private int[][] powers;
+
+	/** The non-zero coefficients matching {@link #powers}. */
+	private int[][] coefficients;
+
+	private double[] rPow;
+	private double[] cosM;
+	private double[] sinM;
+
+	private Map<Long, Basis> cache;
+
+	@Override
+	public void initialize() {
+		final int count = ZernikeMoments.count(order);
+		ns = new int[count];
+		ms = new int[count];
+		powers = new int[count][];
+		coefficients = new int[count][];
+
+		final double[][] d = ZernikeComputer.computePascalsTriangle(order);
+		for (int n = 0; n <= order; n++) {
+			for (int m = n % 2; m <= n; m += 2) {
+				final int k = ZernikeMoments.index(n, m);
+				ns[k] = n;
+				ms[k] = m;
+				final Polynom p = ZernikeComputer.createRadialPolynom(n, m, d);
+				int terms = 0;
+				for (int i = 0; i <= n; i++) {
+					if (p.getCoefficient(i) != 0) terms++;
+				}
+				powers[k] = new int[terms];
+				coefficients[k] = new int[terms];
+				for (int i = 0, t = 0; i <= n; i++) {
+					if (p.getCoefficient(i) == 0) continue;
+					powers[k][t] = i;
+					coefficients[k][t++] = p.getCoefficient(i);
+				}
+			}
+		}
+
+		rPow = new double[order + 1];
+		cosM = new double[order + 1];
+		sinM = new double[order + 1];
+		cache = new LinkedHashMap<Long, Basis>(CACHED_SIZES, 0.75f, true) {
+
+			@Override
+			protected boolean removeEldestEntry(final Map.Entry<Long, Basis> e) {
+				return size() > CACHED_SIZES;
+			}
+		};
+	}
+
+	@Override
+	public ZernikeMoments calculate(final IterableInterval<T> input) {
+		final int count = ns.length;
+		final int width = (int) input.dimension(0);
+		final Basis basis = basis(width, (int) input.dimension(1));
+
+		// NB: Neumaier summation, with the compensation kept separately.
+		final double[] sum = new double[2 * count];
+		final double[] comp = new double[2 * count];
+		final double[] row = basis.table == null ? new double[2 * count] : null;
+
+		final long minX = input.min(0);
+		final long minY = input.min(1);
+		final Cursor<T> cursor = input.localizingCursor();
+		while (cursor.hasNext()) {
+			cursor.fwd();
+			if (cursor.get().getRealDouble() == 0.0) continue;
+			final int x = (int) (cursor.getLongPosition(0) - minX);
+			final int y = (int) (cursor.getLongPosition(1) - minY);
+
+			final double[] values;
+			final int offset;
+			if (basis.table != null) {
+				final int r = basis.rows[y * width + x];
+				if (r < 0) continue;
+				values = basis.table;
+				offset = r * 2 * count;
+			}
+			else {
+				if (!evaluate(basis, x, y, row, 0)) continue;
+				values = row;
+				offset = 0;
+			}
+
+			for (int j = 0; j < sum.length; j++) {
+				final double s = sum[j];
+				final double v = values[offset + j];
+				final double t = s + v;
+				comp[j] += Math.abs(s) >= Math.abs(v) ? (s - t) + v : (v - t) + s;
+				sum[j] = t;
+			}
+		}
+
+		// normalization
+		final ZernikeMoments moments = new ZernikeMoments(order);
+		for (int k = 0; k < count; k++) {
+			final int n1 = ns[k] + 1;
+			moments.real[k] = (sum[2 * k] + comp[2 * k]) * n1 / basis.diskPixels;
+			moments.imag[k] = (sum[2 * k + 1] + comp[2 * k + 1]) * n1 /
+				basis.diskPixels;
+		}
+		return moments;
+	}
+
+	@Override
+	public boolean conforms() {
+		return in().numDimensions() == 2 && order >= 0;
+	}
+
+	// -- Helper methods --
+
+	private Basis basis(final int width, final int height) {
+		final Long key = (long) width << 32 | height;
+		Basis basis = cache.get(key);
+		if (basis != null) return basis;
+
+		basis = new Basis(width, height);
+		final long pixels = (long) width * height;
+		if (pixels * 2 * ns.length > MAX_TABLE_SIZE) {
+			// NB: Too large to tabulate; evaluate per pixel.
+			return basis;
+		}
+
+		basis.rows = new int[(int) pixels];
+		int inside = 0;
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				basis.rows[y * width + x] = basis.contains(x, y) ? inside++ : -1;
+			}
+		}
+		basis.table = new double[inside * 2 * ns.length];
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				final int r = basis.rows[y * width + x];
+				if (r >= 0) evaluate(basis, x, y, basis.table, r * 2 * ns.length);
+			}
+		}
+		cache.put(key, basis);
+		return basis;
+	}
+
+	/**
+	 * Writes the conjugated basis values R(n, m)(r) * exp(-i m theta) of all
+	 * moments at pixel (x, y), interleaving real and imaginary parts.
+	 * 
+	 * @return false if the pixel lies outside the unit disk.
+	 */
+	private boolean evaluate(final Basis basis, final int x, final int y,
+		final double[] out, final int offset)
+	{
+		final double xm = (x - basis.centerX) / basis.radius;
+		final double ym = (y - basis.centerY) / basis.radius;
+		final double r = Math.sqrt(xm * xm + ym * ym);
+		if (!(r <= 1)) return false;
+
+		// powers of r, as Polynom#evaluate accumulates them
+		double power = 1.0;
+		for (int i = 0; i <= order; i++) {
+			rPow[i] = power;
+			power *= r;
+		}
+
+		// cos(m theta) and sin(m theta) for theta = atan2(xm, ym)
+		final double cos1 = r == 0 ? 1 : ym / r;
+		final double sin1 = r == 0 ? 0 : xm / r;
+		cosM[0] = 1;
+		sinM[0] = 0;
+		for (int m = 1; m <= order; m++) {
+			cosM[m] = cosM[m - 1] * cos1 - sinM[m - 1] * sin1;
+			sinM[m] = sinM[m - 1] * cos1 + cosM[m - 1] * sin1;
+		}
+
+		for (int k = 0; k < ns.length; k++) {
+			final int[] pk = powers[k];
+			final int[] ck = coefficients[k];
+			double rad = 0.0;
+			for (int t = 0; t < pk.length; t++) {
+				rad += ck[t] * rPow[pk[t]];
+			}
+			out[offset + 2 * k] = rad * cosM[ms[k]];
+			out[offset + 2 * k + 1] = -(rad * sinM[ms[k]]);
+		}
+		return true;
+	}
+
+	// -- Helper classes --
+
+	/** Geometry of a ROI size, with its basis table if it was tabulated. */
+	private static class Basis {
+
+		private final double centerX;
+		private final double centerY;
+		private final double radius;
+		private final long diskPixels;
+
+		/** Row of each pixel in {@link #table}, or -1 outside the unit disk. */
+		private int[] rows;
+		private double[] table;
+
+		private Basis(final int width, final int height) {
+			centerX = (width - 1) / 2.0;
+			centerY = (height - 1) / 2.0;
+			radius = Math.sqrt(centerX * centerX + centerY * centerY);
+			diskPixels = ZernikeComputer.getNumberOfPixelsInUnitDisk(radius);
+		}
+
+		private boolean contains(final int x, final int y) {
+			final double xm = (x - centerX) / radius;
+			final double ym = (y - centerY) / radius;
+			return Math.sqrt(xm * xm + ym * ym) <= 1;
+		}
+	}
+
+}
@@ -0,0 +1,112 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2020 ImageJ developers.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.features.zernike;
+
+/**
+ * All Zernike moments of a region up to a maximum order, as computed by
+ * {@link DefaultZernikeMoments}.
+ * <p>
+ * Moments are stored for non-negative repetitions only; for a real image
+ * {@code Z(n, -m)} is the complex conjugate of {@code Z(n, m)}.
+ * </p>
+ */
+public class ZernikeMoments {
+
+	private final int order;
+	final double[] real;
+	final double[] imag;
+
+	ZernikeMoments(final int order) {
+		this.order = order;
+		real = new double[count(order)];
+		imag = new double[count(order)];
+	}
+
+	/** @return the maximum order n of the moments */
+	public int getOrder() {
+		return order;
+	}
+
+	/** @return the real part of moment (n, m) */
+	public double getReal(final int n, final int m) {
+		return real[index(n, m)];
+	}
+
+	/** @return the imaginary part of moment (n, m) */
+	public double getImaginary(final int n, final int m) {
+		final double im = imag[index(n, m)];
+		return m < 0 ? -im : im;
+	}
+
+	/**
+	 * @return the magnitude of moment (n, m)
+	 * @see DefaultMagnitudeFeature
+	 */
+	public double getMagnitude(final int n, final int m) {
+		final int k = index(n, m);
+		return Math.hypot(real[k], imag[k]);
+	}
+
+	/**
+	 * @return the phase of moment (n, m) in degrees, in [0, 360) like
+	 *         {@link net.imagej.types.BigComplex#getPhaseDouble()}
+	 * @see DefaultPhaseFeature
+	 */
+	public double getPhase(final int n, final int m) {
+		double phase = Math.atan2(getImaginary(n, m), getReal(n, m));
+		if (phase < 0) phase += 2 * Math.PI;
+		return phase * 180 / Math.PI;
+	}
+
+	// -- Helper methods --
+
+	/** Number of moments with non-negative repetition up to the given order. */
+	static int count(final int order) {
+		return index(order, order) + 1;
+	}
+
+	/**
+	 * Position of moment (n, |m|) in moments ordered by n, then by m.
+	 * 
+	 * @throws IllegalArgumentException if n - |m| is odd or negative.
+	 */
+	static int index(final int n, final int m) {
+		final int am = Math.abs(m);
+		if (am > n || (n - am) % 2 != 0) {
+			throw new IllegalArgumentException("Invalid Zernike moment: order " +
+				n + ", repetition " + m);
+		}
+		// NB: Order j contributes j / 2 + 1 repetitions.
+		final int h = n / 2;
+		final int before = n + (n % 2 == 0 ? h * (h - 1) : h * h);
+		return before + am / 2;
+	}
+
+}
@@ -83,4 +83,13 @@ public <T extends RealType<T>, O extends RealType<O>> O magnitude(final O out, f
 		return result;
 	}
 
+	@OpMethod(op = net.imagej.ops.features.zernike.DefaultZernikeMoments.class)
+	public <T extends RealType<T>> ZernikeMoments moments(
+		final IterableInterval<T> in, final int order)
+	{
+		final ZernikeMoments result = (ZernikeMoments) ops().run(
+			net.imagej.ops.Ops.Zernike.Moments.class, in, order);
+		return result;
+	}
+
 }
@@ -65,8 +65,9 @@ public ZernikeMoment calculate(final IterableInterval<T> ii) {
 		final double width2 = (ii.dimension(0) - 1) / 2.0;
 		final double height2 = (ii.dimension(1) - 1) / 2.0;
 
-		final double centerX = width2 + ii.min(0);
-		final double centerY = height2 + ii.min(1);
+		// NB: x and y below are relative to the interval's minimum.
+		final double centerX = width2;
+		final double centerY = height2;
 
 		final double radius = Math.sqrt(width2 * width2 + height2 * height2);
 
@@ -113,7 +114,7 @@ public ZernikeMoment calculate(final IterableInterval<T> ii) {
 	 *            the radius
 	 * @return number of pixels within the disk
 	 */
-	private long getNumberOfPixelsInUnitDisk(final double r) {
+	public static long getNumberOfPixelsInUnitDisk(final double r) {
 		long tmp = 0;
 		for (int i = 1; i <= Math.floor(r); i++) {
 			tmp += Math.floor(Math.sqrt(r * r - i * i));
@@ -212,7 +213,7 @@ private ZernikeMoment createZernikeMoment(double[][] d, int n, int m) {
 	 *            maximal order of pascal's triangle
 	 * @return pascal's triangle
 	 */
-	private double[][] computePascalsTriangle(int max) {
+	public static double[][] computePascalsTriangle(int max) {
 		double[][] d = new double[max + 1][max + 1];
 		for (int n = 0; n <= max; n++) {
 			for (int k = 0; k <= n; k++) {
@@ -30,6 +30,8 @@
 package net.imagej.ops.filter;
 
 import net.imagej.ops.filter.fft.CreateOutputFFTMethods;
+import net.imagej.ops.filter.fft.FFTMethodsUtility;
+import net.imagej.ops.filter.fft.FFTWorkspaceService;
 import net.imagej.ops.filter.pad.PadInputFFTMethods;
 import net.imagej.ops.filter.pad.PadShiftKernelFFTMethods;
 import net.imagej.ops.special.computer.AbstractBinaryComputerOp;
@@ -96,6 +98,20 @@
 	@Parameter(required = false)
 	private ComplexType<C> fftType;
 
+	/**
+	 * Workspace from which FFT buffers and kernel spectra are reused. If absent
+	 * or not {@link FFTWorkspaceService#isEnabled() enabled}, new buffers are
+	 * created and the kernel is transformed on every call.
+	 */
+	@Parameter(required = false)
+	private FFTWorkspaceService workspace;
+
+	/**
+	 * Whether the filter computer still has to transform the kernel, i.e. its
+	 * spectrum was not found in the workspace
+	 */
+	private boolean performKernelFFT = true;
+
 	/**
 	 * Op used to pad the input
 	 */
@@ -181,6 +197,7 @@ public RandomAccessibleInterval<O> createOutput(
 	 * create FFT memory, create FFT filter and run it
 	 */
 	@Override
+	@SuppressWarnings("unchecked")
 	public void compute(
 		final RandomAccessibleInterval<I> input,
 		final RandomAccessibleInterval<K> kernel,
@@ -218,11 +235,17 @@ public void compute(
 		RandomAccessibleInterval<K> paddedKernel = padKernelOp.calculate(kernel,
 			new FinalDimensions(paddedSize));
 
-		RandomAccessibleInterval<C> fftInput = createOp.calculate(
-			new FinalDimensions(paddedSize));
+		final Dimensions paddedDimensions = new FinalDimensions(paddedSize);
 
-		RandomAccessibleInterval<C> fftKernel = createOp.calculate(
-			new FinalDimensions(paddedSize));
+		RandomAccessibleInterval<C> fftInput = createBuffer(paddedDimensions);
+
+		RandomAccessibleInterval<C> fftKernel = null;
+		if (workspace != null) {
+			fftKernel = workspace.getKernelSpectrum(kernel, paddedDimensions,
+				(C) fftType);
+		}
+		performKernelFFT = fftKernel == null;
+		if (performKernelFFT) fftKernel = createBuffer(paddedDimensions);
 
 		// TODO: in this case it is difficult to match the filter op in the
 		// 'initialize' as we don't know the size yet, thus we can't create
@@ -232,6 +255,30 @@ public void compute(
 			fftKernel, output);
 
 		filter.compute(paddedInput, paddedKernel, output);
+
+		if (workspace != null) {
+			workspace.releaseBuffer(fftInput);
+			if (performKernelFFT) {
+				workspace.putKernelSpectrum(kernel, paddedDimensions, fftKernel);
+			}
+		}
+	}
+
+	/**
+	 * Takes an FFT buffer from the workspace, or creates one if there is none.
+	 */
+	@SuppressWarnings("unchecked")
+	private RandomAccessibleInterval<C> createBuffer(
+		final Dimensions paddedDimensions)
+	{
+		if (workspace != null) {
+			// NB: the buffers are released under their own, complex dimensions
+			final RandomAccessibleInterval<C> buffer = workspace.takeBuffer(
+				FFTMethodsUtility.getFFTDimensionsRealToComplex(true,
+					paddedDimensions), (C) fftType);
+			if (buffer != null) return buffer;
+		}
+		return createOp.calculate(paddedDimensions);
 	}
 
 	/**
@@ -274,4 +321,13 @@ protected void setOBFKernel(OutOfBoundsFactory<K, RandomAccessibleInterval<K>> o
 	protected O getOutType() {
 		return outType;
 	}
+
+	/**
+	 * Whether the filter computer has to transform the kernel. False when the
+	 * kernel spectrum handed to {@link #createFilterComputer} was taken from the
+	 * workspace.
+	 */
+	protected boolean getPerformKernelFFT() {
+		return performKernelFFT;
+	}
 }
@@ -41,6 +41,7 @@
 import net.imglib2.IterableInterval;
 import net.imglib2.RandomAccessible;
 import net.imglib2.RandomAccessibleInterval;
+import net.imglib2.algorithm.neighborhood.RectangleShape;
 import net.imglib2.algorithm.neighborhood.Shape;
 import net.imglib2.img.Img;
 import net.imglib2.outofbounds.OutOfBoundsFactory;
@@ -1100,6 +1101,31 @@ public <T extends RealType<T>> IterableInterval<T> median(
 		return result;
 	}
 
+	/** Executes the "median" filter operation on the given arguments. */
+	@OpMethod(op = net.imagej.ops.filter.median.RectangleMedianFilter.class)
+	public <T extends RealType<T>> IterableInterval<T> median(
+		final IterableInterval<T> out, final RandomAccessibleInterval<T> in,
+		final RectangleShape shape)
+	{
+		@SuppressWarnings("unchecked")
+		final IterableInterval<T> result = (IterableInterval<T>) ops().run(
+			Ops.Filter.Median.class, out, in, shape);
+		return result;
+	}
+
+	/** Executes the "median" filter operation on the given arguments. */
+	@OpMethod(op = net.imagej.ops.filter.median.RectangleMedianFilter.class)
+	public <T extends RealType<T>> IterableInterval<T> median(
+		final IterableInterval<T> out, final RandomAccessibleInterval<T> in,
+		final RectangleShape shape,
+		final OutOfBoundsFactory<T, T> outOfBoundsFactory)
+	{
+		@SuppressWarnings("unchecked")
+		final IterableInterval<T> result = (IterableInterval<T>) ops().run(
+			Ops.Filter.Median.class, out, in, shape, outOfBoundsFactory);
+		return result;
+	}
+
 	/** Executes the "min" filter operation on the given arguments. */
 	@OpMethod(op = net.imagej.ops.filter.min.DefaultMinFilter.class)
 	public <T extends RealType<T>> IterableInterval<T> min(
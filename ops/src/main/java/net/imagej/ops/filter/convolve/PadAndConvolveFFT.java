@@ -84,7 +84,7 @@ public void initialize() {
 			RandomAccessibleInterval<O> output)
 	{
 		return Computers.binary(ops(), ConvolveFFTC.class, output, paddedInput,
-			paddedKernel, fftImg, fftKernel);
+			paddedKernel, fftImg, fftKernel, true, getPerformKernelFFT());
 	}
 
 	@Override
@@ -85,7 +85,8 @@ public void initialize() {
 			RandomAccessibleInterval<O> output)
 	{
 		return Computers.binary(ops(), CorrelateFFTC.class, output,
-			paddedInput, paddedKernel, fftImg, fftKernel);
+			paddedInput, paddedKernel, fftImg, fftKernel, true,
+			getPerformKernelFFT());
 	}
 
 	@Override
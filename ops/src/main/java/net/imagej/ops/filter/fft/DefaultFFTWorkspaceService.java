@@ -0,0 +1,306 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2020 ImageJ developers.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.filter.fft;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import net.imglib2.Cursor;
+import net.imglib2.Dimensions;
+import net.imglib2.RandomAccessibleInterval;
+import net.imglib2.type.numeric.ComplexType;
+import net.imglib2.type.numeric.complex.ComplexDoubleType;
+import net.imglib2.util.Intervals;
+import net.imglib2.util.Util;
+import net.imglib2.view.Views;
+
+import org.scijava.plugin.Plugin;
+import org.scijava.service.AbstractService;
+import org.scijava.service.Service;
+
+/**
+ * Default {@link FFTWorkspaceService}. It is disabled by default; once
+ * enabled, it retains up to a sixteenth of the maximum heap size.
+ */
+@Plugin(type = Service.class)
+public class DefaultFFTWorkspaceService extends AbstractService implements
+	FFTWorkspaceService
+{
+
+	/** Released buffers, by dimensions and type; oldest first. */
+	private final Map<BufferKey, ArrayDeque<RandomAccessibleInterval<?>>> buffers =
+		new HashMap<>();
+
+	/** Released buffers of all keys, in the order they were released. */
+	private final ArrayDeque<BufferKey> releaseOrder = new ArrayDeque<>();
+
+	/** Kernel spectra, least recently used first. */
+	private final LinkedHashMap<SpectrumKey, RandomAccessibleInterval<?>> spectra =
+		new LinkedHashMap<>(16, 0.75f, true);
+
+	private long memoryCeiling = Runtime.getRuntime().maxMemory() / 16;
+
+	private boolean enabled;
+
+	private long memoryUsed;
+
+	// -- FFTWorkspaceService methods --
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public synchronized <C> RandomAccessibleInterval<C> takeBuffer(
+		final Dimensions dimensions, final C type)
+	{
+		if (!enabled) return null;
+		final BufferKey key = new BufferKey(dimensions, type.getClass());
+		final ArrayDeque<RandomAccessibleInterval<?>> pool = buffers.get(key);
+		if (pool == null || pool.isEmpty()) return null;
+		final RandomAccessibleInterval<?> buffer = pool.pollLast();
+		releaseOrder.removeLastOccurrence(key);
+		memoryUsed -= bytes(buffer);
+		return (RandomAccessibleInterval<C>) buffer;
+	}
+
+	@Override
+	public synchronized void releaseBuffer(
+		final RandomAccessibleInterval<?> buffer)
+	{
+		if (!enabled) return;
+		final long size = bytes(buffer);
+		if (size > memoryCeiling) return;
+		final BufferKey key = new BufferKey(buffer, Util.getTypeFromInterval(
+			buffer).getClass());
+		buffers.computeIfAbsent(key, k -> new ArrayDeque<>()).add(buffer);
+		releaseOrder.add(key);
+		memoryUsed += size;
+		trim();
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public synchronized <C> RandomAccessibleInterval<C> getKernelSpectrum(
+		final RandomAccessibleInterval<?> kernel, final Dimensions paddedDimensions,
+		final C type)
+	{
+		if (!enabled || spectra.isEmpty()) return null;
+		return (RandomAccessibleInterval<C>) spectra.get(new SpectrumKey(kernel,
+			paddedDimensions, type.getClass()));
+	}
+
+	@Override
+	public synchronized void putKernelSpectrum(
+		final RandomAccessibleInterval<?> kernel, final Dimensions paddedDimensions,
+		final RandomAccessibleInterval<?> spectrum)
+	{
+		if (!enabled) return;
+		final SpectrumKey key = new SpectrumKey(kernel, paddedDimensions, Util
+			.getTypeFromInterval(spectrum).getClass());
+		final long size = bytes(spectrum) + key.bytes();
+		if (size > memoryCeiling) return;
+		final RandomAccessibleInterval<?> old = spectra.put(key, spectrum);
+		if (old != null) memoryUsed -= bytes(old) + key.bytes();
+		memoryUsed += size;
+		trim();
+	}
+
+	@Override
+	public synchronized void clear() {
+		buffers.clear();
+		releaseOrder.clear();
+		spectra.clear();
+		memoryUsed = 0;
+	}
+
+	@Override
+	public synchronized boolean isEnabled() {
+		return enabled;
+	}
+
+	@Override
+	public synchronized void setEnabled(final boolean enabled) {
+		this.enabled = enabled;
+		if (!enabled) clear();
+	}
+
+	@Override
+	public synchronized long getMemoryCeiling() {
+		return memoryCeiling;
+	}
+
+	@Override
+	public synchronized void setMemoryCeiling(final long bytes) {
+		memoryCeiling = bytes;
+		trim();
+	}
+
+	@Override
+	public synchronized long getMemoryUsed() {
+		return memoryUsed;
+	}
+
+	// -- Helper methods --
+
+	/**
+	 * Drops released buffers, oldest first, then the least recently used
+	 * spectra, until the memory ceiling is met.
+	 */
+	private void trim() {
+		while (memoryUsed > memoryCeiling && !releaseOrder.isEmpty()) {
+			final BufferKey key = releaseOrder.poll();
+			final ArrayDeque<RandomAccessibleInterval<?>> pool = buffers.get(key);
+			memoryUsed -= bytes(pool.pollFirst());
+			if (pool.isEmpty()) buffers.remove(key);
+		}
+		final Iterator<Map.Entry<SpectrumKey, RandomAccessibleInterval<?>>> iter =
+			spectra.entrySet().iterator();
+		while (memoryUsed > memoryCeiling && iter.hasNext()) {
+			final Map.Entry<SpectrumKey, RandomAccessibleInterval<?>> entry = iter
+				.next();
+			memoryUsed -= bytes(entry.getValue()) + entry.getKey().bytes();
+			iter.remove();
+		}
+	}
+
+	/** Estimates the memory held by a complex buffer. */
+	private static long bytes(final RandomAccessibleInterval<?> buffer) {
+		final Object type = Util.getTypeFromInterval(buffer);
+		final int bytesPerPixel = type instanceof ComplexDoubleType ? 16 : 8;
+		return Intervals.numElements(buffer) * bytesPerPixel;
+	}
+
+	// -- Helper classes --
+
+	private static class BufferKey {
+
+		private final long[] dimensions;
+		private final Class<?> type;
+
+		private BufferKey(final Dimensions dimensions, final Class<?> type) {
+			this.dimensions = Intervals.dimensionsAsLongArray(dimensions);
+			this.type = type;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * Arrays.hashCode(dimensions) + type.hashCode();
+		}
+
+		@Override
+		public boolean equals(final Object obj) {
+			if (!(obj instanceof BufferKey)) return false;
+			final BufferKey other = (BufferKey) obj;
+			return type == other.type && Arrays.equals(dimensions, other.dimensions);
+		}
+	}
+
+	/**
+	 * Identifies a kernel spectrum by the padded dimensions, the complex type,
+	 * and the interval, type and values of the kernel. The values are hashed for
+	 * the lookup, but compared in full, so two kernels only share a spectrum if
+	 * they are identical.
+	 */
+	private static class SpectrumKey {
+
+		private final BufferKey padded;
+		private final long[] kernelInterval;
+		private final Class<?> kernelType;
+		private final double[] values;
+		private final long hash;
+
+		private SpectrumKey(final RandomAccessibleInterval<?> kernel,
+			final Dimensions paddedDimensions, final Class<?> type)
+		{
+			padded = new BufferKey(paddedDimensions, type);
+			kernelInterval = new long[2 * kernel.numDimensions()];
+			kernel.min(kernelInterval);
+			for (int d = 0; d < kernel.numDimensions(); d++) {
+				kernelInterval[kernel.numDimensions() + d] = kernel.max(d);
+			}
+			kernelType = Util.getTypeFromInterval(kernel).getClass();
+			values = values(kernel);
+			hash = hash(values);
+		}
+
+		/** Gets the memory held by the copy of the kernel values. */
+		private long bytes() {
+			return 8L * values.length;
+		}
+
+		/** Copies the real and imaginary parts of the kernel, in flat order. */
+		private static double[] values(final RandomAccessibleInterval<?> kernel) {
+			final double[] result = new double[2 * (int) Intervals.numElements(
+				kernel)];
+			final Cursor<?> cursor = Views.flatIterable(kernel).cursor();
+			int i = 0;
+			while (cursor.hasNext()) {
+				final ComplexType<?> value = (ComplexType<?>) cursor.next();
+				result[i++] = value.getRealDouble();
+				result[i++] = value.getImaginaryDouble();
+			}
+			return result;
+		}
+
+		private static long hash(final double[] values) {
+			long h = 0xcbf29ce484222325L;
+			for (final double value : values) {
+				h = mix(h ^ Double.doubleToLongBits(value));
+			}
+			return h;
+		}
+
+		/** Spreads the bits of the running hash, like the MurmurHash3 finalizer. */
+		private static long mix(long h) {
+			h *= 0x100000001b3L;
+			h ^= h >>> 33;
+			h *= 0xff51afd7ed558ccdL;
+			h ^= h >>> 33;
+			return h;
+		}
+
+		@Override
+		public int hashCode() {
+			return (int) (hash ^ (hash >>> 32)) ^ padded.hashCode();
+		}
+
+		@Override
+		public boolean equals(final Object obj) {
+			if (!(obj instanceof SpectrumKey)) return false;
+			final SpectrumKey other = (SpectrumKey) obj;
+			return hash == other.hash && kernelType == other.kernelType && padded
+				.equals(other.padded) && Arrays.equals(kernelInterval,
+					other.kernelInterval) && Arrays.equals(values, other.values);
+		}
+	}
+
+}
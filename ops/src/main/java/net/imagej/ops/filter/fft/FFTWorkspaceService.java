@@ -0,0 +1,114 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2020 ImageJ developers.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.filter.fft;
+
+import net.imagej.ImageJService;
+import net.imglib2.Dimensions;
+import net.imglib2.RandomAccessibleInterval;
+
+/**
+ * Interface for services that keep complex FFT buffers and kernel spectra
+ * between invocations of FFT based filters.
+ * <p>
+ * Filters which pad their input and kernel to the same size over and over
+ * (for instance when deconvolving many tiles with the same PSF) take their
+ * complex buffers from the workspace instead of allocating new ones, and look
+ * up the spectrum of the kernel instead of transforming it again. Buffers and
+ * spectra are keyed on the padded dimensions and the complex type; spectra
+ * additionally on the dimensions, type and values of the kernel. Everything
+ * retained counts against a memory ceiling, beyond which the least recently
+ * used entries are dropped.
+ * </p>
+ * <p>
+ * The workspace is disabled by default, in which case it retains nothing and
+ * filters allocate their buffers and transform their kernels on every call.
+ * Enable it with {@link #setEnabled(boolean)} when running the same filter
+ * repeatedly.
+ * </p>
+ */
+public interface FFTWorkspaceService extends ImageJService {
+
+	/**
+	 * Takes a buffer of the given (complex) dimensions and complex type out of
+	 * the workspace.
+	 * 
+	 * @return the buffer, with undefined contents, or {@code null} if there is
+	 *         none
+	 */
+	<C> RandomAccessibleInterval<C> takeBuffer(Dimensions dimensions, C type);
+
+	/**
+	 * Hands a buffer back to the workspace for reuse. The caller must not use it
+	 * afterwards.
+	 */
+	void releaseBuffer(RandomAccessibleInterval<?> buffer);
+
+	/**
+	 * Gets the cached spectrum of the given kernel, padded to the given
+	 * dimensions.
+	 * 
+	 * @return the spectrum, which must not be modified, or {@code null}
+	 */
+	<C> RandomAccessibleInterval<C> getKernelSpectrum(
+		RandomAccessibleInterval<?> kernel, Dimensions paddedDimensions, C type);
+
+	/**
+	 * Caches the spectrum of the given kernel, padded to the given dimensions.
+	 * The workspace takes ownership of the spectrum, which must not be modified
+	 * afterwards.
+	 */
+	void putKernelSpectrum(RandomAccessibleInterval<?> kernel,
+		Dimensions paddedDimensions, RandomAccessibleInterval<?> spectrum);
+
+	/** Releases all buffers and spectra. */
+	void clear();
+
+	/** Gets whether the workspace retains buffers and spectra at all. */
+	boolean isEnabled();
+
+	/**
+	 * Sets whether the workspace retains buffers and spectra. Disabling it
+	 * releases everything it holds.
+	 */
+	void setEnabled(boolean enabled);
+
+	/** Gets the number of bytes the workspace may retain. */
+	long getMemoryCeiling();
+
+	/**
+	 * Sets the number of bytes the workspace may retain, dropping entries if it
+	 * currently holds more.
+	 */
+	void setMemoryCeiling(long bytes);
+
+	/** Gets the number of bytes currently retained. */
+	long getMemoryUsed();
+
+}
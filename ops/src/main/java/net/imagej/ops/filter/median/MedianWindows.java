@@ -0,0 +1,372 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2020 ImageJ developers.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.filter.median;
+
+import java.util.Arrays;
+
+/**
+ * Sliding-window data structures backing {@link RectangleMedianFilter}.
+ * <p>
+ * All windows answer rank queries, i.e. they return the value at a given
+ * position of the sorted window content, without materializing the
+ * neighborhood.
+ * </p>
+ */
+final class MedianWindows {
+
+	private MedianWindows() {
+		// NB: Prevent instantiation of utility class.
+	}
+
+	/** A multiset of values which can be queried by rank. */
+	interface RankSelection {
+
+		/** @return the number of values in the window */
+		int size();
+
+		/**
+		 * @param rank zero-based position in ascending order
+		 * @return the value of the given rank
+		 */
+		double select(int rank);
+	}
+
+	/** A {@link RankSelection} which can be updated value by value. */
+	interface Window extends RankSelection {
+
+		void add(double value);
+
+		void remove(double value);
+
+		void clear();
+	}
+
+	/**
+	 * Computes the median of the given window in the same way as
+	 * {@link net.imagej.ops.stats.DefaultMedian}, i.e. even-sized windows yield
+	 * the mean of the two central values.
+	 *
+	 * @param window the window to query
+	 * @param skipCenter whether one occurrence of {@code center}, which is
+	 *          contained in the window, has to be ignored
+	 * @param center the value of the center pixel
+	 */
+	static double median(final RankSelection window, final boolean skipCenter,
+		final double center)
+	{
+		final int size = skipCenter ? window.size() - 1 : window.size();
+		final int k = size / 2;
+		double result = select(window, k, skipCenter, center);
+		if (size % 2 == 0) {
+			result += select(window, k - 1, skipCenter, center);
+			result *= 0.5;
+		}
+		return result;
+	}
+
+	/**
+	 * Selects the value of the given rank, optionally ignoring one occurrence of
+	 * {@code center}. Removing the first occurrence of a value from a sorted
+	 * sequence leaves all smaller values in place and shifts all others down by
+	 * one position.
+	 */
+	private static double select(final RankSelection window, final int rank,
+		final boolean skipCenter, final double center)
+	{
+		final double value = window.select(rank);
+		if (!skipCenter || value < center) return value;
+		return window.select(rank + 1);
+	}
+
+	/**
+	 * Number of fine bins per coarse bin (as power of two) of a two-level
+	 * histogram with the given number of bins.
+	 */
+	static int fineShift(final int bins) {
+		final int bits = 32 - Integer.numberOfLeadingZeros(Math.max(1, bins - 1));
+		return (bits + 1) / 2;
+	}
+
+	/**
+	 * Two-level histogram over a contiguous range of integer values. Rank
+	 * queries first walk the coarse bins and then the fine bins of a single
+	 * coarse bin, i.e. they cost {@code O(sqrt(bins))}.
+	 */
+	static final class Histogram implements Window {
+
+		private final long offset;
+		private final int shift;
+		private final int[] fine;
+		private final int[] coarse;
+		private int size;
+
+		Histogram(final long min, final int bins) {
+			offset = min;
+			shift = fineShift(bins);
+			fine = new int[bins];
+			coarse = new int[((bins - 1) >> shift) + 1];
+		}
+
+		@Override
+		public void add(final double value) {
+			final int bin = (int) ((long) value - offset);
+			fine[bin]++;
+			coarse[bin >> shift]++;
+			size++;
+		}
+
+		@Override
+		public void remove(final double value) {
+			final int bin = (int) ((long) value - offset);
+			fine[bin]--;
+			coarse[bin >> shift]--;
+			size--;
+		}
+
+		@Override
+		public void clear() {
+			Arrays.fill(fine, 0);
+			Arrays.fill(coarse, 0);
+			size = 0;
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+
+		@Override
+		public double select(final int rank) {
+			int seen = 0;
+			int c = 0;
+			while (seen + coarse[c] <= rank) {
+				seen += coarse[c++];
+			}
+			int bin = c << shift;
+			while (seen + fine[bin] <= rank) {
+				seen += fine[bin++];
+			}
+			return bin + offset;
+		}
+	}
+
+	/**
+	 * Window of arbitrary real values, kept as a sorted array. Insertion and
+	 * removal locate the value by binary search and shift the tail of the
+	 * array.
+	 */
+	static final class Sorted implements Window {
+
+		private final double[] values;
+		private int size;
+
+		Sorted(final int capacity) {
+			values = new double[capacity];
+		}
+
+		@Override
+		public void add(final double value) {
+			int i = Arrays.binarySearch(values, 0, size, value);
+			if (i < 0) i = -i - 1;
+			System.arraycopy(values, i, values, i + 1, size - i);
+			values[i] = value;
+			size++;
+		}
+
+		@Override
+		public void remove(final double value) {
+			final int i = Arrays.binarySearch(values, 0, size, value);
+			if (i < 0) return;
+			System.arraycopy(values, i + 1, values, i, size - i - 1);
+			size--;
+		}
+
+		@Override
+		public void clear() {
+			size = 0;
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+
+		@Override
+		public double select(final int rank) {
+			return values[rank];
+		}
+	}
+
+	/**
+	 * Constant-time median window after Perreault &amp; H&eacute;bert ("Median
+	 * Filtering in Constant Time", IEEE TIP 16(9), 2007).
+	 * <p>
+	 * One two-level histogram is kept per column, i.e. per position along the
+	 * first dimension. Columns are updated by the caller when the window moves
+	 * along the second dimension. The window histogram moves along the first
+	 * dimension by adding the entering and subtracting the leaving column, which
+	 * is done eagerly for the coarse bins only. Fine bins are brought up to date
+	 * lazily, and only for the coarse bin a rank query ends up in.
+	 * </p>
+	 */
+	static final class ColumnHistograms implements RankSelection {
+
+		private final long offset;
+		private final int bins;
+		private final int shift;
+		private final int coarseBins;
+		private final int radius;
+		private final int[] columnFine;
+		private final int[] columnCoarse;
+		private final int[] fine;
+		private final int[] coarse;
+		/** Column at which the fine bins of each coarse bin were last valid. */
+		private final int[] stamp;
+		private int center;
+		private int size;
+
+		ColumnHistograms(final long min, final int bins, final int columns,
+			final int radius)
+		{
+			this.offset = min;
+			this.bins = bins;
+			this.radius = radius;
+			shift = fineShift(bins);
+			coarseBins = ((bins - 1) >> shift) + 1;
+			columnFine = new int[columns * bins];
+			columnCoarse = new int[columns * coarseBins];
+			fine = new int[bins];
+			coarse = new int[coarseBins];
+			stamp = new int[coarseBins];
+		}
+
+		/**
+		 * Tells whether the column histograms for the given geometry stay within
+		 * the given number of bins in total.
+		 */
+		static boolean fits(final int bins, final long columns, final long budget) {
+			return columns * bins <= budget;
+		}
+
+		void clearColumns() {
+			Arrays.fill(columnFine, 0);
+			Arrays.fill(columnCoarse, 0);
+		}
+
+		void addToColumn(final int column, final double value) {
+			final int bin = (int) ((long) value - offset);
+			columnFine[column * bins + bin]++;
+			columnCoarse[column * coarseBins + (bin >> shift)]++;
+		}
+
+		void removeFromColumn(final int column, final double value) {
+			final int bin = (int) ((long) value - offset);
+			columnFine[column * bins + bin]--;
+			columnCoarse[column * coarseBins + (bin >> shift)]--;
+		}
+
+		/**
+		 * Centers the window on column {@code radius}, i.e. on the first pixel of
+		 * a line.
+		 */
+		void startLine() {
+			center = radius;
+			Arrays.fill(coarse, 0);
+			Arrays.fill(stamp, -1);
+			for (int col = 0; col <= 2 * radius; col++) {
+				final int base = col * coarseBins;
+				for (int c = 0; c < coarseBins; c++) {
+					coarse[c] += columnCoarse[base + c];
+				}
+			}
+			size = 0;
+			for (int c = 0; c < coarseBins; c++) {
+				size += coarse[c];
+			}
+		}
+
+		/** Moves the window by one column along the first dimension. */
+		void next() {
+			center++;
+			final int in = (center + radius) * coarseBins;
+			final int out = (center - radius - 1) * coarseBins;
+			for (int c = 0; c < coarseBins; c++) {
+				coarse[c] += columnCoarse[in + c] - columnCoarse[out + c];
+			}
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+
+		@Override
+		public double select(final int rank) {
+			int seen = 0;
+			int c = 0;
+			while (seen + coarse[c] <= rank) {
+				seen += coarse[c++];
+			}
+			updateFine(c);
+			int bin = c << shift;
+			while (seen + fine[bin] <= rank) {
+				seen += fine[bin++];
+			}
+			return bin + offset;
+		}
+
+		private void updateFine(final int c) {
+			if (stamp[c] == center) return;
+			final int lo = c << shift;
+			final int hi = Math.min(bins, (c + 1) << shift);
+			if (stamp[c] < 0 || center - stamp[c] > 2 * radius) {
+				// the previous state shares no column with the window: rebuild
+				Arrays.fill(fine, lo, hi, 0);
+				for (int col = center - radius; col <= center + radius; col++) {
+					final int base = col * bins;
+					for (int b = lo; b < hi; b++) {
+						fine[b] += columnFine[base + b];
+					}
+				}
+			}
+			else {
+				for (int pos = stamp[c] + 1; pos <= center; pos++) {
+					final int in = (pos + radius) * bins;
+					final int out = (pos - radius - 1) * bins;
+					for (int b = lo; b < hi; b++) {
+						fine[b] += columnFine[in + b] - columnFine[out + b];
+					}
+				}
+			}
+			stamp[c] = center;
+		}
+	}
+
+}
@@ -0,0 +1,425 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2020 ImageJ developers.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.filter.median;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import net.imagej.ops.Contingent;
+import net.imagej.ops.Ops;
+import net.imagej.ops.filter.median.MedianWindows.ColumnHistograms;
+import net.imagej.ops.filter.median.MedianWindows.Histogram;
+import net.imagej.ops.filter.median.MedianWindows.Sorted;
+import net.imagej.ops.filter.median.MedianWindows.Window;
+import net.imagej.ops.special.computer.AbstractUnaryComputerOp;
+import net.imagej.ops.thread.chunker.Chunk;
+import net.imagej.ops.thread.chunker.ChunkerOp;
+import net.imglib2.Cursor;
+import net.imglib2.IterableInterval;
+import net.imglib2.RandomAccess;
+import net.imglib2.RandomAccessible;
+import net.imglib2.RandomAccessibleInterval;
+import net.imglib2.algorithm.neighborhood.RectangleShape;
+import net.imglib2.outofbounds.OutOfBoundsBorderFactory;
+import net.imglib2.outofbounds.OutOfBoundsFactory;
+import net.imglib2.type.numeric.IntegerType;
+import net.imglib2.type.numeric.RealType;
+import net.imglib2.util.Intervals;
+import net.imglib2.util.Util;
+import net.imglib2.view.Views;
+
+import org.scijava.Priority;
+import org.scijava.plugin.Parameter;
+import org.scijava.plugin.Plugin;
+
+/**
+ * {@link MedianFilterOp} for {@link RectangleShape}s which slides the
+ * neighborhood across the image instead of sorting every neighborhood anew.
+ * <p>
+ * Integer images whose values span at most {@value #MAX_BINS} distinct levels
+ * (e.g. 8, 12 or 16 bit) are filtered with histograms. In two or more
+ * dimensions, one histogram per column is maintained along the second
+ * dimension, and the window histogram is moved along the first dimension by
+ * adding and removing whole columns (Perreault &amp; H&eacute;bert), so that
+ * the cost per pixel of a 2-D filter does not depend on the radius. If the
+ * column histograms exceed {@value #COLUMN_BUDGET} bins, the window histogram
+ * is instead moved by exchanging the leaving and entering faces of the window
+ * (Huang). Real-valued images use the same face exchange on a sorted array.
+ * </p>
+ * <p>
+ * The output matches {@link DefaultMedianFilter}. Planes, and bands of lines
+ * within planes, are processed in parallel.
+ * </p>
+ *
+ * @param <T> input type
+ * @param <V> output type
+ */
+@Plugin(type = Ops.Filter.Median.class, priority = Priority.HIGH)
+public class RectangleMedianFilter<T extends RealType<T>, V extends RealType<V>>
+	extends
+	AbstractUnaryComputerOp<RandomAccessibleInterval<T>, IterableInterval<V>>
+	implements MedianFilterOp<T, V>, Contingent
+{
+
+	/** Maximum number of histogram bins of the integer path. */
+	static final int MAX_BINS = 1 << 16;
+
+	/** Maximum number of bins of all column histograms of one worker. */
+	static final int COLUMN_BUDGET = 1 << 23;
+
+	@Parameter
+	private RectangleShape shape;
+
+	@Parameter(required = false)
+	private OutOfBoundsFactory<T, RandomAccessibleInterval<T>> outOfBoundsFactory =
+		new OutOfBoundsBorderFactory<>();
+
+	@Override
+	public void compute(final RandomAccessibleInterval<T> input,
+		final IterableInterval<V> output)
+	{
+		final int n = input.numDimensions();
+		final int radius = shape.getSpan();
+		final RandomAccessible<T> source = Views.extend(input, outOfBoundsFactory);
+
+		// integer images are binned over their actual range, including the
+		// values introduced by the out-of-bounds strategy
+		long min = 0;
+		int bins = 0;
+		if (Util.getTypeFromInterval(input) instanceof IntegerType) {
+			final long[] range = range(Views.interval(source, Intervals.expand(input,
+				radius)));
+			if (range[1] - range[0] < MAX_BINS) {
+				min = range[0];
+				bins = (int) (range[1] - range[0] + 1);
+			}
+		}
+
+		final long lines = n < 2 ? 1 : input.dimension(1);
+		final long planes = Intervals.numElements(input) / input.dimension(0) /
+			lines;
+		final int processors = Runtime.getRuntime().availableProcessors();
+		final long bands = Math.max(1, Math.min(lines / (2 * radius + 1),
+			(4L * processors + planes - 1) / planes));
+		final long linesPerBand = (lines + bands - 1) / bands;
+
+		final long histogramMin = min;
+		final int histogramBins = bins;
+
+		// idle workers, so that no more are allocated than chunks run at once
+		final ConcurrentLinkedQueue<Worker> idle = new ConcurrentLinkedQueue<>();
+		ops().run(ChunkerOp.class, new Chunk() {
+
+			@Override
+			public void execute(final long startIndex, final long stepSize,
+				final long numSteps)
+			{
+				Worker worker = idle.poll();
+				if (worker == null) {
+					worker = new Worker(input, source, output, radius, histogramMin,
+						histogramBins);
+				}
+				try {
+					for (long i = 0, unit = startIndex; i < numSteps; i++, unit +=
+						stepSize)
+					{
+						final long band = unit % bands;
+						final long first = band * linesPerBand;
+						final long last = Math.min(lines, first + linesPerBand) - 1;
+						if (first <= last) worker.filter(unit / bands, first, last);
+					}
+				}
+				finally {
+					idle.add(worker);
+				}
+			}
+		}, planes * bands);
+	}
+
+	@Override
+	public boolean conforms() {
+		if (in() == null || out() == null) return true;
+		return out() instanceof RandomAccessibleInterval && Intervals
+			.equalDimensions(in(), out());
+	}
+
+	// -- Helper methods --
+
+	private static <T extends RealType<T>> long[] range(
+		final RandomAccessibleInterval<T> interval)
+	{
+		long min = Long.MAX_VALUE;
+		long max = Long.MIN_VALUE;
+		final Cursor<T> cursor = Views.flatIterable(interval).cursor();
+		while (cursor.hasNext()) {
+			final long value = ((IntegerType<?>) cursor.next()).getIntegerLong();
+			if (value < min) min = value;
+			if (value > max) max = value;
+		}
+		return new long[] { min, max };
+	}
+
+	// -- Helper classes --
+
+	/**
+	 * Filters bands of lines. Chunks of the computation borrow a worker and
+	 * hand it back when done, so that the windows, column histograms and
+	 * scratch buffers are allocated once per concurrently running chunk, not
+	 * once per chunk. Each call to {@link #filter} starts from clear windows.
+	 */
+	private final class Worker {
+
+		private final int n;
+		private final int radius;
+		private final boolean skipCenter;
+		private final long[] inMin;
+		private final long[] inMax;
+		private final long[] outOffset;
+
+		private final RandomAccess<T> sourceAccess;
+		private final RandomAccess<V> outAccess;
+
+		/** Window of the face exchange, {@code null} in column mode. */
+		private final Window window;
+		/** Column histograms, {@code null} in face exchange mode. */
+		private final ColumnHistograms columns;
+
+		private final long[] position;
+		private final long[] boxMin;
+		private final long[] boxMax;
+		private final long[] boxPosition;
+		private final double[] values;
+
+		@SuppressWarnings("unchecked")
+		public Worker(final RandomAccessibleInterval<T> input,
+			final RandomAccessible<T> source, final IterableInterval<V> output,
+			final int radius, final long histogramMin, final int histogramBins)
+		{
+			n = input.numDimensions();
+			this.radius = radius;
+			skipCenter = shape.isSkippingCenter();
+			inMin = Intervals.minAsLongArray(input);
+			inMax = Intervals.maxAsLongArray(input);
+			outOffset = new long[n];
+			for (int d = 0; d < n; d++) {
+				outOffset[d] = output.min(d) - inMin[d];
+			}
+
+			sourceAccess = source.randomAccess();
+			outAccess = ((RandomAccessibleInterval<V>) output).randomAccess();
+
+			final long width = input.dimension(0) + 2 * radius;
+			if (histogramBins > 0 && n > 1 && ColumnHistograms.fits(histogramBins,
+				width, COLUMN_BUDGET))
+			{
+				columns = new ColumnHistograms(histogramMin, histogramBins,
+					(int) width, radius);
+				window = null;
+			}
+			else {
+				columns = null;
+				window = histogramBins > 0 ? new Histogram(histogramMin, histogramBins)
+					: new Sorted(windowSize());
+			}
+
+			position = new long[n];
+			boxMin = new long[n];
+			boxMax = new long[n];
+			boxPosition = new long[n];
+			values = new double[windowSize()];
+		}
+
+		/**
+		 * Filters the lines {@code first} to {@code last} (zero-based, along the
+		 * second dimension) of the given plane. The plane index enumerates the
+		 * positions of dimensions two and up in flat iteration order.
+		 */
+		public void filter(final long plane, final long first, final long last) {
+			long remainder = plane;
+			for (int d = 2; d < n; d++) {
+				final long dim = inMax[d] - inMin[d] + 1;
+				position[d] = inMin[d] + remainder % dim;
+				remainder /= dim;
+			}
+			if (columns != null) filterColumns(first, last);
+			else {
+				for (long line = first; line <= last; line++) {
+					if (n > 1) position[1] = inMin[1] + line;
+					filterLine();
+				}
+			}
+		}
+
+		/** Face exchange along the first dimension for the current line. */
+		private void filterLine() {
+			window.clear();
+			window(inMin[0]);
+			addAll(gather());
+			for (long x = inMin[0]; x <= inMax[0]; x++) {
+				if (x > inMin[0]) {
+					window(x);
+					boxMin[0] = boxMax[0] = x - radius - 1;
+					removeAll(gather());
+					boxMin[0] = boxMax[0] = x + radius;
+					addAll(gather());
+				}
+				position[0] = x;
+				write(MedianWindows.median(window, skipCenter, center()));
+			}
+		}
+
+		/** Column histograms moving along the second dimension. */
+		private void filterColumns(final long first, final long last) {
+			final int width = (int) (inMax[0] - inMin[0] + 1) + 2 * radius;
+			columns.clearColumns();
+			position[1] = inMin[1] + first;
+			for (int col = 0; col < width; col++) {
+				column(col, position[1] - radius, position[1] + radius);
+				final int count = gather();
+				for (int i = 0; i < count; i++) {
+					columns.addToColumn(col, values[i]);
+				}
+			}
+			for (long line = first; line <= last; line++) {
+				position[1] = inMin[1] + line;
+				if (line > first) {
+					for (int col = 0; col < width; col++) {
+						column(col, position[1] - radius - 1, position[1] - radius - 1);
+						int count = gather();
+						for (int i = 0; i < count; i++) {
+							columns.removeFromColumn(col, values[i]);
+						}
+						column(col, position[1] + radius, position[1] + radius);
+						count = gather();
+						for (int i = 0; i < count; i++) {
+							columns.addToColumn(col, values[i]);
+						}
+					}
+				}
+				columns.startLine();
+				for (long x = inMin[0]; x <= inMax[0]; x++) {
+					if (x > inMin[0]) columns.next();
+					position[0] = x;
+					write(MedianWindows.median(columns, skipCenter, center()));
+				}
+			}
+		}
+
+		/** Sets the box to the full window around {@code x} on the current line. */
+		private void window(final long x) {
+			boxMin[0] = x - radius;
+			boxMax[0] = x + radius;
+			for (int d = 1; d < n; d++) {
+				boxMin[d] = position[d] - radius;
+				boxMax[d] = position[d] + radius;
+			}
+		}
+
+		/**
+		 * Sets the box to the given part of a column, i.e. a single position along
+		 * the first dimension and the window extent in dimensions two and up.
+		 */
+		private void column(final int col, final long firstLine,
+			final long lastLine)
+		{
+			boxMin[0] = boxMax[0] = inMin[0] - radius + col;
+			boxMin[1] = firstLine;
+			boxMax[1] = lastLine;
+			for (int d = 2; d < n; d++) {
+				boxMin[d] = position[d] - radius;
+				boxMax[d] = position[d] + radius;
+			}
+		}
+
+		/**
+		 * Reads all values of the current box into {@link #values}, running along
+		 * the first dimension of extent greater than one.
+		 *
+		 * @return the number of values read
+		 */
+		private int gather() {
+			int inner = 0;
+			while (inner < n - 1 && boxMin[inner] == boxMax[inner]) {
+				inner++;
+			}
+			final long[] pos = boxPosition;
+			System.arraycopy(boxMin, 0, pos, 0, n);
+			final int length = (int) (boxMax[inner] - boxMin[inner] + 1);
+			int count = 0;
+			while (true) {
+				sourceAccess.setPosition(pos);
+				for (int i = 0; i < length; i++) {
+					values[count++] = sourceAccess.get().getRealDouble();
+					sourceAccess.fwd(inner);
+				}
+				int d = 0;
+				for (; d < n; d++) {
+					if (d == inner) continue;
+					if (++pos[d] <= boxMax[d]) break;
+					pos[d] = boxMin[d];
+				}
+				if (d == n) return count;
+			}
+		}
+
+		private void addAll(final int count) {
+			for (int i = 0; i < count; i++) {
+				window.add(values[i]);
+			}
+		}
+
+		private void removeAll(final int count) {
+			for (int i = 0; i < count; i++) {
+				window.remove(values[i]);
+			}
+		}
+
+		private double center() {
+			if (!skipCenter) return 0;
+			sourceAccess.setPosition(position);
+			return sourceAccess.get().getRealDouble();
+		}
+
+		private void write(final double median) {
+			for (int d = 0; d < n; d++) {
+				outAccess.setPosition(position[d] + outOffset[d], d);
+			}
+			outAccess.get().setReal(median);
+		}
+
+		private int windowSize() {
+			int size = 1;
+			for (int d = 0; d < n; d++) {
+				size *= 2 * radius + 1;
+			}
+			return size;
+		}
+	}
+
+}
@@ -441,6 +441,13 @@ public DoubleType minimumFeretsDiameter(final DoubleType out, final Polygon2D in
 			(DoubleType) ops().run(net.imagej.ops.geom.geom2d.DefaultMinimumFeretDiameter.class, out, in);
 		return result;
 	}
+
+	@OpMethod(op = net.imagej.ops.geom.geom2d.DefaultFerets.class)
+	public net.imagej.ops.geom.geom2d.FeretFeatures ferets(final Polygon2D in) {
+		final net.imagej.ops.geom.geom2d.FeretFeatures result =
+			(net.imagej.ops.geom.geom2d.FeretFeatures) ops().run(net.imagej.ops.geom.geom2d.DefaultFerets.class, in);
+		return result;
+	}
 	
 	@OpMethod(op = net.imagej.ops.geom.geom2d.DefaultElongation.class)
 	public DoubleType mainElongation(final Polygon2D in) {
@@ -470,7 +477,8 @@ public DoubleType majorAxis(final DoubleType out, final Polygon2D in) {
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.geom.geom3d.DefaultMarchingCubes.class)
+	@OpMethod(ops = { net.imagej.ops.geom.geom3d.DefaultMarchingCubes.class,
+		net.imagej.ops.geom.geom3d.IndexedMarchingCubes.class })
 	public <T extends Type<T>> Mesh marchingCubes(
 		final RandomAccessibleInterval<T> in)
 	{
@@ -479,7 +487,8 @@ public <T extends Type<T>> Mesh marchingCubes(
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.geom.geom3d.DefaultMarchingCubes.class)
+	@OpMethod(ops = { net.imagej.ops.geom.geom3d.DefaultMarchingCubes.class,
+		net.imagej.ops.geom.geom3d.IndexedMarchingCubes.class })
 	public <T extends Type<T>> Mesh marchingCubes(
 		final RandomAccessibleInterval<T> in, final double isolevel)
 	{
@@ -66,12 +66,11 @@ public Polygon2D calculate(final Polygon2D input) {
 
 			@Override
 			public int compare(final RealLocalizable o1, final RealLocalizable o2) {
-				final Double o1x = new Double(o1.getDoublePosition(0));
-				final Double o2x = new Double(o2.getDoublePosition(0));
-				final int result = o1x.compareTo(o2x);
+				final int result = Double.compare(o1.getDoublePosition(0), o2
+					.getDoublePosition(0));
 				if (result == 0) {
-					return new Double(o1.getDoublePosition(1)).compareTo(new Double(o2
-						.getDoublePosition(1)));
+					return Double.compare(o1.getDoublePosition(1), o2.getDoublePosition(
+						1));
 				}
 
 				return result;
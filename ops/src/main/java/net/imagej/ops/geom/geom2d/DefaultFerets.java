@@ -0,0 +1,85 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2020 ImageJ developers.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.geom.geom2d;
+
+import net.imagej.ops.Ops;
+import net.imagej.ops.geom.GeomUtils;
+import net.imagej.ops.special.function.AbstractUnaryFunctionOp;
+import net.imagej.ops.special.function.Functions;
+import net.imagej.ops.special.function.UnaryFunctionOp;
+import net.imglib2.RealLocalizable;
+import net.imglib2.roi.geom.real.Polygon2D;
+import net.imglib2.type.numeric.real.DoubleType;
+import net.imglib2.util.Pair;
+
+import org.scijava.plugin.Plugin;
+
+/**
+ * Computes all Feret features of a polygon at once, from a single convex
+ * hull. The results are the same as those of {@link DefaultMaximumFeret},
+ * {@link DefaultMinimumFeret} and the diameter and angle ops based on them.
+ */
+@Plugin(type = Ops.Geometric.Ferets.class,
+	label = "Geometric (2D): Ferets")
+public class DefaultFerets extends
+	AbstractUnaryFunctionOp<Polygon2D, FeretFeatures> implements
+	Ops.Geometric.Ferets
+{
+
+	private UnaryFunctionOp<Polygon2D, Polygon2D> convexHullFunc;
+	@SuppressWarnings("rawtypes")
+	private UnaryFunctionOp<Pair, DoubleType> feretAngle;
+	@SuppressWarnings("rawtypes")
+	private UnaryFunctionOp<Pair, DoubleType> feretDiameter;
+
+	@Override
+	public void initialize() {
+		convexHullFunc = Functions.unary(ops(), Ops.Geometric.ConvexHull.class,
+			Polygon2D.class, in());
+		feretAngle = Functions.unary(ops(), Ops.Geometric.FeretsAngle.class,
+			DoubleType.class, Pair.class);
+		feretDiameter = Functions.unary(ops(), Ops.Geometric.FeretsDiameter.class,
+			DoubleType.class, Pair.class);
+	}
+
+	@Override
+	public FeretFeatures calculate(final Polygon2D input) {
+		final RotatingCalipers calipers = new RotatingCalipers(GeomUtils.vertices(
+			convexHullFunc.calculate(input)));
+		final Pair<RealLocalizable, RealLocalizable> max = calipers
+			.maximumFeret();
+		final Pair<RealLocalizable, RealLocalizable> min = calipers
+			.minimumFeret();
+		return new FeretFeatures(max, feretDiameter.calculate(max).get(),
+			feretAngle.calculate(max).get(), min, feretDiameter.calculate(min).get(),
+			feretAngle.calculate(min).get());
+	}
+
+}
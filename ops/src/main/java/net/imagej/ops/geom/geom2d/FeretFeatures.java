@@ -0,0 +1,91 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2020 ImageJ developers.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.geom.geom2d;
+
+import net.imglib2.RealLocalizable;
+import net.imglib2.util.Pair;
+
+/**
+ * The Feret features of a polygon, as computed by {@link DefaultFerets}.
+ */
+public class FeretFeatures {
+
+	private final Pair<RealLocalizable, RealLocalizable> maximumFeret;
+	private final Pair<RealLocalizable, RealLocalizable> minimumFeret;
+	private final double maximumDiameter;
+	private final double maximumAngle;
+	private final double minimumDiameter;
+	private final double minimumAngle;
+
+	public FeretFeatures(
+		final Pair<RealLocalizable, RealLocalizable> maximumFeret,
+		final double maximumDiameter, final double maximumAngle,
+		final Pair<RealLocalizable, RealLocalizable> minimumFeret,
+		final double minimumDiameter, final double minimumAngle)
+	{
+		this.maximumFeret = maximumFeret;
+		this.maximumDiameter = maximumDiameter;
+		this.maximumAngle = maximumAngle;
+		this.minimumFeret = minimumFeret;
+		this.minimumDiameter = minimumDiameter;
+		this.minimumAngle = minimumAngle;
+	}
+
+	/** Gets the two points of the maximum Feret. */
+	public Pair<RealLocalizable, RealLocalizable> getMaximumFeret() {
+		return maximumFeret;
+	}
+
+	/** Gets the maximum Feret diameter. */
+	public double getMaximumDiameter() {
+		return maximumDiameter;
+	}
+
+	/** Gets the maximum Feret angle, in degrees. */
+	public double getMaximumAngle() {
+		return maximumAngle;
+	}
+
+	/** Gets the two points of the minimum Feret. */
+	public Pair<RealLocalizable, RealLocalizable> getMinimumFeret() {
+		return minimumFeret;
+	}
+
+	/** Gets the minimum Feret diameter. */
+	public double getMinimumDiameter() {
+		return minimumDiameter;
+	}
+
+	/** Gets the minimum Feret angle, in degrees. */
+	public double getMinimumAngle() {
+		return minimumAngle;
+	}
+
+}
@@ -0,0 +1,301 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2020 ImageJ developers.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.geom.geom2d;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntToDoubleFunction;
+
+import net.imglib2.RealLocalizable;
+import net.imglib2.RealPoint;
+import net.imglib2.util.Pair;
+import net.imglib2.util.ValuePair;
+
+import org.apache.commons.math3.geometry.euclidean.twod.Line;
+import org.apache.commons.math3.geometry.euclidean.twod.Vector2D;
+
+/**
+ * Rotating calipers on the vertices of a convex polygon, as returned by
+ * {@link DefaultConvexHull2D}.
+ * <p>
+ * For each edge of the polygon, the vertices farthest along and across the
+ * edge only ever move forward as the edge advances, so all of them are found
+ * in one sweep over the polygon, i.e. in linear time. Candidates are compared
+ * with the same arithmetic as the brute force search they replace, so that the
+ * same vertices are chosen in case of ties.
+ * </p>
+ */
+final class RotatingCalipers {
+
+	private final List<? extends RealLocalizable> points;
+
+	private final int n;
+
+	private final double[] x;
+
+	private final double[] y;
+
+	RotatingCalipers(final List<? extends RealLocalizable> points) {
+		this.points = points;
+		n = points.size();
+		x = new double[n];
+		y = new double[n];
+		for (int i = 0; i < n; i++) {
+			x[i] = points.get(i).getDoublePosition(0);
+			y[i] = points.get(i).getDoublePosition(1);
+		}
+	}
+
+	/**
+	 * Finds the pair of vertices with the largest distance, i.e. the maximum
+	 * Feret. Of several pairs at the same distance, the one with the smallest
+	 * indices is returned, with the smaller index first.
+	 */
+	Pair<RealLocalizable, RealLocalizable> maximumFeret() {
+		if (n < 3) {
+			return new ValuePair<>(points.get(0), points.get(n - 1));
+		}
+		final int[] best = { 0, 0 };
+		final double[] distance = { Double.NEGATIVE_INFINITY };
+		int j = 1;
+		for (int i = 0; i < n; i++) {
+			final int i1 = next(i);
+			j = farthest(i, i1, j);
+			// the vertices of edge i and those farthest from it are antipodal
+			for (int k = j; k != next(next(j)); k = next(k)) {
+				consider(i, k, best, distance);
+				consider(i1, k, best, distance);
+			}
+		}
+		return new ValuePair<>(points.get(best[0]), points.get(best[1]));
+	}
+
+	/**
+	 * Finds the edge with the smallest distance to the vertex farthest from it,
+	 * i.e. the minimum Feret. Returns the projection of that vertex onto the
+	 * edge, and the vertex.
+	 */
+	Pair<RealLocalizable, RealLocalizable> minimumFeret() {
+		if (n < 3) {
+			return new ValuePair<>(points.get(0), points.get(0));
+		}
+		double width = Double.POSITIVE_INFINITY;
+		Line bestLine = null;
+		int bestVertex = 0;
+		int j = 1;
+		for (int i = 0; i < n; i++) {
+			final int i1 = next(i);
+			j = farthest(i, i1, j);
+			final Line l = new Line(new Vector2D(x[i], y[i]), new Vector2D(x[i1],
+				y[i1]), 10e-12);
+
+			// the farthest vertex is j or, by rounding, one of its neighbours;
+			// like a scan in index order, prefer the smallest index on ties
+			final int[] candidates = sorted(prev(j), j, next(j));
+			double edgeWidth = 0;
+			int vertex = -1;
+			for (final int k : candidates) {
+				if (k == i || k == i1) continue;
+				final double d = l.distance(new Vector2D(x[k], y[k]));
+				if (d > edgeWidth) {
+					edgeWidth = d;
+					vertex = k;
+				}
+			}
+			if (vertex >= 0 && edgeWidth < width) {
+				width = edgeWidth;
+				bestLine = l;
+				bestVertex = vertex;
+			}
+		}
+		if (bestLine == null) {
+			return new ValuePair<>(points.get(0), points.get(0));
+		}
+		final Vector2D vp = (Vector2D) bestLine.project(new Vector2D(x[bestVertex],
+			y[bestVertex]));
+		return new ValuePair<>(new RealPoint(vp.getX(), vp.getY()), points.get(
+			bestVertex));
+	}
+
+	/**
+	 * Finds the rectangle of smallest area that has one side on an edge of the
+	 * polygon and encloses it. The polygon is rotated about {@code center} so
+	 * that each edge in turn is horizontal, and the bounds of the rotated
+	 * polygon are rotated back.
+	 * 
+	 * @return the corners of the rectangle
+	 */
+	double[][] smallestEnclosingRectangle(final RealLocalizable center) {
+		final double cx = center.getDoublePosition(0);
+		final double cy = center.getDoublePosition(1);
+
+		double minArea = Double.POSITIVE_INFINITY;
+		double[][] minBounds = null;
+
+		// the extreme vertices along and across the first edge
+		int right = 0;
+		int left = 0;
+		int top = 0;
+		for (int k = 1; k < n; k++) {
+			if (dot(0, k) > dot(0, right)) right = k;
+			if (dot(0, k) < dot(0, left)) left = k;
+			if (area(0, 1 % n, k) > area(0, 1 % n, top)) top = k;
+		}
+
+		// edges in the order P(i-1) to P(i) for i = 1 .. n-1, and P(n-1) to P(0)
+		for (int e = 0; e < n; e++) {
+			final int i0 = e;
+			final int i1 = next(e);
+			right = advance(right, k -> dot(i0, k));
+			left = advance(left, k -> -dot(i0, k));
+			top = advance(top, k -> area(i0, i1, k));
+
+			final double angle = Math.atan2(y[i1] - y[i0], x[i1] - x[i0]);
+			final double cos = Math.cos(-angle);
+			final double sin = Math.sin(-angle);
+
+			// bounds of the rotated polygon, taken over the extreme vertices and
+			// their neighbours
+			double minX = Double.POSITIVE_INFINITY;
+			double maxX = Double.NEGATIVE_INFINITY;
+			double minY = Double.POSITIVE_INFINITY;
+			double maxY = Double.NEGATIVE_INFINITY;
+			for (final int k : new int[] { prev(right), right, next(right), prev(
+				left), left, next(left), prev(top), top, next(top), i0, i1 })
+			{
+				final double rx = cos * (x[k] - cx) - sin * (y[k] - cy) + cx;
+				final double ry = sin * (x[k] - cx) + cos * (y[k] - cy) + cy;
+				if (rx < minX) minX = rx;
+				if (rx > maxX) maxX = rx;
+				if (ry < minY) minY = ry;
+				if (ry > maxY) maxY = ry;
+			}
+
+			final double[][] bounds = { { minX, minY }, { minX, maxY }, { maxX,
+				maxY }, { maxX, minY } };
+			final double area = area(bounds);
+			if (area < minArea) {
+				minArea = area;
+				minBounds = rotate(bounds, angle, cx, cy);
+			}
+		}
+		return minBounds;
+	}
+
+	// -- Helper methods --
+
+	private int next(final int i) {
+		return i + 1 == n ? 0 : i + 1;
+	}
+
+	private int prev(final int i) {
+		return i == 0 ? n - 1 : i - 1;
+	}
+
+	/**
+	 * Advances {@code j} from its last position to the vertex farthest from the
+	 * line through {@code i0} and {@code i1}.
+	 */
+	private int farthest(final int i0, final int i1, final int j) {
+		return advance(j, k -> area(i0, i1, k));
+	}
+
+	/** Advances {@code k} while the next vertex has a larger value. */
+	private int advance(int k, final IntToDoubleFunction f) {
+		for (int steps = 0; steps < n && f.applyAsDouble(next(k)) > f
+			.applyAsDouble(k); steps++)
+		{
+			k = next(k);
+		}
+		return k;
+	}
+
+	/** Twice the area of the triangle, i.e. distance of k from the line. */
+	private double area(final int i0, final int i1, final int k) {
+		return Math.abs((x[i1] - x[i0]) * (y[k] - y[i0]) - (y[i1] - y[i0]) *
+			(x[k] - x[i0]));
+	}
+
+	/** Projection of vertex k onto the direction of edge i. */
+	private double dot(final int i, final int k) {
+		final int i1 = next(i);
+		return (x[i1] - x[i]) * x[k] + (y[i1] - y[i]) * y[k];
+	}
+
+	private void consider(final int a, final int b, final int[] best,
+		final double[] distance)
+	{
+		if (a == b) return;
+		final int lo = Math.min(a, b);
+		final int hi = Math.max(a, b);
+		final double d = Math.sqrt(Math.pow(x[lo] - x[hi], 2) + Math.pow(y[lo] -
+			y[hi], 2));
+		if (d > distance[0] || d == distance[0] && (lo < best[0] ||
+			lo == best[0] && hi < best[1]))
+		{
+			distance[0] = d;
+			best[0] = lo;
+			best[1] = hi;
+		}
+	}
+
+	private static int[] sorted(final int a, final int b, final int c) {
+		final int[] s = { a, b, c };
+		Arrays.sort(s);
+		return s;
+	}
+
+	/** Area of a polygon, as computed by {@link DefaultSizePolygon}. */
+	private static double area(final double[][] polygon) {
+		double sum = 0;
+		for (int i = 0; i < polygon.length; i++) {
+			final double[] p0 = polygon[i];
+			final double[] p1 = polygon[(i + 1) % polygon.length];
+			sum += p0[0] * p1[1] - p0[1] * p1[0];
+		}
+		return Math.abs(sum) / 2d;
+	}
+
+	private static double[][] rotate(final double[][] polygon,
+		final double angle, final double cx, final double cy)
+	{
+		final double cos = Math.cos(angle);
+		final double sin = Math.sin(angle);
+		final double[][] out = new double[polygon.length][];
+		for (int i = 0; i < polygon.length; i++) {
+			final double px = polygon[i][0] - cx;
+			final double py = polygon[i][1] - cy;
+			out[i] = new double[] { cos * px - sin * py + cx, sin * px + cos * py +
+				cy };
+		}
+		return out;
+	}
+
+}
@@ -265,7 +265,7 @@ private Cursor<T> getCube(
 	// This table is from Paul Bourke's
 	// (http://paulbourke.net/geometry/polygonise/)
 	// Marching Cubes implementation.
-	private static final int[] EDGE_TABLE = new int[] { 0x000, 0x109, 0x203,
+	static final int[] EDGE_TABLE = new int[] { 0x000, 0x109, 0x203,
 		0x30a, 0x406, 0x50f, 0x605, 0x70c, 0x80c, 0x905, 0xa0f, 0xb06, 0xc0a, 0xd03,
 		0xe09, 0xf00, 0x190, 0x099, 0x393, 0x29a, 0x596, 0x49f, 0x795, 0x69c, 0x99c,
 		0x895, 0xb9f, 0xa96, 0xd9a, 0xc93, 0xf99, 0xe90, 0x230, 0x339, 0x033, 0x13a,
@@ -302,7 +302,7 @@ private Cursor<T> getCube(
 	// This table is from Paul Bourke's
 	// (http://paulbourke.net/geometry/polygonise/)
 	// Marching Cubes implementation.
-	private static final int[][] TRIANGLE_TABLE = new int[][] { { -1, -1, -1, -1,
+	static final int[][] TRIANGLE_TABLE = new int[][] { { -1, -1, -1, -1,
 		-1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1 }, { 0, 8, 3, -1, -1, -1, -1,
 			-1, -1, -1, -1, -1, -1, -1, -1, -1 }, { 0, 1, 9, -1, -1, -1, -1, -1, -1,
 				-1, -1, -1, -1, -1, -1, -1 }, { 1, 8, 3, 9, 8, 1, -1, -1, -1, -1, -1,
@@ -0,0 +1,463 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2020 ImageJ developers.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.geom.geom3d;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import net.imagej.mesh.Mesh;
+import net.imagej.mesh.nio.BufferMesh;
+import net.imagej.ops.Contingent;
+import net.imagej.ops.Ops;
+import net.imagej.ops.geom.geom3d.mesh.DefaultVertexInterpolator;
+import net.imagej.ops.special.function.AbstractUnaryFunctionOp;
+import net.imglib2.Cursor;
+import net.imglib2.RandomAccessibleInterval;
+import net.imglib2.type.BooleanType;
+import net.imglib2.view.Views;
+
+import org.apache.commons.math3.util.MathArrays;
+import org.scijava.ItemIO;
+import org.scijava.Priority;
+import org.scijava.plugin.Parameter;
+import org.scijava.plugin.Plugin;
+import org.scijava.thread.ThreadService;
+import org.scijava.util.DoubleArray;
+import org.scijava.util.IntArray;
+
+/**
+ * Marching cubes producing an indexed {@link BufferMesh}.
+ * <p>
+ * Uses the lookup tables and the vertex placement of
+ * {@link DefaultMarchingCubes} with the {@link DefaultVertexInterpolator}, and
+ * emits the same triangles in the same order. Instead of creating three new
+ * vertices per triangle, each vertex is created once for the edge (or the
+ * corner, if the iso level snaps it there) it lies on, and shared by all
+ * triangles of the neighboring cubes.
+ * </p>
+ * <p>
+ * The volume is processed one pair of slices at a time, keeping the vertex
+ * indices of the two slices in primitive arrays. The z-range is split into
+ * slabs which are processed in parallel; vertices on the planes between two
+ * slabs are merged when the slabs are joined.
+ * </p>
+ * 
+ * @param <T> BooleanType
+ */
+@Plugin(type = Ops.Geometric.MarchingCubes.class, priority = Priority.HIGH)
+public class IndexedMarchingCubes<T extends BooleanType<T>> extends
+	AbstractUnaryFunctionOp<RandomAccessibleInterval<T>, Mesh> implements
+	Ops.Geometric.MarchingCubes, Contingent
+{
+
+	/** Minimum number of cube layers per slab. */
+	private static final int MIN_SLAB_LAYERS = 8;
+
+	/** Tolerance of {@link DefaultVertexInterpolator}. */
+	private static final double TOLERANCE = 0.00001;
+
+	/**
+	 * Offsets of the cube corners, numbered as in {@link DefaultMarchingCubes}.
+	 */
+	private static final int[][] CORNERS = { { 0, 0, 1 }, { 1, 0, 1 }, { 1, 0,
+		0 }, { 0, 0, 0 }, { 0, 1, 1 }, { 1, 1, 1 }, { 1, 1, 0 }, { 0, 1, 0 } };
+
+	/**
+	 * End points of the cube edges, in the order they are interpolated by
+	 * {@link DefaultMarchingCubes}.
+	 */
+	private static final int[][] EDGES = { { 0, 1 }, { 1, 2 }, { 2, 3 }, { 3,
+		0 }, { 4, 5 }, { 5, 6 }, { 6, 7 }, { 7, 4 }, { 0, 4 }, { 1, 5 }, { 2, 6 },
+		{ 3, 7 } };
+
+	@Parameter
+	private ThreadService threadService;
+
+	@Parameter(type = ItemIO.INPUT, required = false)
+	private double isolevel = 1;
+
+	/** Number of slabs, or 0 to choose it from the processors available. */
+	private int slabCount;
+
+	@Override
+	public Mesh calculate(final RandomAccessibleInterval<T> input) {
+		// cubes start one voxel before the input and end one voxel after it
+		final int layers = (int) input.dimension(2) + 1;
+		final int numSlabs = slabCount > 0 ? Math.min(slabCount, layers) : Math
+			.max(1, Math.min(Runtime.getRuntime().availableProcessors(), layers /
+				MIN_SLAB_LAYERS));
+
+		final List<Slab> slabs = new ArrayList<>();
+		final List<Future<?>> futures = new ArrayList<>();
+		for (int s = 0; s < numSlabs; s++) {
+			final Slab slab = new Slab(input, (int) ((long) layers * s / numSlabs),
+				(int) ((long) layers * (s + 1) / numSlabs));
+			slabs.add(slab);
+			futures.add(threadService.run(slab::run));
+		}
+		try {
+			for (final Future<?> future : futures) {
+				future.get();
+			}
+		}
+		catch (final InterruptedException e) {
+			throw new RuntimeException(e);
+		}
+		catch (final ExecutionException e) {
+			throw new RuntimeException(e.getCause());
+		}
+
+		return join(slabs);
+	}
+
+	@Override
+	public boolean conforms() {
+		return in().numDimensions() == 3;
+	}
+
+	/**
+	 * Sets the number of slabs the volume is split into, at most one per cube
+	 * layer; 0 chooses it from the number of processors.
+	 */
+	void setSlabCount(final int slabCount) {
+		if (slabCount < 0) {
+			throw new IllegalArgumentException("Invalid slab count: " + slabCount);
+		}
+		this.slabCount = slabCount;
+	}
+
+	// -- Helper methods --
+
+	/**
+	 * Joins the slabs into one mesh, merging the vertices on the planes shared
+	 * by consecutive slabs.
+	 */
+	private Mesh join(final List<Slab> slabs) {
+		final int[][] remaps = new int[slabs.size()][];
+		final int[] firstNew = new int[slabs.size()];
+		int numVertices = 0;
+		int numTriangles = 0;
+		Plane previousTop = null;
+		for (int s = 0; s < slabs.size(); s++) {
+			final Slab slab = slabs.get(s);
+			final int[] remap = new int[slab.coords.size() / 3];
+			Arrays.fill(remap, -1);
+			if (previousTop != null) {
+				slab.bottom.link(previousTop, remap);
+			}
+			firstNew[s] = numVertices;
+			for (int v = 0; v < remap.length; v++) {
+				if (remap[v] < 0) remap[v] = numVertices++;
+			}
+			slab.top.remap(remap);
+			previousTop = slab.top;
+			remaps[s] = remap;
+			numTriangles += slab.triangles.size() / 3;
+		}
+
+		final BufferMesh mesh = new BufferMesh(numVertices, numTriangles);
+		for (int s = 0; s < slabs.size(); s++) {
+			final double[] coords = slabs.get(s).coords.getArray();
+			final int[] remap = remaps[s];
+			for (int v = 0; v < remap.length; v++) {
+				if (remap[v] < firstNew[s]) continue;
+				mesh.vertices().add(coords[3 * v], coords[3 * v + 1], coords[3 * v +
+					2]);
+			}
+		}
+		for (int s = 0; s < slabs.size(); s++) {
+			final IntArray triangles = slabs.get(s).triangles;
+			final int[] indices = triangles.getArray();
+			final int[] remap = remaps[s];
+			for (int t = 0; t < triangles.size(); t += 3) {
+				mesh.triangles().addf(remap[indices[t]], remap[indices[t + 1]],
+					remap[indices[t + 2]]);
+			}
+		}
+		return mesh;
+	}
+
+	private static boolean positiveArea(final double[] v, final int i0,
+		final int i1, final int i2)
+	{
+		final double p1x = v[i0] - v[i1];
+		final double p1y = v[i0 + 1] - v[i1 + 1];
+		final double p1z = v[i0 + 2] - v[i1 + 2];
+		final double p2x = v[i2] - v[i0];
+		final double p2y = v[i2 + 1] - v[i0 + 1];
+		final double p2z = v[i2 + 2] - v[i0 + 2];
+
+		// cross product
+		final double cpx = MathArrays.linearCombination(p1y, p2z, -p1z, p2y);
+		final double cpy = MathArrays.linearCombination(p1z, p2x, -p1x, p2z);
+		final double cpz = MathArrays.linearCombination(p1x, p2y, -p1y, p2x);
+
+		return cpx != 0 || cpy != 0 || cpz != 0;
+	}
+
+	// -- Helper classes --
+
+	/**
+	 * Vertex indices of the corners and of the x- and y-edges of one plane of
+	 * the cube grid; -1 where there is no vertex.
+	 */
+	private static class Plane {
+
+		private final int[] corners;
+		private final int[] xEdges;
+		private final int[] yEdges;
+
+		Plane(final int size) {
+			corners = new int[size];
+			xEdges = new int[size];
+			yEdges = new int[size];
+			clear();
+		}
+
+		void clear() {
+			Arrays.fill(corners, -1);
+			Arrays.fill(xEdges, -1);
+			Arrays.fill(yEdges, -1);
+		}
+
+		/** Maps the vertices of this plane onto those of the same plane. */
+		void link(final Plane other, final int[] remap) {
+			link(corners, other.corners, remap);
+			link(xEdges, other.xEdges, remap);
+			link(yEdges, other.yEdges, remap);
+		}
+
+		/** Replaces the vertex indices by their remapped values. */
+		void remap(final int[] remap) {
+			remap(corners, remap);
+			remap(xEdges, remap);
+			remap(yEdges, remap);
+		}
+
+		private static void link(final int[] mine, final int[] theirs,
+			final int[] remap)
+		{
+			for (int i = 0; i < mine.length; i++) {
+				if (mine[i] >= 0 && theirs[i] >= 0) remap[mine[i]] = theirs[i];
+			}
+		}
+
+		private static void remap(final int[] indices, final int[] remap) {
+			for (int i = 0; i < indices.length; i++) {
+				if (indices[i] >= 0) indices[i] = remap[indices[i]];
+			}
+		}
+	}
+
+	/** Marching cubes over a range of cube layers. */
+	private class Slab implements Runnable {
+
+		private final RandomAccessibleInterval<T> input;
+		private final int firstLayer;
+		private final int lastLayer;
+
+		/** Number of grid points per row and per plane. */
+		private final int sx;
+		private final int sy;
+
+		private final DoubleArray coords = new DoubleArray();
+		private final IntArray triangles = new IntArray();
+
+		private Plane bottom;
+		private Plane top;
+
+		// per cube state, reused
+		private final boolean[] values = new boolean[8];
+		private final double[] positions = new double[12 * 3];
+		private final int[][] slotArrays = new int[12][];
+		private final int[] slotIndices = new int[12];
+
+		Slab(final RandomAccessibleInterval<T> input, final int firstLayer,
+			final int lastLayer)
+		{
+			this.input = input;
+			this.firstLayer = firstLayer;
+			this.lastLayer = lastLayer;
+			sx = (int) input.dimension(0) + 2;
+			sy = (int) input.dimension(1) + 2;
+		}
+
+		@Override
+		public void run() {
+			final int size = sx * sy;
+			byte[] lowerValues = new byte[size];
+			byte[] upperValues = new byte[size];
+			Plane lower = new Plane(size);
+			Plane upper = new Plane(size);
+			final int[] zEdges = new int[size];
+			bottom = lower;
+
+			readPlane(firstLayer, lowerValues);
+			for (int k = firstLayer; k < lastLayer; k++) {
+				readPlane(k + 1, upperValues);
+				Arrays.fill(zEdges, -1);
+				layer(k, lowerValues, upperValues, lower, upper, zEdges);
+
+				final byte[] values = lowerValues;
+				lowerValues = upperValues;
+				upperValues = values;
+				final Plane done = lower;
+				lower = upper;
+				upper = done == bottom ? new Plane(size) : done;
+				upper.clear();
+			}
+			top = lower;
+		}
+
+		/** Reads plane {@code k} of the grid, which starts before the input. */
+		private void readPlane(final int k, final byte[] values) {
+			Arrays.fill(values, (byte) 0);
+			final long z = input.min(2) - 1 + k;
+			if (z < input.min(2) || z > input.max(2)) return;
+			final Cursor<T> c = Views.flatIterable(Views.hyperSlice(input, 2, z))
+				.cursor();
+			for (int y = 1; y < sy - 1; y++) {
+				for (int x = 1; x < sx - 1; x++) {
+					values[y * sx + x] = c.next().get() ? (byte) 1 : 0;
+				}
+			}
+		}
+
+		private void layer(final int k, final byte[] lowerValues,
+			final byte[] upperValues, final Plane lower, final Plane upper,
+			final int[] zEdges)
+		{
+			final boolean zeroBelow = 0 < isolevel;
+			final boolean oneBelow = 1 < isolevel;
+			final long minX = input.min(0) - 1;
+			final long minY = input.min(1) - 1;
+			final long z = input.min(2) - 1 + k;
+
+			for (int j = 0; j < sy - 1; j++) {
+				for (int i = 0; i < sx - 1; i++) {
+					int cubeindex = 0;
+					for (int c = 0; c < 8; c++) {
+						final int[] o = CORNERS[c];
+						final int index = (j + o[1]) * sx + i + o[0];
+						values[c] = (o[2] == 0 ? lowerValues : upperValues)[index] != 0;
+						if (values[c] ? oneBelow : zeroBelow) cubeindex |= 1 << c;
+					}
+
+					final int edges = DefaultMarchingCubes.EDGE_TABLE[cubeindex];
+					if (edges == 0) continue;
+
+					for (int e = 0; e < 12; e++) {
+						if ((edges & 1 << e) != 0) {
+							interpolate(e, i, j, minX + i, minY + j, z, lower, upper,
+								zEdges);
+						}
+					}
+
+					final int[] triangle = DefaultMarchingCubes.TRIANGLE_TABLE[cubeindex];
+					for (int t = 0; triangle[t] != -1; t += 3) {
+						final int e0 = triangle[t + 2];
+						final int e1 = triangle[t + 1];
+						final int e2 = triangle[t];
+						if (positiveArea(positions, 3 * e0, 3 * e1, 3 * e2)) {
+							triangles.addValue(vertex(e0));
+							triangles.addValue(vertex(e1));
+							triangles.addValue(vertex(e2));
+						}
+					}
+				}
+			}
+		}
+
+		/**
+		 * Places the vertex of edge {@code e} like
+		 * {@link DefaultVertexInterpolator} does, and determines where its index
+		 * is kept.
+		 */
+		private void interpolate(final int e, final int i, final int j,
+			final long x, final long y, final long z, final Plane lower,
+			final Plane upper, final int[] zEdges)
+		{
+			final int c1 = EDGES[e][0];
+			final int c2 = EDGES[e][1];
+			final double v1 = values[c1] ? 1 : 0;
+			final double v2 = values[c2] ? 1 : 0;
+
+			final int snap;
+			if (Math.abs(isolevel - v1) < TOLERANCE) snap = c1;
+			else if (Math.abs(isolevel - v2) < TOLERANCE) snap = c2;
+			else if (Math.abs(v1 - v2) < TOLERANCE) snap = c1;
+			else snap = -1;
+
+			final int[] o1 = CORNERS[c1];
+			final int[] o2 = CORNERS[c2];
+			if (snap >= 0) {
+				final int[] o = CORNERS[snap];
+				positions[3 * e] = x + o[0];
+				positions[3 * e + 1] = y + o[1];
+				positions[3 * e + 2] = z + o[2];
+				slotArrays[e] = (o[2] == 0 ? lower : upper).corners;
+				slotIndices[e] = (j + o[1]) * sx + i + o[0];
+				return;
+			}
+
+			final double mu = (isolevel - v1) / (v2 - v1);
+			for (int d = 0; d < 3; d++) {
+				final double p1 = (d == 0 ? x : d == 1 ? y : z) + o1[d];
+				final double p2 = (d == 0 ? x : d == 1 ? y : z) + o2[d];
+				positions[3 * e + d] = p1 + mu * (p2 - p1);
+			}
+			// the edge is keyed by its lower end point
+			final int ox = Math.min(o1[0], o2[0]);
+			final int oy = Math.min(o1[1], o2[1]);
+			final int oz = Math.min(o1[2], o2[2]);
+			final Plane plane = oz == 0 ? lower : upper;
+			slotArrays[e] = o1[0] != o2[0] ? plane.xEdges : o1[1] != o2[1]
+				? plane.yEdges : zEdges;
+			slotIndices[e] = (j + oy) * sx + i + ox;
+		}
+
+		/** Gets the index of the vertex of edge {@code e}, creating it once. */
+		private int vertex(final int e) {
+			final int[] slots = slotArrays[e];
+			final int slot = slotIndices[e];
+			if (slots[slot] < 0) {
+				slots[slot] = coords.size() / 3;
+				coords.addValue(positions[3 * e]);
+				coords.addValue(positions[3 * e + 1]);
+				coords.addValue(positions[3 * e + 2]);
+			}
+			return slots[slot];
+		}
+	}
+
+}
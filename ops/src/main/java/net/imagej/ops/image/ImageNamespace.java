@@ -106,7 +106,8 @@ public <T extends RealType<T>> double[][] cooccurrenceMatrix(
 	/** Executes the "distancetransform" operation on the given arguments. */
 	@OpMethod(ops = { net.imagej.ops.image.distancetransform.DefaultDistanceTransform.class,
 			net.imagej.ops.image.distancetransform.DistanceTransform2D.class,
-			net.imagej.ops.image.distancetransform.DistanceTransform3D.class })
+			net.imagej.ops.image.distancetransform.DistanceTransform3D.class,
+			net.imagej.ops.image.distancetransform.SeparableDistanceTransform.class })
 	public <B extends BooleanType<B>, T extends RealType<T>> RandomAccessibleInterval<T> distancetransform(
 			final RandomAccessibleInterval<T> out, final RandomAccessibleInterval<B> in) {
 		@SuppressWarnings("unchecked")
@@ -119,7 +120,8 @@ public <B extends BooleanType<B>, T extends RealType<T>> RandomAccessibleInterva
 	@OpMethod(ops = {
 		net.imagej.ops.image.distancetransform.DefaultDistanceTransform.class,
 		net.imagej.ops.image.distancetransform.DistanceTransform2D.class,
-		net.imagej.ops.image.distancetransform.DistanceTransform3D.class })
+		net.imagej.ops.image.distancetransform.DistanceTransform3D.class,
+		net.imagej.ops.image.distancetransform.SeparableDistanceTransform.class })
 	public <B extends BooleanType<B>, T extends RealType<T>>
 		RandomAccessibleInterval<T> distancetransform(
 			final RandomAccessibleInterval<B> in)
@@ -135,7 +137,8 @@ RandomAccessibleInterval<T> distancetransform(
 	@OpMethod(ops = {
 		net.imagej.ops.image.distancetransform.DefaultDistanceTransformCalibration.class,
 		net.imagej.ops.image.distancetransform.DistanceTransform2DCalibration.class,
-		net.imagej.ops.image.distancetransform.DistanceTransform3DCalibration.class })
+		net.imagej.ops.image.distancetransform.DistanceTransform3DCalibration.class,
+		net.imagej.ops.image.distancetransform.SeparableDistanceTransformCalibration.class })
 	public <B extends BooleanType<B>, T extends RealType<T>>
 		RandomAccessibleInterval<T> distancetransform(
 			final RandomAccessibleInterval<T> out,
@@ -152,7 +155,8 @@ RandomAccessibleInterval<T> distancetransform(
 	@OpMethod(ops = {
 		net.imagej.ops.image.distancetransform.DefaultDistanceTransformCalibration.class,
 		net.imagej.ops.image.distancetransform.DistanceTransform2DCalibration.class,
-		net.imagej.ops.image.distancetransform.DistanceTransform3DCalibration.class })
+		net.imagej.ops.image.distancetransform.DistanceTransform3DCalibration.class,
+		net.imagej.ops.image.distancetransform.SeparableDistanceTransformCalibration.class })
 	public <B extends BooleanType<B>, T extends RealType<T>>
 		RandomAccessibleInterval<T> distancetransform(
 			final RandomAccessibleInterval<B> in, final double... calibration)
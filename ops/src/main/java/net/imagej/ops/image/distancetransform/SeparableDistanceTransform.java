@@ -0,0 +1,310 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2020 ImageJ developers.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.image.distancetransform;
+
+import java.util.Arrays;
+
+import net.imagej.ops.Contingent;
+import net.imagej.ops.Ops;
+import net.imagej.ops.create.img.CreateImgFromDimsAndType;
+import net.imagej.ops.special.function.Functions;
+import net.imagej.ops.special.function.UnaryFunctionOp;
+import net.imagej.ops.special.hybrid.AbstractUnaryHybridCF;
+import net.imagej.ops.thread.chunker.Chunk;
+import net.imagej.ops.thread.chunker.ChunkerOp;
+import net.imglib2.FinalInterval;
+import net.imglib2.RandomAccess;
+import net.imglib2.RandomAccessibleInterval;
+import net.imglib2.type.BooleanType;
+import net.imglib2.type.numeric.RealType;
+import net.imglib2.type.numeric.real.DoubleType;
+import net.imglib2.type.numeric.real.FloatType;
+import net.imglib2.util.Util;
+
+import org.scijava.Priority;
+import org.scijava.plugin.Plugin;
+
+/**
+ * Computes an exact Euclidean distance transform of an n-dimensional image,
+ * i.e. for every foreground pixel its distance to the nearest background pixel.
+ * <p>
+ * The squared distance is separable: after the distances along the first
+ * dimension have been computed, each further dimension is processed by a 1-D
+ * pass computing the lower envelope of parabolas along every line (Felzenszwalb
+ * and Huttenlocher, "Distance Transforms of Sampled Functions", Theory of
+ * Computing 8, 2012). All lines of a pass are processed in parallel. The
+ * squared distances are kept in the output image itself, so apart from one
+ * line buffer per thread no temporary memory is needed, regardless of the size
+ * of the image.
+ * </p>
+ * <p>
+ * Intermediate squared distances are stored in the output type, which
+ * therefore has to be a {@link FloatType} or {@link DoubleType}. Squared
+ * distances are integral for uncalibrated images and exact in a
+ * {@link FloatType} up to 2<sup>24</sup>, i.e. for distances of up to 4096
+ * pixels.
+ * </p>
+ */
+@Plugin(type = Ops.Image.DistanceTransform.class, priority = Priority.HIGH)
+public class SeparableDistanceTransform<B extends BooleanType<B>, T extends RealType<T>>
+		extends AbstractUnaryHybridCF<RandomAccessibleInterval<B>, RandomAccessibleInterval<T>>
+		implements Ops.Image.DistanceTransform, Contingent {
+
+	@SuppressWarnings("rawtypes")
+	private UnaryFunctionOp<FinalInterval, RandomAccessibleInterval> createOp;
+
+	@Override
+	public boolean conforms() {
+		for (int d = 0; d < in().numDimensions(); d++) {
+			if (in().dimension(d) > Integer.MAX_VALUE - 8) return false;
+		}
+		if (out() == null) return true;
+		final T type = Util.getTypeFromInterval(out());
+		return type instanceof FloatType || type instanceof DoubleType;
+	}
+
+	@Override
+	public void initialize() {
+		createOp = Functions.unary(ops(), CreateImgFromDimsAndType.class, RandomAccessibleInterval.class,
+				new FinalInterval(in()), new FloatType());
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public RandomAccessibleInterval<T> createOutput(final RandomAccessibleInterval<B> in) {
+		return createOp.calculate(new FinalInterval(in));
+	}
+
+	@Override
+	public void compute(final RandomAccessibleInterval<B> in, final RandomAccessibleInterval<T> out) {
+		final double[] calibration = new double[in.numDimensions()];
+		Arrays.fill(calibration, 1);
+		compute(in, out, calibration);
+	}
+
+	/**
+	 * Computes the distance transform of {@code in} into {@code out}, with
+	 * {@code calibration} giving the pixel spacing in each dimension.
+	 */
+	protected void compute(final RandomAccessibleInterval<B> in, final RandomAccessibleInterval<T> out,
+			final double[] calibration) {
+		// first dimension: squared distances to the nearest background pixel in
+		// the same line
+		forEachLine(in, 0, new LineProcessor() {
+
+			@Override
+			public void process(final long[] offset, final LineBuffers buffers) {
+				final double[] line = buffers.line;
+				final RandomAccess<B> raIn = in.randomAccess();
+				final RandomAccess<T> raOut = out.randomAccess();
+				position(raIn, in, offset);
+				position(raOut, out, offset);
+
+				// forward scan: distance to the previous background pixel
+				double distance = Double.POSITIVE_INFINITY;
+				for (int x = 0; x < line.length; x++) {
+					distance = raIn.get().get() ? distance + 1 : 0;
+					line[x] = distance;
+					raIn.fwd(0);
+				}
+				// backward scan: distance to the next background pixel
+				distance = Double.POSITIVE_INFINITY;
+				for (int x = line.length - 1; x >= 0; x--) {
+					distance = line[x] == 0 ? 0 : distance + 1;
+					line[x] = Math.min(line[x], distance) * calibration[0];
+				}
+
+				for (int x = 0; x < line.length; x++) {
+					raOut.get().setReal(line[x] * line[x]);
+					raOut.fwd(0);
+				}
+			}
+		});
+
+		// remaining dimensions: lower envelope of the parabolas along each line
+		for (int d = 1; d < in.numDimensions(); d++) {
+			final int dim = d;
+			final double weight = calibration[d] * calibration[d];
+			forEachLine(in, d, new LineProcessor() {
+
+				@Override
+				public void process(final long[] offset, final LineBuffers buffers) {
+					final double[] line = buffers.line;
+					final RandomAccess<T> raOut = out.randomAccess();
+					position(raOut, out, offset);
+					for (int x = 0; x < line.length; x++) {
+						line[x] = raOut.get().getRealDouble();
+						raOut.fwd(dim);
+					}
+
+					lowerEnvelope(line, weight, buffers.vertices, buffers.bounds, buffers.result);
+
+					position(raOut, out, offset);
+					for (int x = 0; x < line.length; x++) {
+						raOut.get().setReal(buffers.result[x]);
+						raOut.fwd(dim);
+					}
+				}
+			});
+		}
+
+		// distances from squared distances; pixels without any background get the
+		// length of the image diagonal
+		double diagonal = 0;
+		for (int d = 0; d < in.numDimensions(); d++) {
+			diagonal += calibration[d] * calibration[d] * in.dimension(d) * in.dimension(d);
+		}
+		final double infinite = Math.sqrt(diagonal);
+		forEachLine(in, 0, new LineProcessor() {
+
+			@Override
+			public void process(final long[] offset, final LineBuffers buffers) {
+				final RandomAccess<T> raOut = out.randomAccess();
+				position(raOut, out, offset);
+				for (int x = 0; x < buffers.line.length; x++) {
+					final double value = raOut.get().getRealDouble();
+					raOut.get().setReal(value == Double.POSITIVE_INFINITY ? infinite : Math.sqrt(value));
+					raOut.fwd(0);
+				}
+			}
+		});
+	}
+
+	/**
+	 * Computes {@code result[q] = min_p weight * (q - p)^2 + f[p]}, the lower
+	 * envelope of the parabolas rooted at the finite values of {@code f}.
+	 */
+	static void lowerEnvelope(final double[] f, final double weight, final int[] vertices, final double[] bounds,
+			final double[] result) {
+		final int n = f.length;
+		int k = -1;
+		for (int q = 0; q < n; q++) {
+			if (f[q] == Double.POSITIVE_INFINITY) continue;
+			if (k < 0) {
+				k = 0;
+				vertices[0] = q;
+				bounds[0] = Double.NEGATIVE_INFINITY;
+				bounds[1] = Double.POSITIVE_INFINITY;
+				continue;
+			}
+			double s = intersection(f, weight, vertices[k], q);
+			while (s <= bounds[k]) {
+				k--;
+				s = intersection(f, weight, vertices[k], q);
+			}
+			k++;
+			vertices[k] = q;
+			bounds[k] = s;
+			bounds[k + 1] = Double.POSITIVE_INFINITY;
+		}
+		if (k < 0) {
+			// no finite values at all
+			Arrays.fill(result, Double.POSITIVE_INFINITY);
+			return;
+		}
+		k = 0;
+		for (int q = 0; q < n; q++) {
+			while (bounds[k + 1] < q) {
+				k++;
+			}
+			final int p = vertices[k];
+			result[q] = weight * (q - p) * (q - p) + f[p];
+		}
+	}
+
+	/** Position at which the parabolas rooted at {@code p < r} intersect. */
+	private static double intersection(final double[] f, final double weight, final int p, final int r) {
+		return ((f[r] + weight * r * r) - (f[p] + weight * p * p)) / (2 * weight * (r - p));
+	}
+
+	// -- Helper methods --
+
+	/** Processing of a single line. */
+	private interface LineProcessor {
+
+		void process(long[] offset, LineBuffers buffers);
+	}
+
+	/** Scratch space for processing lines, allocated once per chunk of lines. */
+	private static final class LineBuffers {
+
+		private final double[] line;
+		private final double[] result;
+		private final double[] bounds;
+		private final int[] vertices;
+
+		private LineBuffers(final int length) {
+			line = new double[length];
+			result = new double[length];
+			bounds = new double[length + 1];
+			vertices = new int[length];
+		}
+	}
+
+	/**
+	 * Calls the processor for all lines along dimension {@code d}, in parallel.
+	 * Each call gets the offset of the start of the line relative to the min of
+	 * the image, and buffers of the length of the line.
+	 */
+	private void forEachLine(final RandomAccessibleInterval<?> image, final int d, final LineProcessor processor) {
+		final int n = image.numDimensions();
+		final long[] dims = new long[n];
+		image.dimensions(dims);
+		long numLines = 1;
+		for (int i = 0; i < n; i++) {
+			if (i != d) numLines *= dims[i];
+		}
+
+		ops().run(ChunkerOp.class, new Chunk() {
+
+			@Override
+			public void execute(final long startIndex, final long stepSize, final long numSteps) {
+				final long[] offset = new long[n];
+				final LineBuffers buffers = new LineBuffers((int) dims[d]);
+				for (long step = 0, l = startIndex; step < numSteps; step++, l += stepSize) {
+					long rest = l;
+					for (int i = 0; i < n; i++) {
+						if (i == d) continue;
+						offset[i] = rest % dims[i];
+						rest /= dims[i];
+					}
+					processor.process(offset, buffers);
+				}
+			}
+		}, numLines);
+	}
+
+	private static void position(final RandomAccess<?> ra, final RandomAccessibleInterval<?> image,
+			final long[] offset) {
+		for (int i = 0; i < offset.length; i++) {
+			ra.setPosition(image.min(i) + offset[i], i);
+		}
+	}
+}
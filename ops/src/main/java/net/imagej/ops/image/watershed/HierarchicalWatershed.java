@@ -0,0 +1,495 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2020 ImageJ developers.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.image.watershed;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import net.imglib2.Cursor;
+import net.imglib2.IterableInterval;
+import net.imglib2.Localizable;
+import net.imglib2.RandomAccess;
+import net.imglib2.RandomAccessibleInterval;
+import net.imglib2.algorithm.neighborhood.Neighborhood;
+import net.imglib2.algorithm.neighborhood.Shape;
+import net.imglib2.roi.Regions;
+import net.imglib2.roi.labeling.ImgLabeling;
+import net.imglib2.roi.labeling.LabelingType;
+import net.imglib2.type.BooleanType;
+import net.imglib2.type.numeric.IntegerType;
+import net.imglib2.type.numeric.RealType;
+import net.imglib2.type.numeric.integer.IntType;
+import net.imglib2.util.Intervals;
+import net.imglib2.util.Util;
+import net.imglib2.view.Views;
+
+/**
+ * Flooding of {@link WatershedSeeded} on primitive arrays.
+ * <p>
+ * The state of every voxel is kept in one {@code int} per voxel, and the queue
+ * holds voxel indices: integer inputs of up to 16 bits use a hierarchical
+ * queue with one FIFO bucket per grey value, all other inputs a binary heap
+ * ordered by value and insertion order. Both pop voxels in exactly the order
+ * of the {@code PriorityQueue} of {@link WatershedSeeded}, so the result is
+ * identical.
+ * </p>
+ *
+ * @param <T> element type of input
+ * @param <B> element type of mask
+ */
+final class HierarchicalWatershed<T extends RealType<T>, B extends BooleanType<B>> {
+
+	/** State of voxels without any label. */
+	private static final int EMPTY = Integer.MIN_VALUE;
+
+	/** Maximal number of voxels. */
+	private static final long MAX_SIZE = Integer.MAX_VALUE - 8;
+
+	private final RandomAccessibleInterval<T> in;
+	private final ImgLabeling<Integer, IntType> out;
+	private final ImgLabeling<Integer, IntType> seeds;
+	private final RandomAccessibleInterval<B> mask;
+	private final boolean drawWatersheds;
+
+	private final int n;
+	private final long[] dims;
+	private final long[][] offsets;
+
+	/** Label of each voxel, or one of the special labels of the flooding. */
+	private int[] state;
+
+	/** Bit set of the voxels inside the mask. */
+	private long[] inside;
+
+	/**
+	 * @param mask the area to flood
+	 * @param shape the neighborhood of each voxel, excluding the voxel itself
+	 */
+	HierarchicalWatershed(final RandomAccessibleInterval<T> in,
+		final ImgLabeling<Integer, IntType> out,
+		final ImgLabeling<Integer, IntType> seeds,
+		final RandomAccessibleInterval<B> mask, final Shape shape,
+		final boolean drawWatersheds)
+	{
+		this.in = in;
+		this.out = out;
+		this.seeds = seeds;
+		this.mask = mask;
+		this.drawWatersheds = drawWatersheds;
+		n = in.numDimensions();
+		dims = Intervals.dimensionsAsLongArray(in);
+		offsets = offsets(shape, in);
+	}
+
+	/** Checks whether the image is small enough for per-voxel arrays. */
+	static boolean supports(final RandomAccessibleInterval<?> in) {
+		return Intervals.numElements(in) <= MAX_SIZE;
+	}
+
+	void compute() {
+		initialize();
+		final VoxelQueue queue = createQueue();
+		final RandomAccess<T> raIn = in.randomAccess();
+		final RandomAccess<LabelingType<Integer>> raSeeds = seeds.randomAccess();
+		final long[] position = new long[n];
+		final long[] neighbor = new long[n];
+
+		// carry over the seeds inside the mask and queue their neighbors
+		final IterableInterval<LabelingType<Integer>> seedsMasked = Regions.sample(
+			Regions.iterable(mask), seeds);
+		final Cursor<LabelingType<Integer>> cursorSeeds = seedsMasked
+			.localizingCursor();
+		while (cursorSeeds.hasNext()) {
+			final Set<Integer> l = cursorSeeds.next();
+			if (l.isEmpty()) {
+				continue;
+			}
+			if (l.size() > 1) {
+				throw new IllegalArgumentException(
+					"Seeds must have exactly one label!");
+			}
+			final Integer label = l.iterator().next();
+			if (label < 0) {
+				throw new IllegalArgumentException(
+					"Seeds must have positive integers as labels!");
+			}
+			cursorSeeds.localize(position);
+			for (final long[] o : offsets) {
+				if (!neighbor(position, o, neighbor)) continue;
+				final int index = index(neighbor);
+				if (!isInside(index)) continue;
+				raSeeds.setPosition(neighbor);
+				if (!raSeeds.get().isEmpty()) continue;
+				if (state[index] != WatershedSeeded.INQUEUE) {
+					raIn.setPosition(neighbor);
+					queue.add(index, raIn.get().getRealDouble());
+					state[index] = WatershedSeeded.INQUEUE;
+				}
+			}
+			state[index(position)] = label;
+		}
+
+		// flood: label the voxel with the lowest value, and queue its neighbors
+		final int[] labels = new int[offsets.length];
+		final int[] queueIndices = new int[offsets.length];
+		final double[] queueValues = new double[offsets.length];
+		while (!queue.isEmpty()) {
+			final int index = queue.poll();
+			position(index, position);
+			int numLabels = 0;
+			int numQueue = 0;
+			for (final long[] o : offsets) {
+				if (!neighbor(position, o, neighbor)) continue;
+				final int neighborIndex = index(neighbor);
+				final int label = state[neighborIndex];
+				if (label == EMPTY) continue;
+				if (label == WatershedSeeded.INIT && isInside(neighborIndex)) {
+					raIn.setPosition(neighbor);
+					queueIndices[numQueue] = neighborIndex;
+					queueValues[numQueue++] = raIn.get().getRealDouble();
+				}
+				else if (label > WatershedSeeded.WSHED && (!drawWatersheds ||
+					!contains(labels, numLabels, label)))
+				{
+					labels[numLabels++] = label;
+				}
+			}
+
+			final boolean labeled;
+			if (drawWatersheds) {
+				// label the voxel only if all labeled neighbors agree
+				state[index] = numLabels == 1 ? labels[0] : numLabels > 1
+					? WatershedSeeded.WSHED : EMPTY;
+				labeled = numLabels == 1;
+			}
+			else {
+				// take the label which most of the neighbors have
+				if (numLabels > 0) {
+					state[index] = numLabels > 2 ? majority(labels, numLabels)
+						: labels[0];
+				}
+				labeled = numLabels > 0;
+			}
+			if (labeled) {
+				for (int i = 0; i < numQueue; i++) {
+					state[queueIndices[i]] = WatershedSeeded.INQUEUE;
+					queue.add(queueIndices[i], queueValues[i]);
+				}
+			}
+		}
+
+		writeLabels();
+	}
+
+	// -- Helper methods --
+
+	/** Reads the mask and the labels outside the mask into primitive arrays. */
+	private void initialize() {
+		final int size = (int) Intervals.numElements(in);
+		state = new int[size];
+		final Cursor<LabelingType<Integer>> cursorOut = Views.flatIterable(out)
+			.cursor();
+		final Cursor<B> cursorMask = Views.flatIterable(mask).cursor();
+		inside = new long[(size + 63) >>> 6];
+		for (int i = 0; i < size; i++) {
+			final LabelingType<Integer> labeling = cursorOut.next();
+			if (cursorMask.next().get()) {
+				state[i] = WatershedSeeded.INIT;
+				inside[i >>> 6] |= 1L << i;
+			}
+			else {
+				state[i] = labeling.isEmpty() ? EMPTY : labeling.iterator().next();
+			}
+		}
+	}
+
+	/** Writes the resulting labels of all voxels inside the mask. */
+	private void writeLabels() {
+		final Cursor<LabelingType<Integer>> cursorOut = Views.flatIterable(out)
+			.cursor();
+		for (int i = 0; i < state.length; i++) {
+			final LabelingType<Integer> labeling = cursorOut.next();
+			if (!isInside(i)) continue;
+			labeling.clear();
+			if (state[i] != EMPTY) labeling.add(state[i]);
+		}
+	}
+
+	private VoxelQueue createQueue() {
+		final T type = Util.getTypeFromInterval(in);
+		if (type instanceof IntegerType && type.getBitsPerPixel() <= 16) {
+			return new BucketQueue((long) type.getMinValue(), (long) type
+				.getMaxValue());
+		}
+		return new HeapQueue();
+	}
+
+	private boolean isInside(final int index) {
+		return (inside[index >>> 6] & 1L << index) != 0;
+	}
+
+	/** Computes the neighbor position; returns false if it is out of bounds. */
+	private boolean neighbor(final long[] position, final long[] offset,
+		final long[] neighbor)
+	{
+		for (int d = 0; d < n; d++) {
+			neighbor[d] = position[d] + offset[d];
+			if (neighbor[d] < in.min(d) || neighbor[d] > in.max(d)) return false;
+		}
+		return true;
+	}
+
+	private int index(final long[] position) {
+		long index = 0;
+		for (int d = n - 1; d >= 0; d--) {
+			index = index * dims[d] + position[d] - in.min(d);
+		}
+		return (int) index;
+	}
+
+	private void position(int index, final long[] position) {
+		for (int d = 0; d < n; d++) {
+			position[d] = in.min(d) + index % dims[d];
+			index /= dims[d];
+		}
+	}
+
+	private static boolean contains(final int[] labels, final int size,
+		final int label)
+	{
+		for (int i = 0; i < size; i++) {
+			if (labels[i] == label) return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the most frequent label. Ties are resolved exactly like in
+	 * {@link WatershedSeeded}, which is only needed when the labels differ.
+	 */
+	private static int majority(final int[] labels, final int size) {
+		boolean uniform = true;
+		for (int i = 1; i < size; i++) {
+			uniform &= labels[i] == labels[0];
+		}
+		if (uniform) return labels[0];
+		final List<Integer> neighborLabels = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			neighborLabels.add(labels[i]);
+		}
+		final Map<Integer, Long> countLabels = neighborLabels.stream().collect(
+			Collectors.groupingBy(e -> e, Collectors.counting()));
+		return Collections.max(countLabels.entrySet(), Comparator.comparingLong(
+			Map.Entry::getValue)).getKey();
+	}
+
+	/**
+	 * Offsets of the neighbors, in the iteration order of the neighborhoods of
+	 * the shape.
+	 */
+	private static <T> long[][] offsets(final Shape shape,
+		final RandomAccessibleInterval<T> in)
+	{
+		final RandomAccess<Neighborhood<T>> ra = shape.neighborhoodsRandomAccessible(
+			in).randomAccess();
+		final long[] center = Intervals.minAsLongArray(in);
+		ra.setPosition(center);
+		final Cursor<T> cursor = ra.get().localizingCursor();
+		final List<long[]> offsets = new ArrayList<>();
+		while (cursor.hasNext()) {
+			cursor.fwd();
+			offsets.add(offset(cursor, center));
+		}
+		return offsets.toArray(new long[offsets.size()][]);
+	}
+
+	private static long[] offset(final Localizable position,
+		final long[] center)
+	{
+		final long[] offset = new long[center.length];
+		for (int d = 0; d < offset.length; d++) {
+			offset[d] = position.getLongPosition(d) - center[d];
+		}
+		return offset;
+	}
+
+	/** Queue of voxel indices, ordered by value and then insertion order. */
+	private interface VoxelQueue {
+
+		void add(int index, double value);
+
+		int poll();
+
+		boolean isEmpty();
+	}
+
+	/** Hierarchical queue with one FIFO bucket per integer value. */
+	private static final class BucketQueue implements VoxelQueue {
+
+		private final long min;
+		private final int[][] buckets;
+		private final int[] heads;
+		private final int[] tails;
+		private int current;
+		private long size;
+
+		private BucketQueue(final long min, final long max) {
+			this.min = min;
+			final int numBuckets = (int) (max - min + 1);
+			buckets = new int[numBuckets][];
+			heads = new int[numBuckets];
+			tails = new int[numBuckets];
+			current = numBuckets;
+		}
+
+		@Override
+		public void add(final int index, final double value) {
+			final int b = (int) ((long) value - min);
+			int[] bucket = buckets[b];
+			if (bucket == null) {
+				bucket = buckets[b] = new int[16];
+			}
+			else if (tails[b] == bucket.length) {
+				final int length = tails[b] - heads[b];
+				if (2 * length > bucket.length) {
+					bucket = buckets[b] = Arrays.copyOf(bucket, 2 * bucket.length);
+				}
+				// drop the polled part of the bucket
+				System.arraycopy(bucket, heads[b], bucket, 0, length);
+				heads[b] = 0;
+				tails[b] = length;
+			}
+			bucket[tails[b]++] = index;
+			if (b < current) current = b;
+			size++;
+		}
+
+		@Override
+		public int poll() {
+			while (heads[current] == tails[current]) {
+				current++;
+			}
+			final int index = buckets[current][heads[current]++];
+			if (heads[current] == tails[current]) {
+				heads[current] = tails[current] = 0;
+			}
+			size--;
+			return index;
+		}
+
+		@Override
+		public boolean isEmpty() {
+			return size == 0;
+		}
+	}
+
+	/** Binary min-heap of voxel indices, keyed by value and insertion order. */
+	private static final class HeapQueue implements VoxelQueue {
+
+		private int[] indices = new int[64];
+		private double[] values = new double[64];
+		private long[] sequence = new long[64];
+		private int size;
+		private long next;
+
+		@Override
+		public void add(final int index, final double value) {
+			if (size == indices.length) {
+				indices = Arrays.copyOf(indices, 2 * size);
+				values = Arrays.copyOf(values, 2 * size);
+				sequence = Arrays.copyOf(sequence, 2 * size);
+			}
+			int i = size++;
+			final long seq = next++;
+			while (i > 0) {
+				final int parent = (i - 1) >>> 1;
+				if (!less(value, seq, parent)) break;
+				move(parent, i);
+				i = parent;
+			}
+			set(i, index, value, seq);
+		}
+
+		@Override
+		public int poll() {
+			final int result = indices[0];
+			final int last = --size;
+			final int index = indices[last];
+			final double value = values[last];
+			final long seq = sequence[last];
+			int i = 0;
+			while (true) {
+				int child = 2 * i + 1;
+				if (child >= size) break;
+				if (child + 1 < size && less(values[child + 1], sequence[child + 1],
+					child)) child++;
+				if (!less(values[child], sequence[child], value, seq)) break;
+				move(child, i);
+				i = child;
+			}
+			if (size > 0) set(i, index, value, seq);
+			return result;
+		}
+
+		@Override
+		public boolean isEmpty() {
+			return size == 0;
+		}
+
+		private boolean less(final double value, final long seq, final int i) {
+			return less(value, seq, values[i], sequence[i]);
+		}
+
+		private static boolean less(final double value1, final long seq1,
+			final double value2, final long seq2)
+		{
+			final int c = Double.compare(value1, value2);
+			return c < 0 || c == 0 && seq1 < seq2;
+		}
+
+		private void move(final int from, final int to) {
+			set(to, indices[from], values[from], sequence[from]);
+		}
+
+		private void set(final int i, final int index, final double value,
+			final long seq)
+		{
+			indices[i] = index;
+			values[i] = value;
+			sequence[i] = seq;
+		}
+	}
+}
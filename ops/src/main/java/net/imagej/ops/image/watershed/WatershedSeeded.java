@@ -120,16 +120,22 @@
 	private RandomAccessibleInterval<B> mask;
 
 	/** Default label for watershed, input seeds must have a greater label*/
-	private static final int WSHED = -1;
+	static final int WSHED = -1;
 
 	/** Default label for initialization, must be lower than WSHED */
-	private static final int INIT = -2;
+	static final int INIT = -2;
 
 	/** Default label for in queue, must be lower than WSHED */
-	private static final int INQUEUE = -3;
+	static final int INQUEUE = -3;
 
 	/** Default label for in out of bounds, must be lower than WSHED */
-	private static final int OUTSIDE = -4;
+	static final int OUTSIDE = -4;
+
+	/**
+	 * Whether to flood with {@link HierarchicalWatershed} if the image is small
+	 * enough; only disabled by tests.
+	 */
+	boolean useHierarchicalQueue = true;
 
 	/** Used by {@link WatershedSeeded.WatershedVoxel} */
 	private static final AtomicLong seq = new AtomicLong();
@@ -153,6 +159,42 @@ public void compute(final RandomAccessibleInterval<T> in, final ImgLabeling<Inte
 			}
 		}
 
+		final Shape shape;
+		if (useEightConnectivity) {
+			shape = new RectangleShape(1, true);
+		} else {
+			shape = new DiamondShape(1);
+		}
+
+		if (useHierarchicalQueue && HierarchicalWatershed.supports(in)) {
+			new HierarchicalWatershed<>(in, out, seeds, mask, shape, drawWatersheds).compute();
+		} else {
+			floodWithPriorityQueue(in, out, raOut, shape);
+		}
+
+		/*
+		 * Merge already present labels before calculation of watershed
+		 */
+		if (out() != null) {
+			final Cursor<LabelingType<Integer>> cursor = out().cursor();
+			while (cursor.hasNext()) {
+				cursor.fwd();
+				raOut.setPosition(cursor);
+				final List<Integer> labels = new ArrayList<>();
+				cursor.get().iterator().forEachRemaining(labels::add);
+				raOut.get().addAll(labels);
+			}
+		}
+
+	}
+
+	/*
+	 * Flooding with a PriorityQueue of WatershedVoxels, for images too large for
+	 * HierarchicalWatershed.
+	 */
+	private void floodWithPriorityQueue(final RandomAccessibleInterval<T> in,
+			final ImgLabeling<Integer, IntType> out, final OutOfBounds<LabelingType<Integer>> raOut,
+			final Shape shape) {
 		// initialize output labels
 		final Cursor<B> maskCursor = Views.flatIterable(mask).cursor();
 		while (maskCursor.hasNext()) {
@@ -167,12 +209,6 @@ public void compute(final RandomAccessibleInterval<T> in, final ImgLabeling<Inte
 		// RandomAccess for Mask, Seeds and Neighborhoods
 		final RandomAccess<B> raMask = mask.randomAccess();
 		final RandomAccess<LabelingType<Integer>> raSeeds = seeds.randomAccess();
-		final Shape shape;
-		if (useEightConnectivity) {
-			shape = new RectangleShape(1, true);
-		} else {
-			shape = new DiamondShape(1);
-		}
 		final RandomAccessible<Neighborhood<T>> neighborhoods = shape.neighborhoodsRandomAccessible(in);
 		final RandomAccess<Neighborhood<T>> raNeigh = neighborhoods.randomAccess();
 
@@ -315,21 +351,6 @@ public void compute(final RandomAccessibleInterval<T> in, final ImgLabeling<Inte
 				}
 			}
 		}
-
-		/*
-		 * Merge already present labels before calculation of watershed
-		 */
-		if (out() != null) {
-			final Cursor<LabelingType<Integer>> cursor = out().cursor();
-			while (cursor.hasNext()) {
-				cursor.fwd();
-				raOut.setPosition(cursor);
-				final List<Integer> labels = new ArrayList<>();
-				cursor.get().iterator().forEachRemaining(labels::add);
-				raOut.get().addAll(labels);
-			}
-		}
-
 	}
 
 	@Override
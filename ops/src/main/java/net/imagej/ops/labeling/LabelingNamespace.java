@@ -35,6 +35,7 @@
 import net.imagej.ops.Namespace;
 import net.imagej.ops.Op;
 import net.imagej.ops.OpMethod;
+import net.imagej.ops.labeling.cca.ComponentStatistics;
 import net.imglib2.RandomAccessibleInterval;
 import net.imglib2.algorithm.labeling.ConnectedComponents.StructuringElement;
 import net.imglib2.roi.labeling.ImgLabeling;
@@ -55,7 +56,8 @@ public class LabelingNamespace extends AbstractNamespace {
 
 	// -- CCA --
 
-	@OpMethod(op = net.imagej.ops.labeling.cca.DefaultCCA.class)
+	@OpMethod(ops = { net.imagej.ops.labeling.cca.DefaultCCA.class,
+		net.imagej.ops.labeling.cca.UnionFindCCA.class })
 	public <T extends IntegerType<T>, L, I extends IntegerType<I>>
 		ImgLabeling<L, I> cca(final ImgLabeling<L, I> out,
 			final RandomAccessibleInterval<T> in, final StructuringElement element,
@@ -69,7 +71,8 @@ ImgLabeling<L, I> cca(final ImgLabeling<L, I> out,
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.labeling.cca.DefaultCCA.class)
+	@OpMethod(ops = { net.imagej.ops.labeling.cca.DefaultCCA.class,
+		net.imagej.ops.labeling.cca.UnionFindCCA.class })
 	public <T extends IntegerType<T>, L, I extends IntegerType<I>>
 		ImgLabeling<L, I> cca(final ImgLabeling<L, I> out,
 			final RandomAccessibleInterval<T> in, final StructuringElement element)
@@ -81,7 +84,8 @@ ImgLabeling<L, I> cca(final ImgLabeling<L, I> out,
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.labeling.cca.DefaultCCA.class)
+	@OpMethod(ops = { net.imagej.ops.labeling.cca.DefaultCCA.class,
+		net.imagej.ops.labeling.cca.UnionFindCCA.class })
 	public <T extends IntegerType<T>, L, I extends IntegerType<I>>
 		ImgLabeling<L, I> cca(final RandomAccessibleInterval<T> in,
 			final StructuringElement element)
@@ -93,6 +97,31 @@ ImgLabeling<L, I> cca(final RandomAccessibleInterval<T> in,
 		return result;
 	}
 
+	@OpMethod(op = net.imagej.ops.labeling.cca.UnionFindCCAIndex.class)
+	public <T extends IntegerType<T>, I extends IntegerType<I>>
+		RandomAccessibleInterval<I> cca(final RandomAccessibleInterval<I> out,
+			final RandomAccessibleInterval<T> in, final int neighbors)
+	{
+		@SuppressWarnings("unchecked")
+		final RandomAccessibleInterval<I> result =
+			(RandomAccessibleInterval<I>) ops().run(
+				net.imagej.ops.Ops.Labeling.CCA.class, out, in, neighbors);
+		return result;
+	}
+
+	@OpMethod(op = net.imagej.ops.labeling.cca.UnionFindCCAIndex.class)
+	public <T extends IntegerType<T>, I extends IntegerType<I>>
+		RandomAccessibleInterval<I> cca(final RandomAccessibleInterval<I> out,
+			final RandomAccessibleInterval<T> in, final int neighbors,
+			final ComponentStatistics statistics)
+	{
+		@SuppressWarnings("unchecked")
+		final RandomAccessibleInterval<I> result =
+			(RandomAccessibleInterval<I>) ops().run(
+				net.imagej.ops.Ops.Labeling.CCA.class, out, in, neighbors, statistics);
+		return result;
+	}
+
 	// -- merge --
 
 	@OpMethod(op = net.imagej.ops.labeling.MergeLabeling.class)
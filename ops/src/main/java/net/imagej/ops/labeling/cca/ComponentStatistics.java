@@ -0,0 +1,109 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2020 ImageJ developers.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.labeling.cca;
+
+import java.util.Arrays;
+
+import net.imglib2.FinalInterval;
+import net.imglib2.Interval;
+
+/**
+ * Voxel counts and bounding boxes of the components found by a connected
+ * component analysis, indexed by component, i.e. component {@code c} has the
+ * value {@code c + 1} in the index image.
+ * <p>
+ * An instance can be passed to {@link UnionFindCCAIndex}, which fills it in
+ * the same pass as the labeling.
+ * </p>
+ */
+public class ComponentStatistics {
+
+	private int numDimensions;
+	private long[] counts = new long[0];
+	private long[] min = new long[0];
+	private long[] max = new long[0];
+
+	/**
+	 * @return the number of components
+	 */
+	public int size() {
+		return counts.length;
+	}
+
+	/**
+	 * @param component index of the component
+	 * @return the number of voxels of the component
+	 */
+	public long count(final int component) {
+		return counts[component];
+	}
+
+	/**
+	 * @param component index of the component
+	 * @return the smallest interval containing all voxels of the component
+	 */
+	public Interval boundingBox(final int component) {
+		final long[] mn = new long[numDimensions];
+		final long[] mx = new long[numDimensions];
+		System.arraycopy(min, component * numDimensions, mn, 0, numDimensions);
+		System.arraycopy(max, component * numDimensions, mx, 0, numDimensions);
+		return new FinalInterval(mn, mx);
+	}
+
+	// -- Internal methods --
+
+	void reset(final int n, final int size) {
+		numDimensions = n;
+		counts = new long[size];
+		min = new long[size * n];
+		max = new long[size * n];
+		Arrays.fill(min, Long.MAX_VALUE);
+		Arrays.fill(max, Long.MIN_VALUE);
+	}
+
+	void add(final int component, final long count, final long[] otherMin,
+		final long[] otherMax, final int otherIndex)
+	{
+		counts[component] += count;
+		final int o = otherIndex * numDimensions;
+		final int c = component * numDimensions;
+		for (int d = 0; d < numDimensions; d++) {
+			min[c + d] = Math.min(min[c + d], otherMin[o + d]);
+			max[c + d] = Math.max(max[c + d], otherMax[o + d]);
+		}
+	}
+
+	void translate(final long[] offset) {
+		for (int i = 0; i < min.length; i++) {
+			min[i] += offset[i % numDimensions];
+			max[i] += offset[i % numDimensions];
+		}
+	}
+}
@@ -108,7 +108,7 @@ public boolean conforms() {
 	/*
 	 * Simple Default LabelIterator providing integer labels, starting from zero.
 	 */
-	class DefaultLabelIterator implements Iterator<Integer> {
+	static class DefaultLabelIterator implements Iterator<Integer> {
 
 		private Integer i = 0;
 
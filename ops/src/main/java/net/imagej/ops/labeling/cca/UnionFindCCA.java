@@ -0,0 +1,138 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2020 ImageJ developers.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.labeling.cca;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import net.imagej.ops.Contingent;
+import net.imagej.ops.Ops;
+import net.imagej.ops.special.function.Functions;
+import net.imagej.ops.special.function.UnaryFunctionOp;
+import net.imagej.ops.special.hybrid.AbstractUnaryHybridCF;
+import net.imglib2.Interval;
+import net.imglib2.RandomAccessibleInterval;
+import net.imglib2.algorithm.labeling.ConnectedComponents.StructuringElement;
+import net.imglib2.roi.labeling.ImgLabeling;
+import net.imglib2.roi.labeling.LabelingMapping;
+import net.imglib2.roi.labeling.LabelingMapping.SerialisationAccess;
+import net.imglib2.type.numeric.IntegerType;
+import net.imglib2.util.Intervals;
+import net.imglib2.util.Util;
+
+import org.scijava.Priority;
+import org.scijava.plugin.Parameter;
+import org.scijava.plugin.Plugin;
+
+/**
+ * Connected component analysis with block-parallel union-find, writing the
+ * components directly into the index image of the {@link ImgLabeling}.
+ * Produces the same labeling as {@link DefaultCCA}. Labelings whose index type
+ * might not hold all labels, e.g. {@code UnsignedByteType} indices of images
+ * with more than 510 elements, are left to {@link DefaultCCA}.
+ * 
+ * @see UnionFindLabeling
+ */
+@Plugin(type = Ops.Labeling.CCA.class, priority = Priority.HIGH)
+public class UnionFindCCA<T extends IntegerType<T>, L, I extends IntegerType<I>>
+	extends
+	AbstractUnaryHybridCF<RandomAccessibleInterval<T>, ImgLabeling<L, I>>
+	implements Contingent, Ops.Labeling.CCA
+{
+
+	@Parameter
+	private StructuringElement se;
+
+	@Parameter(required = false)
+	private Iterator<L> labelGenerator;
+
+	private UnaryFunctionOp<Interval, ImgLabeling<L, I>> imgLabelingCreator;
+
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	@Override
+	public void initialize() {
+		imgLabelingCreator = (UnaryFunctionOp) Functions.unary(ops(),
+			Ops.Create.ImgLabeling.class, ImgLabeling.class, in());
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public void compute(final RandomAccessibleInterval<T> input,
+		final ImgLabeling<L, I> output)
+	{
+		final Iterator<L> labels = labelGenerator != null ? labelGenerator
+			: (Iterator<L>) new DefaultCCA.DefaultLabelIterator();
+
+		final int connectivity = se == StructuringElement.FOUR_CONNECTED ? 1
+			: input.numDimensions();
+		final long numComponents = UnionFindLabeling.label(ops(), input, output
+			.getIndexImg(), connectivity, null);
+
+		// index i of the index image holds the i-th label
+		final List<Set<L>> labelSets = new ArrayList<>();
+		labelSets.add(Collections.<L> emptySet());
+		for (long i = 0; i < numComponents; i++) {
+			labelSets.add(Collections.singleton(labels.next()));
+		}
+		new LabelSetsAccess<>(output.getMapping()).setLabelSets(labelSets);
+	}
+
+	@Override
+	public ImgLabeling<L, I> createOutput(
+		final RandomAccessibleInterval<T> input)
+	{
+		return imgLabelingCreator.calculate(input);
+	}
+
+	@Override
+	public boolean conforms() {
+		if (out() == null) return true;
+		return Intervals.equalDimensions(in(), out()) && UnionFindLabeling.fits(
+			out(), Util.getTypeFromInterval(out().getIndexImg()));
+	}
+
+	/*
+	 * Access to the label sets of a LabelingMapping.
+	 */
+	private static final class LabelSetsAccess<L> extends SerialisationAccess<L> {
+
+		private LabelSetsAccess(final LabelingMapping<L> mapping) {
+			super(mapping);
+		}
+
+		@Override
+		protected void setLabelSets(final List<Set<L>> labelSets) {
+			super.setLabelSets(labelSets);
+		}
+	}
+}
@@ -0,0 +1,94 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2020 ImageJ developers.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.labeling.cca;
+
+import net.imagej.ops.Contingent;
+import net.imagej.ops.Ops;
+import net.imagej.ops.special.computer.AbstractUnaryComputerOp;
+import net.imglib2.RandomAccessibleInterval;
+import net.imglib2.type.numeric.IntegerType;
+import net.imglib2.util.Intervals;
+import net.imglib2.util.Util;
+
+import org.scijava.Priority;
+import org.scijava.plugin.Parameter;
+import org.scijava.plugin.Plugin;
+
+/**
+ * Connected component analysis with block-parallel union-find, writing the
+ * component indices (starting from 1, background 0) straight into an integer
+ * image such as an {@code IntType} or {@code LongType} image.
+ * <p>
+ * The connectivity is given as the number of neighbors of each element, e.g. 4
+ * or 8 in 2D and 6, 18 or 26 in 3D. If a {@link ComponentStatistics} is given,
+ * it receives the voxel count and bounding box of each component.
+ * </p>
+ * <p>
+ * Index types narrower than the image might need, such as
+ * {@code UnsignedByteType}, are accepted; if the labels turn out to exceed the
+ * maximum value of the type, an {@link IllegalArgumentException} is thrown
+ * rather than letting them wrap around.
+ * </p>
+ * 
+ * @see UnionFindLabeling
+ */
+@Plugin(type = Ops.Labeling.CCA.class, priority = Priority.HIGH)
+public class UnionFindCCAIndex<T extends IntegerType<T>, I extends IntegerType<I>>
+	extends
+	AbstractUnaryComputerOp<RandomAccessibleInterval<T>, RandomAccessibleInterval<I>>
+	implements Contingent, Ops.Labeling.CCA
+{
+
+	@Parameter
+	private int neighbors;
+
+	@Parameter(required = false)
+	private ComponentStatistics statistics;
+
+	@Override
+	public void compute(final RandomAccessibleInterval<T> input,
+		final RandomAccessibleInterval<I> output)
+	{
+		UnionFindLabeling.label(ops(), input, output, UnionFindLabeling
+			.connectivity(neighbors, input.numDimensions()), statistics);
+	}
+
+	@Override
+	public boolean conforms() {
+		if (!(Util.getTypeFromInterval(out()) instanceof IntegerType)) return false;
+		try {
+			UnionFindLabeling.connectivity(neighbors, in().numDimensions());
+		}
+		catch (final IllegalArgumentException e) {
+			return false;
+		}
+		return Intervals.equalDimensions(in(), out());
+	}
+}
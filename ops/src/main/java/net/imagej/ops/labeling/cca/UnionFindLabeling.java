@@ -0,0 +1,504 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2020 ImageJ developers.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.labeling.cca;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import net.imagej.ops.OpEnvironment;
+import net.imagej.ops.thread.chunker.Chunk;
+import net.imagej.ops.thread.chunker.ChunkerOp;
+import net.imglib2.Cursor;
+import net.imglib2.Dimensions;
+import net.imglib2.FinalInterval;
+import net.imglib2.RandomAccess;
+import net.imglib2.RandomAccessibleInterval;
+import net.imglib2.type.numeric.IntegerType;
+import net.imglib2.util.Intervals;
+import net.imglib2.util.Util;
+import net.imglib2.view.Views;
+
+/**
+ * Block-parallel two-pass connected component labeling with union-find.
+ * <p>
+ * The image is split into slabs along its last dimension. In the first pass,
+ * each slab is scanned in parallel and gets provisional labels, whose
+ * equivalences within the slab are tracked in a slab-local union-find forest.
+ * The forests are then combined into one global forest, and the components
+ * touching across slab borders are merged in parallel using lock-free
+ * (compare-and-set) unions. Each root is the smallest provisional label of its
+ * component, so numbering the roots in increasing order yields labels in the
+ * order in which the components are first encountered in raster order. The
+ * second pass replaces the provisional labels by the final ones.
+ * </p>
+ * <p>
+ * Foreground is every non-zero input element; background is labeled 0 and
+ * components are labeled consecutively starting from 1.
+ * </p>
+ * <p>
+ * The provisional labels are written to the index image, too. Each slab uses
+ * at most half its elements (rounded up) as provisional labels, since elements
+ * getting a new label are never neighbors. If the provisional or final labels
+ * exceed the maximum value of the index type, {@link #label} throws instead of
+ * letting them wrap around; {@link #fits} tells whether an index type can hold
+ * the labels of any image of a given size.
+ * </p>
+ */
+public final class UnionFindLabeling {
+
+	private UnionFindLabeling() {
+		// NB: Prevent instantiation of utility class.
+	}
+
+	/**
+	 * Converts a neighbor count into the maximal number of coordinates in which
+	 * a neighbor may differ, e.g. 4 and 8 in 2D, or 6, 18 and 26 in 3D.
+	 *
+	 * @param neighbors the number of neighbors of each element
+	 * @param numDimensions the dimensionality of the image
+	 * @return the connectivity as accepted by {@link #label}
+	 * @throws IllegalArgumentException if no connectivity has this number of
+	 *           neighbors in the given dimensionality
+	 */
+	public static int connectivity(final int neighbors, final int numDimensions) {
+		long count = 0;
+		long binomial = 1;
+		for (int k = 1; k <= numDimensions; k++) {
+			binomial = binomial * (numDimensions - k + 1) / k;
+			count += binomial << k;
+			if (count == neighbors) return k;
+		}
+		throw new IllegalArgumentException("No " + neighbors +
+			"-connectivity in " + numDimensions + " dimensions");
+	}
+
+	/**
+	 * Tells whether an index image of the given type can hold the labels of any
+	 * image of the given dimensions, i.e. at least half its elements (rounded
+	 * up).
+	 */
+	public static boolean fits(final Dimensions dimensions,
+		final IntegerType<?> type)
+	{
+		return (Intervals.numElements(dimensions) + 1) / 2 <= maxLabel(type);
+	}
+
+	/**
+	 * Labels the connected components of the non-zero elements of {@code in}.
+	 *
+	 * @param ops the op environment used for parallelization
+	 * @param in the image to label
+	 * @param out the index image receiving the labels, with the same dimensions
+	 *          as {@code in}
+	 * @param connectivity the maximal number of coordinates in which neighbors
+	 *          may differ, from 1 (4- or 6-connectivity) to the number of
+	 *          dimensions (8- or 26-connectivity)
+	 * @param statistics if not null, receives the voxel count and bounding box
+	 *          of each component
+	 * @return the number of components
+	 * @throws IllegalArgumentException if the labels exceed the maximum value of
+	 *           the index type
+	 */
+	public static <T extends IntegerType<T>, I extends IntegerType<I>> long
+		label(final OpEnvironment ops, final RandomAccessibleInterval<T> in,
+			final RandomAccessibleInterval<I> out, final int connectivity,
+			final ComponentStatistics statistics)
+	{
+		final int n = in.numDimensions();
+		if (connectivity < 1 || connectivity > n) {
+			throw new IllegalArgumentException("Invalid connectivity: " +
+				connectivity);
+		}
+		final long[] offset = new long[n];
+		in.min(offset);
+		final long maxLabel = maxLabel(Util.getTypeFromInterval(out));
+		final Slab<?, ?>[] slabs = slabs(Views.zeroMin(in), Views.zeroMin(out),
+			connectivity, statistics != null, maxLabel);
+
+		// first pass: provisional labels within each slab
+		ops.run(ChunkerOp.class, new Chunk() {
+
+			@Override
+			public void execute(final long startIndex, final long stepSize,
+				final long numSteps)
+			{
+				for (long i = 0, s = startIndex; i < numSteps; i++, s += stepSize) {
+					slabs[(int) s].scan();
+				}
+			}
+		}, (long) slabs.length);
+
+		for (final Slab<?, ?> slab : slabs) {
+			if (slab.overflow) throw tooManyLabels("provisional", maxLabel);
+		}
+
+		// global union-find forest over all provisional labels
+		long total = 0;
+		for (final Slab<?, ?> slab : slabs) {
+			slab.base = (int) total;
+			total += slab.numLabels;
+		}
+		if (total >= Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("Too many provisional labels: " +
+				total);
+		}
+		final AtomicIntegerArray parents = new AtomicIntegerArray((int) total + 1);
+		for (final Slab<?, ?> slab : slabs) {
+			for (int l = 1; l <= slab.numLabels; l++) {
+				parents.set(slab.base + l, slab.base + slab.find(l));
+			}
+		}
+
+		// merge components across slab borders
+		ops.run(ChunkerOp.class, new Chunk() {
+
+			@Override
+			public void execute(final long startIndex, final long stepSize,
+				final long numSteps)
+			{
+				for (long i = 0, s = startIndex; i < numSteps; i++, s += stepSize) {
+					if (s > 0) slabs[(int) s].mergeWithPrevious(slabs[(int) s - 1],
+						parents);
+				}
+			}
+		}, (long) slabs.length);
+
+		// number the roots in increasing order of provisional labels
+		final int[] labels = new int[(int) total + 1];
+		int numComponents = 0;
+		for (int l = 1; l <= total; l++) {
+			final int root = find(parents, l);
+			labels[l] = root == l ? ++numComponents : labels[root];
+		}
+		if (numComponents > maxLabel) throw tooManyLabels("final", maxLabel);
+		if (statistics != null) {
+			statistics.reset(n, numComponents);
+			for (final Slab<?, ?> slab : slabs) {
+				for (int l = 1; l <= slab.numLabels; l++) {
+					statistics.add(labels[slab.base + l] - 1, slab.counts[l], slab.min,
+						slab.max, l);
+				}
+			}
+			statistics.translate(offset);
+		}
+
+		// second pass: final labels
+		ops.run(ChunkerOp.class, new Chunk() {
+
+			@Override
+			public void execute(final long startIndex, final long stepSize,
+				final long numSteps)
+			{
+				for (long i = 0, s = startIndex; i < numSteps; i++, s += stepSize) {
+					slabs[(int) s].relabel(labels);
+				}
+			}
+		}, (long) slabs.length);
+
+		return numComponents;
+	}
+
+	// -- Helper methods --
+
+	/** Gets the largest label an index image of the given type can hold. */
+	private static long maxLabel(final IntegerType<?> type) {
+		return (long) Math.min(type.getMaxValue(), Integer.MAX_VALUE - 1);
+	}
+
+	private static IllegalArgumentException tooManyLabels(final String kind,
+		final long maxLabel)
+	{
+		return new IllegalArgumentException("The " + kind +
+			" labels exceed the maximum value of the index type: " + maxLabel);
+	}
+
+	private static <T extends IntegerType<T>, I extends IntegerType<I>>
+		Slab<?, ?>[] slabs(final RandomAccessibleInterval<T> in,
+			final RandomAccessibleInterval<I> out, final int connectivity,
+			final boolean statistics, final long maxLabel)
+	{
+		final int n = in.numDimensions();
+		final long depth = in.dimension(n - 1);
+		final int numSlabs = (int) Math.max(1, Math.min(depth, 4 * Runtime
+			.getRuntime().availableProcessors()));
+		final long[][] neighbors = backwardNeighbors(n, connectivity);
+		final Slab<?, ?>[] slabs = new Slab<?, ?>[numSlabs];
+		for (int s = 0; s < numSlabs; s++) {
+			slabs[s] = new Slab<>(in, out, depth * s / numSlabs, depth * (s + 1) /
+				numSlabs, neighbors, statistics, maxLabel);
+		}
+		return slabs;
+	}
+
+	/**
+	 * Offsets of the neighbors preceding an element in raster order, i.e. those
+	 * whose last non-zero coordinate is -1.
+	 */
+	private static long[][] backwardNeighbors(final int n,
+		final int connectivity)
+	{
+		final List<long[]> neighbors = new ArrayList<>();
+		final long[] o = new long[n];
+		Arrays.fill(o, -1);
+		while (true) {
+			int nonZero = 0;
+			int last = -1;
+			for (int d = 0; d < n; d++) {
+				if (o[d] != 0) {
+					nonZero++;
+					last = d;
+				}
+			}
+			if (last >= 0 && o[last] == -1 && nonZero <= connectivity) {
+				neighbors.add(o.clone());
+			}
+			int d = 0;
+			while (d < n && o[d] == 1) {
+				o[d++] = -1;
+			}
+			if (d == n) break;
+			o[d]++;
+		}
+		return neighbors.toArray(new long[neighbors.size()][]);
+	}
+
+	private static int find(final AtomicIntegerArray parents, int label) {
+		int parent;
+		while ((parent = parents.get(label)) != label) {
+			// path halving; losing the race only skips a compression step
+			final int grandParent = parents.get(parent);
+			parents.compareAndSet(label, parent, grandParent);
+			label = grandParent;
+		}
+		return label;
+	}
+
+	/** Merges two sets, linking the larger root below the smaller one. */
+	private static void union(final AtomicIntegerArray parents, int a, int b) {
+		while (true) {
+			a = find(parents, a);
+			b = find(parents, b);
+			if (a == b) return;
+			if (a < b) {
+				final int tmp = a;
+				a = b;
+				b = tmp;
+			}
+			if (parents.compareAndSet(a, a, b)) return;
+		}
+	}
+
+	/** A range of hyperplanes along the last dimension. */
+	private static final class Slab<T extends IntegerType<T>, I extends IntegerType<I>> {
+
+		private final RandomAccessibleInterval<T> in;
+		private final RandomAccessibleInterval<I> out;
+		private final FinalInterval interval;
+		private final long[][] neighbors;
+		private final boolean statistics;
+		private final long maxLabel;
+
+		/** Whether the slab ran out of provisional labels and stopped. */
+		private boolean overflow;
+
+		private int[] parents = new int[1024];
+		private long[] counts;
+		private long[] min;
+		private long[] max;
+		private int numLabels;
+		private int base;
+
+		private Slab(final RandomAccessibleInterval<T> in,
+			final RandomAccessibleInterval<I> out, final long start, final long end,
+			final long[][] neighbors, final boolean statistics,
+			final long maxLabel)
+		{
+			this.in = in;
+			this.out = out;
+			final int n = in.numDimensions();
+			final long[] mn = new long[n];
+			final long[] mx = new long[n];
+			in.max(mx);
+			mn[n - 1] = start;
+			mx[n - 1] = end - 1;
+			interval = new FinalInterval(mn, mx);
+			this.neighbors = neighbors;
+			this.statistics = statistics;
+			this.maxLabel = maxLabel;
+			if (statistics) {
+				counts = new long[parents.length];
+				min = new long[parents.length * n];
+				max = new long[parents.length * n];
+			}
+		}
+
+		private void scan() {
+			final int n = in.numDimensions();
+			final Cursor<T> cursor = Views.flatIterable(Views.interval(in,
+				interval)).localizingCursor();
+			final RandomAccess<I> ra = out.randomAccess();
+			final RandomAccess<I> neighbor = out.randomAccess();
+			final long[] position = new long[n];
+			while (cursor.hasNext()) {
+				final boolean foreground = cursor.next().getIntegerLong() != 0;
+				cursor.localize(position);
+				ra.setPosition(position);
+				if (!foreground) {
+					ra.get().setZero();
+					continue;
+				}
+				int label = 0;
+				for (final long[] o : neighbors) {
+					if (!inside(position, o)) continue;
+					for (int d = 0; d < n; d++) {
+						neighbor.setPosition(position[d] + o[d], d);
+					}
+					final int other = (int) neighbor.get().getIntegerLong();
+					if (other == 0) continue;
+					if (label == 0) label = find(other);
+					else label = union(label, other);
+				}
+				if (label == 0) {
+					if (numLabels >= maxLabel) {
+						overflow = true;
+						return;
+					}
+					label = newLabel(n);
+				}
+				ra.get().setInteger(label);
+				if (statistics) {
+					counts[label]++;
+					for (int d = 0; d < n; d++) {
+						min[label * n + d] = Math.min(min[label * n + d], position[d]);
+						max[label * n + d] = Math.max(max[label * n + d], position[d]);
+					}
+				}
+			}
+		}
+
+		private boolean inside(final long[] position, final long[] o) {
+			final int n = position.length;
+			for (int d = 0; d < n - 1; d++) {
+				final long p = position[d] + o[d];
+				if (p < 0 || p > interval.max(d)) return false;
+			}
+			return position[n - 1] + o[n - 1] >= interval.min(n - 1);
+		}
+
+		private int newLabel(final int n) {
+			final int label = ++numLabels;
+			if (label == parents.length) {
+				parents = Arrays.copyOf(parents, 2 * label);
+				if (statistics) {
+					counts = Arrays.copyOf(counts, 2 * label);
+					min = Arrays.copyOf(min, 2 * label * n);
+					max = Arrays.copyOf(max, 2 * label * n);
+				}
+			}
+			parents[label] = label;
+			if (statistics) {
+				Arrays.fill(min, label * n, (label + 1) * n, Long.MAX_VALUE);
+				Arrays.fill(max, label * n, (label + 1) * n, Long.MIN_VALUE);
+			}
+			return label;
+		}
+
+		private int find(int label) {
+			while (parents[label] != label) {
+				parents[label] = parents[parents[label]];
+				label = parents[label];
+			}
+			return label;
+		}
+
+		private int union(final int a, final int b) {
+			final int rootA = find(a);
+			final int rootB = find(b);
+			if (rootA < rootB) {
+				parents[rootB] = rootA;
+				return rootA;
+			}
+			parents[rootA] = rootB;
+			return rootB;
+		}
+
+		/**
+		 * Merges the components touching the last hyperplane of the previous
+		 * slab with those of the first hyperplane of this slab.
+		 */
+		private void mergeWithPrevious(final Slab<?, ?> previous,
+			final AtomicIntegerArray globalParents)
+		{
+			final int n = in.numDimensions();
+			final long[] mn = new long[n];
+			final long[] mx = new long[n];
+			interval.min(mn);
+			interval.max(mx);
+			mx[n - 1] = mn[n - 1];
+			final Cursor<I> cursor = Views.interval(out, mn, mx).localizingCursor();
+			final RandomAccess<I> neighbor = out.randomAccess();
+			final long[] position = new long[n];
+			while (cursor.hasNext()) {
+				final int label = (int) cursor.next().getIntegerLong();
+				if (label == 0) continue;
+				cursor.localize(position);
+				for (final long[] o : neighbors) {
+					if (o[n - 1] != -1 || !insidePrevious(position, o)) continue;
+					for (int d = 0; d < n; d++) {
+						neighbor.setPosition(position[d] + o[d], d);
+					}
+					final int other = (int) neighbor.get().getIntegerLong();
+					if (other == 0) continue;
+					UnionFindLabeling.union(globalParents, base + label, previous.base +
+						other);
+				}
+			}
+		}
+
+		private boolean insidePrevious(final long[] position, final long[] o) {
+			for (int d = 0; d < position.length - 1; d++) {
+				final long p = position[d] + o[d];
+				if (p < 0 || p > interval.max(d)) return false;
+			}
+			return true;
+		}
+
+		private void relabel(final int[] labels) {
+			final Cursor<I> cursor = Views.interval(out, interval).cursor();
+			while (cursor.hasNext()) {
+				final I value = cursor.next();
+				final long label = value.getIntegerLong();
+				if (label != 0) value.setInteger(labels[base + (int) label]);
+			}
+		}
+	}
+}
@@ -32,7 +32,6 @@
 import net.imagej.ops.Contingent;
 import net.imagej.ops.Ops;
 import net.imagej.ops.Parallel;
-import net.imagej.ops.thread.chunker.ChunkerOp;
 import net.imagej.ops.thread.chunker.CursorBasedChunk;
 import net.imglib2.IterableInterval;
 import net.imglib2.RandomAccessibleInterval;
@@ -99,7 +98,7 @@ public boolean conforms() {
 		public void compute(final IterableInterval<EI1> input1,
 			final IterableInterval<EI2> input2, final IterableInterval<EO> output)
 		{
-			ops().run(ChunkerOp.class, new CursorBasedChunk() {
+			ops().run(Maps.chunker(ops()), new CursorBasedChunk() {
 				@Override
 				public void execute(final long startIndex, final long stepSize,
 					final long numSteps)
@@ -159,7 +158,7 @@ public boolean conforms() {
 		public void compute(final IterableInterval<EI1> input1,
 			final IterableInterval<EI2> input2, final RandomAccessibleInterval<EO> output)
 		{
-			ops().run(ChunkerOp.class, new CursorBasedChunk() {
+			ops().run(Maps.chunker(ops()), new CursorBasedChunk() {
 				@Override
 				public void execute(final long startIndex, final long stepSize,
 					final long numSteps)
@@ -219,7 +218,7 @@ public boolean conforms() {
 		public void compute(final IterableInterval<EI1> input1,
 			final RandomAccessibleInterval<EI2> input2, final IterableInterval<EO> output)
 		{
-			ops().run(ChunkerOp.class, new CursorBasedChunk() {
+			ops().run(Maps.chunker(ops()), new CursorBasedChunk() {
 				@Override
 				public void execute(final long startIndex, final long stepSize,
 					final long numSteps)
@@ -279,7 +278,7 @@ public boolean conforms() {
 		public void compute(final IterableInterval<EI1> input1,
 			final RandomAccessibleInterval<EI2> input2, final RandomAccessibleInterval<EO> output)
 		{
-			ops().run(ChunkerOp.class, new CursorBasedChunk() {
+			ops().run(Maps.chunker(ops()), new CursorBasedChunk() {
 				@Override
 				public void execute(final long startIndex, final long stepSize,
 					final long numSteps)
@@ -339,7 +338,7 @@ public boolean conforms() {
 		public void compute(final RandomAccessibleInterval<EI1> input1,
 			final IterableInterval<EI2> input2, final IterableInterval<EO> output)
 		{
-			ops().run(ChunkerOp.class, new CursorBasedChunk() {
+			ops().run(Maps.chunker(ops()), new CursorBasedChunk() {
 				@Override
 				public void execute(final long startIndex, final long stepSize,
 					final long numSteps)
@@ -399,7 +398,7 @@ public boolean conforms() {
 		public void compute(final RandomAccessibleInterval<EI1> input1,
 			final IterableInterval<EI2> input2, final RandomAccessibleInterval<EO> output)
 		{
-			ops().run(ChunkerOp.class, new CursorBasedChunk() {
+			ops().run(Maps.chunker(ops()), new CursorBasedChunk() {
 				@Override
 				public void execute(final long startIndex, final long stepSize,
 					final long numSteps)
@@ -459,7 +458,7 @@ public boolean conforms() {
 		public void compute(final RandomAccessibleInterval<EI1> input1,
 			final RandomAccessibleInterval<EI2> input2, final IterableInterval<EO> output)
 		{
-			ops().run(ChunkerOp.class, new CursorBasedChunk() {
+			ops().run(Maps.chunker(ops()), new CursorBasedChunk() {
 				@Override
 				public void execute(final long startIndex, final long stepSize,
 					final long numSteps)
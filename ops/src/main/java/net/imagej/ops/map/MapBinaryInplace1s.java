@@ -32,7 +32,6 @@
 import net.imagej.ops.Contingent;
 import net.imagej.ops.Ops;
 import net.imagej.ops.Parallel;
-import net.imagej.ops.thread.chunker.ChunkerOp;
 import net.imagej.ops.thread.chunker.CursorBasedChunk;
 import net.imglib2.IterableInterval;
 import net.imglib2.RandomAccessibleInterval;
@@ -95,7 +94,7 @@ public boolean conforms() {
 		public void mutate1(final IterableInterval<EA> arg,
 			final IterableInterval<EI> in)
 		{
-			ops().run(ChunkerOp.class, new CursorBasedChunk() {
+			ops().run(Maps.chunker(ops()), new CursorBasedChunk() {
 				@Override
 				public void execute(final long startIndex, final long stepSize,
 					final long numSteps)
@@ -151,7 +150,7 @@ public boolean conforms() {
 		public void mutate1(final IterableInterval<EA> arg,
 			final RandomAccessibleInterval<EI> in)
 		{
-			ops().run(ChunkerOp.class, new CursorBasedChunk() {
+			ops().run(Maps.chunker(ops()), new CursorBasedChunk() {
 				@Override
 				public void execute(final long startIndex, final long stepSize,
 					final long numSteps)
@@ -207,7 +206,7 @@ public boolean conforms() {
 		public void mutate1(final RandomAccessibleInterval<EA> arg,
 			final IterableInterval<EI> in)
 		{
-			ops().run(ChunkerOp.class, new CursorBasedChunk() {
+			ops().run(Maps.chunker(ops()), new CursorBasedChunk() {
 				@Override
 				public void execute(final long startIndex, final long stepSize,
 					final long numSteps)
@@ -33,7 +33,6 @@
 import net.imagej.ops.Ops;
 import net.imagej.ops.Parallel;
 import net.imagej.ops.special.inplace.BinaryInplace1Op;
-import net.imagej.ops.thread.chunker.ChunkerOp;
 import net.imagej.ops.thread.chunker.CursorBasedChunk;
 import net.imglib2.IterableInterval;
 
@@ -61,7 +60,7 @@ public boolean conforms() {
 	public void mutate1(final IterableInterval<EA> arg,
 		final IterableInterval<EA> in)
 	{
-		ops().run(ChunkerOp.class, new CursorBasedChunk() {
+		ops().run(Maps.chunker(ops()), new CursorBasedChunk() {
 
 			@Override
 			public void execute(final long startIndex, final long stepSize,
@@ -77,7 +76,7 @@ public void execute(final long startIndex, final long stepSize,
 	public void mutate2(final IterableInterval<EA> in,
 		final IterableInterval<EA> arg)
 	{
-		ops().run(ChunkerOp.class, new CursorBasedChunk() {
+		ops().run(Maps.chunker(ops()), new CursorBasedChunk() {
 
 			@Override
 			public void execute(final long startIndex, final long stepSize,
@@ -31,7 +31,6 @@
 
 import net.imagej.ops.Ops;
 import net.imagej.ops.Parallel;
-import net.imagej.ops.thread.chunker.ChunkerOp;
 import net.imagej.ops.thread.chunker.CursorBasedChunk;
 import net.imglib2.IterableInterval;
 
@@ -51,7 +50,7 @@
 
 	@Override
 	public void mutate(final IterableInterval<A> arg) {
-		ops().run(ChunkerOp.class, new CursorBasedChunk() {
+		ops().run(Maps.chunker(ops()), new CursorBasedChunk() {
 
 			@Override
 			public void execute(final long startIndex, final long stepSize,
@@ -30,7 +30,6 @@
 package net.imagej.ops.map;
 
 import net.imagej.ops.Ops;
-import net.imagej.ops.thread.chunker.ChunkerOp;
 import net.imagej.ops.thread.chunker.CursorBasedChunk;
 import net.imglib2.IterableInterval;
 
@@ -51,7 +50,7 @@
 
 	@Override
 	public void compute(IterableInterval<O> output) {
-		ops().run(ChunkerOp.class, new CursorBasedChunk() {
+		ops().run(Maps.chunker(ops()), new CursorBasedChunk() {
 
 			@Override
 			public void execute(final long startIndex, final long stepSize,
@@ -32,7 +32,6 @@
 import net.imagej.ops.Contingent;
 import net.imagej.ops.Ops;
 import net.imagej.ops.Parallel;
-import net.imagej.ops.thread.chunker.ChunkerOp;
 import net.imagej.ops.thread.chunker.CursorBasedChunk;
 import net.imglib2.IterableInterval;
 import net.imglib2.RandomAccessibleInterval;
@@ -98,7 +97,7 @@ public boolean conforms() {
 		public void compute(final IterableInterval<EI> input,
 			final IterableInterval<EO> output)
 		{
-			ops().run(ChunkerOp.class, new CursorBasedChunk() {
+			ops().run(Maps.chunker(ops()), new CursorBasedChunk() {
 				@Override
 				public void execute(final long startIndex, final long stepSize,
 					final long numSteps)
@@ -156,7 +155,7 @@ public boolean conforms() {
 		public void compute(final IterableInterval<EI> input,
 			final RandomAccessibleInterval<EO> output)
 		{
-			ops().run(ChunkerOp.class, new CursorBasedChunk() {
+			ops().run(Maps.chunker(ops()), new CursorBasedChunk() {
 				@Override
 				public void execute(final long startIndex, final long stepSize,
 					final long numSteps)
@@ -214,7 +213,7 @@ public boolean conforms() {
 		public void compute(final RandomAccessibleInterval<EI> input,
 			final IterableInterval<EO> output)
 		{
-			ops().run(ChunkerOp.class, new CursorBasedChunk() {
+			ops().run(Maps.chunker(ops()), new CursorBasedChunk() {
 				@Override
 				public void execute(final long startIndex, final long stepSize,
 					final long numSteps)
@@ -29,6 +29,7 @@
 
 package net.imagej.ops.map;
 
+import net.imagej.ops.OpEnvironment;
 import net.imagej.ops.special.computer.BinaryComputerOp;
 import net.imagej.ops.special.computer.NullaryComputerOp;
 import net.imagej.ops.special.computer.UnaryComputerOp;
@@ -39,6 +40,8 @@
 import net.imglib2.IterableInterval;
 import net.imglib2.RandomAccess;
 import net.imglib2.RandomAccessibleInterval;
+import net.imagej.ops.thread.chunker.ChunkerOp;
+import net.imagej.ops.thread.chunker.ChunkerService;
 import net.imglib2.util.Intervals;
 
 /**
@@ -121,6 +124,18 @@ public static <I1, I2, O> boolean compatible(
 		return Intervals.contains(a, c) && Intervals.contains(b, c);
 	}
 
+	// -- Helpers for parallel maps --
+
+	/**
+	 * Gets the type of chunker the parallel maps of the given environment run,
+	 * as chosen by its {@link ChunkerService}.
+	 */
+	public static Class<? extends ChunkerOp> chunker(final OpEnvironment ops) {
+		final ChunkerService service = ops.getContext() == null ? null : ops
+			.getContext().getService(ChunkerService.class);
+		return service == null ? ChunkerOp.class : service.getChunker();
+	}
+
 	// -- Nullary Maps --
 
 	public static <O> void map(final Iterable<O> a,
@@ -0,0 +1,160 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2020 ImageJ developers.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.math;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+import net.imagej.ops.OpEnvironment;
+import net.imagej.ops.thread.chunker.Chunk;
+import net.imagej.ops.thread.chunker.ChunkerOp;
+import net.imglib2.img.Img;
+import net.imglib2.img.array.ArrayImg;
+import net.imglib2.img.basictypeaccess.array.ArrayDataAccess;
+import net.imglib2.img.cell.AbstractCellImg;
+import net.imglib2.img.cell.Cell;
+import net.imglib2.img.planar.PlanarImg;
+import net.imglib2.util.Intervals;
+
+/**
+ * Splits the primitive storage of {@link ArrayImg}s, {@link PlanarImg}s and
+ * cell images into {@link Segment}s which can be processed independently.
+ * Used by the generated kernels of {@link PrimitiveImageMath}.
+ */
+final class ImgSegments {
+
+	/** Maximum number of elements per segment. */
+	static final int SEGMENT_SIZE = 1 << 16;
+
+	private ImgSegments() {
+		// NB: Prevent instantiation of utility class.
+	}
+
+	/** A range of elements of one primitive storage array. */
+	static final class Segment {
+
+		final Object data;
+		final int from;
+		final int to;
+
+		private Segment(final Object data, final int from, final int to) {
+			this.data = data;
+			this.from = from;
+			this.to = to;
+		}
+	}
+
+	/**
+	 * Gets the segments covering all elements of the given image, in an order
+	 * which depends only on the container layout and dimensions, or null if the
+	 * image is not backed by primitive arrays.
+	 */
+	static List<Segment> segments(final Img<?> img) {
+		final List<Segment> segments = new ArrayList<>();
+		if (img instanceof ArrayImg) {
+			final Object access = ((ArrayImg<?, ?>) img).update(null);
+			if (!add(segments, access, Intervals.numElements(img))) return null;
+		}
+		else if (img instanceof PlanarImg) {
+			final PlanarImg<?, ?> planar = (PlanarImg<?, ?>) img;
+			final long planeSize = img.numDimensions() < 2 ? img.size() : img
+				.dimension(0) * img.dimension(1);
+			for (int p = 0; p < planar.numSlices(); p++) {
+				if (!add(segments, planar.getPlane(p), planeSize)) return null;
+			}
+		}
+		else if (img instanceof AbstractCellImg) {
+			for (final Object cell : ((AbstractCellImg<?, ?, ?, ?>) img).getCells()) {
+				final Cell<?> c = (Cell<?>) cell;
+				if (!add(segments, c.getData(), c.size())) return null;
+			}
+		}
+		else return null;
+		return segments;
+	}
+
+	/**
+	 * Checks that both images are backed by primitive arrays with the same
+	 * layout, so that their segments correspond element by element.
+	 */
+	static boolean aligned(final Img<?> a, final Img<?> b) {
+		if (a == null || b == null) return false;
+		if (a.getClass() != b.getClass()) return false;
+		if (!Arrays.equals(Intervals.dimensionsAsLongArray(a), Intervals
+			.dimensionsAsLongArray(b))) return false;
+		if (a instanceof AbstractCellImg) {
+			final int n = a.numDimensions();
+			final int[] cellsA = new int[n], cellsB = new int[n];
+			((AbstractCellImg<?, ?, ?, ?>) a).getCellGrid().cellDimensions(cellsA);
+			((AbstractCellImg<?, ?, ?, ?>) b).getCellGrid().cellDimensions(cellsB);
+			if (!Arrays.equals(cellsA, cellsB)) return false;
+		}
+		return segments(a) != null && segments(b) != null;
+	}
+
+	/**
+	 * Runs the given kernel once for each segment index in
+	 * {@code [0, count)}, in parallel.
+	 */
+	static void run(final OpEnvironment ops, final int count,
+		final IntConsumer kernel)
+	{
+		ops.run(ChunkerOp.class, new Chunk() {
+
+			@Override
+			public void execute(final long startIndex, final long stepSize,
+				final long numSteps)
+			{
+				for (long s = startIndex, j = 0; j < numSteps; s += stepSize, j++) {
+					kernel.accept((int) s);
+				}
+			}
+		}, count);
+	}
+
+	// -- Helper methods --
+
+	private static boolean add(final List<Segment> segments,
+		final Object access, final long size)
+	{
+		if (!(access instanceof ArrayDataAccess)) return false;
+		final ArrayDataAccess<?> array = (ArrayDataAccess<?>) access;
+		if (size > array.getArrayLength()) return false;
+		final Object data = array.getCurrentStorageArray();
+		for (int from = 0; from < size; from += SEGMENT_SIZE) {
+			segments.add(new Segment(data, from, (int) Math.min(size, from +
+				SEGMENT_SIZE)));
+		}
+		return true;
+	}
+
+}
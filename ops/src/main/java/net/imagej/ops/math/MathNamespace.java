@@ -35,6 +35,7 @@
 import net.imagej.ops.Ops;
 import net.imglib2.IterableInterval;
 import net.imglib2.RandomAccessibleInterval;
+import net.imglib2.img.Img;
 import net.imglib2.img.array.ArrayImg;
 import net.imglib2.img.basictypeaccess.array.ArrayDataAccess;
 import net.imglib2.img.basictypeaccess.array.ByteArray;
@@ -105,6 +106,25 @@ public <I extends RealType<I>, O extends RealType<O>> O abs(final O out,
 		return result;
 	}
 
+	@OpMethod(ops = { net.imagej.ops.math.PrimitiveImageMath.AbsByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.AbsUnsignedByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.AbsShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.AbsUnsignedShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.AbsInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.AbsUnsignedInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.AbsLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.AbsUnsignedLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.AbsFloat.class,
+		net.imagej.ops.math.PrimitiveImageMath.AbsDouble.class })
+	public <T extends NativeType<T> & RealType<T>> Img<T> abs(
+		final Img<T> out, final Img<T> in)
+	{
+		@SuppressWarnings("unchecked")
+		final Img<T> result = (Img<T>) ops().run(net.imagej.ops.Ops.Math.Abs.class,
+			out, in);
+		return result;
+	}
+
 	@OpMethod(ops = {
 		net.imagej.ops.math.ConstantToArrayImageP.MultiplyByte.class,
 		net.imagej.ops.math.ConstantToArrayImage.MultiplyByte.class,
@@ -221,6 +241,25 @@ public <T extends NumericType<T>> IterableInterval<T> add(
 		return result;
 	}
 
+	@OpMethod(ops = { net.imagej.ops.math.PrimitiveImageMath.AddByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.AddUnsignedByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.AddShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.AddUnsignedShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.AddInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.AddUnsignedInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.AddLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.AddUnsignedLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.AddFloat.class,
+		net.imagej.ops.math.PrimitiveImageMath.AddDouble.class })
+	public <T extends NativeType<T> & RealType<T>> Img<T> add(
+		final Img<T> out, final Img<T> in1, final Img<T> in2)
+	{
+		@SuppressWarnings("unchecked")
+		final Img<T> result = (Img<T>) ops().run(net.imagej.ops.Ops.Math.Add.class,
+			out, in1, in2);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.PrimitiveMath.IntegerAdd.class)
 	public int add(final int a, final int b) {
 		final int result = (Integer) ops().run(
@@ -425,6 +464,25 @@ public <I extends RealType<I>, O extends RealType<O>> O arccos(final O out,
 		return result;
 	}
 
+	@OpMethod(ops = { net.imagej.ops.math.PrimitiveImageMath.ArccosByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArccosUnsignedByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArccosShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArccosUnsignedShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArccosInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArccosUnsignedInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArccosLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArccosUnsignedLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArccosFloat.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArccosDouble.class })
+	public <T extends NativeType<T> & RealType<T>> Img<T> arccos(
+		final Img<T> out, final Img<T> in)
+	{
+		@SuppressWarnings("unchecked")
+		final Img<T> result = (Img<T>) ops().run(net.imagej.ops.Ops.Math.Arccos.class,
+			out, in);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.Arccosh.class)
 	public <I extends RealType<I>, O extends RealType<O>> O arccosh(final O out,
 		final I in)
@@ -435,6 +493,25 @@ public <I extends RealType<I>, O extends RealType<O>> O arccosh(final O out,
 		return result;
 	}
 
+	@OpMethod(ops = { net.imagej.ops.math.PrimitiveImageMath.ArccoshByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArccoshUnsignedByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArccoshShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArccoshUnsignedShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArccoshInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArccoshUnsignedInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArccoshLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArccoshUnsignedLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArccoshFloat.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArccoshDouble.class })
+	public <T extends NativeType<T> & RealType<T>> Img<T> arccosh(
+		final Img<T> out, final Img<T> in)
+	{
+		@SuppressWarnings("unchecked")
+		final Img<T> result = (Img<T>) ops().run(net.imagej.ops.Ops.Math.Arccosh.class,
+			out, in);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.Arccot.class)
 	public <I extends RealType<I>, O extends RealType<O>> O arccot(final O out,
 		final I in)
@@ -445,6 +522,25 @@ public <I extends RealType<I>, O extends RealType<O>> O arccot(final O out,
 		return result;
 	}
 
+	@OpMethod(ops = { net.imagej.ops.math.PrimitiveImageMath.ArccotByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArccotUnsignedByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArccotShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArccotUnsignedShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArccotInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArccotUnsignedInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArccotLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArccotUnsignedLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArccotFloat.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArccotDouble.class })
+	public <T extends NativeType<T> & RealType<T>> Img<T> arccot(
+		final Img<T> out, final Img<T> in)
+	{
+		@SuppressWarnings("unchecked")
+		final Img<T> result = (Img<T>) ops().run(net.imagej.ops.Ops.Math.Arccot.class,
+			out, in);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.Arccoth.class)
 	public <I extends RealType<I>, O extends RealType<O>> O arccoth(final O out,
 		final I in)
@@ -455,6 +551,25 @@ public <I extends RealType<I>, O extends RealType<O>> O arccoth(final O out,
 		return result;
 	}
 
+	@OpMethod(ops = { net.imagej.ops.math.PrimitiveImageMath.ArccothByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArccothUnsignedByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArccothShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArccothUnsignedShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArccothInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArccothUnsignedInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArccothLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArccothUnsignedLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArccothFloat.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArccothDouble.class })
+	public <T extends NativeType<T> & RealType<T>> Img<T> arccoth(
+		final Img<T> out, final Img<T> in)
+	{
+		@SuppressWarnings("unchecked")
+		final Img<T> result = (Img<T>) ops().run(net.imagej.ops.Ops.Math.Arccoth.class,
+			out, in);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.Arccsc.class)
 	public <I extends RealType<I>, O extends RealType<O>> O arccsc(final O out,
 		final I in)
@@ -475,6 +590,25 @@ public <I extends RealType<I>, O extends RealType<O>> O arccsch(final O out,
 		return result;
 	}
 
+	@OpMethod(ops = { net.imagej.ops.math.PrimitiveImageMath.ArccschByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArccschUnsignedByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArccschShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArccschUnsignedShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArccschInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArccschUnsignedInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArccschLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArccschUnsignedLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArccschFloat.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArccschDouble.class })
+	public <T extends NativeType<T> & RealType<T>> Img<T> arccsch(
+		final Img<T> out, final Img<T> in)
+	{
+		@SuppressWarnings("unchecked")
+		final Img<T> result = (Img<T>) ops().run(net.imagej.ops.Ops.Math.Arccsch.class,
+			out, in);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.Arcsec.class)
 	public <I extends RealType<I>, O extends RealType<O>> O arcsec(final O out,
 		final I in)
@@ -495,6 +629,25 @@ public <I extends RealType<I>, O extends RealType<O>> O arcsech(final O out,
 		return result;
 	}
 
+	@OpMethod(ops = { net.imagej.ops.math.PrimitiveImageMath.ArcsechByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArcsechUnsignedByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArcsechShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArcsechUnsignedShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArcsechInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArcsechUnsignedInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArcsechLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArcsechUnsignedLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArcsechFloat.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArcsechDouble.class })
+	public <T extends NativeType<T> & RealType<T>> Img<T> arcsech(
+		final Img<T> out, final Img<T> in)
+	{
+		@SuppressWarnings("unchecked")
+		final Img<T> result = (Img<T>) ops().run(net.imagej.ops.Ops.Math.Arcsech.class,
+			out, in);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.PrimitiveMath.DoubleArcsin.class)
 	public double arcsin(final double a) {
 		final double result = (Double) ops().run(
@@ -512,6 +665,25 @@ public <I extends RealType<I>, O extends RealType<O>> O arcsin(final O out,
 		return result;
 	}
 
+	@OpMethod(ops = { net.imagej.ops.math.PrimitiveImageMath.ArcsinByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArcsinUnsignedByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArcsinShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArcsinUnsignedShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArcsinInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArcsinUnsignedInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArcsinLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArcsinUnsignedLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArcsinFloat.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArcsinDouble.class })
+	public <T extends NativeType<T> & RealType<T>> Img<T> arcsin(
+		final Img<T> out, final Img<T> in)
+	{
+		@SuppressWarnings("unchecked")
+		final Img<T> result = (Img<T>) ops().run(net.imagej.ops.Ops.Math.Arcsin.class,
+			out, in);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.Arcsinh.class)
 	public <I extends RealType<I>, O extends RealType<O>> O arcsinh(final O out,
 		final I in)
@@ -522,6 +694,25 @@ public <I extends RealType<I>, O extends RealType<O>> O arcsinh(final O out,
 		return result;
 	}
 
+	@OpMethod(ops = { net.imagej.ops.math.PrimitiveImageMath.ArcsinhByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArcsinhUnsignedByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArcsinhShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArcsinhUnsignedShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArcsinhInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArcsinhUnsignedInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArcsinhLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArcsinhUnsignedLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArcsinhFloat.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArcsinhDouble.class })
+	public <T extends NativeType<T> & RealType<T>> Img<T> arcsinh(
+		final Img<T> out, final Img<T> in)
+	{
+		@SuppressWarnings("unchecked")
+		final Img<T> result = (Img<T>) ops().run(net.imagej.ops.Ops.Math.Arcsinh.class,
+			out, in);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.PrimitiveMath.DoubleArctan.class)
 	public double arctan(final double a) {
 		final double result = (Double) ops().run(
@@ -539,6 +730,25 @@ public <I extends RealType<I>, O extends RealType<O>> O arctan(final O out,
 		return result;
 	}
 
+	@OpMethod(ops = { net.imagej.ops.math.PrimitiveImageMath.ArctanByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArctanUnsignedByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArctanShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArctanUnsignedShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArctanInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArctanUnsignedInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArctanLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArctanUnsignedLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArctanFloat.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArctanDouble.class })
+	public <T extends NativeType<T> & RealType<T>> Img<T> arctan(
+		final Img<T> out, final Img<T> in)
+	{
+		@SuppressWarnings("unchecked")
+		final Img<T> result = (Img<T>) ops().run(net.imagej.ops.Ops.Math.Arctan.class,
+			out, in);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.Arctanh.class)
 	public <I extends RealType<I>, O extends RealType<O>> O arctanh(final O out,
 		final I in)
@@ -549,6 +759,25 @@ public <I extends RealType<I>, O extends RealType<O>> O arctanh(final O out,
 		return result;
 	}
 
+	@OpMethod(ops = { net.imagej.ops.math.PrimitiveImageMath.ArctanhByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArctanhUnsignedByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArctanhShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArctanhUnsignedShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArctanhInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArctanhUnsignedInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArctanhLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArctanhUnsignedLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArctanhFloat.class,
+		net.imagej.ops.math.PrimitiveImageMath.ArctanhDouble.class })
+	public <T extends NativeType<T> & RealType<T>> Img<T> arctanh(
+		final Img<T> out, final Img<T> in)
+	{
+		@SuppressWarnings("unchecked")
+		final Img<T> result = (Img<T>) ops().run(net.imagej.ops.Ops.Math.Arctanh.class,
+			out, in);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.NullaryNumericTypeMath.Assign.class)
 	public <T extends Type<T>> T assign(final T out, final T constant) {
 		@SuppressWarnings("unchecked")
@@ -573,6 +802,25 @@ public <I extends RealType<I>, O extends RealType<O>> O ceil(final O out,
 		return result;
 	}
 
+	@OpMethod(ops = { net.imagej.ops.math.PrimitiveImageMath.CeilByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.CeilUnsignedByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.CeilShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.CeilUnsignedShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.CeilInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.CeilUnsignedInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.CeilLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.CeilUnsignedLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.CeilFloat.class,
+		net.imagej.ops.math.PrimitiveImageMath.CeilDouble.class })
+	public <T extends NativeType<T> & RealType<T>> Img<T> ceil(
+		final Img<T> out, final Img<T> in)
+	{
+		@SuppressWarnings("unchecked")
+		final Img<T> result = (Img<T>) ops().run(net.imagej.ops.Ops.Math.Ceil.class,
+			out, in);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.PrimitiveMath.IntegerComplement.class)
 	public int complement(final int a) {
 		final int result = (Integer) ops().run(
@@ -603,6 +851,25 @@ public <I extends RealType<I>, O extends RealType<O>> O cos(final O out,
 		return result;
 	}
 
+	@OpMethod(ops = { net.imagej.ops.math.PrimitiveImageMath.CosByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.CosUnsignedByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.CosShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.CosUnsignedShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.CosInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.CosUnsignedInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.CosLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.CosUnsignedLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.CosFloat.class,
+		net.imagej.ops.math.PrimitiveImageMath.CosDouble.class })
+	public <T extends NativeType<T> & RealType<T>> Img<T> cos(
+		final Img<T> out, final Img<T> in)
+	{
+		@SuppressWarnings("unchecked")
+		final Img<T> result = (Img<T>) ops().run(net.imagej.ops.Ops.Math.Cos.class,
+			out, in);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.PrimitiveMath.DoubleCosh.class)
 	public double cosh(final double a) {
 		final double result = (Double) ops().run(
@@ -619,6 +886,25 @@ public <I extends RealType<I>, O extends RealType<O>> O cosh(final O out,
 		return result;
 	}
 
+	@OpMethod(ops = { net.imagej.ops.math.PrimitiveImageMath.CoshByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.CoshUnsignedByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.CoshShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.CoshUnsignedShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.CoshInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.CoshUnsignedInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.CoshLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.CoshUnsignedLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.CoshFloat.class,
+		net.imagej.ops.math.PrimitiveImageMath.CoshDouble.class })
+	public <T extends NativeType<T> & RealType<T>> Img<T> cosh(
+		final Img<T> out, final Img<T> in)
+	{
+		@SuppressWarnings("unchecked")
+		final Img<T> result = (Img<T>) ops().run(net.imagej.ops.Ops.Math.Cosh.class,
+			out, in);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.Cot.class)
 	public <I extends RealType<I>, O extends RealType<O>> O cot(final O out,
 		final I in)
@@ -628,6 +914,25 @@ public <I extends RealType<I>, O extends RealType<O>> O cot(final O out,
 		return result;
 	}
 
+	@OpMethod(ops = { net.imagej.ops.math.PrimitiveImageMath.CotByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.CotUnsignedByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.CotShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.CotUnsignedShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.CotInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.CotUnsignedInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.CotLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.CotUnsignedLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.CotFloat.class,
+		net.imagej.ops.math.PrimitiveImageMath.CotDouble.class })
+	public <T extends NativeType<T> & RealType<T>> Img<T> cot(
+		final Img<T> out, final Img<T> in)
+	{
+		@SuppressWarnings("unchecked")
+		final Img<T> result = (Img<T>) ops().run(net.imagej.ops.Ops.Math.Cot.class,
+			out, in);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.Coth.class)
 	public <I extends RealType<I>, O extends RealType<O>> O coth(final O out,
 		final I in)
@@ -637,6 +942,25 @@ public <I extends RealType<I>, O extends RealType<O>> O coth(final O out,
 		return result;
 	}
 
+	@OpMethod(ops = { net.imagej.ops.math.PrimitiveImageMath.CothByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.CothUnsignedByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.CothShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.CothUnsignedShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.CothInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.CothUnsignedInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.CothLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.CothUnsignedLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.CothFloat.class,
+		net.imagej.ops.math.PrimitiveImageMath.CothDouble.class })
+	public <T extends NativeType<T> & RealType<T>> Img<T> coth(
+		final Img<T> out, final Img<T> in)
+	{
+		@SuppressWarnings("unchecked")
+		final Img<T> result = (Img<T>) ops().run(net.imagej.ops.Ops.Math.Coth.class,
+			out, in);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.Csc.class)
 	public <I extends RealType<I>, O extends RealType<O>> O csc(final O out,
 		final I in)
@@ -646,6 +970,25 @@ public <I extends RealType<I>, O extends RealType<O>> O csc(final O out,
 		return result;
 	}
 
+	@OpMethod(ops = { net.imagej.ops.math.PrimitiveImageMath.CscByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.CscUnsignedByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.CscShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.CscUnsignedShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.CscInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.CscUnsignedInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.CscLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.CscUnsignedLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.CscFloat.class,
+		net.imagej.ops.math.PrimitiveImageMath.CscDouble.class })
+	public <T extends NativeType<T> & RealType<T>> Img<T> csc(
+		final Img<T> out, final Img<T> in)
+	{
+		@SuppressWarnings("unchecked")
+		final Img<T> result = (Img<T>) ops().run(net.imagej.ops.Ops.Math.Csc.class,
+			out, in);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.Csch.class)
 	public <I extends RealType<I>, O extends RealType<O>> O csch(final O out,
 		final I in)
@@ -655,6 +998,25 @@ public <I extends RealType<I>, O extends RealType<O>> O csch(final O out,
 		return result;
 	}
 
+	@OpMethod(ops = { net.imagej.ops.math.PrimitiveImageMath.CschByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.CschUnsignedByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.CschShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.CschUnsignedShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.CschInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.CschUnsignedInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.CschLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.CschUnsignedLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.CschFloat.class,
+		net.imagej.ops.math.PrimitiveImageMath.CschDouble.class })
+	public <T extends NativeType<T> & RealType<T>> Img<T> csch(
+		final Img<T> out, final Img<T> in)
+	{
+		@SuppressWarnings("unchecked")
+		final Img<T> result = (Img<T>) ops().run(net.imagej.ops.Ops.Math.Csch.class,
+			out, in);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.PrimitiveMath.DoubleCubeRoot.class)
 	public double cubeRoot(final double a) {
 		final double result = (Double) ops().run(
@@ -672,6 +1034,25 @@ public <I extends RealType<I>, O extends RealType<O>> O cubeRoot(final O out,
 		return result;
 	}
 
+	@OpMethod(ops = { net.imagej.ops.math.PrimitiveImageMath.CubeRootByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.CubeRootUnsignedByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.CubeRootShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.CubeRootUnsignedShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.CubeRootInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.CubeRootUnsignedInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.CubeRootLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.CubeRootUnsignedLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.CubeRootFloat.class,
+		net.imagej.ops.math.PrimitiveImageMath.CubeRootDouble.class })
+	public <T extends NativeType<T> & RealType<T>> Img<T> cubeRoot(
+		final Img<T> out, final Img<T> in)
+	{
+		@SuppressWarnings("unchecked")
+		final Img<T> result = (Img<T>) ops().run(net.imagej.ops.Ops.Math.CubeRoot.class,
+			out, in);
+		return result;
+	}
+
 	@OpMethod(ops = { net.imagej.ops.math.ConstantToArrayImageP.DivideByte.class,
 		net.imagej.ops.math.ConstantToArrayImage.DivideByte.class,
 		net.imagej.ops.math.ConstantToArrayImageP.DivideUnsignedByte.class,
@@ -784,6 +1165,25 @@ public <T extends NumericType<T>> IterableInterval<T> divide(
 		return result;
 	}
 
+	@OpMethod(ops = { net.imagej.ops.math.PrimitiveImageMath.DivideByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.DivideUnsignedByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.DivideShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.DivideUnsignedShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.DivideInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.DivideUnsignedInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.DivideLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.DivideUnsignedLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.DivideFloat.class,
+		net.imagej.ops.math.PrimitiveImageMath.DivideDouble.class })
+	public <T extends NativeType<T> & RealType<T>> Img<T> divide(
+		final Img<T> out, final Img<T> in1, final Img<T> in2)
+	{
+		@SuppressWarnings("unchecked")
+		final Img<T> result = (Img<T>) ops().run(net.imagej.ops.Ops.Math.Divide.class,
+			out, in1, in2);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.PrimitiveMath.IntegerDivide.class)
 	public int divide(final int a, final int b) {
 		final int result = (Integer) ops().run(
@@ -962,6 +1362,25 @@ public <I extends RealType<I>, O extends RealType<O>> O exp(final O out,
 		return result;
 	}
 
+	@OpMethod(ops = { net.imagej.ops.math.PrimitiveImageMath.ExpByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.ExpUnsignedByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.ExpShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.ExpUnsignedShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.ExpInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.ExpUnsignedInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.ExpLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.ExpUnsignedLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.ExpFloat.class,
+		net.imagej.ops.math.PrimitiveImageMath.ExpDouble.class })
+	public <T extends NativeType<T> & RealType<T>> Img<T> exp(
+		final Img<T> out, final Img<T> in)
+	{
+		@SuppressWarnings("unchecked")
+		final Img<T> result = (Img<T>) ops().run(net.imagej.ops.Ops.Math.Exp.class,
+			out, in);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.ExpMinusOne.class)
 	public <I extends RealType<I>, O extends RealType<O>> O expMinusOne(
 		final O out, final I in)
@@ -972,6 +1391,25 @@ public <I extends RealType<I>, O extends RealType<O>> O expMinusOne(
 		return result;
 	}
 
+	@OpMethod(ops = { net.imagej.ops.math.PrimitiveImageMath.ExpMinusOneByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.ExpMinusOneUnsignedByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.ExpMinusOneShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.ExpMinusOneUnsignedShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.ExpMinusOneInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.ExpMinusOneUnsignedInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.ExpMinusOneLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.ExpMinusOneUnsignedLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.ExpMinusOneFloat.class,
+		net.imagej.ops.math.PrimitiveImageMath.ExpMinusOneDouble.class })
+	public <T extends NativeType<T> & RealType<T>> Img<T> expMinusOne(
+		final Img<T> out, final Img<T> in)
+	{
+		@SuppressWarnings("unchecked")
+		final Img<T> result = (Img<T>) ops().run(net.imagej.ops.Ops.Math.ExpMinusOne.class,
+			out, in);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.PrimitiveMath.DoubleFloor.class)
 	public double floor(final double a) {
 		final double result = (Double) ops().run(
@@ -989,6 +1427,25 @@ public <I extends RealType<I>, O extends RealType<O>> O floor(final O out,
 		return result;
 	}
 
+	@OpMethod(ops = { net.imagej.ops.math.PrimitiveImageMath.FloorByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.FloorUnsignedByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.FloorShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.FloorUnsignedShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.FloorInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.FloorUnsignedInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.FloorLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.FloorUnsignedLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.FloorFloat.class,
+		net.imagej.ops.math.PrimitiveImageMath.FloorDouble.class })
+	public <T extends NativeType<T> & RealType<T>> Img<T> floor(
+		final Img<T> out, final Img<T> in)
+	{
+		@SuppressWarnings("unchecked")
+		final Img<T> result = (Img<T>) ops().run(net.imagej.ops.Ops.Math.Floor.class,
+			out, in);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.GammaConstant.class)
 	public <I extends RealType<I>, O extends RealType<O>> O gamma(final O out,
 		final I in, final double constant)
@@ -999,6 +1456,25 @@ public <I extends RealType<I>, O extends RealType<O>> O gamma(final O out,
 		return result;
 	}
 
+	@OpMethod(ops = { net.imagej.ops.math.PrimitiveImageMath.GammaByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.GammaUnsignedByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.GammaShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.GammaUnsignedShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.GammaInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.GammaUnsignedInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.GammaLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.GammaUnsignedLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.GammaFloat.class,
+		net.imagej.ops.math.PrimitiveImageMath.GammaDouble.class })
+	public <T extends NativeType<T> & RealType<T>> Img<T> gamma(
+		final Img<T> out, final Img<T> in, final double constant)
+	{
+		@SuppressWarnings("unchecked")
+		final Img<T> result = (Img<T>) ops().run(net.imagej.ops.Ops.Math.Gamma.class,
+			out, in, constant);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.Invert.class)
 	public <I extends RealType<I>, O extends RealType<O>> O invert(final O out,
 		final I in, final double specifiedMin, final double specifiedMax)
@@ -1009,6 +1485,26 @@ public <I extends RealType<I>, O extends RealType<O>> O invert(final O out,
 		return result;
 	}
 
+	@OpMethod(ops = { net.imagej.ops.math.PrimitiveImageMath.InvertByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.InvertUnsignedByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.InvertShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.InvertUnsignedShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.InvertInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.InvertUnsignedInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.InvertLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.InvertUnsignedLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.InvertFloat.class,
+		net.imagej.ops.math.PrimitiveImageMath.InvertDouble.class })
+	public <T extends NativeType<T> & RealType<T>> Img<T> invert(
+		final Img<T> out, final Img<T> in, final double specifiedMin,
+		final double specifiedMax)
+	{
+		@SuppressWarnings("unchecked")
+		final Img<T> result = (Img<T>) ops().run(net.imagej.ops.Ops.Math.Invert.class,
+			out, in, specifiedMin, specifiedMax);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.PrimitiveMath.IntegerLeftShift.class)
 	public int leftShift(final int a, final int b) {
 		final int result = (Integer) ops().run(
@@ -1039,6 +1535,25 @@ public <I extends RealType<I>, O extends RealType<O>> O log(final O out,
 		return result;
 	}
 
+	@OpMethod(ops = { net.imagej.ops.math.PrimitiveImageMath.LogByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.LogUnsignedByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.LogShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.LogUnsignedShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.LogInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.LogUnsignedInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.LogLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.LogUnsignedLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.LogFloat.class,
+		net.imagej.ops.math.PrimitiveImageMath.LogDouble.class })
+	public <T extends NativeType<T> & RealType<T>> Img<T> log(
+		final Img<T> out, final Img<T> in)
+	{
+		@SuppressWarnings("unchecked")
+		final Img<T> result = (Img<T>) ops().run(net.imagej.ops.Ops.Math.Log.class,
+			out, in);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.PrimitiveMath.DoubleLog10.class)
 	public double log10(final double a) {
 		final double result = (Double) ops().run(
@@ -1056,6 +1571,25 @@ public <I extends RealType<I>, O extends RealType<O>> O log10(final O out,
 		return result;
 	}
 
+	@OpMethod(ops = { net.imagej.ops.math.PrimitiveImageMath.Log10Byte.class,
+		net.imagej.ops.math.PrimitiveImageMath.Log10UnsignedByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.Log10Short.class,
+		net.imagej.ops.math.PrimitiveImageMath.Log10UnsignedShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.Log10Int.class,
+		net.imagej.ops.math.PrimitiveImageMath.Log10UnsignedInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.Log10Long.class,
+		net.imagej.ops.math.PrimitiveImageMath.Log10UnsignedLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.Log10Float.class,
+		net.imagej.ops.math.PrimitiveImageMath.Log10Double.class })
+	public <T extends NativeType<T> & RealType<T>> Img<T> log10(
+		final Img<T> out, final Img<T> in)
+	{
+		@SuppressWarnings("unchecked")
+		final Img<T> result = (Img<T>) ops().run(net.imagej.ops.Ops.Math.Log10.class,
+			out, in);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.Log2.class)
 	public <I extends RealType<I>, O extends RealType<O>> O log2(final O out,
 		final I in)
@@ -1065,6 +1599,25 @@ public <I extends RealType<I>, O extends RealType<O>> O log2(final O out,
 		return result;
 	}
 
+	@OpMethod(ops = { net.imagej.ops.math.PrimitiveImageMath.Log2Byte.class,
+		net.imagej.ops.math.PrimitiveImageMath.Log2UnsignedByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.Log2Short.class,
+		net.imagej.ops.math.PrimitiveImageMath.Log2UnsignedShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.Log2Int.class,
+		net.imagej.ops.math.PrimitiveImageMath.Log2UnsignedInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.Log2Long.class,
+		net.imagej.ops.math.PrimitiveImageMath.Log2UnsignedLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.Log2Float.class,
+		net.imagej.ops.math.PrimitiveImageMath.Log2Double.class })
+	public <T extends NativeType<T> & RealType<T>> Img<T> log2(
+		final Img<T> out, final Img<T> in)
+	{
+		@SuppressWarnings("unchecked")
+		final Img<T> result = (Img<T>) ops().run(net.imagej.ops.Ops.Math.Log2.class,
+			out, in);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.PrimitiveMath.DoubleLogOnePlusX.class)
 	public double logOnePlusX(final double a) {
 		final double result = (Double) ops().run(
@@ -1082,6 +1635,25 @@ public <I extends RealType<I>, O extends RealType<O>> O logOnePlusX(
 		return result;
 	}
 
+	@OpMethod(ops = { net.imagej.ops.math.PrimitiveImageMath.LogOnePlusXByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.LogOnePlusXUnsignedByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.LogOnePlusXShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.LogOnePlusXUnsignedShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.LogOnePlusXInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.LogOnePlusXUnsignedInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.LogOnePlusXLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.LogOnePlusXUnsignedLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.LogOnePlusXFloat.class,
+		net.imagej.ops.math.PrimitiveImageMath.LogOnePlusXDouble.class })
+	public <T extends NativeType<T> & RealType<T>> Img<T> logOnePlusX(
+		final Img<T> out, final Img<T> in)
+	{
+		@SuppressWarnings("unchecked")
+		final Img<T> result = (Img<T>) ops().run(net.imagej.ops.Ops.Math.LogOnePlusX.class,
+			out, in);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.PrimitiveMath.DoubleMax.class)
 	public double max(final double a, final double b) {
 		final double result = (Double) ops().run(
@@ -1120,6 +1692,25 @@ public <I extends RealType<I>, O extends RealType<O>> O max(final O out,
 		return result;
 	}
 
+	@OpMethod(ops = { net.imagej.ops.math.PrimitiveImageMath.MaxByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.MaxUnsignedByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.MaxShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.MaxUnsignedShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.MaxInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.MaxUnsignedInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.MaxLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.MaxUnsignedLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.MaxFloat.class,
+		net.imagej.ops.math.PrimitiveImageMath.MaxDouble.class })
+	public <T extends NativeType<T> & RealType<T>> Img<T> max(
+		final Img<T> out, final Img<T> in, final double constant)
+	{
+		@SuppressWarnings("unchecked")
+		final Img<T> result = (Img<T>) ops().run(net.imagej.ops.Ops.Math.Max.class,
+			out, in, constant);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.PrimitiveMath.DoubleMin.class)
 	public double min(final double a, final double b) {
 		final double result = (Double) ops().run(
@@ -1158,6 +1749,25 @@ public <I extends RealType<I>, O extends RealType<O>> O min(final O out,
 		return result;
 	}
 
+	@OpMethod(ops = { net.imagej.ops.math.PrimitiveImageMath.MinByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.MinUnsignedByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.MinShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.MinUnsignedShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.MinInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.MinUnsignedInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.MinLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.MinUnsignedLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.MinFloat.class,
+		net.imagej.ops.math.PrimitiveImageMath.MinDouble.class })
+	public <T extends NativeType<T> & RealType<T>> Img<T> min(
+		final Img<T> out, final Img<T> in, final double constant)
+	{
+		@SuppressWarnings("unchecked")
+		final Img<T> result = (Img<T>) ops().run(net.imagej.ops.Ops.Math.Min.class,
+			out, in, constant);
+		return result;
+	}
+
 	@OpMethod(ops = { net.imagej.ops.math.ConstantToArrayImageP.AddByte.class,
 		net.imagej.ops.math.ConstantToArrayImage.AddByte.class,
 		net.imagej.ops.math.ConstantToArrayImageP.AddUnsignedByte.class,
@@ -1269,6 +1879,25 @@ public <T extends NumericType<T>> IterableInterval<T> multiply(
 		return result;
 	}
 
+	@OpMethod(ops = { net.imagej.ops.math.PrimitiveImageMath.MultiplyByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.MultiplyUnsignedByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.MultiplyShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.MultiplyUnsignedShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.MultiplyInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.MultiplyUnsignedInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.MultiplyLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.MultiplyUnsignedLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.MultiplyFloat.class,
+		net.imagej.ops.math.PrimitiveImageMath.MultiplyDouble.class })
+	public <T extends NativeType<T> & RealType<T>> Img<T> multiply(
+		final Img<T> out, final Img<T> in1, final Img<T> in2)
+	{
+		@SuppressWarnings("unchecked")
+		final Img<T> result = (Img<T>) ops().run(net.imagej.ops.Ops.Math.Multiply.class,
+			out, in1, in2);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.PrimitiveMath.IntegerMultiply.class)
 	public int multiply(final int a, final int b) {
 		final int result = (Integer) ops().run(
@@ -1445,6 +2074,25 @@ public <I extends RealType<I>, O extends RealType<O>> O nearestInt(
 		return result;
 	}
 
+	@OpMethod(ops = { net.imagej.ops.math.PrimitiveImageMath.NearestIntByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.NearestIntUnsignedByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.NearestIntShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.NearestIntUnsignedShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.NearestIntInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.NearestIntUnsignedInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.NearestIntLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.NearestIntUnsignedLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.NearestIntFloat.class,
+		net.imagej.ops.math.PrimitiveImageMath.NearestIntDouble.class })
+	public <T extends NativeType<T> & RealType<T>> Img<T> nearestInt(
+		final Img<T> out, final Img<T> in)
+	{
+		@SuppressWarnings("unchecked")
+		final Img<T> result = (Img<T>) ops().run(net.imagej.ops.Ops.Math.NearestInt.class,
+			out, in);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.PrimitiveMath.DoubleNegate.class)
 	public double negate(final double a) {
 		final double result = (Double) ops().run(
@@ -1483,6 +2131,25 @@ public <I extends RealType<I>, O extends RealType<O>> O negate(final O out,
 		return result;
 	}
 
+	@OpMethod(ops = { net.imagej.ops.math.PrimitiveImageMath.NegateByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.NegateUnsignedByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.NegateShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.NegateUnsignedShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.NegateInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.NegateUnsignedInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.NegateLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.NegateUnsignedLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.NegateFloat.class,
+		net.imagej.ops.math.PrimitiveImageMath.NegateDouble.class })
+	public <T extends NativeType<T> & RealType<T>> Img<T> negate(
+		final Img<T> out, final Img<T> in)
+	{
+		@SuppressWarnings("unchecked")
+		final Img<T> result = (Img<T>) ops().run(net.imagej.ops.Ops.Math.Negate.class,
+			out, in);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.PrimitiveMath.IntegerOr.class)
 	public int or(final int a, final int b) {
 		final int result = (Integer) ops().run(
@@ -1525,6 +2192,25 @@ public <I extends RealType<I>, O extends RealType<O>> O power(final O out,
 		return result;
 	}
 
+	@OpMethod(ops = { net.imagej.ops.math.PrimitiveImageMath.PowerByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.PowerUnsignedByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.PowerShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.PowerUnsignedShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.PowerInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.PowerUnsignedInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.PowerLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.PowerUnsignedLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.PowerFloat.class,
+		net.imagej.ops.math.PrimitiveImageMath.PowerDouble.class })
+	public <T extends NativeType<T> & RealType<T>> Img<T> power(
+		final Img<T> out, final Img<T> in, final double constant)
+	{
+		@SuppressWarnings("unchecked")
+		final Img<T> result = (Img<T>) ops().run(net.imagej.ops.Ops.Math.Power.class,
+			out, in, constant);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.RandomGaussian.class)
 	public <I extends RealType<I>, O extends RealType<O>> O randomGaussian(
 		final O out, final I in)
@@ -1575,6 +2261,25 @@ public <I extends RealType<I>, O extends RealType<O>> O reciprocal(
 		return result;
 	}
 
+	@OpMethod(ops = { net.imagej.ops.math.PrimitiveImageMath.ReciprocalByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.ReciprocalUnsignedByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.ReciprocalShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.ReciprocalUnsignedShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.ReciprocalInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.ReciprocalUnsignedInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.ReciprocalLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.ReciprocalUnsignedLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.ReciprocalFloat.class,
+		net.imagej.ops.math.PrimitiveImageMath.ReciprocalDouble.class })
+	public <T extends NativeType<T> & RealType<T>> Img<T> reciprocal(
+		final Img<T> out, final Img<T> in, final double dbzVal)
+	{
+		@SuppressWarnings("unchecked")
+		final Img<T> result = (Img<T>) ops().run(net.imagej.ops.Ops.Math.Reciprocal.class,
+			out, in, dbzVal);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.PrimitiveMath.DoubleRemainder.class)
 	public double remainder(final double a, final double b) {
 		final double result = (Double) ops().run(
@@ -1641,6 +2346,25 @@ public <I extends RealType<I>, O extends RealType<O>> O round(final O out,
 		return result;
 	}
 
+	@OpMethod(ops = { net.imagej.ops.math.PrimitiveImageMath.RoundByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.RoundUnsignedByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.RoundShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.RoundUnsignedShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.RoundInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.RoundUnsignedInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.RoundLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.RoundUnsignedLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.RoundFloat.class,
+		net.imagej.ops.math.PrimitiveImageMath.RoundDouble.class })
+	public <T extends NativeType<T> & RealType<T>> Img<T> round(
+		final Img<T> out, final Img<T> in)
+	{
+		@SuppressWarnings("unchecked")
+		final Img<T> result = (Img<T>) ops().run(net.imagej.ops.Ops.Math.Round.class,
+			out, in);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.Sec.class)
 	public <I extends RealType<I>, O extends RealType<O>> O sec(final O out,
 		final I in)
@@ -1650,6 +2374,25 @@ public <I extends RealType<I>, O extends RealType<O>> O sec(final O out,
 		return result;
 	}
 
+	@OpMethod(ops = { net.imagej.ops.math.PrimitiveImageMath.SecByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.SecUnsignedByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.SecShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.SecUnsignedShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.SecInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.SecUnsignedInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.SecLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.SecUnsignedLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.SecFloat.class,
+		net.imagej.ops.math.PrimitiveImageMath.SecDouble.class })
+	public <T extends NativeType<T> & RealType<T>> Img<T> sec(
+		final Img<T> out, final Img<T> in)
+	{
+		@SuppressWarnings("unchecked")
+		final Img<T> result = (Img<T>) ops().run(net.imagej.ops.Ops.Math.Sec.class,
+			out, in);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.Sech.class)
 	public <I extends RealType<I>, O extends RealType<O>> O sech(final O out,
 		final I in)
@@ -1659,6 +2402,25 @@ public <I extends RealType<I>, O extends RealType<O>> O sech(final O out,
 		return result;
 	}
 
+	@OpMethod(ops = { net.imagej.ops.math.PrimitiveImageMath.SechByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.SechUnsignedByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.SechShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.SechUnsignedShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.SechInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.SechUnsignedInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.SechLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.SechUnsignedLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.SechFloat.class,
+		net.imagej.ops.math.PrimitiveImageMath.SechDouble.class })
+	public <T extends NativeType<T> & RealType<T>> Img<T> sech(
+		final Img<T> out, final Img<T> in)
+	{
+		@SuppressWarnings("unchecked")
+		final Img<T> result = (Img<T>) ops().run(net.imagej.ops.Ops.Math.Sech.class,
+			out, in);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.PrimitiveMath.DoubleSignum.class)
 	public double signum(final double a) {
 		final double result = (Double) ops().run(
@@ -1683,6 +2445,25 @@ public <I extends RealType<I>, O extends RealType<O>> O signum(final O out,
 		return result;
 	}
 
+	@OpMethod(ops = { net.imagej.ops.math.PrimitiveImageMath.SignumByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.SignumUnsignedByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.SignumShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.SignumUnsignedShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.SignumInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.SignumUnsignedInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.SignumLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.SignumUnsignedLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.SignumFloat.class,
+		net.imagej.ops.math.PrimitiveImageMath.SignumDouble.class })
+	public <T extends NativeType<T> & RealType<T>> Img<T> signum(
+		final Img<T> out, final Img<T> in)
+	{
+		@SuppressWarnings("unchecked")
+		final Img<T> result = (Img<T>) ops().run(net.imagej.ops.Ops.Math.Signum.class,
+			out, in);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.PrimitiveMath.DoubleSin.class)
 	public double sin(final double a) {
 		final double result = (Double) ops().run(
@@ -1699,6 +2480,25 @@ public <I extends RealType<I>, O extends RealType<O>> O sin(final O out,
 		return result;
 	}
 
+	@OpMethod(ops = { net.imagej.ops.math.PrimitiveImageMath.SinByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.SinUnsignedByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.SinShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.SinUnsignedShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.SinInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.SinUnsignedInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.SinLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.SinUnsignedLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.SinFloat.class,
+		net.imagej.ops.math.PrimitiveImageMath.SinDouble.class })
+	public <T extends NativeType<T> & RealType<T>> Img<T> sin(
+		final Img<T> out, final Img<T> in)
+	{
+		@SuppressWarnings("unchecked")
+		final Img<T> result = (Img<T>) ops().run(net.imagej.ops.Ops.Math.Sin.class,
+			out, in);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.Sinc.class)
 	public <I extends RealType<I>, O extends RealType<O>> O sinc(final O out,
 		final I in)
@@ -1708,6 +2508,25 @@ public <I extends RealType<I>, O extends RealType<O>> O sinc(final O out,
 		return result;
 	}
 
+	@OpMethod(ops = { net.imagej.ops.math.PrimitiveImageMath.SincByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.SincUnsignedByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.SincShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.SincUnsignedShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.SincInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.SincUnsignedInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.SincLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.SincUnsignedLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.SincFloat.class,
+		net.imagej.ops.math.PrimitiveImageMath.SincDouble.class })
+	public <T extends NativeType<T> & RealType<T>> Img<T> sinc(
+		final Img<T> out, final Img<T> in)
+	{
+		@SuppressWarnings("unchecked")
+		final Img<T> result = (Img<T>) ops().run(net.imagej.ops.Ops.Math.Sinc.class,
+			out, in);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.SincPi.class)
 	public <I extends RealType<I>, O extends RealType<O>> O sincPi(final O out,
 		final I in)
@@ -1718,6 +2537,25 @@ public <I extends RealType<I>, O extends RealType<O>> O sincPi(final O out,
 		return result;
 	}
 
+	@OpMethod(ops = { net.imagej.ops.math.PrimitiveImageMath.SincPiByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.SincPiUnsignedByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.SincPiShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.SincPiUnsignedShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.SincPiInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.SincPiUnsignedInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.SincPiLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.SincPiUnsignedLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.SincPiFloat.class,
+		net.imagej.ops.math.PrimitiveImageMath.SincPiDouble.class })
+	public <T extends NativeType<T> & RealType<T>> Img<T> sincPi(
+		final Img<T> out, final Img<T> in)
+	{
+		@SuppressWarnings("unchecked")
+		final Img<T> result = (Img<T>) ops().run(net.imagej.ops.Ops.Math.SincPi.class,
+			out, in);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.PrimitiveMath.DoubleSinh.class)
 	public double sinh(final double a) {
 		final double result = (Double) ops().run(
@@ -1734,6 +2572,25 @@ public <I extends RealType<I>, O extends RealType<O>> O sinh(final O out,
 		return result;
 	}
 
+	@OpMethod(ops = { net.imagej.ops.math.PrimitiveImageMath.SinhByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.SinhUnsignedByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.SinhShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.SinhUnsignedShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.SinhInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.SinhUnsignedInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.SinhLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.SinhUnsignedLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.SinhFloat.class,
+		net.imagej.ops.math.PrimitiveImageMath.SinhDouble.class })
+	public <T extends NativeType<T> & RealType<T>> Img<T> sinh(
+		final Img<T> out, final Img<T> in)
+	{
+		@SuppressWarnings("unchecked")
+		final Img<T> result = (Img<T>) ops().run(net.imagej.ops.Ops.Math.Sinh.class,
+			out, in);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.Sqr.class)
 	public <I extends RealType<I>, O extends RealType<O>> O sqr(final O out,
 		final I in)
@@ -1743,6 +2600,25 @@ public <I extends RealType<I>, O extends RealType<O>> O sqr(final O out,
 		return result;
 	}
 
+	@OpMethod(ops = { net.imagej.ops.math.PrimitiveImageMath.SqrByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.SqrUnsignedByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.SqrShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.SqrUnsignedShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.SqrInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.SqrUnsignedInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.SqrLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.SqrUnsignedLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.SqrFloat.class,
+		net.imagej.ops.math.PrimitiveImageMath.SqrDouble.class })
+	public <T extends NativeType<T> & RealType<T>> Img<T> sqr(
+		final Img<T> out, final Img<T> in)
+	{
+		@SuppressWarnings("unchecked")
+		final Img<T> result = (Img<T>) ops().run(net.imagej.ops.Ops.Math.Sqr.class,
+			out, in);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.PrimitiveMath.DoubleSqrt.class)
 	public double sqrt(final double a) {
 		final double result = (Double) ops().run(
@@ -1759,6 +2635,25 @@ public <I extends RealType<I>, O extends RealType<O>> O sqrt(final O out,
 		return result;
 	}
 
+	@OpMethod(ops = { net.imagej.ops.math.PrimitiveImageMath.SqrtByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.SqrtUnsignedByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.SqrtShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.SqrtUnsignedShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.SqrtInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.SqrtUnsignedInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.SqrtLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.SqrtUnsignedLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.SqrtFloat.class,
+		net.imagej.ops.math.PrimitiveImageMath.SqrtDouble.class })
+	public <T extends NativeType<T> & RealType<T>> Img<T> sqrt(
+		final Img<T> out, final Img<T> in)
+	{
+		@SuppressWarnings("unchecked")
+		final Img<T> result = (Img<T>) ops().run(net.imagej.ops.Ops.Math.Sqrt.class,
+			out, in);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.Step.class)
 	public <I extends RealType<I>, O extends RealType<O>> O step(final O out,
 		final I in)
@@ -1768,6 +2663,25 @@ public <I extends RealType<I>, O extends RealType<O>> O step(final O out,
 		return result;
 	}
 
+	@OpMethod(ops = { net.imagej.ops.math.PrimitiveImageMath.StepByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.StepUnsignedByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.StepShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.StepUnsignedShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.StepInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.StepUnsignedInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.StepLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.StepUnsignedLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.StepFloat.class,
+		net.imagej.ops.math.PrimitiveImageMath.StepDouble.class })
+	public <T extends NativeType<T> & RealType<T>> Img<T> step(
+		final Img<T> out, final Img<T> in)
+	{
+		@SuppressWarnings("unchecked")
+		final Img<T> result = (Img<T>) ops().run(net.imagej.ops.Ops.Math.Step.class,
+			out, in);
+		return result;
+	}
+
 	@OpMethod(ops = {
 		net.imagej.ops.math.ConstantToArrayImageP.SubtractByte.class,
 		net.imagej.ops.math.ConstantToArrayImage.SubtractByte.class,
@@ -1884,6 +2798,25 @@ public <T extends NumericType<T>> IterableInterval<T> subtract(
 		return result;
 	}
 
+	@OpMethod(ops = { net.imagej.ops.math.PrimitiveImageMath.SubtractByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.SubtractUnsignedByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.SubtractShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.SubtractUnsignedShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.SubtractInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.SubtractUnsignedInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.SubtractLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.SubtractUnsignedLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.SubtractFloat.class,
+		net.imagej.ops.math.PrimitiveImageMath.SubtractDouble.class })
+	public <T extends NativeType<T> & RealType<T>> Img<T> subtract(
+		final Img<T> out, final Img<T> in1, final Img<T> in2)
+	{
+		@SuppressWarnings("unchecked")
+		final Img<T> result = (Img<T>) ops().run(net.imagej.ops.Ops.Math.Subtract.class,
+			out, in1, in2);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.PrimitiveMath.IntegerSubtract.class)
 	public int subtract(final int a, final int b) {
 		final int result = (Integer) ops().run(
@@ -2066,6 +2999,25 @@ public <I extends RealType<I>, O extends RealType<O>> O tan(final O out,
 		return result;
 	}
 
+	@OpMethod(ops = { net.imagej.ops.math.PrimitiveImageMath.TanByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.TanUnsignedByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.TanShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.TanUnsignedShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.TanInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.TanUnsignedInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.TanLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.TanUnsignedLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.TanFloat.class,
+		net.imagej.ops.math.PrimitiveImageMath.TanDouble.class })
+	public <T extends NativeType<T> & RealType<T>> Img<T> tan(
+		final Img<T> out, final Img<T> in)
+	{
+		@SuppressWarnings("unchecked")
+		final Img<T> result = (Img<T>) ops().run(net.imagej.ops.Ops.Math.Tan.class,
+			out, in);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.PrimitiveMath.DoubleTanh.class)
 	public double tanh(final double a) {
 		final double result = (Double) ops().run(net.imagej.ops.Ops.Math.Tanh.class,
@@ -2082,6 +3034,25 @@ public <I extends RealType<I>, O extends RealType<O>> O tanh(final O out,
 		return result;
 	}
 
+	@OpMethod(ops = { net.imagej.ops.math.PrimitiveImageMath.TanhByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.TanhUnsignedByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.TanhShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.TanhUnsignedShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.TanhInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.TanhUnsignedInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.TanhLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.TanhUnsignedLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.TanhFloat.class,
+		net.imagej.ops.math.PrimitiveImageMath.TanhDouble.class })
+	public <T extends NativeType<T> & RealType<T>> Img<T> tanh(
+		final Img<T> out, final Img<T> in)
+	{
+		@SuppressWarnings("unchecked")
+		final Img<T> result = (Img<T>) ops().run(net.imagej.ops.Ops.Math.Tanh.class,
+			out, in);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.Ulp.class)
 	public <I extends RealType<I>, O extends RealType<O>> O ulp(final O out,
 		final I in)
@@ -2091,6 +3062,25 @@ public <I extends RealType<I>, O extends RealType<O>> O ulp(final O out,
 		return result;
 	}
 
+	@OpMethod(ops = { net.imagej.ops.math.PrimitiveImageMath.UlpByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.UlpUnsignedByte.class,
+		net.imagej.ops.math.PrimitiveImageMath.UlpShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.UlpUnsignedShort.class,
+		net.imagej.ops.math.PrimitiveImageMath.UlpInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.UlpUnsignedInt.class,
+		net.imagej.ops.math.PrimitiveImageMath.UlpLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.UlpUnsignedLong.class,
+		net.imagej.ops.math.PrimitiveImageMath.UlpFloat.class,
+		net.imagej.ops.math.PrimitiveImageMath.UlpDouble.class })
+	public <T extends NativeType<T> & RealType<T>> Img<T> ulp(
+		final Img<T> out, final Img<T> in)
+	{
+		@SuppressWarnings("unchecked")
+		final Img<T> result = (Img<T>) ops().run(net.imagej.ops.Ops.Math.Ulp.class,
+			out, in);
+		return result;
+	}
+
 	@OpMethod(
 		op = net.imagej.ops.math.PrimitiveMath.IntegerUnsignedRightShift.class)
 	public int unsignedRightShift(final int a, final int b) {
@@ -0,0 +1,16043 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2020 ImageJ developers.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.math;
+
+import java.util.List;
+
+import net.imagej.ops.Contingent;
+import net.imagej.ops.Ops;
+import net.imagej.ops.math.ImgSegments.Segment;
+import net.imagej.ops.special.computer.AbstractBinaryComputerOp;
+import net.imagej.ops.special.computer.AbstractUnaryComputerOp;
+import net.imglib2.img.Img;
+import net.imglib2.img.array.ArrayImg;
+import net.imglib2.img.cell.CellImg;
+import net.imglib2.img.planar.PlanarImg;
+import net.imglib2.type.numeric.integer.ByteType;
+import net.imglib2.type.numeric.integer.IntType;
+import net.imglib2.type.numeric.integer.LongType;
+import net.imglib2.type.numeric.integer.ShortType;
+import net.imglib2.type.numeric.integer.UnsignedByteType;
+import net.imglib2.type.numeric.integer.UnsignedIntType;
+import net.imglib2.type.numeric.integer.UnsignedLongType;
+import net.imglib2.type.numeric.integer.UnsignedShortType;
+import net.imglib2.type.numeric.real.DoubleType;
+import net.imglib2.type.numeric.real.FloatType;
+
+import org.scijava.Priority;
+import org.scijava.plugin.Parameter;
+import org.scijava.plugin.Plugin;
+
+/**
+ * Generated element-wise math ops working directly on the primitive storage
+ * of {@link ArrayImg}s, {@link PlanarImg}s and {@link CellImg}s.
+ * <p>
+ * The storage is split into segments of at most
+ * {@link ImgSegments#SEGMENT_SIZE} elements (never spanning planes or cells),
+ * which are processed in parallel. Integer results saturate at the bounds of
+ * the type; see {@link Saturation}. The output may be one of the inputs.
+ * </p>
+ */
+public final class PrimitiveImageMath {
+
+	private PrimitiveImageMath() {
+		// NB: Prevent instantiation of utility class.
+	}
+
+	/** Op that computes {@link Ops.Math.Abs} of each element of an image of {@link ByteType}. */
+	@Plugin(type = Ops.Math.Abs.class, priority = Priority.HIGH)
+	public static class AbsByte extends
+		AbstractUnaryComputerOp<Img<ByteType>, Img<ByteType>> implements Ops.Math.Abs,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<ByteType> input, final Img<ByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (byte) Saturation.round(Math.abs(x), Byte.MIN_VALUE, Byte.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ByteType &&
+				out().firstElement() instanceof ByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arccos} of each element of an image of {@link ByteType}. */
+	@Plugin(type = Ops.Math.Arccos.class, priority = Priority.HIGH)
+	public static class ArccosByte extends
+		AbstractUnaryComputerOp<Img<ByteType>, Img<ByteType>> implements Ops.Math.Arccos,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<ByteType> input, final Img<ByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (byte) Saturation.round(Math.acos(x), Byte.MIN_VALUE, Byte.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ByteType &&
+				out().firstElement() instanceof ByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arccosh} of each element of an image of {@link ByteType}. */
+	@Plugin(type = Ops.Math.Arccosh.class, priority = Priority.HIGH)
+	public static class ArccoshByte extends
+		AbstractUnaryComputerOp<Img<ByteType>, Img<ByteType>> implements Ops.Math.Arccosh,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<ByteType> input, final Img<ByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (byte) Saturation.round(Math.log(x + (x <= -1 ? -1 : 1) * Math.sqrt(x * x - 1)), Byte.MIN_VALUE, Byte.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ByteType &&
+				out().firstElement() instanceof ByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arccot} of each element of an image of {@link ByteType}. */
+	@Plugin(type = Ops.Math.Arccot.class, priority = Priority.HIGH)
+	public static class ArccotByte extends
+		AbstractUnaryComputerOp<Img<ByteType>, Img<ByteType>> implements Ops.Math.Arccot,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<ByteType> input, final Img<ByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (byte) Saturation.round(Math.atan(1.0 / x) + (x < 0 ? Math.PI : 0), Byte.MIN_VALUE, Byte.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ByteType &&
+				out().firstElement() instanceof ByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arccoth} of each element of an image of {@link ByteType}. */
+	@Plugin(type = Ops.Math.Arccoth.class, priority = Priority.HIGH)
+	public static class ArccothByte extends
+		AbstractUnaryComputerOp<Img<ByteType>, Img<ByteType>> implements Ops.Math.Arccoth,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<ByteType> input, final Img<ByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (byte) Saturation.round(0.5 * Math.log((x + 1) / (x - 1)), Byte.MIN_VALUE, Byte.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ByteType &&
+				out().firstElement() instanceof ByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arccsch} of each element of an image of {@link ByteType}. */
+	@Plugin(type = Ops.Math.Arccsch.class, priority = Priority.HIGH)
+	public static class ArccschByte extends
+		AbstractUnaryComputerOp<Img<ByteType>, Img<ByteType>> implements Ops.Math.Arccsch,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<ByteType> input, final Img<ByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (byte) Saturation.round(Math.log(1 / x + Math.sqrt(1 + 1 / (x * x))), Byte.MIN_VALUE, Byte.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ByteType &&
+				out().firstElement() instanceof ByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arcsech} of each element of an image of {@link ByteType}. */
+	@Plugin(type = Ops.Math.Arcsech.class, priority = Priority.HIGH)
+	public static class ArcsechByte extends
+		AbstractUnaryComputerOp<Img<ByteType>, Img<ByteType>> implements Ops.Math.Arcsech,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<ByteType> input, final Img<ByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (byte) Saturation.round(Math.log((1 + Math.sqrt(1 - x * x)) / x), Byte.MIN_VALUE, Byte.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ByteType &&
+				out().firstElement() instanceof ByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arcsin} of each element of an image of {@link ByteType}. */
+	@Plugin(type = Ops.Math.Arcsin.class, priority = Priority.HIGH)
+	public static class ArcsinByte extends
+		AbstractUnaryComputerOp<Img<ByteType>, Img<ByteType>> implements Ops.Math.Arcsin,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<ByteType> input, final Img<ByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (byte) Saturation.round(Math.asin(x), Byte.MIN_VALUE, Byte.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ByteType &&
+				out().firstElement() instanceof ByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arcsinh} of each element of an image of {@link ByteType}. */
+	@Plugin(type = Ops.Math.Arcsinh.class, priority = Priority.HIGH)
+	public static class ArcsinhByte extends
+		AbstractUnaryComputerOp<Img<ByteType>, Img<ByteType>> implements Ops.Math.Arcsinh,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<ByteType> input, final Img<ByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (byte) Saturation.round(Math.log(x + Math.sqrt(x * x + 1)), Byte.MIN_VALUE, Byte.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ByteType &&
+				out().firstElement() instanceof ByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arctan} of each element of an image of {@link ByteType}. */
+	@Plugin(type = Ops.Math.Arctan.class, priority = Priority.HIGH)
+	public static class ArctanByte extends
+		AbstractUnaryComputerOp<Img<ByteType>, Img<ByteType>> implements Ops.Math.Arctan,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<ByteType> input, final Img<ByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (byte) Saturation.round(Math.atan(x), Byte.MIN_VALUE, Byte.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ByteType &&
+				out().firstElement() instanceof ByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arctanh} of each element of an image of {@link ByteType}. */
+	@Plugin(type = Ops.Math.Arctanh.class, priority = Priority.HIGH)
+	public static class ArctanhByte extends
+		AbstractUnaryComputerOp<Img<ByteType>, Img<ByteType>> implements Ops.Math.Arctanh,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<ByteType> input, final Img<ByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (byte) Saturation.round(0.5 * Math.log((1 + x) / (1 - x)), Byte.MIN_VALUE, Byte.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ByteType &&
+				out().firstElement() instanceof ByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Ceil} of each element of an image of {@link ByteType}. */
+	@Plugin(type = Ops.Math.Ceil.class, priority = Priority.HIGH)
+	public static class CeilByte extends
+		AbstractUnaryComputerOp<Img<ByteType>, Img<ByteType>> implements Ops.Math.Ceil,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<ByteType> input, final Img<ByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (byte) Saturation.round(Math.ceil(x), Byte.MIN_VALUE, Byte.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ByteType &&
+				out().firstElement() instanceof ByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Cos} of each element of an image of {@link ByteType}. */
+	@Plugin(type = Ops.Math.Cos.class, priority = Priority.HIGH)
+	public static class CosByte extends
+		AbstractUnaryComputerOp<Img<ByteType>, Img<ByteType>> implements Ops.Math.Cos,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<ByteType> input, final Img<ByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (byte) Saturation.round(Math.cos(x), Byte.MIN_VALUE, Byte.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ByteType &&
+				out().firstElement() instanceof ByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Cosh} of each element of an image of {@link ByteType}. */
+	@Plugin(type = Ops.Math.Cosh.class, priority = Priority.HIGH)
+	public static class CoshByte extends
+		AbstractUnaryComputerOp<Img<ByteType>, Img<ByteType>> implements Ops.Math.Cosh,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<ByteType> input, final Img<ByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (byte) Saturation.round(Math.cosh(x), Byte.MIN_VALUE, Byte.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ByteType &&
+				out().firstElement() instanceof ByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Cot} of each element of an image of {@link ByteType}. */
+	@Plugin(type = Ops.Math.Cot.class, priority = Priority.HIGH)
+	public static class CotByte extends
+		AbstractUnaryComputerOp<Img<ByteType>, Img<ByteType>> implements Ops.Math.Cot,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<ByteType> input, final Img<ByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (byte) Saturation.round(1.0 / Math.tan(x), Byte.MIN_VALUE, Byte.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ByteType &&
+				out().firstElement() instanceof ByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Coth} of each element of an image of {@link ByteType}. */
+	@Plugin(type = Ops.Math.Coth.class, priority = Priority.HIGH)
+	public static class CothByte extends
+		AbstractUnaryComputerOp<Img<ByteType>, Img<ByteType>> implements Ops.Math.Coth,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<ByteType> input, final Img<ByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (byte) Saturation.round(1.0 / Math.tanh(x), Byte.MIN_VALUE, Byte.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ByteType &&
+				out().firstElement() instanceof ByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Csc} of each element of an image of {@link ByteType}. */
+	@Plugin(type = Ops.Math.Csc.class, priority = Priority.HIGH)
+	public static class CscByte extends
+		AbstractUnaryComputerOp<Img<ByteType>, Img<ByteType>> implements Ops.Math.Csc,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<ByteType> input, final Img<ByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (byte) Saturation.round(1.0 / Math.sin(x), Byte.MIN_VALUE, Byte.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ByteType &&
+				out().firstElement() instanceof ByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Csch} of each element of an image of {@link ByteType}. */
+	@Plugin(type = Ops.Math.Csch.class, priority = Priority.HIGH)
+	public static class CschByte extends
+		AbstractUnaryComputerOp<Img<ByteType>, Img<ByteType>> implements Ops.Math.Csch,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<ByteType> input, final Img<ByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (byte) Saturation.round(1.0 / Math.sinh(x), Byte.MIN_VALUE, Byte.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ByteType &&
+				out().firstElement() instanceof ByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.CubeRoot} of each element of an image of {@link ByteType}. */
+	@Plugin(type = Ops.Math.CubeRoot.class, priority = Priority.HIGH)
+	public static class CubeRootByte extends
+		AbstractUnaryComputerOp<Img<ByteType>, Img<ByteType>> implements Ops.Math.CubeRoot,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<ByteType> input, final Img<ByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (byte) Saturation.round(Math.cbrt(x), Byte.MIN_VALUE, Byte.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ByteType &&
+				out().firstElement() instanceof ByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Exp} of each element of an image of {@link ByteType}. */
+	@Plugin(type = Ops.Math.Exp.class, priority = Priority.HIGH)
+	public static class ExpByte extends
+		AbstractUnaryComputerOp<Img<ByteType>, Img<ByteType>> implements Ops.Math.Exp,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<ByteType> input, final Img<ByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (byte) Saturation.round(Math.exp(x), Byte.MIN_VALUE, Byte.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ByteType &&
+				out().firstElement() instanceof ByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.ExpMinusOne} of each element of an image of {@link ByteType}. */
+	@Plugin(type = Ops.Math.ExpMinusOne.class, priority = Priority.HIGH)
+	public static class ExpMinusOneByte extends
+		AbstractUnaryComputerOp<Img<ByteType>, Img<ByteType>> implements Ops.Math.ExpMinusOne,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<ByteType> input, final Img<ByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (byte) Saturation.round(Math.exp(x) - 1, Byte.MIN_VALUE, Byte.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ByteType &&
+				out().firstElement() instanceof ByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Floor} of each element of an image of {@link ByteType}. */
+	@Plugin(type = Ops.Math.Floor.class, priority = Priority.HIGH)
+	public static class FloorByte extends
+		AbstractUnaryComputerOp<Img<ByteType>, Img<ByteType>> implements Ops.Math.Floor,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<ByteType> input, final Img<ByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (byte) Saturation.round(Math.floor(x), Byte.MIN_VALUE, Byte.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ByteType &&
+				out().firstElement() instanceof ByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Gamma} of each element of an image of {@link ByteType}. */
+	@Plugin(type = Ops.Math.Gamma.class, priority = Priority.HIGH)
+	public static class GammaByte extends
+		AbstractUnaryComputerOp<Img<ByteType>, Img<ByteType>> implements Ops.Math.Gamma,
+		Contingent
+	{
+
+		@Parameter
+		private double constant;
+
+		@Override
+		public void compute(final Img<ByteType> input, final Img<ByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (byte) Saturation.round(x <= 0 ? 0 : Math.exp(constant * Math.log(x)), Byte.MIN_VALUE, Byte.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ByteType &&
+				out().firstElement() instanceof ByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Invert} of each element of an image of {@link ByteType}. */
+	@Plugin(type = Ops.Math.Invert.class, priority = Priority.HIGH)
+	public static class InvertByte extends
+		AbstractUnaryComputerOp<Img<ByteType>, Img<ByteType>> implements Ops.Math.Invert,
+		Contingent
+	{
+
+		@Parameter
+		private double specifiedMin;
+
+		@Parameter
+		private double specifiedMax;
+
+		@Override
+		public void compute(final Img<ByteType> input, final Img<ByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (byte) Saturation.round(specifiedMax - (x - specifiedMin), Byte.MIN_VALUE, Byte.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ByteType &&
+				out().firstElement() instanceof ByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Log} of each element of an image of {@link ByteType}. */
+	@Plugin(type = Ops.Math.Log.class, priority = Priority.HIGH)
+	public static class LogByte extends
+		AbstractUnaryComputerOp<Img<ByteType>, Img<ByteType>> implements Ops.Math.Log,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<ByteType> input, final Img<ByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (byte) Saturation.round(Math.log(x), Byte.MIN_VALUE, Byte.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ByteType &&
+				out().firstElement() instanceof ByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Log10} of each element of an image of {@link ByteType}. */
+	@Plugin(type = Ops.Math.Log10.class, priority = Priority.HIGH)
+	public static class Log10Byte extends
+		AbstractUnaryComputerOp<Img<ByteType>, Img<ByteType>> implements Ops.Math.Log10,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<ByteType> input, final Img<ByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (byte) Saturation.round(Math.log10(x), Byte.MIN_VALUE, Byte.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ByteType &&
+				out().firstElement() instanceof ByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Log2} of each element of an image of {@link ByteType}. */
+	@Plugin(type = Ops.Math.Log2.class, priority = Priority.HIGH)
+	public static class Log2Byte extends
+		AbstractUnaryComputerOp<Img<ByteType>, Img<ByteType>> implements Ops.Math.Log2,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<ByteType> input, final Img<ByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (byte) Saturation.round(Math.log(x) / Math.log(2), Byte.MIN_VALUE, Byte.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ByteType &&
+				out().firstElement() instanceof ByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.LogOnePlusX} of each element of an image of {@link ByteType}. */
+	@Plugin(type = Ops.Math.LogOnePlusX.class, priority = Priority.HIGH)
+	public static class LogOnePlusXByte extends
+		AbstractUnaryComputerOp<Img<ByteType>, Img<ByteType>> implements Ops.Math.LogOnePlusX,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<ByteType> input, final Img<ByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (byte) Saturation.round(Math.log1p(x), Byte.MIN_VALUE, Byte.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ByteType &&
+				out().firstElement() instanceof ByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Max} of each element of an image of {@link ByteType}. */
+	@Plugin(type = Ops.Math.Max.class, priority = Priority.HIGH)
+	public static class MaxByte extends
+		AbstractUnaryComputerOp<Img<ByteType>, Img<ByteType>> implements Ops.Math.Max,
+		Contingent
+	{
+
+		@Parameter
+		private double constant;
+
+		@Override
+		public void compute(final Img<ByteType> input, final Img<ByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (byte) Saturation.round(x < constant ? x : constant, Byte.MIN_VALUE, Byte.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ByteType &&
+				out().firstElement() instanceof ByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Min} of each element of an image of {@link ByteType}. */
+	@Plugin(type = Ops.Math.Min.class, priority = Priority.HIGH)
+	public static class MinByte extends
+		AbstractUnaryComputerOp<Img<ByteType>, Img<ByteType>> implements Ops.Math.Min,
+		Contingent
+	{
+
+		@Parameter
+		private double constant;
+
+		@Override
+		public void compute(final Img<ByteType> input, final Img<ByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (byte) Saturation.round(x > constant ? x : constant, Byte.MIN_VALUE, Byte.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ByteType &&
+				out().firstElement() instanceof ByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.NearestInt} of each element of an image of {@link ByteType}. */
+	@Plugin(type = Ops.Math.NearestInt.class, priority = Priority.HIGH)
+	public static class NearestIntByte extends
+		AbstractUnaryComputerOp<Img<ByteType>, Img<ByteType>> implements Ops.Math.NearestInt,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<ByteType> input, final Img<ByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (byte) Saturation.round(Math.rint(x), Byte.MIN_VALUE, Byte.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ByteType &&
+				out().firstElement() instanceof ByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Negate} of each element of an image of {@link ByteType}. */
+	@Plugin(type = Ops.Math.Negate.class, priority = Priority.HIGH)
+	public static class NegateByte extends
+		AbstractUnaryComputerOp<Img<ByteType>, Img<ByteType>> implements Ops.Math.Negate,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<ByteType> input, final Img<ByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (byte) Saturation.round(-x, Byte.MIN_VALUE, Byte.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ByteType &&
+				out().firstElement() instanceof ByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Power} of each element of an image of {@link ByteType}. */
+	@Plugin(type = Ops.Math.Power.class, priority = Priority.HIGH)
+	public static class PowerByte extends
+		AbstractUnaryComputerOp<Img<ByteType>, Img<ByteType>> implements Ops.Math.Power,
+		Contingent
+	{
+
+		@Parameter
+		private double constant;
+
+		@Override
+		public void compute(final Img<ByteType> input, final Img<ByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (byte) Saturation.round(Math.pow(x, constant), Byte.MIN_VALUE, Byte.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ByteType &&
+				out().firstElement() instanceof ByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Reciprocal} of each element of an image of {@link ByteType}. */
+	@Plugin(type = Ops.Math.Reciprocal.class, priority = Priority.HIGH)
+	public static class ReciprocalByte extends
+		AbstractUnaryComputerOp<Img<ByteType>, Img<ByteType>> implements Ops.Math.Reciprocal,
+		Contingent
+	{
+
+		@Parameter
+		private double dbzVal;
+
+		@Override
+		public void compute(final Img<ByteType> input, final Img<ByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (byte) Saturation.round(x == 0 ? dbzVal : 1.0 / x, Byte.MIN_VALUE, Byte.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ByteType &&
+				out().firstElement() instanceof ByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Round} of each element of an image of {@link ByteType}. */
+	@Plugin(type = Ops.Math.Round.class, priority = Priority.HIGH)
+	public static class RoundByte extends
+		AbstractUnaryComputerOp<Img<ByteType>, Img<ByteType>> implements Ops.Math.Round,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<ByteType> input, final Img<ByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (byte) Saturation.round((double) Math.round(x), Byte.MIN_VALUE, Byte.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ByteType &&
+				out().firstElement() instanceof ByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Sec} of each element of an image of {@link ByteType}. */
+	@Plugin(type = Ops.Math.Sec.class, priority = Priority.HIGH)
+	public static class SecByte extends
+		AbstractUnaryComputerOp<Img<ByteType>, Img<ByteType>> implements Ops.Math.Sec,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<ByteType> input, final Img<ByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (byte) Saturation.round(1.0 / Math.cos(x), Byte.MIN_VALUE, Byte.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ByteType &&
+				out().firstElement() instanceof ByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Sech} of each element of an image of {@link ByteType}. */
+	@Plugin(type = Ops.Math.Sech.class, priority = Priority.HIGH)
+	public static class SechByte extends
+		AbstractUnaryComputerOp<Img<ByteType>, Img<ByteType>> implements Ops.Math.Sech,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<ByteType> input, final Img<ByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (byte) Saturation.round(1.0 / Math.cosh(x), Byte.MIN_VALUE, Byte.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ByteType &&
+				out().firstElement() instanceof ByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Signum} of each element of an image of {@link ByteType}. */
+	@Plugin(type = Ops.Math.Signum.class, priority = Priority.HIGH)
+	public static class SignumByte extends
+		AbstractUnaryComputerOp<Img<ByteType>, Img<ByteType>> implements Ops.Math.Signum,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<ByteType> input, final Img<ByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (byte) Saturation.round(Math.signum(x), Byte.MIN_VALUE, Byte.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ByteType &&
+				out().firstElement() instanceof ByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Sin} of each element of an image of {@link ByteType}. */
+	@Plugin(type = Ops.Math.Sin.class, priority = Priority.HIGH)
+	public static class SinByte extends
+		AbstractUnaryComputerOp<Img<ByteType>, Img<ByteType>> implements Ops.Math.Sin,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<ByteType> input, final Img<ByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (byte) Saturation.round(Math.sin(x), Byte.MIN_VALUE, Byte.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ByteType &&
+				out().firstElement() instanceof ByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Sinc} of each element of an image of {@link ByteType}. */
+	@Plugin(type = Ops.Math.Sinc.class, priority = Priority.HIGH)
+	public static class SincByte extends
+		AbstractUnaryComputerOp<Img<ByteType>, Img<ByteType>> implements Ops.Math.Sinc,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<ByteType> input, final Img<ByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (byte) Saturation.round(x == 0 ? 1 : Math.sin(x) / x, Byte.MIN_VALUE, Byte.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ByteType &&
+				out().firstElement() instanceof ByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.SincPi} of each element of an image of {@link ByteType}. */
+	@Plugin(type = Ops.Math.SincPi.class, priority = Priority.HIGH)
+	public static class SincPiByte extends
+		AbstractUnaryComputerOp<Img<ByteType>, Img<ByteType>> implements Ops.Math.SincPi,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<ByteType> input, final Img<ByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (byte) Saturation.round(x == 0 ? 1 : Math.sin(Math.PI * x) / (Math.PI * x), Byte.MIN_VALUE, Byte.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ByteType &&
+				out().firstElement() instanceof ByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Sinh} of each element of an image of {@link ByteType}. */
+	@Plugin(type = Ops.Math.Sinh.class, priority = Priority.HIGH)
+	public static class SinhByte extends
+		AbstractUnaryComputerOp<Img<ByteType>, Img<ByteType>> implements Ops.Math.Sinh,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<ByteType> input, final Img<ByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (byte) Saturation.round(Math.sinh(x), Byte.MIN_VALUE, Byte.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ByteType &&
+				out().firstElement() instanceof ByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Sqr} of each element of an image of {@link ByteType}. */
+	@Plugin(type = Ops.Math.Sqr.class, priority = Priority.HIGH)
+	public static class SqrByte extends
+		AbstractUnaryComputerOp<Img<ByteType>, Img<ByteType>> implements Ops.Math.Sqr,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<ByteType> input, final Img<ByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (byte) Saturation.round(x * x, Byte.MIN_VALUE, Byte.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ByteType &&
+				out().firstElement() instanceof ByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Sqrt} of each element of an image of {@link ByteType}. */
+	@Plugin(type = Ops.Math.Sqrt.class, priority = Priority.HIGH)
+	public static class SqrtByte extends
+		AbstractUnaryComputerOp<Img<ByteType>, Img<ByteType>> implements Ops.Math.Sqrt,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<ByteType> input, final Img<ByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (byte) Saturation.round(Math.sqrt(x), Byte.MIN_VALUE, Byte.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ByteType &&
+				out().firstElement() instanceof ByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Step} of each element of an image of {@link ByteType}. */
+	@Plugin(type = Ops.Math.Step.class, priority = Priority.HIGH)
+	public static class StepByte extends
+		AbstractUnaryComputerOp<Img<ByteType>, Img<ByteType>> implements Ops.Math.Step,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<ByteType> input, final Img<ByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (byte) Saturation.round(x < 0 ? 0 : 1, Byte.MIN_VALUE, Byte.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ByteType &&
+				out().firstElement() instanceof ByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Tan} of each element of an image of {@link ByteType}. */
+	@Plugin(type = Ops.Math.Tan.class, priority = Priority.HIGH)
+	public static class TanByte extends
+		AbstractUnaryComputerOp<Img<ByteType>, Img<ByteType>> implements Ops.Math.Tan,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<ByteType> input, final Img<ByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (byte) Saturation.round(Math.tan(x), Byte.MIN_VALUE, Byte.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ByteType &&
+				out().firstElement() instanceof ByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Tanh} of each element of an image of {@link ByteType}. */
+	@Plugin(type = Ops.Math.Tanh.class, priority = Priority.HIGH)
+	public static class TanhByte extends
+		AbstractUnaryComputerOp<Img<ByteType>, Img<ByteType>> implements Ops.Math.Tanh,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<ByteType> input, final Img<ByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (byte) Saturation.round(Math.tanh(x), Byte.MIN_VALUE, Byte.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ByteType &&
+				out().firstElement() instanceof ByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Ulp} of each element of an image of {@link ByteType}. */
+	@Plugin(type = Ops.Math.Ulp.class, priority = Priority.HIGH)
+	public static class UlpByte extends
+		AbstractUnaryComputerOp<Img<ByteType>, Img<ByteType>> implements Ops.Math.Ulp,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<ByteType> input, final Img<ByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (byte) Saturation.round(Math.ulp(x), Byte.MIN_VALUE, Byte.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ByteType &&
+				out().firstElement() instanceof ByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Add} of two images of {@link ByteType}. */
+	@Plugin(type = Ops.Math.Add.class, priority = Priority.HIGH + 1)
+	public static class AddByte extends
+		AbstractBinaryComputerOp<Img<ByteType>, Img<ByteType>, Img<ByteType>> implements
+		Ops.Math.Add, Contingent
+	{
+
+		@Override
+		public void compute(final Img<ByteType> input1, final Img<ByteType> input2,
+			final Img<ByteType> output)
+		{
+			final List<Segment> in1 = ImgSegments.segments(input1);
+			final List<Segment> in2 = ImgSegments.segments(input2);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in1.size(), s -> {
+				final Segment segment = in1.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] b = (byte[]) in2.get(s).data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					o[i] = (byte) Saturation.add(a[i], b[i], Byte.MIN_VALUE, Byte.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in1().firstElement() instanceof ByteType &&
+				in2().firstElement() instanceof ByteType &&
+				out().firstElement() instanceof ByteType && ImgSegments.aligned(in1(),
+					in2()) && ImgSegments.aligned(in1(), out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Subtract} of two images of {@link ByteType}. */
+	@Plugin(type = Ops.Math.Subtract.class, priority = Priority.HIGH + 1)
+	public static class SubtractByte extends
+		AbstractBinaryComputerOp<Img<ByteType>, Img<ByteType>, Img<ByteType>> implements
+		Ops.Math.Subtract, Contingent
+	{
+
+		@Override
+		public void compute(final Img<ByteType> input1, final Img<ByteType> input2,
+			final Img<ByteType> output)
+		{
+			final List<Segment> in1 = ImgSegments.segments(input1);
+			final List<Segment> in2 = ImgSegments.segments(input2);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in1.size(), s -> {
+				final Segment segment = in1.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] b = (byte[]) in2.get(s).data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					o[i] = (byte) Saturation.subtract(a[i], b[i], Byte.MIN_VALUE, Byte.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in1().firstElement() instanceof ByteType &&
+				in2().firstElement() instanceof ByteType &&
+				out().firstElement() instanceof ByteType && ImgSegments.aligned(in1(),
+					in2()) && ImgSegments.aligned(in1(), out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Multiply} of two images of {@link ByteType}. */
+	@Plugin(type = Ops.Math.Multiply.class, priority = Priority.HIGH + 1)
+	public static class MultiplyByte extends
+		AbstractBinaryComputerOp<Img<ByteType>, Img<ByteType>, Img<ByteType>> implements
+		Ops.Math.Multiply, Contingent
+	{
+
+		@Override
+		public void compute(final Img<ByteType> input1, final Img<ByteType> input2,
+			final Img<ByteType> output)
+		{
+			final List<Segment> in1 = ImgSegments.segments(input1);
+			final List<Segment> in2 = ImgSegments.segments(input2);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in1.size(), s -> {
+				final Segment segment = in1.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] b = (byte[]) in2.get(s).data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					o[i] = (byte) Saturation.multiply(a[i], b[i], Byte.MIN_VALUE, Byte.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in1().firstElement() instanceof ByteType &&
+				in2().firstElement() instanceof ByteType &&
+				out().firstElement() instanceof ByteType && ImgSegments.aligned(in1(),
+					in2()) && ImgSegments.aligned(in1(), out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Divide} of two images of {@link ByteType}. */
+	@Plugin(type = Ops.Math.Divide.class, priority = Priority.HIGH + 1)
+	public static class DivideByte extends
+		AbstractBinaryComputerOp<Img<ByteType>, Img<ByteType>, Img<ByteType>> implements
+		Ops.Math.Divide, Contingent
+	{
+
+		@Override
+		public void compute(final Img<ByteType> input1, final Img<ByteType> input2,
+			final Img<ByteType> output)
+		{
+			final List<Segment> in1 = ImgSegments.segments(input1);
+			final List<Segment> in2 = ImgSegments.segments(input2);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in1.size(), s -> {
+				final Segment segment = in1.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] b = (byte[]) in2.get(s).data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					o[i] = (byte) Saturation.divide(a[i], b[i], Byte.MIN_VALUE, Byte.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in1().firstElement() instanceof ByteType &&
+				in2().firstElement() instanceof ByteType &&
+				out().firstElement() instanceof ByteType && ImgSegments.aligned(in1(),
+					in2()) && ImgSegments.aligned(in1(), out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Abs} of each element of an image of {@link UnsignedByteType}. */
+	@Plugin(type = Ops.Math.Abs.class, priority = Priority.HIGH)
+	public static class AbsUnsignedByte extends
+		AbstractUnaryComputerOp<Img<UnsignedByteType>, Img<UnsignedByteType>> implements Ops.Math.Abs,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedByteType> input, final Img<UnsignedByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xff;
+					o[i] = (byte) Saturation.round(Math.abs(x), 0, 0xff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedByteType &&
+				out().firstElement() instanceof UnsignedByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arccos} of each element of an image of {@link UnsignedByteType}. */
+	@Plugin(type = Ops.Math.Arccos.class, priority = Priority.HIGH)
+	public static class ArccosUnsignedByte extends
+		AbstractUnaryComputerOp<Img<UnsignedByteType>, Img<UnsignedByteType>> implements Ops.Math.Arccos,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedByteType> input, final Img<UnsignedByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xff;
+					o[i] = (byte) Saturation.round(Math.acos(x), 0, 0xff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedByteType &&
+				out().firstElement() instanceof UnsignedByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arccosh} of each element of an image of {@link UnsignedByteType}. */
+	@Plugin(type = Ops.Math.Arccosh.class, priority = Priority.HIGH)
+	public static class ArccoshUnsignedByte extends
+		AbstractUnaryComputerOp<Img<UnsignedByteType>, Img<UnsignedByteType>> implements Ops.Math.Arccosh,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedByteType> input, final Img<UnsignedByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xff;
+					o[i] = (byte) Saturation.round(Math.log(x + (x <= -1 ? -1 : 1) * Math.sqrt(x * x - 1)), 0, 0xff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedByteType &&
+				out().firstElement() instanceof UnsignedByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arccot} of each element of an image of {@link UnsignedByteType}. */
+	@Plugin(type = Ops.Math.Arccot.class, priority = Priority.HIGH)
+	public static class ArccotUnsignedByte extends
+		AbstractUnaryComputerOp<Img<UnsignedByteType>, Img<UnsignedByteType>> implements Ops.Math.Arccot,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedByteType> input, final Img<UnsignedByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xff;
+					o[i] = (byte) Saturation.round(Math.atan(1.0 / x) + (x < 0 ? Math.PI : 0), 0, 0xff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedByteType &&
+				out().firstElement() instanceof UnsignedByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arccoth} of each element of an image of {@link UnsignedByteType}. */
+	@Plugin(type = Ops.Math.Arccoth.class, priority = Priority.HIGH)
+	public static class ArccothUnsignedByte extends
+		AbstractUnaryComputerOp<Img<UnsignedByteType>, Img<UnsignedByteType>> implements Ops.Math.Arccoth,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedByteType> input, final Img<UnsignedByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xff;
+					o[i] = (byte) Saturation.round(0.5 * Math.log((x + 1) / (x - 1)), 0, 0xff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedByteType &&
+				out().firstElement() instanceof UnsignedByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arccsch} of each element of an image of {@link UnsignedByteType}. */
+	@Plugin(type = Ops.Math.Arccsch.class, priority = Priority.HIGH)
+	public static class ArccschUnsignedByte extends
+		AbstractUnaryComputerOp<Img<UnsignedByteType>, Img<UnsignedByteType>> implements Ops.Math.Arccsch,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedByteType> input, final Img<UnsignedByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xff;
+					o[i] = (byte) Saturation.round(Math.log(1 / x + Math.sqrt(1 + 1 / (x * x))), 0, 0xff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedByteType &&
+				out().firstElement() instanceof UnsignedByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arcsech} of each element of an image of {@link UnsignedByteType}. */
+	@Plugin(type = Ops.Math.Arcsech.class, priority = Priority.HIGH)
+	public static class ArcsechUnsignedByte extends
+		AbstractUnaryComputerOp<Img<UnsignedByteType>, Img<UnsignedByteType>> implements Ops.Math.Arcsech,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedByteType> input, final Img<UnsignedByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xff;
+					o[i] = (byte) Saturation.round(Math.log((1 + Math.sqrt(1 - x * x)) / x), 0, 0xff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedByteType &&
+				out().firstElement() instanceof UnsignedByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arcsin} of each element of an image of {@link UnsignedByteType}. */
+	@Plugin(type = Ops.Math.Arcsin.class, priority = Priority.HIGH)
+	public static class ArcsinUnsignedByte extends
+		AbstractUnaryComputerOp<Img<UnsignedByteType>, Img<UnsignedByteType>> implements Ops.Math.Arcsin,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedByteType> input, final Img<UnsignedByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xff;
+					o[i] = (byte) Saturation.round(Math.asin(x), 0, 0xff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedByteType &&
+				out().firstElement() instanceof UnsignedByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arcsinh} of each element of an image of {@link UnsignedByteType}. */
+	@Plugin(type = Ops.Math.Arcsinh.class, priority = Priority.HIGH)
+	public static class ArcsinhUnsignedByte extends
+		AbstractUnaryComputerOp<Img<UnsignedByteType>, Img<UnsignedByteType>> implements Ops.Math.Arcsinh,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedByteType> input, final Img<UnsignedByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xff;
+					o[i] = (byte) Saturation.round(Math.log(x + Math.sqrt(x * x + 1)), 0, 0xff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedByteType &&
+				out().firstElement() instanceof UnsignedByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arctan} of each element of an image of {@link UnsignedByteType}. */
+	@Plugin(type = Ops.Math.Arctan.class, priority = Priority.HIGH)
+	public static class ArctanUnsignedByte extends
+		AbstractUnaryComputerOp<Img<UnsignedByteType>, Img<UnsignedByteType>> implements Ops.Math.Arctan,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedByteType> input, final Img<UnsignedByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xff;
+					o[i] = (byte) Saturation.round(Math.atan(x), 0, 0xff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedByteType &&
+				out().firstElement() instanceof UnsignedByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arctanh} of each element of an image of {@link UnsignedByteType}. */
+	@Plugin(type = Ops.Math.Arctanh.class, priority = Priority.HIGH)
+	public static class ArctanhUnsignedByte extends
+		AbstractUnaryComputerOp<Img<UnsignedByteType>, Img<UnsignedByteType>> implements Ops.Math.Arctanh,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedByteType> input, final Img<UnsignedByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xff;
+					o[i] = (byte) Saturation.round(0.5 * Math.log((1 + x) / (1 - x)), 0, 0xff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedByteType &&
+				out().firstElement() instanceof UnsignedByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Ceil} of each element of an image of {@link UnsignedByteType}. */
+	@Plugin(type = Ops.Math.Ceil.class, priority = Priority.HIGH)
+	public static class CeilUnsignedByte extends
+		AbstractUnaryComputerOp<Img<UnsignedByteType>, Img<UnsignedByteType>> implements Ops.Math.Ceil,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedByteType> input, final Img<UnsignedByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xff;
+					o[i] = (byte) Saturation.round(Math.ceil(x), 0, 0xff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedByteType &&
+				out().firstElement() instanceof UnsignedByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Cos} of each element of an image of {@link UnsignedByteType}. */
+	@Plugin(type = Ops.Math.Cos.class, priority = Priority.HIGH)
+	public static class CosUnsignedByte extends
+		AbstractUnaryComputerOp<Img<UnsignedByteType>, Img<UnsignedByteType>> implements Ops.Math.Cos,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedByteType> input, final Img<UnsignedByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xff;
+					o[i] = (byte) Saturation.round(Math.cos(x), 0, 0xff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedByteType &&
+				out().firstElement() instanceof UnsignedByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Cosh} of each element of an image of {@link UnsignedByteType}. */
+	@Plugin(type = Ops.Math.Cosh.class, priority = Priority.HIGH)
+	public static class CoshUnsignedByte extends
+		AbstractUnaryComputerOp<Img<UnsignedByteType>, Img<UnsignedByteType>> implements Ops.Math.Cosh,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedByteType> input, final Img<UnsignedByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xff;
+					o[i] = (byte) Saturation.round(Math.cosh(x), 0, 0xff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedByteType &&
+				out().firstElement() instanceof UnsignedByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Cot} of each element of an image of {@link UnsignedByteType}. */
+	@Plugin(type = Ops.Math.Cot.class, priority = Priority.HIGH)
+	public static class CotUnsignedByte extends
+		AbstractUnaryComputerOp<Img<UnsignedByteType>, Img<UnsignedByteType>> implements Ops.Math.Cot,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedByteType> input, final Img<UnsignedByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xff;
+					o[i] = (byte) Saturation.round(1.0 / Math.tan(x), 0, 0xff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedByteType &&
+				out().firstElement() instanceof UnsignedByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Coth} of each element of an image of {@link UnsignedByteType}. */
+	@Plugin(type = Ops.Math.Coth.class, priority = Priority.HIGH)
+	public static class CothUnsignedByte extends
+		AbstractUnaryComputerOp<Img<UnsignedByteType>, Img<UnsignedByteType>> implements Ops.Math.Coth,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedByteType> input, final Img<UnsignedByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xff;
+					o[i] = (byte) Saturation.round(1.0 / Math.tanh(x), 0, 0xff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedByteType &&
+				out().firstElement() instanceof UnsignedByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Csc} of each element of an image of {@link UnsignedByteType}. */
+	@Plugin(type = Ops.Math.Csc.class, priority = Priority.HIGH)
+	public static class CscUnsignedByte extends
+		AbstractUnaryComputerOp<Img<UnsignedByteType>, Img<UnsignedByteType>> implements Ops.Math.Csc,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedByteType> input, final Img<UnsignedByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xff;
+					o[i] = (byte) Saturation.round(1.0 / Math.sin(x), 0, 0xff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedByteType &&
+				out().firstElement() instanceof UnsignedByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Csch} of each element of an image of {@link UnsignedByteType}. */
+	@Plugin(type = Ops.Math.Csch.class, priority = Priority.HIGH)
+	public static class CschUnsignedByte extends
+		AbstractUnaryComputerOp<Img<UnsignedByteType>, Img<UnsignedByteType>> implements Ops.Math.Csch,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedByteType> input, final Img<UnsignedByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xff;
+					o[i] = (byte) Saturation.round(1.0 / Math.sinh(x), 0, 0xff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedByteType &&
+				out().firstElement() instanceof UnsignedByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.CubeRoot} of each element of an image of {@link UnsignedByteType}. */
+	@Plugin(type = Ops.Math.CubeRoot.class, priority = Priority.HIGH)
+	public static class CubeRootUnsignedByte extends
+		AbstractUnaryComputerOp<Img<UnsignedByteType>, Img<UnsignedByteType>> implements Ops.Math.CubeRoot,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedByteType> input, final Img<UnsignedByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xff;
+					o[i] = (byte) Saturation.round(Math.cbrt(x), 0, 0xff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedByteType &&
+				out().firstElement() instanceof UnsignedByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Exp} of each element of an image of {@link UnsignedByteType}. */
+	@Plugin(type = Ops.Math.Exp.class, priority = Priority.HIGH)
+	public static class ExpUnsignedByte extends
+		AbstractUnaryComputerOp<Img<UnsignedByteType>, Img<UnsignedByteType>> implements Ops.Math.Exp,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedByteType> input, final Img<UnsignedByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xff;
+					o[i] = (byte) Saturation.round(Math.exp(x), 0, 0xff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedByteType &&
+				out().firstElement() instanceof UnsignedByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.ExpMinusOne} of each element of an image of {@link UnsignedByteType}. */
+	@Plugin(type = Ops.Math.ExpMinusOne.class, priority = Priority.HIGH)
+	public static class ExpMinusOneUnsignedByte extends
+		AbstractUnaryComputerOp<Img<UnsignedByteType>, Img<UnsignedByteType>> implements Ops.Math.ExpMinusOne,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedByteType> input, final Img<UnsignedByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xff;
+					o[i] = (byte) Saturation.round(Math.exp(x) - 1, 0, 0xff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedByteType &&
+				out().firstElement() instanceof UnsignedByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Floor} of each element of an image of {@link UnsignedByteType}. */
+	@Plugin(type = Ops.Math.Floor.class, priority = Priority.HIGH)
+	public static class FloorUnsignedByte extends
+		AbstractUnaryComputerOp<Img<UnsignedByteType>, Img<UnsignedByteType>> implements Ops.Math.Floor,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedByteType> input, final Img<UnsignedByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xff;
+					o[i] = (byte) Saturation.round(Math.floor(x), 0, 0xff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedByteType &&
+				out().firstElement() instanceof UnsignedByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Gamma} of each element of an image of {@link UnsignedByteType}. */
+	@Plugin(type = Ops.Math.Gamma.class, priority = Priority.HIGH)
+	public static class GammaUnsignedByte extends
+		AbstractUnaryComputerOp<Img<UnsignedByteType>, Img<UnsignedByteType>> implements Ops.Math.Gamma,
+		Contingent
+	{
+
+		@Parameter
+		private double constant;
+
+		@Override
+		public void compute(final Img<UnsignedByteType> input, final Img<UnsignedByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xff;
+					o[i] = (byte) Saturation.round(x <= 0 ? 0 : Math.exp(constant * Math.log(x)), 0, 0xff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedByteType &&
+				out().firstElement() instanceof UnsignedByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Invert} of each element of an image of {@link UnsignedByteType}. */
+	@Plugin(type = Ops.Math.Invert.class, priority = Priority.HIGH)
+	public static class InvertUnsignedByte extends
+		AbstractUnaryComputerOp<Img<UnsignedByteType>, Img<UnsignedByteType>> implements Ops.Math.Invert,
+		Contingent
+	{
+
+		@Parameter
+		private double specifiedMin;
+
+		@Parameter
+		private double specifiedMax;
+
+		@Override
+		public void compute(final Img<UnsignedByteType> input, final Img<UnsignedByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xff;
+					o[i] = (byte) Saturation.round(specifiedMax - (x - specifiedMin), 0, 0xff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedByteType &&
+				out().firstElement() instanceof UnsignedByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Log} of each element of an image of {@link UnsignedByteType}. */
+	@Plugin(type = Ops.Math.Log.class, priority = Priority.HIGH)
+	public static class LogUnsignedByte extends
+		AbstractUnaryComputerOp<Img<UnsignedByteType>, Img<UnsignedByteType>> implements Ops.Math.Log,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedByteType> input, final Img<UnsignedByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xff;
+					o[i] = (byte) Saturation.round(Math.log(x), 0, 0xff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedByteType &&
+				out().firstElement() instanceof UnsignedByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Log10} of each element of an image of {@link UnsignedByteType}. */
+	@Plugin(type = Ops.Math.Log10.class, priority = Priority.HIGH)
+	public static class Log10UnsignedByte extends
+		AbstractUnaryComputerOp<Img<UnsignedByteType>, Img<UnsignedByteType>> implements Ops.Math.Log10,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedByteType> input, final Img<UnsignedByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xff;
+					o[i] = (byte) Saturation.round(Math.log10(x), 0, 0xff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedByteType &&
+				out().firstElement() instanceof UnsignedByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Log2} of each element of an image of {@link UnsignedByteType}. */
+	@Plugin(type = Ops.Math.Log2.class, priority = Priority.HIGH)
+	public static class Log2UnsignedByte extends
+		AbstractUnaryComputerOp<Img<UnsignedByteType>, Img<UnsignedByteType>> implements Ops.Math.Log2,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedByteType> input, final Img<UnsignedByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xff;
+					o[i] = (byte) Saturation.round(Math.log(x) / Math.log(2), 0, 0xff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedByteType &&
+				out().firstElement() instanceof UnsignedByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.LogOnePlusX} of each element of an image of {@link UnsignedByteType}. */
+	@Plugin(type = Ops.Math.LogOnePlusX.class, priority = Priority.HIGH)
+	public static class LogOnePlusXUnsignedByte extends
+		AbstractUnaryComputerOp<Img<UnsignedByteType>, Img<UnsignedByteType>> implements Ops.Math.LogOnePlusX,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedByteType> input, final Img<UnsignedByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xff;
+					o[i] = (byte) Saturation.round(Math.log1p(x), 0, 0xff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedByteType &&
+				out().firstElement() instanceof UnsignedByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Max} of each element of an image of {@link UnsignedByteType}. */
+	@Plugin(type = Ops.Math.Max.class, priority = Priority.HIGH)
+	public static class MaxUnsignedByte extends
+		AbstractUnaryComputerOp<Img<UnsignedByteType>, Img<UnsignedByteType>> implements Ops.Math.Max,
+		Contingent
+	{
+
+		@Parameter
+		private double constant;
+
+		@Override
+		public void compute(final Img<UnsignedByteType> input, final Img<UnsignedByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xff;
+					o[i] = (byte) Saturation.round(x < constant ? x : constant, 0, 0xff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedByteType &&
+				out().firstElement() instanceof UnsignedByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Min} of each element of an image of {@link UnsignedByteType}. */
+	@Plugin(type = Ops.Math.Min.class, priority = Priority.HIGH)
+	public static class MinUnsignedByte extends
+		AbstractUnaryComputerOp<Img<UnsignedByteType>, Img<UnsignedByteType>> implements Ops.Math.Min,
+		Contingent
+	{
+
+		@Parameter
+		private double constant;
+
+		@Override
+		public void compute(final Img<UnsignedByteType> input, final Img<UnsignedByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xff;
+					o[i] = (byte) Saturation.round(x > constant ? x : constant, 0, 0xff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedByteType &&
+				out().firstElement() instanceof UnsignedByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.NearestInt} of each element of an image of {@link UnsignedByteType}. */
+	@Plugin(type = Ops.Math.NearestInt.class, priority = Priority.HIGH)
+	public static class NearestIntUnsignedByte extends
+		AbstractUnaryComputerOp<Img<UnsignedByteType>, Img<UnsignedByteType>> implements Ops.Math.NearestInt,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedByteType> input, final Img<UnsignedByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xff;
+					o[i] = (byte) Saturation.round(Math.rint(x), 0, 0xff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedByteType &&
+				out().firstElement() instanceof UnsignedByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Negate} of each element of an image of {@link UnsignedByteType}. */
+	@Plugin(type = Ops.Math.Negate.class, priority = Priority.HIGH)
+	public static class NegateUnsignedByte extends
+		AbstractUnaryComputerOp<Img<UnsignedByteType>, Img<UnsignedByteType>> implements Ops.Math.Negate,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedByteType> input, final Img<UnsignedByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xff;
+					o[i] = (byte) Saturation.round(-x, 0, 0xff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedByteType &&
+				out().firstElement() instanceof UnsignedByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Power} of each element of an image of {@link UnsignedByteType}. */
+	@Plugin(type = Ops.Math.Power.class, priority = Priority.HIGH)
+	public static class PowerUnsignedByte extends
+		AbstractUnaryComputerOp<Img<UnsignedByteType>, Img<UnsignedByteType>> implements Ops.Math.Power,
+		Contingent
+	{
+
+		@Parameter
+		private double constant;
+
+		@Override
+		public void compute(final Img<UnsignedByteType> input, final Img<UnsignedByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xff;
+					o[i] = (byte) Saturation.round(Math.pow(x, constant), 0, 0xff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedByteType &&
+				out().firstElement() instanceof UnsignedByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Reciprocal} of each element of an image of {@link UnsignedByteType}. */
+	@Plugin(type = Ops.Math.Reciprocal.class, priority = Priority.HIGH)
+	public static class ReciprocalUnsignedByte extends
+		AbstractUnaryComputerOp<Img<UnsignedByteType>, Img<UnsignedByteType>> implements Ops.Math.Reciprocal,
+		Contingent
+	{
+
+		@Parameter
+		private double dbzVal;
+
+		@Override
+		public void compute(final Img<UnsignedByteType> input, final Img<UnsignedByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xff;
+					o[i] = (byte) Saturation.round(x == 0 ? dbzVal : 1.0 / x, 0, 0xff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedByteType &&
+				out().firstElement() instanceof UnsignedByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Round} of each element of an image of {@link UnsignedByteType}. */
+	@Plugin(type = Ops.Math.Round.class, priority = Priority.HIGH)
+	public static class RoundUnsignedByte extends
+		AbstractUnaryComputerOp<Img<UnsignedByteType>, Img<UnsignedByteType>> implements Ops.Math.Round,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedByteType> input, final Img<UnsignedByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xff;
+					o[i] = (byte) Saturation.round((double) Math.round(x), 0, 0xff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedByteType &&
+				out().firstElement() instanceof UnsignedByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Sec} of each element of an image of {@link UnsignedByteType}. */
+	@Plugin(type = Ops.Math.Sec.class, priority = Priority.HIGH)
+	public static class SecUnsignedByte extends
+		AbstractUnaryComputerOp<Img<UnsignedByteType>, Img<UnsignedByteType>> implements Ops.Math.Sec,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedByteType> input, final Img<UnsignedByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xff;
+					o[i] = (byte) Saturation.round(1.0 / Math.cos(x), 0, 0xff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedByteType &&
+				out().firstElement() instanceof UnsignedByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Sech} of each element of an image of {@link UnsignedByteType}. */
+	@Plugin(type = Ops.Math.Sech.class, priority = Priority.HIGH)
+	public static class SechUnsignedByte extends
+		AbstractUnaryComputerOp<Img<UnsignedByteType>, Img<UnsignedByteType>> implements Ops.Math.Sech,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedByteType> input, final Img<UnsignedByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xff;
+					o[i] = (byte) Saturation.round(1.0 / Math.cosh(x), 0, 0xff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedByteType &&
+				out().firstElement() instanceof UnsignedByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Signum} of each element of an image of {@link UnsignedByteType}. */
+	@Plugin(type = Ops.Math.Signum.class, priority = Priority.HIGH)
+	public static class SignumUnsignedByte extends
+		AbstractUnaryComputerOp<Img<UnsignedByteType>, Img<UnsignedByteType>> implements Ops.Math.Signum,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedByteType> input, final Img<UnsignedByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xff;
+					o[i] = (byte) Saturation.round(Math.signum(x), 0, 0xff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedByteType &&
+				out().firstElement() instanceof UnsignedByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Sin} of each element of an image of {@link UnsignedByteType}. */
+	@Plugin(type = Ops.Math.Sin.class, priority = Priority.HIGH)
+	public static class SinUnsignedByte extends
+		AbstractUnaryComputerOp<Img<UnsignedByteType>, Img<UnsignedByteType>> implements Ops.Math.Sin,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedByteType> input, final Img<UnsignedByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xff;
+					o[i] = (byte) Saturation.round(Math.sin(x), 0, 0xff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedByteType &&
+				out().firstElement() instanceof UnsignedByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Sinc} of each element of an image of {@link UnsignedByteType}. */
+	@Plugin(type = Ops.Math.Sinc.class, priority = Priority.HIGH)
+	public static class SincUnsignedByte extends
+		AbstractUnaryComputerOp<Img<UnsignedByteType>, Img<UnsignedByteType>> implements Ops.Math.Sinc,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedByteType> input, final Img<UnsignedByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xff;
+					o[i] = (byte) Saturation.round(x == 0 ? 1 : Math.sin(x) / x, 0, 0xff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedByteType &&
+				out().firstElement() instanceof UnsignedByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.SincPi} of each element of an image of {@link UnsignedByteType}. */
+	@Plugin(type = Ops.Math.SincPi.class, priority = Priority.HIGH)
+	public static class SincPiUnsignedByte extends
+		AbstractUnaryComputerOp<Img<UnsignedByteType>, Img<UnsignedByteType>> implements Ops.Math.SincPi,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedByteType> input, final Img<UnsignedByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xff;
+					o[i] = (byte) Saturation.round(x == 0 ? 1 : Math.sin(Math.PI * x) / (Math.PI * x), 0, 0xff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedByteType &&
+				out().firstElement() instanceof UnsignedByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Sinh} of each element of an image of {@link UnsignedByteType}. */
+	@Plugin(type = Ops.Math.Sinh.class, priority = Priority.HIGH)
+	public static class SinhUnsignedByte extends
+		AbstractUnaryComputerOp<Img<UnsignedByteType>, Img<UnsignedByteType>> implements Ops.Math.Sinh,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedByteType> input, final Img<UnsignedByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xff;
+					o[i] = (byte) Saturation.round(Math.sinh(x), 0, 0xff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedByteType &&
+				out().firstElement() instanceof UnsignedByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Sqr} of each element of an image of {@link UnsignedByteType}. */
+	@Plugin(type = Ops.Math.Sqr.class, priority = Priority.HIGH)
+	public static class SqrUnsignedByte extends
+		AbstractUnaryComputerOp<Img<UnsignedByteType>, Img<UnsignedByteType>> implements Ops.Math.Sqr,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedByteType> input, final Img<UnsignedByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xff;
+					o[i] = (byte) Saturation.round(x * x, 0, 0xff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedByteType &&
+				out().firstElement() instanceof UnsignedByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Sqrt} of each element of an image of {@link UnsignedByteType}. */
+	@Plugin(type = Ops.Math.Sqrt.class, priority = Priority.HIGH)
+	public static class SqrtUnsignedByte extends
+		AbstractUnaryComputerOp<Img<UnsignedByteType>, Img<UnsignedByteType>> implements Ops.Math.Sqrt,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedByteType> input, final Img<UnsignedByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xff;
+					o[i] = (byte) Saturation.round(Math.sqrt(x), 0, 0xff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedByteType &&
+				out().firstElement() instanceof UnsignedByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Step} of each element of an image of {@link UnsignedByteType}. */
+	@Plugin(type = Ops.Math.Step.class, priority = Priority.HIGH)
+	public static class StepUnsignedByte extends
+		AbstractUnaryComputerOp<Img<UnsignedByteType>, Img<UnsignedByteType>> implements Ops.Math.Step,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedByteType> input, final Img<UnsignedByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xff;
+					o[i] = (byte) Saturation.round(x < 0 ? 0 : 1, 0, 0xff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedByteType &&
+				out().firstElement() instanceof UnsignedByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Tan} of each element of an image of {@link UnsignedByteType}. */
+	@Plugin(type = Ops.Math.Tan.class, priority = Priority.HIGH)
+	public static class TanUnsignedByte extends
+		AbstractUnaryComputerOp<Img<UnsignedByteType>, Img<UnsignedByteType>> implements Ops.Math.Tan,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedByteType> input, final Img<UnsignedByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xff;
+					o[i] = (byte) Saturation.round(Math.tan(x), 0, 0xff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedByteType &&
+				out().firstElement() instanceof UnsignedByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Tanh} of each element of an image of {@link UnsignedByteType}. */
+	@Plugin(type = Ops.Math.Tanh.class, priority = Priority.HIGH)
+	public static class TanhUnsignedByte extends
+		AbstractUnaryComputerOp<Img<UnsignedByteType>, Img<UnsignedByteType>> implements Ops.Math.Tanh,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedByteType> input, final Img<UnsignedByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xff;
+					o[i] = (byte) Saturation.round(Math.tanh(x), 0, 0xff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedByteType &&
+				out().firstElement() instanceof UnsignedByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Ulp} of each element of an image of {@link UnsignedByteType}. */
+	@Plugin(type = Ops.Math.Ulp.class, priority = Priority.HIGH)
+	public static class UlpUnsignedByte extends
+		AbstractUnaryComputerOp<Img<UnsignedByteType>, Img<UnsignedByteType>> implements Ops.Math.Ulp,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedByteType> input, final Img<UnsignedByteType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xff;
+					o[i] = (byte) Saturation.round(Math.ulp(x), 0, 0xff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedByteType &&
+				out().firstElement() instanceof UnsignedByteType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Add} of two images of {@link UnsignedByteType}. */
+	@Plugin(type = Ops.Math.Add.class, priority = Priority.HIGH + 1)
+	public static class AddUnsignedByte extends
+		AbstractBinaryComputerOp<Img<UnsignedByteType>, Img<UnsignedByteType>, Img<UnsignedByteType>> implements
+		Ops.Math.Add, Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedByteType> input1, final Img<UnsignedByteType> input2,
+			final Img<UnsignedByteType> output)
+		{
+			final List<Segment> in1 = ImgSegments.segments(input1);
+			final List<Segment> in2 = ImgSegments.segments(input2);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in1.size(), s -> {
+				final Segment segment = in1.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] b = (byte[]) in2.get(s).data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					o[i] = (byte) Saturation.add(a[i] & 0xff, b[i] & 0xff, 0, 0xff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in1().firstElement() instanceof UnsignedByteType &&
+				in2().firstElement() instanceof UnsignedByteType &&
+				out().firstElement() instanceof UnsignedByteType && ImgSegments.aligned(in1(),
+					in2()) && ImgSegments.aligned(in1(), out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Subtract} of two images of {@link UnsignedByteType}. */
+	@Plugin(type = Ops.Math.Subtract.class, priority = Priority.HIGH + 1)
+	public static class SubtractUnsignedByte extends
+		AbstractBinaryComputerOp<Img<UnsignedByteType>, Img<UnsignedByteType>, Img<UnsignedByteType>> implements
+		Ops.Math.Subtract, Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedByteType> input1, final Img<UnsignedByteType> input2,
+			final Img<UnsignedByteType> output)
+		{
+			final List<Segment> in1 = ImgSegments.segments(input1);
+			final List<Segment> in2 = ImgSegments.segments(input2);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in1.size(), s -> {
+				final Segment segment = in1.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] b = (byte[]) in2.get(s).data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					o[i] = (byte) Saturation.subtract(a[i] & 0xff, b[i] & 0xff, 0, 0xff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in1().firstElement() instanceof UnsignedByteType &&
+				in2().firstElement() instanceof UnsignedByteType &&
+				out().firstElement() instanceof UnsignedByteType && ImgSegments.aligned(in1(),
+					in2()) && ImgSegments.aligned(in1(), out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Multiply} of two images of {@link UnsignedByteType}. */
+	@Plugin(type = Ops.Math.Multiply.class, priority = Priority.HIGH + 1)
+	public static class MultiplyUnsignedByte extends
+		AbstractBinaryComputerOp<Img<UnsignedByteType>, Img<UnsignedByteType>, Img<UnsignedByteType>> implements
+		Ops.Math.Multiply, Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedByteType> input1, final Img<UnsignedByteType> input2,
+			final Img<UnsignedByteType> output)
+		{
+			final List<Segment> in1 = ImgSegments.segments(input1);
+			final List<Segment> in2 = ImgSegments.segments(input2);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in1.size(), s -> {
+				final Segment segment = in1.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] b = (byte[]) in2.get(s).data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					o[i] = (byte) Saturation.multiply(a[i] & 0xff, b[i] & 0xff, 0, 0xff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in1().firstElement() instanceof UnsignedByteType &&
+				in2().firstElement() instanceof UnsignedByteType &&
+				out().firstElement() instanceof UnsignedByteType && ImgSegments.aligned(in1(),
+					in2()) && ImgSegments.aligned(in1(), out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Divide} of two images of {@link UnsignedByteType}. */
+	@Plugin(type = Ops.Math.Divide.class, priority = Priority.HIGH + 1)
+	public static class DivideUnsignedByte extends
+		AbstractBinaryComputerOp<Img<UnsignedByteType>, Img<UnsignedByteType>, Img<UnsignedByteType>> implements
+		Ops.Math.Divide, Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedByteType> input1, final Img<UnsignedByteType> input2,
+			final Img<UnsignedByteType> output)
+		{
+			final List<Segment> in1 = ImgSegments.segments(input1);
+			final List<Segment> in2 = ImgSegments.segments(input2);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in1.size(), s -> {
+				final Segment segment = in1.get(s);
+				final byte[] a = (byte[]) segment.data;
+				final byte[] b = (byte[]) in2.get(s).data;
+				final byte[] o = (byte[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					o[i] = (byte) Saturation.divide(a[i] & 0xff, b[i] & 0xff, 0, 0xff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in1().firstElement() instanceof UnsignedByteType &&
+				in2().firstElement() instanceof UnsignedByteType &&
+				out().firstElement() instanceof UnsignedByteType && ImgSegments.aligned(in1(),
+					in2()) && ImgSegments.aligned(in1(), out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Abs} of each element of an image of {@link ShortType}. */
+	@Plugin(type = Ops.Math.Abs.class, priority = Priority.HIGH)
+	public static class AbsShort extends
+		AbstractUnaryComputerOp<Img<ShortType>, Img<ShortType>> implements Ops.Math.Abs,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<ShortType> input, final Img<ShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (short) Saturation.round(Math.abs(x), Short.MIN_VALUE, Short.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ShortType &&
+				out().firstElement() instanceof ShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arccos} of each element of an image of {@link ShortType}. */
+	@Plugin(type = Ops.Math.Arccos.class, priority = Priority.HIGH)
+	public static class ArccosShort extends
+		AbstractUnaryComputerOp<Img<ShortType>, Img<ShortType>> implements Ops.Math.Arccos,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<ShortType> input, final Img<ShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (short) Saturation.round(Math.acos(x), Short.MIN_VALUE, Short.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ShortType &&
+				out().firstElement() instanceof ShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arccosh} of each element of an image of {@link ShortType}. */
+	@Plugin(type = Ops.Math.Arccosh.class, priority = Priority.HIGH)
+	public static class ArccoshShort extends
+		AbstractUnaryComputerOp<Img<ShortType>, Img<ShortType>> implements Ops.Math.Arccosh,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<ShortType> input, final Img<ShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (short) Saturation.round(Math.log(x + (x <= -1 ? -1 : 1) * Math.sqrt(x * x - 1)), Short.MIN_VALUE, Short.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ShortType &&
+				out().firstElement() instanceof ShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arccot} of each element of an image of {@link ShortType}. */
+	@Plugin(type = Ops.Math.Arccot.class, priority = Priority.HIGH)
+	public static class ArccotShort extends
+		AbstractUnaryComputerOp<Img<ShortType>, Img<ShortType>> implements Ops.Math.Arccot,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<ShortType> input, final Img<ShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (short) Saturation.round(Math.atan(1.0 / x) + (x < 0 ? Math.PI : 0), Short.MIN_VALUE, Short.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ShortType &&
+				out().firstElement() instanceof ShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arccoth} of each element of an image of {@link ShortType}. */
+	@Plugin(type = Ops.Math.Arccoth.class, priority = Priority.HIGH)
+	public static class ArccothShort extends
+		AbstractUnaryComputerOp<Img<ShortType>, Img<ShortType>> implements Ops.Math.Arccoth,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<ShortType> input, final Img<ShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (short) Saturation.round(0.5 * Math.log((x + 1) / (x - 1)), Short.MIN_VALUE, Short.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ShortType &&
+				out().firstElement() instanceof ShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arccsch} of each element of an image of {@link ShortType}. */
+	@Plugin(type = Ops.Math.Arccsch.class, priority = Priority.HIGH)
+	public static class ArccschShort extends
+		AbstractUnaryComputerOp<Img<ShortType>, Img<ShortType>> implements Ops.Math.Arccsch,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<ShortType> input, final Img<ShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (short) Saturation.round(Math.log(1 / x + Math.sqrt(1 + 1 / (x * x))), Short.MIN_VALUE, Short.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ShortType &&
+				out().firstElement() instanceof ShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arcsech} of each element of an image of {@link ShortType}. */
+	@Plugin(type = Ops.Math.Arcsech.class, priority = Priority.HIGH)
+	public static class ArcsechShort extends
+		AbstractUnaryComputerOp<Img<ShortType>, Img<ShortType>> implements Ops.Math.Arcsech,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<ShortType> input, final Img<ShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (short) Saturation.round(Math.log((1 + Math.sqrt(1 - x * x)) / x), Short.MIN_VALUE, Short.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ShortType &&
+				out().firstElement() instanceof ShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arcsin} of each element of an image of {@link ShortType}. */
+	@Plugin(type = Ops.Math.Arcsin.class, priority = Priority.HIGH)
+	public static class ArcsinShort extends
+		AbstractUnaryComputerOp<Img<ShortType>, Img<ShortType>> implements Ops.Math.Arcsin,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<ShortType> input, final Img<ShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (short) Saturation.round(Math.asin(x), Short.MIN_VALUE, Short.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ShortType &&
+				out().firstElement() instanceof ShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arcsinh} of each element of an image of {@link ShortType}. */
+	@Plugin(type = Ops.Math.Arcsinh.class, priority = Priority.HIGH)
+	public static class ArcsinhShort extends
+		AbstractUnaryComputerOp<Img<ShortType>, Img<ShortType>> implements Ops.Math.Arcsinh,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<ShortType> input, final Img<ShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (short) Saturation.round(Math.log(x + Math.sqrt(x * x + 1)), Short.MIN_VALUE, Short.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ShortType &&
+				out().firstElement() instanceof ShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arctan} of each element of an image of {@link ShortType}. */
+	@Plugin(type = Ops.Math.Arctan.class, priority = Priority.HIGH)
+	public static class ArctanShort extends
+		AbstractUnaryComputerOp<Img<ShortType>, Img<ShortType>> implements Ops.Math.Arctan,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<ShortType> input, final Img<ShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (short) Saturation.round(Math.atan(x), Short.MIN_VALUE, Short.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ShortType &&
+				out().firstElement() instanceof ShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arctanh} of each element of an image of {@link ShortType}. */
+	@Plugin(type = Ops.Math.Arctanh.class, priority = Priority.HIGH)
+	public static class ArctanhShort extends
+		AbstractUnaryComputerOp<Img<ShortType>, Img<ShortType>> implements Ops.Math.Arctanh,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<ShortType> input, final Img<ShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (short) Saturation.round(0.5 * Math.log((1 + x) / (1 - x)), Short.MIN_VALUE, Short.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ShortType &&
+				out().firstElement() instanceof ShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Ceil} of each element of an image of {@link ShortType}. */
+	@Plugin(type = Ops.Math.Ceil.class, priority = Priority.HIGH)
+	public static class CeilShort extends
+		AbstractUnaryComputerOp<Img<ShortType>, Img<ShortType>> implements Ops.Math.Ceil,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<ShortType> input, final Img<ShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (short) Saturation.round(Math.ceil(x), Short.MIN_VALUE, Short.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ShortType &&
+				out().firstElement() instanceof ShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Cos} of each element of an image of {@link ShortType}. */
+	@Plugin(type = Ops.Math.Cos.class, priority = Priority.HIGH)
+	public static class CosShort extends
+		AbstractUnaryComputerOp<Img<ShortType>, Img<ShortType>> implements Ops.Math.Cos,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<ShortType> input, final Img<ShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (short) Saturation.round(Math.cos(x), Short.MIN_VALUE, Short.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ShortType &&
+				out().firstElement() instanceof ShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Cosh} of each element of an image of {@link ShortType}. */
+	@Plugin(type = Ops.Math.Cosh.class, priority = Priority.HIGH)
+	public static class CoshShort extends
+		AbstractUnaryComputerOp<Img<ShortType>, Img<ShortType>> implements Ops.Math.Cosh,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<ShortType> input, final Img<ShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (short) Saturation.round(Math.cosh(x), Short.MIN_VALUE, Short.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ShortType &&
+				out().firstElement() instanceof ShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Cot} of each element of an image of {@link ShortType}. */
+	@Plugin(type = Ops.Math.Cot.class, priority = Priority.HIGH)
+	public static class CotShort extends
+		AbstractUnaryComputerOp<Img<ShortType>, Img<ShortType>> implements Ops.Math.Cot,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<ShortType> input, final Img<ShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (short) Saturation.round(1.0 / Math.tan(x), Short.MIN_VALUE, Short.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ShortType &&
+				out().firstElement() instanceof ShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Coth} of each element of an image of {@link ShortType}. */
+	@Plugin(type = Ops.Math.Coth.class, priority = Priority.HIGH)
+	public static class CothShort extends
+		AbstractUnaryComputerOp<Img<ShortType>, Img<ShortType>> implements Ops.Math.Coth,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<ShortType> input, final Img<ShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (short) Saturation.round(1.0 / Math.tanh(x), Short.MIN_VALUE, Short.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ShortType &&
+				out().firstElement() instanceof ShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Csc} of each element of an image of {@link ShortType}. */
+	@Plugin(type = Ops.Math.Csc.class, priority = Priority.HIGH)
+	public static class CscShort extends
+		AbstractUnaryComputerOp<Img<ShortType>, Img<ShortType>> implements Ops.Math.Csc,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<ShortType> input, final Img<ShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (short) Saturation.round(1.0 / Math.sin(x), Short.MIN_VALUE, Short.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ShortType &&
+				out().firstElement() instanceof ShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Csch} of each element of an image of {@link ShortType}. */
+	@Plugin(type = Ops.Math.Csch.class, priority = Priority.HIGH)
+	public static class CschShort extends
+		AbstractUnaryComputerOp<Img<ShortType>, Img<ShortType>> implements Ops.Math.Csch,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<ShortType> input, final Img<ShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (short) Saturation.round(1.0 / Math.sinh(x), Short.MIN_VALUE, Short.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ShortType &&
+				out().firstElement() instanceof ShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.CubeRoot} of each element of an image of {@link ShortType}. */
+	@Plugin(type = Ops.Math.CubeRoot.class, priority = Priority.HIGH)
+	public static class CubeRootShort extends
+		AbstractUnaryComputerOp<Img<ShortType>, Img<ShortType>> implements Ops.Math.CubeRoot,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<ShortType> input, final Img<ShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (short) Saturation.round(Math.cbrt(x), Short.MIN_VALUE, Short.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ShortType &&
+				out().firstElement() instanceof ShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Exp} of each element of an image of {@link ShortType}. */
+	@Plugin(type = Ops.Math.Exp.class, priority = Priority.HIGH)
+	public static class ExpShort extends
+		AbstractUnaryComputerOp<Img<ShortType>, Img<ShortType>> implements Ops.Math.Exp,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<ShortType> input, final Img<ShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (short) Saturation.round(Math.exp(x), Short.MIN_VALUE, Short.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ShortType &&
+				out().firstElement() instanceof ShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.ExpMinusOne} of each element of an image of {@link ShortType}. */
+	@Plugin(type = Ops.Math.ExpMinusOne.class, priority = Priority.HIGH)
+	public static class ExpMinusOneShort extends
+		AbstractUnaryComputerOp<Img<ShortType>, Img<ShortType>> implements Ops.Math.ExpMinusOne,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<ShortType> input, final Img<ShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (short) Saturation.round(Math.exp(x) - 1, Short.MIN_VALUE, Short.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ShortType &&
+				out().firstElement() instanceof ShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Floor} of each element of an image of {@link ShortType}. */
+	@Plugin(type = Ops.Math.Floor.class, priority = Priority.HIGH)
+	public static class FloorShort extends
+		AbstractUnaryComputerOp<Img<ShortType>, Img<ShortType>> implements Ops.Math.Floor,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<ShortType> input, final Img<ShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (short) Saturation.round(Math.floor(x), Short.MIN_VALUE, Short.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ShortType &&
+				out().firstElement() instanceof ShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Gamma} of each element of an image of {@link ShortType}. */
+	@Plugin(type = Ops.Math.Gamma.class, priority = Priority.HIGH)
+	public static class GammaShort extends
+		AbstractUnaryComputerOp<Img<ShortType>, Img<ShortType>> implements Ops.Math.Gamma,
+		Contingent
+	{
+
+		@Parameter
+		private double constant;
+
+		@Override
+		public void compute(final Img<ShortType> input, final Img<ShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (short) Saturation.round(x <= 0 ? 0 : Math.exp(constant * Math.log(x)), Short.MIN_VALUE, Short.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ShortType &&
+				out().firstElement() instanceof ShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Invert} of each element of an image of {@link ShortType}. */
+	@Plugin(type = Ops.Math.Invert.class, priority = Priority.HIGH)
+	public static class InvertShort extends
+		AbstractUnaryComputerOp<Img<ShortType>, Img<ShortType>> implements Ops.Math.Invert,
+		Contingent
+	{
+
+		@Parameter
+		private double specifiedMin;
+
+		@Parameter
+		private double specifiedMax;
+
+		@Override
+		public void compute(final Img<ShortType> input, final Img<ShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (short) Saturation.round(specifiedMax - (x - specifiedMin), Short.MIN_VALUE, Short.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ShortType &&
+				out().firstElement() instanceof ShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Log} of each element of an image of {@link ShortType}. */
+	@Plugin(type = Ops.Math.Log.class, priority = Priority.HIGH)
+	public static class LogShort extends
+		AbstractUnaryComputerOp<Img<ShortType>, Img<ShortType>> implements Ops.Math.Log,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<ShortType> input, final Img<ShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (short) Saturation.round(Math.log(x), Short.MIN_VALUE, Short.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ShortType &&
+				out().firstElement() instanceof ShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Log10} of each element of an image of {@link ShortType}. */
+	@Plugin(type = Ops.Math.Log10.class, priority = Priority.HIGH)
+	public static class Log10Short extends
+		AbstractUnaryComputerOp<Img<ShortType>, Img<ShortType>> implements Ops.Math.Log10,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<ShortType> input, final Img<ShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (short) Saturation.round(Math.log10(x), Short.MIN_VALUE, Short.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ShortType &&
+				out().firstElement() instanceof ShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Log2} of each element of an image of {@link ShortType}. */
+	@Plugin(type = Ops.Math.Log2.class, priority = Priority.HIGH)
+	public static class Log2Short extends
+		AbstractUnaryComputerOp<Img<ShortType>, Img<ShortType>> implements Ops.Math.Log2,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<ShortType> input, final Img<ShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (short) Saturation.round(Math.log(x) / Math.log(2), Short.MIN_VALUE, Short.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ShortType &&
+				out().firstElement() instanceof ShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.LogOnePlusX} of each element of an image of {@link ShortType}. */
+	@Plugin(type = Ops.Math.LogOnePlusX.class, priority = Priority.HIGH)
+	public static class LogOnePlusXShort extends
+		AbstractUnaryComputerOp<Img<ShortType>, Img<ShortType>> implements Ops.Math.LogOnePlusX,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<ShortType> input, final Img<ShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (short) Saturation.round(Math.log1p(x), Short.MIN_VALUE, Short.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ShortType &&
+				out().firstElement() instanceof ShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Max} of each element of an image of {@link ShortType}. */
+	@Plugin(type = Ops.Math.Max.class, priority = Priority.HIGH)
+	public static class MaxShort extends
+		AbstractUnaryComputerOp<Img<ShortType>, Img<ShortType>> implements Ops.Math.Max,
+		Contingent
+	{
+
+		@Parameter
+		private double constant;
+
+		@Override
+		public void compute(final Img<ShortType> input, final Img<ShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (short) Saturation.round(x < constant ? x : constant, Short.MIN_VALUE, Short.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ShortType &&
+				out().firstElement() instanceof ShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Min} of each element of an image of {@link ShortType}. */
+	@Plugin(type = Ops.Math.Min.class, priority = Priority.HIGH)
+	public static class MinShort extends
+		AbstractUnaryComputerOp<Img<ShortType>, Img<ShortType>> implements Ops.Math.Min,
+		Contingent
+	{
+
+		@Parameter
+		private double constant;
+
+		@Override
+		public void compute(final Img<ShortType> input, final Img<ShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (short) Saturation.round(x > constant ? x : constant, Short.MIN_VALUE, Short.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ShortType &&
+				out().firstElement() instanceof ShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.NearestInt} of each element of an image of {@link ShortType}. */
+	@Plugin(type = Ops.Math.NearestInt.class, priority = Priority.HIGH)
+	public static class NearestIntShort extends
+		AbstractUnaryComputerOp<Img<ShortType>, Img<ShortType>> implements Ops.Math.NearestInt,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<ShortType> input, final Img<ShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (short) Saturation.round(Math.rint(x), Short.MIN_VALUE, Short.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ShortType &&
+				out().firstElement() instanceof ShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Negate} of each element of an image of {@link ShortType}. */
+	@Plugin(type = Ops.Math.Negate.class, priority = Priority.HIGH)
+	public static class NegateShort extends
+		AbstractUnaryComputerOp<Img<ShortType>, Img<ShortType>> implements Ops.Math.Negate,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<ShortType> input, final Img<ShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (short) Saturation.round(-x, Short.MIN_VALUE, Short.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ShortType &&
+				out().firstElement() instanceof ShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Power} of each element of an image of {@link ShortType}. */
+	@Plugin(type = Ops.Math.Power.class, priority = Priority.HIGH)
+	public static class PowerShort extends
+		AbstractUnaryComputerOp<Img<ShortType>, Img<ShortType>> implements Ops.Math.Power,
+		Contingent
+	{
+
+		@Parameter
+		private double constant;
+
+		@Override
+		public void compute(final Img<ShortType> input, final Img<ShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (short) Saturation.round(Math.pow(x, constant), Short.MIN_VALUE, Short.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ShortType &&
+				out().firstElement() instanceof ShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Reciprocal} of each element of an image of {@link ShortType}. */
+	@Plugin(type = Ops.Math.Reciprocal.class, priority = Priority.HIGH)
+	public static class ReciprocalShort extends
+		AbstractUnaryComputerOp<Img<ShortType>, Img<ShortType>> implements Ops.Math.Reciprocal,
+		Contingent
+	{
+
+		@Parameter
+		private double dbzVal;
+
+		@Override
+		public void compute(final Img<ShortType> input, final Img<ShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (short) Saturation.round(x == 0 ? dbzVal : 1.0 / x, Short.MIN_VALUE, Short.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ShortType &&
+				out().firstElement() instanceof ShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Round} of each element of an image of {@link ShortType}. */
+	@Plugin(type = Ops.Math.Round.class, priority = Priority.HIGH)
+	public static class RoundShort extends
+		AbstractUnaryComputerOp<Img<ShortType>, Img<ShortType>> implements Ops.Math.Round,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<ShortType> input, final Img<ShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (short) Saturation.round((double) Math.round(x), Short.MIN_VALUE, Short.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ShortType &&
+				out().firstElement() instanceof ShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Sec} of each element of an image of {@link ShortType}. */
+	@Plugin(type = Ops.Math.Sec.class, priority = Priority.HIGH)
+	public static class SecShort extends
+		AbstractUnaryComputerOp<Img<ShortType>, Img<ShortType>> implements Ops.Math.Sec,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<ShortType> input, final Img<ShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (short) Saturation.round(1.0 / Math.cos(x), Short.MIN_VALUE, Short.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ShortType &&
+				out().firstElement() instanceof ShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Sech} of each element of an image of {@link ShortType}. */
+	@Plugin(type = Ops.Math.Sech.class, priority = Priority.HIGH)
+	public static class SechShort extends
+		AbstractUnaryComputerOp<Img<ShortType>, Img<ShortType>> implements Ops.Math.Sech,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<ShortType> input, final Img<ShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (short) Saturation.round(1.0 / Math.cosh(x), Short.MIN_VALUE, Short.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ShortType &&
+				out().firstElement() instanceof ShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Signum} of each element of an image of {@link ShortType}. */
+	@Plugin(type = Ops.Math.Signum.class, priority = Priority.HIGH)
+	public static class SignumShort extends
+		AbstractUnaryComputerOp<Img<ShortType>, Img<ShortType>> implements Ops.Math.Signum,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<ShortType> input, final Img<ShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (short) Saturation.round(Math.signum(x), Short.MIN_VALUE, Short.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ShortType &&
+				out().firstElement() instanceof ShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Sin} of each element of an image of {@link ShortType}. */
+	@Plugin(type = Ops.Math.Sin.class, priority = Priority.HIGH)
+	public static class SinShort extends
+		AbstractUnaryComputerOp<Img<ShortType>, Img<ShortType>> implements Ops.Math.Sin,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<ShortType> input, final Img<ShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (short) Saturation.round(Math.sin(x), Short.MIN_VALUE, Short.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ShortType &&
+				out().firstElement() instanceof ShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Sinc} of each element of an image of {@link ShortType}. */
+	@Plugin(type = Ops.Math.Sinc.class, priority = Priority.HIGH)
+	public static class SincShort extends
+		AbstractUnaryComputerOp<Img<ShortType>, Img<ShortType>> implements Ops.Math.Sinc,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<ShortType> input, final Img<ShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (short) Saturation.round(x == 0 ? 1 : Math.sin(x) / x, Short.MIN_VALUE, Short.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ShortType &&
+				out().firstElement() instanceof ShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.SincPi} of each element of an image of {@link ShortType}. */
+	@Plugin(type = Ops.Math.SincPi.class, priority = Priority.HIGH)
+	public static class SincPiShort extends
+		AbstractUnaryComputerOp<Img<ShortType>, Img<ShortType>> implements Ops.Math.SincPi,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<ShortType> input, final Img<ShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (short) Saturation.round(x == 0 ? 1 : Math.sin(Math.PI * x) / (Math.PI * x), Short.MIN_VALUE, Short.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ShortType &&
+				out().firstElement() instanceof ShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Sinh} of each element of an image of {@link ShortType}. */
+	@Plugin(type = Ops.Math.Sinh.class, priority = Priority.HIGH)
+	public static class SinhShort extends
+		AbstractUnaryComputerOp<Img<ShortType>, Img<ShortType>> implements Ops.Math.Sinh,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<ShortType> input, final Img<ShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (short) Saturation.round(Math.sinh(x), Short.MIN_VALUE, Short.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ShortType &&
+				out().firstElement() instanceof ShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Sqr} of each element of an image of {@link ShortType}. */
+	@Plugin(type = Ops.Math.Sqr.class, priority = Priority.HIGH)
+	public static class SqrShort extends
+		AbstractUnaryComputerOp<Img<ShortType>, Img<ShortType>> implements Ops.Math.Sqr,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<ShortType> input, final Img<ShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (short) Saturation.round(x * x, Short.MIN_VALUE, Short.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ShortType &&
+				out().firstElement() instanceof ShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Sqrt} of each element of an image of {@link ShortType}. */
+	@Plugin(type = Ops.Math.Sqrt.class, priority = Priority.HIGH)
+	public static class SqrtShort extends
+		AbstractUnaryComputerOp<Img<ShortType>, Img<ShortType>> implements Ops.Math.Sqrt,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<ShortType> input, final Img<ShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (short) Saturation.round(Math.sqrt(x), Short.MIN_VALUE, Short.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ShortType &&
+				out().firstElement() instanceof ShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Step} of each element of an image of {@link ShortType}. */
+	@Plugin(type = Ops.Math.Step.class, priority = Priority.HIGH)
+	public static class StepShort extends
+		AbstractUnaryComputerOp<Img<ShortType>, Img<ShortType>> implements Ops.Math.Step,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<ShortType> input, final Img<ShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (short) Saturation.round(x < 0 ? 0 : 1, Short.MIN_VALUE, Short.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ShortType &&
+				out().firstElement() instanceof ShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Tan} of each element of an image of {@link ShortType}. */
+	@Plugin(type = Ops.Math.Tan.class, priority = Priority.HIGH)
+	public static class TanShort extends
+		AbstractUnaryComputerOp<Img<ShortType>, Img<ShortType>> implements Ops.Math.Tan,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<ShortType> input, final Img<ShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (short) Saturation.round(Math.tan(x), Short.MIN_VALUE, Short.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ShortType &&
+				out().firstElement() instanceof ShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Tanh} of each element of an image of {@link ShortType}. */
+	@Plugin(type = Ops.Math.Tanh.class, priority = Priority.HIGH)
+	public static class TanhShort extends
+		AbstractUnaryComputerOp<Img<ShortType>, Img<ShortType>> implements Ops.Math.Tanh,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<ShortType> input, final Img<ShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (short) Saturation.round(Math.tanh(x), Short.MIN_VALUE, Short.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ShortType &&
+				out().firstElement() instanceof ShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Ulp} of each element of an image of {@link ShortType}. */
+	@Plugin(type = Ops.Math.Ulp.class, priority = Priority.HIGH)
+	public static class UlpShort extends
+		AbstractUnaryComputerOp<Img<ShortType>, Img<ShortType>> implements Ops.Math.Ulp,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<ShortType> input, final Img<ShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (short) Saturation.round(Math.ulp(x), Short.MIN_VALUE, Short.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof ShortType &&
+				out().firstElement() instanceof ShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Add} of two images of {@link ShortType}. */
+	@Plugin(type = Ops.Math.Add.class, priority = Priority.HIGH + 1)
+	public static class AddShort extends
+		AbstractBinaryComputerOp<Img<ShortType>, Img<ShortType>, Img<ShortType>> implements
+		Ops.Math.Add, Contingent
+	{
+
+		@Override
+		public void compute(final Img<ShortType> input1, final Img<ShortType> input2,
+			final Img<ShortType> output)
+		{
+			final List<Segment> in1 = ImgSegments.segments(input1);
+			final List<Segment> in2 = ImgSegments.segments(input2);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in1.size(), s -> {
+				final Segment segment = in1.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] b = (short[]) in2.get(s).data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					o[i] = (short) Saturation.add(a[i], b[i], Short.MIN_VALUE, Short.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in1().firstElement() instanceof ShortType &&
+				in2().firstElement() instanceof ShortType &&
+				out().firstElement() instanceof ShortType && ImgSegments.aligned(in1(),
+					in2()) && ImgSegments.aligned(in1(), out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Subtract} of two images of {@link ShortType}. */
+	@Plugin(type = Ops.Math.Subtract.class, priority = Priority.HIGH + 1)
+	public static class SubtractShort extends
+		AbstractBinaryComputerOp<Img<ShortType>, Img<ShortType>, Img<ShortType>> implements
+		Ops.Math.Subtract, Contingent
+	{
+
+		@Override
+		public void compute(final Img<ShortType> input1, final Img<ShortType> input2,
+			final Img<ShortType> output)
+		{
+			final List<Segment> in1 = ImgSegments.segments(input1);
+			final List<Segment> in2 = ImgSegments.segments(input2);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in1.size(), s -> {
+				final Segment segment = in1.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] b = (short[]) in2.get(s).data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					o[i] = (short) Saturation.subtract(a[i], b[i], Short.MIN_VALUE, Short.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in1().firstElement() instanceof ShortType &&
+				in2().firstElement() instanceof ShortType &&
+				out().firstElement() instanceof ShortType && ImgSegments.aligned(in1(),
+					in2()) && ImgSegments.aligned(in1(), out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Multiply} of two images of {@link ShortType}. */
+	@Plugin(type = Ops.Math.Multiply.class, priority = Priority.HIGH + 1)
+	public static class MultiplyShort extends
+		AbstractBinaryComputerOp<Img<ShortType>, Img<ShortType>, Img<ShortType>> implements
+		Ops.Math.Multiply, Contingent
+	{
+
+		@Override
+		public void compute(final Img<ShortType> input1, final Img<ShortType> input2,
+			final Img<ShortType> output)
+		{
+			final List<Segment> in1 = ImgSegments.segments(input1);
+			final List<Segment> in2 = ImgSegments.segments(input2);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in1.size(), s -> {
+				final Segment segment = in1.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] b = (short[]) in2.get(s).data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					o[i] = (short) Saturation.multiply(a[i], b[i], Short.MIN_VALUE, Short.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in1().firstElement() instanceof ShortType &&
+				in2().firstElement() instanceof ShortType &&
+				out().firstElement() instanceof ShortType && ImgSegments.aligned(in1(),
+					in2()) && ImgSegments.aligned(in1(), out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Divide} of two images of {@link ShortType}. */
+	@Plugin(type = Ops.Math.Divide.class, priority = Priority.HIGH + 1)
+	public static class DivideShort extends
+		AbstractBinaryComputerOp<Img<ShortType>, Img<ShortType>, Img<ShortType>> implements
+		Ops.Math.Divide, Contingent
+	{
+
+		@Override
+		public void compute(final Img<ShortType> input1, final Img<ShortType> input2,
+			final Img<ShortType> output)
+		{
+			final List<Segment> in1 = ImgSegments.segments(input1);
+			final List<Segment> in2 = ImgSegments.segments(input2);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in1.size(), s -> {
+				final Segment segment = in1.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] b = (short[]) in2.get(s).data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					o[i] = (short) Saturation.divide(a[i], b[i], Short.MIN_VALUE, Short.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in1().firstElement() instanceof ShortType &&
+				in2().firstElement() instanceof ShortType &&
+				out().firstElement() instanceof ShortType && ImgSegments.aligned(in1(),
+					in2()) && ImgSegments.aligned(in1(), out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Abs} of each element of an image of {@link UnsignedShortType}. */
+	@Plugin(type = Ops.Math.Abs.class, priority = Priority.HIGH)
+	public static class AbsUnsignedShort extends
+		AbstractUnaryComputerOp<Img<UnsignedShortType>, Img<UnsignedShortType>> implements Ops.Math.Abs,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedShortType> input, final Img<UnsignedShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffff;
+					o[i] = (short) Saturation.round(Math.abs(x), 0, 0xffff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedShortType &&
+				out().firstElement() instanceof UnsignedShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arccos} of each element of an image of {@link UnsignedShortType}. */
+	@Plugin(type = Ops.Math.Arccos.class, priority = Priority.HIGH)
+	public static class ArccosUnsignedShort extends
+		AbstractUnaryComputerOp<Img<UnsignedShortType>, Img<UnsignedShortType>> implements Ops.Math.Arccos,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedShortType> input, final Img<UnsignedShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffff;
+					o[i] = (short) Saturation.round(Math.acos(x), 0, 0xffff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedShortType &&
+				out().firstElement() instanceof UnsignedShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arccosh} of each element of an image of {@link UnsignedShortType}. */
+	@Plugin(type = Ops.Math.Arccosh.class, priority = Priority.HIGH)
+	public static class ArccoshUnsignedShort extends
+		AbstractUnaryComputerOp<Img<UnsignedShortType>, Img<UnsignedShortType>> implements Ops.Math.Arccosh,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedShortType> input, final Img<UnsignedShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffff;
+					o[i] = (short) Saturation.round(Math.log(x + (x <= -1 ? -1 : 1) * Math.sqrt(x * x - 1)), 0, 0xffff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedShortType &&
+				out().firstElement() instanceof UnsignedShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arccot} of each element of an image of {@link UnsignedShortType}. */
+	@Plugin(type = Ops.Math.Arccot.class, priority = Priority.HIGH)
+	public static class ArccotUnsignedShort extends
+		AbstractUnaryComputerOp<Img<UnsignedShortType>, Img<UnsignedShortType>> implements Ops.Math.Arccot,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedShortType> input, final Img<UnsignedShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffff;
+					o[i] = (short) Saturation.round(Math.atan(1.0 / x) + (x < 0 ? Math.PI : 0), 0, 0xffff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedShortType &&
+				out().firstElement() instanceof UnsignedShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arccoth} of each element of an image of {@link UnsignedShortType}. */
+	@Plugin(type = Ops.Math.Arccoth.class, priority = Priority.HIGH)
+	public static class ArccothUnsignedShort extends
+		AbstractUnaryComputerOp<Img<UnsignedShortType>, Img<UnsignedShortType>> implements Ops.Math.Arccoth,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedShortType> input, final Img<UnsignedShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffff;
+					o[i] = (short) Saturation.round(0.5 * Math.log((x + 1) / (x - 1)), 0, 0xffff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedShortType &&
+				out().firstElement() instanceof UnsignedShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arccsch} of each element of an image of {@link UnsignedShortType}. */
+	@Plugin(type = Ops.Math.Arccsch.class, priority = Priority.HIGH)
+	public static class ArccschUnsignedShort extends
+		AbstractUnaryComputerOp<Img<UnsignedShortType>, Img<UnsignedShortType>> implements Ops.Math.Arccsch,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedShortType> input, final Img<UnsignedShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffff;
+					o[i] = (short) Saturation.round(Math.log(1 / x + Math.sqrt(1 + 1 / (x * x))), 0, 0xffff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedShortType &&
+				out().firstElement() instanceof UnsignedShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arcsech} of each element of an image of {@link UnsignedShortType}. */
+	@Plugin(type = Ops.Math.Arcsech.class, priority = Priority.HIGH)
+	public static class ArcsechUnsignedShort extends
+		AbstractUnaryComputerOp<Img<UnsignedShortType>, Img<UnsignedShortType>> implements Ops.Math.Arcsech,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedShortType> input, final Img<UnsignedShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffff;
+					o[i] = (short) Saturation.round(Math.log((1 + Math.sqrt(1 - x * x)) / x), 0, 0xffff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedShortType &&
+				out().firstElement() instanceof UnsignedShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arcsin} of each element of an image of {@link UnsignedShortType}. */
+	@Plugin(type = Ops.Math.Arcsin.class, priority = Priority.HIGH)
+	public static class ArcsinUnsignedShort extends
+		AbstractUnaryComputerOp<Img<UnsignedShortType>, Img<UnsignedShortType>> implements Ops.Math.Arcsin,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedShortType> input, final Img<UnsignedShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffff;
+					o[i] = (short) Saturation.round(Math.asin(x), 0, 0xffff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedShortType &&
+				out().firstElement() instanceof UnsignedShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arcsinh} of each element of an image of {@link UnsignedShortType}. */
+	@Plugin(type = Ops.Math.Arcsinh.class, priority = Priority.HIGH)
+	public static class ArcsinhUnsignedShort extends
+		AbstractUnaryComputerOp<Img<UnsignedShortType>, Img<UnsignedShortType>> implements Ops.Math.Arcsinh,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedShortType> input, final Img<UnsignedShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffff;
+					o[i] = (short) Saturation.round(Math.log(x + Math.sqrt(x * x + 1)), 0, 0xffff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedShortType &&
+				out().firstElement() instanceof UnsignedShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arctan} of each element of an image of {@link UnsignedShortType}. */
+	@Plugin(type = Ops.Math.Arctan.class, priority = Priority.HIGH)
+	public static class ArctanUnsignedShort extends
+		AbstractUnaryComputerOp<Img<UnsignedShortType>, Img<UnsignedShortType>> implements Ops.Math.Arctan,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedShortType> input, final Img<UnsignedShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffff;
+					o[i] = (short) Saturation.round(Math.atan(x), 0, 0xffff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedShortType &&
+				out().firstElement() instanceof UnsignedShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arctanh} of each element of an image of {@link UnsignedShortType}. */
+	@Plugin(type = Ops.Math.Arctanh.class, priority = Priority.HIGH)
+	public static class ArctanhUnsignedShort extends
+		AbstractUnaryComputerOp<Img<UnsignedShortType>, Img<UnsignedShortType>> implements Ops.Math.Arctanh,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedShortType> input, final Img<UnsignedShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffff;
+					o[i] = (short) Saturation.round(0.5 * Math.log((1 + x) / (1 - x)), 0, 0xffff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedShortType &&
+				out().firstElement() instanceof UnsignedShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Ceil} of each element of an image of {@link UnsignedShortType}. */
+	@Plugin(type = Ops.Math.Ceil.class, priority = Priority.HIGH)
+	public static class CeilUnsignedShort extends
+		AbstractUnaryComputerOp<Img<UnsignedShortType>, Img<UnsignedShortType>> implements Ops.Math.Ceil,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedShortType> input, final Img<UnsignedShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffff;
+					o[i] = (short) Saturation.round(Math.ceil(x), 0, 0xffff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedShortType &&
+				out().firstElement() instanceof UnsignedShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Cos} of each element of an image of {@link UnsignedShortType}. */
+	@Plugin(type = Ops.Math.Cos.class, priority = Priority.HIGH)
+	public static class CosUnsignedShort extends
+		AbstractUnaryComputerOp<Img<UnsignedShortType>, Img<UnsignedShortType>> implements Ops.Math.Cos,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedShortType> input, final Img<UnsignedShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffff;
+					o[i] = (short) Saturation.round(Math.cos(x), 0, 0xffff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedShortType &&
+				out().firstElement() instanceof UnsignedShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Cosh} of each element of an image of {@link UnsignedShortType}. */
+	@Plugin(type = Ops.Math.Cosh.class, priority = Priority.HIGH)
+	public static class CoshUnsignedShort extends
+		AbstractUnaryComputerOp<Img<UnsignedShortType>, Img<UnsignedShortType>> implements Ops.Math.Cosh,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedShortType> input, final Img<UnsignedShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffff;
+					o[i] = (short) Saturation.round(Math.cosh(x), 0, 0xffff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedShortType &&
+				out().firstElement() instanceof UnsignedShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Cot} of each element of an image of {@link UnsignedShortType}. */
+	@Plugin(type = Ops.Math.Cot.class, priority = Priority.HIGH)
+	public static class CotUnsignedShort extends
+		AbstractUnaryComputerOp<Img<UnsignedShortType>, Img<UnsignedShortType>> implements Ops.Math.Cot,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedShortType> input, final Img<UnsignedShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffff;
+					o[i] = (short) Saturation.round(1.0 / Math.tan(x), 0, 0xffff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedShortType &&
+				out().firstElement() instanceof UnsignedShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Coth} of each element of an image of {@link UnsignedShortType}. */
+	@Plugin(type = Ops.Math.Coth.class, priority = Priority.HIGH)
+	public static class CothUnsignedShort extends
+		AbstractUnaryComputerOp<Img<UnsignedShortType>, Img<UnsignedShortType>> implements Ops.Math.Coth,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedShortType> input, final Img<UnsignedShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffff;
+					o[i] = (short) Saturation.round(1.0 / Math.tanh(x), 0, 0xffff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedShortType &&
+				out().firstElement() instanceof UnsignedShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Csc} of each element of an image of {@link UnsignedShortType}. */
+	@Plugin(type = Ops.Math.Csc.class, priority = Priority.HIGH)
+	public static class CscUnsignedShort extends
+		AbstractUnaryComputerOp<Img<UnsignedShortType>, Img<UnsignedShortType>> implements Ops.Math.Csc,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedShortType> input, final Img<UnsignedShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffff;
+					o[i] = (short) Saturation.round(1.0 / Math.sin(x), 0, 0xffff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedShortType &&
+				out().firstElement() instanceof UnsignedShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Csch} of each element of an image of {@link UnsignedShortType}. */
+	@Plugin(type = Ops.Math.Csch.class, priority = Priority.HIGH)
+	public static class CschUnsignedShort extends
+		AbstractUnaryComputerOp<Img<UnsignedShortType>, Img<UnsignedShortType>> implements Ops.Math.Csch,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedShortType> input, final Img<UnsignedShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffff;
+					o[i] = (short) Saturation.round(1.0 / Math.sinh(x), 0, 0xffff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedShortType &&
+				out().firstElement() instanceof UnsignedShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.CubeRoot} of each element of an image of {@link UnsignedShortType}. */
+	@Plugin(type = Ops.Math.CubeRoot.class, priority = Priority.HIGH)
+	public static class CubeRootUnsignedShort extends
+		AbstractUnaryComputerOp<Img<UnsignedShortType>, Img<UnsignedShortType>> implements Ops.Math.CubeRoot,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedShortType> input, final Img<UnsignedShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffff;
+					o[i] = (short) Saturation.round(Math.cbrt(x), 0, 0xffff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedShortType &&
+				out().firstElement() instanceof UnsignedShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Exp} of each element of an image of {@link UnsignedShortType}. */
+	@Plugin(type = Ops.Math.Exp.class, priority = Priority.HIGH)
+	public static class ExpUnsignedShort extends
+		AbstractUnaryComputerOp<Img<UnsignedShortType>, Img<UnsignedShortType>> implements Ops.Math.Exp,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedShortType> input, final Img<UnsignedShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffff;
+					o[i] = (short) Saturation.round(Math.exp(x), 0, 0xffff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedShortType &&
+				out().firstElement() instanceof UnsignedShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.ExpMinusOne} of each element of an image of {@link UnsignedShortType}. */
+	@Plugin(type = Ops.Math.ExpMinusOne.class, priority = Priority.HIGH)
+	public static class ExpMinusOneUnsignedShort extends
+		AbstractUnaryComputerOp<Img<UnsignedShortType>, Img<UnsignedShortType>> implements Ops.Math.ExpMinusOne,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedShortType> input, final Img<UnsignedShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffff;
+					o[i] = (short) Saturation.round(Math.exp(x) - 1, 0, 0xffff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedShortType &&
+				out().firstElement() instanceof UnsignedShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Floor} of each element of an image of {@link UnsignedShortType}. */
+	@Plugin(type = Ops.Math.Floor.class, priority = Priority.HIGH)
+	public static class FloorUnsignedShort extends
+		AbstractUnaryComputerOp<Img<UnsignedShortType>, Img<UnsignedShortType>> implements Ops.Math.Floor,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedShortType> input, final Img<UnsignedShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffff;
+					o[i] = (short) Saturation.round(Math.floor(x), 0, 0xffff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedShortType &&
+				out().firstElement() instanceof UnsignedShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Gamma} of each element of an image of {@link UnsignedShortType}. */
+	@Plugin(type = Ops.Math.Gamma.class, priority = Priority.HIGH)
+	public static class GammaUnsignedShort extends
+		AbstractUnaryComputerOp<Img<UnsignedShortType>, Img<UnsignedShortType>> implements Ops.Math.Gamma,
+		Contingent
+	{
+
+		@Parameter
+		private double constant;
+
+		@Override
+		public void compute(final Img<UnsignedShortType> input, final Img<UnsignedShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffff;
+					o[i] = (short) Saturation.round(x <= 0 ? 0 : Math.exp(constant * Math.log(x)), 0, 0xffff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedShortType &&
+				out().firstElement() instanceof UnsignedShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Invert} of each element of an image of {@link UnsignedShortType}. */
+	@Plugin(type = Ops.Math.Invert.class, priority = Priority.HIGH)
+	public static class InvertUnsignedShort extends
+		AbstractUnaryComputerOp<Img<UnsignedShortType>, Img<UnsignedShortType>> implements Ops.Math.Invert,
+		Contingent
+	{
+
+		@Parameter
+		private double specifiedMin;
+
+		@Parameter
+		private double specifiedMax;
+
+		@Override
+		public void compute(final Img<UnsignedShortType> input, final Img<UnsignedShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffff;
+					o[i] = (short) Saturation.round(specifiedMax - (x - specifiedMin), 0, 0xffff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedShortType &&
+				out().firstElement() instanceof UnsignedShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Log} of each element of an image of {@link UnsignedShortType}. */
+	@Plugin(type = Ops.Math.Log.class, priority = Priority.HIGH)
+	public static class LogUnsignedShort extends
+		AbstractUnaryComputerOp<Img<UnsignedShortType>, Img<UnsignedShortType>> implements Ops.Math.Log,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedShortType> input, final Img<UnsignedShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffff;
+					o[i] = (short) Saturation.round(Math.log(x), 0, 0xffff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedShortType &&
+				out().firstElement() instanceof UnsignedShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Log10} of each element of an image of {@link UnsignedShortType}. */
+	@Plugin(type = Ops.Math.Log10.class, priority = Priority.HIGH)
+	public static class Log10UnsignedShort extends
+		AbstractUnaryComputerOp<Img<UnsignedShortType>, Img<UnsignedShortType>> implements Ops.Math.Log10,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedShortType> input, final Img<UnsignedShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffff;
+					o[i] = (short) Saturation.round(Math.log10(x), 0, 0xffff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedShortType &&
+				out().firstElement() instanceof UnsignedShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Log2} of each element of an image of {@link UnsignedShortType}. */
+	@Plugin(type = Ops.Math.Log2.class, priority = Priority.HIGH)
+	public static class Log2UnsignedShort extends
+		AbstractUnaryComputerOp<Img<UnsignedShortType>, Img<UnsignedShortType>> implements Ops.Math.Log2,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedShortType> input, final Img<UnsignedShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffff;
+					o[i] = (short) Saturation.round(Math.log(x) / Math.log(2), 0, 0xffff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedShortType &&
+				out().firstElement() instanceof UnsignedShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.LogOnePlusX} of each element of an image of {@link UnsignedShortType}. */
+	@Plugin(type = Ops.Math.LogOnePlusX.class, priority = Priority.HIGH)
+	public static class LogOnePlusXUnsignedShort extends
+		AbstractUnaryComputerOp<Img<UnsignedShortType>, Img<UnsignedShortType>> implements Ops.Math.LogOnePlusX,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedShortType> input, final Img<UnsignedShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffff;
+					o[i] = (short) Saturation.round(Math.log1p(x), 0, 0xffff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedShortType &&
+				out().firstElement() instanceof UnsignedShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Max} of each element of an image of {@link UnsignedShortType}. */
+	@Plugin(type = Ops.Math.Max.class, priority = Priority.HIGH)
+	public static class MaxUnsignedShort extends
+		AbstractUnaryComputerOp<Img<UnsignedShortType>, Img<UnsignedShortType>> implements Ops.Math.Max,
+		Contingent
+	{
+
+		@Parameter
+		private double constant;
+
+		@Override
+		public void compute(final Img<UnsignedShortType> input, final Img<UnsignedShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffff;
+					o[i] = (short) Saturation.round(x < constant ? x : constant, 0, 0xffff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedShortType &&
+				out().firstElement() instanceof UnsignedShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Min} of each element of an image of {@link UnsignedShortType}. */
+	@Plugin(type = Ops.Math.Min.class, priority = Priority.HIGH)
+	public static class MinUnsignedShort extends
+		AbstractUnaryComputerOp<Img<UnsignedShortType>, Img<UnsignedShortType>> implements Ops.Math.Min,
+		Contingent
+	{
+
+		@Parameter
+		private double constant;
+
+		@Override
+		public void compute(final Img<UnsignedShortType> input, final Img<UnsignedShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffff;
+					o[i] = (short) Saturation.round(x > constant ? x : constant, 0, 0xffff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedShortType &&
+				out().firstElement() instanceof UnsignedShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.NearestInt} of each element of an image of {@link UnsignedShortType}. */
+	@Plugin(type = Ops.Math.NearestInt.class, priority = Priority.HIGH)
+	public static class NearestIntUnsignedShort extends
+		AbstractUnaryComputerOp<Img<UnsignedShortType>, Img<UnsignedShortType>> implements Ops.Math.NearestInt,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedShortType> input, final Img<UnsignedShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffff;
+					o[i] = (short) Saturation.round(Math.rint(x), 0, 0xffff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedShortType &&
+				out().firstElement() instanceof UnsignedShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Negate} of each element of an image of {@link UnsignedShortType}. */
+	@Plugin(type = Ops.Math.Negate.class, priority = Priority.HIGH)
+	public static class NegateUnsignedShort extends
+		AbstractUnaryComputerOp<Img<UnsignedShortType>, Img<UnsignedShortType>> implements Ops.Math.Negate,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedShortType> input, final Img<UnsignedShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffff;
+					o[i] = (short) Saturation.round(-x, 0, 0xffff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedShortType &&
+				out().firstElement() instanceof UnsignedShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Power} of each element of an image of {@link UnsignedShortType}. */
+	@Plugin(type = Ops.Math.Power.class, priority = Priority.HIGH)
+	public static class PowerUnsignedShort extends
+		AbstractUnaryComputerOp<Img<UnsignedShortType>, Img<UnsignedShortType>> implements Ops.Math.Power,
+		Contingent
+	{
+
+		@Parameter
+		private double constant;
+
+		@Override
+		public void compute(final Img<UnsignedShortType> input, final Img<UnsignedShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffff;
+					o[i] = (short) Saturation.round(Math.pow(x, constant), 0, 0xffff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedShortType &&
+				out().firstElement() instanceof UnsignedShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Reciprocal} of each element of an image of {@link UnsignedShortType}. */
+	@Plugin(type = Ops.Math.Reciprocal.class, priority = Priority.HIGH)
+	public static class ReciprocalUnsignedShort extends
+		AbstractUnaryComputerOp<Img<UnsignedShortType>, Img<UnsignedShortType>> implements Ops.Math.Reciprocal,
+		Contingent
+	{
+
+		@Parameter
+		private double dbzVal;
+
+		@Override
+		public void compute(final Img<UnsignedShortType> input, final Img<UnsignedShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffff;
+					o[i] = (short) Saturation.round(x == 0 ? dbzVal : 1.0 / x, 0, 0xffff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedShortType &&
+				out().firstElement() instanceof UnsignedShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Round} of each element of an image of {@link UnsignedShortType}. */
+	@Plugin(type = Ops.Math.Round.class, priority = Priority.HIGH)
+	public static class RoundUnsignedShort extends
+		AbstractUnaryComputerOp<Img<UnsignedShortType>, Img<UnsignedShortType>> implements Ops.Math.Round,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedShortType> input, final Img<UnsignedShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffff;
+					o[i] = (short) Saturation.round((double) Math.round(x), 0, 0xffff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedShortType &&
+				out().firstElement() instanceof UnsignedShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Sec} of each element of an image of {@link UnsignedShortType}. */
+	@Plugin(type = Ops.Math.Sec.class, priority = Priority.HIGH)
+	public static class SecUnsignedShort extends
+		AbstractUnaryComputerOp<Img<UnsignedShortType>, Img<UnsignedShortType>> implements Ops.Math.Sec,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedShortType> input, final Img<UnsignedShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffff;
+					o[i] = (short) Saturation.round(1.0 / Math.cos(x), 0, 0xffff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedShortType &&
+				out().firstElement() instanceof UnsignedShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Sech} of each element of an image of {@link UnsignedShortType}. */
+	@Plugin(type = Ops.Math.Sech.class, priority = Priority.HIGH)
+	public static class SechUnsignedShort extends
+		AbstractUnaryComputerOp<Img<UnsignedShortType>, Img<UnsignedShortType>> implements Ops.Math.Sech,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedShortType> input, final Img<UnsignedShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffff;
+					o[i] = (short) Saturation.round(1.0 / Math.cosh(x), 0, 0xffff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedShortType &&
+				out().firstElement() instanceof UnsignedShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Signum} of each element of an image of {@link UnsignedShortType}. */
+	@Plugin(type = Ops.Math.Signum.class, priority = Priority.HIGH)
+	public static class SignumUnsignedShort extends
+		AbstractUnaryComputerOp<Img<UnsignedShortType>, Img<UnsignedShortType>> implements Ops.Math.Signum,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedShortType> input, final Img<UnsignedShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffff;
+					o[i] = (short) Saturation.round(Math.signum(x), 0, 0xffff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedShortType &&
+				out().firstElement() instanceof UnsignedShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Sin} of each element of an image of {@link UnsignedShortType}. */
+	@Plugin(type = Ops.Math.Sin.class, priority = Priority.HIGH)
+	public static class SinUnsignedShort extends
+		AbstractUnaryComputerOp<Img<UnsignedShortType>, Img<UnsignedShortType>> implements Ops.Math.Sin,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedShortType> input, final Img<UnsignedShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffff;
+					o[i] = (short) Saturation.round(Math.sin(x), 0, 0xffff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedShortType &&
+				out().firstElement() instanceof UnsignedShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Sinc} of each element of an image of {@link UnsignedShortType}. */
+	@Plugin(type = Ops.Math.Sinc.class, priority = Priority.HIGH)
+	public static class SincUnsignedShort extends
+		AbstractUnaryComputerOp<Img<UnsignedShortType>, Img<UnsignedShortType>> implements Ops.Math.Sinc,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedShortType> input, final Img<UnsignedShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffff;
+					o[i] = (short) Saturation.round(x == 0 ? 1 : Math.sin(x) / x, 0, 0xffff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedShortType &&
+				out().firstElement() instanceof UnsignedShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.SincPi} of each element of an image of {@link UnsignedShortType}. */
+	@Plugin(type = Ops.Math.SincPi.class, priority = Priority.HIGH)
+	public static class SincPiUnsignedShort extends
+		AbstractUnaryComputerOp<Img<UnsignedShortType>, Img<UnsignedShortType>> implements Ops.Math.SincPi,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedShortType> input, final Img<UnsignedShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffff;
+					o[i] = (short) Saturation.round(x == 0 ? 1 : Math.sin(Math.PI * x) / (Math.PI * x), 0, 0xffff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedShortType &&
+				out().firstElement() instanceof UnsignedShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Sinh} of each element of an image of {@link UnsignedShortType}. */
+	@Plugin(type = Ops.Math.Sinh.class, priority = Priority.HIGH)
+	public static class SinhUnsignedShort extends
+		AbstractUnaryComputerOp<Img<UnsignedShortType>, Img<UnsignedShortType>> implements Ops.Math.Sinh,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedShortType> input, final Img<UnsignedShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffff;
+					o[i] = (short) Saturation.round(Math.sinh(x), 0, 0xffff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedShortType &&
+				out().firstElement() instanceof UnsignedShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Sqr} of each element of an image of {@link UnsignedShortType}. */
+	@Plugin(type = Ops.Math.Sqr.class, priority = Priority.HIGH)
+	public static class SqrUnsignedShort extends
+		AbstractUnaryComputerOp<Img<UnsignedShortType>, Img<UnsignedShortType>> implements Ops.Math.Sqr,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedShortType> input, final Img<UnsignedShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffff;
+					o[i] = (short) Saturation.round(x * x, 0, 0xffff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedShortType &&
+				out().firstElement() instanceof UnsignedShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Sqrt} of each element of an image of {@link UnsignedShortType}. */
+	@Plugin(type = Ops.Math.Sqrt.class, priority = Priority.HIGH)
+	public static class SqrtUnsignedShort extends
+		AbstractUnaryComputerOp<Img<UnsignedShortType>, Img<UnsignedShortType>> implements Ops.Math.Sqrt,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedShortType> input, final Img<UnsignedShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffff;
+					o[i] = (short) Saturation.round(Math.sqrt(x), 0, 0xffff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedShortType &&
+				out().firstElement() instanceof UnsignedShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Step} of each element of an image of {@link UnsignedShortType}. */
+	@Plugin(type = Ops.Math.Step.class, priority = Priority.HIGH)
+	public static class StepUnsignedShort extends
+		AbstractUnaryComputerOp<Img<UnsignedShortType>, Img<UnsignedShortType>> implements Ops.Math.Step,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedShortType> input, final Img<UnsignedShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffff;
+					o[i] = (short) Saturation.round(x < 0 ? 0 : 1, 0, 0xffff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedShortType &&
+				out().firstElement() instanceof UnsignedShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Tan} of each element of an image of {@link UnsignedShortType}. */
+	@Plugin(type = Ops.Math.Tan.class, priority = Priority.HIGH)
+	public static class TanUnsignedShort extends
+		AbstractUnaryComputerOp<Img<UnsignedShortType>, Img<UnsignedShortType>> implements Ops.Math.Tan,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedShortType> input, final Img<UnsignedShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffff;
+					o[i] = (short) Saturation.round(Math.tan(x), 0, 0xffff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedShortType &&
+				out().firstElement() instanceof UnsignedShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Tanh} of each element of an image of {@link UnsignedShortType}. */
+	@Plugin(type = Ops.Math.Tanh.class, priority = Priority.HIGH)
+	public static class TanhUnsignedShort extends
+		AbstractUnaryComputerOp<Img<UnsignedShortType>, Img<UnsignedShortType>> implements Ops.Math.Tanh,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedShortType> input, final Img<UnsignedShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffff;
+					o[i] = (short) Saturation.round(Math.tanh(x), 0, 0xffff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedShortType &&
+				out().firstElement() instanceof UnsignedShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Ulp} of each element of an image of {@link UnsignedShortType}. */
+	@Plugin(type = Ops.Math.Ulp.class, priority = Priority.HIGH)
+	public static class UlpUnsignedShort extends
+		AbstractUnaryComputerOp<Img<UnsignedShortType>, Img<UnsignedShortType>> implements Ops.Math.Ulp,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedShortType> input, final Img<UnsignedShortType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffff;
+					o[i] = (short) Saturation.round(Math.ulp(x), 0, 0xffff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedShortType &&
+				out().firstElement() instanceof UnsignedShortType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Add} of two images of {@link UnsignedShortType}. */
+	@Plugin(type = Ops.Math.Add.class, priority = Priority.HIGH + 1)
+	public static class AddUnsignedShort extends
+		AbstractBinaryComputerOp<Img<UnsignedShortType>, Img<UnsignedShortType>, Img<UnsignedShortType>> implements
+		Ops.Math.Add, Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedShortType> input1, final Img<UnsignedShortType> input2,
+			final Img<UnsignedShortType> output)
+		{
+			final List<Segment> in1 = ImgSegments.segments(input1);
+			final List<Segment> in2 = ImgSegments.segments(input2);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in1.size(), s -> {
+				final Segment segment = in1.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] b = (short[]) in2.get(s).data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					o[i] = (short) Saturation.add(a[i] & 0xffff, b[i] & 0xffff, 0, 0xffff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in1().firstElement() instanceof UnsignedShortType &&
+				in2().firstElement() instanceof UnsignedShortType &&
+				out().firstElement() instanceof UnsignedShortType && ImgSegments.aligned(in1(),
+					in2()) && ImgSegments.aligned(in1(), out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Subtract} of two images of {@link UnsignedShortType}. */
+	@Plugin(type = Ops.Math.Subtract.class, priority = Priority.HIGH + 1)
+	public static class SubtractUnsignedShort extends
+		AbstractBinaryComputerOp<Img<UnsignedShortType>, Img<UnsignedShortType>, Img<UnsignedShortType>> implements
+		Ops.Math.Subtract, Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedShortType> input1, final Img<UnsignedShortType> input2,
+			final Img<UnsignedShortType> output)
+		{
+			final List<Segment> in1 = ImgSegments.segments(input1);
+			final List<Segment> in2 = ImgSegments.segments(input2);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in1.size(), s -> {
+				final Segment segment = in1.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] b = (short[]) in2.get(s).data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					o[i] = (short) Saturation.subtract(a[i] & 0xffff, b[i] & 0xffff, 0, 0xffff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in1().firstElement() instanceof UnsignedShortType &&
+				in2().firstElement() instanceof UnsignedShortType &&
+				out().firstElement() instanceof UnsignedShortType && ImgSegments.aligned(in1(),
+					in2()) && ImgSegments.aligned(in1(), out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Multiply} of two images of {@link UnsignedShortType}. */
+	@Plugin(type = Ops.Math.Multiply.class, priority = Priority.HIGH + 1)
+	public static class MultiplyUnsignedShort extends
+		AbstractBinaryComputerOp<Img<UnsignedShortType>, Img<UnsignedShortType>, Img<UnsignedShortType>> implements
+		Ops.Math.Multiply, Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedShortType> input1, final Img<UnsignedShortType> input2,
+			final Img<UnsignedShortType> output)
+		{
+			final List<Segment> in1 = ImgSegments.segments(input1);
+			final List<Segment> in2 = ImgSegments.segments(input2);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in1.size(), s -> {
+				final Segment segment = in1.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] b = (short[]) in2.get(s).data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					o[i] = (short) Saturation.multiply(a[i] & 0xffff, b[i] & 0xffff, 0, 0xffff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in1().firstElement() instanceof UnsignedShortType &&
+				in2().firstElement() instanceof UnsignedShortType &&
+				out().firstElement() instanceof UnsignedShortType && ImgSegments.aligned(in1(),
+					in2()) && ImgSegments.aligned(in1(), out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Divide} of two images of {@link UnsignedShortType}. */
+	@Plugin(type = Ops.Math.Divide.class, priority = Priority.HIGH + 1)
+	public static class DivideUnsignedShort extends
+		AbstractBinaryComputerOp<Img<UnsignedShortType>, Img<UnsignedShortType>, Img<UnsignedShortType>> implements
+		Ops.Math.Divide, Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedShortType> input1, final Img<UnsignedShortType> input2,
+			final Img<UnsignedShortType> output)
+		{
+			final List<Segment> in1 = ImgSegments.segments(input1);
+			final List<Segment> in2 = ImgSegments.segments(input2);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in1.size(), s -> {
+				final Segment segment = in1.get(s);
+				final short[] a = (short[]) segment.data;
+				final short[] b = (short[]) in2.get(s).data;
+				final short[] o = (short[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					o[i] = (short) Saturation.divide(a[i] & 0xffff, b[i] & 0xffff, 0, 0xffff);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in1().firstElement() instanceof UnsignedShortType &&
+				in2().firstElement() instanceof UnsignedShortType &&
+				out().firstElement() instanceof UnsignedShortType && ImgSegments.aligned(in1(),
+					in2()) && ImgSegments.aligned(in1(), out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Abs} of each element of an image of {@link IntType}. */
+	@Plugin(type = Ops.Math.Abs.class, priority = Priority.HIGH)
+	public static class AbsInt extends
+		AbstractUnaryComputerOp<Img<IntType>, Img<IntType>> implements Ops.Math.Abs,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<IntType> input, final Img<IntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (int) Saturation.round(Math.abs(x), Integer.MIN_VALUE, Integer.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof IntType &&
+				out().firstElement() instanceof IntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arccos} of each element of an image of {@link IntType}. */
+	@Plugin(type = Ops.Math.Arccos.class, priority = Priority.HIGH)
+	public static class ArccosInt extends
+		AbstractUnaryComputerOp<Img<IntType>, Img<IntType>> implements Ops.Math.Arccos,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<IntType> input, final Img<IntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (int) Saturation.round(Math.acos(x), Integer.MIN_VALUE, Integer.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof IntType &&
+				out().firstElement() instanceof IntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arccosh} of each element of an image of {@link IntType}. */
+	@Plugin(type = Ops.Math.Arccosh.class, priority = Priority.HIGH)
+	public static class ArccoshInt extends
+		AbstractUnaryComputerOp<Img<IntType>, Img<IntType>> implements Ops.Math.Arccosh,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<IntType> input, final Img<IntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (int) Saturation.round(Math.log(x + (x <= -1 ? -1 : 1) * Math.sqrt(x * x - 1)), Integer.MIN_VALUE, Integer.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof IntType &&
+				out().firstElement() instanceof IntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arccot} of each element of an image of {@link IntType}. */
+	@Plugin(type = Ops.Math.Arccot.class, priority = Priority.HIGH)
+	public static class ArccotInt extends
+		AbstractUnaryComputerOp<Img<IntType>, Img<IntType>> implements Ops.Math.Arccot,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<IntType> input, final Img<IntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (int) Saturation.round(Math.atan(1.0 / x) + (x < 0 ? Math.PI : 0), Integer.MIN_VALUE, Integer.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof IntType &&
+				out().firstElement() instanceof IntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arccoth} of each element of an image of {@link IntType}. */
+	@Plugin(type = Ops.Math.Arccoth.class, priority = Priority.HIGH)
+	public static class ArccothInt extends
+		AbstractUnaryComputerOp<Img<IntType>, Img<IntType>> implements Ops.Math.Arccoth,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<IntType> input, final Img<IntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (int) Saturation.round(0.5 * Math.log((x + 1) / (x - 1)), Integer.MIN_VALUE, Integer.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof IntType &&
+				out().firstElement() instanceof IntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arccsch} of each element of an image of {@link IntType}. */
+	@Plugin(type = Ops.Math.Arccsch.class, priority = Priority.HIGH)
+	public static class ArccschInt extends
+		AbstractUnaryComputerOp<Img<IntType>, Img<IntType>> implements Ops.Math.Arccsch,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<IntType> input, final Img<IntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (int) Saturation.round(Math.log(1 / x + Math.sqrt(1 + 1 / (x * x))), Integer.MIN_VALUE, Integer.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof IntType &&
+				out().firstElement() instanceof IntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arcsech} of each element of an image of {@link IntType}. */
+	@Plugin(type = Ops.Math.Arcsech.class, priority = Priority.HIGH)
+	public static class ArcsechInt extends
+		AbstractUnaryComputerOp<Img<IntType>, Img<IntType>> implements Ops.Math.Arcsech,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<IntType> input, final Img<IntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (int) Saturation.round(Math.log((1 + Math.sqrt(1 - x * x)) / x), Integer.MIN_VALUE, Integer.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof IntType &&
+				out().firstElement() instanceof IntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arcsin} of each element of an image of {@link IntType}. */
+	@Plugin(type = Ops.Math.Arcsin.class, priority = Priority.HIGH)
+	public static class ArcsinInt extends
+		AbstractUnaryComputerOp<Img<IntType>, Img<IntType>> implements Ops.Math.Arcsin,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<IntType> input, final Img<IntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (int) Saturation.round(Math.asin(x), Integer.MIN_VALUE, Integer.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof IntType &&
+				out().firstElement() instanceof IntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arcsinh} of each element of an image of {@link IntType}. */
+	@Plugin(type = Ops.Math.Arcsinh.class, priority = Priority.HIGH)
+	public static class ArcsinhInt extends
+		AbstractUnaryComputerOp<Img<IntType>, Img<IntType>> implements Ops.Math.Arcsinh,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<IntType> input, final Img<IntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (int) Saturation.round(Math.log(x + Math.sqrt(x * x + 1)), Integer.MIN_VALUE, Integer.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof IntType &&
+				out().firstElement() instanceof IntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arctan} of each element of an image of {@link IntType}. */
+	@Plugin(type = Ops.Math.Arctan.class, priority = Priority.HIGH)
+	public static class ArctanInt extends
+		AbstractUnaryComputerOp<Img<IntType>, Img<IntType>> implements Ops.Math.Arctan,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<IntType> input, final Img<IntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (int) Saturation.round(Math.atan(x), Integer.MIN_VALUE, Integer.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof IntType &&
+				out().firstElement() instanceof IntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arctanh} of each element of an image of {@link IntType}. */
+	@Plugin(type = Ops.Math.Arctanh.class, priority = Priority.HIGH)
+	public static class ArctanhInt extends
+		AbstractUnaryComputerOp<Img<IntType>, Img<IntType>> implements Ops.Math.Arctanh,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<IntType> input, final Img<IntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (int) Saturation.round(0.5 * Math.log((1 + x) / (1 - x)), Integer.MIN_VALUE, Integer.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof IntType &&
+				out().firstElement() instanceof IntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Ceil} of each element of an image of {@link IntType}. */
+	@Plugin(type = Ops.Math.Ceil.class, priority = Priority.HIGH)
+	public static class CeilInt extends
+		AbstractUnaryComputerOp<Img<IntType>, Img<IntType>> implements Ops.Math.Ceil,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<IntType> input, final Img<IntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (int) Saturation.round(Math.ceil(x), Integer.MIN_VALUE, Integer.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof IntType &&
+				out().firstElement() instanceof IntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Cos} of each element of an image of {@link IntType}. */
+	@Plugin(type = Ops.Math.Cos.class, priority = Priority.HIGH)
+	public static class CosInt extends
+		AbstractUnaryComputerOp<Img<IntType>, Img<IntType>> implements Ops.Math.Cos,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<IntType> input, final Img<IntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (int) Saturation.round(Math.cos(x), Integer.MIN_VALUE, Integer.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof IntType &&
+				out().firstElement() instanceof IntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Cosh} of each element of an image of {@link IntType}. */
+	@Plugin(type = Ops.Math.Cosh.class, priority = Priority.HIGH)
+	public static class CoshInt extends
+		AbstractUnaryComputerOp<Img<IntType>, Img<IntType>> implements Ops.Math.Cosh,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<IntType> input, final Img<IntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (int) Saturation.round(Math.cosh(x), Integer.MIN_VALUE, Integer.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof IntType &&
+				out().firstElement() instanceof IntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Cot} of each element of an image of {@link IntType}. */
+	@Plugin(type = Ops.Math.Cot.class, priority = Priority.HIGH)
+	public static class CotInt extends
+		AbstractUnaryComputerOp<Img<IntType>, Img<IntType>> implements Ops.Math.Cot,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<IntType> input, final Img<IntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (int) Saturation.round(1.0 / Math.tan(x), Integer.MIN_VALUE, Integer.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof IntType &&
+				out().firstElement() instanceof IntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Coth} of each element of an image of {@link IntType}. */
+	@Plugin(type = Ops.Math.Coth.class, priority = Priority.HIGH)
+	public static class CothInt extends
+		AbstractUnaryComputerOp<Img<IntType>, Img<IntType>> implements Ops.Math.Coth,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<IntType> input, final Img<IntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (int) Saturation.round(1.0 / Math.tanh(x), Integer.MIN_VALUE, Integer.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof IntType &&
+				out().firstElement() instanceof IntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Csc} of each element of an image of {@link IntType}. */
+	@Plugin(type = Ops.Math.Csc.class, priority = Priority.HIGH)
+	public static class CscInt extends
+		AbstractUnaryComputerOp<Img<IntType>, Img<IntType>> implements Ops.Math.Csc,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<IntType> input, final Img<IntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (int) Saturation.round(1.0 / Math.sin(x), Integer.MIN_VALUE, Integer.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof IntType &&
+				out().firstElement() instanceof IntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Csch} of each element of an image of {@link IntType}. */
+	@Plugin(type = Ops.Math.Csch.class, priority = Priority.HIGH)
+	public static class CschInt extends
+		AbstractUnaryComputerOp<Img<IntType>, Img<IntType>> implements Ops.Math.Csch,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<IntType> input, final Img<IntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (int) Saturation.round(1.0 / Math.sinh(x), Integer.MIN_VALUE, Integer.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof IntType &&
+				out().firstElement() instanceof IntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.CubeRoot} of each element of an image of {@link IntType}. */
+	@Plugin(type = Ops.Math.CubeRoot.class, priority = Priority.HIGH)
+	public static class CubeRootInt extends
+		AbstractUnaryComputerOp<Img<IntType>, Img<IntType>> implements Ops.Math.CubeRoot,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<IntType> input, final Img<IntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (int) Saturation.round(Math.cbrt(x), Integer.MIN_VALUE, Integer.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof IntType &&
+				out().firstElement() instanceof IntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Exp} of each element of an image of {@link IntType}. */
+	@Plugin(type = Ops.Math.Exp.class, priority = Priority.HIGH)
+	public static class ExpInt extends
+		AbstractUnaryComputerOp<Img<IntType>, Img<IntType>> implements Ops.Math.Exp,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<IntType> input, final Img<IntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (int) Saturation.round(Math.exp(x), Integer.MIN_VALUE, Integer.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof IntType &&
+				out().firstElement() instanceof IntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.ExpMinusOne} of each element of an image of {@link IntType}. */
+	@Plugin(type = Ops.Math.ExpMinusOne.class, priority = Priority.HIGH)
+	public static class ExpMinusOneInt extends
+		AbstractUnaryComputerOp<Img<IntType>, Img<IntType>> implements Ops.Math.ExpMinusOne,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<IntType> input, final Img<IntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (int) Saturation.round(Math.exp(x) - 1, Integer.MIN_VALUE, Integer.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof IntType &&
+				out().firstElement() instanceof IntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Floor} of each element of an image of {@link IntType}. */
+	@Plugin(type = Ops.Math.Floor.class, priority = Priority.HIGH)
+	public static class FloorInt extends
+		AbstractUnaryComputerOp<Img<IntType>, Img<IntType>> implements Ops.Math.Floor,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<IntType> input, final Img<IntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (int) Saturation.round(Math.floor(x), Integer.MIN_VALUE, Integer.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof IntType &&
+				out().firstElement() instanceof IntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Gamma} of each element of an image of {@link IntType}. */
+	@Plugin(type = Ops.Math.Gamma.class, priority = Priority.HIGH)
+	public static class GammaInt extends
+		AbstractUnaryComputerOp<Img<IntType>, Img<IntType>> implements Ops.Math.Gamma,
+		Contingent
+	{
+
+		@Parameter
+		private double constant;
+
+		@Override
+		public void compute(final Img<IntType> input, final Img<IntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (int) Saturation.round(x <= 0 ? 0 : Math.exp(constant * Math.log(x)), Integer.MIN_VALUE, Integer.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof IntType &&
+				out().firstElement() instanceof IntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Invert} of each element of an image of {@link IntType}. */
+	@Plugin(type = Ops.Math.Invert.class, priority = Priority.HIGH)
+	public static class InvertInt extends
+		AbstractUnaryComputerOp<Img<IntType>, Img<IntType>> implements Ops.Math.Invert,
+		Contingent
+	{
+
+		@Parameter
+		private double specifiedMin;
+
+		@Parameter
+		private double specifiedMax;
+
+		@Override
+		public void compute(final Img<IntType> input, final Img<IntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (int) Saturation.round(specifiedMax - (x - specifiedMin), Integer.MIN_VALUE, Integer.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof IntType &&
+				out().firstElement() instanceof IntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Log} of each element of an image of {@link IntType}. */
+	@Plugin(type = Ops.Math.Log.class, priority = Priority.HIGH)
+	public static class LogInt extends
+		AbstractUnaryComputerOp<Img<IntType>, Img<IntType>> implements Ops.Math.Log,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<IntType> input, final Img<IntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (int) Saturation.round(Math.log(x), Integer.MIN_VALUE, Integer.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof IntType &&
+				out().firstElement() instanceof IntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Log10} of each element of an image of {@link IntType}. */
+	@Plugin(type = Ops.Math.Log10.class, priority = Priority.HIGH)
+	public static class Log10Int extends
+		AbstractUnaryComputerOp<Img<IntType>, Img<IntType>> implements Ops.Math.Log10,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<IntType> input, final Img<IntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (int) Saturation.round(Math.log10(x), Integer.MIN_VALUE, Integer.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof IntType &&
+				out().firstElement() instanceof IntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Log2} of each element of an image of {@link IntType}. */
+	@Plugin(type = Ops.Math.Log2.class, priority = Priority.HIGH)
+	public static class Log2Int extends
+		AbstractUnaryComputerOp<Img<IntType>, Img<IntType>> implements Ops.Math.Log2,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<IntType> input, final Img<IntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (int) Saturation.round(Math.log(x) / Math.log(2), Integer.MIN_VALUE, Integer.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof IntType &&
+				out().firstElement() instanceof IntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.LogOnePlusX} of each element of an image of {@link IntType}. */
+	@Plugin(type = Ops.Math.LogOnePlusX.class, priority = Priority.HIGH)
+	public static class LogOnePlusXInt extends
+		AbstractUnaryComputerOp<Img<IntType>, Img<IntType>> implements Ops.Math.LogOnePlusX,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<IntType> input, final Img<IntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (int) Saturation.round(Math.log1p(x), Integer.MIN_VALUE, Integer.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof IntType &&
+				out().firstElement() instanceof IntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Max} of each element of an image of {@link IntType}. */
+	@Plugin(type = Ops.Math.Max.class, priority = Priority.HIGH)
+	public static class MaxInt extends
+		AbstractUnaryComputerOp<Img<IntType>, Img<IntType>> implements Ops.Math.Max,
+		Contingent
+	{
+
+		@Parameter
+		private double constant;
+
+		@Override
+		public void compute(final Img<IntType> input, final Img<IntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (int) Saturation.round(x < constant ? x : constant, Integer.MIN_VALUE, Integer.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof IntType &&
+				out().firstElement() instanceof IntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Min} of each element of an image of {@link IntType}. */
+	@Plugin(type = Ops.Math.Min.class, priority = Priority.HIGH)
+	public static class MinInt extends
+		AbstractUnaryComputerOp<Img<IntType>, Img<IntType>> implements Ops.Math.Min,
+		Contingent
+	{
+
+		@Parameter
+		private double constant;
+
+		@Override
+		public void compute(final Img<IntType> input, final Img<IntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (int) Saturation.round(x > constant ? x : constant, Integer.MIN_VALUE, Integer.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof IntType &&
+				out().firstElement() instanceof IntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.NearestInt} of each element of an image of {@link IntType}. */
+	@Plugin(type = Ops.Math.NearestInt.class, priority = Priority.HIGH)
+	public static class NearestIntInt extends
+		AbstractUnaryComputerOp<Img<IntType>, Img<IntType>> implements Ops.Math.NearestInt,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<IntType> input, final Img<IntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (int) Saturation.round(Math.rint(x), Integer.MIN_VALUE, Integer.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof IntType &&
+				out().firstElement() instanceof IntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Negate} of each element of an image of {@link IntType}. */
+	@Plugin(type = Ops.Math.Negate.class, priority = Priority.HIGH)
+	public static class NegateInt extends
+		AbstractUnaryComputerOp<Img<IntType>, Img<IntType>> implements Ops.Math.Negate,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<IntType> input, final Img<IntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (int) Saturation.round(-x, Integer.MIN_VALUE, Integer.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof IntType &&
+				out().firstElement() instanceof IntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Power} of each element of an image of {@link IntType}. */
+	@Plugin(type = Ops.Math.Power.class, priority = Priority.HIGH)
+	public static class PowerInt extends
+		AbstractUnaryComputerOp<Img<IntType>, Img<IntType>> implements Ops.Math.Power,
+		Contingent
+	{
+
+		@Parameter
+		private double constant;
+
+		@Override
+		public void compute(final Img<IntType> input, final Img<IntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (int) Saturation.round(Math.pow(x, constant), Integer.MIN_VALUE, Integer.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof IntType &&
+				out().firstElement() instanceof IntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Reciprocal} of each element of an image of {@link IntType}. */
+	@Plugin(type = Ops.Math.Reciprocal.class, priority = Priority.HIGH)
+	public static class ReciprocalInt extends
+		AbstractUnaryComputerOp<Img<IntType>, Img<IntType>> implements Ops.Math.Reciprocal,
+		Contingent
+	{
+
+		@Parameter
+		private double dbzVal;
+
+		@Override
+		public void compute(final Img<IntType> input, final Img<IntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (int) Saturation.round(x == 0 ? dbzVal : 1.0 / x, Integer.MIN_VALUE, Integer.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof IntType &&
+				out().firstElement() instanceof IntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Round} of each element of an image of {@link IntType}. */
+	@Plugin(type = Ops.Math.Round.class, priority = Priority.HIGH)
+	public static class RoundInt extends
+		AbstractUnaryComputerOp<Img<IntType>, Img<IntType>> implements Ops.Math.Round,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<IntType> input, final Img<IntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (int) Saturation.round((double) Math.round(x), Integer.MIN_VALUE, Integer.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof IntType &&
+				out().firstElement() instanceof IntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Sec} of each element of an image of {@link IntType}. */
+	@Plugin(type = Ops.Math.Sec.class, priority = Priority.HIGH)
+	public static class SecInt extends
+		AbstractUnaryComputerOp<Img<IntType>, Img<IntType>> implements Ops.Math.Sec,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<IntType> input, final Img<IntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (int) Saturation.round(1.0 / Math.cos(x), Integer.MIN_VALUE, Integer.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof IntType &&
+				out().firstElement() instanceof IntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Sech} of each element of an image of {@link IntType}. */
+	@Plugin(type = Ops.Math.Sech.class, priority = Priority.HIGH)
+	public static class SechInt extends
+		AbstractUnaryComputerOp<Img<IntType>, Img<IntType>> implements Ops.Math.Sech,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<IntType> input, final Img<IntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (int) Saturation.round(1.0 / Math.cosh(x), Integer.MIN_VALUE, Integer.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof IntType &&
+				out().firstElement() instanceof IntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Signum} of each element of an image of {@link IntType}. */
+	@Plugin(type = Ops.Math.Signum.class, priority = Priority.HIGH)
+	public static class SignumInt extends
+		AbstractUnaryComputerOp<Img<IntType>, Img<IntType>> implements Ops.Math.Signum,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<IntType> input, final Img<IntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (int) Saturation.round(Math.signum(x), Integer.MIN_VALUE, Integer.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof IntType &&
+				out().firstElement() instanceof IntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Sin} of each element of an image of {@link IntType}. */
+	@Plugin(type = Ops.Math.Sin.class, priority = Priority.HIGH)
+	public static class SinInt extends
+		AbstractUnaryComputerOp<Img<IntType>, Img<IntType>> implements Ops.Math.Sin,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<IntType> input, final Img<IntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (int) Saturation.round(Math.sin(x), Integer.MIN_VALUE, Integer.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof IntType &&
+				out().firstElement() instanceof IntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Sinc} of each element of an image of {@link IntType}. */
+	@Plugin(type = Ops.Math.Sinc.class, priority = Priority.HIGH)
+	public static class SincInt extends
+		AbstractUnaryComputerOp<Img<IntType>, Img<IntType>> implements Ops.Math.Sinc,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<IntType> input, final Img<IntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (int) Saturation.round(x == 0 ? 1 : Math.sin(x) / x, Integer.MIN_VALUE, Integer.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof IntType &&
+				out().firstElement() instanceof IntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.SincPi} of each element of an image of {@link IntType}. */
+	@Plugin(type = Ops.Math.SincPi.class, priority = Priority.HIGH)
+	public static class SincPiInt extends
+		AbstractUnaryComputerOp<Img<IntType>, Img<IntType>> implements Ops.Math.SincPi,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<IntType> input, final Img<IntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (int) Saturation.round(x == 0 ? 1 : Math.sin(Math.PI * x) / (Math.PI * x), Integer.MIN_VALUE, Integer.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof IntType &&
+				out().firstElement() instanceof IntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Sinh} of each element of an image of {@link IntType}. */
+	@Plugin(type = Ops.Math.Sinh.class, priority = Priority.HIGH)
+	public static class SinhInt extends
+		AbstractUnaryComputerOp<Img<IntType>, Img<IntType>> implements Ops.Math.Sinh,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<IntType> input, final Img<IntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (int) Saturation.round(Math.sinh(x), Integer.MIN_VALUE, Integer.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof IntType &&
+				out().firstElement() instanceof IntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Sqr} of each element of an image of {@link IntType}. */
+	@Plugin(type = Ops.Math.Sqr.class, priority = Priority.HIGH)
+	public static class SqrInt extends
+		AbstractUnaryComputerOp<Img<IntType>, Img<IntType>> implements Ops.Math.Sqr,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<IntType> input, final Img<IntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (int) Saturation.round(x * x, Integer.MIN_VALUE, Integer.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof IntType &&
+				out().firstElement() instanceof IntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Sqrt} of each element of an image of {@link IntType}. */
+	@Plugin(type = Ops.Math.Sqrt.class, priority = Priority.HIGH)
+	public static class SqrtInt extends
+		AbstractUnaryComputerOp<Img<IntType>, Img<IntType>> implements Ops.Math.Sqrt,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<IntType> input, final Img<IntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (int) Saturation.round(Math.sqrt(x), Integer.MIN_VALUE, Integer.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof IntType &&
+				out().firstElement() instanceof IntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Step} of each element of an image of {@link IntType}. */
+	@Plugin(type = Ops.Math.Step.class, priority = Priority.HIGH)
+	public static class StepInt extends
+		AbstractUnaryComputerOp<Img<IntType>, Img<IntType>> implements Ops.Math.Step,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<IntType> input, final Img<IntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (int) Saturation.round(x < 0 ? 0 : 1, Integer.MIN_VALUE, Integer.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof IntType &&
+				out().firstElement() instanceof IntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Tan} of each element of an image of {@link IntType}. */
+	@Plugin(type = Ops.Math.Tan.class, priority = Priority.HIGH)
+	public static class TanInt extends
+		AbstractUnaryComputerOp<Img<IntType>, Img<IntType>> implements Ops.Math.Tan,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<IntType> input, final Img<IntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (int) Saturation.round(Math.tan(x), Integer.MIN_VALUE, Integer.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof IntType &&
+				out().firstElement() instanceof IntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Tanh} of each element of an image of {@link IntType}. */
+	@Plugin(type = Ops.Math.Tanh.class, priority = Priority.HIGH)
+	public static class TanhInt extends
+		AbstractUnaryComputerOp<Img<IntType>, Img<IntType>> implements Ops.Math.Tanh,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<IntType> input, final Img<IntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (int) Saturation.round(Math.tanh(x), Integer.MIN_VALUE, Integer.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof IntType &&
+				out().firstElement() instanceof IntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Ulp} of each element of an image of {@link IntType}. */
+	@Plugin(type = Ops.Math.Ulp.class, priority = Priority.HIGH)
+	public static class UlpInt extends
+		AbstractUnaryComputerOp<Img<IntType>, Img<IntType>> implements Ops.Math.Ulp,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<IntType> input, final Img<IntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (int) Saturation.round(Math.ulp(x), Integer.MIN_VALUE, Integer.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof IntType &&
+				out().firstElement() instanceof IntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Add} of two images of {@link IntType}. */
+	@Plugin(type = Ops.Math.Add.class, priority = Priority.HIGH + 1)
+	public static class AddInt extends
+		AbstractBinaryComputerOp<Img<IntType>, Img<IntType>, Img<IntType>> implements
+		Ops.Math.Add, Contingent
+	{
+
+		@Override
+		public void compute(final Img<IntType> input1, final Img<IntType> input2,
+			final Img<IntType> output)
+		{
+			final List<Segment> in1 = ImgSegments.segments(input1);
+			final List<Segment> in2 = ImgSegments.segments(input2);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in1.size(), s -> {
+				final Segment segment = in1.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] b = (int[]) in2.get(s).data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					o[i] = (int) Saturation.add(a[i], b[i], Integer.MIN_VALUE, Integer.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in1().firstElement() instanceof IntType &&
+				in2().firstElement() instanceof IntType &&
+				out().firstElement() instanceof IntType && ImgSegments.aligned(in1(),
+					in2()) && ImgSegments.aligned(in1(), out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Subtract} of two images of {@link IntType}. */
+	@Plugin(type = Ops.Math.Subtract.class, priority = Priority.HIGH + 1)
+	public static class SubtractInt extends
+		AbstractBinaryComputerOp<Img<IntType>, Img<IntType>, Img<IntType>> implements
+		Ops.Math.Subtract, Contingent
+	{
+
+		@Override
+		public void compute(final Img<IntType> input1, final Img<IntType> input2,
+			final Img<IntType> output)
+		{
+			final List<Segment> in1 = ImgSegments.segments(input1);
+			final List<Segment> in2 = ImgSegments.segments(input2);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in1.size(), s -> {
+				final Segment segment = in1.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] b = (int[]) in2.get(s).data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					o[i] = (int) Saturation.subtract(a[i], b[i], Integer.MIN_VALUE, Integer.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in1().firstElement() instanceof IntType &&
+				in2().firstElement() instanceof IntType &&
+				out().firstElement() instanceof IntType && ImgSegments.aligned(in1(),
+					in2()) && ImgSegments.aligned(in1(), out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Multiply} of two images of {@link IntType}. */
+	@Plugin(type = Ops.Math.Multiply.class, priority = Priority.HIGH + 1)
+	public static class MultiplyInt extends
+		AbstractBinaryComputerOp<Img<IntType>, Img<IntType>, Img<IntType>> implements
+		Ops.Math.Multiply, Contingent
+	{
+
+		@Override
+		public void compute(final Img<IntType> input1, final Img<IntType> input2,
+			final Img<IntType> output)
+		{
+			final List<Segment> in1 = ImgSegments.segments(input1);
+			final List<Segment> in2 = ImgSegments.segments(input2);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in1.size(), s -> {
+				final Segment segment = in1.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] b = (int[]) in2.get(s).data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					o[i] = (int) Saturation.multiply(a[i], b[i], Integer.MIN_VALUE, Integer.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in1().firstElement() instanceof IntType &&
+				in2().firstElement() instanceof IntType &&
+				out().firstElement() instanceof IntType && ImgSegments.aligned(in1(),
+					in2()) && ImgSegments.aligned(in1(), out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Divide} of two images of {@link IntType}. */
+	@Plugin(type = Ops.Math.Divide.class, priority = Priority.HIGH + 1)
+	public static class DivideInt extends
+		AbstractBinaryComputerOp<Img<IntType>, Img<IntType>, Img<IntType>> implements
+		Ops.Math.Divide, Contingent
+	{
+
+		@Override
+		public void compute(final Img<IntType> input1, final Img<IntType> input2,
+			final Img<IntType> output)
+		{
+			final List<Segment> in1 = ImgSegments.segments(input1);
+			final List<Segment> in2 = ImgSegments.segments(input2);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in1.size(), s -> {
+				final Segment segment = in1.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] b = (int[]) in2.get(s).data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					o[i] = (int) Saturation.divide(a[i], b[i], Integer.MIN_VALUE, Integer.MAX_VALUE);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in1().firstElement() instanceof IntType &&
+				in2().firstElement() instanceof IntType &&
+				out().firstElement() instanceof IntType && ImgSegments.aligned(in1(),
+					in2()) && ImgSegments.aligned(in1(), out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Abs} of each element of an image of {@link UnsignedIntType}. */
+	@Plugin(type = Ops.Math.Abs.class, priority = Priority.HIGH)
+	public static class AbsUnsignedInt extends
+		AbstractUnaryComputerOp<Img<UnsignedIntType>, Img<UnsignedIntType>> implements Ops.Math.Abs,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedIntType> input, final Img<UnsignedIntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffffffffL;
+					o[i] = (int) Saturation.round(Math.abs(x), 0, 0xffffffffL);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedIntType &&
+				out().firstElement() instanceof UnsignedIntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arccos} of each element of an image of {@link UnsignedIntType}. */
+	@Plugin(type = Ops.Math.Arccos.class, priority = Priority.HIGH)
+	public static class ArccosUnsignedInt extends
+		AbstractUnaryComputerOp<Img<UnsignedIntType>, Img<UnsignedIntType>> implements Ops.Math.Arccos,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedIntType> input, final Img<UnsignedIntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffffffffL;
+					o[i] = (int) Saturation.round(Math.acos(x), 0, 0xffffffffL);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedIntType &&
+				out().firstElement() instanceof UnsignedIntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arccosh} of each element of an image of {@link UnsignedIntType}. */
+	@Plugin(type = Ops.Math.Arccosh.class, priority = Priority.HIGH)
+	public static class ArccoshUnsignedInt extends
+		AbstractUnaryComputerOp<Img<UnsignedIntType>, Img<UnsignedIntType>> implements Ops.Math.Arccosh,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedIntType> input, final Img<UnsignedIntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffffffffL;
+					o[i] = (int) Saturation.round(Math.log(x + (x <= -1 ? -1 : 1) * Math.sqrt(x * x - 1)), 0, 0xffffffffL);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedIntType &&
+				out().firstElement() instanceof UnsignedIntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arccot} of each element of an image of {@link UnsignedIntType}. */
+	@Plugin(type = Ops.Math.Arccot.class, priority = Priority.HIGH)
+	public static class ArccotUnsignedInt extends
+		AbstractUnaryComputerOp<Img<UnsignedIntType>, Img<UnsignedIntType>> implements Ops.Math.Arccot,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedIntType> input, final Img<UnsignedIntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffffffffL;
+					o[i] = (int) Saturation.round(Math.atan(1.0 / x) + (x < 0 ? Math.PI : 0), 0, 0xffffffffL);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedIntType &&
+				out().firstElement() instanceof UnsignedIntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arccoth} of each element of an image of {@link UnsignedIntType}. */
+	@Plugin(type = Ops.Math.Arccoth.class, priority = Priority.HIGH)
+	public static class ArccothUnsignedInt extends
+		AbstractUnaryComputerOp<Img<UnsignedIntType>, Img<UnsignedIntType>> implements Ops.Math.Arccoth,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedIntType> input, final Img<UnsignedIntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffffffffL;
+					o[i] = (int) Saturation.round(0.5 * Math.log((x + 1) / (x - 1)), 0, 0xffffffffL);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedIntType &&
+				out().firstElement() instanceof UnsignedIntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arccsch} of each element of an image of {@link UnsignedIntType}. */
+	@Plugin(type = Ops.Math.Arccsch.class, priority = Priority.HIGH)
+	public static class ArccschUnsignedInt extends
+		AbstractUnaryComputerOp<Img<UnsignedIntType>, Img<UnsignedIntType>> implements Ops.Math.Arccsch,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedIntType> input, final Img<UnsignedIntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffffffffL;
+					o[i] = (int) Saturation.round(Math.log(1 / x + Math.sqrt(1 + 1 / (x * x))), 0, 0xffffffffL);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedIntType &&
+				out().firstElement() instanceof UnsignedIntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arcsech} of each element of an image of {@link UnsignedIntType}. */
+	@Plugin(type = Ops.Math.Arcsech.class, priority = Priority.HIGH)
+	public static class ArcsechUnsignedInt extends
+		AbstractUnaryComputerOp<Img<UnsignedIntType>, Img<UnsignedIntType>> implements Ops.Math.Arcsech,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedIntType> input, final Img<UnsignedIntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffffffffL;
+					o[i] = (int) Saturation.round(Math.log((1 + Math.sqrt(1 - x * x)) / x), 0, 0xffffffffL);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedIntType &&
+				out().firstElement() instanceof UnsignedIntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arcsin} of each element of an image of {@link UnsignedIntType}. */
+	@Plugin(type = Ops.Math.Arcsin.class, priority = Priority.HIGH)
+	public static class ArcsinUnsignedInt extends
+		AbstractUnaryComputerOp<Img<UnsignedIntType>, Img<UnsignedIntType>> implements Ops.Math.Arcsin,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedIntType> input, final Img<UnsignedIntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffffffffL;
+					o[i] = (int) Saturation.round(Math.asin(x), 0, 0xffffffffL);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedIntType &&
+				out().firstElement() instanceof UnsignedIntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arcsinh} of each element of an image of {@link UnsignedIntType}. */
+	@Plugin(type = Ops.Math.Arcsinh.class, priority = Priority.HIGH)
+	public static class ArcsinhUnsignedInt extends
+		AbstractUnaryComputerOp<Img<UnsignedIntType>, Img<UnsignedIntType>> implements Ops.Math.Arcsinh,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedIntType> input, final Img<UnsignedIntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffffffffL;
+					o[i] = (int) Saturation.round(Math.log(x + Math.sqrt(x * x + 1)), 0, 0xffffffffL);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedIntType &&
+				out().firstElement() instanceof UnsignedIntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arctan} of each element of an image of {@link UnsignedIntType}. */
+	@Plugin(type = Ops.Math.Arctan.class, priority = Priority.HIGH)
+	public static class ArctanUnsignedInt extends
+		AbstractUnaryComputerOp<Img<UnsignedIntType>, Img<UnsignedIntType>> implements Ops.Math.Arctan,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedIntType> input, final Img<UnsignedIntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffffffffL;
+					o[i] = (int) Saturation.round(Math.atan(x), 0, 0xffffffffL);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedIntType &&
+				out().firstElement() instanceof UnsignedIntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arctanh} of each element of an image of {@link UnsignedIntType}. */
+	@Plugin(type = Ops.Math.Arctanh.class, priority = Priority.HIGH)
+	public static class ArctanhUnsignedInt extends
+		AbstractUnaryComputerOp<Img<UnsignedIntType>, Img<UnsignedIntType>> implements Ops.Math.Arctanh,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedIntType> input, final Img<UnsignedIntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffffffffL;
+					o[i] = (int) Saturation.round(0.5 * Math.log((1 + x) / (1 - x)), 0, 0xffffffffL);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedIntType &&
+				out().firstElement() instanceof UnsignedIntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Ceil} of each element of an image of {@link UnsignedIntType}. */
+	@Plugin(type = Ops.Math.Ceil.class, priority = Priority.HIGH)
+	public static class CeilUnsignedInt extends
+		AbstractUnaryComputerOp<Img<UnsignedIntType>, Img<UnsignedIntType>> implements Ops.Math.Ceil,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedIntType> input, final Img<UnsignedIntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffffffffL;
+					o[i] = (int) Saturation.round(Math.ceil(x), 0, 0xffffffffL);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedIntType &&
+				out().firstElement() instanceof UnsignedIntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Cos} of each element of an image of {@link UnsignedIntType}. */
+	@Plugin(type = Ops.Math.Cos.class, priority = Priority.HIGH)
+	public static class CosUnsignedInt extends
+		AbstractUnaryComputerOp<Img<UnsignedIntType>, Img<UnsignedIntType>> implements Ops.Math.Cos,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedIntType> input, final Img<UnsignedIntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffffffffL;
+					o[i] = (int) Saturation.round(Math.cos(x), 0, 0xffffffffL);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedIntType &&
+				out().firstElement() instanceof UnsignedIntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Cosh} of each element of an image of {@link UnsignedIntType}. */
+	@Plugin(type = Ops.Math.Cosh.class, priority = Priority.HIGH)
+	public static class CoshUnsignedInt extends
+		AbstractUnaryComputerOp<Img<UnsignedIntType>, Img<UnsignedIntType>> implements Ops.Math.Cosh,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedIntType> input, final Img<UnsignedIntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffffffffL;
+					o[i] = (int) Saturation.round(Math.cosh(x), 0, 0xffffffffL);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedIntType &&
+				out().firstElement() instanceof UnsignedIntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Cot} of each element of an image of {@link UnsignedIntType}. */
+	@Plugin(type = Ops.Math.Cot.class, priority = Priority.HIGH)
+	public static class CotUnsignedInt extends
+		AbstractUnaryComputerOp<Img<UnsignedIntType>, Img<UnsignedIntType>> implements Ops.Math.Cot,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedIntType> input, final Img<UnsignedIntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffffffffL;
+					o[i] = (int) Saturation.round(1.0 / Math.tan(x), 0, 0xffffffffL);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedIntType &&
+				out().firstElement() instanceof UnsignedIntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Coth} of each element of an image of {@link UnsignedIntType}. */
+	@Plugin(type = Ops.Math.Coth.class, priority = Priority.HIGH)
+	public static class CothUnsignedInt extends
+		AbstractUnaryComputerOp<Img<UnsignedIntType>, Img<UnsignedIntType>> implements Ops.Math.Coth,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedIntType> input, final Img<UnsignedIntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffffffffL;
+					o[i] = (int) Saturation.round(1.0 / Math.tanh(x), 0, 0xffffffffL);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedIntType &&
+				out().firstElement() instanceof UnsignedIntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Csc} of each element of an image of {@link UnsignedIntType}. */
+	@Plugin(type = Ops.Math.Csc.class, priority = Priority.HIGH)
+	public static class CscUnsignedInt extends
+		AbstractUnaryComputerOp<Img<UnsignedIntType>, Img<UnsignedIntType>> implements Ops.Math.Csc,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedIntType> input, final Img<UnsignedIntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffffffffL;
+					o[i] = (int) Saturation.round(1.0 / Math.sin(x), 0, 0xffffffffL);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedIntType &&
+				out().firstElement() instanceof UnsignedIntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Csch} of each element of an image of {@link UnsignedIntType}. */
+	@Plugin(type = Ops.Math.Csch.class, priority = Priority.HIGH)
+	public static class CschUnsignedInt extends
+		AbstractUnaryComputerOp<Img<UnsignedIntType>, Img<UnsignedIntType>> implements Ops.Math.Csch,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedIntType> input, final Img<UnsignedIntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffffffffL;
+					o[i] = (int) Saturation.round(1.0 / Math.sinh(x), 0, 0xffffffffL);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedIntType &&
+				out().firstElement() instanceof UnsignedIntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.CubeRoot} of each element of an image of {@link UnsignedIntType}. */
+	@Plugin(type = Ops.Math.CubeRoot.class, priority = Priority.HIGH)
+	public static class CubeRootUnsignedInt extends
+		AbstractUnaryComputerOp<Img<UnsignedIntType>, Img<UnsignedIntType>> implements Ops.Math.CubeRoot,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedIntType> input, final Img<UnsignedIntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffffffffL;
+					o[i] = (int) Saturation.round(Math.cbrt(x), 0, 0xffffffffL);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedIntType &&
+				out().firstElement() instanceof UnsignedIntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Exp} of each element of an image of {@link UnsignedIntType}. */
+	@Plugin(type = Ops.Math.Exp.class, priority = Priority.HIGH)
+	public static class ExpUnsignedInt extends
+		AbstractUnaryComputerOp<Img<UnsignedIntType>, Img<UnsignedIntType>> implements Ops.Math.Exp,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedIntType> input, final Img<UnsignedIntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffffffffL;
+					o[i] = (int) Saturation.round(Math.exp(x), 0, 0xffffffffL);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedIntType &&
+				out().firstElement() instanceof UnsignedIntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.ExpMinusOne} of each element of an image of {@link UnsignedIntType}. */
+	@Plugin(type = Ops.Math.ExpMinusOne.class, priority = Priority.HIGH)
+	public static class ExpMinusOneUnsignedInt extends
+		AbstractUnaryComputerOp<Img<UnsignedIntType>, Img<UnsignedIntType>> implements Ops.Math.ExpMinusOne,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedIntType> input, final Img<UnsignedIntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffffffffL;
+					o[i] = (int) Saturation.round(Math.exp(x) - 1, 0, 0xffffffffL);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedIntType &&
+				out().firstElement() instanceof UnsignedIntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Floor} of each element of an image of {@link UnsignedIntType}. */
+	@Plugin(type = Ops.Math.Floor.class, priority = Priority.HIGH)
+	public static class FloorUnsignedInt extends
+		AbstractUnaryComputerOp<Img<UnsignedIntType>, Img<UnsignedIntType>> implements Ops.Math.Floor,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedIntType> input, final Img<UnsignedIntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffffffffL;
+					o[i] = (int) Saturation.round(Math.floor(x), 0, 0xffffffffL);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedIntType &&
+				out().firstElement() instanceof UnsignedIntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Gamma} of each element of an image of {@link UnsignedIntType}. */
+	@Plugin(type = Ops.Math.Gamma.class, priority = Priority.HIGH)
+	public static class GammaUnsignedInt extends
+		AbstractUnaryComputerOp<Img<UnsignedIntType>, Img<UnsignedIntType>> implements Ops.Math.Gamma,
+		Contingent
+	{
+
+		@Parameter
+		private double constant;
+
+		@Override
+		public void compute(final Img<UnsignedIntType> input, final Img<UnsignedIntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffffffffL;
+					o[i] = (int) Saturation.round(x <= 0 ? 0 : Math.exp(constant * Math.log(x)), 0, 0xffffffffL);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedIntType &&
+				out().firstElement() instanceof UnsignedIntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Invert} of each element of an image of {@link UnsignedIntType}. */
+	@Plugin(type = Ops.Math.Invert.class, priority = Priority.HIGH)
+	public static class InvertUnsignedInt extends
+		AbstractUnaryComputerOp<Img<UnsignedIntType>, Img<UnsignedIntType>> implements Ops.Math.Invert,
+		Contingent
+	{
+
+		@Parameter
+		private double specifiedMin;
+
+		@Parameter
+		private double specifiedMax;
+
+		@Override
+		public void compute(final Img<UnsignedIntType> input, final Img<UnsignedIntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffffffffL;
+					o[i] = (int) Saturation.round(specifiedMax - (x - specifiedMin), 0, 0xffffffffL);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedIntType &&
+				out().firstElement() instanceof UnsignedIntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Log} of each element of an image of {@link UnsignedIntType}. */
+	@Plugin(type = Ops.Math.Log.class, priority = Priority.HIGH)
+	public static class LogUnsignedInt extends
+		AbstractUnaryComputerOp<Img<UnsignedIntType>, Img<UnsignedIntType>> implements Ops.Math.Log,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedIntType> input, final Img<UnsignedIntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffffffffL;
+					o[i] = (int) Saturation.round(Math.log(x), 0, 0xffffffffL);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedIntType &&
+				out().firstElement() instanceof UnsignedIntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Log10} of each element of an image of {@link UnsignedIntType}. */
+	@Plugin(type = Ops.Math.Log10.class, priority = Priority.HIGH)
+	public static class Log10UnsignedInt extends
+		AbstractUnaryComputerOp<Img<UnsignedIntType>, Img<UnsignedIntType>> implements Ops.Math.Log10,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedIntType> input, final Img<UnsignedIntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffffffffL;
+					o[i] = (int) Saturation.round(Math.log10(x), 0, 0xffffffffL);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedIntType &&
+				out().firstElement() instanceof UnsignedIntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Log2} of each element of an image of {@link UnsignedIntType}. */
+	@Plugin(type = Ops.Math.Log2.class, priority = Priority.HIGH)
+	public static class Log2UnsignedInt extends
+		AbstractUnaryComputerOp<Img<UnsignedIntType>, Img<UnsignedIntType>> implements Ops.Math.Log2,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedIntType> input, final Img<UnsignedIntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffffffffL;
+					o[i] = (int) Saturation.round(Math.log(x) / Math.log(2), 0, 0xffffffffL);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedIntType &&
+				out().firstElement() instanceof UnsignedIntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.LogOnePlusX} of each element of an image of {@link UnsignedIntType}. */
+	@Plugin(type = Ops.Math.LogOnePlusX.class, priority = Priority.HIGH)
+	public static class LogOnePlusXUnsignedInt extends
+		AbstractUnaryComputerOp<Img<UnsignedIntType>, Img<UnsignedIntType>> implements Ops.Math.LogOnePlusX,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedIntType> input, final Img<UnsignedIntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffffffffL;
+					o[i] = (int) Saturation.round(Math.log1p(x), 0, 0xffffffffL);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedIntType &&
+				out().firstElement() instanceof UnsignedIntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Max} of each element of an image of {@link UnsignedIntType}. */
+	@Plugin(type = Ops.Math.Max.class, priority = Priority.HIGH)
+	public static class MaxUnsignedInt extends
+		AbstractUnaryComputerOp<Img<UnsignedIntType>, Img<UnsignedIntType>> implements Ops.Math.Max,
+		Contingent
+	{
+
+		@Parameter
+		private double constant;
+
+		@Override
+		public void compute(final Img<UnsignedIntType> input, final Img<UnsignedIntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffffffffL;
+					o[i] = (int) Saturation.round(x < constant ? x : constant, 0, 0xffffffffL);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedIntType &&
+				out().firstElement() instanceof UnsignedIntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Min} of each element of an image of {@link UnsignedIntType}. */
+	@Plugin(type = Ops.Math.Min.class, priority = Priority.HIGH)
+	public static class MinUnsignedInt extends
+		AbstractUnaryComputerOp<Img<UnsignedIntType>, Img<UnsignedIntType>> implements Ops.Math.Min,
+		Contingent
+	{
+
+		@Parameter
+		private double constant;
+
+		@Override
+		public void compute(final Img<UnsignedIntType> input, final Img<UnsignedIntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffffffffL;
+					o[i] = (int) Saturation.round(x > constant ? x : constant, 0, 0xffffffffL);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedIntType &&
+				out().firstElement() instanceof UnsignedIntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.NearestInt} of each element of an image of {@link UnsignedIntType}. */
+	@Plugin(type = Ops.Math.NearestInt.class, priority = Priority.HIGH)
+	public static class NearestIntUnsignedInt extends
+		AbstractUnaryComputerOp<Img<UnsignedIntType>, Img<UnsignedIntType>> implements Ops.Math.NearestInt,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedIntType> input, final Img<UnsignedIntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffffffffL;
+					o[i] = (int) Saturation.round(Math.rint(x), 0, 0xffffffffL);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedIntType &&
+				out().firstElement() instanceof UnsignedIntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Negate} of each element of an image of {@link UnsignedIntType}. */
+	@Plugin(type = Ops.Math.Negate.class, priority = Priority.HIGH)
+	public static class NegateUnsignedInt extends
+		AbstractUnaryComputerOp<Img<UnsignedIntType>, Img<UnsignedIntType>> implements Ops.Math.Negate,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedIntType> input, final Img<UnsignedIntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffffffffL;
+					o[i] = (int) Saturation.round(-x, 0, 0xffffffffL);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedIntType &&
+				out().firstElement() instanceof UnsignedIntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Power} of each element of an image of {@link UnsignedIntType}. */
+	@Plugin(type = Ops.Math.Power.class, priority = Priority.HIGH)
+	public static class PowerUnsignedInt extends
+		AbstractUnaryComputerOp<Img<UnsignedIntType>, Img<UnsignedIntType>> implements Ops.Math.Power,
+		Contingent
+	{
+
+		@Parameter
+		private double constant;
+
+		@Override
+		public void compute(final Img<UnsignedIntType> input, final Img<UnsignedIntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffffffffL;
+					o[i] = (int) Saturation.round(Math.pow(x, constant), 0, 0xffffffffL);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedIntType &&
+				out().firstElement() instanceof UnsignedIntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Reciprocal} of each element of an image of {@link UnsignedIntType}. */
+	@Plugin(type = Ops.Math.Reciprocal.class, priority = Priority.HIGH)
+	public static class ReciprocalUnsignedInt extends
+		AbstractUnaryComputerOp<Img<UnsignedIntType>, Img<UnsignedIntType>> implements Ops.Math.Reciprocal,
+		Contingent
+	{
+
+		@Parameter
+		private double dbzVal;
+
+		@Override
+		public void compute(final Img<UnsignedIntType> input, final Img<UnsignedIntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffffffffL;
+					o[i] = (int) Saturation.round(x == 0 ? dbzVal : 1.0 / x, 0, 0xffffffffL);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedIntType &&
+				out().firstElement() instanceof UnsignedIntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Round} of each element of an image of {@link UnsignedIntType}. */
+	@Plugin(type = Ops.Math.Round.class, priority = Priority.HIGH)
+	public static class RoundUnsignedInt extends
+		AbstractUnaryComputerOp<Img<UnsignedIntType>, Img<UnsignedIntType>> implements Ops.Math.Round,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedIntType> input, final Img<UnsignedIntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffffffffL;
+					o[i] = (int) Saturation.round((double) Math.round(x), 0, 0xffffffffL);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedIntType &&
+				out().firstElement() instanceof UnsignedIntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Sec} of each element of an image of {@link UnsignedIntType}. */
+	@Plugin(type = Ops.Math.Sec.class, priority = Priority.HIGH)
+	public static class SecUnsignedInt extends
+		AbstractUnaryComputerOp<Img<UnsignedIntType>, Img<UnsignedIntType>> implements Ops.Math.Sec,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedIntType> input, final Img<UnsignedIntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffffffffL;
+					o[i] = (int) Saturation.round(1.0 / Math.cos(x), 0, 0xffffffffL);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedIntType &&
+				out().firstElement() instanceof UnsignedIntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Sech} of each element of an image of {@link UnsignedIntType}. */
+	@Plugin(type = Ops.Math.Sech.class, priority = Priority.HIGH)
+	public static class SechUnsignedInt extends
+		AbstractUnaryComputerOp<Img<UnsignedIntType>, Img<UnsignedIntType>> implements Ops.Math.Sech,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedIntType> input, final Img<UnsignedIntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffffffffL;
+					o[i] = (int) Saturation.round(1.0 / Math.cosh(x), 0, 0xffffffffL);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedIntType &&
+				out().firstElement() instanceof UnsignedIntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Signum} of each element of an image of {@link UnsignedIntType}. */
+	@Plugin(type = Ops.Math.Signum.class, priority = Priority.HIGH)
+	public static class SignumUnsignedInt extends
+		AbstractUnaryComputerOp<Img<UnsignedIntType>, Img<UnsignedIntType>> implements Ops.Math.Signum,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedIntType> input, final Img<UnsignedIntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffffffffL;
+					o[i] = (int) Saturation.round(Math.signum(x), 0, 0xffffffffL);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedIntType &&
+				out().firstElement() instanceof UnsignedIntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Sin} of each element of an image of {@link UnsignedIntType}. */
+	@Plugin(type = Ops.Math.Sin.class, priority = Priority.HIGH)
+	public static class SinUnsignedInt extends
+		AbstractUnaryComputerOp<Img<UnsignedIntType>, Img<UnsignedIntType>> implements Ops.Math.Sin,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedIntType> input, final Img<UnsignedIntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffffffffL;
+					o[i] = (int) Saturation.round(Math.sin(x), 0, 0xffffffffL);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedIntType &&
+				out().firstElement() instanceof UnsignedIntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Sinc} of each element of an image of {@link UnsignedIntType}. */
+	@Plugin(type = Ops.Math.Sinc.class, priority = Priority.HIGH)
+	public static class SincUnsignedInt extends
+		AbstractUnaryComputerOp<Img<UnsignedIntType>, Img<UnsignedIntType>> implements Ops.Math.Sinc,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedIntType> input, final Img<UnsignedIntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffffffffL;
+					o[i] = (int) Saturation.round(x == 0 ? 1 : Math.sin(x) / x, 0, 0xffffffffL);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedIntType &&
+				out().firstElement() instanceof UnsignedIntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.SincPi} of each element of an image of {@link UnsignedIntType}. */
+	@Plugin(type = Ops.Math.SincPi.class, priority = Priority.HIGH)
+	public static class SincPiUnsignedInt extends
+		AbstractUnaryComputerOp<Img<UnsignedIntType>, Img<UnsignedIntType>> implements Ops.Math.SincPi,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedIntType> input, final Img<UnsignedIntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffffffffL;
+					o[i] = (int) Saturation.round(x == 0 ? 1 : Math.sin(Math.PI * x) / (Math.PI * x), 0, 0xffffffffL);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedIntType &&
+				out().firstElement() instanceof UnsignedIntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Sinh} of each element of an image of {@link UnsignedIntType}. */
+	@Plugin(type = Ops.Math.Sinh.class, priority = Priority.HIGH)
+	public static class SinhUnsignedInt extends
+		AbstractUnaryComputerOp<Img<UnsignedIntType>, Img<UnsignedIntType>> implements Ops.Math.Sinh,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedIntType> input, final Img<UnsignedIntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffffffffL;
+					o[i] = (int) Saturation.round(Math.sinh(x), 0, 0xffffffffL);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedIntType &&
+				out().firstElement() instanceof UnsignedIntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Sqr} of each element of an image of {@link UnsignedIntType}. */
+	@Plugin(type = Ops.Math.Sqr.class, priority = Priority.HIGH)
+	public static class SqrUnsignedInt extends
+		AbstractUnaryComputerOp<Img<UnsignedIntType>, Img<UnsignedIntType>> implements Ops.Math.Sqr,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedIntType> input, final Img<UnsignedIntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffffffffL;
+					o[i] = (int) Saturation.round(x * x, 0, 0xffffffffL);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedIntType &&
+				out().firstElement() instanceof UnsignedIntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Sqrt} of each element of an image of {@link UnsignedIntType}. */
+	@Plugin(type = Ops.Math.Sqrt.class, priority = Priority.HIGH)
+	public static class SqrtUnsignedInt extends
+		AbstractUnaryComputerOp<Img<UnsignedIntType>, Img<UnsignedIntType>> implements Ops.Math.Sqrt,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedIntType> input, final Img<UnsignedIntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffffffffL;
+					o[i] = (int) Saturation.round(Math.sqrt(x), 0, 0xffffffffL);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedIntType &&
+				out().firstElement() instanceof UnsignedIntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Step} of each element of an image of {@link UnsignedIntType}. */
+	@Plugin(type = Ops.Math.Step.class, priority = Priority.HIGH)
+	public static class StepUnsignedInt extends
+		AbstractUnaryComputerOp<Img<UnsignedIntType>, Img<UnsignedIntType>> implements Ops.Math.Step,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedIntType> input, final Img<UnsignedIntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffffffffL;
+					o[i] = (int) Saturation.round(x < 0 ? 0 : 1, 0, 0xffffffffL);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedIntType &&
+				out().firstElement() instanceof UnsignedIntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Tan} of each element of an image of {@link UnsignedIntType}. */
+	@Plugin(type = Ops.Math.Tan.class, priority = Priority.HIGH)
+	public static class TanUnsignedInt extends
+		AbstractUnaryComputerOp<Img<UnsignedIntType>, Img<UnsignedIntType>> implements Ops.Math.Tan,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedIntType> input, final Img<UnsignedIntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffffffffL;
+					o[i] = (int) Saturation.round(Math.tan(x), 0, 0xffffffffL);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedIntType &&
+				out().firstElement() instanceof UnsignedIntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Tanh} of each element of an image of {@link UnsignedIntType}. */
+	@Plugin(type = Ops.Math.Tanh.class, priority = Priority.HIGH)
+	public static class TanhUnsignedInt extends
+		AbstractUnaryComputerOp<Img<UnsignedIntType>, Img<UnsignedIntType>> implements Ops.Math.Tanh,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedIntType> input, final Img<UnsignedIntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffffffffL;
+					o[i] = (int) Saturation.round(Math.tanh(x), 0, 0xffffffffL);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedIntType &&
+				out().firstElement() instanceof UnsignedIntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Ulp} of each element of an image of {@link UnsignedIntType}. */
+	@Plugin(type = Ops.Math.Ulp.class, priority = Priority.HIGH)
+	public static class UlpUnsignedInt extends
+		AbstractUnaryComputerOp<Img<UnsignedIntType>, Img<UnsignedIntType>> implements Ops.Math.Ulp,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedIntType> input, final Img<UnsignedIntType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i] & 0xffffffffL;
+					o[i] = (int) Saturation.round(Math.ulp(x), 0, 0xffffffffL);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedIntType &&
+				out().firstElement() instanceof UnsignedIntType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Add} of two images of {@link UnsignedIntType}. */
+	@Plugin(type = Ops.Math.Add.class, priority = Priority.HIGH + 1)
+	public static class AddUnsignedInt extends
+		AbstractBinaryComputerOp<Img<UnsignedIntType>, Img<UnsignedIntType>, Img<UnsignedIntType>> implements
+		Ops.Math.Add, Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedIntType> input1, final Img<UnsignedIntType> input2,
+			final Img<UnsignedIntType> output)
+		{
+			final List<Segment> in1 = ImgSegments.segments(input1);
+			final List<Segment> in2 = ImgSegments.segments(input2);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in1.size(), s -> {
+				final Segment segment = in1.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] b = (int[]) in2.get(s).data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					o[i] = (int) Saturation.add(a[i] & 0xffffffffL, b[i] & 0xffffffffL, 0, 0xffffffffL);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in1().firstElement() instanceof UnsignedIntType &&
+				in2().firstElement() instanceof UnsignedIntType &&
+				out().firstElement() instanceof UnsignedIntType && ImgSegments.aligned(in1(),
+					in2()) && ImgSegments.aligned(in1(), out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Subtract} of two images of {@link UnsignedIntType}. */
+	@Plugin(type = Ops.Math.Subtract.class, priority = Priority.HIGH + 1)
+	public static class SubtractUnsignedInt extends
+		AbstractBinaryComputerOp<Img<UnsignedIntType>, Img<UnsignedIntType>, Img<UnsignedIntType>> implements
+		Ops.Math.Subtract, Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedIntType> input1, final Img<UnsignedIntType> input2,
+			final Img<UnsignedIntType> output)
+		{
+			final List<Segment> in1 = ImgSegments.segments(input1);
+			final List<Segment> in2 = ImgSegments.segments(input2);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in1.size(), s -> {
+				final Segment segment = in1.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] b = (int[]) in2.get(s).data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					o[i] = (int) Saturation.subtract(a[i] & 0xffffffffL, b[i] & 0xffffffffL, 0, 0xffffffffL);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in1().firstElement() instanceof UnsignedIntType &&
+				in2().firstElement() instanceof UnsignedIntType &&
+				out().firstElement() instanceof UnsignedIntType && ImgSegments.aligned(in1(),
+					in2()) && ImgSegments.aligned(in1(), out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Multiply} of two images of {@link UnsignedIntType}. */
+	@Plugin(type = Ops.Math.Multiply.class, priority = Priority.HIGH + 1)
+	public static class MultiplyUnsignedInt extends
+		AbstractBinaryComputerOp<Img<UnsignedIntType>, Img<UnsignedIntType>, Img<UnsignedIntType>> implements
+		Ops.Math.Multiply, Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedIntType> input1, final Img<UnsignedIntType> input2,
+			final Img<UnsignedIntType> output)
+		{
+			final List<Segment> in1 = ImgSegments.segments(input1);
+			final List<Segment> in2 = ImgSegments.segments(input2);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in1.size(), s -> {
+				final Segment segment = in1.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] b = (int[]) in2.get(s).data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					o[i] = (int) Saturation.multiply(a[i] & 0xffffffffL, b[i] & 0xffffffffL, 0, 0xffffffffL);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in1().firstElement() instanceof UnsignedIntType &&
+				in2().firstElement() instanceof UnsignedIntType &&
+				out().firstElement() instanceof UnsignedIntType && ImgSegments.aligned(in1(),
+					in2()) && ImgSegments.aligned(in1(), out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Divide} of two images of {@link UnsignedIntType}. */
+	@Plugin(type = Ops.Math.Divide.class, priority = Priority.HIGH + 1)
+	public static class DivideUnsignedInt extends
+		AbstractBinaryComputerOp<Img<UnsignedIntType>, Img<UnsignedIntType>, Img<UnsignedIntType>> implements
+		Ops.Math.Divide, Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedIntType> input1, final Img<UnsignedIntType> input2,
+			final Img<UnsignedIntType> output)
+		{
+			final List<Segment> in1 = ImgSegments.segments(input1);
+			final List<Segment> in2 = ImgSegments.segments(input2);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in1.size(), s -> {
+				final Segment segment = in1.get(s);
+				final int[] a = (int[]) segment.data;
+				final int[] b = (int[]) in2.get(s).data;
+				final int[] o = (int[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					o[i] = (int) Saturation.divide(a[i] & 0xffffffffL, b[i] & 0xffffffffL, 0, 0xffffffffL);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in1().firstElement() instanceof UnsignedIntType &&
+				in2().firstElement() instanceof UnsignedIntType &&
+				out().firstElement() instanceof UnsignedIntType && ImgSegments.aligned(in1(),
+					in2()) && ImgSegments.aligned(in1(), out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Abs} of each element of an image of {@link LongType}. */
+	@Plugin(type = Ops.Math.Abs.class, priority = Priority.HIGH)
+	public static class AbsLong extends
+		AbstractUnaryComputerOp<Img<LongType>, Img<LongType>> implements Ops.Math.Abs,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<LongType> input, final Img<LongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = Math.round(Math.abs(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof LongType &&
+				out().firstElement() instanceof LongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arccos} of each element of an image of {@link LongType}. */
+	@Plugin(type = Ops.Math.Arccos.class, priority = Priority.HIGH)
+	public static class ArccosLong extends
+		AbstractUnaryComputerOp<Img<LongType>, Img<LongType>> implements Ops.Math.Arccos,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<LongType> input, final Img<LongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = Math.round(Math.acos(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof LongType &&
+				out().firstElement() instanceof LongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arccosh} of each element of an image of {@link LongType}. */
+	@Plugin(type = Ops.Math.Arccosh.class, priority = Priority.HIGH)
+	public static class ArccoshLong extends
+		AbstractUnaryComputerOp<Img<LongType>, Img<LongType>> implements Ops.Math.Arccosh,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<LongType> input, final Img<LongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = Math.round(Math.log(x + (x <= -1 ? -1 : 1) * Math.sqrt(x * x - 1)));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof LongType &&
+				out().firstElement() instanceof LongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arccot} of each element of an image of {@link LongType}. */
+	@Plugin(type = Ops.Math.Arccot.class, priority = Priority.HIGH)
+	public static class ArccotLong extends
+		AbstractUnaryComputerOp<Img<LongType>, Img<LongType>> implements Ops.Math.Arccot,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<LongType> input, final Img<LongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = Math.round(Math.atan(1.0 / x) + (x < 0 ? Math.PI : 0));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof LongType &&
+				out().firstElement() instanceof LongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arccoth} of each element of an image of {@link LongType}. */
+	@Plugin(type = Ops.Math.Arccoth.class, priority = Priority.HIGH)
+	public static class ArccothLong extends
+		AbstractUnaryComputerOp<Img<LongType>, Img<LongType>> implements Ops.Math.Arccoth,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<LongType> input, final Img<LongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = Math.round(0.5 * Math.log((x + 1) / (x - 1)));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof LongType &&
+				out().firstElement() instanceof LongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arccsch} of each element of an image of {@link LongType}. */
+	@Plugin(type = Ops.Math.Arccsch.class, priority = Priority.HIGH)
+	public static class ArccschLong extends
+		AbstractUnaryComputerOp<Img<LongType>, Img<LongType>> implements Ops.Math.Arccsch,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<LongType> input, final Img<LongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = Math.round(Math.log(1 / x + Math.sqrt(1 + 1 / (x * x))));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof LongType &&
+				out().firstElement() instanceof LongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arcsech} of each element of an image of {@link LongType}. */
+	@Plugin(type = Ops.Math.Arcsech.class, priority = Priority.HIGH)
+	public static class ArcsechLong extends
+		AbstractUnaryComputerOp<Img<LongType>, Img<LongType>> implements Ops.Math.Arcsech,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<LongType> input, final Img<LongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = Math.round(Math.log((1 + Math.sqrt(1 - x * x)) / x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof LongType &&
+				out().firstElement() instanceof LongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arcsin} of each element of an image of {@link LongType}. */
+	@Plugin(type = Ops.Math.Arcsin.class, priority = Priority.HIGH)
+	public static class ArcsinLong extends
+		AbstractUnaryComputerOp<Img<LongType>, Img<LongType>> implements Ops.Math.Arcsin,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<LongType> input, final Img<LongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = Math.round(Math.asin(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof LongType &&
+				out().firstElement() instanceof LongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arcsinh} of each element of an image of {@link LongType}. */
+	@Plugin(type = Ops.Math.Arcsinh.class, priority = Priority.HIGH)
+	public static class ArcsinhLong extends
+		AbstractUnaryComputerOp<Img<LongType>, Img<LongType>> implements Ops.Math.Arcsinh,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<LongType> input, final Img<LongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = Math.round(Math.log(x + Math.sqrt(x * x + 1)));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof LongType &&
+				out().firstElement() instanceof LongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arctan} of each element of an image of {@link LongType}. */
+	@Plugin(type = Ops.Math.Arctan.class, priority = Priority.HIGH)
+	public static class ArctanLong extends
+		AbstractUnaryComputerOp<Img<LongType>, Img<LongType>> implements Ops.Math.Arctan,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<LongType> input, final Img<LongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = Math.round(Math.atan(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof LongType &&
+				out().firstElement() instanceof LongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arctanh} of each element of an image of {@link LongType}. */
+	@Plugin(type = Ops.Math.Arctanh.class, priority = Priority.HIGH)
+	public static class ArctanhLong extends
+		AbstractUnaryComputerOp<Img<LongType>, Img<LongType>> implements Ops.Math.Arctanh,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<LongType> input, final Img<LongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = Math.round(0.5 * Math.log((1 + x) / (1 - x)));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof LongType &&
+				out().firstElement() instanceof LongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Ceil} of each element of an image of {@link LongType}. */
+	@Plugin(type = Ops.Math.Ceil.class, priority = Priority.HIGH)
+	public static class CeilLong extends
+		AbstractUnaryComputerOp<Img<LongType>, Img<LongType>> implements Ops.Math.Ceil,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<LongType> input, final Img<LongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = Math.round(Math.ceil(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof LongType &&
+				out().firstElement() instanceof LongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Cos} of each element of an image of {@link LongType}. */
+	@Plugin(type = Ops.Math.Cos.class, priority = Priority.HIGH)
+	public static class CosLong extends
+		AbstractUnaryComputerOp<Img<LongType>, Img<LongType>> implements Ops.Math.Cos,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<LongType> input, final Img<LongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = Math.round(Math.cos(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof LongType &&
+				out().firstElement() instanceof LongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Cosh} of each element of an image of {@link LongType}. */
+	@Plugin(type = Ops.Math.Cosh.class, priority = Priority.HIGH)
+	public static class CoshLong extends
+		AbstractUnaryComputerOp<Img<LongType>, Img<LongType>> implements Ops.Math.Cosh,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<LongType> input, final Img<LongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = Math.round(Math.cosh(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof LongType &&
+				out().firstElement() instanceof LongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Cot} of each element of an image of {@link LongType}. */
+	@Plugin(type = Ops.Math.Cot.class, priority = Priority.HIGH)
+	public static class CotLong extends
+		AbstractUnaryComputerOp<Img<LongType>, Img<LongType>> implements Ops.Math.Cot,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<LongType> input, final Img<LongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = Math.round(1.0 / Math.tan(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof LongType &&
+				out().firstElement() instanceof LongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Coth} of each element of an image of {@link LongType}. */
+	@Plugin(type = Ops.Math.Coth.class, priority = Priority.HIGH)
+	public static class CothLong extends
+		AbstractUnaryComputerOp<Img<LongType>, Img<LongType>> implements Ops.Math.Coth,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<LongType> input, final Img<LongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = Math.round(1.0 / Math.tanh(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof LongType &&
+				out().firstElement() instanceof LongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Csc} of each element of an image of {@link LongType}. */
+	@Plugin(type = Ops.Math.Csc.class, priority = Priority.HIGH)
+	public static class CscLong extends
+		AbstractUnaryComputerOp<Img<LongType>, Img<LongType>> implements Ops.Math.Csc,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<LongType> input, final Img<LongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = Math.round(1.0 / Math.sin(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof LongType &&
+				out().firstElement() instanceof LongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Csch} of each element of an image of {@link LongType}. */
+	@Plugin(type = Ops.Math.Csch.class, priority = Priority.HIGH)
+	public static class CschLong extends
+		AbstractUnaryComputerOp<Img<LongType>, Img<LongType>> implements Ops.Math.Csch,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<LongType> input, final Img<LongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = Math.round(1.0 / Math.sinh(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof LongType &&
+				out().firstElement() instanceof LongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.CubeRoot} of each element of an image of {@link LongType}. */
+	@Plugin(type = Ops.Math.CubeRoot.class, priority = Priority.HIGH)
+	public static class CubeRootLong extends
+		AbstractUnaryComputerOp<Img<LongType>, Img<LongType>> implements Ops.Math.CubeRoot,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<LongType> input, final Img<LongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = Math.round(Math.cbrt(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof LongType &&
+				out().firstElement() instanceof LongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Exp} of each element of an image of {@link LongType}. */
+	@Plugin(type = Ops.Math.Exp.class, priority = Priority.HIGH)
+	public static class ExpLong extends
+		AbstractUnaryComputerOp<Img<LongType>, Img<LongType>> implements Ops.Math.Exp,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<LongType> input, final Img<LongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = Math.round(Math.exp(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof LongType &&
+				out().firstElement() instanceof LongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.ExpMinusOne} of each element of an image of {@link LongType}. */
+	@Plugin(type = Ops.Math.ExpMinusOne.class, priority = Priority.HIGH)
+	public static class ExpMinusOneLong extends
+		AbstractUnaryComputerOp<Img<LongType>, Img<LongType>> implements Ops.Math.ExpMinusOne,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<LongType> input, final Img<LongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = Math.round(Math.exp(x) - 1);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof LongType &&
+				out().firstElement() instanceof LongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Floor} of each element of an image of {@link LongType}. */
+	@Plugin(type = Ops.Math.Floor.class, priority = Priority.HIGH)
+	public static class FloorLong extends
+		AbstractUnaryComputerOp<Img<LongType>, Img<LongType>> implements Ops.Math.Floor,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<LongType> input, final Img<LongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = Math.round(Math.floor(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof LongType &&
+				out().firstElement() instanceof LongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Gamma} of each element of an image of {@link LongType}. */
+	@Plugin(type = Ops.Math.Gamma.class, priority = Priority.HIGH)
+	public static class GammaLong extends
+		AbstractUnaryComputerOp<Img<LongType>, Img<LongType>> implements Ops.Math.Gamma,
+		Contingent
+	{
+
+		@Parameter
+		private double constant;
+
+		@Override
+		public void compute(final Img<LongType> input, final Img<LongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = Math.round(x <= 0 ? 0 : Math.exp(constant * Math.log(x)));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof LongType &&
+				out().firstElement() instanceof LongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Invert} of each element of an image of {@link LongType}. */
+	@Plugin(type = Ops.Math.Invert.class, priority = Priority.HIGH)
+	public static class InvertLong extends
+		AbstractUnaryComputerOp<Img<LongType>, Img<LongType>> implements Ops.Math.Invert,
+		Contingent
+	{
+
+		@Parameter
+		private double specifiedMin;
+
+		@Parameter
+		private double specifiedMax;
+
+		@Override
+		public void compute(final Img<LongType> input, final Img<LongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = Math.round(specifiedMax - (x - specifiedMin));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof LongType &&
+				out().firstElement() instanceof LongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Log} of each element of an image of {@link LongType}. */
+	@Plugin(type = Ops.Math.Log.class, priority = Priority.HIGH)
+	public static class LogLong extends
+		AbstractUnaryComputerOp<Img<LongType>, Img<LongType>> implements Ops.Math.Log,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<LongType> input, final Img<LongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = Math.round(Math.log(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof LongType &&
+				out().firstElement() instanceof LongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Log10} of each element of an image of {@link LongType}. */
+	@Plugin(type = Ops.Math.Log10.class, priority = Priority.HIGH)
+	public static class Log10Long extends
+		AbstractUnaryComputerOp<Img<LongType>, Img<LongType>> implements Ops.Math.Log10,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<LongType> input, final Img<LongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = Math.round(Math.log10(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof LongType &&
+				out().firstElement() instanceof LongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Log2} of each element of an image of {@link LongType}. */
+	@Plugin(type = Ops.Math.Log2.class, priority = Priority.HIGH)
+	public static class Log2Long extends
+		AbstractUnaryComputerOp<Img<LongType>, Img<LongType>> implements Ops.Math.Log2,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<LongType> input, final Img<LongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = Math.round(Math.log(x) / Math.log(2));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof LongType &&
+				out().firstElement() instanceof LongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.LogOnePlusX} of each element of an image of {@link LongType}. */
+	@Plugin(type = Ops.Math.LogOnePlusX.class, priority = Priority.HIGH)
+	public static class LogOnePlusXLong extends
+		AbstractUnaryComputerOp<Img<LongType>, Img<LongType>> implements Ops.Math.LogOnePlusX,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<LongType> input, final Img<LongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = Math.round(Math.log1p(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof LongType &&
+				out().firstElement() instanceof LongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Max} of each element of an image of {@link LongType}. */
+	@Plugin(type = Ops.Math.Max.class, priority = Priority.HIGH)
+	public static class MaxLong extends
+		AbstractUnaryComputerOp<Img<LongType>, Img<LongType>> implements Ops.Math.Max,
+		Contingent
+	{
+
+		@Parameter
+		private double constant;
+
+		@Override
+		public void compute(final Img<LongType> input, final Img<LongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = Math.round(x < constant ? x : constant);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof LongType &&
+				out().firstElement() instanceof LongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Min} of each element of an image of {@link LongType}. */
+	@Plugin(type = Ops.Math.Min.class, priority = Priority.HIGH)
+	public static class MinLong extends
+		AbstractUnaryComputerOp<Img<LongType>, Img<LongType>> implements Ops.Math.Min,
+		Contingent
+	{
+
+		@Parameter
+		private double constant;
+
+		@Override
+		public void compute(final Img<LongType> input, final Img<LongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = Math.round(x > constant ? x : constant);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof LongType &&
+				out().firstElement() instanceof LongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.NearestInt} of each element of an image of {@link LongType}. */
+	@Plugin(type = Ops.Math.NearestInt.class, priority = Priority.HIGH)
+	public static class NearestIntLong extends
+		AbstractUnaryComputerOp<Img<LongType>, Img<LongType>> implements Ops.Math.NearestInt,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<LongType> input, final Img<LongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = Math.round(Math.rint(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof LongType &&
+				out().firstElement() instanceof LongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Negate} of each element of an image of {@link LongType}. */
+	@Plugin(type = Ops.Math.Negate.class, priority = Priority.HIGH)
+	public static class NegateLong extends
+		AbstractUnaryComputerOp<Img<LongType>, Img<LongType>> implements Ops.Math.Negate,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<LongType> input, final Img<LongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = Math.round(-x);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof LongType &&
+				out().firstElement() instanceof LongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Power} of each element of an image of {@link LongType}. */
+	@Plugin(type = Ops.Math.Power.class, priority = Priority.HIGH)
+	public static class PowerLong extends
+		AbstractUnaryComputerOp<Img<LongType>, Img<LongType>> implements Ops.Math.Power,
+		Contingent
+	{
+
+		@Parameter
+		private double constant;
+
+		@Override
+		public void compute(final Img<LongType> input, final Img<LongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = Math.round(Math.pow(x, constant));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof LongType &&
+				out().firstElement() instanceof LongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Reciprocal} of each element of an image of {@link LongType}. */
+	@Plugin(type = Ops.Math.Reciprocal.class, priority = Priority.HIGH)
+	public static class ReciprocalLong extends
+		AbstractUnaryComputerOp<Img<LongType>, Img<LongType>> implements Ops.Math.Reciprocal,
+		Contingent
+	{
+
+		@Parameter
+		private double dbzVal;
+
+		@Override
+		public void compute(final Img<LongType> input, final Img<LongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = Math.round(x == 0 ? dbzVal : 1.0 / x);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof LongType &&
+				out().firstElement() instanceof LongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Round} of each element of an image of {@link LongType}. */
+	@Plugin(type = Ops.Math.Round.class, priority = Priority.HIGH)
+	public static class RoundLong extends
+		AbstractUnaryComputerOp<Img<LongType>, Img<LongType>> implements Ops.Math.Round,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<LongType> input, final Img<LongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = Math.round((double) Math.round(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof LongType &&
+				out().firstElement() instanceof LongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Sec} of each element of an image of {@link LongType}. */
+	@Plugin(type = Ops.Math.Sec.class, priority = Priority.HIGH)
+	public static class SecLong extends
+		AbstractUnaryComputerOp<Img<LongType>, Img<LongType>> implements Ops.Math.Sec,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<LongType> input, final Img<LongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = Math.round(1.0 / Math.cos(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof LongType &&
+				out().firstElement() instanceof LongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Sech} of each element of an image of {@link LongType}. */
+	@Plugin(type = Ops.Math.Sech.class, priority = Priority.HIGH)
+	public static class SechLong extends
+		AbstractUnaryComputerOp<Img<LongType>, Img<LongType>> implements Ops.Math.Sech,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<LongType> input, final Img<LongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = Math.round(1.0 / Math.cosh(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof LongType &&
+				out().firstElement() instanceof LongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Signum} of each element of an image of {@link LongType}. */
+	@Plugin(type = Ops.Math.Signum.class, priority = Priority.HIGH)
+	public static class SignumLong extends
+		AbstractUnaryComputerOp<Img<LongType>, Img<LongType>> implements Ops.Math.Signum,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<LongType> input, final Img<LongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = Math.round(Math.signum(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof LongType &&
+				out().firstElement() instanceof LongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Sin} of each element of an image of {@link LongType}. */
+	@Plugin(type = Ops.Math.Sin.class, priority = Priority.HIGH)
+	public static class SinLong extends
+		AbstractUnaryComputerOp<Img<LongType>, Img<LongType>> implements Ops.Math.Sin,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<LongType> input, final Img<LongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = Math.round(Math.sin(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof LongType &&
+				out().firstElement() instanceof LongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Sinc} of each element of an image of {@link LongType}. */
+	@Plugin(type = Ops.Math.Sinc.class, priority = Priority.HIGH)
+	public static class SincLong extends
+		AbstractUnaryComputerOp<Img<LongType>, Img<LongType>> implements Ops.Math.Sinc,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<LongType> input, final Img<LongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = Math.round(x == 0 ? 1 : Math.sin(x) / x);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof LongType &&
+				out().firstElement() instanceof LongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.SincPi} of each element of an image of {@link LongType}. */
+	@Plugin(type = Ops.Math.SincPi.class, priority = Priority.HIGH)
+	public static class SincPiLong extends
+		AbstractUnaryComputerOp<Img<LongType>, Img<LongType>> implements Ops.Math.SincPi,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<LongType> input, final Img<LongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = Math.round(x == 0 ? 1 : Math.sin(Math.PI * x) / (Math.PI * x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof LongType &&
+				out().firstElement() instanceof LongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Sinh} of each element of an image of {@link LongType}. */
+	@Plugin(type = Ops.Math.Sinh.class, priority = Priority.HIGH)
+	public static class SinhLong extends
+		AbstractUnaryComputerOp<Img<LongType>, Img<LongType>> implements Ops.Math.Sinh,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<LongType> input, final Img<LongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = Math.round(Math.sinh(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof LongType &&
+				out().firstElement() instanceof LongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Sqr} of each element of an image of {@link LongType}. */
+	@Plugin(type = Ops.Math.Sqr.class, priority = Priority.HIGH)
+	public static class SqrLong extends
+		AbstractUnaryComputerOp<Img<LongType>, Img<LongType>> implements Ops.Math.Sqr,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<LongType> input, final Img<LongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = Math.round(x * x);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof LongType &&
+				out().firstElement() instanceof LongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Sqrt} of each element of an image of {@link LongType}. */
+	@Plugin(type = Ops.Math.Sqrt.class, priority = Priority.HIGH)
+	public static class SqrtLong extends
+		AbstractUnaryComputerOp<Img<LongType>, Img<LongType>> implements Ops.Math.Sqrt,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<LongType> input, final Img<LongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = Math.round(Math.sqrt(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof LongType &&
+				out().firstElement() instanceof LongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Step} of each element of an image of {@link LongType}. */
+	@Plugin(type = Ops.Math.Step.class, priority = Priority.HIGH)
+	public static class StepLong extends
+		AbstractUnaryComputerOp<Img<LongType>, Img<LongType>> implements Ops.Math.Step,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<LongType> input, final Img<LongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = Math.round(x < 0 ? 0 : 1);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof LongType &&
+				out().firstElement() instanceof LongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Tan} of each element of an image of {@link LongType}. */
+	@Plugin(type = Ops.Math.Tan.class, priority = Priority.HIGH)
+	public static class TanLong extends
+		AbstractUnaryComputerOp<Img<LongType>, Img<LongType>> implements Ops.Math.Tan,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<LongType> input, final Img<LongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = Math.round(Math.tan(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof LongType &&
+				out().firstElement() instanceof LongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Tanh} of each element of an image of {@link LongType}. */
+	@Plugin(type = Ops.Math.Tanh.class, priority = Priority.HIGH)
+	public static class TanhLong extends
+		AbstractUnaryComputerOp<Img<LongType>, Img<LongType>> implements Ops.Math.Tanh,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<LongType> input, final Img<LongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = Math.round(Math.tanh(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof LongType &&
+				out().firstElement() instanceof LongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Ulp} of each element of an image of {@link LongType}. */
+	@Plugin(type = Ops.Math.Ulp.class, priority = Priority.HIGH)
+	public static class UlpLong extends
+		AbstractUnaryComputerOp<Img<LongType>, Img<LongType>> implements Ops.Math.Ulp,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<LongType> input, final Img<LongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = Math.round(Math.ulp(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof LongType &&
+				out().firstElement() instanceof LongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Add} of two images of {@link LongType}. */
+	@Plugin(type = Ops.Math.Add.class, priority = Priority.HIGH + 1)
+	public static class AddLong extends
+		AbstractBinaryComputerOp<Img<LongType>, Img<LongType>, Img<LongType>> implements
+		Ops.Math.Add, Contingent
+	{
+
+		@Override
+		public void compute(final Img<LongType> input1, final Img<LongType> input2,
+			final Img<LongType> output)
+		{
+			final List<Segment> in1 = ImgSegments.segments(input1);
+			final List<Segment> in2 = ImgSegments.segments(input2);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in1.size(), s -> {
+				final Segment segment = in1.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] b = (long[]) in2.get(s).data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					o[i] = Saturation.addLong(a[i], b[i]);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in1().firstElement() instanceof LongType &&
+				in2().firstElement() instanceof LongType &&
+				out().firstElement() instanceof LongType && ImgSegments.aligned(in1(),
+					in2()) && ImgSegments.aligned(in1(), out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Subtract} of two images of {@link LongType}. */
+	@Plugin(type = Ops.Math.Subtract.class, priority = Priority.HIGH + 1)
+	public static class SubtractLong extends
+		AbstractBinaryComputerOp<Img<LongType>, Img<LongType>, Img<LongType>> implements
+		Ops.Math.Subtract, Contingent
+	{
+
+		@Override
+		public void compute(final Img<LongType> input1, final Img<LongType> input2,
+			final Img<LongType> output)
+		{
+			final List<Segment> in1 = ImgSegments.segments(input1);
+			final List<Segment> in2 = ImgSegments.segments(input2);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in1.size(), s -> {
+				final Segment segment = in1.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] b = (long[]) in2.get(s).data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					o[i] = Saturation.subtractLong(a[i], b[i]);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in1().firstElement() instanceof LongType &&
+				in2().firstElement() instanceof LongType &&
+				out().firstElement() instanceof LongType && ImgSegments.aligned(in1(),
+					in2()) && ImgSegments.aligned(in1(), out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Multiply} of two images of {@link LongType}. */
+	@Plugin(type = Ops.Math.Multiply.class, priority = Priority.HIGH + 1)
+	public static class MultiplyLong extends
+		AbstractBinaryComputerOp<Img<LongType>, Img<LongType>, Img<LongType>> implements
+		Ops.Math.Multiply, Contingent
+	{
+
+		@Override
+		public void compute(final Img<LongType> input1, final Img<LongType> input2,
+			final Img<LongType> output)
+		{
+			final List<Segment> in1 = ImgSegments.segments(input1);
+			final List<Segment> in2 = ImgSegments.segments(input2);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in1.size(), s -> {
+				final Segment segment = in1.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] b = (long[]) in2.get(s).data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					o[i] = Saturation.multiplyLong(a[i], b[i]);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in1().firstElement() instanceof LongType &&
+				in2().firstElement() instanceof LongType &&
+				out().firstElement() instanceof LongType && ImgSegments.aligned(in1(),
+					in2()) && ImgSegments.aligned(in1(), out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Divide} of two images of {@link LongType}. */
+	@Plugin(type = Ops.Math.Divide.class, priority = Priority.HIGH + 1)
+	public static class DivideLong extends
+		AbstractBinaryComputerOp<Img<LongType>, Img<LongType>, Img<LongType>> implements
+		Ops.Math.Divide, Contingent
+	{
+
+		@Override
+		public void compute(final Img<LongType> input1, final Img<LongType> input2,
+			final Img<LongType> output)
+		{
+			final List<Segment> in1 = ImgSegments.segments(input1);
+			final List<Segment> in2 = ImgSegments.segments(input2);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in1.size(), s -> {
+				final Segment segment = in1.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] b = (long[]) in2.get(s).data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					o[i] = Saturation.divideLong(a[i], b[i]);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in1().firstElement() instanceof LongType &&
+				in2().firstElement() instanceof LongType &&
+				out().firstElement() instanceof LongType && ImgSegments.aligned(in1(),
+					in2()) && ImgSegments.aligned(in1(), out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Abs} of each element of an image of {@link UnsignedLongType}. */
+	@Plugin(type = Ops.Math.Abs.class, priority = Priority.HIGH)
+	public static class AbsUnsignedLong extends
+		AbstractUnaryComputerOp<Img<UnsignedLongType>, Img<UnsignedLongType>> implements Ops.Math.Abs,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedLongType> input, final Img<UnsignedLongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = Saturation.unsignedLongToDouble(a[i]);
+					o[i] = Saturation.roundUnsignedLong(Math.abs(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedLongType &&
+				out().firstElement() instanceof UnsignedLongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arccos} of each element of an image of {@link UnsignedLongType}. */
+	@Plugin(type = Ops.Math.Arccos.class, priority = Priority.HIGH)
+	public static class ArccosUnsignedLong extends
+		AbstractUnaryComputerOp<Img<UnsignedLongType>, Img<UnsignedLongType>> implements Ops.Math.Arccos,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedLongType> input, final Img<UnsignedLongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = Saturation.unsignedLongToDouble(a[i]);
+					o[i] = Saturation.roundUnsignedLong(Math.acos(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedLongType &&
+				out().firstElement() instanceof UnsignedLongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arccosh} of each element of an image of {@link UnsignedLongType}. */
+	@Plugin(type = Ops.Math.Arccosh.class, priority = Priority.HIGH)
+	public static class ArccoshUnsignedLong extends
+		AbstractUnaryComputerOp<Img<UnsignedLongType>, Img<UnsignedLongType>> implements Ops.Math.Arccosh,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedLongType> input, final Img<UnsignedLongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = Saturation.unsignedLongToDouble(a[i]);
+					o[i] = Saturation.roundUnsignedLong(Math.log(x + (x <= -1 ? -1 : 1) * Math.sqrt(x * x - 1)));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedLongType &&
+				out().firstElement() instanceof UnsignedLongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arccot} of each element of an image of {@link UnsignedLongType}. */
+	@Plugin(type = Ops.Math.Arccot.class, priority = Priority.HIGH)
+	public static class ArccotUnsignedLong extends
+		AbstractUnaryComputerOp<Img<UnsignedLongType>, Img<UnsignedLongType>> implements Ops.Math.Arccot,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedLongType> input, final Img<UnsignedLongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = Saturation.unsignedLongToDouble(a[i]);
+					o[i] = Saturation.roundUnsignedLong(Math.atan(1.0 / x) + (x < 0 ? Math.PI : 0));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedLongType &&
+				out().firstElement() instanceof UnsignedLongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arccoth} of each element of an image of {@link UnsignedLongType}. */
+	@Plugin(type = Ops.Math.Arccoth.class, priority = Priority.HIGH)
+	public static class ArccothUnsignedLong extends
+		AbstractUnaryComputerOp<Img<UnsignedLongType>, Img<UnsignedLongType>> implements Ops.Math.Arccoth,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedLongType> input, final Img<UnsignedLongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = Saturation.unsignedLongToDouble(a[i]);
+					o[i] = Saturation.roundUnsignedLong(0.5 * Math.log((x + 1) / (x - 1)));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedLongType &&
+				out().firstElement() instanceof UnsignedLongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arccsch} of each element of an image of {@link UnsignedLongType}. */
+	@Plugin(type = Ops.Math.Arccsch.class, priority = Priority.HIGH)
+	public static class ArccschUnsignedLong extends
+		AbstractUnaryComputerOp<Img<UnsignedLongType>, Img<UnsignedLongType>> implements Ops.Math.Arccsch,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedLongType> input, final Img<UnsignedLongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = Saturation.unsignedLongToDouble(a[i]);
+					o[i] = Saturation.roundUnsignedLong(Math.log(1 / x + Math.sqrt(1 + 1 / (x * x))));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedLongType &&
+				out().firstElement() instanceof UnsignedLongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arcsech} of each element of an image of {@link UnsignedLongType}. */
+	@Plugin(type = Ops.Math.Arcsech.class, priority = Priority.HIGH)
+	public static class ArcsechUnsignedLong extends
+		AbstractUnaryComputerOp<Img<UnsignedLongType>, Img<UnsignedLongType>> implements Ops.Math.Arcsech,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedLongType> input, final Img<UnsignedLongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = Saturation.unsignedLongToDouble(a[i]);
+					o[i] = Saturation.roundUnsignedLong(Math.log((1 + Math.sqrt(1 - x * x)) / x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedLongType &&
+				out().firstElement() instanceof UnsignedLongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arcsin} of each element of an image of {@link UnsignedLongType}. */
+	@Plugin(type = Ops.Math.Arcsin.class, priority = Priority.HIGH)
+	public static class ArcsinUnsignedLong extends
+		AbstractUnaryComputerOp<Img<UnsignedLongType>, Img<UnsignedLongType>> implements Ops.Math.Arcsin,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedLongType> input, final Img<UnsignedLongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = Saturation.unsignedLongToDouble(a[i]);
+					o[i] = Saturation.roundUnsignedLong(Math.asin(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedLongType &&
+				out().firstElement() instanceof UnsignedLongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arcsinh} of each element of an image of {@link UnsignedLongType}. */
+	@Plugin(type = Ops.Math.Arcsinh.class, priority = Priority.HIGH)
+	public static class ArcsinhUnsignedLong extends
+		AbstractUnaryComputerOp<Img<UnsignedLongType>, Img<UnsignedLongType>> implements Ops.Math.Arcsinh,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedLongType> input, final Img<UnsignedLongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = Saturation.unsignedLongToDouble(a[i]);
+					o[i] = Saturation.roundUnsignedLong(Math.log(x + Math.sqrt(x * x + 1)));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedLongType &&
+				out().firstElement() instanceof UnsignedLongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arctan} of each element of an image of {@link UnsignedLongType}. */
+	@Plugin(type = Ops.Math.Arctan.class, priority = Priority.HIGH)
+	public static class ArctanUnsignedLong extends
+		AbstractUnaryComputerOp<Img<UnsignedLongType>, Img<UnsignedLongType>> implements Ops.Math.Arctan,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedLongType> input, final Img<UnsignedLongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = Saturation.unsignedLongToDouble(a[i]);
+					o[i] = Saturation.roundUnsignedLong(Math.atan(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedLongType &&
+				out().firstElement() instanceof UnsignedLongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arctanh} of each element of an image of {@link UnsignedLongType}. */
+	@Plugin(type = Ops.Math.Arctanh.class, priority = Priority.HIGH)
+	public static class ArctanhUnsignedLong extends
+		AbstractUnaryComputerOp<Img<UnsignedLongType>, Img<UnsignedLongType>> implements Ops.Math.Arctanh,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedLongType> input, final Img<UnsignedLongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = Saturation.unsignedLongToDouble(a[i]);
+					o[i] = Saturation.roundUnsignedLong(0.5 * Math.log((1 + x) / (1 - x)));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedLongType &&
+				out().firstElement() instanceof UnsignedLongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Ceil} of each element of an image of {@link UnsignedLongType}. */
+	@Plugin(type = Ops.Math.Ceil.class, priority = Priority.HIGH)
+	public static class CeilUnsignedLong extends
+		AbstractUnaryComputerOp<Img<UnsignedLongType>, Img<UnsignedLongType>> implements Ops.Math.Ceil,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedLongType> input, final Img<UnsignedLongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = Saturation.unsignedLongToDouble(a[i]);
+					o[i] = Saturation.roundUnsignedLong(Math.ceil(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedLongType &&
+				out().firstElement() instanceof UnsignedLongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Cos} of each element of an image of {@link UnsignedLongType}. */
+	@Plugin(type = Ops.Math.Cos.class, priority = Priority.HIGH)
+	public static class CosUnsignedLong extends
+		AbstractUnaryComputerOp<Img<UnsignedLongType>, Img<UnsignedLongType>> implements Ops.Math.Cos,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedLongType> input, final Img<UnsignedLongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = Saturation.unsignedLongToDouble(a[i]);
+					o[i] = Saturation.roundUnsignedLong(Math.cos(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedLongType &&
+				out().firstElement() instanceof UnsignedLongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Cosh} of each element of an image of {@link UnsignedLongType}. */
+	@Plugin(type = Ops.Math.Cosh.class, priority = Priority.HIGH)
+	public static class CoshUnsignedLong extends
+		AbstractUnaryComputerOp<Img<UnsignedLongType>, Img<UnsignedLongType>> implements Ops.Math.Cosh,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedLongType> input, final Img<UnsignedLongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = Saturation.unsignedLongToDouble(a[i]);
+					o[i] = Saturation.roundUnsignedLong(Math.cosh(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedLongType &&
+				out().firstElement() instanceof UnsignedLongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Cot} of each element of an image of {@link UnsignedLongType}. */
+	@Plugin(type = Ops.Math.Cot.class, priority = Priority.HIGH)
+	public static class CotUnsignedLong extends
+		AbstractUnaryComputerOp<Img<UnsignedLongType>, Img<UnsignedLongType>> implements Ops.Math.Cot,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedLongType> input, final Img<UnsignedLongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = Saturation.unsignedLongToDouble(a[i]);
+					o[i] = Saturation.roundUnsignedLong(1.0 / Math.tan(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedLongType &&
+				out().firstElement() instanceof UnsignedLongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Coth} of each element of an image of {@link UnsignedLongType}. */
+	@Plugin(type = Ops.Math.Coth.class, priority = Priority.HIGH)
+	public static class CothUnsignedLong extends
+		AbstractUnaryComputerOp<Img<UnsignedLongType>, Img<UnsignedLongType>> implements Ops.Math.Coth,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedLongType> input, final Img<UnsignedLongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = Saturation.unsignedLongToDouble(a[i]);
+					o[i] = Saturation.roundUnsignedLong(1.0 / Math.tanh(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedLongType &&
+				out().firstElement() instanceof UnsignedLongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Csc} of each element of an image of {@link UnsignedLongType}. */
+	@Plugin(type = Ops.Math.Csc.class, priority = Priority.HIGH)
+	public static class CscUnsignedLong extends
+		AbstractUnaryComputerOp<Img<UnsignedLongType>, Img<UnsignedLongType>> implements Ops.Math.Csc,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedLongType> input, final Img<UnsignedLongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = Saturation.unsignedLongToDouble(a[i]);
+					o[i] = Saturation.roundUnsignedLong(1.0 / Math.sin(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedLongType &&
+				out().firstElement() instanceof UnsignedLongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Csch} of each element of an image of {@link UnsignedLongType}. */
+	@Plugin(type = Ops.Math.Csch.class, priority = Priority.HIGH)
+	public static class CschUnsignedLong extends
+		AbstractUnaryComputerOp<Img<UnsignedLongType>, Img<UnsignedLongType>> implements Ops.Math.Csch,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedLongType> input, final Img<UnsignedLongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = Saturation.unsignedLongToDouble(a[i]);
+					o[i] = Saturation.roundUnsignedLong(1.0 / Math.sinh(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedLongType &&
+				out().firstElement() instanceof UnsignedLongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.CubeRoot} of each element of an image of {@link UnsignedLongType}. */
+	@Plugin(type = Ops.Math.CubeRoot.class, priority = Priority.HIGH)
+	public static class CubeRootUnsignedLong extends
+		AbstractUnaryComputerOp<Img<UnsignedLongType>, Img<UnsignedLongType>> implements Ops.Math.CubeRoot,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedLongType> input, final Img<UnsignedLongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = Saturation.unsignedLongToDouble(a[i]);
+					o[i] = Saturation.roundUnsignedLong(Math.cbrt(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedLongType &&
+				out().firstElement() instanceof UnsignedLongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Exp} of each element of an image of {@link UnsignedLongType}. */
+	@Plugin(type = Ops.Math.Exp.class, priority = Priority.HIGH)
+	public static class ExpUnsignedLong extends
+		AbstractUnaryComputerOp<Img<UnsignedLongType>, Img<UnsignedLongType>> implements Ops.Math.Exp,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedLongType> input, final Img<UnsignedLongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = Saturation.unsignedLongToDouble(a[i]);
+					o[i] = Saturation.roundUnsignedLong(Math.exp(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedLongType &&
+				out().firstElement() instanceof UnsignedLongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.ExpMinusOne} of each element of an image of {@link UnsignedLongType}. */
+	@Plugin(type = Ops.Math.ExpMinusOne.class, priority = Priority.HIGH)
+	public static class ExpMinusOneUnsignedLong extends
+		AbstractUnaryComputerOp<Img<UnsignedLongType>, Img<UnsignedLongType>> implements Ops.Math.ExpMinusOne,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedLongType> input, final Img<UnsignedLongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = Saturation.unsignedLongToDouble(a[i]);
+					o[i] = Saturation.roundUnsignedLong(Math.exp(x) - 1);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedLongType &&
+				out().firstElement() instanceof UnsignedLongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Floor} of each element of an image of {@link UnsignedLongType}. */
+	@Plugin(type = Ops.Math.Floor.class, priority = Priority.HIGH)
+	public static class FloorUnsignedLong extends
+		AbstractUnaryComputerOp<Img<UnsignedLongType>, Img<UnsignedLongType>> implements Ops.Math.Floor,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedLongType> input, final Img<UnsignedLongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = Saturation.unsignedLongToDouble(a[i]);
+					o[i] = Saturation.roundUnsignedLong(Math.floor(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedLongType &&
+				out().firstElement() instanceof UnsignedLongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Gamma} of each element of an image of {@link UnsignedLongType}. */
+	@Plugin(type = Ops.Math.Gamma.class, priority = Priority.HIGH)
+	public static class GammaUnsignedLong extends
+		AbstractUnaryComputerOp<Img<UnsignedLongType>, Img<UnsignedLongType>> implements Ops.Math.Gamma,
+		Contingent
+	{
+
+		@Parameter
+		private double constant;
+
+		@Override
+		public void compute(final Img<UnsignedLongType> input, final Img<UnsignedLongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = Saturation.unsignedLongToDouble(a[i]);
+					o[i] = Saturation.roundUnsignedLong(x <= 0 ? 0 : Math.exp(constant * Math.log(x)));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedLongType &&
+				out().firstElement() instanceof UnsignedLongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Invert} of each element of an image of {@link UnsignedLongType}. */
+	@Plugin(type = Ops.Math.Invert.class, priority = Priority.HIGH)
+	public static class InvertUnsignedLong extends
+		AbstractUnaryComputerOp<Img<UnsignedLongType>, Img<UnsignedLongType>> implements Ops.Math.Invert,
+		Contingent
+	{
+
+		@Parameter
+		private double specifiedMin;
+
+		@Parameter
+		private double specifiedMax;
+
+		@Override
+		public void compute(final Img<UnsignedLongType> input, final Img<UnsignedLongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = Saturation.unsignedLongToDouble(a[i]);
+					o[i] = Saturation.roundUnsignedLong(specifiedMax - (x - specifiedMin));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedLongType &&
+				out().firstElement() instanceof UnsignedLongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Log} of each element of an image of {@link UnsignedLongType}. */
+	@Plugin(type = Ops.Math.Log.class, priority = Priority.HIGH)
+	public static class LogUnsignedLong extends
+		AbstractUnaryComputerOp<Img<UnsignedLongType>, Img<UnsignedLongType>> implements Ops.Math.Log,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedLongType> input, final Img<UnsignedLongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = Saturation.unsignedLongToDouble(a[i]);
+					o[i] = Saturation.roundUnsignedLong(Math.log(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedLongType &&
+				out().firstElement() instanceof UnsignedLongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Log10} of each element of an image of {@link UnsignedLongType}. */
+	@Plugin(type = Ops.Math.Log10.class, priority = Priority.HIGH)
+	public static class Log10UnsignedLong extends
+		AbstractUnaryComputerOp<Img<UnsignedLongType>, Img<UnsignedLongType>> implements Ops.Math.Log10,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedLongType> input, final Img<UnsignedLongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = Saturation.unsignedLongToDouble(a[i]);
+					o[i] = Saturation.roundUnsignedLong(Math.log10(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedLongType &&
+				out().firstElement() instanceof UnsignedLongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Log2} of each element of an image of {@link UnsignedLongType}. */
+	@Plugin(type = Ops.Math.Log2.class, priority = Priority.HIGH)
+	public static class Log2UnsignedLong extends
+		AbstractUnaryComputerOp<Img<UnsignedLongType>, Img<UnsignedLongType>> implements Ops.Math.Log2,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedLongType> input, final Img<UnsignedLongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = Saturation.unsignedLongToDouble(a[i]);
+					o[i] = Saturation.roundUnsignedLong(Math.log(x) / Math.log(2));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedLongType &&
+				out().firstElement() instanceof UnsignedLongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.LogOnePlusX} of each element of an image of {@link UnsignedLongType}. */
+	@Plugin(type = Ops.Math.LogOnePlusX.class, priority = Priority.HIGH)
+	public static class LogOnePlusXUnsignedLong extends
+		AbstractUnaryComputerOp<Img<UnsignedLongType>, Img<UnsignedLongType>> implements Ops.Math.LogOnePlusX,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedLongType> input, final Img<UnsignedLongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = Saturation.unsignedLongToDouble(a[i]);
+					o[i] = Saturation.roundUnsignedLong(Math.log1p(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedLongType &&
+				out().firstElement() instanceof UnsignedLongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Max} of each element of an image of {@link UnsignedLongType}. */
+	@Plugin(type = Ops.Math.Max.class, priority = Priority.HIGH)
+	public static class MaxUnsignedLong extends
+		AbstractUnaryComputerOp<Img<UnsignedLongType>, Img<UnsignedLongType>> implements Ops.Math.Max,
+		Contingent
+	{
+
+		@Parameter
+		private double constant;
+
+		@Override
+		public void compute(final Img<UnsignedLongType> input, final Img<UnsignedLongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = Saturation.unsignedLongToDouble(a[i]);
+					o[i] = Saturation.roundUnsignedLong(x < constant ? x : constant);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedLongType &&
+				out().firstElement() instanceof UnsignedLongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Min} of each element of an image of {@link UnsignedLongType}. */
+	@Plugin(type = Ops.Math.Min.class, priority = Priority.HIGH)
+	public static class MinUnsignedLong extends
+		AbstractUnaryComputerOp<Img<UnsignedLongType>, Img<UnsignedLongType>> implements Ops.Math.Min,
+		Contingent
+	{
+
+		@Parameter
+		private double constant;
+
+		@Override
+		public void compute(final Img<UnsignedLongType> input, final Img<UnsignedLongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = Saturation.unsignedLongToDouble(a[i]);
+					o[i] = Saturation.roundUnsignedLong(x > constant ? x : constant);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedLongType &&
+				out().firstElement() instanceof UnsignedLongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.NearestInt} of each element of an image of {@link UnsignedLongType}. */
+	@Plugin(type = Ops.Math.NearestInt.class, priority = Priority.HIGH)
+	public static class NearestIntUnsignedLong extends
+		AbstractUnaryComputerOp<Img<UnsignedLongType>, Img<UnsignedLongType>> implements Ops.Math.NearestInt,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedLongType> input, final Img<UnsignedLongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = Saturation.unsignedLongToDouble(a[i]);
+					o[i] = Saturation.roundUnsignedLong(Math.rint(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedLongType &&
+				out().firstElement() instanceof UnsignedLongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Negate} of each element of an image of {@link UnsignedLongType}. */
+	@Plugin(type = Ops.Math.Negate.class, priority = Priority.HIGH)
+	public static class NegateUnsignedLong extends
+		AbstractUnaryComputerOp<Img<UnsignedLongType>, Img<UnsignedLongType>> implements Ops.Math.Negate,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedLongType> input, final Img<UnsignedLongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = Saturation.unsignedLongToDouble(a[i]);
+					o[i] = Saturation.roundUnsignedLong(-x);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedLongType &&
+				out().firstElement() instanceof UnsignedLongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Power} of each element of an image of {@link UnsignedLongType}. */
+	@Plugin(type = Ops.Math.Power.class, priority = Priority.HIGH)
+	public static class PowerUnsignedLong extends
+		AbstractUnaryComputerOp<Img<UnsignedLongType>, Img<UnsignedLongType>> implements Ops.Math.Power,
+		Contingent
+	{
+
+		@Parameter
+		private double constant;
+
+		@Override
+		public void compute(final Img<UnsignedLongType> input, final Img<UnsignedLongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = Saturation.unsignedLongToDouble(a[i]);
+					o[i] = Saturation.roundUnsignedLong(Math.pow(x, constant));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedLongType &&
+				out().firstElement() instanceof UnsignedLongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Reciprocal} of each element of an image of {@link UnsignedLongType}. */
+	@Plugin(type = Ops.Math.Reciprocal.class, priority = Priority.HIGH)
+	public static class ReciprocalUnsignedLong extends
+		AbstractUnaryComputerOp<Img<UnsignedLongType>, Img<UnsignedLongType>> implements Ops.Math.Reciprocal,
+		Contingent
+	{
+
+		@Parameter
+		private double dbzVal;
+
+		@Override
+		public void compute(final Img<UnsignedLongType> input, final Img<UnsignedLongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = Saturation.unsignedLongToDouble(a[i]);
+					o[i] = Saturation.roundUnsignedLong(x == 0 ? dbzVal : 1.0 / x);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedLongType &&
+				out().firstElement() instanceof UnsignedLongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Round} of each element of an image of {@link UnsignedLongType}. */
+	@Plugin(type = Ops.Math.Round.class, priority = Priority.HIGH)
+	public static class RoundUnsignedLong extends
+		AbstractUnaryComputerOp<Img<UnsignedLongType>, Img<UnsignedLongType>> implements Ops.Math.Round,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedLongType> input, final Img<UnsignedLongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = Saturation.unsignedLongToDouble(a[i]);
+					o[i] = Saturation.roundUnsignedLong((double) Math.round(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedLongType &&
+				out().firstElement() instanceof UnsignedLongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Sec} of each element of an image of {@link UnsignedLongType}. */
+	@Plugin(type = Ops.Math.Sec.class, priority = Priority.HIGH)
+	public static class SecUnsignedLong extends
+		AbstractUnaryComputerOp<Img<UnsignedLongType>, Img<UnsignedLongType>> implements Ops.Math.Sec,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedLongType> input, final Img<UnsignedLongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = Saturation.unsignedLongToDouble(a[i]);
+					o[i] = Saturation.roundUnsignedLong(1.0 / Math.cos(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedLongType &&
+				out().firstElement() instanceof UnsignedLongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Sech} of each element of an image of {@link UnsignedLongType}. */
+	@Plugin(type = Ops.Math.Sech.class, priority = Priority.HIGH)
+	public static class SechUnsignedLong extends
+		AbstractUnaryComputerOp<Img<UnsignedLongType>, Img<UnsignedLongType>> implements Ops.Math.Sech,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedLongType> input, final Img<UnsignedLongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = Saturation.unsignedLongToDouble(a[i]);
+					o[i] = Saturation.roundUnsignedLong(1.0 / Math.cosh(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedLongType &&
+				out().firstElement() instanceof UnsignedLongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Signum} of each element of an image of {@link UnsignedLongType}. */
+	@Plugin(type = Ops.Math.Signum.class, priority = Priority.HIGH)
+	public static class SignumUnsignedLong extends
+		AbstractUnaryComputerOp<Img<UnsignedLongType>, Img<UnsignedLongType>> implements Ops.Math.Signum,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedLongType> input, final Img<UnsignedLongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = Saturation.unsignedLongToDouble(a[i]);
+					o[i] = Saturation.roundUnsignedLong(Math.signum(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedLongType &&
+				out().firstElement() instanceof UnsignedLongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Sin} of each element of an image of {@link UnsignedLongType}. */
+	@Plugin(type = Ops.Math.Sin.class, priority = Priority.HIGH)
+	public static class SinUnsignedLong extends
+		AbstractUnaryComputerOp<Img<UnsignedLongType>, Img<UnsignedLongType>> implements Ops.Math.Sin,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedLongType> input, final Img<UnsignedLongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = Saturation.unsignedLongToDouble(a[i]);
+					o[i] = Saturation.roundUnsignedLong(Math.sin(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedLongType &&
+				out().firstElement() instanceof UnsignedLongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Sinc} of each element of an image of {@link UnsignedLongType}. */
+	@Plugin(type = Ops.Math.Sinc.class, priority = Priority.HIGH)
+	public static class SincUnsignedLong extends
+		AbstractUnaryComputerOp<Img<UnsignedLongType>, Img<UnsignedLongType>> implements Ops.Math.Sinc,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedLongType> input, final Img<UnsignedLongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = Saturation.unsignedLongToDouble(a[i]);
+					o[i] = Saturation.roundUnsignedLong(x == 0 ? 1 : Math.sin(x) / x);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedLongType &&
+				out().firstElement() instanceof UnsignedLongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.SincPi} of each element of an image of {@link UnsignedLongType}. */
+	@Plugin(type = Ops.Math.SincPi.class, priority = Priority.HIGH)
+	public static class SincPiUnsignedLong extends
+		AbstractUnaryComputerOp<Img<UnsignedLongType>, Img<UnsignedLongType>> implements Ops.Math.SincPi,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedLongType> input, final Img<UnsignedLongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = Saturation.unsignedLongToDouble(a[i]);
+					o[i] = Saturation.roundUnsignedLong(x == 0 ? 1 : Math.sin(Math.PI * x) / (Math.PI * x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedLongType &&
+				out().firstElement() instanceof UnsignedLongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Sinh} of each element of an image of {@link UnsignedLongType}. */
+	@Plugin(type = Ops.Math.Sinh.class, priority = Priority.HIGH)
+	public static class SinhUnsignedLong extends
+		AbstractUnaryComputerOp<Img<UnsignedLongType>, Img<UnsignedLongType>> implements Ops.Math.Sinh,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedLongType> input, final Img<UnsignedLongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = Saturation.unsignedLongToDouble(a[i]);
+					o[i] = Saturation.roundUnsignedLong(Math.sinh(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedLongType &&
+				out().firstElement() instanceof UnsignedLongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Sqr} of each element of an image of {@link UnsignedLongType}. */
+	@Plugin(type = Ops.Math.Sqr.class, priority = Priority.HIGH)
+	public static class SqrUnsignedLong extends
+		AbstractUnaryComputerOp<Img<UnsignedLongType>, Img<UnsignedLongType>> implements Ops.Math.Sqr,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedLongType> input, final Img<UnsignedLongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = Saturation.unsignedLongToDouble(a[i]);
+					o[i] = Saturation.roundUnsignedLong(x * x);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedLongType &&
+				out().firstElement() instanceof UnsignedLongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Sqrt} of each element of an image of {@link UnsignedLongType}. */
+	@Plugin(type = Ops.Math.Sqrt.class, priority = Priority.HIGH)
+	public static class SqrtUnsignedLong extends
+		AbstractUnaryComputerOp<Img<UnsignedLongType>, Img<UnsignedLongType>> implements Ops.Math.Sqrt,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedLongType> input, final Img<UnsignedLongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = Saturation.unsignedLongToDouble(a[i]);
+					o[i] = Saturation.roundUnsignedLong(Math.sqrt(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedLongType &&
+				out().firstElement() instanceof UnsignedLongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Step} of each element of an image of {@link UnsignedLongType}. */
+	@Plugin(type = Ops.Math.Step.class, priority = Priority.HIGH)
+	public static class StepUnsignedLong extends
+		AbstractUnaryComputerOp<Img<UnsignedLongType>, Img<UnsignedLongType>> implements Ops.Math.Step,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedLongType> input, final Img<UnsignedLongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = Saturation.unsignedLongToDouble(a[i]);
+					o[i] = Saturation.roundUnsignedLong(x < 0 ? 0 : 1);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedLongType &&
+				out().firstElement() instanceof UnsignedLongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Tan} of each element of an image of {@link UnsignedLongType}. */
+	@Plugin(type = Ops.Math.Tan.class, priority = Priority.HIGH)
+	public static class TanUnsignedLong extends
+		AbstractUnaryComputerOp<Img<UnsignedLongType>, Img<UnsignedLongType>> implements Ops.Math.Tan,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedLongType> input, final Img<UnsignedLongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = Saturation.unsignedLongToDouble(a[i]);
+					o[i] = Saturation.roundUnsignedLong(Math.tan(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedLongType &&
+				out().firstElement() instanceof UnsignedLongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Tanh} of each element of an image of {@link UnsignedLongType}. */
+	@Plugin(type = Ops.Math.Tanh.class, priority = Priority.HIGH)
+	public static class TanhUnsignedLong extends
+		AbstractUnaryComputerOp<Img<UnsignedLongType>, Img<UnsignedLongType>> implements Ops.Math.Tanh,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedLongType> input, final Img<UnsignedLongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = Saturation.unsignedLongToDouble(a[i]);
+					o[i] = Saturation.roundUnsignedLong(Math.tanh(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedLongType &&
+				out().firstElement() instanceof UnsignedLongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Ulp} of each element of an image of {@link UnsignedLongType}. */
+	@Plugin(type = Ops.Math.Ulp.class, priority = Priority.HIGH)
+	public static class UlpUnsignedLong extends
+		AbstractUnaryComputerOp<Img<UnsignedLongType>, Img<UnsignedLongType>> implements Ops.Math.Ulp,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedLongType> input, final Img<UnsignedLongType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = Saturation.unsignedLongToDouble(a[i]);
+					o[i] = Saturation.roundUnsignedLong(Math.ulp(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof UnsignedLongType &&
+				out().firstElement() instanceof UnsignedLongType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Add} of two images of {@link UnsignedLongType}. */
+	@Plugin(type = Ops.Math.Add.class, priority = Priority.HIGH + 1)
+	public static class AddUnsignedLong extends
+		AbstractBinaryComputerOp<Img<UnsignedLongType>, Img<UnsignedLongType>, Img<UnsignedLongType>> implements
+		Ops.Math.Add, Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedLongType> input1, final Img<UnsignedLongType> input2,
+			final Img<UnsignedLongType> output)
+		{
+			final List<Segment> in1 = ImgSegments.segments(input1);
+			final List<Segment> in2 = ImgSegments.segments(input2);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in1.size(), s -> {
+				final Segment segment = in1.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] b = (long[]) in2.get(s).data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					o[i] = Saturation.addUnsignedLong(a[i], b[i]);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in1().firstElement() instanceof UnsignedLongType &&
+				in2().firstElement() instanceof UnsignedLongType &&
+				out().firstElement() instanceof UnsignedLongType && ImgSegments.aligned(in1(),
+					in2()) && ImgSegments.aligned(in1(), out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Subtract} of two images of {@link UnsignedLongType}. */
+	@Plugin(type = Ops.Math.Subtract.class, priority = Priority.HIGH + 1)
+	public static class SubtractUnsignedLong extends
+		AbstractBinaryComputerOp<Img<UnsignedLongType>, Img<UnsignedLongType>, Img<UnsignedLongType>> implements
+		Ops.Math.Subtract, Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedLongType> input1, final Img<UnsignedLongType> input2,
+			final Img<UnsignedLongType> output)
+		{
+			final List<Segment> in1 = ImgSegments.segments(input1);
+			final List<Segment> in2 = ImgSegments.segments(input2);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in1.size(), s -> {
+				final Segment segment = in1.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] b = (long[]) in2.get(s).data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					o[i] = Saturation.subtractUnsignedLong(a[i], b[i]);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in1().firstElement() instanceof UnsignedLongType &&
+				in2().firstElement() instanceof UnsignedLongType &&
+				out().firstElement() instanceof UnsignedLongType && ImgSegments.aligned(in1(),
+					in2()) && ImgSegments.aligned(in1(), out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Multiply} of two images of {@link UnsignedLongType}. */
+	@Plugin(type = Ops.Math.Multiply.class, priority = Priority.HIGH + 1)
+	public static class MultiplyUnsignedLong extends
+		AbstractBinaryComputerOp<Img<UnsignedLongType>, Img<UnsignedLongType>, Img<UnsignedLongType>> implements
+		Ops.Math.Multiply, Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedLongType> input1, final Img<UnsignedLongType> input2,
+			final Img<UnsignedLongType> output)
+		{
+			final List<Segment> in1 = ImgSegments.segments(input1);
+			final List<Segment> in2 = ImgSegments.segments(input2);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in1.size(), s -> {
+				final Segment segment = in1.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] b = (long[]) in2.get(s).data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					o[i] = Saturation.multiplyUnsignedLong(a[i], b[i]);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in1().firstElement() instanceof UnsignedLongType &&
+				in2().firstElement() instanceof UnsignedLongType &&
+				out().firstElement() instanceof UnsignedLongType && ImgSegments.aligned(in1(),
+					in2()) && ImgSegments.aligned(in1(), out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Divide} of two images of {@link UnsignedLongType}. */
+	@Plugin(type = Ops.Math.Divide.class, priority = Priority.HIGH + 1)
+	public static class DivideUnsignedLong extends
+		AbstractBinaryComputerOp<Img<UnsignedLongType>, Img<UnsignedLongType>, Img<UnsignedLongType>> implements
+		Ops.Math.Divide, Contingent
+	{
+
+		@Override
+		public void compute(final Img<UnsignedLongType> input1, final Img<UnsignedLongType> input2,
+			final Img<UnsignedLongType> output)
+		{
+			final List<Segment> in1 = ImgSegments.segments(input1);
+			final List<Segment> in2 = ImgSegments.segments(input2);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in1.size(), s -> {
+				final Segment segment = in1.get(s);
+				final long[] a = (long[]) segment.data;
+				final long[] b = (long[]) in2.get(s).data;
+				final long[] o = (long[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					o[i] = Saturation.divideUnsignedLong(a[i], b[i]);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in1().firstElement() instanceof UnsignedLongType &&
+				in2().firstElement() instanceof UnsignedLongType &&
+				out().firstElement() instanceof UnsignedLongType && ImgSegments.aligned(in1(),
+					in2()) && ImgSegments.aligned(in1(), out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Abs} of each element of an image of {@link FloatType}. */
+	@Plugin(type = Ops.Math.Abs.class, priority = Priority.HIGH)
+	public static class AbsFloat extends
+		AbstractUnaryComputerOp<Img<FloatType>, Img<FloatType>> implements Ops.Math.Abs,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<FloatType> input, final Img<FloatType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final float[] a = (float[]) segment.data;
+				final float[] o = (float[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (float) (Math.abs(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof FloatType &&
+				out().firstElement() instanceof FloatType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arccos} of each element of an image of {@link FloatType}. */
+	@Plugin(type = Ops.Math.Arccos.class, priority = Priority.HIGH)
+	public static class ArccosFloat extends
+		AbstractUnaryComputerOp<Img<FloatType>, Img<FloatType>> implements Ops.Math.Arccos,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<FloatType> input, final Img<FloatType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final float[] a = (float[]) segment.data;
+				final float[] o = (float[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (float) (Math.acos(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof FloatType &&
+				out().firstElement() instanceof FloatType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arccosh} of each element of an image of {@link FloatType}. */
+	@Plugin(type = Ops.Math.Arccosh.class, priority = Priority.HIGH)
+	public static class ArccoshFloat extends
+		AbstractUnaryComputerOp<Img<FloatType>, Img<FloatType>> implements Ops.Math.Arccosh,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<FloatType> input, final Img<FloatType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final float[] a = (float[]) segment.data;
+				final float[] o = (float[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (float) (Math.log(x + (x <= -1 ? -1 : 1) * Math.sqrt(x * x - 1)));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof FloatType &&
+				out().firstElement() instanceof FloatType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arccot} of each element of an image of {@link FloatType}. */
+	@Plugin(type = Ops.Math.Arccot.class, priority = Priority.HIGH)
+	public static class ArccotFloat extends
+		AbstractUnaryComputerOp<Img<FloatType>, Img<FloatType>> implements Ops.Math.Arccot,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<FloatType> input, final Img<FloatType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final float[] a = (float[]) segment.data;
+				final float[] o = (float[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (float) (Math.atan(1.0 / x) + (x < 0 ? Math.PI : 0));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof FloatType &&
+				out().firstElement() instanceof FloatType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arccoth} of each element of an image of {@link FloatType}. */
+	@Plugin(type = Ops.Math.Arccoth.class, priority = Priority.HIGH)
+	public static class ArccothFloat extends
+		AbstractUnaryComputerOp<Img<FloatType>, Img<FloatType>> implements Ops.Math.Arccoth,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<FloatType> input, final Img<FloatType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final float[] a = (float[]) segment.data;
+				final float[] o = (float[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (float) (0.5 * Math.log((x + 1) / (x - 1)));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof FloatType &&
+				out().firstElement() instanceof FloatType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arccsch} of each element of an image of {@link FloatType}. */
+	@Plugin(type = Ops.Math.Arccsch.class, priority = Priority.HIGH)
+	public static class ArccschFloat extends
+		AbstractUnaryComputerOp<Img<FloatType>, Img<FloatType>> implements Ops.Math.Arccsch,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<FloatType> input, final Img<FloatType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final float[] a = (float[]) segment.data;
+				final float[] o = (float[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (float) (Math.log(1 / x + Math.sqrt(1 + 1 / (x * x))));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof FloatType &&
+				out().firstElement() instanceof FloatType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arcsech} of each element of an image of {@link FloatType}. */
+	@Plugin(type = Ops.Math.Arcsech.class, priority = Priority.HIGH)
+	public static class ArcsechFloat extends
+		AbstractUnaryComputerOp<Img<FloatType>, Img<FloatType>> implements Ops.Math.Arcsech,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<FloatType> input, final Img<FloatType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final float[] a = (float[]) segment.data;
+				final float[] o = (float[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (float) (Math.log((1 + Math.sqrt(1 - x * x)) / x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof FloatType &&
+				out().firstElement() instanceof FloatType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arcsin} of each element of an image of {@link FloatType}. */
+	@Plugin(type = Ops.Math.Arcsin.class, priority = Priority.HIGH)
+	public static class ArcsinFloat extends
+		AbstractUnaryComputerOp<Img<FloatType>, Img<FloatType>> implements Ops.Math.Arcsin,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<FloatType> input, final Img<FloatType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final float[] a = (float[]) segment.data;
+				final float[] o = (float[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (float) (Math.asin(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof FloatType &&
+				out().firstElement() instanceof FloatType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arcsinh} of each element of an image of {@link FloatType}. */
+	@Plugin(type = Ops.Math.Arcsinh.class, priority = Priority.HIGH)
+	public static class ArcsinhFloat extends
+		AbstractUnaryComputerOp<Img<FloatType>, Img<FloatType>> implements Ops.Math.Arcsinh,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<FloatType> input, final Img<FloatType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final float[] a = (float[]) segment.data;
+				final float[] o = (float[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (float) (Math.log(x + Math.sqrt(x * x + 1)));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof FloatType &&
+				out().firstElement() instanceof FloatType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arctan} of each element of an image of {@link FloatType}. */
+	@Plugin(type = Ops.Math.Arctan.class, priority = Priority.HIGH)
+	public static class ArctanFloat extends
+		AbstractUnaryComputerOp<Img<FloatType>, Img<FloatType>> implements Ops.Math.Arctan,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<FloatType> input, final Img<FloatType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final float[] a = (float[]) segment.data;
+				final float[] o = (float[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (float) (Math.atan(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof FloatType &&
+				out().firstElement() instanceof FloatType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arctanh} of each element of an image of {@link FloatType}. */
+	@Plugin(type = Ops.Math.Arctanh.class, priority = Priority.HIGH)
+	public static class ArctanhFloat extends
+		AbstractUnaryComputerOp<Img<FloatType>, Img<FloatType>> implements Ops.Math.Arctanh,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<FloatType> input, final Img<FloatType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final float[] a = (float[]) segment.data;
+				final float[] o = (float[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (float) (0.5 * Math.log((1 + x) / (1 - x)));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof FloatType &&
+				out().firstElement() instanceof FloatType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Ceil} of each element of an image of {@link FloatType}. */
+	@Plugin(type = Ops.Math.Ceil.class, priority = Priority.HIGH)
+	public static class CeilFloat extends
+		AbstractUnaryComputerOp<Img<FloatType>, Img<FloatType>> implements Ops.Math.Ceil,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<FloatType> input, final Img<FloatType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final float[] a = (float[]) segment.data;
+				final float[] o = (float[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (float) (Math.ceil(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof FloatType &&
+				out().firstElement() instanceof FloatType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Cos} of each element of an image of {@link FloatType}. */
+	@Plugin(type = Ops.Math.Cos.class, priority = Priority.HIGH)
+	public static class CosFloat extends
+		AbstractUnaryComputerOp<Img<FloatType>, Img<FloatType>> implements Ops.Math.Cos,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<FloatType> input, final Img<FloatType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final float[] a = (float[]) segment.data;
+				final float[] o = (float[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (float) (Math.cos(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof FloatType &&
+				out().firstElement() instanceof FloatType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Cosh} of each element of an image of {@link FloatType}. */
+	@Plugin(type = Ops.Math.Cosh.class, priority = Priority.HIGH)
+	public static class CoshFloat extends
+		AbstractUnaryComputerOp<Img<FloatType>, Img<FloatType>> implements Ops.Math.Cosh,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<FloatType> input, final Img<FloatType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final float[] a = (float[]) segment.data;
+				final float[] o = (float[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (float) (Math.cosh(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof FloatType &&
+				out().firstElement() instanceof FloatType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Cot} of each element of an image of {@link FloatType}. */
+	@Plugin(type = Ops.Math.Cot.class, priority = Priority.HIGH)
+	public static class CotFloat extends
+		AbstractUnaryComputerOp<Img<FloatType>, Img<FloatType>> implements Ops.Math.Cot,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<FloatType> input, final Img<FloatType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final float[] a = (float[]) segment.data;
+				final float[] o = (float[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (float) (1.0 / Math.tan(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof FloatType &&
+				out().firstElement() instanceof FloatType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Coth} of each element of an image of {@link FloatType}. */
+	@Plugin(type = Ops.Math.Coth.class, priority = Priority.HIGH)
+	public static class CothFloat extends
+		AbstractUnaryComputerOp<Img<FloatType>, Img<FloatType>> implements Ops.Math.Coth,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<FloatType> input, final Img<FloatType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final float[] a = (float[]) segment.data;
+				final float[] o = (float[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (float) (1.0 / Math.tanh(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof FloatType &&
+				out().firstElement() instanceof FloatType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Csc} of each element of an image of {@link FloatType}. */
+	@Plugin(type = Ops.Math.Csc.class, priority = Priority.HIGH)
+	public static class CscFloat extends
+		AbstractUnaryComputerOp<Img<FloatType>, Img<FloatType>> implements Ops.Math.Csc,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<FloatType> input, final Img<FloatType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final float[] a = (float[]) segment.data;
+				final float[] o = (float[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (float) (1.0 / Math.sin(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof FloatType &&
+				out().firstElement() instanceof FloatType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Csch} of each element of an image of {@link FloatType}. */
+	@Plugin(type = Ops.Math.Csch.class, priority = Priority.HIGH)
+	public static class CschFloat extends
+		AbstractUnaryComputerOp<Img<FloatType>, Img<FloatType>> implements Ops.Math.Csch,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<FloatType> input, final Img<FloatType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final float[] a = (float[]) segment.data;
+				final float[] o = (float[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (float) (1.0 / Math.sinh(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof FloatType &&
+				out().firstElement() instanceof FloatType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.CubeRoot} of each element of an image of {@link FloatType}. */
+	@Plugin(type = Ops.Math.CubeRoot.class, priority = Priority.HIGH)
+	public static class CubeRootFloat extends
+		AbstractUnaryComputerOp<Img<FloatType>, Img<FloatType>> implements Ops.Math.CubeRoot,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<FloatType> input, final Img<FloatType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final float[] a = (float[]) segment.data;
+				final float[] o = (float[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (float) (Math.cbrt(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof FloatType &&
+				out().firstElement() instanceof FloatType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Exp} of each element of an image of {@link FloatType}. */
+	@Plugin(type = Ops.Math.Exp.class, priority = Priority.HIGH)
+	public static class ExpFloat extends
+		AbstractUnaryComputerOp<Img<FloatType>, Img<FloatType>> implements Ops.Math.Exp,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<FloatType> input, final Img<FloatType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final float[] a = (float[]) segment.data;
+				final float[] o = (float[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (float) (Math.exp(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof FloatType &&
+				out().firstElement() instanceof FloatType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.ExpMinusOne} of each element of an image of {@link FloatType}. */
+	@Plugin(type = Ops.Math.ExpMinusOne.class, priority = Priority.HIGH)
+	public static class ExpMinusOneFloat extends
+		AbstractUnaryComputerOp<Img<FloatType>, Img<FloatType>> implements Ops.Math.ExpMinusOne,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<FloatType> input, final Img<FloatType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final float[] a = (float[]) segment.data;
+				final float[] o = (float[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (float) (Math.exp(x) - 1);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof FloatType &&
+				out().firstElement() instanceof FloatType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Floor} of each element of an image of {@link FloatType}. */
+	@Plugin(type = Ops.Math.Floor.class, priority = Priority.HIGH)
+	public static class FloorFloat extends
+		AbstractUnaryComputerOp<Img<FloatType>, Img<FloatType>> implements Ops.Math.Floor,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<FloatType> input, final Img<FloatType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final float[] a = (float[]) segment.data;
+				final float[] o = (float[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (float) (Math.floor(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof FloatType &&
+				out().firstElement() instanceof FloatType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Gamma} of each element of an image of {@link FloatType}. */
+	@Plugin(type = Ops.Math.Gamma.class, priority = Priority.HIGH)
+	public static class GammaFloat extends
+		AbstractUnaryComputerOp<Img<FloatType>, Img<FloatType>> implements Ops.Math.Gamma,
+		Contingent
+	{
+
+		@Parameter
+		private double constant;
+
+		@Override
+		public void compute(final Img<FloatType> input, final Img<FloatType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final float[] a = (float[]) segment.data;
+				final float[] o = (float[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (float) (x <= 0 ? 0 : Math.exp(constant * Math.log(x)));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof FloatType &&
+				out().firstElement() instanceof FloatType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Invert} of each element of an image of {@link FloatType}. */
+	@Plugin(type = Ops.Math.Invert.class, priority = Priority.HIGH)
+	public static class InvertFloat extends
+		AbstractUnaryComputerOp<Img<FloatType>, Img<FloatType>> implements Ops.Math.Invert,
+		Contingent
+	{
+
+		@Parameter
+		private double specifiedMin;
+
+		@Parameter
+		private double specifiedMax;
+
+		@Override
+		public void compute(final Img<FloatType> input, final Img<FloatType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final float[] a = (float[]) segment.data;
+				final float[] o = (float[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (float) (specifiedMax - (x - specifiedMin));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof FloatType &&
+				out().firstElement() instanceof FloatType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Log} of each element of an image of {@link FloatType}. */
+	@Plugin(type = Ops.Math.Log.class, priority = Priority.HIGH)
+	public static class LogFloat extends
+		AbstractUnaryComputerOp<Img<FloatType>, Img<FloatType>> implements Ops.Math.Log,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<FloatType> input, final Img<FloatType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final float[] a = (float[]) segment.data;
+				final float[] o = (float[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (float) (Math.log(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof FloatType &&
+				out().firstElement() instanceof FloatType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Log10} of each element of an image of {@link FloatType}. */
+	@Plugin(type = Ops.Math.Log10.class, priority = Priority.HIGH)
+	public static class Log10Float extends
+		AbstractUnaryComputerOp<Img<FloatType>, Img<FloatType>> implements Ops.Math.Log10,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<FloatType> input, final Img<FloatType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final float[] a = (float[]) segment.data;
+				final float[] o = (float[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (float) (Math.log10(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof FloatType &&
+				out().firstElement() instanceof FloatType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Log2} of each element of an image of {@link FloatType}. */
+	@Plugin(type = Ops.Math.Log2.class, priority = Priority.HIGH)
+	public static class Log2Float extends
+		AbstractUnaryComputerOp<Img<FloatType>, Img<FloatType>> implements Ops.Math.Log2,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<FloatType> input, final Img<FloatType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final float[] a = (float[]) segment.data;
+				final float[] o = (float[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (float) (Math.log(x) / Math.log(2));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof FloatType &&
+				out().firstElement() instanceof FloatType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.LogOnePlusX} of each element of an image of {@link FloatType}. */
+	@Plugin(type = Ops.Math.LogOnePlusX.class, priority = Priority.HIGH)
+	public static class LogOnePlusXFloat extends
+		AbstractUnaryComputerOp<Img<FloatType>, Img<FloatType>> implements Ops.Math.LogOnePlusX,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<FloatType> input, final Img<FloatType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final float[] a = (float[]) segment.data;
+				final float[] o = (float[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (float) (Math.log1p(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof FloatType &&
+				out().firstElement() instanceof FloatType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Max} of each element of an image of {@link FloatType}. */
+	@Plugin(type = Ops.Math.Max.class, priority = Priority.HIGH)
+	public static class MaxFloat extends
+		AbstractUnaryComputerOp<Img<FloatType>, Img<FloatType>> implements Ops.Math.Max,
+		Contingent
+	{
+
+		@Parameter
+		private double constant;
+
+		@Override
+		public void compute(final Img<FloatType> input, final Img<FloatType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final float[] a = (float[]) segment.data;
+				final float[] o = (float[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (float) (x < constant ? x : constant);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof FloatType &&
+				out().firstElement() instanceof FloatType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Min} of each element of an image of {@link FloatType}. */
+	@Plugin(type = Ops.Math.Min.class, priority = Priority.HIGH)
+	public static class MinFloat extends
+		AbstractUnaryComputerOp<Img<FloatType>, Img<FloatType>> implements Ops.Math.Min,
+		Contingent
+	{
+
+		@Parameter
+		private double constant;
+
+		@Override
+		public void compute(final Img<FloatType> input, final Img<FloatType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final float[] a = (float[]) segment.data;
+				final float[] o = (float[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (float) (x > constant ? x : constant);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof FloatType &&
+				out().firstElement() instanceof FloatType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.NearestInt} of each element of an image of {@link FloatType}. */
+	@Plugin(type = Ops.Math.NearestInt.class, priority = Priority.HIGH)
+	public static class NearestIntFloat extends
+		AbstractUnaryComputerOp<Img<FloatType>, Img<FloatType>> implements Ops.Math.NearestInt,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<FloatType> input, final Img<FloatType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final float[] a = (float[]) segment.data;
+				final float[] o = (float[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (float) (Math.rint(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof FloatType &&
+				out().firstElement() instanceof FloatType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Negate} of each element of an image of {@link FloatType}. */
+	@Plugin(type = Ops.Math.Negate.class, priority = Priority.HIGH)
+	public static class NegateFloat extends
+		AbstractUnaryComputerOp<Img<FloatType>, Img<FloatType>> implements Ops.Math.Negate,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<FloatType> input, final Img<FloatType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final float[] a = (float[]) segment.data;
+				final float[] o = (float[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (float) (-x);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof FloatType &&
+				out().firstElement() instanceof FloatType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Power} of each element of an image of {@link FloatType}. */
+	@Plugin(type = Ops.Math.Power.class, priority = Priority.HIGH)
+	public static class PowerFloat extends
+		AbstractUnaryComputerOp<Img<FloatType>, Img<FloatType>> implements Ops.Math.Power,
+		Contingent
+	{
+
+		@Parameter
+		private double constant;
+
+		@Override
+		public void compute(final Img<FloatType> input, final Img<FloatType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final float[] a = (float[]) segment.data;
+				final float[] o = (float[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (float) (Math.pow(x, constant));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof FloatType &&
+				out().firstElement() instanceof FloatType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Reciprocal} of each element of an image of {@link FloatType}. */
+	@Plugin(type = Ops.Math.Reciprocal.class, priority = Priority.HIGH)
+	public static class ReciprocalFloat extends
+		AbstractUnaryComputerOp<Img<FloatType>, Img<FloatType>> implements Ops.Math.Reciprocal,
+		Contingent
+	{
+
+		@Parameter
+		private double dbzVal;
+
+		@Override
+		public void compute(final Img<FloatType> input, final Img<FloatType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final float[] a = (float[]) segment.data;
+				final float[] o = (float[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (float) (x == 0 ? dbzVal : 1.0 / x);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof FloatType &&
+				out().firstElement() instanceof FloatType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Round} of each element of an image of {@link FloatType}. */
+	@Plugin(type = Ops.Math.Round.class, priority = Priority.HIGH)
+	public static class RoundFloat extends
+		AbstractUnaryComputerOp<Img<FloatType>, Img<FloatType>> implements Ops.Math.Round,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<FloatType> input, final Img<FloatType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final float[] a = (float[]) segment.data;
+				final float[] o = (float[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (float) ((double) Math.round(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof FloatType &&
+				out().firstElement() instanceof FloatType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Sec} of each element of an image of {@link FloatType}. */
+	@Plugin(type = Ops.Math.Sec.class, priority = Priority.HIGH)
+	public static class SecFloat extends
+		AbstractUnaryComputerOp<Img<FloatType>, Img<FloatType>> implements Ops.Math.Sec,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<FloatType> input, final Img<FloatType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final float[] a = (float[]) segment.data;
+				final float[] o = (float[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (float) (1.0 / Math.cos(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof FloatType &&
+				out().firstElement() instanceof FloatType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Sech} of each element of an image of {@link FloatType}. */
+	@Plugin(type = Ops.Math.Sech.class, priority = Priority.HIGH)
+	public static class SechFloat extends
+		AbstractUnaryComputerOp<Img<FloatType>, Img<FloatType>> implements Ops.Math.Sech,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<FloatType> input, final Img<FloatType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final float[] a = (float[]) segment.data;
+				final float[] o = (float[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (float) (1.0 / Math.cosh(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof FloatType &&
+				out().firstElement() instanceof FloatType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Signum} of each element of an image of {@link FloatType}. */
+	@Plugin(type = Ops.Math.Signum.class, priority = Priority.HIGH)
+	public static class SignumFloat extends
+		AbstractUnaryComputerOp<Img<FloatType>, Img<FloatType>> implements Ops.Math.Signum,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<FloatType> input, final Img<FloatType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final float[] a = (float[]) segment.data;
+				final float[] o = (float[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (float) (Math.signum(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof FloatType &&
+				out().firstElement() instanceof FloatType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Sin} of each element of an image of {@link FloatType}. */
+	@Plugin(type = Ops.Math.Sin.class, priority = Priority.HIGH)
+	public static class SinFloat extends
+		AbstractUnaryComputerOp<Img<FloatType>, Img<FloatType>> implements Ops.Math.Sin,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<FloatType> input, final Img<FloatType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final float[] a = (float[]) segment.data;
+				final float[] o = (float[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (float) (Math.sin(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof FloatType &&
+				out().firstElement() instanceof FloatType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Sinc} of each element of an image of {@link FloatType}. */
+	@Plugin(type = Ops.Math.Sinc.class, priority = Priority.HIGH)
+	public static class SincFloat extends
+		AbstractUnaryComputerOp<Img<FloatType>, Img<FloatType>> implements Ops.Math.Sinc,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<FloatType> input, final Img<FloatType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final float[] a = (float[]) segment.data;
+				final float[] o = (float[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (float) (x == 0 ? 1 : Math.sin(x) / x);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof FloatType &&
+				out().firstElement() instanceof FloatType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.SincPi} of each element of an image of {@link FloatType}. */
+	@Plugin(type = Ops.Math.SincPi.class, priority = Priority.HIGH)
+	public static class SincPiFloat extends
+		AbstractUnaryComputerOp<Img<FloatType>, Img<FloatType>> implements Ops.Math.SincPi,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<FloatType> input, final Img<FloatType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final float[] a = (float[]) segment.data;
+				final float[] o = (float[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (float) (x == 0 ? 1 : Math.sin(Math.PI * x) / (Math.PI * x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof FloatType &&
+				out().firstElement() instanceof FloatType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Sinh} of each element of an image of {@link FloatType}. */
+	@Plugin(type = Ops.Math.Sinh.class, priority = Priority.HIGH)
+	public static class SinhFloat extends
+		AbstractUnaryComputerOp<Img<FloatType>, Img<FloatType>> implements Ops.Math.Sinh,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<FloatType> input, final Img<FloatType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final float[] a = (float[]) segment.data;
+				final float[] o = (float[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (float) (Math.sinh(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof FloatType &&
+				out().firstElement() instanceof FloatType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Sqr} of each element of an image of {@link FloatType}. */
+	@Plugin(type = Ops.Math.Sqr.class, priority = Priority.HIGH)
+	public static class SqrFloat extends
+		AbstractUnaryComputerOp<Img<FloatType>, Img<FloatType>> implements Ops.Math.Sqr,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<FloatType> input, final Img<FloatType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final float[] a = (float[]) segment.data;
+				final float[] o = (float[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (float) (x * x);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof FloatType &&
+				out().firstElement() instanceof FloatType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Sqrt} of each element of an image of {@link FloatType}. */
+	@Plugin(type = Ops.Math.Sqrt.class, priority = Priority.HIGH)
+	public static class SqrtFloat extends
+		AbstractUnaryComputerOp<Img<FloatType>, Img<FloatType>> implements Ops.Math.Sqrt,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<FloatType> input, final Img<FloatType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final float[] a = (float[]) segment.data;
+				final float[] o = (float[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (float) (Math.sqrt(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof FloatType &&
+				out().firstElement() instanceof FloatType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Step} of each element of an image of {@link FloatType}. */
+	@Plugin(type = Ops.Math.Step.class, priority = Priority.HIGH)
+	public static class StepFloat extends
+		AbstractUnaryComputerOp<Img<FloatType>, Img<FloatType>> implements Ops.Math.Step,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<FloatType> input, final Img<FloatType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final float[] a = (float[]) segment.data;
+				final float[] o = (float[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (float) (x < 0 ? 0 : 1);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof FloatType &&
+				out().firstElement() instanceof FloatType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Tan} of each element of an image of {@link FloatType}. */
+	@Plugin(type = Ops.Math.Tan.class, priority = Priority.HIGH)
+	public static class TanFloat extends
+		AbstractUnaryComputerOp<Img<FloatType>, Img<FloatType>> implements Ops.Math.Tan,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<FloatType> input, final Img<FloatType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final float[] a = (float[]) segment.data;
+				final float[] o = (float[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (float) (Math.tan(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof FloatType &&
+				out().firstElement() instanceof FloatType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Tanh} of each element of an image of {@link FloatType}. */
+	@Plugin(type = Ops.Math.Tanh.class, priority = Priority.HIGH)
+	public static class TanhFloat extends
+		AbstractUnaryComputerOp<Img<FloatType>, Img<FloatType>> implements Ops.Math.Tanh,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<FloatType> input, final Img<FloatType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final float[] a = (float[]) segment.data;
+				final float[] o = (float[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (float) (Math.tanh(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof FloatType &&
+				out().firstElement() instanceof FloatType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Ulp} of each element of an image of {@link FloatType}. */
+	@Plugin(type = Ops.Math.Ulp.class, priority = Priority.HIGH)
+	public static class UlpFloat extends
+		AbstractUnaryComputerOp<Img<FloatType>, Img<FloatType>> implements Ops.Math.Ulp,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<FloatType> input, final Img<FloatType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final float[] a = (float[]) segment.data;
+				final float[] o = (float[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (float) (Math.ulp(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof FloatType &&
+				out().firstElement() instanceof FloatType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Add} of two images of {@link FloatType}. */
+	@Plugin(type = Ops.Math.Add.class, priority = Priority.HIGH + 1)
+	public static class AddFloat extends
+		AbstractBinaryComputerOp<Img<FloatType>, Img<FloatType>, Img<FloatType>> implements
+		Ops.Math.Add, Contingent
+	{
+
+		@Override
+		public void compute(final Img<FloatType> input1, final Img<FloatType> input2,
+			final Img<FloatType> output)
+		{
+			final List<Segment> in1 = ImgSegments.segments(input1);
+			final List<Segment> in2 = ImgSegments.segments(input2);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in1.size(), s -> {
+				final Segment segment = in1.get(s);
+				final float[] a = (float[]) segment.data;
+				final float[] b = (float[]) in2.get(s).data;
+				final float[] o = (float[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					o[i] = a[i] + b[i];
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in1().firstElement() instanceof FloatType &&
+				in2().firstElement() instanceof FloatType &&
+				out().firstElement() instanceof FloatType && ImgSegments.aligned(in1(),
+					in2()) && ImgSegments.aligned(in1(), out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Subtract} of two images of {@link FloatType}. */
+	@Plugin(type = Ops.Math.Subtract.class, priority = Priority.HIGH + 1)
+	public static class SubtractFloat extends
+		AbstractBinaryComputerOp<Img<FloatType>, Img<FloatType>, Img<FloatType>> implements
+		Ops.Math.Subtract, Contingent
+	{
+
+		@Override
+		public void compute(final Img<FloatType> input1, final Img<FloatType> input2,
+			final Img<FloatType> output)
+		{
+			final List<Segment> in1 = ImgSegments.segments(input1);
+			final List<Segment> in2 = ImgSegments.segments(input2);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in1.size(), s -> {
+				final Segment segment = in1.get(s);
+				final float[] a = (float[]) segment.data;
+				final float[] b = (float[]) in2.get(s).data;
+				final float[] o = (float[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					o[i] = a[i] - b[i];
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in1().firstElement() instanceof FloatType &&
+				in2().firstElement() instanceof FloatType &&
+				out().firstElement() instanceof FloatType && ImgSegments.aligned(in1(),
+					in2()) && ImgSegments.aligned(in1(), out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Multiply} of two images of {@link FloatType}. */
+	@Plugin(type = Ops.Math.Multiply.class, priority = Priority.HIGH + 1)
+	public static class MultiplyFloat extends
+		AbstractBinaryComputerOp<Img<FloatType>, Img<FloatType>, Img<FloatType>> implements
+		Ops.Math.Multiply, Contingent
+	{
+
+		@Override
+		public void compute(final Img<FloatType> input1, final Img<FloatType> input2,
+			final Img<FloatType> output)
+		{
+			final List<Segment> in1 = ImgSegments.segments(input1);
+			final List<Segment> in2 = ImgSegments.segments(input2);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in1.size(), s -> {
+				final Segment segment = in1.get(s);
+				final float[] a = (float[]) segment.data;
+				final float[] b = (float[]) in2.get(s).data;
+				final float[] o = (float[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					o[i] = a[i] * b[i];
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in1().firstElement() instanceof FloatType &&
+				in2().firstElement() instanceof FloatType &&
+				out().firstElement() instanceof FloatType && ImgSegments.aligned(in1(),
+					in2()) && ImgSegments.aligned(in1(), out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Divide} of two images of {@link FloatType}. */
+	@Plugin(type = Ops.Math.Divide.class, priority = Priority.HIGH + 1)
+	public static class DivideFloat extends
+		AbstractBinaryComputerOp<Img<FloatType>, Img<FloatType>, Img<FloatType>> implements
+		Ops.Math.Divide, Contingent
+	{
+
+		@Override
+		public void compute(final Img<FloatType> input1, final Img<FloatType> input2,
+			final Img<FloatType> output)
+		{
+			final List<Segment> in1 = ImgSegments.segments(input1);
+			final List<Segment> in2 = ImgSegments.segments(input2);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in1.size(), s -> {
+				final Segment segment = in1.get(s);
+				final float[] a = (float[]) segment.data;
+				final float[] b = (float[]) in2.get(s).data;
+				final float[] o = (float[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					o[i] = a[i] / b[i];
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in1().firstElement() instanceof FloatType &&
+				in2().firstElement() instanceof FloatType &&
+				out().firstElement() instanceof FloatType && ImgSegments.aligned(in1(),
+					in2()) && ImgSegments.aligned(in1(), out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Abs} of each element of an image of {@link DoubleType}. */
+	@Plugin(type = Ops.Math.Abs.class, priority = Priority.HIGH)
+	public static class AbsDouble extends
+		AbstractUnaryComputerOp<Img<DoubleType>, Img<DoubleType>> implements Ops.Math.Abs,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<DoubleType> input, final Img<DoubleType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final double[] a = (double[]) segment.data;
+				final double[] o = (double[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (double) (Math.abs(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof DoubleType &&
+				out().firstElement() instanceof DoubleType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arccos} of each element of an image of {@link DoubleType}. */
+	@Plugin(type = Ops.Math.Arccos.class, priority = Priority.HIGH)
+	public static class ArccosDouble extends
+		AbstractUnaryComputerOp<Img<DoubleType>, Img<DoubleType>> implements Ops.Math.Arccos,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<DoubleType> input, final Img<DoubleType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final double[] a = (double[]) segment.data;
+				final double[] o = (double[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (double) (Math.acos(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof DoubleType &&
+				out().firstElement() instanceof DoubleType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arccosh} of each element of an image of {@link DoubleType}. */
+	@Plugin(type = Ops.Math.Arccosh.class, priority = Priority.HIGH)
+	public static class ArccoshDouble extends
+		AbstractUnaryComputerOp<Img<DoubleType>, Img<DoubleType>> implements Ops.Math.Arccosh,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<DoubleType> input, final Img<DoubleType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final double[] a = (double[]) segment.data;
+				final double[] o = (double[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (double) (Math.log(x + (x <= -1 ? -1 : 1) * Math.sqrt(x * x - 1)));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof DoubleType &&
+				out().firstElement() instanceof DoubleType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arccot} of each element of an image of {@link DoubleType}. */
+	@Plugin(type = Ops.Math.Arccot.class, priority = Priority.HIGH)
+	public static class ArccotDouble extends
+		AbstractUnaryComputerOp<Img<DoubleType>, Img<DoubleType>> implements Ops.Math.Arccot,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<DoubleType> input, final Img<DoubleType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final double[] a = (double[]) segment.data;
+				final double[] o = (double[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (double) (Math.atan(1.0 / x) + (x < 0 ? Math.PI : 0));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof DoubleType &&
+				out().firstElement() instanceof DoubleType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arccoth} of each element of an image of {@link DoubleType}. */
+	@Plugin(type = Ops.Math.Arccoth.class, priority = Priority.HIGH)
+	public static class ArccothDouble extends
+		AbstractUnaryComputerOp<Img<DoubleType>, Img<DoubleType>> implements Ops.Math.Arccoth,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<DoubleType> input, final Img<DoubleType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final double[] a = (double[]) segment.data;
+				final double[] o = (double[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (double) (0.5 * Math.log((x + 1) / (x - 1)));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof DoubleType &&
+				out().firstElement() instanceof DoubleType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arccsch} of each element of an image of {@link DoubleType}. */
+	@Plugin(type = Ops.Math.Arccsch.class, priority = Priority.HIGH)
+	public static class ArccschDouble extends
+		AbstractUnaryComputerOp<Img<DoubleType>, Img<DoubleType>> implements Ops.Math.Arccsch,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<DoubleType> input, final Img<DoubleType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final double[] a = (double[]) segment.data;
+				final double[] o = (double[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (double) (Math.log(1 / x + Math.sqrt(1 + 1 / (x * x))));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof DoubleType &&
+				out().firstElement() instanceof DoubleType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arcsech} of each element of an image of {@link DoubleType}. */
+	@Plugin(type = Ops.Math.Arcsech.class, priority = Priority.HIGH)
+	public static class ArcsechDouble extends
+		AbstractUnaryComputerOp<Img<DoubleType>, Img<DoubleType>> implements Ops.Math.Arcsech,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<DoubleType> input, final Img<DoubleType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final double[] a = (double[]) segment.data;
+				final double[] o = (double[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (double) (Math.log((1 + Math.sqrt(1 - x * x)) / x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof DoubleType &&
+				out().firstElement() instanceof DoubleType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arcsin} of each element of an image of {@link DoubleType}. */
+	@Plugin(type = Ops.Math.Arcsin.class, priority = Priority.HIGH)
+	public static class ArcsinDouble extends
+		AbstractUnaryComputerOp<Img<DoubleType>, Img<DoubleType>> implements Ops.Math.Arcsin,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<DoubleType> input, final Img<DoubleType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final double[] a = (double[]) segment.data;
+				final double[] o = (double[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (double) (Math.asin(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof DoubleType &&
+				out().firstElement() instanceof DoubleType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arcsinh} of each element of an image of {@link DoubleType}. */
+	@Plugin(type = Ops.Math.Arcsinh.class, priority = Priority.HIGH)
+	public static class ArcsinhDouble extends
+		AbstractUnaryComputerOp<Img<DoubleType>, Img<DoubleType>> implements Ops.Math.Arcsinh,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<DoubleType> input, final Img<DoubleType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final double[] a = (double[]) segment.data;
+				final double[] o = (double[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (double) (Math.log(x + Math.sqrt(x * x + 1)));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof DoubleType &&
+				out().firstElement() instanceof DoubleType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arctan} of each element of an image of {@link DoubleType}. */
+	@Plugin(type = Ops.Math.Arctan.class, priority = Priority.HIGH)
+	public static class ArctanDouble extends
+		AbstractUnaryComputerOp<Img<DoubleType>, Img<DoubleType>> implements Ops.Math.Arctan,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<DoubleType> input, final Img<DoubleType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final double[] a = (double[]) segment.data;
+				final double[] o = (double[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (double) (Math.atan(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof DoubleType &&
+				out().firstElement() instanceof DoubleType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Arctanh} of each element of an image of {@link DoubleType}. */
+	@Plugin(type = Ops.Math.Arctanh.class, priority = Priority.HIGH)
+	public static class ArctanhDouble extends
+		AbstractUnaryComputerOp<Img<DoubleType>, Img<DoubleType>> implements Ops.Math.Arctanh,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<DoubleType> input, final Img<DoubleType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final double[] a = (double[]) segment.data;
+				final double[] o = (double[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (double) (0.5 * Math.log((1 + x) / (1 - x)));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof DoubleType &&
+				out().firstElement() instanceof DoubleType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Ceil} of each element of an image of {@link DoubleType}. */
+	@Plugin(type = Ops.Math.Ceil.class, priority = Priority.HIGH)
+	public static class CeilDouble extends
+		AbstractUnaryComputerOp<Img<DoubleType>, Img<DoubleType>> implements Ops.Math.Ceil,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<DoubleType> input, final Img<DoubleType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final double[] a = (double[]) segment.data;
+				final double[] o = (double[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (double) (Math.ceil(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof DoubleType &&
+				out().firstElement() instanceof DoubleType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Cos} of each element of an image of {@link DoubleType}. */
+	@Plugin(type = Ops.Math.Cos.class, priority = Priority.HIGH)
+	public static class CosDouble extends
+		AbstractUnaryComputerOp<Img<DoubleType>, Img<DoubleType>> implements Ops.Math.Cos,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<DoubleType> input, final Img<DoubleType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final double[] a = (double[]) segment.data;
+				final double[] o = (double[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (double) (Math.cos(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof DoubleType &&
+				out().firstElement() instanceof DoubleType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Cosh} of each element of an image of {@link DoubleType}. */
+	@Plugin(type = Ops.Math.Cosh.class, priority = Priority.HIGH)
+	public static class CoshDouble extends
+		AbstractUnaryComputerOp<Img<DoubleType>, Img<DoubleType>> implements Ops.Math.Cosh,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<DoubleType> input, final Img<DoubleType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final double[] a = (double[]) segment.data;
+				final double[] o = (double[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (double) (Math.cosh(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof DoubleType &&
+				out().firstElement() instanceof DoubleType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Cot} of each element of an image of {@link DoubleType}. */
+	@Plugin(type = Ops.Math.Cot.class, priority = Priority.HIGH)
+	public static class CotDouble extends
+		AbstractUnaryComputerOp<Img<DoubleType>, Img<DoubleType>> implements Ops.Math.Cot,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<DoubleType> input, final Img<DoubleType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final double[] a = (double[]) segment.data;
+				final double[] o = (double[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (double) (1.0 / Math.tan(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof DoubleType &&
+				out().firstElement() instanceof DoubleType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Coth} of each element of an image of {@link DoubleType}. */
+	@Plugin(type = Ops.Math.Coth.class, priority = Priority.HIGH)
+	public static class CothDouble extends
+		AbstractUnaryComputerOp<Img<DoubleType>, Img<DoubleType>> implements Ops.Math.Coth,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<DoubleType> input, final Img<DoubleType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final double[] a = (double[]) segment.data;
+				final double[] o = (double[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (double) (1.0 / Math.tanh(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof DoubleType &&
+				out().firstElement() instanceof DoubleType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Csc} of each element of an image of {@link DoubleType}. */
+	@Plugin(type = Ops.Math.Csc.class, priority = Priority.HIGH)
+	public static class CscDouble extends
+		AbstractUnaryComputerOp<Img<DoubleType>, Img<DoubleType>> implements Ops.Math.Csc,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<DoubleType> input, final Img<DoubleType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final double[] a = (double[]) segment.data;
+				final double[] o = (double[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (double) (1.0 / Math.sin(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof DoubleType &&
+				out().firstElement() instanceof DoubleType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Csch} of each element of an image of {@link DoubleType}. */
+	@Plugin(type = Ops.Math.Csch.class, priority = Priority.HIGH)
+	public static class CschDouble extends
+		AbstractUnaryComputerOp<Img<DoubleType>, Img<DoubleType>> implements Ops.Math.Csch,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<DoubleType> input, final Img<DoubleType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final double[] a = (double[]) segment.data;
+				final double[] o = (double[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (double) (1.0 / Math.sinh(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof DoubleType &&
+				out().firstElement() instanceof DoubleType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.CubeRoot} of each element of an image of {@link DoubleType}. */
+	@Plugin(type = Ops.Math.CubeRoot.class, priority = Priority.HIGH)
+	public static class CubeRootDouble extends
+		AbstractUnaryComputerOp<Img<DoubleType>, Img<DoubleType>> implements Ops.Math.CubeRoot,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<DoubleType> input, final Img<DoubleType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final double[] a = (double[]) segment.data;
+				final double[] o = (double[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (double) (Math.cbrt(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof DoubleType &&
+				out().firstElement() instanceof DoubleType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Exp} of each element of an image of {@link DoubleType}. */
+	@Plugin(type = Ops.Math.Exp.class, priority = Priority.HIGH)
+	public static class ExpDouble extends
+		AbstractUnaryComputerOp<Img<DoubleType>, Img<DoubleType>> implements Ops.Math.Exp,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<DoubleType> input, final Img<DoubleType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final double[] a = (double[]) segment.data;
+				final double[] o = (double[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (double) (Math.exp(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof DoubleType &&
+				out().firstElement() instanceof DoubleType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.ExpMinusOne} of each element of an image of {@link DoubleType}. */
+	@Plugin(type = Ops.Math.ExpMinusOne.class, priority = Priority.HIGH)
+	public static class ExpMinusOneDouble extends
+		AbstractUnaryComputerOp<Img<DoubleType>, Img<DoubleType>> implements Ops.Math.ExpMinusOne,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<DoubleType> input, final Img<DoubleType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final double[] a = (double[]) segment.data;
+				final double[] o = (double[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (double) (Math.exp(x) - 1);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof DoubleType &&
+				out().firstElement() instanceof DoubleType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Floor} of each element of an image of {@link DoubleType}. */
+	@Plugin(type = Ops.Math.Floor.class, priority = Priority.HIGH)
+	public static class FloorDouble extends
+		AbstractUnaryComputerOp<Img<DoubleType>, Img<DoubleType>> implements Ops.Math.Floor,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<DoubleType> input, final Img<DoubleType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final double[] a = (double[]) segment.data;
+				final double[] o = (double[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (double) (Math.floor(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof DoubleType &&
+				out().firstElement() instanceof DoubleType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Gamma} of each element of an image of {@link DoubleType}. */
+	@Plugin(type = Ops.Math.Gamma.class, priority = Priority.HIGH)
+	public static class GammaDouble extends
+		AbstractUnaryComputerOp<Img<DoubleType>, Img<DoubleType>> implements Ops.Math.Gamma,
+		Contingent
+	{
+
+		@Parameter
+		private double constant;
+
+		@Override
+		public void compute(final Img<DoubleType> input, final Img<DoubleType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final double[] a = (double[]) segment.data;
+				final double[] o = (double[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (double) (x <= 0 ? 0 : Math.exp(constant * Math.log(x)));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof DoubleType &&
+				out().firstElement() instanceof DoubleType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Invert} of each element of an image of {@link DoubleType}. */
+	@Plugin(type = Ops.Math.Invert.class, priority = Priority.HIGH)
+	public static class InvertDouble extends
+		AbstractUnaryComputerOp<Img<DoubleType>, Img<DoubleType>> implements Ops.Math.Invert,
+		Contingent
+	{
+
+		@Parameter
+		private double specifiedMin;
+
+		@Parameter
+		private double specifiedMax;
+
+		@Override
+		public void compute(final Img<DoubleType> input, final Img<DoubleType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final double[] a = (double[]) segment.data;
+				final double[] o = (double[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (double) (specifiedMax - (x - specifiedMin));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof DoubleType &&
+				out().firstElement() instanceof DoubleType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Log} of each element of an image of {@link DoubleType}. */
+	@Plugin(type = Ops.Math.Log.class, priority = Priority.HIGH)
+	public static class LogDouble extends
+		AbstractUnaryComputerOp<Img<DoubleType>, Img<DoubleType>> implements Ops.Math.Log,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<DoubleType> input, final Img<DoubleType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final double[] a = (double[]) segment.data;
+				final double[] o = (double[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (double) (Math.log(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof DoubleType &&
+				out().firstElement() instanceof DoubleType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Log10} of each element of an image of {@link DoubleType}. */
+	@Plugin(type = Ops.Math.Log10.class, priority = Priority.HIGH)
+	public static class Log10Double extends
+		AbstractUnaryComputerOp<Img<DoubleType>, Img<DoubleType>> implements Ops.Math.Log10,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<DoubleType> input, final Img<DoubleType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final double[] a = (double[]) segment.data;
+				final double[] o = (double[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (double) (Math.log10(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof DoubleType &&
+				out().firstElement() instanceof DoubleType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Log2} of each element of an image of {@link DoubleType}. */
+	@Plugin(type = Ops.Math.Log2.class, priority = Priority.HIGH)
+	public static class Log2Double extends
+		AbstractUnaryComputerOp<Img<DoubleType>, Img<DoubleType>> implements Ops.Math.Log2,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<DoubleType> input, final Img<DoubleType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final double[] a = (double[]) segment.data;
+				final double[] o = (double[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (double) (Math.log(x) / Math.log(2));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof DoubleType &&
+				out().firstElement() instanceof DoubleType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.LogOnePlusX} of each element of an image of {@link DoubleType}. */
+	@Plugin(type = Ops.Math.LogOnePlusX.class, priority = Priority.HIGH)
+	public static class LogOnePlusXDouble extends
+		AbstractUnaryComputerOp<Img<DoubleType>, Img<DoubleType>> implements Ops.Math.LogOnePlusX,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<DoubleType> input, final Img<DoubleType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final double[] a = (double[]) segment.data;
+				final double[] o = (double[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (double) (Math.log1p(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof DoubleType &&
+				out().firstElement() instanceof DoubleType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Max} of each element of an image of {@link DoubleType}. */
+	@Plugin(type = Ops.Math.Max.class, priority = Priority.HIGH)
+	public static class MaxDouble extends
+		AbstractUnaryComputerOp<Img<DoubleType>, Img<DoubleType>> implements Ops.Math.Max,
+		Contingent
+	{
+
+		@Parameter
+		private double constant;
+
+		@Override
+		public void compute(final Img<DoubleType> input, final Img<DoubleType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final double[] a = (double[]) segment.data;
+				final double[] o = (double[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (double) (x < constant ? x : constant);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof DoubleType &&
+				out().firstElement() instanceof DoubleType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Min} of each element of an image of {@link DoubleType}. */
+	@Plugin(type = Ops.Math.Min.class, priority = Priority.HIGH)
+	public static class MinDouble extends
+		AbstractUnaryComputerOp<Img<DoubleType>, Img<DoubleType>> implements Ops.Math.Min,
+		Contingent
+	{
+
+		@Parameter
+		private double constant;
+
+		@Override
+		public void compute(final Img<DoubleType> input, final Img<DoubleType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final double[] a = (double[]) segment.data;
+				final double[] o = (double[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (double) (x > constant ? x : constant);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof DoubleType &&
+				out().firstElement() instanceof DoubleType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.NearestInt} of each element of an image of {@link DoubleType}. */
+	@Plugin(type = Ops.Math.NearestInt.class, priority = Priority.HIGH)
+	public static class NearestIntDouble extends
+		AbstractUnaryComputerOp<Img<DoubleType>, Img<DoubleType>> implements Ops.Math.NearestInt,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<DoubleType> input, final Img<DoubleType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final double[] a = (double[]) segment.data;
+				final double[] o = (double[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (double) (Math.rint(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof DoubleType &&
+				out().firstElement() instanceof DoubleType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Negate} of each element of an image of {@link DoubleType}. */
+	@Plugin(type = Ops.Math.Negate.class, priority = Priority.HIGH)
+	public static class NegateDouble extends
+		AbstractUnaryComputerOp<Img<DoubleType>, Img<DoubleType>> implements Ops.Math.Negate,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<DoubleType> input, final Img<DoubleType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final double[] a = (double[]) segment.data;
+				final double[] o = (double[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (double) (-x);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof DoubleType &&
+				out().firstElement() instanceof DoubleType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Power} of each element of an image of {@link DoubleType}. */
+	@Plugin(type = Ops.Math.Power.class, priority = Priority.HIGH)
+	public static class PowerDouble extends
+		AbstractUnaryComputerOp<Img<DoubleType>, Img<DoubleType>> implements Ops.Math.Power,
+		Contingent
+	{
+
+		@Parameter
+		private double constant;
+
+		@Override
+		public void compute(final Img<DoubleType> input, final Img<DoubleType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final double[] a = (double[]) segment.data;
+				final double[] o = (double[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (double) (Math.pow(x, constant));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof DoubleType &&
+				out().firstElement() instanceof DoubleType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Reciprocal} of each element of an image of {@link DoubleType}. */
+	@Plugin(type = Ops.Math.Reciprocal.class, priority = Priority.HIGH)
+	public static class ReciprocalDouble extends
+		AbstractUnaryComputerOp<Img<DoubleType>, Img<DoubleType>> implements Ops.Math.Reciprocal,
+		Contingent
+	{
+
+		@Parameter
+		private double dbzVal;
+
+		@Override
+		public void compute(final Img<DoubleType> input, final Img<DoubleType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final double[] a = (double[]) segment.data;
+				final double[] o = (double[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (double) (x == 0 ? dbzVal : 1.0 / x);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof DoubleType &&
+				out().firstElement() instanceof DoubleType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Round} of each element of an image of {@link DoubleType}. */
+	@Plugin(type = Ops.Math.Round.class, priority = Priority.HIGH)
+	public static class RoundDouble extends
+		AbstractUnaryComputerOp<Img<DoubleType>, Img<DoubleType>> implements Ops.Math.Round,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<DoubleType> input, final Img<DoubleType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final double[] a = (double[]) segment.data;
+				final double[] o = (double[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (double) ((double) Math.round(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof DoubleType &&
+				out().firstElement() instanceof DoubleType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Sec} of each element of an image of {@link DoubleType}. */
+	@Plugin(type = Ops.Math.Sec.class, priority = Priority.HIGH)
+	public static class SecDouble extends
+		AbstractUnaryComputerOp<Img<DoubleType>, Img<DoubleType>> implements Ops.Math.Sec,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<DoubleType> input, final Img<DoubleType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final double[] a = (double[]) segment.data;
+				final double[] o = (double[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (double) (1.0 / Math.cos(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof DoubleType &&
+				out().firstElement() instanceof DoubleType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Sech} of each element of an image of {@link DoubleType}. */
+	@Plugin(type = Ops.Math.Sech.class, priority = Priority.HIGH)
+	public static class SechDouble extends
+		AbstractUnaryComputerOp<Img<DoubleType>, Img<DoubleType>> implements Ops.Math.Sech,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<DoubleType> input, final Img<DoubleType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final double[] a = (double[]) segment.data;
+				final double[] o = (double[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (double) (1.0 / Math.cosh(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof DoubleType &&
+				out().firstElement() instanceof DoubleType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Signum} of each element of an image of {@link DoubleType}. */
+	@Plugin(type = Ops.Math.Signum.class, priority = Priority.HIGH)
+	public static class SignumDouble extends
+		AbstractUnaryComputerOp<Img<DoubleType>, Img<DoubleType>> implements Ops.Math.Signum,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<DoubleType> input, final Img<DoubleType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final double[] a = (double[]) segment.data;
+				final double[] o = (double[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (double) (Math.signum(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof DoubleType &&
+				out().firstElement() instanceof DoubleType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Sin} of each element of an image of {@link DoubleType}. */
+	@Plugin(type = Ops.Math.Sin.class, priority = Priority.HIGH)
+	public static class SinDouble extends
+		AbstractUnaryComputerOp<Img<DoubleType>, Img<DoubleType>> implements Ops.Math.Sin,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<DoubleType> input, final Img<DoubleType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final double[] a = (double[]) segment.data;
+				final double[] o = (double[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (double) (Math.sin(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof DoubleType &&
+				out().firstElement() instanceof DoubleType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Sinc} of each element of an image of {@link DoubleType}. */
+	@Plugin(type = Ops.Math.Sinc.class, priority = Priority.HIGH)
+	public static class SincDouble extends
+		AbstractUnaryComputerOp<Img<DoubleType>, Img<DoubleType>> implements Ops.Math.Sinc,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<DoubleType> input, final Img<DoubleType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final double[] a = (double[]) segment.data;
+				final double[] o = (double[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (double) (x == 0 ? 1 : Math.sin(x) / x);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof DoubleType &&
+				out().firstElement() instanceof DoubleType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.SincPi} of each element of an image of {@link DoubleType}. */
+	@Plugin(type = Ops.Math.SincPi.class, priority = Priority.HIGH)
+	public static class SincPiDouble extends
+		AbstractUnaryComputerOp<Img<DoubleType>, Img<DoubleType>> implements Ops.Math.SincPi,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<DoubleType> input, final Img<DoubleType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final double[] a = (double[]) segment.data;
+				final double[] o = (double[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (double) (x == 0 ? 1 : Math.sin(Math.PI * x) / (Math.PI * x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof DoubleType &&
+				out().firstElement() instanceof DoubleType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Sinh} of each element of an image of {@link DoubleType}. */
+	@Plugin(type = Ops.Math.Sinh.class, priority = Priority.HIGH)
+	public static class SinhDouble extends
+		AbstractUnaryComputerOp<Img<DoubleType>, Img<DoubleType>> implements Ops.Math.Sinh,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<DoubleType> input, final Img<DoubleType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final double[] a = (double[]) segment.data;
+				final double[] o = (double[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (double) (Math.sinh(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof DoubleType &&
+				out().firstElement() instanceof DoubleType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Sqr} of each element of an image of {@link DoubleType}. */
+	@Plugin(type = Ops.Math.Sqr.class, priority = Priority.HIGH)
+	public static class SqrDouble extends
+		AbstractUnaryComputerOp<Img<DoubleType>, Img<DoubleType>> implements Ops.Math.Sqr,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<DoubleType> input, final Img<DoubleType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final double[] a = (double[]) segment.data;
+				final double[] o = (double[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (double) (x * x);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof DoubleType &&
+				out().firstElement() instanceof DoubleType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Sqrt} of each element of an image of {@link DoubleType}. */
+	@Plugin(type = Ops.Math.Sqrt.class, priority = Priority.HIGH)
+	public static class SqrtDouble extends
+		AbstractUnaryComputerOp<Img<DoubleType>, Img<DoubleType>> implements Ops.Math.Sqrt,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<DoubleType> input, final Img<DoubleType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final double[] a = (double[]) segment.data;
+				final double[] o = (double[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (double) (Math.sqrt(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof DoubleType &&
+				out().firstElement() instanceof DoubleType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Step} of each element of an image of {@link DoubleType}. */
+	@Plugin(type = Ops.Math.Step.class, priority = Priority.HIGH)
+	public static class StepDouble extends
+		AbstractUnaryComputerOp<Img<DoubleType>, Img<DoubleType>> implements Ops.Math.Step,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<DoubleType> input, final Img<DoubleType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final double[] a = (double[]) segment.data;
+				final double[] o = (double[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (double) (x < 0 ? 0 : 1);
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof DoubleType &&
+				out().firstElement() instanceof DoubleType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Tan} of each element of an image of {@link DoubleType}. */
+	@Plugin(type = Ops.Math.Tan.class, priority = Priority.HIGH)
+	public static class TanDouble extends
+		AbstractUnaryComputerOp<Img<DoubleType>, Img<DoubleType>> implements Ops.Math.Tan,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<DoubleType> input, final Img<DoubleType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final double[] a = (double[]) segment.data;
+				final double[] o = (double[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (double) (Math.tan(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof DoubleType &&
+				out().firstElement() instanceof DoubleType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Tanh} of each element of an image of {@link DoubleType}. */
+	@Plugin(type = Ops.Math.Tanh.class, priority = Priority.HIGH)
+	public static class TanhDouble extends
+		AbstractUnaryComputerOp<Img<DoubleType>, Img<DoubleType>> implements Ops.Math.Tanh,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<DoubleType> input, final Img<DoubleType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final double[] a = (double[]) segment.data;
+				final double[] o = (double[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (double) (Math.tanh(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof DoubleType &&
+				out().firstElement() instanceof DoubleType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Ulp} of each element of an image of {@link DoubleType}. */
+	@Plugin(type = Ops.Math.Ulp.class, priority = Priority.HIGH)
+	public static class UlpDouble extends
+		AbstractUnaryComputerOp<Img<DoubleType>, Img<DoubleType>> implements Ops.Math.Ulp,
+		Contingent
+	{
+
+		@Override
+		public void compute(final Img<DoubleType> input, final Img<DoubleType> output) {
+			final List<Segment> in = ImgSegments.segments(input);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in.size(), s -> {
+				final Segment segment = in.get(s);
+				final double[] a = (double[]) segment.data;
+				final double[] o = (double[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					final double x = a[i];
+					o[i] = (double) (Math.ulp(x));
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in().firstElement() instanceof DoubleType &&
+				out().firstElement() instanceof DoubleType && ImgSegments.aligned(in(),
+					out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Add} of two images of {@link DoubleType}. */
+	@Plugin(type = Ops.Math.Add.class, priority = Priority.HIGH + 1)
+	public static class AddDouble extends
+		AbstractBinaryComputerOp<Img<DoubleType>, Img<DoubleType>, Img<DoubleType>> implements
+		Ops.Math.Add, Contingent
+	{
+
+		@Override
+		public void compute(final Img<DoubleType> input1, final Img<DoubleType> input2,
+			final Img<DoubleType> output)
+		{
+			final List<Segment> in1 = ImgSegments.segments(input1);
+			final List<Segment> in2 = ImgSegments.segments(input2);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in1.size(), s -> {
+				final Segment segment = in1.get(s);
+				final double[] a = (double[]) segment.data;
+				final double[] b = (double[]) in2.get(s).data;
+				final double[] o = (double[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					o[i] = a[i] + b[i];
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in1().firstElement() instanceof DoubleType &&
+				in2().firstElement() instanceof DoubleType &&
+				out().firstElement() instanceof DoubleType && ImgSegments.aligned(in1(),
+					in2()) && ImgSegments.aligned(in1(), out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Subtract} of two images of {@link DoubleType}. */
+	@Plugin(type = Ops.Math.Subtract.class, priority = Priority.HIGH + 1)
+	public static class SubtractDouble extends
+		AbstractBinaryComputerOp<Img<DoubleType>, Img<DoubleType>, Img<DoubleType>> implements
+		Ops.Math.Subtract, Contingent
+	{
+
+		@Override
+		public void compute(final Img<DoubleType> input1, final Img<DoubleType> input2,
+			final Img<DoubleType> output)
+		{
+			final List<Segment> in1 = ImgSegments.segments(input1);
+			final List<Segment> in2 = ImgSegments.segments(input2);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in1.size(), s -> {
+				final Segment segment = in1.get(s);
+				final double[] a = (double[]) segment.data;
+				final double[] b = (double[]) in2.get(s).data;
+				final double[] o = (double[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					o[i] = a[i] - b[i];
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in1().firstElement() instanceof DoubleType &&
+				in2().firstElement() instanceof DoubleType &&
+				out().firstElement() instanceof DoubleType && ImgSegments.aligned(in1(),
+					in2()) && ImgSegments.aligned(in1(), out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Multiply} of two images of {@link DoubleType}. */
+	@Plugin(type = Ops.Math.Multiply.class, priority = Priority.HIGH + 1)
+	public static class MultiplyDouble extends
+		AbstractBinaryComputerOp<Img<DoubleType>, Img<DoubleType>, Img<DoubleType>> implements
+		Ops.Math.Multiply, Contingent
+	{
+
+		@Override
+		public void compute(final Img<DoubleType> input1, final Img<DoubleType> input2,
+			final Img<DoubleType> output)
+		{
+			final List<Segment> in1 = ImgSegments.segments(input1);
+			final List<Segment> in2 = ImgSegments.segments(input2);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in1.size(), s -> {
+				final Segment segment = in1.get(s);
+				final double[] a = (double[]) segment.data;
+				final double[] b = (double[]) in2.get(s).data;
+				final double[] o = (double[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					o[i] = a[i] * b[i];
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in1().firstElement() instanceof DoubleType &&
+				in2().firstElement() instanceof DoubleType &&
+				out().firstElement() instanceof DoubleType && ImgSegments.aligned(in1(),
+					in2()) && ImgSegments.aligned(in1(), out());
+		}
+	}
+
+	/** Op that computes {@link Ops.Math.Divide} of two images of {@link DoubleType}. */
+	@Plugin(type = Ops.Math.Divide.class, priority = Priority.HIGH + 1)
+	public static class DivideDouble extends
+		AbstractBinaryComputerOp<Img<DoubleType>, Img<DoubleType>, Img<DoubleType>> implements
+		Ops.Math.Divide, Contingent
+	{
+
+		@Override
+		public void compute(final Img<DoubleType> input1, final Img<DoubleType> input2,
+			final Img<DoubleType> output)
+		{
+			final List<Segment> in1 = ImgSegments.segments(input1);
+			final List<Segment> in2 = ImgSegments.segments(input2);
+			final List<Segment> out = ImgSegments.segments(output);
+			ImgSegments.run(ops(), in1.size(), s -> {
+				final Segment segment = in1.get(s);
+				final double[] a = (double[]) segment.data;
+				final double[] b = (double[]) in2.get(s).data;
+				final double[] o = (double[]) out.get(s).data;
+				for (int i = segment.from; i < segment.to; i++) {
+					o[i] = a[i] / b[i];
+				}
+			});
+		}
+
+		@Override
+		public boolean conforms() {
+			return in1().firstElement() instanceof DoubleType &&
+				in2().firstElement() instanceof DoubleType &&
+				out().firstElement() instanceof DoubleType && ImgSegments.aligned(in1(),
+					in2()) && ImgSegments.aligned(in1(), out());
+		}
+	}
+}
@@ -0,0 +1,161 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2020 ImageJ developers.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.math;
+
+/**
+ * Saturating integer arithmetic used by the generated kernels of
+ * {@link PrimitiveImageMath}.
+ * <p>
+ * Results which do not fit the target type are clamped to its range instead
+ * of wrapping around. Division by zero yields zero for a zero dividend, and
+ * otherwise the bound of the type with the sign of the dividend. Values of
+ * types narrower than 64 bits are passed as {@code long}s, unsigned ones
+ * already masked to their non-negative value.
+ * </p>
+ */
+final class Saturation {
+
+	private static final double TWO_POW_63 = 0x1p63;
+	private static final double TWO_POW_64 = 0x1p64;
+
+	private Saturation() {
+		// NB: Prevent instantiation of utility class.
+	}
+
+	// -- Types up to 32 bits --
+
+	static long clamp(final long value, final long min, final long max) {
+		return value < min ? min : value > max ? max : value;
+	}
+
+	static long add(final long a, final long b, final long min,
+		final long max)
+	{
+		return clamp(a + b, min, max);
+	}
+
+	static long subtract(final long a, final long b, final long min,
+		final long max)
+	{
+		return clamp(a - b, min, max);
+	}
+
+	static long multiply(final long a, final long b, final long min,
+		final long max)
+	{
+		// NB: Only the product of two unsigned 32-bit values can overflow a long,
+		// and then it is far beyond any of the bounds.
+		if (a > Integer.MAX_VALUE && b > Integer.MAX_VALUE) return max;
+		return clamp(a * b, min, max);
+	}
+
+	static long divide(final long a, final long b, final long min,
+		final long max)
+	{
+		if (b == 0) return a == 0 ? 0 : a > 0 ? max : min;
+		return clamp(a / b, min, max);
+	}
+
+	/** Rounds to the nearest integer within the given bounds; NaN yields 0. */
+	static long round(final double value, final long min, final long max) {
+		return clamp(Math.round(value), min, max);
+	}
+
+	// -- Signed 64-bit --
+
+	static long addLong(final long a, final long b) {
+		final long r = a + b;
+		if (((a ^ r) & (b ^ r)) < 0) return a < 0 ? Long.MIN_VALUE
+			: Long.MAX_VALUE;
+		return r;
+	}
+
+	static long subtractLong(final long a, final long b) {
+		final long r = a - b;
+		if (((a ^ b) & (a ^ r)) < 0) return a < 0 ? Long.MIN_VALUE
+			: Long.MAX_VALUE;
+		return r;
+	}
+
+	static long multiplyLong(final long a, final long b) {
+		final long r = a * b;
+		if ((Math.abs(a) | Math.abs(b)) >>> 31 != 0) {
+			if ((b != 0 && r / b != a) || (a == Long.MIN_VALUE && b == -1)) {
+				return (a ^ b) < 0 ? Long.MIN_VALUE : Long.MAX_VALUE;
+			}
+		}
+		return r;
+	}
+
+	static long divideLong(final long a, final long b) {
+		if (b == 0) return a == 0 ? 0 : a > 0 ? Long.MAX_VALUE : Long.MIN_VALUE;
+		if (a == Long.MIN_VALUE && b == -1) return Long.MAX_VALUE;
+		return a / b;
+	}
+
+	// -- Unsigned 64-bit --
+
+	static long addUnsignedLong(final long a, final long b) {
+		final long r = a + b;
+		return Long.compareUnsigned(r, a) < 0 ? -1L : r;
+	}
+
+	static long subtractUnsignedLong(final long a, final long b) {
+		return Long.compareUnsigned(a, b) < 0 ? 0 : a - b;
+	}
+
+	static long multiplyUnsignedLong(final long a, final long b) {
+		if (a != 0 && Long.compareUnsigned(b, Long.divideUnsigned(-1L, a)) > 0) {
+			return -1L;
+		}
+		return a * b;
+	}
+
+	static long divideUnsignedLong(final long a, final long b) {
+		if (b == 0) return a == 0 ? 0 : -1L;
+		return Long.divideUnsigned(a, b);
+	}
+
+	static double unsignedLongToDouble(final long value) {
+		if (value >= 0) return value;
+		// NB: Halve, keeping the lowest bit for correct rounding.
+		return ((value >>> 1) | (value & 1)) * 2.0;
+	}
+
+	/** Rounds to the nearest unsigned 64-bit integer; NaN yields 0. */
+	static long roundUnsignedLong(final double value) {
+		if (!(value > 0)) return 0;
+		if (value >= TWO_POW_64) return -1L;
+		if (value < TWO_POW_63) return Math.round(value);
+		// NB: Doubles of this magnitude are integers already.
+		return (long) (value - TWO_POW_63) ^ Long.MIN_VALUE;
+	}
+
+}
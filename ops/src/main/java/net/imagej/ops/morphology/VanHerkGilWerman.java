@@ -0,0 +1,368 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2020 ImageJ developers.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.morphology;
+
+import net.imagej.ops.OpEnvironment;
+import net.imagej.ops.thread.chunker.Chunk;
+import net.imagej.ops.thread.chunker.ChunkerOp;
+import net.imglib2.Cursor;
+import net.imglib2.Interval;
+import net.imglib2.IterableInterval;
+import net.imglib2.RandomAccessible;
+import net.imglib2.RandomAccessibleInterval;
+import net.imglib2.algorithm.neighborhood.HorizontalLineShape;
+import net.imglib2.algorithm.neighborhood.RectangleShape;
+import net.imglib2.algorithm.neighborhood.Shape;
+import net.imglib2.type.numeric.RealType;
+import net.imglib2.type.numeric.real.DoubleType;
+import net.imglib2.util.Intervals;
+import net.imglib2.view.Views;
+
+/**
+ * Dilation and erosion with {@link RectangleShape}s and
+ * {@link HorizontalLineShape}s using the van Herk/Gil-Werman algorithm.
+ * <p>
+ * Boxes are separable, so the maximum (minimum) over a box is computed as the
+ * maximum (minimum) over lines, one dimension after the other. Along each
+ * line, the maxima of blocks of the window length are accumulated forward and
+ * backward, so that the maximum of every window is the maximum of two values,
+ * independent of the window length. The lines of each pass are processed in
+ * parallel.
+ * </p>
+ * <p>
+ * Values are processed as {@code double}s, so only types whose values are
+ * represented exactly are supported, see {@link #supports}. Images whose
+ * buffers would not fit into a quarter of the maximum heap size are processed
+ * in slabs along their last dimension, each read with the margins of the
+ * shape.
+ * </p>
+ */
+public final class VanHerkGilWerman {
+
+	/** Maximal number of elements of the intermediate buffers. */
+	private static final int MAX_SIZE = Integer.MAX_VALUE - 8;
+
+	private VanHerkGilWerman() {
+		// NB: Prevent instantiation of utility class.
+	}
+
+	/**
+	 * Checks whether the given shape and type can be processed.
+	 *
+	 * @param shape the structuring element
+	 * @param type an element of the image
+	 * @param target the interval to compute
+	 * @return true if the shape is a {@link RectangleShape} or
+	 *         {@link HorizontalLineShape} including its center, the values of
+	 *         the type fit into a {@code double} and the buffers of the padded
+	 *         target fit into memory, or, if the target is a
+	 *         {@link RandomAccessibleInterval}, those of a padded slab of it
+	 */
+	public static boolean supports(final Shape shape, final RealType<?> type,
+		final Interval target)
+	{
+		if (type.getBitsPerPixel() > 32 && !(type instanceof DoubleType)) {
+			return false;
+		}
+		final int n = target.numDimensions();
+		if (shape instanceof RectangleShape) {
+			if (((RectangleShape) shape).isSkippingCenter()) return false;
+		}
+		else if (shape instanceof HorizontalLineShape) {
+			final HorizontalLineShape line = (HorizontalLineShape) shape;
+			if (line.isSkippingCenter() || line.getLineDimension() >= n) return false;
+		}
+		else {
+			return false;
+		}
+		final long thickness = slabThickness(target, spans(shape, n));
+		if (thickness < 1) return false;
+		return thickness >= target.dimension(n - 1) ||
+			target instanceof RandomAccessibleInterval;
+	}
+
+	/**
+	 * Computes the dilation of the source into the output: every output element
+	 * is set to the maximum of {@code minVal} and the source elements in the
+	 * shape around its position.
+	 *
+	 * @param ops the op environment used for parallelization
+	 * @param source the (extended) image to dilate
+	 * @param output the output, whose interval defines the positions computed
+	 * @param shape a shape for which {@link #supports} is true for the output
+	 * @param minVal the initial value of the maximum
+	 */
+	public static <T extends RealType<T>> void dilate(final OpEnvironment ops,
+		final RandomAccessible<T> source, final IterableInterval<T> output,
+		final Shape shape, final T minVal)
+	{
+		filter(ops, source, output, shape, minVal.getRealDouble(), true);
+	}
+
+	/**
+	 * Computes the erosion of the source into the output: every output element
+	 * is set to the minimum of {@code maxVal} and the source elements in the
+	 * shape around its position.
+	 *
+	 * @param ops the op environment used for parallelization
+	 * @param source the (extended) image to erode
+	 * @param output the output, whose interval defines the positions computed
+	 * @param shape a shape for which {@link #supports} is true for the output
+	 * @param maxVal the initial value of the minimum
+	 */
+	public static <T extends RealType<T>> void erode(final OpEnvironment ops,
+		final RandomAccessible<T> source, final IterableInterval<T> output,
+		final Shape shape, final T maxVal)
+	{
+		filter(ops, source, output, shape, maxVal.getRealDouble(), false);
+	}
+
+	// -- Helper methods --
+
+	private static <T extends RealType<T>> void filter(final OpEnvironment ops,
+		final RandomAccessible<T> source, final IterableInterval<T> output,
+		final Shape shape, final double initial, final boolean max)
+	{
+		filter(ops, source, output, shape, initial, max, slabThickness(output,
+			spans(shape, output.numDimensions())));
+	}
+
+	/**
+	 * Filters the output in slabs of the given number of planes along its last
+	 * dimension. The output must be a {@link RandomAccessibleInterval} unless
+	 * it is a single slab.
+	 */
+	static <T extends RealType<T>> void filter(final OpEnvironment ops,
+		final RandomAccessible<T> source, final IterableInterval<T> output,
+		final Shape shape, final double initial, final boolean max,
+		final long thickness)
+	{
+		final int n = output.numDimensions();
+		final long[] spans = spans(shape, n);
+		final int last = n - 1;
+		if (thickness >= output.dimension(last)) {
+			filterSlab(ops, source, output, spans, initial, max);
+			return;
+		}
+
+		@SuppressWarnings("unchecked")
+		final RandomAccessibleInterval<T> target =
+			(RandomAccessibleInterval<T>) output;
+		final long[] min = Intervals.minAsLongArray(output);
+		final long[] maxPos = Intervals.maxAsLongArray(output);
+		for (long start = output.min(last); start <= output.max(last); start +=
+			thickness)
+		{
+			min[last] = start;
+			maxPos[last] = Math.min(start + thickness - 1, output.max(last));
+			filterSlab(ops, source, Views.interval(target, min, maxPos), spans,
+				initial, max);
+		}
+	}
+
+	/**
+	 * Filters the output in one piece, padded by the margins of the shape.
+	 */
+	private static <T extends RealType<T>> void filterSlab(
+		final OpEnvironment ops, final RandomAccessible<T> source,
+		final IterableInterval<T> output, final long[] spans, final double initial,
+		final boolean max)
+	{
+		final int n = output.numDimensions();
+
+		// read the output interval plus the margins of the shape
+		final long[] min = new long[n];
+		final long[] maxPos = new long[n];
+		final int[] dims = new int[n];
+		for (int d = 0; d < n; d++) {
+			min[d] = output.min(d) - spans[d];
+			maxPos[d] = output.max(d) + spans[d];
+			dims[d] = (int) (maxPos[d] - min[d] + 1);
+		}
+		double[] buffer = new double[size(dims)];
+		final Cursor<T> in = Views.flatIterable(Views.interval(source, min, maxPos))
+			.cursor();
+		for (int i = 0; in.hasNext(); i++) {
+			buffer[i] = in.next().getRealDouble();
+		}
+
+		// one pass per dimension, shrinking the buffer by the margins; the
+		// passes alternate between the buffer and one that the first shrinks to
+		double[] next = null;
+		for (int d = 0; d < n; d++) {
+			if (spans[d] == 0) continue;
+			final int[] shrunk = dims.clone();
+			shrunk[d] -= 2 * spans[d];
+			if (next == null) next = new double[size(shrunk)];
+			pass(ops, buffer, dims, next, shrunk, d, (int) (2 * spans[d] + 1), max);
+			final double[] swap = buffer;
+			buffer = next;
+			next = swap;
+			dims[d] = shrunk[d];
+		}
+
+		final int[] strides = strides(dims);
+		final Cursor<T> out = output.localizingCursor();
+		while (out.hasNext()) {
+			out.fwd();
+			int index = 0;
+			for (int d = 0; d < n; d++) {
+				index += (out.getLongPosition(d) - output.min(d)) * strides[d];
+			}
+			out.get().setReal(max ? max(buffer[index], initial) : min(buffer[index],
+				initial));
+		}
+	}
+
+	/**
+	 * Computes the running maxima (minima) along dimension {@code d} of all
+	 * lines of the buffer.
+	 */
+	private static void pass(final OpEnvironment ops, final double[] in,
+		final int[] inDims, final double[] out, final int[] outDims, final int d,
+		final int window, final boolean max)
+	{
+		final int[] inStrides = strides(inDims);
+		final int[] outStrides = strides(outDims);
+		final long lines = size(outDims) / outDims[d];
+
+		ops.run(ChunkerOp.class, new Chunk() {
+
+			@Override
+			public void execute(final long startIndex, final long stepSize,
+				final long numSteps)
+			{
+				final int length = inDims[d];
+				final double[] line = new double[length];
+				final double[] forward = new double[length];
+				final double[] backward = new double[length];
+				for (long step = 0, l = startIndex; step < numSteps; step++, l +=
+					stepSize)
+				{
+					// locate the line in both buffers
+					int rest = (int) l, inOffset = 0, outOffset = 0;
+					for (int k = 0; k < inDims.length; k++) {
+						if (k == d) continue;
+						final int coordinate = rest % outDims[k];
+						rest /= outDims[k];
+						inOffset += coordinate * inStrides[k];
+						outOffset += coordinate * outStrides[k];
+					}
+
+					for (int i = 0; i < length; i++) {
+						line[i] = in[inOffset + i * inStrides[d]];
+					}
+					for (int i = 0; i < length; i++) {
+						forward[i] = i % window == 0 ? line[i] : max ? max(forward[i - 1],
+							line[i]) : min(forward[i - 1], line[i]);
+					}
+					for (int i = length - 1; i >= 0; i--) {
+						backward[i] = i % window == window - 1 || i == length - 1 ? line[i]
+							: max ? max(backward[i + 1], line[i]) : min(backward[i + 1],
+								line[i]);
+					}
+					for (int i = 0; i < outDims[d]; i++) {
+						out[outOffset + i * outStrides[d]] = max ? max(backward[i],
+							forward[i + window - 1]) : min(backward[i], forward[i + window -
+								1]);
+					}
+				}
+			}
+		}, lines);
+	}
+
+	private static long[] spans(final Shape shape, final int n) {
+		final long[] spans = new long[n];
+		if (shape instanceof RectangleShape) {
+			for (int d = 0; d < n; d++) {
+				spans[d] = ((RectangleShape) shape).getSpan();
+			}
+		}
+		else {
+			final HorizontalLineShape line = (HorizontalLineShape) shape;
+			spans[line.getLineDimension()] = line.getSpan();
+		}
+		return spans;
+	}
+
+	/**
+	 * Determines how many planes along the last dimension of the target can be
+	 * filtered at once, such that the padded buffers of a pass hold at most
+	 * {@link #MAX_SIZE} elements and fit into a quarter of the maximum heap
+	 * size. Returns a value less than one if not even a single plane fits.
+	 */
+	private static long slabThickness(final Interval target,
+		final long[] spans)
+	{
+		final int last = target.numDimensions() - 1;
+		double plane = 1;
+		for (int d = 0; d < last; d++) {
+			plane *= target.dimension(d) + 2 * spans[d];
+		}
+		// a pass reads one buffer and writes another
+		final long elements = Math.min(MAX_SIZE, Runtime.getRuntime()
+			.maxMemory() / 4 / (2 * Double.BYTES));
+		final long planes = (long) (elements / plane) - 2 * spans[last];
+		return Math.min(planes, target.dimension(last));
+	}
+
+	private static int size(final int[] dims) {
+		long size = 1;
+		for (final int dim : dims) {
+			size *= dim;
+		}
+		if (size > MAX_SIZE) {
+			throw new IllegalArgumentException("Image too large: " + size +
+				" elements");
+		}
+		return (int) size;
+	}
+
+	private static int[] strides(final int[] dims) {
+		final int[] strides = new int[dims.length];
+		int stride = 1;
+		for (int d = 0; d < dims.length; d++) {
+			strides[d] = stride;
+			stride *= dims[d];
+		}
+		return strides;
+	}
+
+	/** Maximum consistent with {@link RealType#compareTo}. */
+	private static double max(final double a, final double b) {
+		return Double.compare(a, b) >= 0 ? a : b;
+	}
+
+	/** Minimum consistent with {@link RealType#compareTo}. */
+	private static double min(final double a, final double b) {
+		return Double.compare(a, b) <= 0 ? a : b;
+	}
+
+}
@@ -0,0 +1,638 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2020 ImageJ developers.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.stats;
+
+import java.lang.reflect.Array;
+import java.util.Iterator;
+
+import net.imagej.ops.Contingent;
+import net.imagej.ops.Op;
+import net.imagej.ops.Ops;
+import net.imglib2.img.array.ArrayImg;
+import net.imglib2.img.basictypeaccess.array.ArrayDataAccess;
+import net.imglib2.img.planar.PlanarImg;
+import net.imglib2.type.numeric.RealType;
+import net.imglib2.type.numeric.integer.ByteType;
+import net.imglib2.type.numeric.integer.IntType;
+import net.imglib2.type.numeric.integer.LongType;
+import net.imglib2.type.numeric.integer.ShortType;
+import net.imglib2.type.numeric.integer.UnsignedByteType;
+import net.imglib2.type.numeric.integer.UnsignedIntType;
+import net.imglib2.type.numeric.integer.UnsignedShortType;
+import net.imglib2.type.numeric.real.DoubleType;
+import net.imglib2.type.numeric.real.FloatType;
+
+import org.scijava.Priority;
+import org.scijava.plugin.Parameter;
+import org.scijava.plugin.Plugin;
+
+/**
+ * Wrapper class for statistics {@link Op}s on {@link ArrayImg}s and
+ * {@link PlanarImg}s backed by primitive arrays.
+ * <p>
+ * The ops read the backing arrays directly, in blocks of
+ * {@value #BLOCK_SIZE} values. Moment-based statistics are computed in a
+ * single pass with the update formulas of Terriberry, and order statistics
+ * are selected in place on a scratch array which is kept between calls.
+ * Supported pixel types are {@link ByteType}, {@link UnsignedByteType},
+ * {@link ShortType}, {@link UnsignedShortType}, {@link IntType},
+ * {@link UnsignedIntType}, {@link LongType}, {@link FloatType} and
+ * {@link DoubleType}. Any other input is processed through its
+ * {@link Iterable} interface, so that a matched op remains valid when it is
+ * reused for different inputs.
+ * </p>
+ */
+public final class PrimitiveStats {
+
+	/** Number of values copied from the backing arrays at once. */
+	static final int BLOCK_SIZE = 4096;
+
+	private PrimitiveStats() {
+		// NB: Prevent instantiation of utility class.
+	}
+
+	/**
+	 * Computes count, mean and central moments of the given values in a single
+	 * pass.
+	 */
+	public static Moments moments(final Iterable<? extends RealType<?>> input) {
+		final Moments moments = new Moments();
+		moments.add(input, new double[BLOCK_SIZE]);
+		return moments;
+	}
+
+	/**
+	 * Whether the given object is an {@link ArrayImg} or {@link PlanarImg} whose
+	 * backing arrays can be read directly.
+	 */
+	public static boolean isSupported(final Object input) {
+		return storage(input) != null;
+	}
+
+	// -- Helper methods --
+
+	/**
+	 * Gets the backing arrays of the given image, or {@code null} if it is not
+	 * a supported {@link ArrayImg} or {@link PlanarImg}.
+	 */
+	static Object[] storage(final Object input) {
+		final Object[] arrays;
+		if (input instanceof ArrayImg) {
+			final ArrayImg<?, ?> img = (ArrayImg<?, ?>) input;
+			arrays = new Object[] { img.update(null) };
+		}
+		else if (input instanceof PlanarImg) {
+			final PlanarImg<?, ?> img = (PlanarImg<?, ?>) input;
+			arrays = new Object[img.numSlices()];
+			for (int i = 0; i < arrays.length; i++) {
+				arrays[i] = img.getPlane(i);
+			}
+		}
+		else return null;
+
+		final Class<?> arrayType = arrayType(((Iterable<?>) input).iterator()
+			.next());
+		if (arrayType == null) return null;
+		for (int i = 0; i < arrays.length; i++) {
+			if (!(arrays[i] instanceof ArrayDataAccess)) return null;
+			arrays[i] = ((ArrayDataAccess<?>) arrays[i]).getCurrentStorageArray();
+			if (arrays[i].getClass() != arrayType) return null;
+		}
+		return arrays;
+	}
+
+	/** Gets the primitive array type backing the given pixel type. */
+	private static Class<?> arrayType(final Object type) {
+		final Class<?> c = type.getClass();
+		if (c == ByteType.class || c == UnsignedByteType.class) return byte[].class;
+		if (c == ShortType.class || c == UnsignedShortType.class) {
+			return short[].class;
+		}
+		if (c == IntType.class || c == UnsignedIntType.class) return int[].class;
+		if (c == LongType.class) return long[].class;
+		if (c == FloatType.class) return float[].class;
+		if (c == DoubleType.class) return double[].class;
+		return null;
+	}
+
+	private static boolean isUnsigned(final Object type) {
+		return type instanceof UnsignedByteType ||
+			type instanceof UnsignedShortType || type instanceof UnsignedIntType;
+	}
+
+	/**
+	 * Copies {@code count} values, starting at {@code from}, of the given
+	 * primitive array into {@code target}.
+	 */
+	private static void copy(final Object array, final boolean unsigned,
+		final int from, final int count, final double[] target, final int offset)
+	{
+		final int to = from + count;
+		if (array instanceof byte[]) {
+			final byte[] a = (byte[]) array;
+			if (unsigned) for (int i = from, j = offset; i < to; i++, j++)
+				target[j] = a[i] & 0xff;
+			else for (int i = from, j = offset; i < to; i++, j++)
+				target[j] = a[i];
+		}
+		else if (array instanceof short[]) {
+			final short[] a = (short[]) array;
+			if (unsigned) for (int i = from, j = offset; i < to; i++, j++)
+				target[j] = a[i] & 0xffff;
+			else for (int i = from, j = offset; i < to; i++, j++)
+				target[j] = a[i];
+		}
+		else if (array instanceof int[]) {
+			final int[] a = (int[]) array;
+			if (unsigned) for (int i = from, j = offset; i < to; i++, j++)
+				target[j] = a[i] & 0xffffffffL;
+			else for (int i = from, j = offset; i < to; i++, j++)
+				target[j] = a[i];
+		}
+		else if (array instanceof long[]) {
+			final long[] a = (long[]) array;
+			for (int i = from, j = offset; i < to; i++, j++)
+				target[j] = a[i];
+		}
+		else if (array instanceof float[]) {
+			final float[] a = (float[]) array;
+			for (int i = from, j = offset; i < to; i++, j++)
+				target[j] = a[i];
+		}
+		else {
+			System.arraycopy(array, from, target, offset, count);
+		}
+	}
+
+	private static int length(final Object array) {
+		return Array.getLength(array);
+	}
+
+	/**
+	 * Returns the value of the kth lowest of the first {@code size} elements of
+	 * the given array, partially reordering it. This is the primitive
+	 * counterpart of {@link DefaultQuantile#select}.
+	 */
+	static double select(final double[] array, final int size, final int k) {
+		int left = 0;
+		int right = size - 1;
+
+		while (true) {
+			if (right <= left + 1) {
+				if (right == left + 1 && array[right] < array[left]) {
+					swap(array, left, right);
+				}
+				return array[k];
+			}
+			final int middle = (left + right) >>> 1;
+			swap(array, middle, left + 1);
+
+			if (array[left] > array[right]) swap(array, left, right);
+			if (array[left + 1] > array[right]) swap(array, left + 1, right);
+			if (array[left] > array[left + 1]) swap(array, left, left + 1);
+
+			int i = left + 1;
+			int j = right;
+			final double pivot = array[left + 1];
+
+			while (true) {
+				do
+					++i;
+				while (array[i] < pivot);
+				do
+					--j;
+				while (array[j] > pivot);
+
+				if (j < i) break;
+
+				swap(array, i, j);
+			}
+
+			array[left + 1] = array[j];
+			array[j] = pivot;
+
+			if (j >= k) right = j - 1;
+			if (j <= k) left = i;
+		}
+	}
+
+	private static void swap(final double[] array, final int i, final int j) {
+		final double tmp = array[i];
+		array[i] = array[j];
+		array[j] = tmp;
+	}
+
+	// -- Helper classes --
+
+	/**
+	 * Reads the values of an {@link Iterable} of {@link RealType}s block by
+	 * block, directly from the backing arrays whenever possible.
+	 */
+	static final class Reader {
+
+		private final Object[] arrays;
+		private final boolean unsigned;
+		private final Iterator<? extends RealType<?>> iterator;
+		private int array;
+		private int index;
+
+		Reader(final Iterable<? extends RealType<?>> input) {
+			arrays = storage(input);
+			if (arrays == null) {
+				unsigned = false;
+				iterator = input.iterator();
+			}
+			else {
+				unsigned = isUnsigned(input.iterator().next());
+				iterator = null;
+			}
+		}
+
+		/**
+		 * Reads up to {@code max} values into {@code target}.
+		 *
+		 * @return the number of values read, zero once all values were read
+		 */
+		int read(final double[] target, final int offset, final int max) {
+			if (iterator != null) {
+				int count = 0;
+				while (count < max && iterator.hasNext()) {
+					target[offset + count++] = iterator.next().getRealDouble();
+				}
+				return count;
+			}
+			while (array < arrays.length) {
+				final int remaining = length(arrays[array]) - index;
+				if (remaining > 0) {
+					final int count = Math.min(remaining, max);
+					copy(arrays[array], unsigned, index, count, target, offset);
+					index += count;
+					return count;
+				}
+				array++;
+				index = 0;
+			}
+			return 0;
+		}
+	}
+
+	/**
+	 * Count, mean and central moments up to order four, updated value by value
+	 * (Terriberry, "Computing Higher-Order Moments Online", 2008).
+	 */
+	public static final class Moments {
+
+		private long n;
+		private double mean;
+		private double m2;
+		private double m3;
+		private double m4;
+
+		public void clear() {
+			n = 0;
+			mean = m2 = m3 = m4 = 0;
+		}
+
+		public void add(final double x) {
+			final long n1 = n++;
+			final double delta = x - mean;
+			final double deltaN = delta / n;
+			final double deltaN2 = deltaN * deltaN;
+			final double term1 = delta * deltaN * n1;
+			mean += deltaN;
+			m4 += term1 * deltaN2 * (n * n - 3 * n + 3) + 6 * deltaN2 * m2 - 4 *
+				deltaN * m3;
+			m3 += term1 * deltaN * (n - 2) - 3 * deltaN * m2;
+			m2 += term1;
+		}
+
+		void add(final Iterable<? extends RealType<?>> input,
+			final double[] block)
+		{
+			final Reader reader = new Reader(input);
+			int count;
+			while ((count = reader.read(block, 0, block.length)) > 0) {
+				for (int i = 0; i < count; i++) {
+					add(block[i]);
+				}
+			}
+		}
+
+		public long size() {
+			return n;
+		}
+
+		public double mean() {
+			return mean;
+		}
+
+		/** @return the sample variance, normalized by {@code n - 1} */
+		public double variance() {
+			return n < 2 ? Double.NaN : m2 / (n - 1);
+		}
+
+		/** @return the square root of the sample variance */
+		public double stdDev() {
+			return Math.sqrt(variance());
+		}
+
+		/**
+		 * @param order 1 to 4
+		 * @return the central moment of the given order, normalized by {@code n}
+		 */
+		public double momentAboutMean(final int order) {
+			switch (order) {
+				case 1:
+					return 0;
+				case 2:
+					return m2 / n;
+				case 3:
+					return m3 / n;
+				case 4:
+					return m4 / n;
+				default:
+					throw new IllegalArgumentException("Unsupported order: " + order);
+			}
+		}
+
+		/** @return the third moment about the mean over the cubed deviation */
+		public double skewness() {
+			final double std = stdDev();
+			return std != 0 ? momentAboutMean(3) / (std * std * std) : Double.NaN;
+		}
+
+		/** @return the fourth moment about the mean over the squared variance */
+		public double kurtosis() {
+			final double std = stdDev();
+			return std != 0 ? momentAboutMean(4) / (std * std * std * std)
+				: Double.NaN;
+		}
+	}
+
+	/**
+	 * Base class of the ops in this class; holds the buffers that are reused
+	 * between invocations.
+	 */
+	abstract static class AbstractPrimitiveStatsOp<I extends RealType<I>, O extends RealType<O>>
+		extends AbstractStatsOp<Iterable<I>, O> implements Contingent
+	{
+
+		private final Moments moments = new Moments();
+		private double[] scratch = new double[BLOCK_SIZE];
+
+		@Override
+		public boolean conforms() {
+			return in() != null && isSupported(in());
+		}
+
+		protected Moments moments(final Iterable<I> input) {
+			moments.clear();
+			moments.add(input, scratch);
+			return moments;
+		}
+
+		/**
+		 * Copies all values of the input into the scratch array.
+		 *
+		 * @return the number of values
+		 */
+		protected int values(final Iterable<I> input) {
+			final Reader reader = new Reader(input);
+			int size = 0;
+			while (true) {
+				if (scratch.length - size < BLOCK_SIZE) {
+					final double[] grown = new double[Math.max(scratch.length * 2,
+						size + BLOCK_SIZE)];
+					System.arraycopy(scratch, 0, grown, 0, size);
+					scratch = grown;
+				}
+				final int count = reader.read(scratch, size, BLOCK_SIZE);
+				if (count == 0) return size;
+				size += count;
+			}
+		}
+
+		/** @return a buffer of at least {@link PrimitiveStats#BLOCK_SIZE} values */
+		protected double[] block() {
+			return scratch;
+		}
+
+		/** Selects the kth lowest of the values copied by {@link #values}. */
+		protected double select(final int size, final int k) {
+			return PrimitiveStats.select(scratch, size, k);
+		}
+	}
+
+	/** Primitive {@link Ops.Stats.Mean}. */
+	@Plugin(type = Ops.Stats.Mean.class, label = "Statistics: Mean",
+		priority = Priority.VERY_HIGH + 1)
+	public static class Mean<I extends RealType<I>, O extends RealType<O>>
+		extends AbstractPrimitiveStatsOp<I, O> implements Ops.Stats.Mean
+	{
+
+		@Override
+		public void compute(final Iterable<I> input, final O output) {
+			final double[] block = block();
+			final Reader reader = new Reader(input);
+			double sum = 0;
+			long size = 0;
+			int count;
+			while ((count = reader.read(block, 0, block.length)) > 0) {
+				for (int i = 0; i < count; i++) {
+					sum += block[i];
+				}
+				size += count;
+			}
+			output.setReal(sum / size);
+		}
+	}
+
+	/** Primitive {@link Ops.Stats.Variance}. */
+	@Plugin(type = Ops.Stats.Variance.class, label = "Statistics: Variance",
+		priority = Priority.VERY_HIGH + 1)
+	public static class Variance<I extends RealType<I>, O extends RealType<O>>
+		extends AbstractPrimitiveStatsOp<I, O> implements Ops.Stats.Variance
+	{
+
+		@Override
+		public void compute(final Iterable<I> input, final O output) {
+			output.setReal(moments(input).variance());
+		}
+	}
+
+	/** Primitive {@link Ops.Stats.StdDev}. */
+	@Plugin(type = Ops.Stats.StdDev.class,
+		label = "Statistics: Standard Deviation", priority = Priority.VERY_HIGH +
+			1)
+	public static class StdDev<I extends RealType<I>, O extends RealType<O>>
+		extends AbstractPrimitiveStatsOp<I, O> implements Ops.Stats.StdDev
+	{
+
+		@Override
+		public void compute(final Iterable<I> input, final O output) {
+			output.setReal(moments(input).stdDev());
+		}
+	}
+
+	/** Primitive {@link Ops.Stats.Moment1AboutMean}. */
+	@Plugin(type = Ops.Stats.Moment1AboutMean.class,
+		label = "Statistics: Moment1AboutMean", priority = Priority.HIGH)
+	public static class Moment1AboutMean<I extends RealType<I>, O extends RealType<O>>
+		extends AbstractPrimitiveStatsOp<I, O> implements Ops.Stats.Moment1AboutMean
+	{
+
+		@Override
+		public void compute(final Iterable<I> input, final O output) {
+			output.setReal(moments(input).momentAboutMean(1));
+		}
+	}
+
+	/** Primitive {@link Ops.Stats.Moment2AboutMean}. */
+	@Plugin(type = Ops.Stats.Moment2AboutMean.class,
+		label = "Statistics: Moment2AboutMean", priority = Priority.HIGH)
+	public static class Moment2AboutMean<I extends RealType<I>, O extends RealType<O>>
+		extends AbstractPrimitiveStatsOp<I, O> implements Ops.Stats.Moment2AboutMean
+	{
+
+		@Override
+		public void compute(final Iterable<I> input, final O output) {
+			output.setReal(moments(input).momentAboutMean(2));
+		}
+	}
+
+	/** Primitive {@link Ops.Stats.Moment3AboutMean}. */
+	@Plugin(type = Ops.Stats.Moment3AboutMean.class,
+		label = "Statistics: Moment3AboutMean", priority = Priority.HIGH)
+	public static class Moment3AboutMean<I extends RealType<I>, O extends RealType<O>>
+		extends AbstractPrimitiveStatsOp<I, O> implements Ops.Stats.Moment3AboutMean
+	{
+
+		@Override
+		public void compute(final Iterable<I> input, final O output) {
+			output.setReal(moments(input).momentAboutMean(3));
+		}
+	}
+
+	/** Primitive {@link Ops.Stats.Moment4AboutMean}. */
+	@Plugin(type = Ops.Stats.Moment4AboutMean.class,
+		label = "Statistics: Moment4AboutMean", priority = Priority.HIGH)
+	public static class Moment4AboutMean<I extends RealType<I>, O extends RealType<O>>
+		extends AbstractPrimitiveStatsOp<I, O> implements Ops.Stats.Moment4AboutMean
+	{
+
+		@Override
+		public void compute(final Iterable<I> input, final O output) {
+			output.setReal(moments(input).momentAboutMean(4));
+		}
+	}
+
+	/** Primitive {@link Ops.Stats.Skewness}. */
+	@Plugin(type = Ops.Stats.Skewness.class, label = "Statistics: Skewness",
+		priority = Priority.HIGH)
+	public static class Skewness<I extends RealType<I>, O extends RealType<O>>
+		extends AbstractPrimitiveStatsOp<I, O> implements Ops.Stats.Skewness
+	{
+
+		@Override
+		public void compute(final Iterable<I> input, final O output) {
+			output.setReal(moments(input).skewness());
+		}
+	}
+
+	/** Primitive {@link Ops.Stats.Kurtosis}. */
+	@Plugin(type = Ops.Stats.Kurtosis.class, label = "Statistics: Kurtosis",
+		priority = Priority.HIGH)
+	public static class Kurtosis<I extends RealType<I>, O extends RealType<O>>
+		extends AbstractPrimitiveStatsOp<I, O> implements Ops.Stats.Kurtosis
+	{
+
+		@Override
+		public void compute(final Iterable<I> input, final O output) {
+			output.setReal(moments(input).kurtosis());
+		}
+	}
+
+	/** Primitive {@link Ops.Stats.Median}. */
+	@Plugin(type = Ops.Stats.Median.class, label = "Statistics: Median",
+		priority = Priority.HIGH)
+	public static class Median<I extends RealType<I>, O extends RealType<O>>
+		extends AbstractPrimitiveStatsOp<I, O> implements Ops.Stats.Median
+	{
+
+		@Override
+		public void compute(final Iterable<I> input, final O output) {
+			final int size = values(input);
+			final int k = size / 2;
+			double result = select(size, k);
+			if (size % 2 == 0) {
+				result += select(size, k - 1);
+				result *= 0.5;
+			}
+			output.setReal(result);
+		}
+	}
+
+	/** Primitive {@link Ops.Stats.Quantile}. */
+	@Plugin(type = Ops.Stats.Quantile.class, label = "Statistics: Quantile",
+		priority = Priority.HIGH)
+	public static class Quantile<I extends RealType<I>, O extends RealType<O>>
+		extends AbstractPrimitiveStatsOp<I, O> implements Ops.Stats.Quantile
+	{
+
+		@Parameter(min = "0.0", max = "1.0")
+		private double quantile;
+
+		@Override
+		public void compute(final Iterable<I> input, final O output) {
+			final int size = values(input);
+			output.setReal(select(size, Math.min(size - 1, (int) (size *
+				quantile))));
+		}
+	}
+
+	/** Primitive {@link Ops.Stats.Percentile}. */
+	@Plugin(type = Ops.Stats.Percentile.class, label = "Statistics: Percentile",
+		priority = Priority.HIGH)
+	public static class Percentile<I extends RealType<I>, O extends RealType<O>>
+		extends AbstractPrimitiveStatsOp<I, O> implements Ops.Stats.Percentile
+	{
+
+		@Parameter(min = "0", max = "100")
+		private double percent;
+
+		@Override
+		public void compute(final Iterable<I> input, final O output) {
+			final int size = values(input);
+			output.setReal(select(size, Math.min(size - 1, (int) (size * percent /
+				100.0))));
+		}
+	}
+
+}
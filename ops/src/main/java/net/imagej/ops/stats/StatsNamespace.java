@@ -133,7 +133,8 @@ public DoubleType integralVariance(final DoubleType out,
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.stats.DefaultKurtosis.class)
+	@OpMethod(ops = { net.imagej.ops.stats.PrimitiveStats.Kurtosis.class,
+		net.imagej.ops.stats.DefaultKurtosis.class })
 	public <T extends RealType<T>, O extends RealType<O>> O kurtosis(
 		final Iterable<T> in)
 	{
@@ -142,7 +143,8 @@ public <T extends RealType<T>, O extends RealType<O>> O kurtosis(
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.stats.DefaultKurtosis.class)
+	@OpMethod(ops = { net.imagej.ops.stats.PrimitiveStats.Kurtosis.class,
+		net.imagej.ops.stats.DefaultKurtosis.class })
 	public <T extends RealType<T>, O extends RealType<O>> O kurtosis(final O out,
 		final Iterable<T> in)
 	{
@@ -169,7 +171,8 @@ public <T extends RealType<T>> T max(final T out, final Iterable<T> in) {
 		return result;
 	}
 
-	@OpMethod(ops = { net.imagej.ops.stats.IterableMean.class,
+	@OpMethod(ops = { net.imagej.ops.stats.PrimitiveStats.Mean.class,
+		net.imagej.ops.stats.IterableMean.class,
 		net.imagej.ops.stats.DefaultMean.class })
 	public <T extends RealType<T>, O extends RealType<O>> O mean(
 		final Iterable<T> in)
@@ -178,7 +181,8 @@ public <T extends RealType<T>, O extends RealType<O>> O mean(
 		return result;
 	}
 
-	@OpMethod(ops = { net.imagej.ops.stats.IterableMean.class,
+	@OpMethod(ops = { net.imagej.ops.stats.PrimitiveStats.Mean.class,
+		net.imagej.ops.stats.IterableMean.class,
 		net.imagej.ops.stats.DefaultMean.class })
 	public <T extends RealType<T>, O extends RealType<O>> O mean(final O out,
 		final Iterable<T> in)
@@ -188,7 +192,8 @@ public <T extends RealType<T>, O extends RealType<O>> O mean(final O out,
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.stats.DefaultMedian.class)
+	@OpMethod(ops = { net.imagej.ops.stats.PrimitiveStats.Median.class,
+		net.imagej.ops.stats.DefaultMedian.class })
 	public <T extends RealType<T>, O extends RealType<O>> O median(
 		final Iterable<T> in)
 	{
@@ -197,7 +202,8 @@ public <T extends RealType<T>, O extends RealType<O>> O median(
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.stats.DefaultMedian.class)
+	@OpMethod(ops = { net.imagej.ops.stats.PrimitiveStats.Median.class,
+		net.imagej.ops.stats.DefaultMedian.class })
 	public <T extends RealType<T>, O extends RealType<O>> O median(final O out,
 		final Iterable<T> in)
 	{
@@ -225,7 +231,8 @@ public <T extends RealType<T>> Pair<T,T> minMax(final Iterable<T> in) {
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.stats.DefaultMoment1AboutMean.class)
+	@OpMethod(ops = { net.imagej.ops.stats.PrimitiveStats.Moment1AboutMean.class,
+		net.imagej.ops.stats.DefaultMoment1AboutMean.class })
 	public <T extends RealType<T>, O extends RealType<O>> O moment1AboutMean(
 		final Iterable<T> in)
 	{
@@ -234,7 +241,8 @@ public <T extends RealType<T>, O extends RealType<O>> O moment1AboutMean(
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.stats.DefaultMoment1AboutMean.class)
+	@OpMethod(ops = { net.imagej.ops.stats.PrimitiveStats.Moment1AboutMean.class,
+		net.imagej.ops.stats.DefaultMoment1AboutMean.class })
 	public <T extends RealType<T>, O extends RealType<O>> O moment1AboutMean(
 		final O out, final Iterable<T> in)
 	{
@@ -244,7 +252,8 @@ public <T extends RealType<T>, O extends RealType<O>> O moment1AboutMean(
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.stats.DefaultMoment2AboutMean.class)
+	@OpMethod(ops = { net.imagej.ops.stats.PrimitiveStats.Moment2AboutMean.class,
+		net.imagej.ops.stats.DefaultMoment2AboutMean.class })
 	public <T extends RealType<T>, O extends RealType<O>> O moment2AboutMean(
 		final Iterable<T> in)
 	{
@@ -253,7 +262,8 @@ public <T extends RealType<T>, O extends RealType<O>> O moment2AboutMean(
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.stats.DefaultMoment2AboutMean.class)
+	@OpMethod(ops = { net.imagej.ops.stats.PrimitiveStats.Moment2AboutMean.class,
+		net.imagej.ops.stats.DefaultMoment2AboutMean.class })
 	public <T extends RealType<T>, O extends RealType<O>> O moment2AboutMean(
 		final O out, final Iterable<T> in)
 	{
@@ -263,7 +273,8 @@ public <T extends RealType<T>, O extends RealType<O>> O moment2AboutMean(
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.stats.DefaultMoment3AboutMean.class)
+	@OpMethod(ops = { net.imagej.ops.stats.PrimitiveStats.Moment3AboutMean.class,
+		net.imagej.ops.stats.DefaultMoment3AboutMean.class })
 	public <T extends RealType<T>, O extends RealType<O>> O moment3AboutMean(
 		final Iterable<T> in)
 	{
@@ -272,7 +283,8 @@ public <T extends RealType<T>, O extends RealType<O>> O moment3AboutMean(
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.stats.DefaultMoment3AboutMean.class)
+	@OpMethod(ops = { net.imagej.ops.stats.PrimitiveStats.Moment3AboutMean.class,
+		net.imagej.ops.stats.DefaultMoment3AboutMean.class })
 	public <T extends RealType<T>, O extends RealType<O>> O moment3AboutMean(
 		final O out, final Iterable<T> in)
 	{
@@ -282,7 +294,8 @@ public <T extends RealType<T>, O extends RealType<O>> O moment3AboutMean(
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.stats.DefaultMoment4AboutMean.class)
+	@OpMethod(ops = { net.imagej.ops.stats.PrimitiveStats.Moment4AboutMean.class,
+		net.imagej.ops.stats.DefaultMoment4AboutMean.class })
 	public <T extends RealType<T>, O extends RealType<O>> O moment4AboutMean(
 		final Iterable<T> in)
 	{
@@ -291,7 +304,8 @@ public <T extends RealType<T>, O extends RealType<O>> O moment4AboutMean(
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.stats.DefaultMoment4AboutMean.class)
+	@OpMethod(ops = { net.imagej.ops.stats.PrimitiveStats.Moment4AboutMean.class,
+		net.imagej.ops.stats.DefaultMoment4AboutMean.class })
 	public <T extends RealType<T>, O extends RealType<O>> O moment4AboutMean(
 		final O out, final Iterable<T> in)
 	{
@@ -301,7 +315,8 @@ public <T extends RealType<T>, O extends RealType<O>> O moment4AboutMean(
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.stats.DefaultPercentile.class)
+	@OpMethod(ops = { net.imagej.ops.stats.PrimitiveStats.Percentile.class,
+		net.imagej.ops.stats.DefaultPercentile.class })
 	public <T extends RealType<T>, O extends RealType<O>> O percentile(
 		final Iterable<T> in, final double percent)
 	{
@@ -310,7 +325,8 @@ public <T extends RealType<T>, O extends RealType<O>> O percentile(
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.stats.DefaultPercentile.class)
+	@OpMethod(ops = { net.imagej.ops.stats.PrimitiveStats.Percentile.class,
+		net.imagej.ops.stats.DefaultPercentile.class })
 	public <T extends RealType<T>, O extends RealType<O>> O percentile(final O out,
 		final Iterable<T> in, final double percent)
 	{
@@ -319,14 +335,16 @@ public <T extends RealType<T>, O extends RealType<O>> O percentile(final O out,
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.stats.DefaultQuantile.class)
+	@OpMethod(ops = { net.imagej.ops.stats.PrimitiveStats.Quantile.class,
+		net.imagej.ops.stats.DefaultQuantile.class })
 	public <T extends RealType<T>, O extends RealType<O>> O quantile(final Iterable<T> in, final double quantile) {
 		final O result =
 			(O) ops().run(net.imagej.ops.Ops.Stats.Quantile.class, in, quantile);
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.stats.DefaultQuantile.class)
+	@OpMethod(ops = { net.imagej.ops.stats.PrimitiveStats.Quantile.class,
+		net.imagej.ops.stats.DefaultQuantile.class })
 	public <T extends RealType<T>, O extends RealType<O>> O quantile(final O out, final Iterable<T> in, final double quantile) {
 		final O result =
 			(O) ops().run(net.imagej.ops.Ops.Stats.Quantile.class, out, in, quantile);
@@ -368,7 +386,8 @@ public <T extends RealType<T>, O extends RealType<O>> O size(final O out,
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.stats.DefaultSkewness.class)
+	@OpMethod(ops = { net.imagej.ops.stats.PrimitiveStats.Skewness.class,
+		net.imagej.ops.stats.DefaultSkewness.class })
 	public <T extends RealType<T>, O extends RealType<O>> O skewness(
 		final Iterable<T> in)
 	{
@@ -377,7 +396,8 @@ public <T extends RealType<T>, O extends RealType<O>> O skewness(
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.stats.DefaultSkewness.class)
+	@OpMethod(ops = { net.imagej.ops.stats.PrimitiveStats.Skewness.class,
+		net.imagej.ops.stats.DefaultSkewness.class })
 	public <T extends RealType<T>, O extends RealType<O>> O skewness(final O out,
 		final Iterable<T> in)
 	{
@@ -386,7 +406,8 @@ public <T extends RealType<T>, O extends RealType<O>> O skewness(final O out,
 		return result;
 	}
 
-	@OpMethod(ops = { net.imagej.ops.stats.IterableStandardDeviation.class,
+	@OpMethod(ops = { net.imagej.ops.stats.PrimitiveStats.StdDev.class,
+		net.imagej.ops.stats.IterableStandardDeviation.class,
 		net.imagej.ops.stats.DefaultStandardDeviation.class })
 	public <T extends RealType<T>, O extends RealType<O>> O stdDev(
 		final Iterable<T> in)
@@ -395,7 +416,8 @@ public <T extends RealType<T>, O extends RealType<O>> O stdDev(
 		return result;
 	}
 
-	@OpMethod(ops = { net.imagej.ops.stats.IterableStandardDeviation.class,
+	@OpMethod(ops = { net.imagej.ops.stats.PrimitiveStats.StdDev.class,
+		net.imagej.ops.stats.IterableStandardDeviation.class,
 		net.imagej.ops.stats.DefaultStandardDeviation.class })
 	public <T extends RealType<T>, O extends RealType<O>> O stdDev(final O out,
 		final Iterable<T> in)
@@ -476,7 +498,8 @@ public <T extends RealType<T>, O extends RealType<O>> O sumOfSquares(
 		return result;
 	}
 
-	@OpMethod(ops = { net.imagej.ops.stats.DefaultVariance.class,
+	@OpMethod(ops = { net.imagej.ops.stats.PrimitiveStats.Variance.class,
+		net.imagej.ops.stats.DefaultVariance.class,
 		net.imagej.ops.stats.IterableVariance.class })
 	public <T extends RealType<T>, O extends RealType<O>> O variance(
 		final Iterable<T> in)
@@ -485,7 +508,8 @@ public <T extends RealType<T>, O extends RealType<O>> O variance(
 		return result;
 	}
 
-	@OpMethod(ops = { net.imagej.ops.stats.DefaultVariance.class,
+	@OpMethod(ops = { net.imagej.ops.stats.PrimitiveStats.Variance.class,
+		net.imagej.ops.stats.DefaultVariance.class,
 		net.imagej.ops.stats.IterableVariance.class })
 	public <T extends RealType<T>, O extends RealType<O>> O variance(final O out,
 		final Iterable<T> in)
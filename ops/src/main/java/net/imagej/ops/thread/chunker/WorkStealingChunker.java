@@ -0,0 +1,253 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2020 ImageJ developers.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.thread.chunker;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import net.imagej.ops.Ops;
+
+import org.scijava.Priority;
+import org.scijava.log.LogService;
+import org.scijava.plugin.Parameter;
+import org.scijava.plugin.Plugin;
+
+/**
+ * {@link ChunkerOp} which splits the elements recursively on a
+ * {@link ForkJoinPool}. Idle threads steal pending halves from busy ones, so
+ * elements of uneven cost (masked regions, early-exit neighborhoods, sparse
+ * labelings) do not leave cores idle at the end of the computation.
+ * <p>
+ * Ranges are split until they reach a grain of about
+ * {@value #CHUNKS_PER_THREAD} chunks per thread, or further while other
+ * threads are starving for work. Split points of large ranges are multiples of
+ * {@value #ALIGNMENT} elements, so that neighboring chunks of byte-sized or
+ * larger elements do not write to the same cache line. Cancelation is checked
+ * before every chunk. In debug mode, or if requested with
+ * {@link #setRecordTimings(boolean)}, the execution times of up to
+ * {@value #MAX_TIMINGS} chunks are recorded, see {@link #getTimings()}.
+ * </p>
+ * <p>
+ * The chunker is registered below the {@link DefaultChunker}, so callers have
+ * to request it explicitly, e.g. with
+ * {@code ops.run(WorkStealingChunker.class, chunk, numberOfElements)}. The
+ * parallel maps run it once it is set as the chunker of the
+ * {@link ChunkerService}.
+ * </p>
+ */
+@Plugin(type = Ops.Thread.Chunker.class, priority = Priority.LOW)
+public class WorkStealingChunker extends AbstractChunker {
+
+	/** Number of elements that split points are aligned to. */
+	static final int ALIGNMENT = 64;
+
+	/** Number of chunks per thread the grain is chosen for. */
+	static final int CHUNKS_PER_THREAD = 8;
+
+	/** Surplus of queued tasks below which ranges are split beyond the grain. */
+	private static final int MAX_SURPLUS = 2;
+
+	/** Maximum number of chunk timings recorded per run. */
+	static final int MAX_TIMINGS = 1 << 16;
+
+	@Parameter
+	private LogService logService;
+
+	private final ConcurrentLinkedQueue<ChunkTiming> timings =
+		new ConcurrentLinkedQueue<>();
+
+	private final AtomicInteger timingCount = new AtomicInteger();
+
+	private boolean recordTimings;
+
+	private volatile boolean recording;
+
+	@Override
+	public void run() {
+		timings.clear();
+		timingCount.set(0);
+		if (numberOfElements <= 0) return;
+
+		final boolean debug = logService != null && logService.isDebug();
+		recording = recordTimings || debug;
+
+		final ForkJoinPool pool = ForkJoinPool.commonPool();
+		final long grain = grain(numberOfElements, pool.getParallelism() + 1);
+		pool.invoke(new ChunkTask(0, numberOfElements, grain));
+
+		if (debug && !timings.isEmpty()) {
+			final List<ChunkTiming> list = getTimings();
+			long max = 0, total = 0;
+			for (final ChunkTiming t : list) {
+				max = Math.max(max, t.getNanos());
+				total += t.getNanos();
+			}
+			logService.debug("Processed " + numberOfElements + " elements in " +
+				list.size() + " chunks; mean/max chunk time: " + total / list.size() /
+					1000 + "/" + max / 1000 + " us");
+		}
+		if (!recordTimings) timings.clear();
+	}
+
+	/** Whether the timings of the next runs are kept for {@link #getTimings()}. */
+	public boolean isRecordTimings() {
+		return recordTimings;
+	}
+
+	/**
+	 * Sets whether the timings of the next runs are kept for
+	 * {@link #getTimings()}. Outside of debug mode, no timings are recorded by
+	 * default.
+	 */
+	public void setRecordTimings(final boolean recordTimings) {
+		this.recordTimings = recordTimings;
+	}
+
+	/**
+	 * Gets the timings of the chunks processed by the last run, ordered by
+	 * start index. Empty unless timings are recorded, see
+	 * {@link #setRecordTimings(boolean)}; at most {@value #MAX_TIMINGS} chunks
+	 * are retained.
+	 */
+	public List<ChunkTiming> getTimings() {
+		final List<ChunkTiming> list = new ArrayList<>(timings);
+		Collections.sort(list, new Comparator<ChunkTiming>() {
+
+			@Override
+			public int compare(final ChunkTiming a, final ChunkTiming b) {
+				return Long.compare(a.getStartIndex(), b.getStartIndex());
+			}
+		});
+		return list;
+	}
+
+	// -- Helper methods --
+
+	/**
+	 * Computes the number of elements below which ranges are not split unless
+	 * threads are idle.
+	 */
+	static long grain(final long numberOfElements, final int threads) {
+		final long target = (numberOfElements + (long) threads *
+			CHUNKS_PER_THREAD - 1) / ((long) threads * CHUNKS_PER_THREAD);
+		if (target < ALIGNMENT) return Math.max(1, target);
+		return (target + ALIGNMENT - 1) / ALIGNMENT * ALIGNMENT;
+	}
+
+	/** Splits the range {@code [start, end)}, aligning the split point. */
+	static long split(final long start, final long end) {
+		final long middle = start + (end - start) / 2;
+		if (end - start < 2 * ALIGNMENT) return middle;
+		final long aligned = middle / ALIGNMENT * ALIGNMENT;
+		return aligned > start ? aligned : middle;
+	}
+
+	// -- Helper classes --
+
+	/** Execution time of a single chunk. */
+	public static final class ChunkTiming {
+
+		private final long startIndex;
+		private final long numSteps;
+		private final long nanos;
+		private final String thread;
+
+		public ChunkTiming(final long startIndex, final long numSteps,
+			final long nanos, final String thread)
+		{
+			this.startIndex = startIndex;
+			this.numSteps = numSteps;
+			this.nanos = nanos;
+			this.thread = thread;
+		}
+
+		public long getStartIndex() {
+			return startIndex;
+		}
+
+		public long getNumSteps() {
+			return numSteps;
+		}
+
+		public long getNanos() {
+			return nanos;
+		}
+
+		/** Name of the thread which executed the chunk. */
+		public String getThread() {
+			return thread;
+		}
+	}
+
+	private final class ChunkTask extends RecursiveAction {
+
+		private final long start;
+		private final long end;
+		private final long grain;
+
+		public ChunkTask(final long start, final long end, final long grain) {
+			this.start = start;
+			this.end = end;
+			this.grain = grain;
+		}
+
+		@Override
+		protected void compute() {
+			if (isCanceled()) return;
+			final long size = end - start;
+			if (size > 1 && (size > grain ||
+				getSurplusQueuedTaskCount() < MAX_SURPLUS && size >= 2 * ALIGNMENT))
+			{
+				final long middle = split(start, end);
+				invokeAll(new ChunkTask(start, middle, grain), new ChunkTask(middle,
+					end, grain));
+				return;
+			}
+			if (!recording) {
+				chunkable.execute(start, 1, size);
+				return;
+			}
+			final long begin = System.nanoTime();
+			chunkable.execute(start, 1, size);
+			final long nanos = System.nanoTime() - begin;
+			if (timingCount.incrementAndGet() <= MAX_TIMINGS) {
+				timings.add(new ChunkTiming(start, size, nanos, Thread.currentThread()
+					.getName()));
+			}
+		}
+	}
+
+}
@@ -30,14 +30,10 @@
 
 package net.imagej.ops.threshold;
 
+import net.imagej.ops.Op;
 import net.imagej.ops.Ops;
-import net.imagej.ops.map.neighborhood.CenterAwareComputerOp;
-import net.imagej.ops.special.computer.Computers;
-import net.imagej.ops.special.computer.UnaryComputerOp;
-import net.imagej.ops.threshold.apply.LocalThreshold;
+import net.imagej.ops.threshold.apply.LocalThresholdHistogram;
 import net.imglib2.RandomAccessibleInterval;
-import net.imglib2.histogram.Histogram1d;
-import net.imglib2.type.logic.BitType;
 import net.imglib2.type.numeric.RealType;
 
 import org.scijava.plugin.Plugin;
@@ -55,510 +51,204 @@ private ApplyThresholdMethodLocal() {
 
 	@Plugin(type = Ops.Threshold.Huang.class)
 	public static class LocalHuangThreshold<T extends RealType<T>> extends
-		LocalThreshold<T> implements Ops.Threshold.Huang
+		LocalThresholdHistogram<T> implements Ops.Threshold.Huang
 	{
 
 		@Override
-		protected CenterAwareComputerOp<T, BitType> unaryComputer(final T inClass,
-			final BitType outClass)
-		{
-			final LocalThresholdMethodHistogram<T, BitType> op =
-				new LocalThresholdMethodHistogram<T, BitType>()
-			{
-				@SuppressWarnings({ "rawtypes", "unchecked" })
-				@Override
-				protected UnaryComputerOp<Histogram1d<T>, T>
-					getThresholdComputer()
-				{
-					UnaryComputerOp unary = Computers.unary(ops(),
-						Ops.Threshold.Huang.class, inClass.getClass(), Histogram1d.class);
-					return unary;
-				}
-			};
-
-			op.setEnvironment(ops());
-			op.initialize();
-			return op;
+		protected Class<? extends Op> getThresholdMethod() {
+			return Ops.Threshold.Huang.class;
 		}
 
 	}
 
 	@Plugin(type = Ops.Threshold.IJ1.class)
 	public static class LocalIJ1Threshold<T extends RealType<T>> extends
-		LocalThreshold<T> implements Ops.Threshold.IJ1
+		LocalThresholdHistogram<T> implements Ops.Threshold.IJ1
 	{
 
 		@Override
-		protected CenterAwareComputerOp<T, BitType> unaryComputer(final T inClass,
-			final BitType outClass)
-		{
-			final LocalThresholdMethodHistogram<T, BitType> op =
-				new LocalThresholdMethodHistogram<T, BitType>()
-			{
-				@SuppressWarnings({ "rawtypes", "unchecked" })
-				@Override
-				protected UnaryComputerOp<Histogram1d<T>, T>
-					getThresholdComputer()
-				{
-					UnaryComputerOp unary = Computers.unary(ops(),
-						Ops.Threshold.IJ1.class, inClass.getClass(), Histogram1d.class);
-					return unary;
-				}
-			};
-
-			op.setEnvironment(ops());
-			op.initialize();
-			return op;
+		protected Class<? extends Op> getThresholdMethod() {
+			return Ops.Threshold.IJ1.class;
 		}
 
 	}
 
 	@Plugin(type = Ops.Threshold.Intermodes.class)
 	public static class LocalIntermodesThreshold<T extends RealType<T>> extends
-		LocalThreshold<T> implements Ops.Threshold.Intermodes
+		LocalThresholdHistogram<T> implements Ops.Threshold.Intermodes
 	{
 
 		@Override
-		protected CenterAwareComputerOp<T, BitType> unaryComputer(final T inClass,
-			final BitType outClass)
-		{
-			final LocalThresholdMethodHistogram<T, BitType> op =
-				new LocalThresholdMethodHistogram<T, BitType>()
-			{
-				@SuppressWarnings({ "rawtypes", "unchecked" })
-				@Override
-				protected UnaryComputerOp<Histogram1d<T>, T>
-					getThresholdComputer()
-				{
-					UnaryComputerOp unary = Computers.unary(ops(),
-						Ops.Threshold.Intermodes.class, inClass.getClass(), Histogram1d.class);
-					return unary;
-				}
-			};
-
-			op.setEnvironment(ops());
-			op.initialize();
-			return op;
+		protected Class<? extends Op> getThresholdMethod() {
+			return Ops.Threshold.Intermodes.class;
 		}
 
 	}
 
 	@Plugin(type = Ops.Threshold.IsoData.class)
 	public static class LocalIsoDataThreshold<T extends RealType<T>> extends
-		LocalThreshold<T> implements Ops.Threshold.IsoData
+		LocalThresholdHistogram<T> implements Ops.Threshold.IsoData
 	{
 
 		@Override
-		protected CenterAwareComputerOp<T, BitType> unaryComputer(final T inClass,
-			final BitType outClass)
-		{
-			final LocalThresholdMethodHistogram<T, BitType> op =
-				new LocalThresholdMethodHistogram<T, BitType>()
-			{
-				@SuppressWarnings({ "rawtypes", "unchecked" })
-				@Override
-				protected UnaryComputerOp<Histogram1d<T>, T>
-					getThresholdComputer()
-				{
-					UnaryComputerOp unary = Computers.unary(ops(),
-						Ops.Threshold.IsoData.class, inClass.getClass(), Histogram1d.class);
-					return unary;
-				}
-			};
-
-			op.setEnvironment(ops());
-			op.initialize();
-			return op;
+		protected Class<? extends Op> getThresholdMethod() {
+			return Ops.Threshold.IsoData.class;
 		}
 
 	}
 
 	@Plugin(type = Ops.Threshold.Li.class)
 	public static class LocalLiThreshold<T extends RealType<T>> extends
-		LocalThreshold<T> implements Ops.Threshold.Li
+		LocalThresholdHistogram<T> implements Ops.Threshold.Li
 	{
 
 		@Override
-		protected CenterAwareComputerOp<T, BitType> unaryComputer(final T inClass,
-			final BitType outClass)
-		{
-			final LocalThresholdMethodHistogram<T, BitType> op =
-				new LocalThresholdMethodHistogram<T, BitType>()
-			{
-				@SuppressWarnings({ "rawtypes", "unchecked" })
-				@Override
-				protected UnaryComputerOp<Histogram1d<T>, T>
-					getThresholdComputer()
-				{
-					UnaryComputerOp unary = Computers.unary(ops(),
-						Ops.Threshold.Li.class, inClass.getClass(), Histogram1d.class);
-					return unary;
-				}
-			};
-
-			op.setEnvironment(ops());
-			op.initialize();
-			return op;
+		protected Class<? extends Op> getThresholdMethod() {
+			return Ops.Threshold.Li.class;
 		}
 
 	}
 
 	@Plugin(type = Ops.Threshold.MaxEntropy.class)
 	public static class LocalMaxEntropyThreshold<T extends RealType<T>> extends
-		LocalThreshold<T> implements Ops.Threshold.MaxEntropy
+		LocalThresholdHistogram<T> implements Ops.Threshold.MaxEntropy
 	{
 
 		@Override
-		protected CenterAwareComputerOp<T, BitType> unaryComputer(final T inClass,
-			final BitType outClass)
-		{
-			final LocalThresholdMethodHistogram<T, BitType> op =
-				new LocalThresholdMethodHistogram<T, BitType>()
-			{
-				@SuppressWarnings({ "rawtypes", "unchecked" })
-				@Override
-				protected UnaryComputerOp<Histogram1d<T>, T>
-					getThresholdComputer()
-				{
-					UnaryComputerOp unary = Computers.unary(ops(),
-						Ops.Threshold.MaxEntropy.class, inClass.getClass(), Histogram1d.class);
-					return unary;
-				}
-			};
-
-			op.setEnvironment(ops());
-			op.initialize();
-			return op;
+		protected Class<? extends Op> getThresholdMethod() {
+			return Ops.Threshold.MaxEntropy.class;
 		}
 
 	}
 
 	@Plugin(type = Ops.Threshold.MaxLikelihood.class)
 	public static class LocalMaxLikelihoodThreshold<T extends RealType<T>> extends
-		LocalThreshold<T> implements Ops.Threshold.MaxLikelihood
+		LocalThresholdHistogram<T> implements Ops.Threshold.MaxLikelihood
 	{
 
 		@Override
-		protected CenterAwareComputerOp<T, BitType> unaryComputer(final T inClass,
-			final BitType outClass)
-		{
-			final LocalThresholdMethodHistogram<T, BitType> op =
-				new LocalThresholdMethodHistogram<T, BitType>()
-			{
-				@SuppressWarnings({ "rawtypes", "unchecked" })
-				@Override
-				protected UnaryComputerOp<Histogram1d<T>, T>
-					getThresholdComputer()
-				{
-					UnaryComputerOp unary = Computers.unary(ops(),
-						Ops.Threshold.MaxLikelihood.class, inClass.getClass(), Histogram1d.class);
-					return unary;
-				}
-			};
-
-			op.setEnvironment(ops());
-			op.initialize();
-			return op;
+		protected Class<? extends Op> getThresholdMethod() {
+			return Ops.Threshold.MaxLikelihood.class;
 		}
 
 	}
 
 	@Plugin(type = Ops.Threshold.MinError.class)
 	public static class LocalMinErrorThreshold<T extends RealType<T>> extends
-		LocalThreshold<T> implements Ops.Threshold.MinError
+		LocalThresholdHistogram<T> implements Ops.Threshold.MinError
 	{
 
 		@Override
-		protected CenterAwareComputerOp<T, BitType> unaryComputer(final T inClass,
-			final BitType outClass)
-		{
-			final LocalThresholdMethodHistogram<T, BitType> op =
-				new LocalThresholdMethodHistogram<T, BitType>()
-			{
-				@SuppressWarnings({ "rawtypes", "unchecked" })
-				@Override
-				protected UnaryComputerOp<Histogram1d<T>, T>
-					getThresholdComputer()
-				{
-					UnaryComputerOp unary = Computers.unary(ops(),
-						Ops.Threshold.MinError.class, inClass.getClass(), Histogram1d.class);
-					return unary;
-				}
-			};
-
-			op.setEnvironment(ops());
-			op.initialize();
-			return op;
+		protected Class<? extends Op> getThresholdMethod() {
+			return Ops.Threshold.MinError.class;
 		}
 
 	}
 
 	@Plugin(type = Ops.Threshold.Minimum.class)
 	public static class LocalMinimumThreshold<T extends RealType<T>> extends
-		LocalThreshold<T> implements Ops.Threshold.Minimum
+		LocalThresholdHistogram<T> implements Ops.Threshold.Minimum
 	{
 
 		@Override
-		protected CenterAwareComputerOp<T, BitType> unaryComputer(final T inClass,
-			final BitType outClass)
-		{
-			final LocalThresholdMethodHistogram<T, BitType> op =
-				new LocalThresholdMethodHistogram<T, BitType>()
-			{
-				@SuppressWarnings({ "rawtypes", "unchecked" })
-				@Override
-				protected UnaryComputerOp<Histogram1d<T>, T>
-					getThresholdComputer()
-				{
-					UnaryComputerOp unary = Computers.unary(ops(),
-						Ops.Threshold.Minimum.class, inClass.getClass(), Histogram1d.class);
-					return unary;
-				}
-			};
-
-			op.setEnvironment(ops());
-			op.initialize();
-			return op;
+		protected Class<? extends Op> getThresholdMethod() {
+			return Ops.Threshold.Minimum.class;
 		}
 
 	}
 
 	@Plugin(type = Ops.Threshold.Moments.class)
 	public static class LocalMomentsThreshold<T extends RealType<T>> extends
-		LocalThreshold<T> implements Ops.Threshold.Moments
+		LocalThresholdHistogram<T> implements Ops.Threshold.Moments
 	{
 
 		@Override
-		protected CenterAwareComputerOp<T, BitType> unaryComputer(final T inClass,
-			final BitType outClass)
-		{
-			final LocalThresholdMethodHistogram<T, BitType> op =
-				new LocalThresholdMethodHistogram<T, BitType>()
-			{
-				@SuppressWarnings({ "rawtypes", "unchecked" })
-				@Override
-				protected UnaryComputerOp<Histogram1d<T>, T>
-					getThresholdComputer()
-				{
-					UnaryComputerOp unary = Computers.unary(ops(),
-						Ops.Threshold.Moments.class, inClass.getClass(), Histogram1d.class);
-					return unary;
-				}
-			};
-
-			op.setEnvironment(ops());
-			op.initialize();
-			return op;
+		protected Class<? extends Op> getThresholdMethod() {
+			return Ops.Threshold.Moments.class;
 		}
 
 	}
 
 	@Plugin(type = Ops.Threshold.Otsu.class)
 	public static class LocalOtsuThreshold<T extends RealType<T>> extends
-		LocalThreshold<T> implements Ops.Threshold.Otsu
+		LocalThresholdHistogram<T> implements Ops.Threshold.Otsu
 	{
 
 		@Override
-		protected CenterAwareComputerOp<T, BitType> unaryComputer(final T inClass,
-			final BitType outClass)
-		{
-			final LocalThresholdMethodHistogram<T, BitType> op =
-				new LocalThresholdMethodHistogram<T, BitType>()
-			{
-				@SuppressWarnings({ "rawtypes", "unchecked" })
-				@Override
-				protected UnaryComputerOp<Histogram1d<T>, T>
-					getThresholdComputer()
-				{
-					UnaryComputerOp unary = Computers.unary(ops(),
-						Ops.Threshold.Otsu.class, inClass.getClass(), Histogram1d.class);
-					return unary;
-				}
-			};
-
-			op.setEnvironment(ops());
-			op.initialize();
-			return op;
+		protected Class<? extends Op> getThresholdMethod() {
+			return Ops.Threshold.Otsu.class;
 		}
 
 	}
 
 	@Plugin(type = Ops.Threshold.Percentile.class)
 	public static class LocalPercentileThreshold<T extends RealType<T>> extends
-		LocalThreshold<T> implements Ops.Threshold.Percentile
+		LocalThresholdHistogram<T> implements Ops.Threshold.Percentile
 	{
 
 		@Override
-		protected CenterAwareComputerOp<T, BitType> unaryComputer(final T inClass,
-			final BitType outClass)
-		{
-			final LocalThresholdMethodHistogram<T, BitType> op =
-				new LocalThresholdMethodHistogram<T, BitType>()
-			{
-				@SuppressWarnings({ "rawtypes", "unchecked" })
-				@Override
-				protected UnaryComputerOp<Histogram1d<T>, T>
-					getThresholdComputer()
-				{
-					UnaryComputerOp unary = Computers.unary(ops(),
-						Ops.Threshold.Percentile.class, inClass.getClass(), Histogram1d.class);
-					return unary;
-				}
-			};
-
-			op.setEnvironment(ops());
-			op.initialize();
-			return op;
+		protected Class<? extends Op> getThresholdMethod() {
+			return Ops.Threshold.Percentile.class;
 		}
 
 	}
 
 	@Plugin(type = Ops.Threshold.RenyiEntropy.class)
 	public static class LocalRenyiEntropyThreshold<T extends RealType<T>> extends
-		LocalThreshold<T> implements Ops.Threshold.RenyiEntropy
+		LocalThresholdHistogram<T> implements Ops.Threshold.RenyiEntropy
 	{
 
 		@Override
-		protected CenterAwareComputerOp<T, BitType> unaryComputer(final T inClass,
-			final BitType outClass)
-		{
-			final LocalThresholdMethodHistogram<T, BitType> op =
-				new LocalThresholdMethodHistogram<T, BitType>()
-			{
-				@SuppressWarnings({ "rawtypes", "unchecked" })
-				@Override
-				protected UnaryComputerOp<Histogram1d<T>, T>
-					getThresholdComputer()
-				{
-					UnaryComputerOp unary = Computers.unary(ops(),
-						Ops.Threshold.RenyiEntropy.class, inClass.getClass(), Histogram1d.class);
-					return unary;
-				}
-			};
-
-			op.setEnvironment(ops());
-			op.initialize();
-			return op;
+		protected Class<? extends Op> getThresholdMethod() {
+			return Ops.Threshold.RenyiEntropy.class;
 		}
 
 	}
 
 	@Plugin(type = Ops.Threshold.Rosin.class)
 	public static class LocalRosinThreshold<T extends RealType<T>> extends
-		LocalThreshold<T> implements Ops.Threshold.Rosin
+		LocalThresholdHistogram<T> implements Ops.Threshold.Rosin
 	{
 
 		@Override
-		protected CenterAwareComputerOp<T, BitType> unaryComputer(final T inClass,
-			final BitType outClass)
-		{
-			final LocalThresholdMethodHistogram<T, BitType> op =
-				new LocalThresholdMethodHistogram<T, BitType>()
-			{
-				@SuppressWarnings({ "rawtypes", "unchecked" })
-				@Override
-				protected UnaryComputerOp<Histogram1d<T>, T>
-					getThresholdComputer()
-				{
-					UnaryComputerOp unary = Computers.unary(ops(),
-						Ops.Threshold.Rosin.class, inClass.getClass(), Histogram1d.class);
-					return unary;
-				}
-			};
-
-			op.setEnvironment(ops());
-			op.initialize();
-			return op;
+		protected Class<? extends Op> getThresholdMethod() {
+			return Ops.Threshold.Rosin.class;
 		}
 
 	}
 
 	@Plugin(type = Ops.Threshold.Shanbhag.class)
 	public static class LocalShanbhagThreshold<T extends RealType<T>> extends
-		LocalThreshold<T> implements Ops.Threshold.Shanbhag
+		LocalThresholdHistogram<T> implements Ops.Threshold.Shanbhag
 	{
 
 		@Override
-		protected CenterAwareComputerOp<T, BitType> unaryComputer(final T inClass,
-			final BitType outClass)
-		{
-			final LocalThresholdMethodHistogram<T, BitType> op =
-				new LocalThresholdMethodHistogram<T, BitType>()
-			{
-				@SuppressWarnings({ "rawtypes", "unchecked" })
-				@Override
-				protected UnaryComputerOp<Histogram1d<T>, T>
-					getThresholdComputer()
-				{
-					UnaryComputerOp unary = Computers.unary(ops(),
-						Ops.Threshold.Shanbhag.class, inClass.getClass(), Histogram1d.class);
-					return unary;
-				}
-			};
-
-			op.setEnvironment(ops());
-			op.initialize();
-			return op;
+		protected Class<? extends Op> getThresholdMethod() {
+			return Ops.Threshold.Shanbhag.class;
 		}
 
 	}
 
 	@Plugin(type = Ops.Threshold.Triangle.class)
 	public static class LocalTriangleThreshold<T extends RealType<T>> extends
-		LocalThreshold<T> implements Ops.Threshold.Triangle
+		LocalThresholdHistogram<T> implements Ops.Threshold.Triangle
 	{
 
 		@Override
-		protected CenterAwareComputerOp<T, BitType> unaryComputer(final T inClass,
-			final BitType outClass)
-		{
-			final LocalThresholdMethodHistogram<T, BitType> op =
-				new LocalThresholdMethodHistogram<T, BitType>()
-			{
-				@SuppressWarnings({ "rawtypes", "unchecked" })
-				@Override
-				protected UnaryComputerOp<Histogram1d<T>, T>
-					getThresholdComputer()
-				{
-					UnaryComputerOp unary = Computers.unary(ops(),
-						Ops.Threshold.Triangle.class, inClass.getClass(), Histogram1d.class);
-					return unary;
-				}
-			};
-
-			op.setEnvironment(ops());
-			op.initialize();
-			return op;
+		protected Class<? extends Op> getThresholdMethod() {
+			return Ops.Threshold.Triangle.class;
 		}
 
 	}
 
 	@Plugin(type = Ops.Threshold.Yen.class)
 	public static class LocalYenThreshold<T extends RealType<T>> extends
-		LocalThreshold<T> implements Ops.Threshold.Yen
+		LocalThresholdHistogram<T> implements Ops.Threshold.Yen
 	{
 
 		@Override
-		protected CenterAwareComputerOp<T, BitType> unaryComputer(final T inClass,
-			final BitType outClass)
-		{
-			final LocalThresholdMethodHistogram<T, BitType> op =
-				new LocalThresholdMethodHistogram<T, BitType>()
-			{
-				@SuppressWarnings({ "rawtypes", "unchecked" })
-				@Override
-				protected UnaryComputerOp<Histogram1d<T>, T>
-					getThresholdComputer()
-				{
-					UnaryComputerOp unary = Computers.unary(ops(),
-						Ops.Threshold.Yen.class, inClass.getClass(), Histogram1d.class);
-					return unary;
-				}
-			};
-
-			op.setEnvironment(ops());
-			op.initialize();
-			return op;
+		protected Class<? extends Op> getThresholdMethod() {
+			return Ops.Threshold.Yen.class;
 		}
 
 	}
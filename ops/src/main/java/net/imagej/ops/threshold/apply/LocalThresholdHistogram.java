@@ -0,0 +1,368 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2020 ImageJ developers.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.threshold.apply;
+
+import net.imagej.ops.Op;
+import net.imagej.ops.Ops;
+import net.imagej.ops.map.neighborhood.CenterAwareComputerOp;
+import net.imagej.ops.special.computer.BinaryComputerOp;
+import net.imagej.ops.special.computer.Computers;
+import net.imagej.ops.special.computer.UnaryComputerOp;
+import net.imagej.ops.thread.chunker.Chunk;
+import net.imagej.ops.thread.chunker.ChunkerOp;
+import net.imagej.ops.threshold.LocalThresholdMethodHistogram;
+import net.imglib2.Cursor;
+import net.imglib2.Interval;
+import net.imglib2.IterableInterval;
+import net.imglib2.RandomAccess;
+import net.imglib2.RandomAccessible;
+import net.imglib2.RandomAccessibleInterval;
+import net.imglib2.algorithm.neighborhood.RectangleShape;
+import net.imglib2.histogram.Histogram1d;
+import net.imglib2.histogram.Real1dBinMapper;
+import net.imglib2.type.logic.BitType;
+import net.imglib2.type.numeric.IntegerType;
+import net.imglib2.type.numeric.RealType;
+import net.imglib2.util.Intervals;
+import net.imglib2.util.Util;
+import net.imglib2.view.Views;
+
+/**
+ * Apply a global thresholding method, which computes the threshold from a
+ * {@link Histogram1d}, locally to an image.
+ * <p>
+ * For {@link RectangleShape}s and integer images whose values span at most
+ * {@value #MAX_LEVELS} distinct levels, the counts of all levels in the
+ * neighborhood are updated incrementally while the neighborhood slides along
+ * the first dimension: only the column leaving and the column entering the
+ * neighborhood are visited for every pixel. The histogram passed to the
+ * thresholding method is binned from these counts exactly like the histogram
+ * of the neighborhood would be, so the result is the same as with
+ * {@link LocalThresholdMethodHistogram}, which is used in all other cases.
+ * Lines are processed in parallel.
+ * </p>
+ *
+ * @param <T> input type
+ */
+public abstract class LocalThresholdHistogram<T extends RealType<T>> extends
+	LocalThreshold<T>
+{
+
+	/** Maximum number of distinct levels of the sliding histogram. */
+	static final int MAX_LEVELS = 1 << 16;
+
+	/** Number of bins of the neighborhood histograms. */
+	private static final int NUM_BINS = 256;
+
+	/** Levels are grouped into blocks to find the occupied range quickly. */
+	private static final int BLOCK_BITS = 8;
+
+	@Override
+	public void compute(final RandomAccessibleInterval<T> input,
+		final IterableInterval<BitType> output)
+	{
+		if (getShape() instanceof RectangleShape &&
+			output instanceof RandomAccessibleInterval && Intervals.equalDimensions(
+				input, (Interval) output) && Util.getTypeFromInterval(
+					input) instanceof IntegerType)
+		{
+			final RectangleShape shape = (RectangleShape) getShape();
+			final RandomAccessible<T> source = Views.extend(input,
+				getOutOfBoundsFactory());
+			final long[] range = range(Views.interval(source, Intervals.expand(input,
+				shape.getSpan())));
+			if (range[1] - range[0] < MAX_LEVELS && (shape.getSpan() > 0 || !shape
+				.isSkippingCenter()))
+			{
+				@SuppressWarnings("unchecked")
+				final RandomAccessibleInterval<BitType> out =
+					(RandomAccessibleInterval<BitType>) output;
+				slide(input, source, out, shape, range[0], (int) (range[1] - range[0] +
+					1));
+				return;
+			}
+		}
+		super.compute(input, output);
+	}
+
+	@Override
+	protected CenterAwareComputerOp<T, BitType> unaryComputer(final T inClass,
+		final BitType outClass)
+	{
+		final LocalThresholdMethodHistogram<T, BitType> op =
+			new LocalThresholdMethodHistogram<T, BitType>()
+		{
+
+			@Override
+			protected UnaryComputerOp<Histogram1d<T>, T> getThresholdComputer() {
+				return thresholdComputer(inClass);
+			}
+		};
+
+		op.setEnvironment(ops());
+		op.initialize();
+		return op;
+	}
+
+	/**
+	 * @return the type of the op which computes a threshold from a
+	 *         {@link Histogram1d}, e.g. {@link Ops.Threshold.Otsu}.
+	 */
+	protected abstract Class<? extends Op> getThresholdMethod();
+
+	// -- Helper methods --
+
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private UnaryComputerOp<Histogram1d<T>, T> thresholdComputer(
+		final T inClass)
+	{
+		final UnaryComputerOp unary = Computers.unary(ops(), getThresholdMethod(),
+			inClass.getClass(), Histogram1d.class);
+		return unary;
+	}
+
+	private void slide(final RandomAccessibleInterval<T> input,
+		final RandomAccessible<T> source,
+		final RandomAccessibleInterval<BitType> output, final RectangleShape shape,
+		final long levelMin, final int levels)
+	{
+		final long lines = Intervals.numElements(input) / input.dimension(0);
+		ops().run(ChunkerOp.class, new Chunk() {
+
+			@Override
+			public void execute(final long startIndex, final long stepSize,
+				final long numSteps)
+			{
+				final Worker worker = new Worker(input, source, output, shape,
+					levelMin, levels);
+				for (long i = 0, line = startIndex; i < numSteps; i++, line +=
+					stepSize)
+				{
+					worker.line(line);
+				}
+			}
+		}, lines);
+	}
+
+	private static <T extends RealType<T>> long[] range(
+		final RandomAccessibleInterval<T> interval)
+	{
+		long min = Long.MAX_VALUE;
+		long max = Long.MIN_VALUE;
+		final Cursor<T> cursor = Views.flatIterable(interval).cursor();
+		while (cursor.hasNext()) {
+			final long value = ((IntegerType<?>) cursor.next()).getIntegerLong();
+			if (value < min) min = value;
+			if (value > max) max = value;
+		}
+		return new long[] { min, max };
+	}
+
+	// -- Helper classes --
+
+	/**
+	 * Thresholds lines along the first dimension. Each chunk of the computation
+	 * owns one worker, so that the level counts and ops are created once per
+	 * chunk.
+	 */
+	private final class Worker {
+
+		private final int n;
+		private final int span;
+		private final boolean skipCenter;
+		private final Interval interval;
+		private final long[] outOffset;
+		private final long levelMin;
+
+		private final RandomAccess<T> sourceAccess;
+		private final RandomAccess<T> inAccess;
+		private final RandomAccess<BitType> outAccess;
+
+		private final UnaryComputerOp<Histogram1d<T>, T> thresholdComputer;
+		private final BinaryComputerOp<T, T, BitType> applyThreshold;
+
+		/** Number of values of every level in the neighborhood. */
+		private final int[] counts;
+		/** Number of values in every block of levels. */
+		private final int[] blockCounts;
+		private final long[] binCounts = new long[NUM_BINS];
+		private final long[] bin = new long[1];
+
+		private final long[] position;
+		private final T level;
+		private final T threshold;
+
+		private Histogram1d<T> histogram;
+		private int histogramLo;
+		private int histogramHi;
+
+		@SuppressWarnings("unchecked")
+		public Worker(final RandomAccessibleInterval<T> input,
+			final RandomAccessible<T> source,
+			final RandomAccessibleInterval<BitType> output,
+			final RectangleShape shape, final long levelMin, final int levels)
+		{
+			n = input.numDimensions();
+			span = shape.getSpan();
+			skipCenter = shape.isSkippingCenter();
+			interval = input;
+			outOffset = new long[n];
+			for (int d = 0; d < n; d++) {
+				outOffset[d] = output.min(d) - input.min(d);
+			}
+			this.levelMin = levelMin;
+
+			sourceAccess = source.randomAccess();
+			inAccess = input.randomAccess();
+			outAccess = output.randomAccess();
+
+			final T type = Util.getTypeFromInterval(input);
+			thresholdComputer = thresholdComputer(type);
+			applyThreshold = (BinaryComputerOp<T, T, BitType>) Computers.binary(
+				ops(), Ops.Threshold.Apply.class, new BitType(), type, type);
+
+			counts = new int[levels];
+			blockCounts = new int[((levels - 1) >>> BLOCK_BITS) + 1];
+			position = new long[n];
+			level = type.createVariable();
+			threshold = type.createVariable();
+		}
+
+		public void line(final long line) {
+			long index = line;
+			for (int d = 1; d < n; d++) {
+				position[d] = interval.min(d) + index % interval.dimension(d);
+				index /= interval.dimension(d);
+			}
+
+			final long first = interval.min(0);
+			final long last = interval.max(0);
+			for (long x = first - span; x <= first + span; x++) {
+				column(x, 1);
+			}
+			for (long x = first; x <= last; x++) {
+				if (x > first) {
+					column(x - span - 1, -1);
+					column(x + span, 1);
+				}
+				position[0] = x;
+				threshold();
+			}
+			for (long x = last - span; x <= last + span; x++) {
+				column(x, -1);
+			}
+		}
+
+		/** Adds or removes the values of the neighborhood column at {@code x}. */
+		private void column(final long x, final int delta) {
+			sourceAccess.setPosition(x, 0);
+			for (int d = 1; d < n; d++) {
+				sourceAccess.setPosition(position[d] - span, d);
+			}
+			while (true) {
+				add(((IntegerType<?>) sourceAccess.get()).getIntegerLong(), delta);
+				int d = 1;
+				for (; d < n; d++) {
+					if (sourceAccess.getLongPosition(d) < position[d] + span) {
+						sourceAccess.fwd(d);
+						break;
+					}
+					sourceAccess.setPosition(position[d] - span, d);
+				}
+				if (d == n) break;
+			}
+		}
+
+		private void add(final long value, final int delta) {
+			final int l = (int) (value - levelMin);
+			counts[l] += delta;
+			blockCounts[l >>> BLOCK_BITS] += delta;
+		}
+
+		private void threshold() {
+			inAccess.setPosition(position);
+			final T center = inAccess.get();
+			final long centerValue = ((IntegerType<?>) center).getIntegerLong();
+			if (skipCenter) add(centerValue, -1);
+
+			thresholdComputer.compute(histogram(), threshold);
+			for (int d = 0; d < n; d++) {
+				outAccess.setPosition(position[d] + outOffset[d], d);
+			}
+			applyThreshold.compute(center, threshold, outAccess.get());
+
+			if (skipCenter) add(centerValue, 1);
+		}
+
+		/** Bins the levels of the neighborhood over their range. */
+		private Histogram1d<T> histogram() {
+			int block = 0;
+			while (blockCounts[block] == 0)
+				block++;
+			int lo = block << BLOCK_BITS;
+			while (counts[lo] == 0)
+				lo++;
+			block = blockCounts.length - 1;
+			while (blockCounts[block] == 0)
+				block--;
+			int hi = Math.min(counts.length, (block + 1) << BLOCK_BITS) - 1;
+			while (counts[hi] == 0)
+				hi--;
+
+			if (histogram == null || lo != histogramLo || hi != histogramHi) {
+				histogram = new Histogram1d<>(new Real1dBinMapper<T>(levelMin + lo,
+					levelMin + hi, NUM_BINS, false));
+				histogramLo = lo;
+				histogramHi = hi;
+			}
+			else {
+				histogram.resetCounters();
+			}
+
+			for (block = lo >>> BLOCK_BITS; block <= hi >>> BLOCK_BITS; block++) {
+				if (blockCounts[block] == 0) continue;
+				final int end = Math.min(hi, ((block + 1) << BLOCK_BITS) - 1);
+				for (int l = Math.max(lo, block << BLOCK_BITS); l <= end; l++) {
+					if (counts[l] == 0) continue;
+					level.setReal(levelMin + l);
+					binCounts[(int) histogram.map(level)] += counts[l];
+				}
+			}
+			for (int b = 0; b < NUM_BINS; b++) {
+				if (binCounts[b] == 0) continue;
+				bin[0] = b;
+				histogram.dfd().setFrequency(bin, binCounts[b]);
+				binCounts[b] = 0;
+			}
+			return histogram;
+		}
+	}
+
+}
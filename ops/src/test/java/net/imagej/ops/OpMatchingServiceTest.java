@@ -155,6 +155,57 @@ public void testCastMatch() {
 		}
 	}
 	
+	/** Tests the cached candidates of {@link DefaultOpMatchingService}. */
+	@Test
+	public void testCandidateCache() {
+		final DefaultOpMatchingService service =
+			(DefaultOpMatchingService) matcher;
+		service.clearCache();
+		final int[] counts = new int[3];
+		service.setMetrics(new OpMatchingMetrics() {
+
+			@Override
+			public void candidatesFound(final List<OpRef> refs,
+				final boolean cached)
+			{
+				counts[cached ? 0 : 1]++;
+			}
+
+			@Override
+			public void matchFound(final List<OpRef> refs, final OpCandidate match,
+				final long nanos)
+			{
+				if (match != null) counts[2]++;
+			}
+		});
+		try {
+			final List<OpCandidate> first = matcher.findCandidates(ops, OpRef
+				.create("test.nan", new DoubleType()));
+			final List<OpCandidate> second = matcher.findCandidates(ops, OpRef
+				.create("test.nan", new DoubleType(1)));
+			assertEquals(1, first.size());
+			assertEquals(first.size(), second.size());
+			assertSame(first.get(0).cInfo(), second.get(0).cInfo());
+			assertEquals(1, counts[0]);
+			assertEquals(1, counts[1]);
+
+			final DoubleType value = new DoubleType(1);
+			assertSame(value, matcher.findMatch(ops, OpRef.create("test.nan", value))
+				.getModule().getInput("arg"));
+			assertEquals(2, counts[0]);
+			assertEquals(1, counts[2]);
+			assertTrue(service.getCacheHitRatio() > 0);
+			assertTrue(service.getMatchNanos() > 0);
+
+			service.clearCache();
+			matcher.findCandidates(ops, OpRef.create("test.nan", value));
+			assertEquals(2, counts[1]);
+		}
+		finally {
+			service.setMetrics(null);
+		}
+	}
+
 	@Test
 	public void testLosslessMatch() {
 		// Not implemented yet
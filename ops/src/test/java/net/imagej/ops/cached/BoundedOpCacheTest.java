@@ -0,0 +1,107 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2020 ImageJ developers.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.cached;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import net.imglib2.img.array.ArrayImgs;
+
+import org.junit.Test;
+
+/**
+ * Tests {@link BoundedOpCache}.
+ */
+public class BoundedOpCacheTest {
+
+	private static final BoundedOpCache.Weigher UNIT =
+		new BoundedOpCache.Weigher()
+	{
+
+		@Override
+		public long weigh(final Object value) {
+			return 1;
+		}
+	};
+
+	@Test
+	public void testLeastRecentlyUsedEviction() {
+		final BoundedOpCache cache = new BoundedOpCache(2, UNIT, false);
+		final Object a = new Object(), b = new Object(), c = new Object();
+		cache.put("a", a);
+		cache.put("b", b);
+		assertSame(a, cache.get("a"));
+		cache.put("c", c);
+
+		// "b" was used least recently
+		assertNull(cache.get("b"));
+		assertSame(a, cache.get("a"));
+		assertSame(c, cache.get("c"));
+		assertEquals(2, cache.getWeight());
+		assertEquals(1, cache.getEvictions());
+		assertEquals(3, cache.getHits());
+		assertEquals(1, cache.getMisses());
+	}
+
+	@Test
+	public void testSpill() {
+		final BoundedOpCache cache = new BoundedOpCache(1, UNIT, true);
+		final Object a = new Object(), b = new Object();
+		cache.put("a", a);
+		cache.put("b", b);
+		assertEquals(1, cache.size());
+
+		// "a" is strongly reachable here, so its soft reference is not cleared
+		assertSame(a, cache.get("a"));
+		assertEquals(1, cache.getSpillHits());
+		assertEquals(2, cache.getEvictions());
+		assertEquals(1, cache.size());
+	}
+
+	@Test
+	public void testDefaultWeigher() {
+		assertEquals(BoundedOpCache.DEFAULT_WEIGHT + 100 * 2,
+			BoundedOpCache.DEFAULT_WEIGHER.weigh(ArrayImgs.unsignedShorts(10, 10)));
+		assertEquals(BoundedOpCache.DEFAULT_WEIGHT + 13,
+			BoundedOpCache.DEFAULT_WEIGHER.weigh(ArrayImgs.bits(10, 10)));
+		assertEquals(BoundedOpCache.DEFAULT_WEIGHT,
+			BoundedOpCache.DEFAULT_WEIGHER.weigh("value"));
+	}
+
+	@Test
+	public void testOversizedEntry() {
+		final BoundedOpCache cache = new BoundedOpCache(0, UNIT, false);
+		cache.put("a", "a");
+		assertNull(cache.get("a"));
+		assertEquals(0, cache.getWeight());
+		assertEquals(1, cache.getEvictions());
+	}
+}
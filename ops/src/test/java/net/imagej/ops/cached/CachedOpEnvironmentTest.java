@@ -109,6 +109,51 @@ public void testCachingHybrid() {
 		assertEquals(2.0, hybrid.calculate(imgB).getRealDouble(), 0.0);
 	}
 
+	@Test
+	public void testClearServiceCache() {
+		ctr = 0;
+
+		assertEquals(1.0, func.calculate(imgA).get(), 0.0);
+		assertEquals(1.0, func.calculate(imgA).get(), 0.0);
+
+		// cleared entries are computed again
+		env.getCache().clear();
+		assertEquals(2.0, func.calculate(imgA).get(), 0.0);
+		assertEquals(2.0, func.calculate(imgA).get(), 0.0);
+	}
+
+	@Test
+	public void testBoundedCache() {
+		ctr = 0;
+		final BoundedOpCache cache = new BoundedOpCache(
+			BoundedOpCache.DEFAULT_WEIGHT);
+		env.setCache(cache);
+
+		assertEquals(1.0, func.calculate(imgA).get(), 0.0);
+		assertEquals(1.0, func.calculate(imgA).get(), 0.0);
+		assertEquals(1, cache.getHits());
+		assertEquals(1, cache.getMisses());
+
+		// only one result fits into the budget
+		assertEquals(2.0, func.calculate(imgB).get(), 0.0);
+		assertEquals(1, cache.getEvictions());
+		assertEquals(1, cache.size());
+	}
+
+	@Test
+	public void testContentKeys() {
+		ctr = 0;
+		env.setCache(new BoundedOpCache(1 << 20));
+		env.setContentKeys(true);
+
+		// imgA and imgB have identical content
+		assertEquals(1.0, func.calculate(imgA).get(), 0.0);
+		assertEquals(1.0, func.calculate(imgB).get(), 0.0);
+
+		imgB.firstElement().inc();
+		assertEquals(2.0, func.calculate(imgB).get(), 0.0);
+	}
+
 	@Test
 	public void testOptionalParameter() {
 		UnaryFunctionOp<DoubleType, Object> f = Functions.unary(env, OptionalParameterOp.class, Object.class, DoubleType.class);
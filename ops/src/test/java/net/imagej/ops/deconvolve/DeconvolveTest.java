@@ -40,6 +40,7 @@
 import net.imglib2.img.Img;
 import net.imglib2.img.array.ArrayImgFactory;
 import net.imglib2.outofbounds.OutOfBoundsConstantValueFactory;
+import net.imglib2.type.numeric.integer.UnsignedShortType;
 import net.imglib2.type.numeric.real.FloatType;
 import net.imglib2.util.Util;
 import net.imglib2.view.IntervalView;
@@ -123,6 +124,96 @@ public void testDeconvolve() {
 		}
 	}
 
+	/**
+	 * Tests that a 2x2 grid of blocks, grown by less than a block, blends back
+	 * into the result of deconvolving the image in one piece. Three iterations
+	 * with a 7x7 kernel reach 18 pixels, no further than the 20 pixels between
+	 * the edge of a block and its blended seam.
+	 */
+	@Test
+	public void testTiledDeconvolve() {
+		final Img<FloatType> convolved = createConvolvedSphere(1);
+
+		final Img<FloatType> whole = ops.create().img(convolved, new FloatType());
+		ops.run(PadAndRichardsonLucy.class, whole, convolved, tiledKernel(), 3);
+
+		final Img<FloatType> tiled = ops.create().img(convolved, new FloatType());
+		ops.deconvolve().richardsonLucy(tiled, convolved, tiledKernel(), 3,
+			new long[] { 60, 45 }, new long[] { 40, 40 }, false, false, 0);
+
+		final Cursor<FloatType> wholeCursor = whole.cursor();
+		final Cursor<FloatType> tiledCursor = tiled.cursor();
+		while (wholeCursor.hasNext()) {
+			assertEquals(wholeCursor.next().get(), tiledCursor.next().get(), 1e-4f);
+		}
+	}
+
+	/**
+	 * Tests that blended blocks are rounded once, not at every addition, into
+	 * an integer output.
+	 */
+	@Test
+	public void testTiledDeconvolveIntegerOutput() {
+		final Img<FloatType> convolved = createConvolvedSphere(1000);
+
+		final Img<FloatType> whole = ops.create().img(convolved, new FloatType());
+		ops.run(PadAndRichardsonLucy.class, whole, convolved, tiledKernel(), 3);
+
+		final Img<UnsignedShortType> tiled = ops.create().img(convolved,
+			new UnsignedShortType());
+		ops.deconvolve().richardsonLucy(tiled, convolved, tiledKernel(), 3,
+			new long[] { 60, 45 }, new long[] { 40, 40 }, false, false, 0);
+
+		final Cursor<FloatType> wholeCursor = whole.cursor();
+		final Cursor<UnsignedShortType> tiledCursor = tiled.cursor();
+		while (wholeCursor.hasNext()) {
+			assertEquals(wholeCursor.next().get(), tiledCursor.next().get(), 0.51);
+		}
+	}
+
+	/**
+	 * Tests that a 3x3 grid of blocks deconvolved one at a time, so that the
+	 * bands between rows of blocks stay pending the longest, blends back into
+	 * the result of deconvolving the image in one piece.
+	 */
+	@Test
+	public void testTiledDeconvolveOneBlockAtATime() {
+		final Img<FloatType> convolved = createConvolvedSphere(1000);
+
+		final Img<FloatType> whole = ops.create().img(convolved, new FloatType());
+		ops.run(PadAndRichardsonLucy.class, whole, convolved, tiledKernel(), 3);
+
+		final Img<UnsignedShortType> tiled = ops.create().img(convolved,
+			new UnsignedShortType());
+		ops.deconvolve().richardsonLucy(tiled, convolved, tiledKernel(), 3,
+			new long[] { 38, 28 }, new long[] { 40, 40 }, false, false, 1);
+
+		final Cursor<FloatType> wholeCursor = whole.cursor();
+		final Cursor<UnsignedShortType> tiledCursor = tiled.cursor();
+		while (wholeCursor.hasNext()) {
+			assertEquals(wholeCursor.next().get(), tiledCursor.next().get(), 0.51);
+		}
+	}
+
+	private RandomAccessibleInterval<FloatType> tiledKernel() {
+		return ops.create().kernelGauss(new double[] { 1.0, 1.0 },
+			new FloatType());
+	}
+
+	/** Creates a sphere of the given value blurred by {@link #tiledKernel()}. */
+	private Img<FloatType> createConvolvedSphere(final float value) {
+		final Img<FloatType> in = new ArrayImgFactory<FloatType>().create(
+			new int[] { 113, 84 }, new FloatType());
+		placeSphereInCenter(in);
+		for (final FloatType t : in) {
+			t.mul(value);
+		}
+
+		final Img<FloatType> convolved = ops.create().img(in, new FloatType());
+		ops.run(PadAndConvolveFFT.class, convolved, in, tiledKernel());
+		return convolved;
+	}
+
 	// utility to place a small sphere at the center of the image
 	private void placeSphereInCenter(Img<FloatType> img) {
 
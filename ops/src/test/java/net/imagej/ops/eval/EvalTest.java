@@ -35,6 +35,11 @@
 import java.util.Map;
 
 import net.imagej.ops.AbstractOpTest;
+import net.imglib2.Cursor;
+import net.imglib2.img.Img;
+import net.imglib2.img.array.ArrayImgs;
+import net.imglib2.type.numeric.integer.UnsignedByteType;
+import net.imglib2.type.numeric.real.FloatType;
 
 import org.junit.Test;
 
@@ -60,4 +65,39 @@ public void testMath() {
 		assertEquals(17, ops.run(DefaultEval.class, "a+b*c", vars));
 	}
 
+	@Test
+	public void testCompiled() {
+		final Img<FloatType> a = ArrayImgs.floats(40, 30);
+		final Img<UnsignedByteType> b = ArrayImgs.unsignedBytes(40, 30);
+		int i = 0;
+		for (final FloatType t : a)
+			t.setReal(i++ % 17);
+		for (final UnsignedByteType t : b)
+			t.setReal(i++ % 13);
+
+		final Map<String, Object> vars = new HashMap<>();
+		vars.put("a", a);
+		vars.put("b", b);
+		vars.put("t", 0.2);
+
+		final Img<FloatType> out = ArrayImgs.floats(40, 30);
+		ops.eval(out, "(a - b) / (a + b) > t", vars);
+		final Cursor<FloatType> ca = a.cursor();
+		final Cursor<UnsignedByteType> cb = b.cursor();
+		for (final FloatType o : out) {
+			final double x = ca.next().getRealDouble();
+			final double y = cb.next().getRealDouble();
+			assertEquals((x - y) / (x + y) > 0.2 ? 1 : 0, o.get(), 0);
+		}
+
+		ops.run(CompiledEval.class, out, "max(a, b) * 2 + sqrt(4)", vars);
+		ca.reset();
+		cb.reset();
+		for (final FloatType o : out) {
+			final double x = ca.next().getRealDouble();
+			final double y = cb.next().getRealDouble();
+			assertEquals(Math.max(x, y) * 2 + 2, o.get(), 0);
+		}
+	}
+
 }
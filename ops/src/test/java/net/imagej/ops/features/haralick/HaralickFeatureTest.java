@@ -32,12 +32,18 @@
 
 import net.imagej.ops.AbstractOpTest;
 import net.imagej.ops.features.AbstractFeatureTest;
+import net.imagej.ops.image.cooccurrenceMatrix.MatrixOrientation;
 import net.imagej.ops.image.cooccurrenceMatrix.MatrixOrientation2D;
+import net.imagej.ops.image.cooccurrenceMatrix.MatrixOrientation3D;
+import net.imglib2.IterableInterval;
 import net.imglib2.img.Img;
+import net.imglib2.img.array.ArrayImgs;
 import net.imglib2.type.numeric.integer.UnsignedByteType;
+import net.imglib2.view.Views;
 
 import org.junit.Before;
 import org.junit.Test;
+import org.scijava.util.MersenneTwisterFast;
 
 /**
  * Haralick features tested against matlab implementations and all formulas
@@ -164,4 +170,74 @@ public void variance() {
 		assertEquals(5176.653047585449, ops.haralick().variance(img, 128, 1, MatrixOrientation2D.HORIZONTAL).get(),
 				EPSILON);
 	}
+
+	@Test
+	public void features() {
+		assertFeatures(img, 128, MatrixOrientation2D.HORIZONTAL);
+	}
+
+	/** Tests the sparse counts used above {@code DENSE_LIMIT} grey levels. */
+	@Test
+	public void featuresSparse() {
+		final int g = 4 * DefaultHaralickFeatures.DENSE_LIMIT;
+		assertFeatures(img, g, MatrixOrientation2D.HORIZONTAL);
+		assertFeatures(img, g, MatrixOrientation2D.ANTIDIAGONAL);
+	}
+
+	/** Tests a 3D region that does not start at the origin. */
+	@Test
+	public void features3D() {
+		final Img<UnsignedByteType> img3d = ArrayImgs.unsignedBytes(14, 11, 7);
+		final MersenneTwisterFast random = new MersenneTwisterFast(0xdeadbeef);
+		for (final UnsignedByteType t : img3d) {
+			t.set(random.nextInt(256));
+		}
+		final IterableInterval<UnsignedByteType> region = Views.interval(img3d,
+			new long[] { 2, 1, 1 }, new long[] { 12, 9, 5 });
+		assertFeatures(region, 128, MatrixOrientation3D.DEPTH);
+		assertFeatures(region, 128, MatrixOrientation3D.ANTIDIAGONAL_DIAGONAL);
+		assertFeatures(region, 4 * DefaultHaralickFeatures.DENSE_LIMIT,
+			MatrixOrientation3D.HORIZONTAL_VERTICAL);
+	}
+
+	/**
+	 * Asserts that all features computed at once match the single feature ops,
+	 * relative to their magnitude.
+	 */
+	private void assertFeatures(final IterableInterval<UnsignedByteType> in,
+		final int g, final MatrixOrientation o)
+	{
+		final HaralickFeatures f = ops.haralick().features(in, g, 1, o);
+		assertClose(ops.haralick().asm(in, g, 1, o).get(), f.getASM());
+		assertClose(ops.haralick().clusterPromenence(in, g, 1, o).get(), f
+			.getClusterPromenence());
+		assertClose(ops.haralick().clusterShade(in, g, 1, o).get(), f
+			.getClusterShade());
+		assertClose(ops.haralick().contrast(in, g, 1, o).get(), f.getContrast());
+		assertClose(ops.haralick().correlation(in, g, 1, o).get(), f
+			.getCorrelation());
+		assertClose(ops.haralick().differenceEntropy(in, g, 1, o).get(), f
+			.getDifferenceEntropy());
+		assertClose(ops.haralick().differenceVariance(in, g, 1, o).get(), f
+			.getDifferenceVariance());
+		assertClose(ops.haralick().entropy(in, g, 1, o).get(), f.getEntropy());
+		assertClose(ops.haralick().icm1(in, g, 1, o).get(), f.getICM1());
+		assertClose(ops.haralick().icm2(in, g, 1, o).get(), f.getICM2());
+		assertClose(ops.haralick().ifdm(in, g, 1, o).get(), f.getIFDM());
+		assertClose(ops.haralick().maxProbability(in, g, 1, o).get(), f
+			.getMaxProbability());
+		assertClose(ops.haralick().sumAverage(in, g, 1, o).get(), f
+			.getSumAverage());
+		assertClose(ops.haralick().sumEntropy(in, g, 1, o).get(), f
+			.getSumEntropy());
+		assertClose(ops.haralick().sumVariance(in, g, 1, o).get(), f
+			.getSumVariance());
+		assertClose(ops.haralick().textureHomogeneity(in, g, 1, o).get(), f
+			.getTextureHomogeneity());
+		assertClose(ops.haralick().variance(in, g, 1, o).get(), f.getVariance());
+	}
+
+	private static void assertClose(final double expected, final double actual) {
+		assertEquals(expected, actual, EPSILON * Math.max(1, Math.abs(expected)));
+	}
 }
@@ -70,4 +70,24 @@ public void testMagnitudeFeature() {
 		assertEquals(Ops.Zernike.Magnitude.NAME, v1, v2, 1e-3);
 	}
 
+	@Test
+	public void testMoments() {
+		final ZernikeMoments moments = (ZernikeMoments) ops.run(
+			DefaultZernikeMoments.class, ellipse, 6);
+		assertEquals(6, moments.getOrder());
+
+		assertEquals(Ops.Zernike.Magnitude.NAME, 0.10985876611295191, moments
+			.getMagnitude(4, 2), EPSILON);
+		assertEquals(Ops.Zernike.Phase.NAME, 179.92297037263532, moments.getPhase(
+			4, 2), EPSILON);
+
+		for (int n = 0; n <= 6; n++) {
+			for (int m = -n; m <= n; m += 2) {
+				assertEquals(Ops.Zernike.Magnitude.NAME, ((RealType<?>) ops.run(
+					DefaultMagnitudeFeature.class, ellipse, n, m)).getRealDouble(),
+					moments.getMagnitude(n, m), EPSILON);
+			}
+		}
+	}
+
 }
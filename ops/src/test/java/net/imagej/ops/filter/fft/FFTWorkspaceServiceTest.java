@@ -0,0 +1,188 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2020 ImageJ developers.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.filter.fft;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import net.imagej.ops.AbstractOpTest;
+import net.imagej.ops.OpMatchingService;
+import net.imagej.ops.OpService;
+import net.imagej.ops.filter.convolve.PadAndConvolveFFT;
+import net.imglib2.FinalDimensions;
+import net.imglib2.RandomAccessibleInterval;
+import net.imglib2.img.Img;
+import net.imglib2.img.array.ArrayImgs;
+import net.imglib2.img.array.ArrayImg;
+import net.imglib2.img.basictypeaccess.array.FloatArray;
+import net.imglib2.type.numeric.complex.ComplexFloatType;
+import net.imglib2.type.numeric.real.FloatType;
+
+import org.junit.Test;
+import org.scijava.Context;
+import org.scijava.cache.CacheService;
+
+/**
+ * Tests {@link FFTWorkspaceService}.
+ */
+public class FFTWorkspaceServiceTest extends AbstractOpTest {
+
+	@Override
+	protected Context createContext() {
+		return new Context(OpService.class, OpMatchingService.class,
+			CacheService.class, FFTWorkspaceService.class);
+	}
+
+	/** Tests that released buffers are handed out again by dimensions. */
+	@Test
+	public void testBufferPool() {
+		final FFTWorkspaceService workspace = workspace();
+		final FinalDimensions dims = new FinalDimensions(33, 64);
+		final RandomAccessibleInterval<ComplexFloatType> buffer = ArrayImgs
+			.complexFloats(33, 64);
+
+		assertNull(workspace.takeBuffer(dims, new ComplexFloatType()));
+		workspace.releaseBuffer(buffer);
+		assertEquals(33 * 64 * 8, workspace.getMemoryUsed());
+		assertNull(workspace.takeBuffer(new FinalDimensions(33, 65),
+			new ComplexFloatType()));
+		assertSame(buffer, workspace.takeBuffer(dims, new ComplexFloatType()));
+		assertEquals(0, workspace.getMemoryUsed());
+	}
+
+	/** Tests that spectra are looked up by kernel values and padded size. */
+	@Test
+	public void testKernelSpectrum() {
+		final FFTWorkspaceService workspace = workspace();
+		final FinalDimensions dims = new FinalDimensions(9, 16);
+		final Img<FloatType> kernel = ArrayImgs.floats(new float[] { 1, 2, 1, 2, 4,
+			2, 1, 2, 1 }, 3, 3);
+		final Img<FloatType> other = ArrayImgs.floats(new float[] { 1, 2, 1, 2, 4,
+			2, 1, 2, 2 }, 3, 3);
+		final RandomAccessibleInterval<ComplexFloatType> spectrum = ArrayImgs
+			.complexFloats(9, 16);
+
+		workspace.putKernelSpectrum(kernel, dims, spectrum);
+		assertSame(spectrum, workspace.getKernelSpectrum(kernel.copy(), dims,
+			new ComplexFloatType()));
+		assertNull(workspace.getKernelSpectrum(other, dims,
+			new ComplexFloatType()));
+		assertNull(workspace.getKernelSpectrum(kernel, new FinalDimensions(9, 17),
+			new ComplexFloatType()));
+	}
+
+	/** Tests that the memory ceiling evicts buffers before spectra. */
+	@Test
+	public void testMemoryCeiling() {
+		final FFTWorkspaceService workspace = workspace();
+		final Img<FloatType> kernel = ArrayImgs.floats(3, 3);
+		final FinalDimensions dims = new FinalDimensions(10, 10);
+		// a spectrum also holds a copy of the (complex) kernel values
+		final long spectrumBytes = 10 * 10 * 8 + 3 * 3 * 16;
+		workspace.setMemoryCeiling(spectrumBytes + 10 * 10 * 8);
+
+		workspace.putKernelSpectrum(kernel, dims, ArrayImgs.complexFloats(10, 10));
+		workspace.releaseBuffer(ArrayImgs.complexFloats(10, 10));
+		workspace.releaseBuffer(ArrayImgs.complexFloats(10, 10));
+		assertEquals(spectrumBytes + 10 * 10 * 8, workspace.getMemoryUsed());
+		assertNotNull(workspace.getKernelSpectrum(kernel, dims,
+			new ComplexFloatType()));
+
+		// too large to be retained at all
+		workspace.releaseBuffer(ArrayImgs.complexFloats(100, 100));
+		assertEquals(spectrumBytes + 10 * 10 * 8, workspace.getMemoryUsed());
+
+		workspace.setMemoryCeiling(spectrumBytes);
+		assertNotNull(workspace.getKernelSpectrum(kernel, dims,
+			new ComplexFloatType()));
+		assertNull(workspace.takeBuffer(dims, new ComplexFloatType()));
+
+		workspace.clear();
+		assertEquals(0, workspace.getMemoryUsed());
+		assertNull(workspace.getKernelSpectrum(kernel, dims,
+			new ComplexFloatType()));
+	}
+
+	/**
+	 * Tests that repeated convolutions reuse the cached kernel spectrum and give
+	 * the same result.
+	 */
+	@Test
+	public void testRepeatedConvolve() {
+		final FFTWorkspaceService workspace = workspace();
+		final Img<FloatType> in = ArrayImgs.floats(40, 30);
+		in.getAt(20, 15).set(1);
+		final Img<FloatType> kernel = ArrayImgs.floats(5, 5);
+		kernel.forEach(t -> t.set(0.04f));
+
+		final ArrayImg<FloatType, FloatArray> first = ArrayImgs.floats(40, 30);
+		ops.run(PadAndConvolveFFT.class, first, in, kernel);
+		final long used = workspace.getMemoryUsed();
+		assertTrue(used > 0);
+
+		final ArrayImg<FloatType, FloatArray> second = ArrayImgs.floats(40, 30);
+		ops.run(PadAndConvolveFFT.class, second, in, kernel);
+		assertEquals(used, workspace.getMemoryUsed());
+
+		assertArrayEquals(first.update(null).getCurrentStorageArray(), second
+			.update(null).getCurrentStorageArray(), 0f);
+		assertEquals(0.04f, second.getAt(20, 15).get(), 1e-5f);
+	}
+
+	/** Tests that a disabled workspace retains nothing. */
+	@Test
+	public void testDisabled() {
+		final FFTWorkspaceService workspace = workspace();
+		workspace.releaseBuffer(ArrayImgs.complexFloats(10, 10));
+		workspace.setEnabled(false);
+		assertEquals(0, workspace.getMemoryUsed());
+
+		final FinalDimensions dims = new FinalDimensions(10, 10);
+		workspace.releaseBuffer(ArrayImgs.complexFloats(10, 10));
+		assertNull(workspace.takeBuffer(dims, new ComplexFloatType()));
+		final Img<FloatType> kernel = ArrayImgs.floats(3, 3);
+		workspace.putKernelSpectrum(kernel, dims, ArrayImgs.complexFloats(10, 10));
+		assertNull(workspace.getKernelSpectrum(kernel, dims,
+			new ComplexFloatType()));
+		assertEquals(0, workspace.getMemoryUsed());
+	}
+
+	private FFTWorkspaceService workspace() {
+		final FFTWorkspaceService workspace = ops.context().service(
+			FFTWorkspaceService.class);
+		workspace.setEnabled(true);
+		return workspace;
+	}
+
+}
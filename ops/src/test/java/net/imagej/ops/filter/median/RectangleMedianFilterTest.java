@@ -0,0 +1,120 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2020 ImageJ developers.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.filter.median;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.Random;
+
+import net.imagej.ops.AbstractOpTest;
+import net.imagej.ops.Op;
+import net.imagej.ops.Ops;
+import net.imglib2.algorithm.neighborhood.RectangleShape;
+import net.imglib2.img.Img;
+import net.imglib2.img.array.ArrayImgs;
+import net.imglib2.outofbounds.OutOfBoundsMirrorFactory;
+import net.imglib2.outofbounds.OutOfBoundsMirrorFactory.Boundary;
+import net.imglib2.type.numeric.RealType;
+import net.imglib2.type.numeric.integer.UnsignedByteType;
+import net.imglib2.type.numeric.integer.UnsignedShortType;
+import net.imglib2.type.numeric.real.FloatType;
+import net.imglib2.util.Intervals;
+
+import org.junit.Test;
+
+/**
+ * Tests {@link RectangleMedianFilter} against {@link DefaultMedianFilter}.
+ */
+public class RectangleMedianFilterTest extends AbstractOpTest {
+
+	@Test
+	public void testMatching() {
+		final Img<UnsignedByteType> in = ArrayImgs.unsignedBytes(10, 10);
+		final Img<UnsignedByteType> out = ArrayImgs.unsignedBytes(10, 10);
+		final Op op = ops.op(Ops.Filter.Median.class, out, in, new RectangleShape(1,
+			false));
+		assertSame(RectangleMedianFilter.class, op.getClass());
+	}
+
+	@Test
+	public void testUnsignedByte2D() {
+		assertSameAsDefault(random(ArrayImgs.unsignedBytes(37, 23)),
+			ArrayImgs.unsignedBytes(37, 23), new RectangleShape(3, false));
+	}
+
+	@Test
+	public void testUnsignedByteSkipCenter() {
+		assertSameAsDefault(random(ArrayImgs.unsignedBytes(37, 23)),
+			ArrayImgs.unsignedBytes(37, 23), new RectangleShape(2, true));
+	}
+
+	@Test
+	public void testUnsignedShort3D() {
+		assertSameAsDefault(random(ArrayImgs.unsignedShorts(19, 17, 5)),
+			ArrayImgs.unsignedShorts(19, 17, 5), new RectangleShape(1, false));
+	}
+
+	@Test
+	public void testFloat3D() {
+		assertSameAsDefault(random(ArrayImgs.floats(19, 17, 5)), ArrayImgs.floats(
+			19, 17, 5), new RectangleShape(2, true));
+	}
+
+	@Test
+	public void testOneDimensional() {
+		assertSameAsDefault(random(ArrayImgs.unsignedBytes(64)), ArrayImgs
+			.unsignedBytes(64), new RectangleShape(4, false));
+	}
+
+	// -- Helper methods --
+
+	private <T extends RealType<T>> Img<T> random(final Img<T> img) {
+		final Random random = new Random(0xdeadbeef);
+		final double range = Math.min(img.firstElement().getMaxValue(), 1000);
+		for (final T t : img) {
+			t.setReal(random.nextDouble() * range);
+		}
+		return img;
+	}
+
+	private <T extends RealType<T>> void assertSameAsDefault(final Img<T> in,
+		final Img<T> out, final RectangleShape shape)
+	{
+		final OutOfBoundsMirrorFactory<T, Img<T>> oobFactory =
+			new OutOfBoundsMirrorFactory<>(Boundary.SINGLE);
+		final Img<T> expected = out.factory().create(Intervals
+			.dimensionsAsLongArray(out));
+		ops.run(DefaultMedianFilter.class, expected, in, shape, oobFactory);
+		ops.run(RectangleMedianFilter.class, out, in, shape, oobFactory);
+		assertArrayEquals(asArray(expected), asArray(out), 0);
+	}
+
+}
@@ -30,7 +30,9 @@
 
 import static org.junit.Assert.assertEquals;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 
 import net.imagej.ops.Ops;
 import net.imagej.ops.Ops.Geometric.BoundarySizeConvexHull;
@@ -43,6 +45,7 @@
 import net.imagej.ops.geom.geom2d.DefaultConvexityPolygon;
 import net.imagej.ops.geom.geom2d.DefaultEccentricity;
 import net.imagej.ops.geom.geom2d.DefaultElongation;
+import net.imagej.ops.geom.geom2d.DefaultFerets;
 import net.imagej.ops.geom.geom2d.DefaultFeretsDiameterForAngle;
 import net.imagej.ops.geom.geom2d.DefaultMajorAxis;
 import net.imagej.ops.geom.geom2d.DefaultMaximumFeretAngle;
@@ -58,13 +61,17 @@
 import net.imagej.ops.geom.geom2d.DefaultSolidityPolygon;
 import net.imagej.ops.geom.geom2d.DefaultVerticesCountConvexHullPolygon;
 import net.imagej.ops.geom.geom2d.DefaultVerticesCountPolygon;
+import net.imagej.ops.geom.geom2d.FeretFeatures;
 import net.imagej.ops.geom.geom2d.LabelRegionToPolygonConverter;
 import net.imglib2.RealLocalizable;
 import net.imglib2.RealPoint;
+import net.imglib2.roi.geom.real.DefaultWritablePolygon2D;
 import net.imglib2.roi.geom.real.Polygon2D;
 import net.imglib2.roi.labeling.LabelRegion;
 import net.imglib2.type.numeric.real.DoubleType;
 
+import org.apache.commons.math3.geometry.euclidean.twod.Line;
+import org.apache.commons.math3.geometry.euclidean.twod.Vector2D;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
@@ -219,6 +226,57 @@ public void minimumFeretsAngle() {
 				((DoubleType) ops.run(DefaultMinimumFeretAngle.class, contour)).get(), EPSILON);
 	}
 
+	@Test
+	public void ferets() {
+		// same ground truth as the individual feret features
+		final FeretFeatures ferets = (FeretFeatures) ops.run(DefaultFerets.class,
+			contour);
+		assertEquals(Ops.Geometric.MaximumFeretsDiameter.NAME, 104.2353107157071,
+			ferets.getMaximumDiameter(), EPSILON);
+		assertEquals(Ops.Geometric.MaximumFeretsAngle.NAME, 81.170255332091,
+			ferets.getMaximumAngle(), EPSILON);
+		assertEquals(Ops.Geometric.MinimumFeretsDiameter.NAME, 58.5849810104945,
+			ferets.getMinimumDiameter(), EPSILON);
+		assertEquals(Ops.Geometric.MinimumFeretsAngle.NAME, 153.434948822922,
+			ferets.getMinimumAngle(), EPSILON);
+	}
+
+	@Test
+	public void feretsAgainstBruteForce() {
+		final Random random = new Random(0xcafe);
+		for (int trial = 0; trial < 300; trial++) {
+			// triangles; lattice points, many of them collinear or duplicated; and
+			// arbitrary points, some of them duplicated
+			final int kind = trial % 3;
+			final int count = kind == 0 ? 3 : 4 + random.nextInt(40);
+			final List<RealLocalizable> points = new ArrayList<>();
+			for (int i = 0; i < count; i++) {
+				final RealPoint p = kind == 1 ? new RealPoint((double) random.nextInt(
+					6), random.nextInt(6)) : new RealPoint(100 * random.nextDouble(),
+						100 * random.nextDouble());
+				points.add(p);
+				if (kind == 2 && random.nextInt(3) == 0) points.add(p);
+			}
+			final Polygon2D polygon = new DefaultWritablePolygon2D(points);
+			final List<? extends RealLocalizable> hull = GeomUtils.vertices(
+				(Polygon2D) ops.run(DefaultConvexHull2D.class, polygon));
+			if (hull.size() < 3) continue;
+
+			final FeretFeatures ferets = (FeretFeatures) ops.run(
+				DefaultFerets.class, polygon);
+			assertEquals("maximum feret, trial " + trial, bruteForceMaximumFeret(
+				hull), ferets.getMaximumDiameter(), 1e-9);
+			assertEquals("minimum feret, trial " + trial, bruteForceMinimumFeret(
+				hull), ferets.getMinimumDiameter(), 1e-9);
+
+			final Polygon2D rectangle = (Polygon2D) ops.run(
+				DefaultSmallestEnclosingRectangle.class, polygon);
+			assertEquals("rectangle area, trial " + trial,
+				bruteForceSmallestRectangleArea(hull), ((DoubleType) ops.run(
+					DefaultSizePolygon.class, rectangle)).get(), 1e-6);
+		}
+	}
+
 	@Test
 	public void maximumFeretsDiameter() {
 		// ground truth computed with matlab
@@ -328,4 +386,85 @@ public void centroid() {
 		assertEquals("Centroid X", expected.getDoublePosition(0), result.getDoublePosition(0), EPSILON);
 		assertEquals("Centroid Y", expected.getDoublePosition(1), result.getDoublePosition(1), EPSILON);
 	}
+
+	// -- Helper methods --
+
+	/** The largest distance of any two hull vertices, by checking all pairs. */
+	private static double bruteForceMaximumFeret(
+		final List<? extends RealLocalizable> hull)
+	{
+		double distance = Double.NEGATIVE_INFINITY;
+		for (int i = 0; i < hull.size(); i++) {
+			for (int j = i + 1; j < hull.size(); j++) {
+				distance = Math.max(distance, distance(hull.get(i), hull.get(j)));
+			}
+		}
+		return distance;
+	}
+
+	/**
+	 * The smallest width of the hull, by finding the farthest vertex from each
+	 * edge.
+	 */
+	private static double bruteForceMinimumFeret(
+		final List<? extends RealLocalizable> hull)
+	{
+		double width = Double.POSITIVE_INFINITY;
+		for (int i = 0; i < hull.size(); i++) {
+			final Line l = new Line(vector(hull.get(i)), vector(hull.get((i + 1) %
+				hull.size())), 10e-12);
+			double edgeWidth = 0;
+			for (final RealLocalizable p : hull) {
+				edgeWidth = Math.max(edgeWidth, l.distance(vector(p)));
+			}
+			width = Math.min(width, edgeWidth);
+		}
+		return width;
+	}
+
+	/**
+	 * The smallest area of a rectangle with one side on a hull edge, by
+	 * rotating all vertices for each edge.
+	 */
+	private static double bruteForceSmallestRectangleArea(
+		final List<? extends RealLocalizable> hull)
+	{
+		double minArea = Double.POSITIVE_INFINITY;
+		for (int i = 0; i < hull.size(); i++) {
+			final RealLocalizable p0 = hull.get(i);
+			final RealLocalizable p1 = hull.get((i + 1) % hull.size());
+			final double angle = Math.atan2(p1.getDoublePosition(1) - p0
+				.getDoublePosition(1), p1.getDoublePosition(0) - p0
+					.getDoublePosition(0));
+			final double cos = Math.cos(-angle);
+			final double sin = Math.sin(-angle);
+			double minX = Double.POSITIVE_INFINITY;
+			double maxX = Double.NEGATIVE_INFINITY;
+			double minY = Double.POSITIVE_INFINITY;
+			double maxY = Double.NEGATIVE_INFINITY;
+			for (final RealLocalizable p : hull) {
+				final double x = cos * p.getDoublePosition(0) - sin * p
+					.getDoublePosition(1);
+				final double y = sin * p.getDoublePosition(0) + cos * p
+					.getDoublePosition(1);
+				minX = Math.min(minX, x);
+				maxX = Math.max(maxX, x);
+				minY = Math.min(minY, y);
+				maxY = Math.max(maxY, y);
+			}
+			minArea = Math.min(minArea, (maxX - minX) * (maxY - minY));
+		}
+		return minArea;
+	}
+
+	private static double distance(final RealLocalizable p0,
+		final RealLocalizable p1)
+	{
+		return Math.hypot(p0.getDoublePosition(0) - p1.getDoublePosition(0), p0
+			.getDoublePosition(1) - p1.getDoublePosition(1));
+	}
+
+	private static Vector2D vector(final RealLocalizable p) {
+		return new Vector2D(p.getDoublePosition(0), p.getDoublePosition(1));
+	}
 }
@@ -0,0 +1,104 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2020 ImageJ developers.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.geom.geom3d;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Iterator;
+import java.util.Random;
+
+import net.imagej.mesh.Mesh;
+import net.imagej.mesh.Triangle;
+import net.imagej.ops.AbstractOpTest;
+import net.imglib2.img.Img;
+import net.imglib2.img.array.ArrayImgs;
+import net.imglib2.type.logic.BitType;
+
+import org.junit.Test;
+
+/**
+ * Tests {@link IndexedMarchingCubes} split into several slabs against
+ * {@link DefaultMarchingCubes}.
+ */
+public class IndexedMarchingCubesTest extends AbstractOpTest {
+
+	private static final double EPSILON = 10e-12;
+
+	@Test
+	public void testSlabs() {
+		final Img<BitType> img = ArrayImgs.bits(7, 6, 20);
+		final Random random = new Random(0xdeadbeef);
+		for (final BitType t : img) {
+			t.set(random.nextInt(3) == 0);
+		}
+		final Mesh expected = (Mesh) ops.run(DefaultMarchingCubes.class, img);
+
+		Integer vertexCount = null;
+		// 21 cube layers, also split into more slabs than layers
+		for (final int slabs : new int[] { 1, 2, 3, 7, 21, 40 }) {
+			@SuppressWarnings("unchecked")
+			final IndexedMarchingCubes<BitType> op =
+				(IndexedMarchingCubes<BitType>) ops.op(IndexedMarchingCubes.class,
+					img);
+			op.setSlabCount(slabs);
+			final Mesh actual = op.calculate(img);
+			assertSameTriangles(expected, actual);
+
+			// vertices on the planes between slabs are merged
+			final int count = (int) actual.vertices().size();
+			if (vertexCount == null) vertexCount = count;
+			assertEquals("slabs: " + slabs, vertexCount.intValue(), count);
+			assertTrue(count < actual.triangles().size());
+		}
+	}
+
+	private static void assertSameTriangles(final Mesh expected,
+		final Mesh actual)
+	{
+		assertEquals(expected.triangles().size(), actual.triangles().size());
+		final Iterator<Triangle> expectedFacets = expected.triangles().iterator();
+		final Iterator<Triangle> actualFacets = actual.triangles().iterator();
+		while (expectedFacets.hasNext() && actualFacets.hasNext()) {
+			final Triangle e = expectedFacets.next();
+			final Triangle a = actualFacets.next();
+			assertEquals(e.v0x(), a.v0x(), EPSILON);
+			assertEquals(e.v0y(), a.v0y(), EPSILON);
+			assertEquals(e.v0z(), a.v0z(), EPSILON);
+			assertEquals(e.v1x(), a.v1x(), EPSILON);
+			assertEquals(e.v1y(), a.v1y(), EPSILON);
+			assertEquals(e.v1z(), a.v1z(), EPSILON);
+			assertEquals(e.v2x(), a.v2x(), EPSILON);
+			assertEquals(e.v2y(), a.v2y(), EPSILON);
+			assertEquals(e.v2z(), a.v2z(), EPSILON);
+		}
+	}
+
+}
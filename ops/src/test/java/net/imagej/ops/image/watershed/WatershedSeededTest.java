@@ -45,7 +45,9 @@
 import net.imglib2.roi.labeling.ImgLabeling;
 import net.imglib2.roi.labeling.LabelingType;
 import net.imglib2.type.logic.BitType;
+import net.imglib2.type.numeric.RealType;
 import net.imglib2.type.numeric.integer.IntType;
+import net.imglib2.type.numeric.integer.UnsignedByteType;
 import net.imglib2.type.numeric.real.FloatType;
 
 import org.junit.Test;
@@ -88,6 +90,73 @@ public void test() {
 		testWithMask(input, labeledSeeds);
 	}
 
+	@Test
+	public void testHierarchicalQueueMatchesPriorityQueue() {
+		long[] dims = { 25, 20 };
+		Img<FloatType> floats = ArrayImgs.floats(dims);
+		Img<UnsignedByteType> bytes = ArrayImgs.unsignedBytes(dims);
+		MersenneTwisterFast random = new MersenneTwisterFast(SEED);
+		for (FloatType b : floats) {
+			b.setReal(random.nextDouble());
+		}
+		// few grey values to get many plateaus
+		for (UnsignedByteType b : bytes) {
+			b.setInteger(random.nextInt(4));
+		}
+
+		Img<BitType> bits = ArrayImgs.bits(dims);
+		RandomAccess<BitType> ra = bits.randomAccess();
+		for (int i = 0; i < 6; i++) {
+			ra.setPosition(new int[] { random.nextInt(25), random.nextInt(20) });
+			ra.get().set(true);
+		}
+		final ImgLabeling<Integer, IntType> labeledSeeds = ops.labeling().cca(bits,
+			StructuringElement.FOUR_CONNECTED);
+
+		Img<BitType> mask = ArrayImgs.bits(dims);
+		for (BitType b : mask) {
+			b.set(random.nextDouble() < 0.8);
+		}
+
+		for (boolean eightConnected : new boolean[] { true, false }) {
+			for (boolean drawWatersheds : new boolean[] { true, false }) {
+				assertSameAsPriorityQueue(floats, labeledSeeds, eightConnected,
+					drawWatersheds, null);
+				assertSameAsPriorityQueue(bytes, labeledSeeds, eightConnected,
+					drawWatersheds, null);
+				assertSameAsPriorityQueue(bytes, labeledSeeds, eightConnected,
+					drawWatersheds, mask);
+			}
+		}
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private <T extends RealType<T>> void assertSameAsPriorityQueue(
+		final RandomAccessibleInterval<T> in,
+		final ImgLabeling<Integer, IntType> seeds, final boolean eightConnected,
+		final boolean drawWatersheds, final RandomAccessibleInterval<BitType> mask)
+	{
+		final WatershedSeeded<T, BitType> op = mask == null
+			? (WatershedSeeded) ops.op(WatershedSeeded.class, null, in, seeds,
+				eightConnected, drawWatersheds)
+			: (WatershedSeeded) ops.op(WatershedSeeded.class, null, in, seeds,
+				eightConnected, drawWatersheds, mask);
+		final ImgLabeling<Integer, IntType> expected;
+		final ImgLabeling<Integer, IntType> actual;
+		op.useHierarchicalQueue = false;
+		expected = op.calculate(in);
+		op.useHierarchicalQueue = true;
+		actual = op.calculate(in);
+
+		final Cursor<LabelingType<Integer>> cExpected = expected.cursor();
+		final RandomAccess<LabelingType<Integer>> raActual = actual.randomAccess();
+		while (cExpected.hasNext()) {
+			cExpected.fwd();
+			raActual.setPosition(cExpected);
+			assertEquals(cExpected.get(), raActual.get());
+		}
+	}
+
 	@SuppressWarnings("unchecked")
 	private void testWithoutMask(final RandomAccessibleInterval<FloatType> in,
 			final ImgLabeling<Integer, IntType> seeds) {
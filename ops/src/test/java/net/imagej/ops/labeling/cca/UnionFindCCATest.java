@@ -0,0 +1,218 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2020 ImageJ developers.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.labeling.cca;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import net.imagej.ops.AbstractOpTest;
+import net.imagej.ops.Ops;
+import net.imglib2.Cursor;
+import net.imglib2.FinalInterval;
+import net.imglib2.Interval;
+import net.imglib2.RandomAccess;
+import net.imglib2.algorithm.labeling.ConnectedComponents.StructuringElement;
+import net.imglib2.img.Img;
+import net.imglib2.img.array.ArrayImgs;
+import net.imglib2.roi.labeling.ImgLabeling;
+import net.imglib2.roi.labeling.LabelingType;
+import net.imglib2.type.logic.BitType;
+import net.imglib2.type.numeric.integer.IntType;
+import net.imglib2.type.numeric.integer.LongType;
+import net.imglib2.type.numeric.integer.UnsignedByteType;
+import net.imglib2.util.Intervals;
+import net.imglib2.view.Views;
+
+import org.junit.Test;
+import org.scijava.util.MersenneTwisterFast;
+
+/**
+ * Tests {@link UnionFindCCA} and {@link UnionFindCCAIndex}.
+ */
+public class UnionFindCCATest extends AbstractOpTest {
+
+	@Test
+	public void testMatching() {
+		final Img<BitType> in = randomImg(0.5, 20, 20);
+		assertSame(UnionFindCCA.class, ops.op(Ops.Labeling.CCA.class, in,
+			StructuringElement.FOUR_CONNECTED).getClass());
+		assertSame(UnionFindCCAIndex.class, ops.op(Ops.Labeling.CCA.class,
+			ArrayImgs.ints(20, 20), in, 8).getClass());
+	}
+
+	@Test
+	public void testSameAsDefault() {
+		for (final StructuringElement se : StructuringElement.values()) {
+			assertSameLabeling(randomImg(0.4, 64, 48), se);
+			assertSameLabeling(randomImg(0.3, 24, 20, 16), se);
+		}
+	}
+
+	@Test
+	public void testIndexImg() {
+		final Img<BitType> in = ArrayImgs.bits(5, 4, 3);
+		// two voxels touching only by a corner, and an isolated voxel
+		set(in, 0, 0, 0);
+		set(in, 1, 1, 1);
+		set(in, 4, 3, 2);
+		// a bar along x touching the isolated voxel by an edge
+		set(in, 3, 2, 2);
+		set(in, 2, 2, 2);
+
+		assertEquals(4, numComponents(in, 6));
+		assertEquals(3, numComponents(in, 18));
+		assertEquals(2, numComponents(in, 26));
+
+		final Img<LongType> out = ArrayImgs.longs(5, 4, 3);
+		final ComponentStatistics statistics = new ComponentStatistics();
+		ops.labeling().cca(out, in, 26, statistics);
+		assertEquals(2, statistics.size());
+		assertEquals(2, statistics.count(0));
+		assertEquals(3, statistics.count(1));
+		assertInterval(new FinalInterval(new long[] { 0, 0, 0 }, new long[] { 1,
+			1, 1 }), statistics.boundingBox(0));
+		assertInterval(new FinalInterval(new long[] { 2, 2, 2 }, new long[] { 4,
+			3, 2 }), statistics.boundingBox(1));
+	}
+
+	@Test
+	public void testNarrowIndexType() {
+		// 300 isolated pixels: more components than an unsigned byte holds
+		final Img<BitType> in = ArrayImgs.bits(40, 30);
+		for (int y = 0; y < 30; y += 2) {
+			for (int x = 0; x < 40; x += 2) {
+				set(in, x, y);
+			}
+		}
+		final Img<UnsignedByteType> out = ArrayImgs.unsignedBytes(40, 30);
+		try {
+			ops.labeling().cca(out, in, 8);
+			fail("Labels wrapped around");
+		}
+		catch (final IllegalArgumentException exc) {
+			// expected
+		}
+
+		// few components fit, although the image has more than 510 elements
+		final Img<BitType> bars = ArrayImgs.bits(40, 30);
+		for (int x = 0; x < 40; x++) {
+			set(bars, x, 3);
+			set(bars, x, 20);
+		}
+		ops.labeling().cca(out, bars, 8);
+		final Cursor<BitType> inCursor = bars.cursor();
+		final Cursor<UnsignedByteType> outCursor = out.cursor();
+		while (inCursor.hasNext()) {
+			final boolean foreground = inCursor.next().get();
+			final long position = outCursor.next().get();
+			assertEquals(foreground ? outCursor.getLongPosition(1) == 3 ? 1 : 2 : 0,
+				position);
+		}
+
+		// labelings that might not fit are left to the default CCA
+		final ImgLabeling<Integer, UnsignedByteType> labeling = new ImgLabeling<>(
+			ArrayImgs.unsignedBytes(40, 30));
+		assertSame(DefaultCCA.class, ops.op(Ops.Labeling.CCA.class, labeling, in,
+			StructuringElement.EIGHT_CONNECTED).getClass());
+		final ImgLabeling<Integer, UnsignedByteType> small = new ImgLabeling<>(
+			ArrayImgs.unsignedBytes(20, 20));
+		assertSame(UnionFindCCA.class, ops.op(Ops.Labeling.CCA.class, small,
+			randomImg(0.5, 20, 20), StructuringElement.EIGHT_CONNECTED)
+			.getClass());
+	}
+
+	// -- Helper methods --
+
+	private Img<BitType> randomImg(final double density, final long... dims) {
+		final Img<BitType> img = ArrayImgs.bits(dims);
+		final MersenneTwisterFast random = new MersenneTwisterFast(0xcca);
+		for (final BitType b : img)
+			b.set(random.nextDouble() < density);
+		return img;
+	}
+
+	@SuppressWarnings("unchecked")
+	private void assertSameLabeling(final Img<BitType> in,
+		final StructuringElement se)
+	{
+		final ImgLabeling<Integer, IntType> expected =
+			(ImgLabeling<Integer, IntType>) ops.run(DefaultCCA.class, null, in, se);
+		final ImgLabeling<Integer, IntType> actual =
+			(ImgLabeling<Integer, IntType>) ops.run(UnionFindCCA.class, null, in, se);
+
+		// the labelings must be the same up to renaming of the labels
+		final Map<Set<Integer>, Set<Integer>> renaming = new HashMap<>();
+		final Map<Set<Integer>, Set<Integer>> inverse = new HashMap<>();
+		final Cursor<LabelingType<Integer>> e = Views.iterable(expected).cursor();
+		final Cursor<LabelingType<Integer>> a = Views.iterable(actual).cursor();
+		while (e.hasNext()) {
+			final Set<Integer> expectedSet = new HashSet<>(e.next());
+			final Set<Integer> actualSet = new HashSet<>(a.next());
+			assertEquals(expectedSet.size(), actualSet.size());
+			if (expectedSet.isEmpty()) continue;
+			renaming.putIfAbsent(expectedSet, actualSet);
+			inverse.putIfAbsent(actualSet, expectedSet);
+			assertEquals(renaming.get(expectedSet), actualSet);
+			assertEquals(inverse.get(actualSet), expectedSet);
+		}
+	}
+
+	private long numComponents(final Img<BitType> in, final int neighbors) {
+		final Img<IntType> out = ArrayImgs.ints(Intervals.dimensionsAsLongArray(
+			in));
+		ops.labeling().cca(out, in, neighbors);
+		long max = 0;
+		for (final IntType i : out)
+			max = Math.max(max, i.get());
+		return max;
+	}
+
+	private static void set(final Img<BitType> img, final long... position) {
+		final RandomAccess<BitType> ra = img.randomAccess();
+		ra.setPosition(position);
+		ra.get().setOne();
+	}
+
+	private static void assertInterval(final Interval expected,
+		final Interval actual)
+	{
+		assertEquals(expected.numDimensions(), actual.numDimensions());
+		for (int d = 0; d < expected.numDimensions(); d++) {
+			assertEquals(expected.min(d), actual.min(d));
+			assertEquals(expected.max(d), actual.max(d));
+		}
+	}
+}
@@ -127,6 +127,31 @@ public void testDivideExplicit() {
 		}
 	}
 
+	@Test
+	public void testDividePrimitiveImage() {
+		ops.run(PrimitiveImageMath.DivideFloat.class, img3, img2, img1);
+	}
+
+	@Test
+	public void testSqrtPrimitiveImage() {
+		ops.run(Ops.Math.Sqrt.class, img3, img2);
+	}
+
+	@Test
+	public void testSqrtWithCursorExplicit() {
+		final Cursor<FloatType> cursorI = img2.cursor();
+		final Cursor<FloatType> cursorO = img3.cursor();
+
+		while (cursorI.hasNext()) {
+			cursorO.next().setReal(Math.sqrt(cursorI.next().getRealDouble()));
+		}
+	}
+
+	@Test
+	public void testAddBytePrimitiveImage() {
+		ops.run(Ops.Math.Add.class, byteimg, byteimg, byteimg);
+	}
+
 	@Test
 	public void testDivideWithCursorExplicit() {
 		final Cursor<FloatType> cursor = img1.cursor();
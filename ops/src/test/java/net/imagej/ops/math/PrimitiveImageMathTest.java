@@ -0,0 +1,221 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2020 ImageJ developers.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.math;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+
+import java.util.Arrays;
+
+import net.imagej.ops.AbstractOpTest;
+import net.imagej.ops.Op;
+import net.imagej.ops.Ops;
+import net.imglib2.Cursor;
+import net.imglib2.img.Img;
+import net.imglib2.img.array.ArrayImgs;
+import net.imglib2.img.cell.CellImgFactory;
+import net.imglib2.img.planar.PlanarImgFactory;
+import net.imglib2.type.numeric.RealType;
+import net.imglib2.type.numeric.integer.ByteType;
+import net.imglib2.type.numeric.integer.IntType;
+import net.imglib2.type.numeric.integer.UnsignedByteType;
+import net.imglib2.type.numeric.integer.UnsignedLongType;
+import net.imglib2.type.numeric.integer.UnsignedShortType;
+import net.imglib2.type.numeric.real.DoubleType;
+import net.imglib2.type.numeric.real.FloatType;
+
+import org.junit.Test;
+
+/**
+ * Tests {@link PrimitiveImageMath}.
+ */
+public class PrimitiveImageMathTest extends AbstractOpTest {
+
+	@Test
+	public void testMatching() {
+		final Img<ByteType> img = ArrayImgs.bytes(10, 10);
+		final Op add = ops.op(Ops.Math.Add.class, img, img, img);
+		assertSame(PrimitiveImageMath.AddByte.class, add.getClass());
+		final Op sqrt = ops.op(Ops.Math.Sqrt.class, img, img);
+		assertSame(PrimitiveImageMath.SqrtByte.class, sqrt.getClass());
+	}
+
+	@Test
+	public void testAddSaturates() {
+		final Img<UnsignedByteType> in1 = ArrayImgs.unsignedBytes(4, 3);
+		final Img<UnsignedByteType> in2 = ArrayImgs.unsignedBytes(4, 3);
+		fill(in1, 200);
+		fill(in2, 100);
+		final Img<UnsignedByteType> out = ArrayImgs.unsignedBytes(4, 3);
+		ops.math().add(out, in1, in2);
+		for (final UnsignedByteType t : out)
+			assertEquals(255, t.get());
+	}
+
+	@Test
+	public void testSubtractSaturates() {
+		final Img<UnsignedShortType> in1 = ArrayImgs.unsignedShorts(5, 5);
+		final Img<UnsignedShortType> in2 = ArrayImgs.unsignedShorts(5, 5);
+		fill(in1, 10);
+		fill(in2, 20);
+		ops.math().subtract(in1, in1, in2);
+		for (final UnsignedShortType t : in1)
+			assertEquals(0, t.get());
+	}
+
+	@Test
+	public void testNegateSaturates() {
+		final Img<ByteType> in = ArrayImgs.bytes(7);
+		fill(in, Byte.MIN_VALUE);
+		final Img<ByteType> out = ArrayImgs.bytes(7);
+		ops.math().negate(out, in);
+		for (final ByteType t : out)
+			assertEquals(Byte.MAX_VALUE, t.get());
+	}
+
+	@Test
+	public void testDivideByZero() {
+		final Img<IntType> in1 = ArrayImgs.ints(3);
+		final Img<IntType> in2 = ArrayImgs.ints(3);
+		final Cursor<IntType> c = in1.cursor();
+		c.next().set(5);
+		c.next().set(-5);
+		c.next().set(0);
+		final Img<IntType> out = ArrayImgs.ints(3);
+		ops.math().divide(out, in1, in2);
+		final Cursor<IntType> o = out.cursor();
+		assertEquals(Integer.MAX_VALUE, o.next().get());
+		assertEquals(Integer.MIN_VALUE, o.next().get());
+		assertEquals(0, o.next().get());
+	}
+
+	@Test
+	public void testUnsignedLong() {
+		final Img<UnsignedLongType> in1 = ArrayImgs.unsignedLongs(2);
+		final Img<UnsignedLongType> in2 = ArrayImgs.unsignedLongs(2);
+		fill(in1, -2);
+		fill(in2, 3);
+		final Img<UnsignedLongType> out = ArrayImgs.unsignedLongs(2);
+		ops.math().add(out, in1, in2);
+		for (final UnsignedLongType t : out)
+			assertEquals(-1L, t.get());
+		ops.math().subtract(out, in2, in1);
+		for (final UnsignedLongType t : out)
+			assertEquals(0L, t.get());
+	}
+
+	@Test
+	public void testPlanarAndCellImgs() {
+		final long[] dims = { 33, 17, 4 };
+		final Img<FloatType> planar = new PlanarImgFactory<>(new FloatType())
+			.create(dims);
+		final Img<FloatType> cells = new CellImgFactory<>(new FloatType(), 8)
+			.create(dims);
+		for (final Img<FloatType> img : Arrays.asList(planar, cells)) {
+			int i = 0;
+			for (final FloatType t : img)
+				t.set(i++);
+			final Img<FloatType> out = img.factory().create(img);
+			ops.math().sqrt(out, img);
+			final Cursor<FloatType> in = img.cursor();
+			final Cursor<FloatType> result = out.cursor();
+			while (in.hasNext()) {
+				final float expected = (float) Math.sqrt(in.next().get());
+				assertEquals(expected, result.next().get(), 0f);
+			}
+		}
+	}
+
+	@Test
+	public void testMismatchedLayoutsFallBack() {
+		final long[] dims = { 20, 10 };
+		final Img<FloatType> array = ArrayImgs.floats(dims);
+		final Img<FloatType> planar = new PlanarImgFactory<>(new FloatType())
+			.create(dims);
+		final Op op = ops.op(Ops.Math.Add.class, array, array, planar);
+		assertFalse(op instanceof PrimitiveImageMath.AddFloat);
+	}
+
+	@Test
+	public void testMatchesElementOps() {
+		final double[] values = { -2.5, -1, -0.5, 0, 0.5, 1, 2.5 };
+		final Img<DoubleType> in = ArrayImgs.doubles(values, values.length);
+		final Img<DoubleType> out = ArrayImgs.doubles(values.length);
+		final DoubleType expected = new DoubleType();
+		for (final Class<? extends Op> type : Arrays.asList(Ops.Math.Arccosh.class,
+			Ops.Math.Arccot.class, Ops.Math.Arccoth.class, Ops.Math.Arccsch.class,
+			Ops.Math.Arcsech.class, Ops.Math.Arcsinh.class, Ops.Math.Arctanh.class,
+			Ops.Math.Cot.class, Ops.Math.Coth.class, Ops.Math.Csc.class,
+			Ops.Math.Csch.class, Ops.Math.Sec.class, Ops.Math.Sech.class,
+			Ops.Math.Sinc.class, Ops.Math.SincPi.class, Ops.Math.Step.class,
+			Ops.Math.Ulp.class))
+		{
+			final Op op = ops.op(type, out, in);
+			assertSame(PrimitiveImageMath.class, op.getClass().getEnclosingClass());
+			ops.run(op, out, in);
+			final Cursor<DoubleType> c = out.cursor();
+			for (final double value : values) {
+				ops.run(type, expected, new DoubleType(value));
+				assertEquals(type.getSimpleName(), expected.get(), c.next().get(), 0);
+			}
+		}
+	}
+
+	@Test
+	public void testParameters() {
+		final Img<UnsignedByteType> bytes = ArrayImgs.unsignedBytes(new byte[] {
+			20, (byte) 200 }, 2);
+		assertSame(PrimitiveImageMath.InvertUnsignedByte.class, ops.op(
+			Ops.Math.Invert.class, bytes, bytes, 0.0, 100.0).getClass());
+		ops.math().invert(bytes, bytes, 0, 100);
+		final Cursor<UnsignedByteType> b = bytes.cursor();
+		assertEquals(80, b.next().get());
+		assertEquals(0, b.next().get());
+
+		final Img<FloatType> floats = ArrayImgs.floats(new float[] { 0, 4 }, 2);
+		ops.math().reciprocal(floats, floats, -1);
+		final Cursor<FloatType> f = floats.cursor();
+		assertEquals(-1, f.next().get(), 0);
+		assertEquals(0.25f, f.next().get(), 0);
+	}
+
+	// -- Helper methods --
+
+	private static <T extends RealType<T>> void fill(
+		final Img<T> img, final long value)
+	{
+		for (final T t : img) {
+			if (t instanceof UnsignedLongType) ((UnsignedLongType) t).set(value);
+			else t.setReal(value);
+		}
+	}
+
+}
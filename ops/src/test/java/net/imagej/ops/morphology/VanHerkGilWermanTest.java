@@ -0,0 +1,93 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2020 ImageJ developers.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.morphology;
+
+import static org.junit.Assert.assertEquals;
+
+import net.imagej.ops.AbstractOpTest;
+import net.imglib2.Cursor;
+import net.imglib2.algorithm.morphology.Dilation;
+import net.imglib2.algorithm.morphology.Erosion;
+import net.imglib2.algorithm.neighborhood.HorizontalLineShape;
+import net.imglib2.algorithm.neighborhood.RectangleShape;
+import net.imglib2.algorithm.neighborhood.Shape;
+import net.imglib2.img.Img;
+import net.imglib2.type.numeric.integer.ShortType;
+import net.imglib2.view.Views;
+
+import org.junit.Test;
+
+/**
+ * Tests {@link VanHerkGilWerman}.
+ */
+public class VanHerkGilWermanTest extends AbstractOpTest {
+
+	/**
+	 * Tests that filtering in slabs along the last dimension matches the
+	 * imglib2 dilation and erosion, including shapes reaching across slabs.
+	 */
+	@Test
+	public void testSlabs() {
+		final Img<ShortType> img = generateShortArrayTestImg(true, 9, 7, 5);
+		for (final long thickness : new long[] { 1, 2, 5 }) {
+			assertSlabs(img, new RectangleShape(1, false), thickness);
+			assertSlabs(img, new RectangleShape(2, false), thickness);
+			assertSlabs(img, new HorizontalLineShape(2, 2, false), thickness);
+			assertSlabs(img, new HorizontalLineShape(3, 0, false), thickness);
+		}
+	}
+
+	private void assertSlabs(final Img<ShortType> img, final Shape shape,
+		final long thickness)
+	{
+		final ShortType minVal = new ShortType(Short.MIN_VALUE);
+		final ShortType maxVal = new ShortType(Short.MAX_VALUE);
+
+		final Img<ShortType> dilated = img.factory().create(img);
+		VanHerkGilWerman.filter(ops, Views.extendValue(img, minVal), dilated,
+			shape, minVal.getRealDouble(), true, thickness);
+		assertEqual(Dilation.dilate(img, shape, 1), dilated);
+
+		final Img<ShortType> eroded = img.factory().create(img);
+		VanHerkGilWerman.filter(ops, Views.extendValue(img, maxVal), eroded, shape,
+			maxVal.getRealDouble(), false, thickness);
+		assertEqual(Erosion.erode(img, shape, 1), eroded);
+	}
+
+	private void assertEqual(final Img<ShortType> expected,
+		final Img<ShortType> actual)
+	{
+		final Cursor<ShortType> c1 = expected.cursor();
+		final Cursor<ShortType> c2 = actual.cursor();
+		while (c1.hasNext()) {
+			assertEquals(c1.next().get(), c2.next().get());
+		}
+	}
+}
@@ -30,11 +30,13 @@
 package net.imagej.ops.morphology.dilate;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
 import java.util.ArrayList;
 import java.util.List;
 
 import net.imagej.ops.AbstractOpTest;
+import net.imagej.ops.Ops;
 import net.imglib2.Cursor;
 import net.imglib2.IterableInterval;
 import net.imglib2.algorithm.morphology.Dilation;
@@ -45,7 +47,9 @@
 import net.imglib2.img.Img;
 import net.imglib2.img.array.ArrayImgs;
 import net.imglib2.type.logic.BitType;
+import net.imglib2.type.numeric.RealType;
 import net.imglib2.type.numeric.integer.ByteType;
+import net.imglib2.type.numeric.integer.ShortType;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -142,4 +146,42 @@ public void testListDilateFull() {
 		while (c1.hasNext())
 			assertEquals(c1.next().get(), c2.next().get());
 	}
+
+	@Test
+	public void testRectangleDilateMatching() {
+		assertSame(RectangleDilate.class, ops.op(Ops.Morphology.Dilate.class,
+			Img.class, in, new RectangleShape(2, false), false).getClass());
+		assertSame(DefaultDilate.class, ops.op(Ops.Morphology.Dilate.class,
+			Img.class, in, new DiamondShape(1), false).getClass());
+	}
+
+	@Test
+	public void testRectangleDilate() {
+		assertRectangleDilate(in, new RectangleShape(2, false), false);
+		assertRectangleDilate(in, new HorizontalLineShape(3, 1, false), false);
+		assertRectangleDilate(bitIn, new RectangleShape(1, false), false);
+		final Img<ShortType> in3 = generateShortArrayTestImg(true, 9, 7, 5);
+		assertRectangleDilate(in3, new RectangleShape(1, false), false);
+		assertRectangleDilate(in3, new HorizontalLineShape(2, 2, false), false);
+	}
+
+	@Test
+	public void testRectangleDilateFull() {
+		assertRectangleDilate(in, new RectangleShape(2, false), true);
+		assertRectangleDilate(in, new HorizontalLineShape(3, 0, false), true);
+	}
+
+	private <T extends RealType<T>> void assertRectangleDilate(final Img<T> img,
+		final Shape shape, final boolean isFull)
+	{
+		@SuppressWarnings("unchecked")
+		final Img<T> out1 = (Img<T>) ops.run(RectangleDilate.class, Img.class, img,
+			shape, isFull);
+		final Img<T> out2 = isFull ? Dilation.dilateFull(img, shape, 1) : Dilation
+			.dilate(img, shape, 1);
+		final Cursor<T> c1 = out1.cursor();
+		final Cursor<T> c2 = out2.cursor();
+		while (c1.hasNext())
+			assertEquals(c2.next().getRealDouble(), c1.next().getRealDouble(), 0);
+	}
 }
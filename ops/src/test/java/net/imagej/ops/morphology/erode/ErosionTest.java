@@ -30,11 +30,13 @@
 package net.imagej.ops.morphology.erode;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
 import java.util.ArrayList;
 import java.util.List;
 
 import net.imagej.ops.AbstractOpTest;
+import net.imagej.ops.Ops;
 import net.imglib2.Cursor;
 import net.imglib2.IterableInterval;
 import net.imglib2.algorithm.morphology.Erosion;
@@ -45,7 +47,9 @@
 import net.imglib2.img.Img;
 import net.imglib2.img.array.ArrayImgs;
 import net.imglib2.type.logic.BitType;
+import net.imglib2.type.numeric.RealType;
 import net.imglib2.type.numeric.integer.ByteType;
+import net.imglib2.type.numeric.integer.ShortType;
 import net.imglib2.view.Views;
 
 import org.junit.Before;
@@ -133,4 +137,42 @@ public void testListErodeFull() {
 			.run(ListErode.class, IterableInterval.class, in, shapes, true);
 		assertIterationsEqual(out1, out2);
 	}
+
+	@Test
+	public void testRectangleErodeMatching() {
+		assertSame(RectangleErode.class, ops.op(Ops.Morphology.Erode.class,
+			Img.class, in, new RectangleShape(2, false), false).getClass());
+		assertSame(DefaultErode.class, ops.op(Ops.Morphology.Erode.class,
+			Img.class, in, new DiamondShape(1), false).getClass());
+	}
+
+	@Test
+	public void testRectangleErode() {
+		assertRectangleErode(in, new RectangleShape(2, false), false);
+		assertRectangleErode(in, new HorizontalLineShape(3, 1, false), false);
+		assertRectangleErode(bitIn, new RectangleShape(1, false), false);
+		final Img<ShortType> in3 = generateShortArrayTestImg(true, 9, 7, 5);
+		assertRectangleErode(in3, new RectangleShape(1, false), false);
+		assertRectangleErode(in3, new HorizontalLineShape(2, 2, false), false);
+	}
+
+	@Test
+	public void testRectangleErodeFull() {
+		assertRectangleErode(in, new RectangleShape(2, false), true);
+		assertRectangleErode(in, new HorizontalLineShape(3, 0, false), true);
+	}
+
+	private <T extends RealType<T>> void assertRectangleErode(final Img<T> img,
+		final Shape shape, final boolean isFull)
+	{
+		@SuppressWarnings("unchecked")
+		final Img<T> out1 = (Img<T>) ops.run(RectangleErode.class, Img.class, img,
+			shape, isFull);
+		final Img<T> out2 = isFull ? Erosion.erodeFull(img, shape, 1) : Erosion
+			.erode(img, shape, 1);
+		final Cursor<T> c1 = out1.cursor();
+		final Cursor<T> c2 = out2.cursor();
+		while (c1.hasNext())
+			assertEquals(c2.next().getRealDouble(), c1.next().getRealDouble(), 0);
+	}
 }
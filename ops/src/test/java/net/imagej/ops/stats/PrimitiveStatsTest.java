@@ -0,0 +1,143 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2020 ImageJ developers.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.stats;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import net.imagej.ops.AbstractOpTest;
+import net.imagej.ops.Op;
+import net.imagej.ops.Ops;
+import net.imglib2.img.Img;
+import net.imglib2.img.array.ArrayImgs;
+import net.imglib2.img.planar.PlanarImgs;
+import net.imglib2.type.numeric.RealType;
+import net.imglib2.type.numeric.integer.UnsignedByteType;
+import net.imglib2.type.numeric.real.DoubleType;
+
+import org.junit.Test;
+
+/**
+ * Tests {@link PrimitiveStats} against the default statistics ops.
+ */
+public class PrimitiveStatsTest extends AbstractOpTest {
+
+	@Test
+	public void testMatching() {
+		final Img<UnsignedByteType> img = generateRandomlyFilledUnsignedByteTestImgWithSeed(
+			new long[] { 10, 10 }, 42);
+		final Op op = ops.op(Ops.Stats.Median.class, DoubleType.class, img);
+		assertSame(PrimitiveStats.Median.class, op.getClass());
+	}
+
+	@Test
+	public void testSupported() {
+		assertTrue(PrimitiveStats.isSupported(ArrayImgs.unsignedShorts(2, 2)));
+		assertTrue(PrimitiveStats.isSupported(PlanarImgs.floats(2, 2, 2)));
+		assertFalse(PrimitiveStats.isSupported(ArrayImgs.bits(2, 2)));
+		assertFalse(PrimitiveStats.isSupported(ArrayImgs.unsigned12Bits(2, 2)));
+	}
+
+	@Test
+	public void testUnsignedByteArrayImg() {
+		assertSameAsDefault(generateRandomlyFilledUnsignedByteTestImgWithSeed(
+			new long[] { 100, 100 }, 1234567890L));
+	}
+
+	@Test
+	public void testShortPlanarImg() {
+		assertSameAsDefault(fill(PlanarImgs.shorts(30, 20, 4)));
+	}
+
+	@Test
+	public void testUnsignedIntArrayImg() {
+		assertSameAsDefault(fill(ArrayImgs.unsignedInts(51, 7)));
+	}
+
+	@Test
+	public void testFloatPlanarImg() {
+		assertSameAsDefault(fill(PlanarImgs.floats(17, 13, 3)));
+	}
+
+	@Test
+	public void testMoments() {
+		final Img<UnsignedByteType> img =
+			generateRandomlyFilledUnsignedByteTestImgWithSeed(new long[] { 100,
+				100 }, 1234567890L);
+		final PrimitiveStats.Moments moments = PrimitiveStats.moments(img);
+		assertEquals(10000, moments.size());
+		assertEquals(127.7534, moments.mean(), 1e-9);
+		assertEquals(5438.4780362436, moments.variance(), 1e-6);
+		assertEquals(-0.0012661517853476312, moments.skewness(), 1e-12);
+		assertEquals(1.794289587623922, moments.kurtosis(), 1e-9);
+	}
+
+	// -- Helper methods --
+
+	private <T extends RealType<T>> Img<T> fill(final Img<T> img) {
+		long i = 0;
+		for (final T t : img) {
+			t.setReal((i * 7919 % 2003) - (t.getMinValue() < 0 ? 1000 : 0));
+			i++;
+		}
+		return img;
+	}
+
+	private <T extends RealType<T>> void assertSameAsDefault(final Img<T> img) {
+		assertStat(DefaultMean.class, PrimitiveStats.Mean.class, img);
+		assertStat(DefaultVariance.class, PrimitiveStats.Variance.class, img);
+		assertStat(IterableStandardDeviation.class, PrimitiveStats.StdDev.class,
+			img);
+		assertStat(DefaultMoment2AboutMean.class,
+			PrimitiveStats.Moment2AboutMean.class, img);
+		assertStat(DefaultMoment3AboutMean.class,
+			PrimitiveStats.Moment3AboutMean.class, img);
+		assertStat(DefaultMoment4AboutMean.class,
+			PrimitiveStats.Moment4AboutMean.class, img);
+		assertStat(DefaultSkewness.class, PrimitiveStats.Skewness.class, img);
+		assertStat(DefaultKurtosis.class, PrimitiveStats.Kurtosis.class, img);
+		assertStat(DefaultMedian.class, PrimitiveStats.Median.class, img);
+		assertStat(DefaultQuantile.class, PrimitiveStats.Quantile.class, img,
+			0.3);
+		assertStat(DefaultPercentile.class, PrimitiveStats.Percentile.class, img,
+			90d);
+	}
+
+	private void assertStat(final Class<? extends Op> expected,
+		final Class<? extends Op> actual, final Object... args)
+	{
+		final double e = ((DoubleType) ops.run(expected, args)).getRealDouble();
+		final double a = ((DoubleType) ops.run(actual, args)).getRealDouble();
+		assertEquals(actual.getSimpleName(), e, a, Math.abs(e) * 1e-9 + 1e-9);
+	}
+
+}
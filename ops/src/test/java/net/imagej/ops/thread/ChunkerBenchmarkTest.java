@@ -73,6 +73,12 @@ public void run100MbInterleaved() {
 		ops.run(RunInterleavedChunker.class, out, in);
 	}
 
+	@Test
+	public void run100MbWorkStealing() {
+		generateByteTestImgs(10240);
+		ops.run(RunWorkStealingChunker.class, out, in);
+	}
+
 	@Test
 	public void run1MbTest() {
 		generateByteTestImgs(1024);
@@ -85,6 +91,12 @@ public void run1MbInterleaved() {
 		ops.run(RunInterleavedChunker.class, out, in);
 	}
 
+	@Test
+	public void run1MbWorkStealing() {
+		generateByteTestImgs(1024);
+		ops.run(RunWorkStealingChunker.class, out, in);
+	}
+
 	//with arrays
 
 	@Test
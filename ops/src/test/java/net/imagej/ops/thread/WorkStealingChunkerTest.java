@@ -0,0 +1,203 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2020 ImageJ developers.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+package net.imagej.ops.thread;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+import net.imagej.ops.AbstractOpTest;
+import net.imagej.ops.OpMatchingService;
+import net.imagej.ops.OpService;
+import net.imagej.ops.map.MapUnaryComputers.IIToIIParallel;
+import net.imagej.ops.special.computer.AbstractUnaryComputerOp;
+import net.imagej.ops.thread.chunker.Chunk;
+import net.imagej.ops.thread.chunker.ChunkerOp;
+import net.imagej.ops.thread.chunker.ChunkerService;
+import net.imagej.ops.thread.chunker.DefaultChunker;
+import net.imagej.ops.thread.chunker.WorkStealingChunker;
+import net.imagej.ops.thread.chunker.WorkStealingChunker.ChunkTiming;
+import net.imglib2.Cursor;
+import net.imglib2.img.Img;
+import net.imglib2.type.numeric.integer.ByteType;
+
+import org.junit.Test;
+import org.scijava.Context;
+import org.scijava.cache.CacheService;
+
+/**
+ * Tests {@link WorkStealingChunker}.
+ */
+public class WorkStealingChunkerTest extends AbstractOpTest {
+
+	@Override
+	protected Context createContext() {
+		return new Context(OpService.class, OpMatchingService.class,
+			CacheService.class, ChunkerService.class);
+	}
+
+	@Test
+	public void testMatching() {
+		final ChunkerOp op = ops.op(ChunkerOp.class, new Counter(
+			new AtomicIntegerArray(1)), 1);
+		assertTrue(op instanceof DefaultChunker);
+	}
+
+	@Test
+	public void testParallelMap() {
+		final Img<ByteType> in = generateByteArrayTestImg(true, 256, 256);
+		final Img<ByteType> out = generateByteArrayTestImg(false, 256, 256);
+		final Thread caller = Thread.currentThread();
+
+		// by default, the map runs on the threads of the DefaultChunker
+		Set<Thread> threads = mapThreads(in, out);
+		for (final Thread thread : threads) {
+			assertTrue(thread != caller && !(thread instanceof ForkJoinWorkerThread));
+		}
+
+		// once opted in, it runs on the fork/join pool of the WorkStealingChunker
+		final ChunkerService chunkers = context.service(ChunkerService.class);
+		chunkers.setChunker(WorkStealingChunker.class);
+		try {
+			threads = mapThreads(in, out);
+		}
+		finally {
+			chunkers.setChunker(ChunkerOp.class);
+		}
+		for (final Thread thread : threads) {
+			assertTrue(thread == caller || thread instanceof ForkJoinWorkerThread);
+		}
+		final Cursor<ByteType> inCursor = in.cursor();
+		final Cursor<ByteType> outCursor = out.cursor();
+		while (inCursor.hasNext()) {
+			assertEquals(inCursor.next().get(), outCursor.next().get());
+		}
+	}
+
+	@Test
+	public void testCoverage() {
+		for (final int n : new int[] { 1, 7, 64, 1000, 123457 }) {
+			final AtomicIntegerArray visits = new AtomicIntegerArray(n);
+			final WorkStealingChunker op = ops.op(WorkStealingChunker.class,
+				new Counter(visits), n);
+			op.setRecordTimings(true);
+			op.run();
+			for (int i = 0; i < n; i++) {
+				assertEquals(1, visits.get(i));
+			}
+
+			final List<ChunkTiming> timings = op.getTimings();
+			long next = 0;
+			for (final ChunkTiming t : timings) {
+				assertEquals(next, t.getStartIndex());
+				next += t.getNumSteps();
+			}
+			assertEquals(n, next);
+		}
+	}
+
+	@Test
+	public void testNoTimingsByDefault() {
+		final WorkStealingChunker op = ops.op(WorkStealingChunker.class,
+			new Counter(new AtomicIntegerArray(1000)), 1000);
+		op.run();
+		assertTrue(op.getTimings().isEmpty());
+	}
+
+	@Test
+	public void testCanceledBeforeFirstChunk() {
+		final WorkStealingChunker op = ops.op(WorkStealingChunker.class,
+			new Counter(new AtomicIntegerArray(1000)), 1000);
+		op.setRecordTimings(true);
+		op.cancel("test");
+		op.run();
+		assertTrue(op.getTimings().isEmpty());
+	}
+
+	@Test
+	public void testCancel() {
+		final int n = 1 << 20;
+		final AtomicLong count = new AtomicLong();
+		final ChunkerOp[] op = new ChunkerOp[1];
+		op[0] = ops.op(WorkStealingChunker.class, new Chunk() {
+
+			@Override
+			public void execute(final long startIndex, final long stepSize,
+				final long numSteps)
+			{
+				count.addAndGet(numSteps);
+				op[0].cancel("test");
+			}
+		}, n);
+		op[0].run();
+		assertTrue(op[0].isCanceled());
+		assertTrue(count.get() < n);
+	}
+
+	/** Copies the input with a parallel map, recording the threads used. */
+	private Set<Thread> mapThreads(final Img<ByteType> in,
+		final Img<ByteType> out)
+	{
+		final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+		ops.run(IIToIIParallel.class, out, in,
+			new AbstractUnaryComputerOp<ByteType, ByteType>() {
+
+				@Override
+				public void compute(final ByteType input, final ByteType output) {
+					threads.add(Thread.currentThread());
+					output.set(input);
+				}
+			});
+		return threads;
+	}
+
+	private static class Counter implements Chunk {
+
+		private final AtomicIntegerArray visits;
+
+		public Counter(final AtomicIntegerArray visits) {
+			this.visits = visits;
+		}
+
+		@Override
+		public void execute(final long startIndex, final long stepSize,
+			final long numSteps)
+		{
+			for (long i = 0; i < numSteps; i++) {
+				visits.incrementAndGet((int) (startIndex + i * stepSize));
+			}
+		}
+	}
+}
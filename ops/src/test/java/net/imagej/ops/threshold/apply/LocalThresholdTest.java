@@ -31,7 +31,10 @@
 
 import static org.junit.Assert.assertEquals;
 
+import java.util.Arrays;
+
 import net.imagej.ops.AbstractOpTest;
+import net.imagej.ops.Op;
 import net.imagej.ops.Ops;
 import net.imagej.ops.Ops.Threshold.Huang;
 import net.imagej.ops.Ops.Threshold.IJ1;
@@ -84,6 +87,7 @@
 import net.imglib2.Cursor;
 import net.imglib2.IterableInterval;
 import net.imglib2.RandomAccessibleInterval;
+import net.imglib2.algorithm.neighborhood.CenteredRectangleShape;
 import net.imglib2.algorithm.neighborhood.DiamondShape;
 import net.imglib2.algorithm.neighborhood.RectangleShape;
 import net.imglib2.exception.IncompatibleTypeException;
@@ -96,6 +100,7 @@
 import net.imglib2.type.logic.BitType;
 import net.imglib2.type.numeric.RealType;
 import net.imglib2.type.numeric.integer.ByteType;
+import net.imglib2.type.numeric.integer.ShortType;
 import net.imglib2.type.numeric.real.DoubleType;
 
 import org.junit.Before;
@@ -554,6 +559,40 @@ public void testLocalOtsuThreshold() {
 		assertEquals(false, out.firstElement().get());
 	}
 
+	/**
+	 * Checks that the sliding histograms of {@link LocalThresholdHistogram} give
+	 * the same result as the histograms of the individual neighborhoods, which
+	 * are used for shapes other than {@link RectangleShape}.
+	 *
+	 * @see LocalThresholdHistogram
+	 */
+	@Test
+	public void testLocalThresholdHistogramConsistency() {
+		final Img<ShortType> in3D = generateShortArrayTestImg(true, 8, 7, 6);
+		final Img<BitType> out3D = ArrayImgs.bits(8, 7, 6);
+		for (final Class<? extends Op> op : Arrays.<Class<? extends Op>> asList(
+			LocalHuangThreshold.class, LocalLiThreshold.class,
+			LocalOtsuThreshold.class))
+		{
+			for (final boolean skipCenter : new boolean[] { false, true }) {
+				final Img<BitType> out2 = ArrayImgs.bits(10, 10);
+				ops.run(op, out, in, new RectangleShape(2, skipCenter),
+					new OutOfBoundsMirrorFactory<ByteType, Img<ByteType>>(
+						Boundary.SINGLE));
+				ops.run(op, out2, in, new CenteredRectangleShape(new int[] { 2, 2 },
+					skipCenter), new OutOfBoundsMirrorFactory<ByteType, Img<ByteType>>(
+						Boundary.SINGLE));
+				testIterableIntervalSimilarity(out, out2);
+
+				final Img<BitType> out3D2 = ArrayImgs.bits(8, 7, 6);
+				ops.run(op, out3D, in3D, new RectangleShape(1, skipCenter));
+				ops.run(op, out3D2, in3D, new CenteredRectangleShape(new int[] { 1, 1,
+					1 }, skipCenter));
+				testIterableIntervalSimilarity(out3D, out3D2);
+			}
+		}
+	}
+
 	/**
 	 * @see LocalPercentileThreshold
 	 */
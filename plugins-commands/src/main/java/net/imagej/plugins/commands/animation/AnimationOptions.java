@@ -89,6 +89,10 @@ public class AnimationOptions extends DynamicCommand {
 		initializer = "initBackAndForth")
 	private boolean backAndForth;
 
+	@Parameter(label = "Render frames ahead", persist = false,
+		initializer = "initRenderAhead")
+	private boolean renderAhead;
+
 	// -- AnimatorOptions methods --
 
 	public AnimationService getAnimationService() {
@@ -147,6 +151,14 @@ public void setBackAndForth(final boolean backAndForth) {
 		this.backAndForth = backAndForth;
 	}
 
+	public boolean isRenderAhead() {
+		return renderAhead;
+	}
+
+	public void setRenderAhead(final boolean renderAhead) {
+		this.renderAhead = renderAhead;
+	}
+
 	// -- Runnable methods --
 
 	/**
@@ -167,6 +179,7 @@ public void run() {
 		animation.setFirst(getFirst() - 1);
 		animation.setLast(getLast() - 1);
 		animation.setFPS(getFPS());
+		animation.setRenderAhead(isRenderAhead());
 		if (active) animation.start();
 	}
 
@@ -213,6 +226,11 @@ protected void initBackAndForth() {
 		setBackAndForth(getAnimation().isBackAndForth());
 	}
 
+	/** Initializes renderAhead value. */
+	protected void initRenderAhead() {
+		setRenderAhead(getAnimation().isRenderAhead());
+	}
+
 	// -- Callback methods --
 
 	/** Updates the first and last values when the axis changes. */
@@ -32,6 +32,9 @@
 package net.imagej.plugins.commands.assign;
 
 import java.net.URL;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import net.imagej.Dataset;
 import net.imagej.Position;
@@ -40,17 +43,40 @@
 import net.imagej.display.ImageDisplay;
 import net.imagej.display.ImageDisplayService;
 import net.imagej.display.OverlayService;
+import net.imagej.ops.OpService;
+import net.imagej.ops.eval.ColumnFunction;
+import net.imagej.ops.eval.CompiledExpression;
 import net.imagej.overlay.Overlay;
+import net.imglib2.RandomAccessibleInterval;
 import net.imglib2.img.Img;
 import net.imglib2.ops.condition.UVInsideRoiCondition;
 import net.imglib2.ops.function.Function;
 import net.imglib2.ops.img.ImageAssignment;
 import net.imglib2.ops.input.InputIteratorFactory;
 import net.imglib2.ops.input.PointInputIteratorFactory;
+import net.imglib2.ops.operation.UnaryOperation;
+import net.imglib2.ops.parse.Lexer;
+import net.imglib2.ops.parse.ParseStatus;
+import net.imglib2.ops.parse.ParseUtils;
 import net.imglib2.ops.parse.RealEquationFunctionParser;
+import net.imglib2.ops.parse.token.CloseParen;
+import net.imglib2.ops.parse.token.Divide;
+import net.imglib2.ops.parse.token.Exponent;
+import net.imglib2.ops.parse.token.FunctionCall;
+import net.imglib2.ops.parse.token.ImgReference;
+import net.imglib2.ops.parse.token.Int;
+import net.imglib2.ops.parse.token.Minus;
+import net.imglib2.ops.parse.token.Mod;
+import net.imglib2.ops.parse.token.OpenParen;
+import net.imglib2.ops.parse.token.Plus;
+import net.imglib2.ops.parse.token.Real;
+import net.imglib2.ops.parse.token.Times;
+import net.imglib2.ops.parse.token.Token;
+import net.imglib2.ops.parse.token.TypeBoundReference;
 import net.imglib2.ops.util.Tuple2;
 import net.imglib2.type.numeric.RealType;
 import net.imglib2.type.numeric.real.DoubleType;
+import net.imglib2.view.Views;
 
 import org.scijava.ItemIO;
 import org.scijava.ItemVisibility;
@@ -89,6 +115,9 @@
 	
 	@Parameter
 	private PlatformService platformService;
+
+	@Parameter
+	private OpService opService;
 	
 	@Parameter(type = ItemIO.BOTH)
 	private ImageDisplay display;
@@ -126,6 +155,10 @@ public void run() {
 			cancel(err);
 			return;
 		}
+		if (condition == null && runCompiled()) {
+			dataset.update();
+			return;
+		}
 		RealEquationFunctionParser parser = new RealEquationFunctionParser();
 		Tuple2<Function<long[],DoubleType>, String> result =
 				parser.parse(equationString, dataset.getImgPlus());
@@ -227,6 +260,171 @@ else if (allPlanes) {
 		return null;
 	}
 	
+	private boolean runCompiled() {
+		@SuppressWarnings("unchecked")
+		final Img<T> img = (Img<T>) dataset.getImgPlus();
+		return evaluateCompiled(opService, equationString, img, origin, span);
+	}
+
+	/**
+	 * Evaluates the equation over a rectangular region of the image as a single
+	 * compiled expression, in parallel. Returns false, without touching the
+	 * data, if the equation uses anything beyond {@code img}, numbers, type
+	 * bounds, the arithmetic operators and single argument functions; such
+	 * equations are left to the point by point evaluation of the legacy parser.
+	 */
+	static <T extends RealType<T>> boolean evaluateCompiled(
+		final OpService opService, final String equation, final Img<T> img,
+		final long[] origin, final long[] span)
+	{
+		final long[] max = new long[origin.length];
+		for (int i = 0; i < max.length; i++) {
+			max[i] = origin[i] + span[i] - 1;
+		}
+		final RandomAccessibleInterval<T> region =
+			Views.interval(img, origin, max);
+		final CompiledExpression expression;
+		try {
+			final ParseStatus lexResult =
+				new Lexer().tokenize(equation, new HashMap<String, Integer>());
+			if (lexResult.getErrorMessage() != null) return false;
+			final EquationTranslator translator =
+				new EquationTranslator(lexResult.getTokens(), img.firstElement());
+			translator.vars.put("img", region);
+			expression = CompiledExpression.compile(translator.translate(),
+				translator.vars, translator.functions);
+		}
+		catch (final IllegalArgumentException e) {
+			return false;
+		}
+		expression.evaluate(opService, region);
+		return true;
+	}
+
+	/**
+	 * Rewrites a tokenized legacy equation as a fully parenthesized expression
+	 * for {@link CompiledExpression}. Follows the grammar of
+	 * {@link net.imglib2.ops.parse.EquationParser} exactly, including its right
+	 * associativity, so that both evaluate to the same values. Functions are
+	 * wrapped rather than mapped by name, so they keep their legacy behavior.
+	 */
+	private static class EquationTranslator {
+
+		private final List<Token> tokens;
+		private final RealType<?> type;
+		private final Map<String, Object> vars = new HashMap<String, Object>();
+		private final Map<String, ColumnFunction> functions =
+			new HashMap<String, ColumnFunction>();
+		private int pos;
+
+		private EquationTranslator(final List<Token> tokens,
+			final RealType<?> type)
+		{
+			this.tokens = tokens;
+			this.type = type;
+		}
+
+		private String translate() {
+			final String result = equation();
+			if (pos != tokens.size()) throw unsupported();
+			return result;
+		}
+
+		// equation = term | term "+" equation | term "-" equation
+		private String equation() {
+			final String term = term();
+			if (accept(Plus.class)) return "(" + term + " + " + equation() + ")";
+			if (accept(Minus.class)) return "(" + term + " - " + equation() + ")";
+			return term;
+		}
+
+		// term = factor | factor "*" term | factor "/" term | factor "%" term
+		private String term() {
+			final String factor = factor();
+			if (accept(Times.class)) return "(" + factor + " * " + term() + ")";
+			if (accept(Divide.class)) return "(" + factor + " / " + term() + ")";
+			if (accept(Mod.class)) return "(" + factor + " % " + term() + ")";
+			return factor;
+		}
+
+		// factor = signedAtom | signedAtom "^" factor
+		private String factor() {
+			final String atom = signedAtom();
+			if (accept(Exponent.class)) return "(" + atom + " ^ " + factor() + ")";
+			return atom;
+		}
+
+		// signedAtom = atom | "+" atom | "-" atom
+		private String signedAtom() {
+			if (accept(Plus.class)) return atom();
+			if (accept(Minus.class)) return "(" + constant(-1) + " * " + atom() +
+				")";
+			return atom();
+		}
+
+		// atom = "img" | function "(" equation ")" | "(" equation ")" | num
+		private String atom() {
+			if (pos >= tokens.size()) throw unsupported();
+			final Token token = tokens.get(pos++);
+			if (token instanceof ImgReference) return "img";
+			if (token instanceof Int) return constant(((Int) token).getValue());
+			if (token instanceof Real) return constant(((Real) token).getValue());
+			if (token instanceof TypeBoundReference) {
+				return constant(((TypeBoundReference) token).isMin() ? type
+					.getMinValue() : type.getMaxValue());
+			}
+			if (token instanceof FunctionCall) {
+				final String name = "f" + functions.size();
+				functions.put(name, function(((FunctionCall) token).getOp()));
+				return name + group();
+			}
+			if (token instanceof OpenParen) {
+				pos--;
+				return group();
+			}
+			throw unsupported();
+		}
+
+		private String group() {
+			if (!accept(OpenParen.class)) throw unsupported();
+			final String equation = equation();
+			if (!accept(CloseParen.class)) throw unsupported();
+			return "(" + equation + ")";
+		}
+
+		private boolean accept(final Class<? extends Token> tokenClass) {
+			if (!ParseUtils.match(tokenClass, tokens, pos)) return false;
+			pos++;
+			return true;
+		}
+
+		private String constant(final double value) {
+			final String name = "k" + vars.size();
+			vars.put(name, value);
+			return name;
+		}
+
+		private ColumnFunction function(
+			final UnaryOperation<DoubleType, DoubleType> op)
+		{
+			return (args, out, length) -> {
+				final UnaryOperation<DoubleType, DoubleType> o = op.copy();
+				final DoubleType input = new DoubleType();
+				final DoubleType output = new DoubleType();
+				final double[] in = args[0];
+				for (int i = 0; i < length; i++) {
+					input.set(in[i]);
+					o.compute(input, output);
+					out[i] = output.get();
+				}
+			};
+		}
+
+		private IllegalArgumentException unsupported() {
+			return new IllegalArgumentException("Unsupported equation");
+		}
+	}
+
 	protected void openWebPage() {
 		try {
 			String urlString =
@@ -31,17 +31,25 @@
 
 package net.imagej.plugins.commands.calculator;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 import net.imagej.Dataset;
 import net.imagej.DatasetService;
 import net.imagej.operator.CalculatorOp;
-import net.imagej.operator.CalculatorService;
+import net.imagej.ops.OpService;
+import net.imagej.ops.eval.ColumnFunction;
+import net.imagej.ops.eval.CompiledExpression;
 import net.imagej.space.SpaceUtils;
-import net.imglib2.RandomAccess;
+import net.imglib2.FinalInterval;
+import net.imglib2.Interval;
+import net.imglib2.RandomAccessibleInterval;
 import net.imglib2.img.Img;
-import net.imglib2.ops.pointset.HyperVolumePointSet;
-import net.imglib2.ops.pointset.PointSetIterator;
+import net.imglib2.ops.operation.BinaryOperation;
 import net.imglib2.type.numeric.RealType;
 import net.imglib2.type.numeric.real.DoubleType;
+import net.imglib2.view.Views;
 
 import org.scijava.ItemIO;
 import org.scijava.command.Command;
@@ -72,10 +80,10 @@
 	// -- instance variables that are Parameters --
 
 	@Parameter
-	private CalculatorService calculatorService;
+	private DatasetService datasetService;
 
 	@Parameter
-	private DatasetService datasetService;
+	private OpService opService;
 
 	@Parameter(type = ItemIO.BOTH)
 	private Dataset input1;
@@ -100,27 +108,37 @@
 	/**
 	 * Runs the plugin filling the output image with the user specified binary
 	 * combination of the two input images.
+	 * <p>
+	 * The operation is evaluated as a single compiled expression, writing
+	 * directly into the destination without an intermediate image.
+	 * </p>
 	 */
 	@Override
 	@SuppressWarnings("unchecked")
 	public void run() {
-		Img<DoubleType> img = null;
+		final Img<U> img1 = (Img<U>) input1.getImgPlus();
+		final Img<V> img2 = (Img<V>) input2.getImgPlus();
+		final long[] span;
+		final CompiledExpression expression;
 		try {
-			final Img<U> img1 = (Img<U>) input1.getImgPlus();
-			final Img<V> img2 = (Img<V>) input2.getImgPlus();
-			img = calculatorService.combine(img1, img2, op);
+			span = sharedExtents(img1, img2);
+			final Interval region = new FinalInterval(span);
+			final Map<String, Object> vars = new HashMap<String, Object>();
+			vars.put("a", Views.interval(img1, region));
+			vars.put("b", Views.interval(img2, region));
+			expression = CompiledExpression.compile("op(a, b)", vars, Collections
+				.singletonMap("op", operation(img1.firstElement(), img2
+					.firstElement())));
 		}
 		catch (final IllegalArgumentException e) {
 			cancel(e.toString());
 			return;
 		}
-		final long[] span = new long[img.numDimensions()];
-		img.dimensions(span);
 
 		// replace original data if desired by user
 		if (!wantDoubles && !newWindow) {
 			output = null;
-			copyDataInto(input1.getImgPlus(), img, span);
+			evaluateInto(expression, input1.getImgPlus(), span);
 			input1.update();
 		}
 		else { // write into output
@@ -136,7 +154,7 @@ public void run() {
 			output =
 				datasetService.create(span, "Result of operation", SpaceUtils
 					.getAxisTypes(input1), bits, signed, floating);
-			copyDataInto(output.getImgPlus(), img, span);
+			evaluateInto(expression, output.getImgPlus(), span);
 			output.update(); // TODO - probably unnecessary
 		}
 	}
@@ -227,21 +245,46 @@ public void setDoubleOutput(final boolean wantDoubles) {
 
 	// -- private helpers --
 
-	private void copyDataInto(final Img<? extends RealType<?>> out,
-		final Img<? extends RealType<?>> in, final long[] span)
-	{
-		final RandomAccess<? extends RealType<?>> src = in.randomAccess();
-		final RandomAccess<? extends RealType<?>> dst = out.randomAccess();
-		final HyperVolumePointSet ps = new HyperVolumePointSet(span);
-		final PointSetIterator iter = ps.iterator();
-		long[] pos = null;
-		while (iter.hasNext()) {
-			pos = iter.next();
-			src.setPosition(pos);
-			dst.setPosition(pos);
-			final double value = src.get().getRealDouble();
-			dst.get().setReal(value);
+	private long[] sharedExtents(final Img<?> img1, final Img<?> img2) {
+		final int numDims = img1.numDimensions();
+		if (img2.numDimensions() != numDims) {
+			throw new IllegalArgumentException(
+				"images do not have compatible dimensions");
 		}
+		final long[] span = new long[numDims];
+		for (int d = 0; d < numDims; d++) {
+			span[d] = Math.min(img1.dimension(d), img2.dimension(d));
+		}
+		return span;
+	}
+
+	/**
+	 * Wraps the {@link CalculatorOp} as a function of pixel columns. Each block
+	 * uses its own copy of the operation and of the working variables, so that
+	 * blocks can be processed concurrently.
+	 */
+	private ColumnFunction operation(final U type1, final V type2) {
+		return (args, out, length) -> {
+			final BinaryOperation<U, V, DoubleType> o = op.copy();
+			final U x1 = type1.createVariable();
+			final V x2 = type2.createVariable();
+			final DoubleType result = new DoubleType();
+			final double[] in1 = args[0], in2 = args[1];
+			for (int i = 0; i < length; i++) {
+				x1.setReal(in1[i]);
+				x2.setReal(in2[i]);
+				o.compute(x1, x2, result);
+				out[i] = result.get();
+			}
+		};
+	}
+
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private void evaluateInto(final CompiledExpression expression,
+		final Img<? extends RealType<?>> out, final long[] span)
+	{
+		expression.evaluate(opService, (RandomAccessibleInterval) Views.interval(
+			out, new FinalInterval(span)));
 	}
 
 }
@@ -0,0 +1,151 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2009 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, Broad Institute of MIT and Harvard, and Max Planck
+ * Institute of Molecular Cell Biology and Genetics.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.plugins.commands.assign;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import net.imagej.ops.OpService;
+import net.imglib2.Cursor;
+import net.imglib2.RandomAccess;
+import net.imglib2.img.Img;
+import net.imglib2.img.array.ArrayImgs;
+import net.imglib2.ops.function.Function;
+import net.imglib2.ops.img.ImageAssignment;
+import net.imglib2.ops.input.PointInputIteratorFactory;
+import net.imglib2.ops.parse.RealEquationFunctionParser;
+import net.imglib2.ops.util.Tuple2;
+import net.imglib2.type.numeric.real.DoubleType;
+import net.imglib2.type.numeric.real.FloatType;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.scijava.Context;
+
+/**
+ * Tests that the compiled evaluation of {@link EquationDataValues} computes
+ * the same values as the legacy equation parser.
+ */
+public class EquationDataValuesTest {
+
+	private static final long[] ORIGIN = { 2, 1 };
+	private static final long[] SPAN = { 5, 4 };
+
+	private Context context;
+	private OpService opService;
+
+	@Before
+	public void setUp() {
+		context = new Context(OpService.class);
+		opService = context.service(OpService.class);
+	}
+
+	@After
+	public void tearDown() {
+		context.dispose();
+	}
+
+	/** The legacy parser groups sums to the right: img - (3 - 2). */
+	@Test
+	public void testSubtraction() {
+		assertSameAsLegacy("img - 3 - 2");
+	}
+
+	/** Exponents group to the right: 2 ^ 9, not 8 ^ 2. */
+	@Test
+	public void testExponent() {
+		final RandomAccess<FloatType> access = assertSameAsLegacy("2 ^ 3 ^ 2")
+			.randomAccess();
+		access.setPosition(ORIGIN);
+		assertEquals(512, access.get().get(), 0);
+	}
+
+	@Test
+	public void testNegation() {
+		assertSameAsLegacy("-img * 2");
+	}
+
+	@Test
+	public void testFunctionAndTypeBound() {
+		assertSameAsLegacy("sqrt(img) + tmax");
+	}
+
+	/** Binary functions are left to the legacy parser. */
+	@Test
+	public void testUnsupported() {
+		final Img<FloatType> img = createImage();
+		assertFalse(EquationDataValues.evaluateCompiled(opService, "max(img, 3)",
+			img, ORIGIN, SPAN));
+		assertEqual(createImage(), img);
+	}
+
+	// -- Helper methods --
+
+	private Img<FloatType> assertSameAsLegacy(final String equation) {
+		final Img<FloatType> compiled = createImage();
+		assertTrue(EquationDataValues.evaluateCompiled(opService, equation,
+			compiled, ORIGIN, SPAN));
+
+		final Img<FloatType> legacy = createImage();
+		final Tuple2<Function<long[], DoubleType>, String> result =
+			new RealEquationFunctionParser().parse(equation, legacy);
+		assertNull(result.get2());
+		new ImageAssignment<FloatType, DoubleType, long[]>(legacy, ORIGIN, SPAN,
+			result.get1(), null, new PointInputIteratorFactory()).assign();
+
+		assertEqual(legacy, compiled);
+		return compiled;
+	}
+
+	private Img<FloatType> createImage() {
+		final Img<FloatType> img = ArrayImgs.floats(8, 6);
+		float value = 1;
+		for (final FloatType t : img) {
+			t.set(value);
+			value += 0.75f;
+		}
+		return img;
+	}
+
+	private void assertEqual(final Img<FloatType> expected,
+		final Img<FloatType> actual)
+	{
+		final Cursor<FloatType> c1 = expected.cursor();
+		final Cursor<FloatType> c2 = actual.cursor();
+		while (c1.hasNext()) {
+			assertEquals(c1.next().get(), c2.next().get(), 0);
+		}
+	}
+}
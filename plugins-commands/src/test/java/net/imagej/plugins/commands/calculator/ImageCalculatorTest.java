@@ -0,0 +1,190 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2009 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, Broad Institute of MIT and Harvard, and Max Planck
+ * Institute of Molecular Cell Biology and Genetics.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.plugins.commands.calculator;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import net.imagej.Dataset;
+import net.imagej.DatasetService;
+import net.imagej.ImgPlus;
+import net.imagej.operator.OpSubtract;
+import net.imagej.ops.OpService;
+import net.imglib2.Cursor;
+import net.imglib2.RandomAccess;
+import net.imglib2.img.Img;
+import net.imglib2.img.array.ArrayImgs;
+import net.imglib2.type.numeric.RealType;
+import net.imglib2.type.numeric.real.FloatType;
+import net.imglib2.util.Intervals;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.scijava.Context;
+
+/**
+ * Tests {@link ImageCalculator}.
+ */
+public class ImageCalculatorTest {
+
+	private Context context;
+	private DatasetService datasetService;
+
+	@Before
+	public void setUp() {
+		context = new Context(DatasetService.class, OpService.class);
+		datasetService = context.service(DatasetService.class);
+	}
+
+	@After
+	public void tearDown() {
+		context.dispose();
+	}
+
+	/** Tests that input 1 is replaced when no new window is wanted. */
+	@Test
+	public void testInPlace() {
+		final Dataset input1 = dataset(ramp(10, 8));
+		final ImageCalculator<FloatType, FloatType> calculator = run(input1,
+			dataset(constant(2, 10, 8)), false);
+		assertNull(calculator.getOutput());
+		assertDifference(ramp(10, 8), input1, 10, 8);
+	}
+
+	/**
+	 * Tests that only the extents shared by both inputs are replaced in input 1.
+	 */
+	@Test
+	public void testInPlaceMismatchedSizes() {
+		final Dataset input1 = dataset(ramp(10, 8));
+		final ImageCalculator<FloatType, FloatType> calculator = run(input1,
+			dataset(constant(2, 7, 9)), false);
+		assertFalse(calculator.isCanceled());
+		assertDifference(ramp(10, 8), input1, 7, 8);
+	}
+
+	/**
+	 * Tests that a new output has the extents shared by both inputs, and that
+	 * the inputs are left untouched.
+	 */
+	@Test
+	public void testNewWindowMismatchedSizes() {
+		final Dataset input1 = dataset(ramp(10, 8));
+		final ImageCalculator<FloatType, FloatType> calculator = run(input1,
+			dataset(constant(2, 7, 9)), true);
+		final Dataset output = calculator.getOutput();
+		assertArrayEquals(new long[] { 7, 8 }, Intervals.dimensionsAsLongArray(
+			output));
+
+		final RandomAccess<? extends RealType<?>> access = output.getImgPlus()
+			.randomAccess();
+		final Cursor<FloatType> cursor = ramp(10, 8).localizingCursor();
+		while (cursor.hasNext()) {
+			final float value = cursor.next().get();
+			if (cursor.getLongPosition(0) >= 7) continue;
+			access.setPosition(cursor);
+			assertEquals(value - 2, access.get().getRealDouble(), 0);
+		}
+		assertDifference(ramp(10, 8), input1, 0, 0);
+	}
+
+	/** Tests that inputs of different dimensionality cancel the command. */
+	@Test
+	public void testIncompatibleDimensions() {
+		final Dataset input1 = dataset(ramp(10, 8));
+		final ImageCalculator<FloatType, FloatType> calculator = run(input1,
+			dataset(ArrayImgs.floats(10, 8, 2)), false);
+		assertTrue(calculator.isCanceled());
+		assertDifference(ramp(10, 8), input1, 0, 0);
+	}
+
+	// -- Helper methods --
+
+	private ImageCalculator<FloatType, FloatType> run(final Dataset input1,
+		final Dataset input2, final boolean newWindow)
+	{
+		final ImageCalculator<FloatType, FloatType> calculator =
+			new ImageCalculator<>();
+		calculator.setContext(context);
+		calculator.setInput1(input1);
+		calculator.setInput2(input2);
+		calculator.setOperation(new OpSubtract<FloatType, FloatType>());
+		calculator.setNewWindow(newWindow);
+		calculator.run();
+		return calculator;
+	}
+
+	private Dataset dataset(final Img<FloatType> img) {
+		return datasetService.create(new ImgPlus<>(img));
+	}
+
+	private Img<FloatType> ramp(final long... dims) {
+		final Img<FloatType> img = ArrayImgs.floats(dims);
+		float value = 0;
+		for (final FloatType t : img) {
+			t.set(value++);
+		}
+		return img;
+	}
+
+	private Img<FloatType> constant(final float value, final long... dims) {
+		final Img<FloatType> img = ArrayImgs.floats(dims);
+		for (final FloatType t : img) {
+			t.set(value);
+		}
+		return img;
+	}
+
+	/**
+	 * Asserts that the dataset holds the original values less 2 within the
+	 * given extents, and the original values outside them.
+	 */
+	private void assertDifference(final Img<FloatType> original,
+		final Dataset dataset, final long width, final long height)
+	{
+		final RandomAccess<? extends RealType<?>> access = dataset.getImgPlus()
+			.randomAccess();
+		final Cursor<FloatType> cursor = original.localizingCursor();
+		while (cursor.hasNext()) {
+			final float value = cursor.next().get();
+			access.setPosition(cursor);
+			final boolean inside = cursor.getLongPosition(0) < width && cursor
+				.getLongPosition(1) < height;
+			assertEquals(inside ? value - 2 : value, access.get().getRealDouble(),
+				0);
+		}
+	}
+}
@@ -13,6 +13,7 @@ include(
     "mesh-io",
     "notebook",
     "ops",
+    "ops-benchmarks",
     "plugins-batch",
     "plugins-commands",
     "plugins-tools",
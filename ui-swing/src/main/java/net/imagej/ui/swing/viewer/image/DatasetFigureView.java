@@ -37,6 +37,7 @@
 import net.imagej.Dataset;
 import net.imagej.display.DatasetView;
 import net.imagej.display.event.DataViewUpdatedEvent;
+import net.imglib2.Interval;
 
 import org.jhotdraw.draw.Drawing;
 import org.jhotdraw.draw.ImageFigure;
@@ -92,8 +93,10 @@ public void update() {
 		log.debug("Updating image figure: " + this);
 		final Image image = datasetView.getScreenImage().image();
 		final BufferedImage bufImage = AWTImageTools.makeBuffered(image);
-		figure.setBounds(new Rectangle2D.Double(0, 0, bufImage.getWidth(),
-			bufImage.getHeight()));
+		// NB: the screen image may cover only a (subsampled) viewport of the data
+		final Interval viewport = datasetView.getViewport();
+		figure.setBounds(new Rectangle2D.Double(viewport.min(0), viewport.min(1),
+			viewport.dimension(0), viewport.dimension(1)));
 		figure.setBufferedImage(bufImage);
 	}
 
@@ -39,6 +39,7 @@
 import java.io.Writer;
 import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -49,6 +50,11 @@
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.zip.ZipException;
 
 import net.imagej.updater.Conflicts.Conflict;
@@ -61,6 +67,12 @@
 
 /**
  * A class to checksum and timestamp all the files shown in the Updater's UI.
+ * <p>
+ * The checksums are cached in the {@code .checksums} file, keyed on the path
+ * and timestamp of each file, and the sizes in {@code .checksums.sizes}, so
+ * that only new or changed files need to be read. Those are digested in
+ * parallel.
+ * </p>
  * 
  * @author Johannes Schindelin
  * @author Yap Chin Kiet
@@ -70,6 +82,9 @@ public class Checksummer extends AbstractProgressable {
 	private FilesCollection files;
 	private int counter, total;
 	private Map<String, FileObject.Version> cachedChecksums;
+	private Map<String, Long> cachedSizes;
+	private int threads =
+		Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
 	private boolean isWindows; // time tax for Redmond
 	private Map<String, List<StringAndFile>> queue;
 
@@ -85,7 +100,10 @@ protected static class StringAndFile {
 		private String path;
 		private File file;
 		public long timestamp;
+		public long size;
 		public String checksum;
+		private List<String> obsoletes;
+		private Exception exception;
 
 		protected StringAndFile(final String path, final File file) {
 			this.path = path;
@@ -102,6 +120,16 @@ public Map<String, FileObject.Version> getCachedChecksums() {
 		return cachedChecksums;
 	}
 
+	/**
+	 * Sets the number of threads digesting files. Digesting is mostly limited
+	 * by the disk, so the default is the number of processors, but at most 4.
+	 */
+	public void setThreads(final int threads) {
+		if (threads < 1) throw new IllegalArgumentException(
+			"Need at least one thread");
+		this.threads = threads;
+	}
+
 	/* follows symlinks */
 	protected boolean exists(final File file) {
 		try {
@@ -158,32 +186,14 @@ protected void queue(final String path, final File file) {
 
 	/**
 	 * Handle a single component, adding conflicts if there are multiple
-	 * versions.
+	 * versions. The queued files must have been digested by
+	 * {@link #digestQueue()}.
 	 *
 	 * @param unversioned
 	 *            the unversioned name of the component
 	 */
 	protected void handle(final String unversioned) {
 		final List<StringAndFile> pairs = queue.get(unversioned);
-		for (final StringAndFile pair : pairs) {
-			addItem(pair.path);
-
-			if (pair.file.exists()) try {
-				pair.timestamp = UpdaterUtil.getTimestamp(pair.file);
-				pair.checksum = getDigest(pair.path, pair.file, pair.timestamp);
-			}
-			catch (final ZipException e) {
-				files.log.error("Problem digesting " + pair.file);
-			}
-			catch (final Exception e) {
-				files.log.error(e);
-			}
-
-			counter += (int) pair.file.length();
-			itemDone(pair.path);
-			setCount(counter, total);
-		}
-
 		if (pairs.size() == 1) {
 			handle(pairs.get(0));
 			return;
@@ -389,12 +399,79 @@ protected void handleQueue() {
 			for (final StringAndFile pair : queue.get(unversioned))
 				total += (int) pair.file.length();
 		counter = 0;
+		digestQueue();
 		for (final String unversioned : queue.keySet())
 			handle(unversioned);
 		done();
 		writeCachedChecksums();
 	}
 
+	/**
+	 * Digests all queued files. Files whose path, timestamp and size match the
+	 * cache are not read at all; the others are digested in parallel, while the
+	 * progress is reported from the calling thread.
+	 */
+	protected void digestQueue() {
+		final List<StringAndFile> toDigest = new ArrayList<>();
+		for (final List<StringAndFile> pairs : queue.values())
+			for (final StringAndFile pair : pairs) {
+				if (pair.file.exists()) {
+					pair.timestamp = UpdaterUtil.getTimestamp(pair.file);
+					pair.size = pair.file.length();
+					if (!lookUpDigest(pair)) {
+						toDigest.add(pair);
+						continue;
+					}
+				}
+				digested(pair);
+			}
+		if (toDigest.isEmpty()) return;
+
+		final ExecutorService executor =
+			Executors.newFixedThreadPool(Math.min(threads, toDigest.size()));
+		try {
+			final CompletionService<StringAndFile> completion =
+				new ExecutorCompletionService<>(executor);
+			for (final StringAndFile pair : toDigest)
+				completion.submit(() -> {
+					try {
+						calculateDigest(pair);
+					}
+					catch (final Exception e) {
+						pair.exception = e;
+					}
+					return pair;
+				});
+			for (int i = 0; i < toDigest.size(); i++) {
+				final StringAndFile pair = completion.take().get();
+				if (pair.exception == null) cacheDigest(pair);
+				else if (pair.exception instanceof ZipException) {
+					files.log.error("Problem digesting " + pair.file);
+				}
+				else files.log.error(pair.exception);
+				digested(pair);
+			}
+		}
+		catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			// the files not digested yet would look as if they were missing
+			throw new RuntimeException("Interrupted while digesting", e);
+		}
+		catch (final ExecutionException e) {
+			throw new RuntimeException(e.getCause());
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private void digested(final StringAndFile pair) {
+		addItem(pair.path);
+		counter += (int) pair.size;
+		itemDone(pair.path);
+		setCount(counter, total);
+	}
+
 	public void updateFromLocal(final List<String> files) {
 		queue = new LinkedHashMap<>();
 		for (final String file : files)
@@ -497,6 +574,7 @@ public void updateFromLocal() {
 
 	protected void readCachedChecksums() {
 		cachedChecksums = new TreeMap<>();
+		cachedSizes = new HashMap<>();
 		final File file = files.prefix(".checksums");
 		if (!file.exists()) return;
 		try {
@@ -523,21 +601,68 @@ protected void readCachedChecksums() {
 		catch (final IOException e) {
 			// ignore
 		}
+		readCachedSizes();
+	}
+
+	/**
+	 * Reads the sizes of the cached files. They are kept apart from the
+	 * {@code .checksums} file so that its format stays readable by older
+	 * updaters. A size is only trusted if it was recorded along with the
+	 * timestamp that is cached now; an older updater may have rewritten the
+	 * {@code .checksums} file since.
+	 */
+	protected void readCachedSizes() {
+		final File file = files.prefix(".checksums.sizes");
+		if (!file.exists()) return;
+		try {
+			final BufferedReader reader = new BufferedReader(new FileReader(file));
+			String line;
+			while ((line = reader.readLine()) != null)
+				try {
+					final int space = line.indexOf(' ');
+					if (space < 0) continue;
+					final long size = Long.parseLong(line.substring(0, space));
+					final int space2 = line.indexOf(' ', space + 1);
+					if (space2 < 0) continue;
+					final long timestamp =
+						Long.parseLong(line.substring(space + 1, space2));
+					final String filename = line.substring(space2 + 1);
+					final FileObject.Version version = cachedChecksums.get(filename);
+					if (version != null && version.timestamp == timestamp) {
+						cachedSizes.put(filename, size);
+					}
+				}
+				catch (final NumberFormatException e) {
+					/* ignore line */
+				}
+			reader.close();
+		}
+		catch (final IOException e) {
+			// ignore
+		}
 	}
 
 	protected void writeCachedChecksums() {
 		if (cachedChecksums == null) return;
 		final File file = files.prefix(".checksums");
+		final File sizesFile = files.prefix(".checksums.sizes");
 		// file.canWrite() not applicable, as the file need not exist
 		try {
 			final Writer writer = new FileWriter(file);
+			final Writer sizesWriter = new FileWriter(sizesFile);
 			for (final String filename : cachedChecksums.keySet())
 				if (filename.startsWith(":") || files.prefix(filename).exists()) {
 					final FileObject.Version version = cachedChecksums.get(filename);
 					writer.write(version.checksum + " " + version.timestamp + " " +
 						filename + "\n");
+					final Long size = cachedSizes.get(filename);
+					if (size != null) {
+						sizesWriter.write(size + " " + version.timestamp + " " +
+							filename + "\n");
+					}
 				}
 			writer.close();
+			sizesWriter.close();
 		}
 		catch (final IOException e) {
 			// ignore
@@ -548,27 +673,63 @@ protected String getDigest(final String path, final File file,
 		final long timestamp) throws IOException, NoSuchAlgorithmException,
 		ZipException
 	{
+		final StringAndFile pair = new StringAndFile(path, file);
+		pair.timestamp = timestamp;
+		pair.size = file.length();
+		if (!lookUpDigest(pair)) {
+			calculateDigest(pair);
+			cacheDigest(pair);
+		}
+		return pair.checksum;
+	}
+
+	/**
+	 * Looks up the checksum of a file in the cache, which is only valid if
+	 * neither its timestamp nor its size changed.
+	 * 
+	 * @return whether the checksum was found
+	 */
+	protected boolean lookUpDigest(final StringAndFile pair) {
 		if (cachedChecksums == null) readCachedChecksums();
-		FileObject.Version version = cachedChecksums.get(path);
-		if (version == null || timestamp != version.timestamp) {
-			final String checksum = path.equals("plugins/Fiji_Updater.jar") ?
-				UpdaterUtil.getJarDigest(file, false, false, false) :
-				UpdaterUtil.getDigest(path, file);
-			version = new FileObject.Version(checksum, timestamp);
-			cachedChecksums.put(path, version);
+		final FileObject.Version version = cachedChecksums.get(pair.path);
+		final Long size = cachedSizes.get(pair.path);
+		if (version == null || version.timestamp != pair.timestamp ||
+			size == null || size.longValue() != pair.size) return false;
+		// .jar files need their obsolete checksums, too
+		if (pair.path.endsWith(".jar") &&
+			!cachedChecksums.containsKey(":" + version.checksum)) return false;
+		pair.checksum = version.checksum;
+		return true;
+	}
+
+	/**
+	 * Calculates the checksum, and for .jar files the obsolete checksums, of a
+	 * file. This does not touch the cache and is safe to call from several
+	 * threads.
+	 */
+	protected static void calculateDigest(final StringAndFile pair)
+		throws IOException, NoSuchAlgorithmException, ZipException
+	{
+		if (!pair.path.endsWith(".jar")) {
+			pair.checksum = UpdaterUtil.getDigest(pair.path, pair.file);
+			return;
 		}
-		if (!cachedChecksums.containsKey(":" + version.checksum)) {
-			final List<String> obsoletes = UpdaterUtil.getObsoleteDigests(path, file);
-			if (obsoletes != null) {
-				final StringBuilder builder = new StringBuilder();
-				for (final String obsolete : obsoletes) {
-					if (builder.length() > 0) builder.append(':');
-					builder.append(obsolete);
-				}
-				cachedChecksums.put(":" + version.checksum, new FileObject.Version(
-					builder.toString(), timestamp));
-			}
+		final String[] digests = UpdaterUtil.getJarDigests(pair.file);
+		pair.obsoletes = Arrays.asList(digests).subList(1, digests.length);
+		pair.checksum = pair.path.equals("plugins/Fiji_Updater.jar") ?
+			digests[digests.length - 1] : digests[0];
+	}
+
+	protected void cacheDigest(final StringAndFile pair) {
+		if (cachedChecksums == null) readCachedChecksums();
+		cachedChecksums.put(pair.path, new FileObject.Version(pair.checksum,
+			pair.timestamp));
+		cachedSizes.put(pair.path, pair.size);
+		if (pair.obsoletes != null &&
+			!cachedChecksums.containsKey(":" + pair.checksum))
+		{
+			cachedChecksums.put(":" + pair.checksum, new FileObject.Version(
+				UpdaterUtil.join(":", pair.obsoletes), pair.timestamp));
 		}
-		return version.checksum;
 	}
 }
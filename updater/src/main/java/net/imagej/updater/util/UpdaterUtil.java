@@ -33,6 +33,7 @@
 
 import java.awt.GraphicsEnvironment;
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
@@ -262,6 +263,90 @@ public static String getJarDigest(final File file, boolean treatPropertiesSpecia
 		return toHex(digest.digest());
 	}
 
+	/**
+	 * Calculates the current and all obsolete digests of a .jar file, reading
+	 * each of its entries only once.
+	 * 
+	 * @param file the .jar file
+	 * @return the digest of {@link #getJarDigest(File)}, followed by those of
+	 *         {@link #getObsoleteDigests(String, File)}, in the same order
+	 * @throws IOException
+	 * @throws FileNotFoundException
+	 */
+	public static String[] getJarDigests(final File file)
+		throws FileNotFoundException, IOException
+	{
+		// the variants of getJarDigest(file, treatPropertiesSpecially,
+		// treatManifestsSpecially, keepOnlyMainClassInManifest)
+		final boolean[][] variants = { { true, true, true },
+			{ true, true, false }, { true, false, false }, { false, false, false } };
+		final MessageDigest[] digests = new MessageDigest[variants.length];
+		try {
+			for (int i = 0; i < digests.length; i++)
+				digests[i] = getDigest();
+		}
+		catch (final NoSuchAlgorithmException e) {
+			throw new RuntimeException(e);
+		}
+
+		final JarFile jar = new JarFile(file);
+		try {
+			final List<JarEntry> list = Collections.list(jar.entries());
+			Collections.sort(list, new JarEntryComparator());
+
+			final byte[] buffer = new byte[65536];
+			for (final JarEntry entry : list) {
+				final String name = entry.getName();
+				final byte[] nameBytes = name.getBytes("ASCII");
+				for (final MessageDigest digest : digests)
+					digest.update(nameBytes);
+				final boolean isProperties = name.endsWith(".properties");
+				final boolean isManifest = name.equals("META-INF/MANIFEST.MF");
+				final InputStream inputStream = jar.getInputStream(entry);
+				if (!isProperties && !isManifest) {
+					// all variants see the same bytes
+					try {
+						for (;;) {
+							final int count = inputStream.read(buffer);
+							if (count < 0) break;
+							for (final MessageDigest digest : digests)
+								digest.update(buffer, 0, count);
+						}
+					}
+					finally {
+						inputStream.close();
+					}
+					continue;
+				}
+				final byte[] content;
+				try {
+					content = readStreamAsBytes(inputStream);
+				}
+				finally {
+					inputStream.close();
+				}
+				for (int i = 0; i < digests.length; i++) {
+					InputStream variant = new ByteArrayInputStream(content);
+					if (isProperties && variants[i][0]) {
+						variant = new SkipHashedLines(variant);
+					}
+					if (isManifest && variants[i][1]) {
+						variant = new FilterManifest(variant, variants[i][2]);
+					}
+					updateDigest(variant, digests[i]);
+				}
+			}
+		}
+		finally {
+			jar.close();
+		}
+
+		final String[] result = new String[digests.length];
+		for (int i = 0; i < result.length; i++)
+			result[i] = toHex(digests[i].digest());
+		return result;
+	}
+
 	private static class JarEntryComparator implements Comparator<JarEntry> {
 
 		@Override
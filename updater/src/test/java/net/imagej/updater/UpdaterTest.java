@@ -460,6 +460,80 @@ public void testReChecksumming() throws Exception {
 		assertStatus(Status.INSTALLED, files.get("jars/new.jar"));
 	}
 
+	@Test
+	public void testChecksumCache() throws Exception {
+		files = initialize("jars/new.jar", "macros/Hello.txt");
+		assertStatus(Status.INSTALLED, files.get("jars/new.jar"));
+		assertStatus(Status.INSTALLED, files.get("macros/Hello.txt"));
+
+		// the same timestamp, but a different size: must be re-checksummed
+		final File jar = files.prefix("jars/new.jar");
+		final long jarSize = jar.length();
+		final long jarModified = jar.lastModified();
+		writeFile(files, "jars/new.jar", "modified");
+		assertTrue(jar.setLastModified(jarModified));
+		assertNotEqual(jarSize, jar.length());
+
+		// the same timestamp and size: the cached checksum is trusted
+		final File macro = files.prefix("macros/Hello.txt");
+		final long macroModified = macro.lastModified();
+		writeFile(files, "macros/Hello.txt", "MACROS/HELLO.TXT");
+		assertTrue(macro.setLastModified(macroModified));
+
+		final Checksummer czechsummer = new Checksummer(files, progress);
+		czechsummer.setThreads(2);
+		czechsummer.updateFromLocal();
+		assertStatus(Status.MODIFIED, files.get("jars/new.jar"));
+		assertStatus(Status.INSTALLED, files.get("macros/Hello.txt"));
+
+		// .checksums keeps the format older updaters read; sizes live apart
+		final String checksums = readFile(files.prefix(".checksums"));
+		assertTrue(checksums.matches(
+			"(?s)(.*\n)?[0-9a-f]+ [0-9]+ jars/new\\.jar\n.*"));
+		final String sizes = readFile(files.prefix(".checksums.sizes"));
+		assertTrue(sizes.matches("(?s)(.*\n)?" + jar.length() +
+			" [0-9]+ jars/new\\.jar\n.*"));
+	}
+
+	@Test
+	public void testChecksumCacheRewrittenByOlderUpdater() throws Exception {
+		files = initialize("macros/Hello.txt");
+		assertStatus(Status.INSTALLED, files.get("macros/Hello.txt"));
+
+		// an older updater leaves the sizes of a previous timestamp behind
+		final File sizes = files.prefix(".checksums.sizes");
+		final String stale = readFile(sizes).replaceAll(
+			"(?m)^([0-9]+) [0-9]+ (macros/Hello\\.txt)$", "$1 1 $2");
+		writeFile(sizes, stale);
+
+		final File macro = files.prefix("macros/Hello.txt");
+		final long macroModified = macro.lastModified();
+		writeFile(files, "macros/Hello.txt", "MACROS/HELLO.TXT");
+		assertTrue(macro.setLastModified(macroModified));
+
+		new Checksummer(files, progress).updateFromLocal();
+		assertStatus(Status.MODIFIED, files.get("macros/Hello.txt"));
+	}
+
+	@Test
+	public void testJarDigests() throws Exception {
+		files = initialize();
+		final File properties =
+			UpdaterTestUtils.writeJarWithDatedFile(files, "properties.jar", 2012, 6,
+				17, "META-INF/maven/net.imagej/updater-test/pom.properties",
+				"blub = true\n" + "#Tue Jun 17 09:47:43 CST 2012\n");
+		final File manifest =
+			UpdaterTestUtils.writeJarWithDatedFile(files, "manifest.jar", 2012, 7, 8,
+				"META-INF/MANIFEST.MF", "Manifest-Version: 1.0\n" +
+					"Built-By: Donald Duck\n" + "Main-Class: Buxtehude\n");
+		for (final File jar : new File[] { properties, manifest }) {
+			final List<String> expected = new ArrayList<>();
+			expected.add(UpdaterUtil.getJarDigest(jar));
+			expected.addAll(UpdaterUtil.getObsoleteDigests(jar.getName(), jar));
+			assertEquals(expected, Arrays.asList(UpdaterUtil.getJarDigests(jar)));
+		}
+	}
+
 	@Test
 	public void testStripVersionFromFilename() {
 		assertEquals("jars/bio-formats.jar", FileObject.getFilename("jars/bio-formats-4.4-imagej-2.0.0-beta1.jar", true));